@@ -0,0 +1,118 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.common.cache;
+
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the eviction policies of {@link Cache} under concurrent access. {@link #get} only reads entries that are in the cache,
+ * {@link #computeIfAbsent} reads a zipfian key distribution that is larger than the cache, where a higher {@code skew} concentrates
+ * the accesses on fewer keys. {@link #computeIfAbsent} also reports its hits and misses as secondary results, the hit ratio of a
+ * policy under a workload is {@code hits / (hits + misses)}.
+ */
+@Fork(2)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(8)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class CacheBenchmark {
+    private static final int MAXIMUM_WEIGHT = 1 << 14;
+    private static final int NUMBER_OF_KEYS = 1 << 20;
+
+    @Param({ "LRU", "TINY_LFU" })
+    private Cache.EvictionPolicy evictionPolicy;
+
+    @Param({ "0.8", "1.0", "1.2" })
+    private double skew;
+
+    private Cache<Integer, Integer> cache;
+    private int[] keys;
+
+    @Setup
+    public void setup() {
+        cache = CacheBuilder.<Integer, Integer>builder()
+            .setMaximumWeight(MAXIMUM_WEIGHT)
+            .setEvictionPolicy(evictionPolicy)
+            .build();
+        for (int i = 0; i < MAXIMUM_WEIGHT; i++) {
+            cache.put(i, i);
+        }
+        // samples the rank of every key from the continuous approximation of a zipf distribution with the given skew
+        Random random = new Random(42);
+        keys = new int[NUMBER_OF_KEYS];
+        for (int i = 0; i < keys.length; i++) {
+            final double rank;
+            if (skew == 1.0) {
+                rank = Math.pow(NUMBER_OF_KEYS, random.nextDouble());
+            } else {
+                final double exponent = 1 - skew;
+                rank = Math.pow((Math.pow(NUMBER_OF_KEYS, exponent) - 1) * random.nextDouble() + 1, 1 / exponent);
+            }
+            keys[i] = Math.min((int) Math.floor(rank), NUMBER_OF_KEYS) - 1;
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadState {
+        int index = new Random().nextInt(NUMBER_OF_KEYS);
+    }
+
+    @Benchmark
+    public Integer get(ThreadState state) {
+        return cache.get(state.index++ & (MAXIMUM_WEIGHT - 1));
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class HitCounters {
+        public long hits;
+        public long misses;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            hits = 0;
+            misses = 0;
+        }
+    }
+
+    @Benchmark
+    public Integer computeIfAbsent(ThreadState state, HitCounters counters) throws ExecutionException {
+        final long misses = counters.misses;
+        final Integer value = cache.computeIfAbsent(keys[state.index++ & (NUMBER_OF_KEYS - 1)], key -> {
+            counters.misses++;
+            return key;
+        });
+        if (counters.misses == misses) {
+            counters.hits++;
+        }
+        return value;
+    }
+}
@@ -60,9 +60,26 @@ public class NettyAllocator {
     private static final String USE_UNPOOLED = "opensearch.use_unpooled_allocator";
     private static final String USE_NETTY_DEFAULT = "opensearch.unsafe.use_netty_default_allocator";
     private static final String USE_NETTY_DEFAULT_CHUNK = "opensearch.unsafe.use_netty_default_chunk_and_page_size";
+    private static final String USE_POOLED_DIRECT = "opensearch.unsafe.use_pooled_direct_allocator";
+
+    private static final boolean POOLED_DIRECT_BUFFERS = Booleans.parseBoolean(System.getProperty(USE_POOLED_DIRECT), false);
 
     static {
-        if (Booleans.parseBoolean(System.getProperty(USE_NETTY_DEFAULT), false)) {
+        if (POOLED_DIRECT_BUFFERS) {
+            // Bytes are read from the socket straight into pooled direct buffers, which the transport layer references until the
+            // messages they hold are deserialized, rather than into heap buffers through a thread local direct buffer. Netty tracks
+            // leaks of pooled buffers, which must be released through the bytes references that wrap them.
+            int pageSize = PooledByteBufAllocator.defaultPageSize();
+            int maxOrder = PooledByteBufAllocator.defaultMaxOrder();
+            ALLOCATOR = new PooledByteBufAllocator(true, PooledByteBufAllocator.defaultNumHeapArena(),
+                PooledByteBufAllocator.defaultNumDirectArena(), pageSize, maxOrder, PooledByteBufAllocator.defaultTinyCacheSize(),
+                PooledByteBufAllocator.defaultSmallCacheSize(), PooledByteBufAllocator.defaultNormalCacheSize(),
+                PooledByteBufAllocator.defaultUseCacheForAllThreads());
+            SUGGESTED_MAX_ALLOCATION_SIZE = pageSize << maxOrder;
+            DESCRIPTION = "[name=pooled_direct, chunk_size=" + new ByteSizeValue(SUGGESTED_MAX_ALLOCATION_SIZE)
+                + ", suggested_max_allocation_size=" + new ByteSizeValue(SUGGESTED_MAX_ALLOCATION_SIZE)
+                + ", factors={opensearch.unsafe.use_pooled_direct_allocator=true}]";
+        } else if (Booleans.parseBoolean(System.getProperty(USE_NETTY_DEFAULT), false)) {
             ALLOCATOR = ByteBufAllocator.DEFAULT;
             SUGGESTED_MAX_ALLOCATION_SIZE = 1024 * 1024;
             DESCRIPTION = "[name=netty_default, suggested_max_allocation_size=" + new ByteSizeValue(SUGGESTED_MAX_ALLOCATION_SIZE)
@@ -147,6 +164,13 @@ public class NettyAllocator {
         return DESCRIPTION;
     }
 
+    /**
+     * Returns whether inbound bytes are read into pooled direct buffers rather than into heap buffers.
+     */
+    public static boolean usePooledDirectBuffers() {
+        return POOLED_DIRECT_BUFFERS;
+    }
+
     public static Class<? extends Channel> getChannelType() {
         if (ALLOCATOR instanceof NoDirectBuffers) {
             return CopyBytesSocketChannel.class;
@@ -353,7 +353,11 @@ public class Netty4Transport extends TcpTransport {
             NetUtils.tryEnsureReasonableKeepAliveConfig(((Netty4NioSocketChannel) ch).javaChannel());
             Netty4TcpChannel nettyTcpChannel = new Netty4TcpChannel(ch, true, name, ch.newSucceededFuture());
             ch.attr(CHANNEL_KEY).set(nettyTcpChannel);
-            ch.pipeline().addLast("byte_buf_sizer", sizer);
+            if (NettyAllocator.usePooledDirectBuffers() == false) {
+                // pooled direct buffers are returned to the pool once released, so there is no heap to reclaim by copying them to
+                // smaller buffers
+                ch.pipeline().addLast("byte_buf_sizer", sizer);
+            }
             ch.pipeline().addLast("logging", new OpenSearchLoggingHandler());
             ch.pipeline().addLast("dispatcher", new Netty4MessageChannelHandler(pageCacheRecycler, Netty4Transport.this));
             serverAcceptedChannel(nettyTcpChannel);
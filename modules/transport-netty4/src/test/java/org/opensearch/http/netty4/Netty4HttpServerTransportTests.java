@@ -350,6 +350,10 @@ public class Netty4HttpServerTransportTests extends OpenSearchTestCase {
     private long getHugeAllocationCount() {
         long numOfHugAllocations = 0;
         ByteBufAllocator allocator = NettyAllocator.getAllocator();
+        if (NettyAllocator.usePooledDirectBuffers()) {
+            PooledByteBufAllocatorMetric metric = ((PooledByteBufAllocator) allocator).metric();
+            return metric.directArenas().stream().mapToLong(PoolArenaMetric::numHugeAllocations).sum();
+        }
         assert allocator instanceof NettyAllocator.NoDirectBuffers;
         ByteBufAllocator delegate = ((NettyAllocator.NoDirectBuffers) allocator).getDelegate();
         if (delegate instanceof PooledByteBufAllocator) {
@@ -0,0 +1,102 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.replication;
+
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.routing.ShardRouting;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.test.InternalTestCluster;
+import org.opensearch.test.OpenSearchIntegTestCase;
+
+import java.util.Locale;
+
+import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertHitCount;
+
+@OpenSearchIntegTestCase.ClusterScope(scope = OpenSearchIntegTestCase.Scope.TEST, numDataNodes = 0)
+public class SegmentReplicationIT extends OpenSearchIntegTestCase {
+
+    @Override
+    protected boolean addMockInternalEngine() {
+        // replicas only copy segments when their index uses the internal engine
+        return false;
+    }
+
+    private void createSegRepIndex(String indexName) {
+        createIndex(indexName, Settings.builder()
+            .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1)
+            .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 1)
+            .put(IndexMetadata.SETTING_REPLICATION_TYPE, ReplicationType.SEGMENT.toString())
+            .build());
+    }
+
+    private void indexDocs(String indexName, int fromId, int numOfDocs) {
+        for (int i = fromId; i < fromId + numOfDocs; i++) {
+            client().prepareIndex(indexName, "_doc", Integer.toString(i)).setSource("field", "value" + i).get();
+        }
+    }
+
+    private void assertHitCountOnAllCopies(String indexName, long expectedHitCount) throws Exception {
+        final ClusterState state = client().admin().cluster().prepareState().get().getState();
+        for (ShardRouting shardRouting : state.routingTable().index(indexName).shard(0).activeShards()) {
+            final String nodeName = state.nodes().get(shardRouting.currentNodeId()).getName();
+            assertBusy(() -> assertHitCount(client(nodeName).prepareSearch(indexName).setPreference("_only_local").setSize(0).get(),
+                expectedHitCount));
+        }
+    }
+
+    public void testReplicaCopiesSegmentsOfPrimary() throws Exception {
+        internalCluster().startNodes(2);
+        final String indexName = randomAlphaOfLength(5).toLowerCase(Locale.ROOT);
+        createSegRepIndex(indexName);
+        ensureGreen(indexName);
+
+        final int numOfDocs = scaledRandomIntBetween(1, 200);
+        indexDocs(indexName, 0, numOfDocs);
+        refresh(indexName);
+
+        assertHitCountOnAllCopies(indexName, numOfDocs);
+
+        // a replica started after the documents were indexed copies the segments once it is started
+        internalCluster().startNode();
+        client().admin().indices().prepareUpdateSettings(indexName)
+            .setSettings(Settings.builder().put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 2)).get();
+        ensureGreen(indexName);
+        assertHitCountOnAllCopies(indexName, numOfDocs);
+    }
+
+    public void testPromotedReplicaKeepsAllOperations() throws Exception {
+        internalCluster().startNodes(2);
+        final String indexName = randomAlphaOfLength(5).toLowerCase(Locale.ROOT);
+        createSegRepIndex(indexName);
+        ensureGreen(indexName);
+
+        final int numOfDocs = scaledRandomIntBetween(1, 200);
+        indexDocs(indexName, 0, numOfDocs);
+        if (randomBoolean()) {
+            refresh(indexName);
+        }
+
+        final ClusterState state = client().admin().cluster().prepareState().get().getState();
+        final ShardRouting primaryShard = state.routingTable().index(indexName).shard(0).primaryShard();
+        final DiscoveryNode primaryNode = state.nodes().resolveNode(primaryShard.currentNodeId());
+        internalCluster().stopRandomNode(InternalTestCluster.nameFilter(primaryNode.getName()));
+        ensureYellowAndNoInitializingShards(indexName);
+
+        // the operations that were only in the translog of the replica are indexed once it is promoted
+        refresh(indexName);
+        assertHitCount(client().prepareSearch(indexName).setSize(0).get(), numOfDocs);
+
+        final int moreDocs = scaledRandomIntBetween(1, 100);
+        indexDocs(indexName, numOfDocs, moreDocs);
+        refresh(indexName);
+        assertHitCount(client().prepareSearch(indexName).setSize(0).get(), numOfDocs + moreDocs);
+    }
+}
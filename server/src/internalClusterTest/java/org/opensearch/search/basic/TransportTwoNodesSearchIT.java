@@ -34,10 +34,12 @@ package org.opensearch.search.basic;
 
 
 import org.opensearch.OpenSearchException;
+import org.opensearch.action.bulk.BulkRequestBuilder;
 import org.opensearch.action.search.MultiSearchResponse;
 import org.opensearch.action.search.SearchPhaseExecutionException;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.client.Requests;
+import org.opensearch.cluster.ClusterState;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.xcontent.XContentBuilder;
@@ -244,6 +246,34 @@ public class TransportTwoNodesSearchIT extends OpenSearchIntegTestCase {
         assertEquals(100, total);
     }
 
+    public void testQueryThenFetchFromRemoteShardInBatches() throws Exception {
+        internalCluster().ensureAtLeastNumDataNodes(2);
+        client().admin().indices().create(createIndexRequest("test")
+            .settings(Settings.builder().put(indexSettings()).put(SETTING_NUMBER_OF_SHARDS, 1)))
+            .actionGet();
+        ensureGreen();
+        // enough hits for the shard to send a few batches of hits before its fetch result
+        final int numDocs = randomIntBetween(250, 500);
+        final BulkRequestBuilder bulk = client().prepareBulk();
+        for (int i = 0; i < numDocs; i++) {
+            bulk.add(client().prepareIndex("test", "type", Integer.toString(i)).setSource("nid", i));
+        }
+        assertNoFailures(bulk.get());
+        refresh();
+
+        final ClusterState state = clusterService().state();
+        final String shardNode = state.nodes().get(state.routingTable().index("test").shard(0).primaryShard().currentNodeId()).getName();
+        final String coordinatingNode = randomValueOtherThan(shardNode, () -> randomFrom(internalCluster().getNodeNames()));
+        final SearchResponse searchResponse = internalCluster().client(coordinatingNode).prepareSearch("test")
+            .setSearchType(QUERY_THEN_FETCH).setQuery(matchAllQuery()).setSize(numDocs).addSort("nid", SortOrder.ASC).get();
+        assertNoFailures(searchResponse);
+        final SearchHit[] hits = searchResponse.getHits().getHits();
+        assertThat(hits.length, equalTo(numDocs));
+        for (int i = 0; i < numDocs; i++) {
+            assertThat(hits[i].getId(), equalTo(Integer.toString(i)));
+        }
+    }
+
     public void testQueryThenFetchWithFrom() throws Exception {
         Set<String> fullExpectedIds = prepareData();
 
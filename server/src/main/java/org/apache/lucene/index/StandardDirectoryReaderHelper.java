@@ -0,0 +1,42 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.apache.lucene.index;
+
+import org.apache.lucene.store.Directory;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Allows pkg private access
+ */
+public class StandardDirectoryReaderHelper {
+    private StandardDirectoryReaderHelper() {}
+
+    /**
+     * Returns the segments of the given reader, which must be a {@link StandardDirectoryReader} once unwrapped. The segments of a
+     * near-real-time reader may not be committed yet.
+     */
+    public static SegmentInfos getSegmentInfos(DirectoryReader reader) {
+        final DirectoryReader unwrapped = FilterDirectoryReader.unwrap(reader);
+        if (unwrapped instanceof StandardDirectoryReader == false) {
+            throw new IllegalArgumentException("expected a standard directory reader but got [" + unwrapped + "]");
+        }
+        return ((StandardDirectoryReader) unwrapped).getSegmentInfos();
+    }
+
+    /**
+     * Opens a reader on the given segments, which do not need to be committed, sharing the readers of the given old readers whose
+     * segments did not change.
+     */
+    public static DirectoryReader open(Directory directory, SegmentInfos infos, List<? extends LeafReader> oldReaders)
+        throws IOException {
+        return StandardDirectoryReader.open(directory, infos, oldReaders);
+    }
+}
@@ -38,6 +38,7 @@ import org.opensearch.action.delete.DeleteResponse;
 import org.opensearch.action.index.IndexResponse;
 import org.opensearch.action.support.replication.ReplicationResponse;
 import org.opensearch.action.support.replication.TransportWriteAction;
+import org.opensearch.common.Nullable;
 import org.opensearch.index.engine.Engine;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.translog.Translog;
@@ -81,6 +82,8 @@ class BulkPrimaryExecutionContext {
 
     private final BulkShardRequest request;
     private final IndexShard primary;
+    @Nullable
+    private final BulkPrimaryParseStage parseStage;
     private Translog.Location locationToSync = null;
     private int currentIndex = -1;
 
@@ -91,8 +94,13 @@ class BulkPrimaryExecutionContext {
 
 
     BulkPrimaryExecutionContext(BulkShardRequest request, IndexShard primary) {
+        this(request, primary, null);
+    }
+
+    BulkPrimaryExecutionContext(BulkShardRequest request, IndexShard primary, @Nullable BulkPrimaryParseStage parseStage) {
         this.request = request;
         this.primary = primary;
+        this.parseStage = parseStage;
         advance();
     }
 
@@ -118,9 +126,31 @@ class BulkPrimaryExecutionContext {
         retryCounter = 0;
         requestToExecute = null;
         executionResult = null;
+        if (parseStage != null) {
+            parseStage.onAdvance(currentIndex);
+        }
         assert assertInvariants(ItemProcessingState.INITIAL);
     }
 
+    /**
+     * stops parsing the sources of items ahead of their execution, must be called before the request completes if it completes
+     * before all items were executed
+     */
+    public void close() {
+        if (parseStage != null) {
+            parseStage.close();
+        }
+    }
+
+    /**
+     * returns the document of the current item if its source was parsed ahead of its execution, only the first call for an item may
+     * return the document
+     */
+    @Nullable
+    public IndexShard.ParsedAheadDocument takeParsedAheadDocument() {
+        return parseStage == null ? null : parseStage.take(currentIndex);
+    }
+
     /** gets the current, untranslated item request */
     public DocWriteRequest<?> getCurrent() {
         return getCurrentItem().request();
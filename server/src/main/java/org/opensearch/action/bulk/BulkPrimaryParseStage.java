@@ -0,0 +1,149 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.bulk;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.util.concurrent.AbstractRunnable;
+import org.opensearch.index.mapper.SourceToParse;
+import org.opensearch.index.shard.IndexShard;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Parses the sources of the index items of a bulk shard request ahead of the thread that executes the request on the primary, so that
+ * parsing of later items overlaps with the indexing of earlier ones. Items are still executed one at a time and in order, the stage only
+ * runs on another thread of the write thread pool at most {@link #MAX_ITEMS_AHEAD} items ahead of the executing item. An item that the
+ * stage did not parse by the time it is executed is parsed by the executing thread, as without the stage.
+ */
+final class BulkPrimaryParseStage extends AbstractRunnable {
+
+    private static final Logger logger = LogManager.getLogger(BulkPrimaryParseStage.class);
+
+    /**
+     * The maximum number of items that are parsed ahead of the executing item, which bounds the memory held by parsed documents
+     */
+    static final int MAX_ITEMS_AHEAD = 64;
+
+    /** marks an item that the executing thread reached, the stage must not parse it anymore */
+    private static final Object TAKEN = new Object();
+
+    private final BulkItemRequest[] items;
+    private final IndexShard primary;
+    private final Executor executor;
+    private final AtomicReferenceArray<Object> parsedItems;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile int executingItem;
+    private volatile int nextItemToParse;
+    private volatile boolean rejected;
+    private boolean closed; // guarded by this
+
+    BulkPrimaryParseStage(BulkShardRequest request, IndexShard primary, Executor executor) {
+        this.items = request.items();
+        this.primary = primary;
+        this.executor = executor;
+        this.parsedItems = new AtomicReferenceArray<>(items.length);
+    }
+
+    /**
+     * Notifies the stage that the executing thread moved to the given item, which moves the window of items that are parsed ahead.
+     */
+    void onAdvance(int item) {
+        executingItem = item;
+        if (item < items.length) {
+            maybeSchedule();
+        } else {
+            close();
+        }
+    }
+
+    /**
+     * Stops the stage from parsing any more items, and waits for the item that is being parsed if any. The sources may be slices of a
+     * network buffer that is released once the request completes, so the stage must be closed before the request completes, whether
+     * all its items were executed or it failed.
+     */
+    void close() {
+        synchronized (this) {
+            closed = true;
+        }
+    }
+
+    /**
+     * Returns the parsed source of the given item if the stage parsed it ahead, and prevents the stage from parsing it later on.
+     */
+    @Nullable
+    IndexShard.ParsedAheadDocument take(int item) {
+        final Object parsed = parsedItems.getAndSet(item, TAKEN);
+        return parsed instanceof IndexShard.ParsedAheadDocument ? (IndexShard.ParsedAheadDocument) parsed : null;
+    }
+
+    private int firstItemToParse() {
+        return Math.max(nextItemToParse, executingItem + 1);
+    }
+
+    private int windowEnd() {
+        return (int) Math.min(items.length, (long) executingItem + 1 + MAX_ITEMS_AHEAD);
+    }
+
+    private void maybeSchedule() {
+        if (rejected == false && firstItemToParse() < windowEnd() && running.compareAndSet(false, true)) {
+            executor.execute(this);
+        }
+    }
+
+    @Override
+    protected void doRun() {
+        int item;
+        while ((item = firstItemToParse()) < windowEnd()) {
+            final DocWriteRequest<?> request = items[item].request();
+            if (parsedItems.get(item) == null
+                && (request.opType() == DocWriteRequest.OpType.INDEX || request.opType() == DocWriteRequest.OpType.CREATE)) {
+                final IndexRequest indexRequest = (IndexRequest) request;
+                synchronized (this) {
+                    if (closed) {
+                        return;
+                    }
+                    final IndexShard.ParsedAheadDocument parsed = primary.parseSourceAhead(new SourceToParse(indexRequest.index(),
+                        indexRequest.type(), indexRequest.id(), indexRequest.source(), indexRequest.getContentType(),
+                        indexRequest.routing()));
+                    if (parsed != null) {
+                        // the executing thread may have reached the item in the meantime and parsed it itself
+                        parsedItems.compareAndSet(item, null, parsed);
+                    }
+                }
+            }
+            nextItemToParse = item + 1;
+        }
+    }
+
+    @Override
+    public void onFailure(Exception e) {
+        assert false : e;
+        logger.warn(() -> new ParameterizedMessage("{} unexpected failure while parsing bulk items ahead", primary.shardId()), e);
+    }
+
+    @Override
+    public void onRejection(Exception e) {
+        // the executing thread parses the remaining items itself
+        rejected = true;
+    }
+
+    @Override
+    public void onAfter() {
+        running.set(false);
+        // the executing thread may have moved the window while this run was finishing
+        maybeSchedule();
+    }
+}
@@ -63,6 +63,8 @@ import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.compress.CompressedXContent;
 import org.opensearch.common.inject.Inject;
 import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.xcontent.ToXContent;
@@ -108,8 +110,15 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
         }
     };
 
+    /**
+     * Whether the sources of bulk items are parsed on another write thread ahead of the execution of the items on the primary.
+     */
+    public static final Setting<Boolean> PIPELINED_PARSING_SETTING =
+        Setting.boolSetting("indices.bulk.pipelined_parsing.enabled", false, Property.Dynamic, Property.NodeScope);
+
     private final UpdateHelper updateHelper;
     private final MappingUpdatedAction mappingUpdatedAction;
+    private volatile boolean pipelinedParsing;
 
     @Inject
     public TransportShardBulkAction(Settings settings, TransportService transportService, ClusterService clusterService,
@@ -117,9 +126,11 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
                                     MappingUpdatedAction mappingUpdatedAction, UpdateHelper updateHelper, ActionFilters actionFilters,
                                     IndexingPressure indexingPressure, SystemIndices systemIndices) {
         super(settings, ACTION_NAME, transportService, clusterService, indicesService, threadPool, shardStateAction, actionFilters,
-            BulkShardRequest::new, BulkShardRequest::new, EXECUTOR_NAME_FUNCTION, false, indexingPressure, systemIndices);
+            BulkShardRequest::new, BulkShardRequest::new, EXECUTOR_NAME_FUNCTION, false, indexingPressure, systemIndices, true);
         this.updateHelper = updateHelper;
         this.mappingUpdatedAction = mappingUpdatedAction;
+        this.pipelinedParsing = PIPELINED_PARSING_SETTING.get(settings);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(PIPELINED_PARSING_SETTING, v -> this.pipelinedParsing = v);
     }
 
     @Override
@@ -157,7 +168,7 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
                 public void onTimeout(TimeValue timeout) {
                     mappingUpdateListener.onFailure(new MapperException("timed out while waiting for a dynamic mapping update"));
                 }
-            }), listener, threadPool, executor(primary)
+            }), listener, threadPool, executor(primary), pipelinedParsing
         );
     }
 
@@ -176,11 +187,31 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
         ActionListener<PrimaryResult<BulkShardRequest, BulkShardResponse>> listener,
         ThreadPool threadPool,
         String executorName) {
+        performOnPrimary(request, primary, updateHelper, nowInMillisSupplier, mappingUpdater, waitForMappingUpdate, listener, threadPool,
+            executorName, false);
+    }
+
+    /**
+     * Executes the items of the request on the primary, one at a time and in order. If {@code pipelinedParsing} is set, the sources of
+     * the items are parsed on another thread of the executor, ahead of the execution of the items.
+     */
+    public static void performOnPrimary(
+        BulkShardRequest request,
+        IndexShard primary,
+        UpdateHelper updateHelper,
+        LongSupplier nowInMillisSupplier,
+        MappingUpdatePerformer mappingUpdater,
+        Consumer<ActionListener<Void>> waitForMappingUpdate,
+        ActionListener<PrimaryResult<BulkShardRequest, BulkShardResponse>> listener,
+        ThreadPool threadPool,
+        String executorName,
+        boolean pipelinedParsing) {
         new ActionRunnable<PrimaryResult<BulkShardRequest, BulkShardResponse>>(listener) {
 
             private final Executor executor = threadPool.executor(executorName);
 
-            private final BulkPrimaryExecutionContext context = new BulkPrimaryExecutionContext(request, primary);
+            private final BulkPrimaryExecutionContext context = new BulkPrimaryExecutionContext(request, primary,
+                pipelinedParsing && request.items().length > 1 ? new BulkPrimaryParseStage(request, primary, executor) : null);
 
             @Override
             protected void doRun() throws Exception {
@@ -197,6 +228,13 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
                 finishRequest();
             }
 
+            @Override
+            public void onFailure(Exception e) {
+                // the items may still be parsed ahead from the network buffer that is released once the request fails
+                context.close();
+                super.onFailure(e);
+            }
+
             @Override
             public void onRejection(Exception e) {
                 // We must finish the outstanding request. Finishing the outstanding request can include
@@ -217,6 +255,12 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
                         finishRequest();
                     }
 
+                    @Override
+                    public void onFailure(Exception e) {
+                        context.close();
+                        super.onFailure(e);
+                    }
+
                     @Override
                     public boolean isForceExecution() {
                         return true;
@@ -295,9 +339,11 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
                 request.ifSeqNo(), request.ifPrimaryTerm());
         } else {
             final IndexRequest request = context.getRequestToExecute();
+            // translated updates are not parsed ahead, they have a source of their own
+            final IndexShard.ParsedAheadDocument parsedAhead = updateResult == null ? context.takeParsedAheadDocument() : null;
             result = primary.applyIndexOperationOnPrimary(version, request.versionType(), new SourceToParse(
                     request.index(), request.type(), request.id(), request.source(), request.getContentType(), request.routing()),
-                request.ifSeqNo(), request.ifPrimaryTerm(), request.getAutoGeneratedTimestamp(), request.isRetry());
+                request.ifSeqNo(), request.ifPrimaryTerm(), request.getAutoGeneratedTimestamp(), request.isRetry(), parsedAhead);
         }
         if (result.getResultType() == Engine.Result.Type.MAPPING_UPDATE_REQUIRED) {
 
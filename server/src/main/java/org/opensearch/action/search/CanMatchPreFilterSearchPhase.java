@@ -35,12 +35,15 @@ import org.apache.logging.log4j.Logger;
 import org.apache.lucene.util.FixedBitSet;
 import org.opensearch.action.ActionListener;
 import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.cluster.routing.GroupShardsIterator;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.search.SearchService.CanMatchResponse;
 import org.opensearch.search.SearchShardTarget;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.internal.AliasFilter;
+import org.opensearch.search.internal.ShardSearchRequest;
 import org.opensearch.search.sort.FieldSortBuilder;
 import org.opensearch.search.sort.MinAndMax;
 import org.opensearch.search.sort.SortOrder;
@@ -72,6 +75,12 @@ final class CanMatchPreFilterSearchPhase extends AbstractSearchAsyncAction<CanMa
 
     private final Function<GroupShardsIterator<SearchShardIterator>, SearchPhase> phaseFactory;
     private final GroupShardsIterator<SearchShardIterator> shardsIts;
+    private final ActionListener<SearchResponse> listener;
+    private final SearchResponseCache.Lookup responseCacheLookup;
+    private final Map<String, AliasFilter> aliasFilter;
+    private final Map<String, Set<String>> indexRoutings;
+    private final ClusterState clusterState;
+    private final TransportSearchAction.SearchTimeProvider timeProvider;
 
     CanMatchPreFilterSearchPhase(Logger logger, SearchTransportService searchTransportService,
                                  BiFunction<String, String, Transport.Connection> nodeIdToConnection,
@@ -82,12 +91,35 @@ final class CanMatchPreFilterSearchPhase extends AbstractSearchAsyncAction<CanMa
                                  TransportSearchAction.SearchTimeProvider timeProvider, ClusterState clusterState,
                                  SearchTask task, Function<GroupShardsIterator<SearchShardIterator>, SearchPhase> phaseFactory,
                                  SearchResponse.Clusters clusters) {
+        this(logger, searchTransportService, nodeIdToConnection, aliasFilter, concreteIndexBoosts, indexRoutings, executor, request,
+            listener, shardsIts, timeProvider, clusterState, task, phaseFactory, clusters, null);
+    }
+
+    /**
+     * @param responseCacheLookup if not <code>null</code>, the shards report the generation of their reader and the cached
+     *                            response of the request is returned without executing the next phase if there is one
+     */
+    CanMatchPreFilterSearchPhase(Logger logger, SearchTransportService searchTransportService,
+                                 BiFunction<String, String, Transport.Connection> nodeIdToConnection,
+                                 Map<String, AliasFilter> aliasFilter, Map<String, Float> concreteIndexBoosts,
+                                 Map<String, Set<String>> indexRoutings,
+                                 Executor executor, SearchRequest request,
+                                 ActionListener<SearchResponse> listener, GroupShardsIterator<SearchShardIterator> shardsIts,
+                                 TransportSearchAction.SearchTimeProvider timeProvider, ClusterState clusterState,
+                                 SearchTask task, Function<GroupShardsIterator<SearchShardIterator>, SearchPhase> phaseFactory,
+                                 SearchResponse.Clusters clusters, @Nullable SearchResponseCache.Lookup responseCacheLookup) {
         //We set max concurrent shard requests to the number of shards so no throttling happens for can_match requests
         super("can_match", logger, searchTransportService, nodeIdToConnection, aliasFilter, concreteIndexBoosts, indexRoutings,
                 executor, request, listener, shardsIts, timeProvider, clusterState, task,
                 new CanMatchSearchPhaseResults(shardsIts.size()), shardsIts.size(), clusters);
         this.phaseFactory = phaseFactory;
         this.shardsIts = shardsIts;
+        this.listener = listener;
+        this.responseCacheLookup = responseCacheLookup;
+        this.aliasFilter = aliasFilter;
+        this.indexRoutings = indexRoutings;
+        this.clusterState = clusterState;
+        this.timeProvider = timeProvider;
     }
 
     @Override
@@ -98,14 +130,40 @@ final class CanMatchPreFilterSearchPhase extends AbstractSearchAsyncAction<CanMa
     @Override
     protected void executePhaseOnShard(SearchShardIterator shardIt, SearchShardTarget shard,
                                        SearchActionListener<CanMatchResponse> listener) {
-        getSearchTransport().sendCanMatch(getConnection(shard.getClusterAlias(), shard.getNodeId()),
-            buildShardSearchRequest(shardIt), getTask(), listener);
+        if (shard.getClusterAlias() == null) {
+            final IndexMetadata indexMetadata = clusterState.metadata().index(shardIt.shardId().getIndex());
+            if (indexMetadata != null && TimestampRangeFilter.canSkip(getRequest(), indexMetadata, shardIt.shardId().id(),
+                    timeProvider.getAbsoluteStartMillis())) {
+                // the content of the shard cannot change until the settings version of its index changes
+                final String shardGeneration = responseCacheLookup == null ? null
+                    : "timestamp_range/" + indexMetadata.getTimestampRange().getSettingsVersion();
+                listener.onResponse(new CanMatchResponse(false, null, shardGeneration));
+                return;
+            }
+        }
+        final ShardSearchRequest request = buildShardSearchRequest(shardIt);
+        request.includeShardGeneration(responseCacheLookup != null);
+        getSearchTransport().sendCanMatch(getConnection(shard.getClusterAlias(), shard.getNodeId()), request, getTask(), listener);
     }
 
     @Override
     protected SearchPhase getNextPhase(SearchPhaseResults<CanMatchResponse> results, SearchPhaseContext context) {
-
-        return phaseFactory.apply(getIterator((CanMatchSearchPhaseResults) results, shardsIts));
+        final CanMatchSearchPhaseResults canMatchResults = (CanMatchSearchPhaseResults) results;
+        if (responseCacheLookup != null) {
+            final SearchResponse cachedResponse = canMatchResults.getCachedResponse(responseCacheLookup, aliasFilter,
+                indexRoutings);
+            if (cachedResponse != null) {
+                return new SearchPhase("cached_response") {
+                    @Override
+                    public void run() {
+                        listener.onResponse(new SearchResponse(cachedResponse.getInternalResponse(), null,
+                            cachedResponse.getTotalShards(), cachedResponse.getSuccessfulShards(), cachedResponse.getSkippedShards(),
+                            buildTookInMillis(), ShardSearchFailure.EMPTY_ARRAY, cachedResponse.getClusters()));
+                    }
+                };
+            }
+        }
+        return phaseFactory.apply(getIterator(canMatchResults, shardsIts));
     }
 
     private GroupShardsIterator<SearchShardIterator> getIterator(CanMatchSearchPhaseResults results,
@@ -168,18 +226,23 @@ final class CanMatchPreFilterSearchPhase extends AbstractSearchAsyncAction<CanMa
     private static final class CanMatchSearchPhaseResults extends SearchPhaseResults<CanMatchResponse> {
         private final FixedBitSet possibleMatches;
         private final MinAndMax<?>[] minAndMaxes;
+        private final SearchShardTarget[] shardTargets;
+        private final String[] shardGenerations;
         private int numPossibleMatches;
 
         CanMatchSearchPhaseResults(int size) {
             super(size);
             possibleMatches = new FixedBitSet(size);
             minAndMaxes = new MinAndMax[size];
+            shardTargets = new SearchShardTarget[size];
+            shardGenerations = new String[size];
         }
 
         @Override
         void consumeResult(CanMatchResponse result, Runnable next) {
             try {
                 consumeResult(result.getShardIndex(), result.canMatch(), result.estimatedMinAndMax());
+                consumeShardGeneration(result.getShardIndex(), result.getSearchShardTarget(), result.shardGeneration());
             } finally {
                 next.run();
             }
@@ -204,6 +267,16 @@ final class CanMatchPreFilterSearchPhase extends AbstractSearchAsyncAction<CanMa
             minAndMaxes[shardIndex] = minAndMax;
         }
 
+        synchronized void consumeShardGeneration(int shardIndex, SearchShardTarget shardTarget, String shardGeneration) {
+            shardTargets[shardIndex] = shardTarget;
+            shardGenerations[shardIndex] = shardGeneration;
+        }
+
+        synchronized SearchResponse getCachedResponse(SearchResponseCache.Lookup lookup, Map<String, AliasFilter> aliasFilter,
+                                                      Map<String, Set<String>> indexRoutings) {
+            return lookup.get(shardTargets, shardGenerations, aliasFilter, indexRoutings);
+        }
+
         synchronized int getNumPossibleMatches() {
             return numPossibleMatches;
         }
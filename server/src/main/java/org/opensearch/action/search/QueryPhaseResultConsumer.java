@@ -66,6 +66,11 @@ import java.util.function.Consumer;
  * in the {@link CircuitBreaker#REQUEST} circuit breaker. Before any partial or final reduce, the memory
  * needed to reduce the aggregations is estimated and a {@link CircuitBreakingException} is thrown if it
  * exceeds the maximum memory allowed in this breaker.
+ * <p>
+ * In streaming mode, each shard result is folded into the running partial reduce as soon as it is consumed
+ * instead of being buffered until <code>batched_reduce_size</code> results are available. Shard results that
+ * arrive while a partial reduce is running are folded together by the next one. The memory accounted in the
+ * circuit breaker is then bounded by the size of the running result and of the shard results that are in flight.
  */
 public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhaseResult> implements Releasable {
     private static final Logger logger = LogManager.getLogger(QueryPhaseResultConsumer.class);
@@ -81,6 +86,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
     private final boolean hasTopDocs;
     private final boolean hasAggs;
     private final boolean performFinalReduce;
+    private final boolean streamingReduce;
 
     private final PendingMerges pendingMerges;
     private final Consumer<Exception> onPartialMergeFailure;
@@ -97,6 +103,26 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
                                     NamedWriteableRegistry namedWriteableRegistry,
                                     int expectedResultSize,
                                     Consumer<Exception> onPartialMergeFailure) {
+        this(request, executor, circuitBreaker, controller, progressListener, namedWriteableRegistry,
+            expectedResultSize, false, onPartialMergeFailure);
+    }
+
+    /**
+     * Creates a {@link QueryPhaseResultConsumer} that incrementally reduces aggregation results
+     * as shard results are consumed.
+     *
+     * @param streamingReduce whether each shard result is folded into the running partial reduce
+     *                        as soon as it is consumed
+     */
+    public QueryPhaseResultConsumer(SearchRequest request,
+                                    Executor executor,
+                                    CircuitBreaker circuitBreaker,
+                                    SearchPhaseController controller,
+                                    SearchProgressListener progressListener,
+                                    NamedWriteableRegistry namedWriteableRegistry,
+                                    int expectedResultSize,
+                                    boolean streamingReduce,
+                                    Consumer<Exception> onPartialMergeFailure) {
         super(expectedResultSize);
         this.executor = executor;
         this.circuitBreaker = circuitBreaker;
@@ -107,6 +133,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         this.topNSize = SearchPhaseController.getTopDocsSize(request);
         this.performFinalReduce = request.isFinalReduce();
         this.onPartialMergeFailure = onPartialMergeFailure;
+        this.streamingReduce = streamingReduce;
 
         SearchSourceBuilder source = request.source();
         this.hasTopDocs = source == null || source.size() != 0;
@@ -155,6 +182,8 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
             logger.trace("aggs final reduction [{}] max [{}]",
                 pendingMerges.aggsCurrentBufferSize, pendingMerges.maxAggsCurrentBufferSize);
         }
+        logger.debug("reduced [{}] shard results in [{}] phases, reduce memory [{}] max [{}]", results.asList().size(),
+            reducePhase.numReducePhases, pendingMerges.circuitBreakerBytes, pendingMerges.maxAggsCurrentBufferSize);
         progressListener.notifyFinalReduce(SearchProgressListener.buildSearchShards(results.asList()),
             reducePhase.totalHits, reducePhase.aggregations, reducePhase.numReducePhases);
         return reducePhase;
@@ -222,10 +251,28 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         return pendingMerges.numReducePhases;
     }
 
+    /**
+     * Returns the memory, in bytes, that is currently accounted in the circuit breaker to
+     * buffer and reduce the shard results of this request.
+     */
+    public long getReduceMemoryBytes() {
+        return pendingMerges.circuitBreakerBytes;
+    }
+
+    /**
+     * Returns the maximum memory, in bytes, that was accounted in the circuit breaker to
+     * buffer and reduce the shard results of this request.
+     */
+    public long getMaxReduceMemoryBytes() {
+        return pendingMerges.maxAggsCurrentBufferSize;
+    }
+
     private class PendingMerges implements Releasable {
         private final int batchReduceSize;
         private final List<QuerySearchResult> buffer = new ArrayList<>();
         private final List<SearchShard> emptyResults = new ArrayList<>();
+        // the listeners of the buffered results that wait for the next streaming reduce
+        private final List<Runnable> pendingNexts = new ArrayList<>();
         // the memory that is accounted in the circuit breaker for this consumer
         private volatile long circuitBreakerBytes;
         // the memory that is currently used in the buffer
@@ -324,6 +371,21 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
                         SearchShardTarget target = result.getSearchShardTarget();
                         emptyResults.add(new SearchShard(target.getClusterAlias(), target.getShardId()));
                     }
+                } else if (streamingReduce) {
+                    if (hasAggs) {
+                        long aggsSize = ramBytesUsedQueryResult(result);
+                        addWithoutBreaking(aggsSize);
+                        aggsCurrentBufferSize += aggsSize;
+                    }
+                    buffer.add(result);
+                    // the first result is kept in the buffer until there is something to fold it with
+                    if (buffer.size() + (hasPartialReduce ? 1 : 0) > 1) {
+                        executeNextImmediately = false;
+                        pendingNexts.add(next);
+                        if (scheduleStreamingMerge()) {
+                            tryExecuteNext();
+                        }
+                    }
                 } else {
                     // add one if a partial merge is pending
                     int size = buffer.size() + (hasPartialReduce ? 1 : 0);
@@ -351,6 +413,27 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
             }
         }
 
+        /**
+         * Queues a streaming partial reduce of the buffered results if no partial reduce is running.
+         * The results that are consumed while a partial reduce is running are folded by the next one.
+         */
+        private synchronized boolean scheduleStreamingMerge() {
+            assert streamingReduce;
+            if (hasFailure() || runningTask.get() != null || queue.isEmpty() == false || pendingNexts.isEmpty()) {
+                return false;
+            }
+            hasPartialReduce = true;
+            QuerySearchResult[] clone = buffer.stream().toArray(QuerySearchResult[]::new);
+            List<Runnable> nexts = new ArrayList<>(pendingNexts);
+            MergeTask task = new MergeTask(clone, aggsCurrentBufferSize, new ArrayList<>(emptyResults), () -> nexts.forEach(Runnable::run));
+            aggsCurrentBufferSize = 0;
+            buffer.clear();
+            emptyResults.clear();
+            pendingNexts.clear();
+            queue.add(task);
+            return true;
+        }
+
         private synchronized void onMergeFailure(Exception exc) {
             if (hasFailure()) {
                 assert circuitBreakerBytes == 0;
@@ -376,6 +459,9 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
             for (MergeTask toCancel : toCancels) {
                 toCancel.cancel();
             }
+            List<Runnable> nexts = new ArrayList<>(pendingNexts);
+            pendingNexts.clear();
+            nexts.forEach(Runnable::run);
         }
 
         private void onAfterMerge(MergeTask task, MergeResult newResult, long estimatedSize) {
@@ -394,6 +480,9 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
                         estimatedSize, mergeResult.estimatedSize, maxAggsCurrentBufferSize);
                 }
                 task.consumeListener();
+                if (streamingReduce) {
+                    scheduleStreamingMerge();
+                }
             }
         }
 
@@ -44,7 +44,8 @@ import java.util.function.BiFunction;
 /**
  * A wrapper of search action listeners (search results) that unwraps the query
  * result to get the piggybacked queue size and service time EWMA, adding those
- * values to the coordinating nodes' {@link ResponseCollectorService}.
+ * values to the coordinating nodes' {@link ResponseCollectorService}. It also
+ * reports the request as in flight until its response or failure is received.
  */
 public final class SearchExecutionStatsCollector implements ActionListener<SearchPhaseResult> {
 
@@ -58,8 +59,8 @@ public final class SearchExecutionStatsCollector implements ActionListener<Searc
                                   String nodeId) {
         this.listener = Objects.requireNonNull(listener, "listener cannot be null");
         this.collector = Objects.requireNonNull(collector, "response collector cannot be null");
-        this.startNanos = System.nanoTime();
         this.nodeId = nodeId;
+        this.startNanos = nodeId == null ? System.nanoTime() : collector.onRequestSent(nodeId);
     }
 
     public static BiFunction<Transport.Connection, SearchActionListener, ActionListener> makeWrapper(ResponseCollectorService service) {
@@ -78,11 +79,19 @@ public final class SearchExecutionStatsCollector implements ActionListener<Searc
                 collector.addNodeStatistics(nodeId, queueSize, responseDuration, serviceTimeEWMA);
             }
         }
+        if (nodeId != null) {
+            // only the response times of the query phase are comparable with each other
+            collector.onRequestCompleted(nodeId, startNanos, queryResult != null);
+        }
         listener.onResponse(response);
     }
 
     @Override
     public void onFailure(Exception e) {
+        if (nodeId != null) {
+            // a failure after a long time, such as a timeout, is as bad as a slow response
+            collector.onRequestCompleted(nodeId, startNanos, true);
+        }
         listener.onFailure(e);
     }
 }
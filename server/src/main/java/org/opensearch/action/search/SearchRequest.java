@@ -33,6 +33,7 @@
 package org.opensearch.action.search;
 
 import org.opensearch.LegacyESVersion;
+import org.opensearch.Version;
 import org.opensearch.action.ActionRequest;
 import org.opensearch.action.ActionRequestValidationException;
 import org.opensearch.action.IndicesRequest;
@@ -97,6 +98,8 @@ public class SearchRequest extends ActionRequest implements IndicesRequest.Repla
 
     private Boolean allowPartialSearchResults;
 
+    private Boolean concurrentSegmentSearch;
+
     private Scroll scroll;
 
     private int batchedReduceSize = DEFAULT_BATCHED_REDUCE_SIZE;
@@ -177,6 +180,7 @@ public class SearchRequest extends ActionRequest implements IndicesRequest.Repla
         this.allowPartialSearchResults = searchRequest.allowPartialSearchResults;
         this.batchedReduceSize = searchRequest.batchedReduceSize;
         this.ccsMinimizeRoundtrips = searchRequest.ccsMinimizeRoundtrips;
+        this.concurrentSegmentSearch = searchRequest.concurrentSegmentSearch;
         this.indices = indices;
         this.indicesOptions = searchRequest.indicesOptions;
         this.maxConcurrentShardRequests = searchRequest.maxConcurrentShardRequests;
@@ -237,6 +241,9 @@ public class SearchRequest extends ActionRequest implements IndicesRequest.Repla
         if (in.getVersion().onOrAfter(LegacyESVersion.V_7_0_0)) {
             ccsMinimizeRoundtrips = in.readBoolean();
         }
+        if (in.getVersion().onOrAfter(Version.V_1_1_0)) {
+            concurrentSegmentSearch = in.readOptionalBoolean();
+        }
     }
 
     @Override
@@ -271,6 +278,9 @@ public class SearchRequest extends ActionRequest implements IndicesRequest.Repla
         if (out.getVersion().onOrAfter(LegacyESVersion.V_7_0_0)) {
             out.writeBoolean(ccsMinimizeRoundtrips);
         }
+        if (out.getVersion().onOrAfter(Version.V_1_1_0)) {
+            out.writeOptionalBoolean(concurrentSegmentSearch);
+        }
     }
 
     @Override
@@ -571,6 +581,19 @@ public class SearchRequest extends ActionRequest implements IndicesRequest.Repla
         return this.allowPartialSearchResults;
     }
 
+    /**
+     * Sets if the leaves of each shard should be searched concurrently. By default (not set, or null,
+     * will default to the index level setting if concurrent segment search is enabled or not).
+     */
+    public SearchRequest concurrentSegmentSearch(Boolean concurrentSegmentSearch) {
+        this.concurrentSegmentSearch = concurrentSegmentSearch;
+        return this;
+    }
+
+    public Boolean concurrentSegmentSearch() {
+        return this.concurrentSegmentSearch;
+    }
+
     /**
      * Sets the number of shard results that should be reduced at once on the coordinating node. This value should be used as a protection
      * mechanism to reduce the memory overhead per search request if the potential number of shards in the request can be large.
@@ -716,6 +739,7 @@ public class SearchRequest extends ActionRequest implements IndicesRequest.Repla
                 Objects.equals(preFilterShardSize, that.preFilterShardSize) &&
                 Objects.equals(indicesOptions, that.indicesOptions) &&
                 Objects.equals(allowPartialSearchResults, that.allowPartialSearchResults) &&
+                Objects.equals(concurrentSegmentSearch, that.concurrentSegmentSearch) &&
                 Objects.equals(localClusterAlias, that.localClusterAlias) &&
                 absoluteStartMillis == that.absoluteStartMillis &&
                 ccsMinimizeRoundtrips == that.ccsMinimizeRoundtrips;
@@ -725,7 +749,7 @@ public class SearchRequest extends ActionRequest implements IndicesRequest.Repla
     public int hashCode() {
         return Objects.hash(searchType, Arrays.hashCode(indices), routing, preference, source, requestCache,
                 scroll, Arrays.hashCode(types), indicesOptions, batchedReduceSize, maxConcurrentShardRequests, preFilterShardSize,
-                allowPartialSearchResults, localClusterAlias, absoluteStartMillis, ccsMinimizeRoundtrips);
+                allowPartialSearchResults, localClusterAlias, absoluteStartMillis, ccsMinimizeRoundtrips, concurrentSegmentSearch);
     }
 
     @Override
@@ -743,6 +767,7 @@ public class SearchRequest extends ActionRequest implements IndicesRequest.Repla
                 ", batchedReduceSize=" + batchedReduceSize +
                 ", preFilterShardSize=" + preFilterShardSize +
                 ", allowPartialSearchResults=" + allowPartialSearchResults +
+                ", concurrentSegmentSearch=" + concurrentSegmentSearch +
                 ", localClusterAlias=" + localClusterAlias +
                 ", getOrCreateAbsoluteStartMillis=" + absoluteStartMillis +
                 ", ccsMinimizeRoundtrips=" + ccsMinimizeRoundtrips +
@@ -544,6 +544,15 @@ public class SearchRequestBuilder extends ActionRequestBuilder<SearchRequest, Se
         return this;
     }
 
+    /**
+     * Sets if the leaves of each shard should be searched concurrently. By default (not set, or null,
+     * will default to the index level setting if concurrent segment search is enabled or not).
+     */
+    public SearchRequestBuilder setConcurrentSegmentSearch(Boolean concurrentSegmentSearch) {
+        request.concurrentSegmentSearch(concurrentSegmentSearch);
+        return this;
+    }
+
 
     /**
      * Sets if this request should allow partial results.  (If method is not called,
@@ -0,0 +1,194 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.action.ActionListener;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.io.stream.NamedWriteableAwareStreamInput;
+import org.opensearch.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.search.SearchShardTarget;
+import org.opensearch.search.internal.AliasFilter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * A cache of the reduced responses of search requests on the coordinating node. The responses are cached under the request,
+ * the alias filters and routings that the request resolved to in the cluster state, and the generations of the shard readers
+ * reported by the targeted shard copies in the can match phase, so a hit skips the query and fetch phases entirely. Any refresh
+ * of a targeted shard changes its generation which makes stale entries unreachable, they are evicted by size or expiration.
+ * <p>
+ * Only requests that the shards would also cache in the shard request cache are eligible, the shards are responsible for
+ * checking that the request is deterministic and only report a generation when it is. The cache is disabled by default.
+ */
+public final class SearchResponseCache {
+
+    private static final Logger logger = LogManager.getLogger(SearchResponseCache.class);
+
+    public static final Setting<ByteSizeValue> SEARCH_RESPONSE_CACHE_SIZE =
+        Setting.memorySizeSetting("search.response_cache.size", new ByteSizeValue(0), Property.NodeScope);
+    public static final Setting<TimeValue> SEARCH_RESPONSE_CACHE_EXPIRE =
+        Setting.positiveTimeSetting("search.response_cache.expire", new TimeValue(0), Property.NodeScope);
+
+    private final NamedWriteableRegistry namedWriteableRegistry;
+    private final Cache<BytesReference, BytesReference> cache;
+
+    SearchResponseCache(Settings settings, NamedWriteableRegistry namedWriteableRegistry) {
+        this.namedWriteableRegistry = namedWriteableRegistry;
+        final long sizeInBytes = SEARCH_RESPONSE_CACHE_SIZE.get(settings).getBytes();
+        if (sizeInBytes > 0) {
+            CacheBuilder<BytesReference, BytesReference> cacheBuilder = CacheBuilder.<BytesReference, BytesReference>builder()
+                .setMaximumWeight(sizeInBytes).weigher((k, v) -> k.ramBytesUsed() + v.ramBytesUsed());
+            if (SEARCH_RESPONSE_CACHE_EXPIRE.exists(settings)) {
+                cacheBuilder.setExpireAfterAccess(SEARCH_RESPONSE_CACHE_EXPIRE.get(settings));
+            }
+            this.cache = cacheBuilder.build();
+        } else {
+            this.cache = null;
+        }
+    }
+
+    /**
+     * Returns a lookup for the given request, or <code>null</code> if the cache is disabled or the response of the request
+     * cannot be cached.
+     */
+    Lookup lookup(SearchRequest request) {
+        return canCache(request) ? new Lookup(request) : null;
+    }
+
+    /**
+     * Returns true if the cache is enabled and the response of the given request can be cached.
+     */
+    boolean canCache(SearchRequest request) {
+        return cache != null && isCacheable(request);
+    }
+
+    static boolean isCacheable(SearchRequest request) {
+        if (request.searchType() != SearchType.QUERY_THEN_FETCH || request.scroll() != null || request.pointInTimeBuilder() != null) {
+            return false;
+        }
+        // the hits of cross cluster search requests refer to the cluster alias of the coordinating node
+        if (request.getLocalClusterAlias() != null) {
+            return false;
+        }
+        if (request.source() != null && request.source().profile()) {
+            return false;
+        }
+        if (request.requestCache() == null) {
+            // same default as the shard request cache, the index level setting is checked by the shards
+            return request.source() != null && request.source().size() == 0;
+        }
+        return request.requestCache();
+    }
+
+    /**
+     * The cache entry of a single request. The key of the entry is only known once the generations of the targeted shards
+     * have been reported by the can match phase.
+     */
+    final class Lookup {
+        private final BytesReference requestKey;
+        private volatile BytesReference key;
+
+        private Lookup(SearchRequest request) {
+            try (BytesStreamOutput out = new BytesStreamOutput()) {
+                out.writeStringArray(request.indices());
+                request.indicesOptions().writeIndicesOptions(out);
+                out.writeStringArray(request.types());
+                out.writeOptionalString(request.routing());
+                out.writeByte(request.searchType().id());
+                out.writeVInt(request.getBatchedReduceSize());
+                out.writeOptionalBoolean(request.requestCache());
+                out.writeOptionalWriteable(request.source());
+                this.requestKey = out.bytes();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * Returns the cached response for the given shard generations, or <code>null</code> if there is none. The generations
+         * must be ordered consistently across requests, a <code>null</code> generation means that the response cannot be cached.
+         * The alias filters, by index uuid, and the routings, by index name, are the ones that the request resolved to, which
+         * change without changing the generations of the shards when an alias is updated.
+         */
+        SearchResponse get(SearchShardTarget[] shards, String[] shardGenerations, Map<String, AliasFilter> aliasFilters,
+                           Map<String, Set<String>> indexRoutings) {
+            assert shards.length == shardGenerations.length;
+            try (BytesStreamOutput out = new BytesStreamOutput()) {
+                requestKey.writeTo(out);
+                out.writeVInt(shards.length);
+                for (int i = 0; i < shards.length; i++) {
+                    if (shards[i] == null || shardGenerations[i] == null) {
+                        return null;
+                    }
+                    shards[i].getShardId().writeTo(out);
+                    out.writeString(shards[i].getNodeId());
+                    out.writeString(shardGenerations[i]);
+                    out.writeOptionalWriteable(aliasFilters.get(shards[i].getShardId().getIndex().getUUID()));
+                    // sorted so that the same routings are always written in the same order
+                    out.writeStringCollection(new TreeSet<>(
+                        indexRoutings.getOrDefault(shards[i].getShardId().getIndexName(), Collections.emptySet())));
+                }
+                key = out.bytes();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            final BytesReference value = cache.get(key);
+            if (value == null) {
+                return null;
+            }
+            try (StreamInput in = new NamedWriteableAwareStreamInput(value.streamInput(), namedWriteableRegistry)) {
+                return new SearchResponse(in);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * Wraps the given listener so that complete responses are cached under the key resolved by {@link #get}.
+         */
+        ActionListener<SearchResponse> wrap(ActionListener<SearchResponse> listener) {
+            return ActionListener.map(listener, response -> {
+                final BytesReference key = this.key;
+                if (key != null && isComplete(response)) {
+                    try (BytesStreamOutput out = new BytesStreamOutput()) {
+                        response.writeTo(out);
+                        cache.put(key, out.bytes());
+                    } catch (IOException e) {
+                        logger.debug("failed to cache search response", e);
+                    }
+                }
+                return response;
+            });
+        }
+
+        private boolean isComplete(SearchResponse response) {
+            return response.getFailedShards() == 0
+                && response.getSuccessfulShards() == response.getTotalShards()
+                && response.isTimedOut() == false
+                && response.getScrollId() == null
+                && response.pointInTimeId() == null;
+        }
+    }
+}
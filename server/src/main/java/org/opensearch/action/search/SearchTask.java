@@ -32,9 +32,16 @@
 
 package org.opensearch.action.search;
 
+import org.opensearch.common.Strings;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.xcontent.XContentBuilder;
 import org.opensearch.tasks.CancellableTask;
+import org.opensearch.tasks.Task;
 import org.opensearch.tasks.TaskId;
 
+import java.io.IOException;
 import java.util.Map;
 import java.util.function.Supplier;
 
@@ -45,6 +52,7 @@ public class SearchTask extends CancellableTask {
     // generating description in a lazy way since source can be quite big
     private final Supplier<String> descriptionSupplier;
     private SearchProgressListener progressListener = SearchProgressListener.NOOP;
+    private volatile QueryPhaseResultConsumer queryResultConsumer;
 
     public SearchTask(long id, String type, String action, Supplier<String> descriptionSupplier,
                       TaskId parentTaskId, Map<String, String> headers) {
@@ -71,8 +79,97 @@ public class SearchTask extends CancellableTask {
         return progressListener;
     }
 
+    /**
+     * Attach the {@link QueryPhaseResultConsumer} that buffers and reduces the shard results of this task.
+     */
+    final void setQueryResultConsumer(QueryPhaseResultConsumer queryResultConsumer) {
+        this.queryResultConsumer = queryResultConsumer;
+    }
+
+    /**
+     * Returns the memory accounted to reduce the shard results of this task, or <code>null</code>
+     * if the query phase has not started yet.
+     */
+    @Override
+    public Status getStatus() {
+        final QueryPhaseResultConsumer consumer = queryResultConsumer;
+        if (consumer == null) {
+            return null;
+        }
+        return new Status(consumer.getReduceMemoryBytes(), consumer.getMaxReduceMemoryBytes());
+    }
+
     @Override
     public boolean shouldCancelChildrenOnCancellation() {
         return true;
     }
+
+    public static class Status implements Task.Status {
+        public static final String NAME = "search";
+
+        private final long reduceMemoryBytes;
+        private final long maxReduceMemoryBytes;
+
+        public Status(StreamInput in) throws IOException {
+            reduceMemoryBytes = in.readVLong();
+            maxReduceMemoryBytes = in.readVLong();
+        }
+
+        public Status(long reduceMemoryBytes, long maxReduceMemoryBytes) {
+            this.reduceMemoryBytes = reduceMemoryBytes;
+            this.maxReduceMemoryBytes = maxReduceMemoryBytes;
+        }
+
+        /**
+         * The memory, in bytes, that is currently accounted in the circuit breaker to buffer and reduce the shard results.
+         */
+        public long getReduceMemoryBytes() {
+            return reduceMemoryBytes;
+        }
+
+        /**
+         * The maximum memory, in bytes, that was accounted in the circuit breaker to buffer and reduce the shard results.
+         */
+        public long getMaxReduceMemoryBytes() {
+            return maxReduceMemoryBytes;
+        }
+
+        @Override
+        public String getWriteableName() {
+            return NAME;
+        }
+
+        @Override
+        public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+            builder.startObject();
+            builder.humanReadableField("reduce_memory_in_bytes", "reduce_memory", new ByteSizeValue(reduceMemoryBytes));
+            builder.humanReadableField("max_reduce_memory_in_bytes", "max_reduce_memory", new ByteSizeValue(maxReduceMemoryBytes));
+            builder.endObject();
+            return builder;
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            out.writeVLong(reduceMemoryBytes);
+            out.writeVLong(maxReduceMemoryBytes);
+        }
+
+        @Override
+        public String toString() {
+            return Strings.toString(this);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Status status = (Status) o;
+            return reduceMemoryBytes == status.reduceMemoryBytes && maxReduceMemoryBytes == status.maxReduceMemoryBytes;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Long.hashCode(reduceMemoryBytes) + Long.hashCode(maxReduceMemoryBytes);
+        }
+    }
 }
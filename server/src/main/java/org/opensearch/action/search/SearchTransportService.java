@@ -46,6 +46,8 @@ import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
 import org.opensearch.search.SearchPhaseResult;
 import org.opensearch.search.SearchService;
 import org.opensearch.search.dfs.DfsSearchResult;
@@ -61,9 +63,11 @@ import org.opensearch.search.query.QuerySearchRequest;
 import org.opensearch.search.query.QuerySearchResult;
 import org.opensearch.search.query.ScrollQuerySearchResult;
 import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.BatchedTransportResponseHandler;
 import org.opensearch.transport.RemoteClusterService;
 import org.opensearch.transport.Transport;
 import org.opensearch.transport.TransportActionProxy;
+import org.opensearch.transport.TransportChannel;
 import org.opensearch.transport.TransportException;
 import org.opensearch.transport.TransportRequest;
 import org.opensearch.transport.TransportRequestOptions;
@@ -71,7 +75,11 @@ import org.opensearch.transport.TransportResponse;
 import org.opensearch.transport.TransportService;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.BiFunction;
@@ -94,6 +102,11 @@ public class SearchTransportService {
     public static final String FETCH_ID_ACTION_NAME = "indices:data/read/search[phase/fetch/id]";
     public static final String QUERY_CAN_MATCH_NAME = "indices:data/read/search[can_match]";
 
+    /**
+     * The number of hits of a fetch result that are sent per batch, see {@link #fetchResultListener}.
+     */
+    static final int FETCH_HITS_PER_BATCH = 100;
+
     private final TransportService transportService;
     private final BiFunction<Transport.Connection, SearchActionListener, ActionListener> responseWrapper;
     private final Map<String, Long> clientConnections = ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency();
@@ -186,7 +199,7 @@ public class SearchTransportService {
     private void sendExecuteFetch(Transport.Connection connection, String action, final ShardFetchRequest request, SearchTask task,
                                   final SearchActionListener<FetchSearchResult> listener) {
         transportService.sendChildRequest(connection, action, request, task,
-                new ConnectionCountingHandler<>(listener, FetchSearchResult::new, clientConnections, connection.getNode().getId()));
+                new FetchResultHandler(listener, clientConnections, connection.getNode().getId()));
     }
 
     /**
@@ -360,14 +373,14 @@ public class SearchTransportService {
         transportService.registerRequestHandler(FETCH_ID_SCROLL_ACTION_NAME, ThreadPool.Names.SAME, ShardFetchRequest::new,
             (request, channel, task) -> {
                 searchService.executeFetchPhase(request, (SearchShardTask) task,
-                    new ChannelActionListener<>(channel, FETCH_ID_SCROLL_ACTION_NAME, request));
+                    fetchResultListener(channel, FETCH_ID_SCROLL_ACTION_NAME, request));
             });
         TransportActionProxy.registerProxyAction(transportService, FETCH_ID_SCROLL_ACTION_NAME, FetchSearchResult::new);
 
         transportService.registerRequestHandler(FETCH_ID_ACTION_NAME, ThreadPool.Names.SAME, true, true, ShardFetchSearchRequest::new,
             (request, channel, task) -> {
                 searchService.executeFetchPhase(request, (SearchShardTask) task,
-                    new ChannelActionListener<>(channel, FETCH_ID_ACTION_NAME, request));
+                    fetchResultListener(channel, FETCH_ID_ACTION_NAME, request));
             });
         TransportActionProxy.registerProxyAction(transportService, FETCH_ID_ACTION_NAME, FetchSearchResult::new);
 
@@ -395,7 +408,49 @@ public class SearchTransportService {
         }
     }
 
-    final class ConnectionCountingHandler<Response extends TransportResponse> extends ActionListenerResponseHandler<Response> {
+    /**
+     * Returns a listener that sends the hits of a fetch result to the coordinating node in batches of {@link #FETCH_HITS_PER_BATCH}, each
+     * one once the previous one was handled by the {@link FetchResultHandler}, followed by the result with the remaining hits. Local
+     * requests and channels that do not support batches, such as the channels of nodes before 1.1.0, get the result at once.
+     */
+    static ActionListener<FetchSearchResult> fetchResultListener(TransportChannel channel, String actionName, TransportRequest request) {
+        final ActionListener<FetchSearchResult> listener = new ChannelActionListener<>(channel, actionName, request);
+        if (TransportService.DIRECT_RESPONSE_PROFILE.equals(channel.getProfileName())) {
+            return listener;
+        }
+        return ActionListener.wrap(result -> sendFetchResult(channel, listener, result, 0), listener::onFailure);
+    }
+
+    private static void sendFetchResult(TransportChannel channel, ActionListener<FetchSearchResult> listener, FetchSearchResult result,
+                                        int from) {
+        final int numHits = result.hits().getHits().length;
+        if (numHits - from <= FETCH_HITS_PER_BATCH) {
+            listener.onResponse(from == 0 ? result : withHits(result, from, numHits));
+            return;
+        }
+        channel.sendResponseBatch(withHits(result, from, from + FETCH_HITS_PER_BATCH), ActionListener.wrap(
+            v -> sendFetchResult(channel, listener, result, from + FETCH_HITS_PER_BATCH),
+            e -> {
+                if (from == 0 && e instanceof UnsupportedOperationException) {
+                    listener.onResponse(result);
+                } else {
+                    listener.onFailure(e);
+                }
+            }));
+    }
+
+    /**
+     * Returns a copy of the given fetch result that only holds the hits in the given range.
+     */
+    private static FetchSearchResult withHits(FetchSearchResult result, int from, int to) {
+        final SearchHits hits = result.hits();
+        final FetchSearchResult copy = new FetchSearchResult(result.getContextId(), result.getSearchShardTarget());
+        copy.hits(new SearchHits(Arrays.copyOfRange(hits.getHits(), from, to), hits.getTotalHits(), hits.getMaxScore(),
+            hits.getSortFields(), hits.getCollapseField(), hits.getCollapseValues()));
+        return copy;
+    }
+
+    class ConnectionCountingHandler<Response extends TransportResponse> extends ActionListenerResponseHandler<Response> {
         private final Map<String, Long> clientConnections;
         private final String nodeId;
 
@@ -437,4 +492,39 @@ public class SearchTransportService {
             return true;
         }
     }
+
+    /**
+     * Handles a fetch result that is sent in batches, see {@link #fetchResultListener}, by collecting the hits of the batches and
+     * putting them in front of the hits of the final result.
+     */
+    final class FetchResultHandler extends ConnectionCountingHandler<FetchSearchResult>
+        implements BatchedTransportResponseHandler<FetchSearchResult> {
+        private final List<SearchHit> batchedHits = new ArrayList<>();
+
+        FetchResultHandler(final ActionListener<? super FetchSearchResult> listener, final Map<String, Long> clientConnections,
+                           final String nodeId) {
+            super(listener, FetchSearchResult::new, clientConnections, nodeId);
+        }
+
+        @Override
+        public void handleBatch(FetchSearchResult batch, ActionListener<Void> listener) {
+            synchronized (batchedHits) {
+                Collections.addAll(batchedHits, batch.hits().getHits());
+            }
+            listener.onResponse(null);
+        }
+
+        @Override
+        public void handleResponse(FetchSearchResult response) {
+            synchronized (batchedHits) {
+                if (batchedHits.isEmpty() == false) {
+                    final SearchHits hits = response.hits();
+                    Collections.addAll(batchedHits, hits.getHits());
+                    response.hits(new SearchHits(batchedHits.toArray(new SearchHit[0]), hits.getTotalHits(), hits.getMaxScore(),
+                        hits.getSortFields(), hits.getCollapseField(), hits.getCollapseValues()));
+                }
+            }
+            super.handleResponse(response);
+        }
+    }
 }
@@ -0,0 +1,98 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.OpenSearchParseException;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.IndexTimestampRange;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.time.DateFormatter;
+import org.opensearch.common.time.DateMathParser;
+import org.opensearch.index.mapper.DateFieldMapper;
+import org.opensearch.index.query.BoolQueryBuilder;
+import org.opensearch.index.query.ConstantScoreQueryBuilder;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.RangeQueryBuilder;
+import org.opensearch.search.SearchService;
+import org.opensearch.search.builder.SearchSourceBuilder;
+
+import java.time.DateTimeException;
+import java.time.ZoneId;
+
+/**
+ * Decides on the coordinating node whether a shard can be skipped because the {@link IndexTimestampRange} of its index does not
+ * intersect with a range query on the timestamp field that every hit has to match. This saves the can match round-trip to the
+ * shards of the indices that are blocked for writes, typically the older backing indices of a time-based data stream.
+ */
+final class TimestampRangeFilter {
+
+    private TimestampRangeFilter() {}
+
+    /**
+     * Returns true if the given shard of the given index cannot have any hit for the given request.
+     *
+     * @param nowInMillis the time that <code>now</code> resolves to in date math expressions, which must be the same as on the shards
+     */
+    static boolean canSkip(SearchRequest request, IndexMetadata indexMetadata, int shardId, long nowInMillis) {
+        final IndexTimestampRange timestampRange = indexMetadata.getTimestampRange();
+        if (timestampRange.appliesTo(indexMetadata) == false || timestampRange.hasShardRange(shardId) == false) {
+            return false;
+        }
+        final SearchSourceBuilder source = request.source();
+        // point in time readers may still hold documents that were deleted before the range was computed
+        if (SearchService.canRewriteToMatchNone(source) == false || source.pointInTimeBuilder() != null) {
+            return false;
+        }
+        return canSkip(source.query(), timestampRange, shardId, nowInMillis);
+    }
+
+    private static boolean canSkip(QueryBuilder query, IndexTimestampRange timestampRange, int shardId, long nowInMillis) {
+        if (query instanceof RangeQueryBuilder) {
+            final RangeQueryBuilder rangeQuery = (RangeQueryBuilder) query;
+            if (rangeQuery.fieldName().equals(timestampRange.getField()) == false) {
+                return false;
+            }
+            try {
+                final DateMathParser parser = (rangeQuery.format() != null ? DateFormatter.forPattern(rangeQuery.format())
+                    : timestampRange.getFormat() != null ? DateFormatter.forPattern(timestampRange.getFormat())
+                    : DateFieldMapper.DEFAULT_DATE_TIME_FORMATTER).toDateMathParser();
+                final ZoneId timeZone = rangeQuery.timeZone() == null ? null : ZoneId.of(rangeQuery.timeZone());
+                // exclusive bounds are treated as inclusive, which is conservative
+                final long from = rangeQuery.from() == null ? Long.MIN_VALUE
+                    : parse(parser, rangeQuery.from(), rangeQuery.includeLower() == false, timeZone, nowInMillis);
+                final long to = rangeQuery.to() == null ? Long.MAX_VALUE
+                    : parse(parser, rangeQuery.to(), rangeQuery.includeUpper(), timeZone, nowInMillis);
+                return timestampRange.mayIntersect(shardId, from, to) == false;
+            } catch (OpenSearchParseException | IllegalArgumentException | DateTimeException | ArithmeticException e) {
+                // let the shards report the error, if any
+                return false;
+            }
+        } else if (query instanceof BoolQueryBuilder) {
+            final BoolQueryBuilder boolQuery = (BoolQueryBuilder) query;
+            for (QueryBuilder clause : boolQuery.must()) {
+                if (canSkip(clause, timestampRange, shardId, nowInMillis)) {
+                    return true;
+                }
+            }
+            for (QueryBuilder clause : boolQuery.filter()) {
+                if (canSkip(clause, timestampRange, shardId, nowInMillis)) {
+                    return true;
+                }
+            }
+            return false;
+        } else if (query instanceof ConstantScoreQueryBuilder) {
+            return canSkip(((ConstantScoreQueryBuilder) query).innerQuery(), timestampRange, shardId, nowInMillis);
+        }
+        return false;
+    }
+
+    private static long parse(DateMathParser parser, Object value, boolean roundUp, @Nullable ZoneId timeZone, long nowInMillis) {
+        return parser.parse(value.toString(), () -> nowInMillis, roundUp, timeZone).toEpochMilli();
+    }
+}
@@ -121,6 +121,14 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
     public static final Setting<Long> SHARD_COUNT_LIMIT_SETTING = Setting.longSetting(
             "action.search.shard_count.limit", Long.MAX_VALUE, 1L, Property.Dynamic, Property.NodeScope);
 
+    /**
+     * Whether the coordinating node folds each shard result into the running partial reduce as soon as it
+     * is received, on the {@link ThreadPool.Names#SEARCH_REDUCE} thread pool, instead of reducing them in
+     * batches of <code>batched_reduce_size</code>.
+     */
+    public static final Setting<Boolean> STREAMING_REDUCE_SETTING = Setting.boolSetting(
+            "action.search.streaming_reduce.enabled", false, Property.Dynamic, Property.NodeScope);
+
     private final NodeClient client;
     private final ThreadPool threadPool;
     private final ClusterService clusterService;
@@ -131,6 +139,7 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
     private final IndexNameExpressionResolver indexNameExpressionResolver;
     private final NamedWriteableRegistry namedWriteableRegistry;
     private final CircuitBreaker circuitBreaker;
+    private final SearchResponseCache responseCache;
 
     @Inject
     public TransportSearchAction(NodeClient client,
@@ -156,6 +165,7 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
         this.searchService = searchService;
         this.indexNameExpressionResolver = indexNameExpressionResolver;
         this.namedWriteableRegistry = namedWriteableRegistry;
+        this.responseCache = new SearchResponseCache(clusterService.getSettings(), namedWriteableRegistry);
     }
 
     private Map<String, AliasFilter> buildPerIndexAliasFilter(SearchRequest request, ClusterState clusterState,
@@ -690,8 +700,10 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
         BiFunction<String, String, Transport.Connection> connectionLookup = buildConnectionLookup(searchRequest.getLocalClusterAlias(),
             nodes::get, remoteConnections, searchTransportService::getConnection);
         final Executor asyncSearchExecutor = asyncSearchExecutor(concreteLocalIndices, clusterState);
+        // the can match phase reports the generations of the shards that the response cache is keyed on
         final boolean preFilterSearchShards = shouldPreFilterSearchShards(clusterState, searchRequest, concreteLocalIndices,
-            localShardIterators.size() + remoteShardIterators.size());
+            localShardIterators.size() + remoteShardIterators.size())
+            || (remoteShardIterators.isEmpty() && responseCache.canCache(searchRequest));
         searchAsyncActionProvider.asyncSearchAction(
             task, searchRequest, asyncSearchExecutor, shardIterators, timeProvider, connectionLookup, clusterState,
             Collections.unmodifiableMap(aliasFilter), concreteIndexBoosts, indexRoutings, listener,
@@ -746,6 +758,15 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
                     && preFilterShardSize < numShards;
     }
 
+    private static boolean hasRemoteShards(GroupShardsIterator<SearchShardIterator> shardIterators) {
+        for (SearchShardIterator shardIterator : shardIterators) {
+            if (shardIterator.getClusterAlias() != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private static boolean hasReadOnlyIndices(String[] indices, ClusterState clusterState) {
         for (String index : indices) {
             ClusterBlockException writeBlock = clusterState.blocks().indexBlockedException(ClusterBlockLevel.WRITE, index);
@@ -788,6 +809,10 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
         ThreadPool threadPool,
         SearchResponse.Clusters clusters) {
         if (preFilter) {
+            final SearchResponseCache.Lookup responseCacheLookup = hasRemoteShards(shardIterators)
+                ? null : responseCache.lookup(searchRequest);
+            final ActionListener<SearchResponse> nextPhaseListener = responseCacheLookup != null
+                ? responseCacheLookup.wrap(listener) : listener;
             return new CanMatchPreFilterSearchPhase(logger, searchTransportService, connectionLookup,
                 aliasFilter, concreteIndexBoosts, indexRoutings, executor, searchRequest, listener, shardIterators,
                 timeProvider, clusterState, task, (iter) -> {
@@ -802,7 +827,7 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
                     aliasFilter,
                     concreteIndexBoosts,
                     indexRoutings,
-                    listener,
+                    nextPhaseListener,
                     false,
                     threadPool,
                     clusters);
@@ -812,10 +837,14 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
                         action.start();
                     }
                 };
-            }, clusters);
+            }, clusters, responseCacheLookup);
         } else {
-            final QueryPhaseResultConsumer queryResultConsumer = searchPhaseController.newSearchPhaseResults(executor,
-                circuitBreaker, task.getProgressListener(), searchRequest, shardIterators.size(), exc -> cancelTask(task, exc));
+            final boolean streamingReduce = clusterService.getClusterSettings().get(STREAMING_REDUCE_SETTING);
+            final Executor reduceExecutor = streamingReduce ? threadPool.executor(ThreadPool.Names.SEARCH_REDUCE) : executor;
+            final QueryPhaseResultConsumer queryResultConsumer = searchPhaseController.newSearchPhaseResults(reduceExecutor,
+                circuitBreaker, task.getProgressListener(), searchRequest, shardIterators.size(), streamingReduce,
+                exc -> cancelTask(task, exc));
+            task.setQueryResultConsumer(queryResultConsumer);
             AbstractSearchAsyncAction<? extends SearchPhaseResult> searchAsyncAction;
             switch (searchRequest.searchType()) {
                 case DFS_QUERY_THEN_FETCH:
@@ -65,8 +65,18 @@ public abstract class HandledTransportAction<Request extends ActionRequest, Resp
     protected HandledTransportAction(String actionName, boolean canTripCircuitBreaker,
                                      TransportService transportService, ActionFilters actionFilters,
                                      Writeable.Reader<Request> requestReader, String executor) {
+        this(actionName, canTripCircuitBreaker, false, transportService, actionFilters, requestReader, executor);
+    }
+
+    /**
+     * @param allowsUnsafeBuffers whether requests may hold on to the network buffers they were read from until they are responded to,
+     *                            rather than to copies of them
+     */
+    protected HandledTransportAction(String actionName, boolean canTripCircuitBreaker, boolean allowsUnsafeBuffers,
+                                     TransportService transportService, ActionFilters actionFilters,
+                                     Writeable.Reader<Request> requestReader, String executor) {
         super(actionName, actionFilters, transportService.getTaskManager());
-        transportService.registerRequestHandler(actionName, executor, false, canTripCircuitBreaker, requestReader,
+        transportService.registerRequestHandler(actionName, executor, false, canTripCircuitBreaker, allowsUnsafeBuffers, requestReader,
             new TransportHandler());
     }
 
@@ -159,6 +159,21 @@ public abstract class TransportReplicationAction<
                                          ActionFilters actionFilters, Writeable.Reader<Request> requestReader,
                                          Writeable.Reader<ReplicaRequest> replicaRequestReader, String executor,
                                          boolean syncGlobalCheckpointAfterOperation, boolean forceExecutionOnPrimary) {
+        this(settings, actionName, transportService, clusterService, indicesService, threadPool, shardStateAction, actionFilters,
+                requestReader, replicaRequestReader, executor, syncGlobalCheckpointAfterOperation, forceExecutionOnPrimary, false);
+    }
+
+    /**
+     * @param allowsUnsafeBuffers whether requests received on the primary and on replicas may hold on to the network buffers they were
+     *                            read from until the primary or the replica responds, rather than to copies of them
+     */
+    protected TransportReplicationAction(Settings settings, String actionName, TransportService transportService,
+                                         ClusterService clusterService, IndicesService indicesService,
+                                         ThreadPool threadPool, ShardStateAction shardStateAction,
+                                         ActionFilters actionFilters, Writeable.Reader<Request> requestReader,
+                                         Writeable.Reader<ReplicaRequest> replicaRequestReader, String executor,
+                                         boolean syncGlobalCheckpointAfterOperation, boolean forceExecutionOnPrimary,
+                                         boolean allowsUnsafeBuffers) {
         super(actionName, actionFilters, transportService.getTaskManager());
         this.threadPool = threadPool;
         this.transportService = transportService;
@@ -176,11 +191,11 @@ public abstract class TransportReplicationAction<
 
         transportService.registerRequestHandler(actionName, ThreadPool.Names.SAME, requestReader, this::handleOperationRequest);
 
-        transportService.registerRequestHandler(transportPrimaryAction, executor, forceExecutionOnPrimary, true,
+        transportService.registerRequestHandler(transportPrimaryAction, executor, forceExecutionOnPrimary, true, allowsUnsafeBuffers,
             in -> new ConcreteShardRequest<>(requestReader, in), this::handlePrimaryRequest);
 
         // we must never reject on because of thread pool capacity on replicas
-        transportService.registerRequestHandler(transportReplicaAction, executor, true, true,
+        transportService.registerRequestHandler(transportReplicaAction, executor, true, true, allowsUnsafeBuffers,
             in -> new ConcreteReplicaRequest<>(replicaRequestReader, in), this::handleReplicaRequest);
 
         this.transportOptions = transportOptions(settings);
@@ -0,0 +1,229 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cluster.action.shard;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.opensearch.Version;
+import org.opensearch.action.ActionListener;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.ClusterStateTaskConfig;
+import org.opensearch.cluster.ClusterStateTaskExecutor;
+import org.opensearch.cluster.ClusterStateTaskListener;
+import org.opensearch.cluster.NotMasterException;
+import org.opensearch.cluster.coordination.FailedToCommitClusterStateException;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.IndexTimestampRange;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.routing.ShardRouting;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.Priority;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.tasks.Task;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportChannel;
+import org.opensearch.transport.TransportException;
+import org.opensearch.transport.TransportRequest;
+import org.opensearch.transport.TransportRequestHandler;
+import org.opensearch.transport.TransportResponse;
+import org.opensearch.transport.TransportResponseHandler;
+import org.opensearch.transport.TransportService;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Reports the range of the values of the timestamp field of a primary shard to the master, which records it in the
+ * {@link IndexTimestampRange} of the index metadata.
+ */
+public class ShardTimestampRangeAction {
+
+    private static final Logger logger = LogManager.getLogger(ShardTimestampRangeAction.class);
+
+    public static final String ACTION_NAME = "internal:cluster/shard/timestamp_range";
+
+    private final TransportService transportService;
+    private final ClusterService clusterService;
+
+    public ShardTimestampRangeAction(ClusterService clusterService, TransportService transportService) {
+        this.transportService = transportService;
+        this.clusterService = clusterService;
+        transportService.registerRequestHandler(ACTION_NAME, ThreadPool.Names.SAME, ShardTimestampRangeEntry::new,
+            new ShardTimestampRangeTransportHandler(clusterService, new ShardTimestampRangeClusterStateTaskExecutor()));
+    }
+
+    /**
+     * Sends the range of the given shard to the elected master, if any. The listener is notified once the master has accepted the
+     * range, which does not mean that it has been published yet.
+     */
+    public void sendTimestampRange(ShardTimestampRangeEntry entry, ActionListener<Void> listener) {
+        final DiscoveryNode masterNode = clusterService.state().nodes().getMasterNode();
+        if (masterNode == null) {
+            listener.onFailure(new NotMasterException("no master to send timestamp range of " + entry.shardId + " to"));
+            return;
+        }
+        if (masterNode.getVersion().before(Version.V_1_1_0)) {
+            listener.onFailure(new IllegalStateException("master node [" + masterNode + "] does not support timestamp ranges"));
+            return;
+        }
+        transportService.sendRequest(masterNode, ACTION_NAME, entry, new TransportResponseHandler<TransportResponse.Empty>() {
+            @Override
+            public TransportResponse.Empty read(StreamInput in) {
+                return TransportResponse.Empty.INSTANCE;
+            }
+
+            @Override
+            public void handleResponse(TransportResponse.Empty response) {
+                listener.onResponse(null);
+            }
+
+            @Override
+            public void handleException(TransportException exp) {
+                listener.onFailure(exp);
+            }
+
+            @Override
+            public String executor() {
+                return ThreadPool.Names.SAME;
+            }
+        });
+    }
+
+    private static class ShardTimestampRangeTransportHandler implements TransportRequestHandler<ShardTimestampRangeEntry> {
+        private final ClusterService clusterService;
+        private final ShardTimestampRangeClusterStateTaskExecutor executor;
+
+        ShardTimestampRangeTransportHandler(ClusterService clusterService, ShardTimestampRangeClusterStateTaskExecutor executor) {
+            this.clusterService = clusterService;
+            this.executor = executor;
+        }
+
+        @Override
+        public void messageReceived(ShardTimestampRangeEntry request, TransportChannel channel, Task task) throws Exception {
+            logger.debug("{} received shard timestamp range [{}]", request.shardId, request);
+            clusterService.submitStateUpdateTask(
+                "shard-timestamp-range " + request,
+                request,
+                ClusterStateTaskConfig.build(Priority.NORMAL),
+                executor,
+                executor);
+            channel.sendResponse(TransportResponse.Empty.INSTANCE);
+        }
+    }
+
+    public static class ShardTimestampRangeClusterStateTaskExecutor
+            implements ClusterStateTaskExecutor<ShardTimestampRangeEntry>, ClusterStateTaskListener {
+
+        @Override
+        public ClusterTasksResult<ShardTimestampRangeEntry> execute(ClusterState currentState,
+                                                                    List<ShardTimestampRangeEntry> tasks) throws Exception {
+            Metadata.Builder metadataBuilder = null;
+            for (ShardTimestampRangeEntry task : tasks) {
+                final ShardRouting matched = currentState.getRoutingTable().getByAllocationId(task.shardId, task.allocationId);
+                // like shard started tasks, stale tasks are ignored rather than failed: the range is reported again as long as it is
+                // missing from the index metadata
+                if (matched == null || matched.primary() == false) {
+                    logger.debug("{} ignoring shard timestamp range [{}] (shard is not the primary anymore)", task.shardId, task);
+                    continue;
+                }
+                final IndexMetadata indexMetadata = metadataBuilder == null
+                    ? currentState.metadata().getIndexSafe(task.shardId.getIndex())
+                    : metadataBuilder.getSafe(task.shardId.getIndex());
+                if (indexMetadata.getSettingsVersion() != task.settingsVersion
+                        || IndexTimestampRange.isBlockedForWrites(indexMetadata) == false) {
+                    logger.debug("{} ignoring shard timestamp range [{}] (index settings changed, current settings version [{}])",
+                        task.shardId, task, indexMetadata.getSettingsVersion());
+                } else {
+                    if (metadataBuilder == null) {
+                        metadataBuilder = Metadata.builder(currentState.metadata());
+                    }
+                    final IndexTimestampRange timestampRange = indexMetadata.getTimestampRange().withShardRange(
+                        indexMetadata.getNumberOfShards(), task.shardId.id(), task.field, task.format, task.settingsVersion,
+                        task.min, task.max);
+                    metadataBuilder.put(IndexMetadata.builder(indexMetadata).timestampRange(timestampRange));
+                }
+            }
+            final ClusterState resultingState = metadataBuilder == null
+                ? currentState
+                : ClusterState.builder(currentState).metadata(metadataBuilder).build();
+            return ClusterTasksResult.<ShardTimestampRangeEntry>builder().successes(tasks).build(resultingState);
+        }
+
+        @Override
+        public void onFailure(String source, Exception e) {
+            if (e instanceof FailedToCommitClusterStateException || e instanceof NotMasterException) {
+                logger.debug(() -> new ParameterizedMessage("failure during [{}]", source), e);
+            } else {
+                logger.warn(() -> new ParameterizedMessage("unexpected failure during [{}]", source), e);
+            }
+        }
+    }
+
+    public static class ShardTimestampRangeEntry extends TransportRequest {
+        final ShardId shardId;
+        final String allocationId;
+        final long settingsVersion;
+        final String field;
+        @Nullable
+        final String format;
+        final long min;
+        final long max;
+
+        ShardTimestampRangeEntry(StreamInput in) throws IOException {
+            super(in);
+            shardId = new ShardId(in);
+            allocationId = in.readString();
+            settingsVersion = in.readVLong();
+            field = in.readString();
+            format = in.readOptionalString();
+            min = in.readZLong();
+            max = in.readZLong();
+        }
+
+        /**
+         * @param min the minimum value of the shard, or {@link Long#MAX_VALUE} if the shard has no value
+         * @param max the maximum value of the shard, or {@link Long#MIN_VALUE} if the shard has no value
+         */
+        public ShardTimestampRangeEntry(ShardId shardId, String allocationId, long settingsVersion, String field,
+                                        @Nullable String format, long min, long max) {
+            this.shardId = shardId;
+            this.allocationId = allocationId;
+            this.settingsVersion = settingsVersion;
+            this.field = field;
+            this.format = format;
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            super.writeTo(out);
+            shardId.writeTo(out);
+            out.writeString(allocationId);
+            out.writeVLong(settingsVersion);
+            out.writeString(field);
+            out.writeOptionalString(format);
+            out.writeZLong(min);
+            out.writeZLong(max);
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT,
+                "ShardTimestampRangeEntry{shardId [%s], allocationId [%s], settings version [%d], field [%s], range [%d, %d]}",
+                shardId, allocationId, settingsVersion, field, min, max);
+        }
+    }
+}
@@ -0,0 +1,318 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cluster.metadata;
+
+import org.opensearch.common.Nullable;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.xcontent.ToXContentFragment;
+import org.opensearch.common.xcontent.XContentBuilder;
+import org.opensearch.common.xcontent.XContentParser;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The range of the values of the timestamp field of an index, per shard, in milliseconds since the epoch. The ranges are reported
+ * by the primaries of the index once the index is blocked for writes, and are only valid for the {@link #getSettingsVersion() settings
+ * version} of the index they were computed for, since unblocking the index for writes changes its settings. The coordinating node uses
+ * them to skip the shards that cannot match a range query on the timestamp field without sending them a can match request.
+ */
+public final class IndexTimestampRange implements Writeable, ToXContentFragment {
+
+    public static final IndexTimestampRange UNKNOWN = new IndexTimestampRange(null, null, -1L, new ShardRange[0]);
+
+    private static final String KEY_FIELD = "field";
+    private static final String KEY_FORMAT = "format";
+    private static final String KEY_SETTINGS_VERSION = "settings_version";
+    private static final String KEY_SHARDS = "shards";
+    private static final String KEY_MIN = "min";
+    private static final String KEY_MAX = "max";
+
+    private final String field;
+    private final String format;
+    private final long settingsVersion;
+    // null if the range of the shard is unknown
+    private final ShardRange[] shards;
+
+    private IndexTimestampRange(String field, String format, long settingsVersion, ShardRange[] shards) {
+        this.field = field;
+        this.format = format;
+        this.settingsVersion = settingsVersion;
+        this.shards = shards;
+    }
+
+    public IndexTimestampRange(StreamInput in) throws IOException {
+        field = in.readOptionalString();
+        format = in.readOptionalString();
+        settingsVersion = in.readZLong();
+        shards = new ShardRange[in.readVInt()];
+        for (int i = 0; i < shards.length; i++) {
+            if (in.readBoolean()) {
+                shards[i] = new ShardRange(in.readZLong(), in.readZLong());
+            }
+        }
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeOptionalString(field);
+        out.writeOptionalString(format);
+        out.writeZLong(settingsVersion);
+        out.writeVInt(shards.length);
+        for (ShardRange shard : shards) {
+            out.writeBoolean(shard != null);
+            if (shard != null) {
+                out.writeZLong(shard.min);
+                out.writeZLong(shard.max);
+            }
+        }
+    }
+
+    /**
+     * Returns a copy of this range with the range of the given shard. The ranges of the other shards are discarded if they were
+     * computed for another field, format or settings version.
+     *
+     * @param min the minimum value of the shard, or {@link Long#MAX_VALUE} if the shard has no value
+     * @param max the maximum value of the shard, or {@link Long#MIN_VALUE} if the shard has no value
+     */
+    public IndexTimestampRange withShardRange(int numberOfShards, int shardId, String field, String format, long settingsVersion,
+                                              long min, long max) {
+        final ShardRange[] newShards;
+        if (numberOfShards == shards.length && settingsVersion == this.settingsVersion && field.equals(this.field)
+                && Objects.equals(format, this.format)) {
+            newShards = shards.clone();
+        } else {
+            newShards = new ShardRange[numberOfShards];
+        }
+        newShards[shardId] = new ShardRange(min, max);
+        return new IndexTimestampRange(field, format, settingsVersion, newShards);
+    }
+
+    /**
+     * The timestamp field, or <code>null</code> if no range is known.
+     */
+    @Nullable
+    public String getField() {
+        return field;
+    }
+
+    /**
+     * The date format of the timestamp field, used to parse the bounds of range queries that do not specify a format.
+     */
+    @Nullable
+    public String getFormat() {
+        return format;
+    }
+
+    /**
+     * The settings version of the index the ranges were computed for.
+     */
+    public long getSettingsVersion() {
+        return settingsVersion;
+    }
+
+    /**
+     * Returns true if the ranges were computed for the current settings of the given index and the index is still blocked for
+     * writes, in which case the documents of its shards are guaranteed to be within the ranges.
+     */
+    public boolean appliesTo(IndexMetadata indexMetadata) {
+        return field != null && settingsVersion == indexMetadata.getSettingsVersion() && isBlockedForWrites(indexMetadata);
+    }
+
+    /**
+     * Returns true if the settings of the given index block it for writes. Unlike the blocks that are only held in the cluster state,
+     * removing these blocks changes the settings version of the index, which invalidates its timestamp range.
+     */
+    public static boolean isBlockedForWrites(IndexMetadata indexMetadata) {
+        final Settings settings = indexMetadata.getSettings();
+        return indexMetadata.getState() == IndexMetadata.State.OPEN
+            && (IndexMetadata.INDEX_BLOCKS_WRITE_SETTING.get(settings)
+                || IndexMetadata.INDEX_READ_ONLY_SETTING.get(settings)
+                || IndexMetadata.INDEX_BLOCKS_READ_ONLY_ALLOW_DELETE_SETTING.get(settings));
+    }
+
+    /**
+     * Returns true if the range of the given shard is known.
+     */
+    public boolean hasShardRange(int shardId) {
+        return shardId < shards.length && shards[shardId] != null;
+    }
+
+    /**
+     * Returns true if the range of every shard is known.
+     */
+    public boolean isComplete() {
+        if (shards.length == 0) {
+            return false;
+        }
+        for (ShardRange shard : shards) {
+            if (shard == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns false if the range of the given shard is known and does not intersect with the given range, in which case the shard
+     * cannot have a document whose timestamp is within the given range.
+     */
+    public boolean mayIntersect(int shardId, long from, long to) {
+        if (hasShardRange(shardId) == false) {
+            return true;
+        }
+        final ShardRange shard = shards[shardId];
+        return shard.min <= shard.max && shard.min <= to && shard.max >= from;
+    }
+
+    /**
+     * The minimum timestamp of the given shard, {@link Long#MAX_VALUE} if the shard has no value.
+     */
+    public long getMin(int shardId) {
+        assert hasShardRange(shardId);
+        return shards[shardId].min;
+    }
+
+    /**
+     * The maximum timestamp of the given shard, {@link Long#MIN_VALUE} if the shard has no value.
+     */
+    public long getMax(int shardId) {
+        assert hasShardRange(shardId);
+        return shards[shardId].max;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject(IndexMetadata.KEY_TIMESTAMP_RANGE);
+        builder.field(KEY_FIELD, field);
+        if (format != null) {
+            builder.field(KEY_FORMAT, format);
+        }
+        builder.field(KEY_SETTINGS_VERSION, settingsVersion);
+        builder.startArray(KEY_SHARDS);
+        for (ShardRange shard : shards) {
+            if (shard == null) {
+                builder.nullValue();
+            } else {
+                builder.startObject();
+                builder.field(KEY_MIN, shard.min);
+                builder.field(KEY_MAX, shard.max);
+                builder.endObject();
+            }
+        }
+        builder.endArray();
+        builder.endObject();
+        return builder;
+    }
+
+    public static IndexTimestampRange fromXContent(XContentParser parser) throws IOException {
+        String field = null;
+        String format = null;
+        long settingsVersion = -1L;
+        List<ShardRange> shards = new ArrayList<>();
+        String currentFieldName = null;
+        XContentParser.Token token;
+        while ((token = parser.nextToken()) != XContentParser.Token.END_OBJECT) {
+            if (token == XContentParser.Token.FIELD_NAME) {
+                currentFieldName = parser.currentName();
+            } else if (token == XContentParser.Token.START_ARRAY && KEY_SHARDS.equals(currentFieldName)) {
+                while ((token = parser.nextToken()) != XContentParser.Token.END_ARRAY) {
+                    if (token == XContentParser.Token.VALUE_NULL) {
+                        shards.add(null);
+                    } else if (token == XContentParser.Token.START_OBJECT) {
+                        long min = Long.MAX_VALUE;
+                        long max = Long.MIN_VALUE;
+                        while ((token = parser.nextToken()) != XContentParser.Token.END_OBJECT) {
+                            if (token == XContentParser.Token.FIELD_NAME) {
+                                currentFieldName = parser.currentName();
+                            } else if (KEY_MIN.equals(currentFieldName)) {
+                                min = parser.longValue();
+                            } else if (KEY_MAX.equals(currentFieldName)) {
+                                max = parser.longValue();
+                            } else {
+                                throw new IllegalArgumentException("Unexpected field [" + currentFieldName + "]");
+                            }
+                        }
+                        shards.add(new ShardRange(min, max));
+                    } else {
+                        throw new IllegalArgumentException("Unexpected token " + token);
+                    }
+                }
+            } else if (token.isValue()) {
+                if (KEY_FIELD.equals(currentFieldName)) {
+                    field = parser.text();
+                } else if (KEY_FORMAT.equals(currentFieldName)) {
+                    format = parser.text();
+                } else if (KEY_SETTINGS_VERSION.equals(currentFieldName)) {
+                    settingsVersion = parser.longValue();
+                } else {
+                    throw new IllegalArgumentException("Unexpected field [" + currentFieldName + "]");
+                }
+            } else {
+                throw new IllegalArgumentException("Unexpected token " + token);
+            }
+        }
+        return new IndexTimestampRange(field, format, settingsVersion, shards.toArray(new ShardRange[0]));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        IndexTimestampRange that = (IndexTimestampRange) o;
+        return settingsVersion == that.settingsVersion
+            && Objects.equals(field, that.field)
+            && Objects.equals(format, that.format)
+            && Arrays.equals(shards, that.shards);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(field, format, settingsVersion, Arrays.hashCode(shards));
+    }
+
+    @Override
+    public String toString() {
+        return "IndexTimestampRange{field=" + field + ", settingsVersion=" + settingsVersion + ", shards=" + Arrays.toString(shards) + "}";
+    }
+
+    private static final class ShardRange {
+        private final long min;
+        private final long max;
+
+        private ShardRange(long min, long max) {
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            ShardRange that = (ShardRange) o;
+            return min == that.min && max == that.max;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(min, max);
+        }
+
+        @Override
+        public String toString() {
+            return "[" + min + ", " + max + "]";
+        }
+    }
+}
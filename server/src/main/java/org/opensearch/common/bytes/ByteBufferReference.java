@@ -0,0 +1,115 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.bytes;
+
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.BytesRefIterator;
+import org.opensearch.common.io.stream.ByteBufferStreamInput;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.util.PageCacheRecycler;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * A {@link BytesReference} over a {@link ByteBuffer} that has no backing array, such as a direct buffer of the network layer. The bytes
+ * are read in place by its {@link #streamInput() stream}, also when it is part of a {@link CompositeBytesReference}, and are written
+ * through a single scratch page by {@link #writeTo(OutputStream)}. They are only copied to the heap by its {@link #iterator() iterator},
+ * one page at a time, and by {@link #toBytesRef()}.
+ */
+public final class ByteBufferReference extends AbstractBytesReference {
+
+    private final ByteBuffer buffer;
+    private final int length;
+
+    ByteBufferReference(ByteBuffer buffer) {
+        assert buffer.hasArray() == false : "buffers with a backing array are referenced through a BytesArray";
+        this.buffer = buffer.slice();
+        this.length = buffer.remaining();
+    }
+
+    @Override
+    public byte get(int index) {
+        return buffer.get(index);
+    }
+
+    @Override
+    public int getInt(int index) {
+        return buffer.getInt(index);
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public BytesReference slice(int from, int length) {
+        if (from < 0 || (from + length) > this.length) {
+            throw new IllegalArgumentException("can't slice a buffer with length [" + this.length +
+                "], with slice parameters from [" + from + "], length [" + length + "]");
+        }
+        final ByteBuffer slice = buffer.duplicate();
+        slice.position(from);
+        slice.limit(from + length);
+        return new ByteBufferReference(slice);
+    }
+
+    @Override
+    public BytesRef toBytesRef() {
+        final byte[] bytes = new byte[length];
+        buffer.duplicate().get(bytes);
+        return new BytesRef(bytes);
+    }
+
+    @Override
+    public long ramBytesUsed() {
+        return buffer.capacity();
+    }
+
+    @Override
+    public BytesRefIterator iterator() {
+        final ByteBuffer remaining = buffer.duplicate();
+        return () -> {
+            if (remaining.hasRemaining() == false) {
+                return null;
+            }
+            // every page is a new array since callers may hold on to the pages they iterated over
+            final byte[] page = new byte[Math.min(remaining.remaining(), PageCacheRecycler.BYTE_PAGE_SIZE)];
+            remaining.get(page);
+            return new BytesRef(page);
+        };
+    }
+
+    @Override
+    public void writeTo(OutputStream os) throws IOException {
+        final ByteBuffer remaining = buffer.duplicate();
+        final byte[] page = new byte[Math.min(length, PageCacheRecycler.BYTE_PAGE_SIZE)];
+        while (remaining.hasRemaining()) {
+            final int pageLength = Math.min(remaining.remaining(), page.length);
+            remaining.get(page, 0, pageLength);
+            os.write(page, 0, pageLength);
+        }
+    }
+
+    @Override
+    public StreamInput streamInput() {
+        return new ByteBufferStreamInput(buffer.duplicate()) {
+            @Override
+            public void readBytes(byte[] b, int offset, int len) throws IOException {
+                // reading past the end of a reference fails like for the other references
+                if (len > available()) {
+                    throw new IndexOutOfBoundsException("Cannot read " + len + " bytes from stream with length " + length);
+                }
+                super.readBytes(b, offset, len);
+            }
+        };
+    }
+}
@@ -118,10 +118,13 @@ public interface BytesReference extends Comparable<BytesReference>, ToXContentFr
     }
 
     /**
-     * Returns BytesReference composed of the provided ByteBuffer.
+     * Returns BytesReference composed of the provided ByteBuffer. Buffers without a backing array, such as direct buffers, are referenced
+     * rather than copied to the heap.
      */
     static BytesReference fromByteBuffer(ByteBuffer buffer) {
-        assert buffer.hasArray();
+        if (buffer.hasArray() == false) {
+            return new ByteBufferReference(buffer);
+        }
         return new BytesArray(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
     }
 
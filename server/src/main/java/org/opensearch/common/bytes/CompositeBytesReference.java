@@ -38,6 +38,9 @@ import org.apache.lucene.util.BytesRefIterator;
 import org.apache.lucene.util.FutureObjects;
 import org.apache.lucene.util.RamUsageEstimator;
 
+import org.opensearch.common.io.stream.StreamInput;
+
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.Arrays;
@@ -47,7 +50,8 @@ import java.util.Objects;
  * A composite {@link BytesReference} that allows joining multiple bytes references
  * into one without copying.
  *
- * Note, {@link #toBytesRef()} will materialize all pages in this BytesReference.
+ * Note, {@link #toBytesRef()} will materialize all pages in this BytesReference. A composite of {@link ByteBufferReference}s is
+ * streamed through the streams of its references, so that its buffers are read in place rather than copied to the heap page by page.
  */
 public final class CompositeBytesReference extends AbstractBytesReference {
 
@@ -55,6 +59,7 @@ public final class CompositeBytesReference extends AbstractBytesReference {
     private final int[] offsets;
     private final int length;
     private final long ramBytesUsed;
+    private final boolean readsInPlace;
 
     public static BytesReference of(BytesReference... references) {
         switch (references.length) {
@@ -74,6 +79,7 @@ public final class CompositeBytesReference extends AbstractBytesReference {
         this.offsets = new int[references.length];
         long ramBytesUsed = 0;
         int offset = 0;
+        boolean readsInPlace = false;
         for (int i = 0; i < references.length; i++) {
             BytesReference reference = references[i];
             if (reference == null) {
@@ -82,7 +88,9 @@ public final class CompositeBytesReference extends AbstractBytesReference {
             offsets[i] = offset; // we use the offsets to seek into the right BytesReference for random access and slicing
             offset += reference.length();
             ramBytesUsed += reference.ramBytesUsed();
+            readsInPlace |= readsInPlace(reference);
         }
+        this.readsInPlace = readsInPlace;
         this.ramBytesUsed = ramBytesUsed
             + (Integer.BYTES * offsets.length + RamUsageEstimator.NUM_BYTES_ARRAY_HEADER) // offsets
             + (references.length * RamUsageEstimator.NUM_BYTES_OBJECT_REF + RamUsageEstimator.NUM_BYTES_ARRAY_HEADER) // references
@@ -158,6 +166,14 @@ public final class CompositeBytesReference extends AbstractBytesReference {
         return new CompositeBytesReference(inSlice);
     }
 
+    private static boolean readsInPlace(BytesReference reference) {
+        if (reference instanceof ReleasableBytesReference) {
+            reference = ((ReleasableBytesReference) reference).delegate();
+        }
+        return reference instanceof ByteBufferReference
+            || (reference instanceof CompositeBytesReference && ((CompositeBytesReference) reference).readsInPlace);
+    }
+
     private int getOffsetIndex(int offset) {
         final int i = Arrays.binarySearch(offsets, offset);
         return i < 0 ? (-(i + 1)) - 1 : i;
@@ -179,6 +195,11 @@ public final class CompositeBytesReference extends AbstractBytesReference {
         return builder.toBytesRef();
     }
 
+    @Override
+    public StreamInput streamInput() throws IOException {
+        return readsInPlace ? new CompositeStreamInput() : super.streamInput();
+    }
+
     @Override
     public BytesRefIterator iterator() {
         return new BytesRefIterator() {
@@ -213,4 +234,159 @@ public final class CompositeBytesReference extends AbstractBytesReference {
     public long ramBytesUsed() {
        return ramBytesUsed;
     }
+
+    /**
+     * A StreamInput that reads off the streams of the references in turn.
+     */
+    private final class CompositeStreamInput extends StreamInput {
+
+        private int index;
+        private StreamInput current;
+        private int mark = 0;
+
+        CompositeStreamInput() throws IOException {
+            open(0);
+        }
+
+        private void open(int referenceIndex) throws IOException {
+            index = referenceIndex;
+            current = references[referenceIndex].streamInput();
+        }
+
+        private int offset() throws IOException {
+            return offsets[index] + references[index].length() - current.available();
+        }
+
+        /**
+         * Moves on to the next non-empty reference once the current one is read fully, returns the number of bytes left to read in it.
+         */
+        private int maybeNextReference() throws IOException {
+            int available = current.available();
+            while (available == 0 && index < references.length - 1) {
+                open(index + 1);
+                available = current.available();
+            }
+            return available;
+        }
+
+        @Override
+        public byte readByte() throws IOException {
+            if (maybeNextReference() == 0) {
+                throw new EOFException();
+            }
+            return current.readByte();
+        }
+
+        @Override
+        public short readShort() throws IOException {
+            return maybeNextReference() >= Short.BYTES ? current.readShort() : super.readShort();
+        }
+
+        @Override
+        public int readInt() throws IOException {
+            return maybeNextReference() >= Integer.BYTES ? current.readInt() : super.readInt();
+        }
+
+        @Override
+        public long readLong() throws IOException {
+            return maybeNextReference() >= Long.BYTES ? current.readLong() : super.readLong();
+        }
+
+        @Override
+        public void readBytes(byte[] b, int bOffset, int len) throws IOException {
+            final int offset = offset();
+            if (offset + len > length) {
+                throw new IndexOutOfBoundsException(
+                    "Cannot read " + len + " bytes from stream with length " + length + " at offset " + offset);
+            }
+            int remaining = len;
+            while (remaining > 0) {
+                final int currentLen = Math.min(remaining, maybeNextReference());
+                assert currentLen > 0 : "length has to be > 0 to make progress but was: " + currentLen;
+                current.readBytes(b, bOffset, currentLen);
+                bOffset += currentLen;
+                remaining -= currentLen;
+            }
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (available() == 0) {
+                return -1;
+            }
+            return Byte.toUnsignedInt(readByte());
+        }
+
+        @Override
+        public int read(byte[] b, int bOffset, int len) throws IOException {
+            final int available = available();
+            if (available == 0) {
+                return -1;
+            }
+            final int numBytesToRead = Math.min(len, available);
+            readBytes(b, bOffset, numBytesToRead);
+            return numBytesToRead;
+        }
+
+        @Override
+        public void close() {
+            // do nothing
+        }
+
+        @Override
+        public int available() throws IOException {
+            return length - offset();
+        }
+
+        @Override
+        protected void ensureCanReadBytes(int bytesToRead) throws EOFException {
+            final int bytesAvailable;
+            try {
+                bytesAvailable = available();
+            } catch (IOException e) {
+                throw new AssertionError("won't happen", e); // the references are in memory
+            }
+            if (bytesAvailable < bytesToRead) {
+                throw new EOFException("tried to read: " + bytesToRead + " bytes but only " + bytesAvailable + " remaining");
+            }
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            if (n <= 0L) {
+                return 0L;
+            }
+            final int numBytesSkipped = (int) Math.min(n, available());
+            int remaining = numBytesSkipped;
+            while (remaining > 0) {
+                final int currentLen = Math.min(remaining, maybeNextReference());
+                final long skipped = current.skip(currentLen);
+                assert skipped == currentLen : skipped + " vs " + currentLen;
+                remaining -= currentLen;
+            }
+            return numBytesSkipped;
+        }
+
+        @Override
+        public void reset() throws IOException {
+            open(getOffsetIndex(mark));
+            final int toSkip = mark - offsets[index];
+            final long skipped = current.skip(toSkip);
+            assert skipped == toSkip : skipped + " vs " + toSkip;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return true;
+        }
+
+        @Override
+        public void mark(int readLimit) {
+            try {
+                this.mark = offset();
+            } catch (IOException e) {
+                throw new AssertionError("won't happen", e); // the references are in memory
+            }
+        }
+    }
 }
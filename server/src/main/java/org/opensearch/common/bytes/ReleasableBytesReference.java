@@ -76,6 +76,10 @@ public final class ReleasableBytesReference implements Releasable, BytesReferenc
         return this;
     }
 
+    BytesReference delegate() {
+        return delegate;
+    }
+
     public ReleasableBytesReference retainedSlice(int from, int length) {
         return new ReleasableBytesReference(delegate.slice(from, length), refCounted);
     }
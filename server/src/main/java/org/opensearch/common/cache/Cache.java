@@ -83,16 +83,16 @@ import java.util.function.ToLongBiFunction;
 public class Cache<K, V> {
 
     // positive if entries have an expiration
-    private long expireAfterAccessNanos = -1;
+    long expireAfterAccessNanos = -1;
 
     // true if entries can expire after access
-    private boolean entriesExpireAfterAccess;
+    boolean entriesExpireAfterAccess;
 
     // positive if entries have an expiration after write
-    private long expireAfterWriteNanos = -1;
+    long expireAfterWriteNanos = -1;
 
     // true if entries can expire after initial insertion
-    private boolean entriesExpireAfterWrite;
+    boolean entriesExpireAfterWrite;
 
     // the number of entries in the cache
     private int count = 0;
@@ -101,17 +101,27 @@ public class Cache<K, V> {
     private long weight = 0;
 
     // the maximum weight that this cache supports
-    private long maximumWeight = -1;
+    long maximumWeight = -1;
 
     // the weigher of entries
-    private ToLongBiFunction<K, V> weigher = (k, v) -> 1;
+    ToLongBiFunction<K, V> weigher = (k, v) -> 1;
 
     // the removal callback
-    private RemovalListener<K, V> removalListener = notification -> {
+    RemovalListener<K, V> removalListener = notification -> {
     };
 
     // use CacheBuilder to construct
     Cache() {
+        this(NUMBER_OF_SEGMENTS);
+    }
+
+    // pkg-private for implementations that override all operations and do not use the segments
+    @SuppressWarnings("unchecked")
+    Cache(int numberOfSegments) {
+        segments = new CacheSegment[numberOfSegments];
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = new CacheSegment<>();
+        }
     }
 
     void setExpireAfterAccessNanos(long expireAfterAccessNanos) {
@@ -168,6 +178,21 @@ public class Cache<K, V> {
         return entriesExpireAfterAccess || entriesExpireAfterWrite ? System.nanoTime() : 0;
     }
 
+    /**
+     * The policy used to evict entries when the cache exceeds its maximum weight.
+     */
+    public enum EvictionPolicy {
+        /**
+         * Evicts the least recently used entry, every hit promotes the entry under a global lock.
+         */
+        LRU,
+        /**
+         * Evicts the least frequently used of the entry that overflows a small admission window and the least recently used entry
+         * of the main space, hits are buffered and do not lock. See {@link TinyLfuCache}.
+         */
+        TINY_LFU
+    }
+
     // the state of an entry in the LRU list
     enum State {
         NEW, EXISTING, DELETED
@@ -349,13 +374,7 @@ public class Cache<K, V> {
     }
 
     public static final int NUMBER_OF_SEGMENTS = 256;
-    @SuppressWarnings("unchecked") private final CacheSegment<K, V>[] segments = new CacheSegment[NUMBER_OF_SEGMENTS];
-
-    {
-        for (int i = 0; i < segments.length; i++) {
-            segments[i] = new CacheSegment<>();
-        }
-    }
+    private final CacheSegment<K, V>[] segments;
 
     Entry<K, V> head;
     Entry<K, V> tail;
@@ -0,0 +1,674 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * A concurrent cache with a W-TinyLFU eviction policy that implements the same operations as the LRU {@link Cache}.
+ * <p>
+ * The entries are stored in a {@link ConcurrentHashMap} which is read without locking. The eviction policy is guarded by a single
+ * lock that is taken on writes only: hits record the accessed entry in one of several striped, lossy ring buffers that are drained
+ * into the policy when one of them is full or on the next write, rather than reordering a list under a lock on every hit. Accesses
+ * that do not fit in the buffers are dropped, which only makes the policy slightly less accurate.
+ * <p>
+ * The maximum weight is split between a small admission window (1%) and a main space, which is a segmented LRU made of a
+ * probation and a protected (80%) segment. Entries that overflow the window are only admitted to the main space if they were
+ * accessed more frequently than the entry that would be evicted in their place, as estimated by a {@link FrequencySketch}. This
+ * keeps scans and entries that are used only once from flushing frequently used entries as they do with a plain LRU.
+ * <p>
+ * Caches without a maximum weight or an expiration after access do not need to order their entries, hits are only a lookup in the
+ * map for them. As with {@link Cache}, expired entries are returned as misses and removed on the next write or {@link #refresh()}.
+ *
+ * @param <K> The type of the keys
+ * @param <V> The type of the values
+ */
+class TinyLfuCache<K, V> extends Cache<K, V> {
+
+    private static final double WINDOW_RATIO = 0.01;
+    private static final double PROTECTED_RATIO = 0.8;
+    private static final int READ_BUFFER_SIZE = 16;
+    private static final int NUMBER_OF_READ_BUFFERS =
+        Math.min(64, Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() * 4 - 1)) << 1);
+
+    private final ConcurrentHashMap<K, CompletableFuture<Node<K, V>>> map = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    // lock protecting the eviction policy
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final AccessOrderQueue<K, V> window = new AccessOrderQueue<>();
+    private final AccessOrderQueue<K, V> probation = new AccessOrderQueue<>();
+    private final AccessOrderQueue<K, V> protectedSegment = new AccessOrderQueue<>();
+    private List<RemovalNotification<K, V>> pendingNotifications = new ArrayList<>();
+    private long windowMaximumWeight = -1;
+    private long protectedMaximumWeight = -1;
+    // null if the cache is not bounded by weight
+    private FrequencySketch sketch;
+    // null if the cache does not need to track accesses
+    private ReadBuffer<K, V>[] readBuffers;
+
+    private volatile int count;
+    private volatile long weight;
+
+    // use CacheBuilder to construct
+    TinyLfuCache() {
+        super(0);
+    }
+
+    @Override
+    void setMaximumWeight(long maximumWeight) {
+        super.setMaximumWeight(maximumWeight);
+        this.windowMaximumWeight = (long) (maximumWeight * WINDOW_RATIO);
+        this.protectedMaximumWeight = (long) ((maximumWeight - windowMaximumWeight) * PROTECTED_RATIO);
+        this.sketch = new FrequencySketch();
+        initReadBuffers();
+    }
+
+    @Override
+    void setExpireAfterAccessNanos(long expireAfterAccessNanos) {
+        super.setExpireAfterAccessNanos(expireAfterAccessNanos);
+        initReadBuffers();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void initReadBuffers() {
+        if (readBuffers == null) {
+            readBuffers = new ReadBuffer[NUMBER_OF_READ_BUFFERS];
+            for (int i = 0; i < readBuffers.length; i++) {
+                readBuffers[i] = new ReadBuffer<>();
+            }
+        }
+    }
+
+    // the segment of the eviction policy that an entry belongs to
+    enum State {
+        NEW, WINDOW, PROBATION, PROTECTED, DELETED
+    }
+
+    static final class Node<K, V> {
+        final K key;
+        final V value;
+        final long weight;
+        final long writeTime;
+        volatile long accessTime;
+        final CompletableFuture<Node<K, V>> future;
+        // guarded by the eviction lock
+        Node<K, V> before;
+        Node<K, V> after;
+        State state = State.NEW;
+
+        Node(K key, V value, long weight, long writeTime, CompletableFuture<Node<K, V>> future) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+            this.writeTime = this.accessTime = writeTime;
+            this.future = future;
+        }
+    }
+
+    /**
+     * A doubly-linked list of entries in access order, from the least to the most recently used entry.
+     */
+    private static final class AccessOrderQueue<K, V> {
+        Node<K, V> head;
+        Node<K, V> tail;
+        long weight;
+
+        void add(Node<K, V> node) {
+            node.before = tail;
+            node.after = null;
+            if (tail == null) {
+                head = node;
+            } else {
+                tail.after = node;
+            }
+            tail = node;
+            weight += node.weight;
+        }
+
+        void remove(Node<K, V> node) {
+            if (node.before == null) {
+                head = node.after;
+            } else {
+                node.before.after = node.after;
+            }
+            if (node.after == null) {
+                tail = node.before;
+            } else {
+                node.after.before = node.before;
+            }
+            node.before = node.after = null;
+            weight -= node.weight;
+        }
+
+        void moveToTail(Node<K, V> node) {
+            if (tail != node) {
+                remove(node);
+                add(node);
+            }
+        }
+    }
+
+    /**
+     * A bounded, lossy buffer of accessed entries. Any thread can offer entries but the buffer is only drained by the thread that
+     * holds the eviction lock.
+     */
+    private static final class ReadBuffer<K, V> {
+        private static final int MASK = READ_BUFFER_SIZE - 1;
+
+        private final AtomicReferenceArray<Node<K, V>> buffer = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+        private final AtomicLong writeCounter = new AtomicLong();
+        private volatile long readCounter;
+
+        /**
+         * Records the access of the given entry, returns false if the buffer is full and should be drained. The access is dropped
+         * if another thread records an access concurrently.
+         */
+        boolean offer(Node<K, V> node) {
+            final long head = readCounter;
+            final long tail = writeCounter.get();
+            if (tail - head >= READ_BUFFER_SIZE) {
+                return false;
+            }
+            if (writeCounter.compareAndSet(tail, tail + 1)) {
+                buffer.lazySet((int) (tail & MASK), node);
+            }
+            return true;
+        }
+
+        void drain(TinyLfuCache<K, V> cache) {
+            long head = readCounter;
+            final long tail = writeCounter.get();
+            while (head < tail) {
+                final int index = (int) (head & MASK);
+                final Node<K, V> node = buffer.get(index);
+                if (node == null) {
+                    // the slot was claimed but the entry is not visible yet
+                    break;
+                }
+                buffer.lazySet(index, null);
+                cache.onAccess(node);
+                head++;
+            }
+            readCounter = head;
+        }
+    }
+
+    @Override
+    public V get(K key) {
+        return get(key, now(), false);
+    }
+
+    private V get(K key, long now, boolean evictIfExpired) {
+        final Node<K, V> node = getNode(map.get(key));
+        if (node == null) {
+            misses.increment();
+            return null;
+        }
+        if (isExpired(node, now)) {
+            misses.increment();
+            if (evictIfExpired) {
+                evictionLock.lock();
+                try {
+                    evict(node, RemovalNotification.RemovalReason.EVICTED);
+                } finally {
+                    unlockAndNotify();
+                }
+            }
+            return null;
+        }
+        hits.increment();
+        if (entriesExpireAfterAccess) {
+            node.accessTime = now;
+        }
+        afterRead(node);
+        return node.value;
+    }
+
+    /**
+     * Returns the entry of the given future once it is loaded, or null if there is none or it failed to load.
+     */
+    private static <K, V> Node<K, V> getNode(CompletableFuture<Node<K, V>> future) {
+        if (future == null) {
+            return null;
+        }
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            return null;
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public V computeIfAbsent(K key, CacheLoader<K, V> loader) throws ExecutionException {
+        final long now = now();
+        // expired entries are evicted eagerly so that they are not found by putIfAbsent below
+        final V value = get(key, now, true);
+        if (value != null) {
+            return value;
+        }
+        // the loader is invoked at most once per key and without holding any lock, concurrent callers wait on the future
+        final CompletableFuture<Node<K, V>> future = new CompletableFuture<>();
+        final CompletableFuture<Node<K, V>> existing = map.putIfAbsent(key, future);
+        if (existing != null) {
+            try {
+                return existing.get().value;
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        final V loaded;
+        try {
+            loaded = loader.load(key);
+            if (loaded == null) {
+                throw new NullPointerException("loader returned a null value");
+            }
+        } catch (Exception e) {
+            map.remove(key, future);
+            future.completeExceptionally(e);
+            throw new ExecutionException(e);
+        }
+        final Node<K, V> node = new Node<>(key, loaded, weigher.applyAsLong(key, loaded), now, future);
+        future.complete(node);
+        evictionLock.lock();
+        try {
+            onWrite(node, now);
+        } finally {
+            unlockAndNotify();
+        }
+        return loaded;
+    }
+
+    @Override
+    public void put(K key, V value) {
+        final long now = now();
+        final CompletableFuture<Node<K, V>> future = new CompletableFuture<>();
+        final Node<K, V> node = new Node<>(key, value, weigher.applyAsLong(key, value), now, future);
+        future.complete(node);
+        final Node<K, V> replaced = getNode(map.put(key, future));
+        evictionLock.lock();
+        try {
+            if (replaced != null) {
+                remove(replaced, RemovalNotification.RemovalReason.REPLACED);
+            }
+            onWrite(node, now);
+        } finally {
+            unlockAndNotify();
+        }
+    }
+
+    @Override
+    public void invalidate(K key) {
+        final Node<K, V> node = getNode(map.remove(key));
+        if (node != null) {
+            invalidate(node);
+        }
+    }
+
+    @Override
+    public void invalidate(K key, V value) {
+        final CompletableFuture<Node<K, V>> future = map.get(key);
+        if (future != null && future.isDone() && future.isCompletedExceptionally() == false) {
+            final Node<K, V> node = future.join();
+            if (Objects.equals(value, node.value) && map.remove(key, future)) {
+                invalidate(node);
+            }
+        }
+    }
+
+    private void invalidate(Node<K, V> node) {
+        evictionLock.lock();
+        try {
+            remove(node, RemovalNotification.RemovalReason.INVALIDATED);
+        } finally {
+            unlockAndNotify();
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        evictionLock.lock();
+        try {
+            for (CompletableFuture<Node<K, V>> future : map.values()) {
+                // entries that are still loading are considered to be added after the invalidation
+                if (future.isDone() && future.isCompletedExceptionally() == false) {
+                    final Node<K, V> node = future.join();
+                    if (map.remove(node.key, future)) {
+                        remove(node, RemovalNotification.RemovalReason.INVALIDATED);
+                    }
+                }
+            }
+        } finally {
+            unlockAndNotify();
+        }
+    }
+
+    @Override
+    public void refresh() {
+        final long now = now();
+        evictionLock.lock();
+        try {
+            drainReadBuffers();
+            if (entriesExpireAfterAccess || entriesExpireAfterWrite) {
+                expireAll(window, now);
+                expireAll(probation, now);
+                expireAll(protectedSegment, now);
+            }
+            evictEntries();
+        } finally {
+            unlockAndNotify();
+        }
+    }
+
+    @Override
+    public int count() {
+        return count;
+    }
+
+    @Override
+    public long weight() {
+        return weight;
+    }
+
+    /**
+     * The keys in the cache, in no particular order. Unlike {@link Cache#keys()}, the iteration is safe under concurrent mutations
+     * of the cache.
+     */
+    @Override
+    public Iterable<K> keys() {
+        return () -> new NodeIterator<>(this, node -> node.key);
+    }
+
+    /**
+     * The values in the cache, in no particular order. Unlike {@link Cache#values()}, the iteration is safe under concurrent
+     * mutations of the cache.
+     */
+    @Override
+    public Iterable<V> values() {
+        return () -> new NodeIterator<>(this, node -> node.value);
+    }
+
+    private static final class NodeIterator<K, V, T> implements Iterator<T> {
+        private final TinyLfuCache<K, V> cache;
+        private final Iterator<CompletableFuture<Node<K, V>>> iterator;
+        private final Function<Node<K, V>, T> function;
+        private Node<K, V> current;
+        private Node<K, V> next;
+
+        NodeIterator(TinyLfuCache<K, V> cache, Function<Node<K, V>, T> function) {
+            this.cache = cache;
+            this.iterator = cache.map.values().iterator();
+            this.function = function;
+            advance();
+        }
+
+        private void advance() {
+            next = null;
+            while (next == null && iterator.hasNext()) {
+                final CompletableFuture<Node<K, V>> future = iterator.next();
+                if (future.isDone() && future.isCompletedExceptionally() == false) {
+                    next = future.join();
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public T next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            current = next;
+            advance();
+            return function.apply(current);
+        }
+
+        @Override
+        public void remove() {
+            final Node<K, V> node = current;
+            if (node == null) {
+                throw new IllegalStateException();
+            }
+            current = null;
+            if (cache.map.remove(node.key, node.future)) {
+                cache.invalidate(node);
+            }
+        }
+    }
+
+    @Override
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    private boolean isExpired(Node<K, V> node, long now) {
+        return (entriesExpireAfterAccess && now - node.accessTime > expireAfterAccessNanos) ||
+            (entriesExpireAfterWrite && now - node.writeTime > expireAfterWriteNanos);
+    }
+
+    private void afterRead(Node<K, V> node) {
+        if (readBuffers == null) {
+            return;
+        }
+        final ReadBuffer<K, V> buffer = readBuffers[readBufferIndex()];
+        if (buffer.offer(node) == false && evictionLock.tryLock()) {
+            try {
+                drainReadBuffers();
+            } finally {
+                unlockAndNotify();
+            }
+        }
+    }
+
+    private int readBufferIndex() {
+        long id = Thread.currentThread().getId();
+        id ^= id >>> 33;
+        id *= 0xff51afd7ed558ccdL;
+        id ^= id >>> 33;
+        return (int) id & (readBuffers.length - 1);
+    }
+
+    private void drainReadBuffers() {
+        assert evictionLock.isHeldByCurrentThread();
+        if (readBuffers != null) {
+            for (ReadBuffer<K, V> buffer : readBuffers) {
+                buffer.drain(this);
+            }
+        }
+    }
+
+    private void unlockAndNotify() {
+        assert evictionLock.isHeldByCurrentThread();
+        final List<RemovalNotification<K, V>> notifications;
+        if (pendingNotifications.isEmpty()) {
+            notifications = Collections.emptyList();
+        } else {
+            notifications = pendingNotifications;
+            pendingNotifications = new ArrayList<>();
+        }
+        evictionLock.unlock();
+        for (RemovalNotification<K, V> notification : notifications) {
+            removalListener.onRemoval(notification);
+        }
+    }
+
+    /**
+     * Adds a new entry to the admission window and evicts entries if needed. The entry is skipped if it has already been removed.
+     */
+    private void onWrite(Node<K, V> node, long now) {
+        assert evictionLock.isHeldByCurrentThread();
+        if (node.state != State.NEW) {
+            assert node.state == State.DELETED;
+            return;
+        }
+        node.state = State.WINDOW;
+        window.add(node);
+        count++;
+        weight += node.weight;
+        if (sketch != null) {
+            sketch.ensureCapacity(count);
+            sketch.increment(node.key);
+        }
+        drainReadBuffers();
+        if (entriesExpireAfterAccess || entriesExpireAfterWrite) {
+            expireLeastRecentlyUsed(window, now);
+            expireLeastRecentlyUsed(probation, now);
+            expireLeastRecentlyUsed(protectedSegment, now);
+        }
+        evictEntries();
+    }
+
+    private void onAccess(Node<K, V> node) {
+        assert evictionLock.isHeldByCurrentThread();
+        switch (node.state) {
+            case WINDOW:
+                window.moveToTail(node);
+                break;
+            case PROBATION:
+                probation.remove(node);
+                node.state = State.PROTECTED;
+                protectedSegment.add(node);
+                // demote the least recently used entries of the protected segment if it is full
+                while (maximumWeight != -1 && protectedSegment.weight > protectedMaximumWeight && protectedSegment.head != node) {
+                    final Node<K, V> demoted = protectedSegment.head;
+                    protectedSegment.remove(demoted);
+                    demoted.state = State.PROBATION;
+                    probation.add(demoted);
+                }
+                break;
+            case PROTECTED:
+                protectedSegment.moveToTail(node);
+                break;
+            default:
+                // removed or not added yet
+                return;
+        }
+        if (sketch != null) {
+            sketch.increment(node.key);
+        }
+    }
+
+    private void expireLeastRecentlyUsed(AccessOrderQueue<K, V> queue, long now) {
+        Node<K, V> node;
+        while ((node = queue.head) != null && isExpired(node, now)) {
+            evict(node, RemovalNotification.RemovalReason.EVICTED);
+        }
+    }
+
+    private void expireAll(AccessOrderQueue<K, V> queue, long now) {
+        Node<K, V> node = queue.head;
+        while (node != null) {
+            final Node<K, V> next = node.after;
+            if (isExpired(node, now)) {
+                evict(node, RemovalNotification.RemovalReason.EVICTED);
+            }
+            node = next;
+        }
+    }
+
+    /**
+     * Moves the entries that overflow the admission window to the probation segment and evicts entries until the cache fits in its
+     * maximum weight. The entries coming from the window are candidates that are compared with the least recently used entry of the
+     * probation segment, the victim, and the least frequently used of the two is evicted.
+     */
+    private void evictEntries() {
+        if (maximumWeight == -1) {
+            return;
+        }
+        Node<K, V> candidate = null;
+        while (window.weight > windowMaximumWeight && window.head != null) {
+            final Node<K, V> node = window.head;
+            window.remove(node);
+            node.state = State.PROBATION;
+            probation.add(node);
+            if (candidate == null) {
+                candidate = node;
+            }
+        }
+        while (weight > maximumWeight) {
+            Node<K, V> victim = probation.head;
+            if (victim == null) {
+                victim = protectedSegment.head != null ? protectedSegment.head : window.head;
+            }
+            assert victim != null : "the cache is empty but its weight is " + weight;
+            if (candidate == null) {
+                evict(victim, RemovalNotification.RemovalReason.EVICTED);
+            } else if (victim == candidate || admit(candidate, victim) == false) {
+                // the candidates are after the victims in the probation segment
+                final Node<K, V> next = candidate.after;
+                evict(candidate, RemovalNotification.RemovalReason.EVICTED);
+                candidate = next;
+            } else {
+                evict(victim, RemovalNotification.RemovalReason.EVICTED);
+            }
+        }
+    }
+
+    private boolean admit(Node<K, V> candidate, Node<K, V> victim) {
+        return sketch.frequency(candidate.key) > sketch.frequency(victim.key);
+    }
+
+    private void evict(Node<K, V> node, RemovalNotification.RemovalReason reason) {
+        map.remove(node.key, node.future);
+        remove(node, reason);
+    }
+
+    /**
+     * Removes the given entry from the eviction policy. An entry that has not been added yet is marked as deleted so that it is
+     * never added.
+     */
+    private void remove(Node<K, V> node, RemovalNotification.RemovalReason reason) {
+        assert evictionLock.isHeldByCurrentThread();
+        switch (node.state) {
+            case DELETED:
+                return;
+            case WINDOW:
+                window.remove(node);
+                break;
+            case PROBATION:
+                probation.remove(node);
+                break;
+            case PROTECTED:
+                protectedSegment.remove(node);
+                break;
+            case NEW:
+                break;
+        }
+        if (node.state != State.NEW) {
+            count--;
+            weight -= node.weight;
+        }
+        node.state = State.DELETED;
+        if (reason != RemovalNotification.RemovalReason.REPLACED) {
+            evictions.increment();
+        }
+        pendingNotifications.add(new RemovalNotification<>(node.key, node.value, reason));
+    }
+}
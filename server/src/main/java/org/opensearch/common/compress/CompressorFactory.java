@@ -44,6 +44,11 @@ public class CompressorFactory {
 
     public static final Compressor COMPRESSOR = new DeflateCompressor();
 
+    /**
+     * A cheaper but less compact alternative to {@link #COMPRESSOR}, the bytes it compresses are detected by {@link #compressor}.
+     */
+    public static final Compressor LZ4_COMPRESSOR = new Lz4Compressor();
+
     public static boolean isCompressed(BytesReference bytes) {
         return compressor(bytes) != null;
     }
@@ -57,6 +62,10 @@ public class CompressorFactory {
                 assert XContentHelper.xContentType(bytes) == null;
                 return COMPRESSOR;
             }
+            if (LZ4_COMPRESSOR.isCompressed(bytes)) {
+                assert XContentHelper.xContentType(bytes) == null;
+                return LZ4_COMPRESSOR;
+            }
 
         XContentType contentType = XContentHelper.xContentType(bytes);
         if (contentType == null) {
@@ -0,0 +1,341 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.compress;
+
+import org.apache.lucene.store.ByteArrayDataInput;
+import org.apache.lucene.store.ByteArrayDataOutput;
+import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.compress.LZ4;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.io.Streams;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.io.stream.StreamInput;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * {@link Compressor} implementation based on the LZ4 compression algorithm, which trades compression ratio for much cheaper
+ * compression and decompression than {@link DeflateCompressor}. It relies on the pure Java LZ4 block codec of Lucene.
+ * <p>
+ * Compressed bytes start with a header, followed by blocks of at most {@link #BLOCK_SIZE} uncompressed bytes. Every block is made of
+ * its uncompressed length and its compressed length as big-endian ints, followed by the compressed bytes. An uncompressed length of
+ * {@code 0} marks the end of the compressed bytes.
+ */
+public class Lz4Compressor implements Compressor {
+
+    // An arbitrary header that we use to identify compressed streams, which must differ from the header of other compressors and must
+    // not be the start of any XContent
+    private static final byte[] HEADER = new byte[]{'L', 'Z', '4', '\0'};
+
+    /**
+     * The maximum number of uncompressed bytes of a block
+     */
+    public static final int BLOCK_SIZE = 64 * 1024;
+
+    /**
+     * The number of bytes in front of the compressed bytes of a block
+     */
+    public static final int BLOCK_HEADER_LENGTH = 2 * Integer.BYTES;
+
+    @Override
+    public boolean isCompressed(BytesReference bytes) {
+        if (bytes.length() < HEADER.length) {
+            return false;
+        }
+        for (int i = 0; i < HEADER.length; ++i) {
+            if (bytes.get(i) != HEADER[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int headerLength() {
+        return HEADER.length;
+    }
+
+    /**
+     * Returns the maximum number of bytes that {@code length} uncompressed bytes compress to.
+     */
+    public static int maxCompressedLength(int length) {
+        return length + length / 255 + 16;
+    }
+
+    /**
+     * Decompresses the compressed bytes of a block.
+     *
+     * @param compressed         the compressed bytes
+     * @param compressedLength   the number of compressed bytes
+     * @param uncompressedLength the number of bytes that the block decompresses to, at most {@link #BLOCK_SIZE}
+     * @param dest               the array to decompress to
+     */
+    public static void decompressBlock(byte[] compressed, int compressedLength, int uncompressedLength, byte[] dest) throws IOException {
+        decompressBlock(compressed, 0, compressedLength, uncompressedLength, dest, 0);
+    }
+
+    /**
+     * Decompresses the compressed bytes of a block that start at the given offset to the given offset of the destination array.
+     */
+    public static void decompressBlock(byte[] compressed, int compressedOffset, int compressedLength, int uncompressedLength,
+                                       byte[] dest, int destOffset) throws IOException {
+        if (uncompressedLength < 0 || uncompressedLength > BLOCK_SIZE || compressedLength < 0
+            || compressedLength > maxCompressedLength(uncompressedLength)) {
+            throw new IOException("corrupted LZ4 block with [" + compressedLength + "] compressed bytes and [" + uncompressedLength
+                + "] uncompressed bytes");
+        }
+        final ByteArrayDataInput in = new ByteArrayDataInput(compressed, compressedOffset, compressedLength);
+        final int decompressed;
+        try {
+            decompressed = LZ4.decompress(in, uncompressedLength, dest, destOffset) - destOffset;
+        } catch (ArrayIndexOutOfBoundsException e) {
+            throw new IOException("corrupted LZ4 block", e);
+        }
+        if (decompressed != uncompressedLength || in.eof() == false) {
+            throw new IOException("corrupted LZ4 block, expected [" + uncompressedLength + "] bytes but decompressed to ["
+                + decompressed + "]");
+        }
+    }
+
+    // Reusable buffers of the compressing stream, which are only used by a single stream at a time
+    private static final ThreadLocal<CompressionBuffers> compressionBuffersRef = ThreadLocal.withInitial(CompressionBuffers::new);
+
+    private static final class CompressionBuffers {
+        final byte[] uncompressed = new byte[BLOCK_SIZE];
+        final byte[] compressed = new byte[BLOCK_HEADER_LENGTH + maxCompressedLength(BLOCK_SIZE)];
+        final LZ4.FastCompressionHashTable hashTable = new LZ4.FastCompressionHashTable();
+        // true if the buffers are currently in use and are not available for re-use
+        boolean inUse;
+    }
+
+    @Override
+    public InputStream threadLocalInputStream(InputStream in) throws IOException {
+        final byte[] headerBytes = new byte[HEADER.length];
+        int len = 0;
+        while (len < headerBytes.length) {
+            final int read = in.read(headerBytes, len, headerBytes.length - len);
+            if (read == -1) {
+                break;
+            }
+            len += read;
+        }
+        if (len != HEADER.length || Arrays.equals(headerBytes, HEADER) == false) {
+            throw new IllegalArgumentException("Input stream is not compressed with LZ4!");
+        }
+        return new Lz4InputStream(in);
+    }
+
+    @Override
+    public OutputStream threadLocalOutputStream(OutputStream out) throws IOException {
+        out.write(HEADER);
+        final CompressionBuffers current = compressionBuffersRef.get();
+        if (current.inUse) {
+            // Nested compression streams should not happen but we still handle them safely by using fresh buffers
+            return new Lz4OutputStream(out, new CompressionBuffers(), null);
+        }
+        current.inUse = true;
+        return new Lz4OutputStream(out, current, current);
+    }
+
+    @Override
+    public BytesReference uncompress(BytesReference bytesReference) throws IOException {
+        try (StreamInput in = bytesReference.streamInput(); InputStream lz4 = threadLocalInputStream(in);
+             BytesStreamOutput out = new BytesStreamOutput()) {
+            final byte[] buffer = new byte[BLOCK_SIZE];
+            int read;
+            while ((read = lz4.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.copyBytes();
+        }
+    }
+
+    @Override
+    public BytesReference compress(BytesReference bytesReference) throws IOException {
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            try (OutputStream lz4 = threadLocalOutputStream(Streams.flushOnCloseStream(out))) {
+                bytesReference.writeTo(lz4);
+            }
+            return out.copyBytes();
+        }
+    }
+
+    private static final class Lz4OutputStream extends OutputStream {
+
+        private final OutputStream out;
+        private final CompressionBuffers buffers;
+        private final CompressionBuffers threadLocalBuffers;
+        private final ByteArrayDataOutput compressedOutput = new ByteArrayDataOutput();
+        private int uncompressedLength;
+        private boolean closed;
+
+        Lz4OutputStream(OutputStream out, CompressionBuffers buffers, CompressionBuffers threadLocalBuffers) {
+            this.out = out;
+            this.buffers = buffers;
+            this.threadLocalBuffers = threadLocalBuffers;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (uncompressedLength == BLOCK_SIZE) {
+                writeBlock();
+            }
+            buffers.uncompressed[uncompressedLength++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            while (len > 0) {
+                if (uncompressedLength == BLOCK_SIZE) {
+                    writeBlock();
+                }
+                final int toCopy = Math.min(len, BLOCK_SIZE - uncompressedLength);
+                System.arraycopy(b, off, buffers.uncompressed, uncompressedLength, toCopy);
+                uncompressedLength += toCopy;
+                off += toCopy;
+                len -= toCopy;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writeBlock();
+            out.flush();
+        }
+
+        private void writeBlock() throws IOException {
+            if (uncompressedLength == 0) {
+                return;
+            }
+            compressedOutput.reset(buffers.compressed, BLOCK_HEADER_LENGTH, buffers.compressed.length - BLOCK_HEADER_LENGTH);
+            LZ4.compress(buffers.uncompressed, 0, uncompressedLength, compressedOutput, buffers.hashTable);
+            final int compressedLength = compressedOutput.getPosition() - BLOCK_HEADER_LENGTH;
+            writeInt(buffers.compressed, 0, uncompressedLength);
+            writeInt(buffers.compressed, Integer.BYTES, compressedLength);
+            out.write(buffers.compressed, 0, BLOCK_HEADER_LENGTH + compressedLength);
+            uncompressedLength = 0;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                writeBlock();
+                final byte[] endOfStream = new byte[Integer.BYTES];
+                out.write(endOfStream);
+                out.close();
+            } finally {
+                if (threadLocalBuffers != null) {
+                    threadLocalBuffers.inUse = false;
+                }
+            }
+        }
+
+        private static void writeInt(byte[] bytes, int offset, int value) {
+            bytes[offset] = (byte) (value >>> 24);
+            bytes[offset + 1] = (byte) (value >>> 16);
+            bytes[offset + 2] = (byte) (value >>> 8);
+            bytes[offset + 3] = (byte) value;
+        }
+    }
+
+    private static final class Lz4InputStream extends InputStream {
+
+        private final InputStream in;
+        private final byte[] blockHeader = new byte[Integer.BYTES];
+        private final byte[] uncompressed = new byte[BLOCK_SIZE];
+        private byte[] compressed = new byte[0];
+        private int uncompressedLength;
+        private int position;
+        private boolean eos;
+
+        Lz4InputStream(InputStream in) {
+            this.in = in;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (ensureAvailable() == false) {
+                return -1;
+            }
+            return uncompressed[position++] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (ensureAvailable() == false) {
+                return -1;
+            }
+            final int toCopy = Math.min(len, uncompressedLength - position);
+            System.arraycopy(uncompressed, position, b, off, toCopy);
+            position += toCopy;
+            return toCopy;
+        }
+
+        @Override
+        public int available() {
+            return uncompressedLength - position;
+        }
+
+        private boolean ensureAvailable() throws IOException {
+            while (position == uncompressedLength) {
+                if (eos) {
+                    return false;
+                }
+                final int blockLength = readInt();
+                if (blockLength == 0) {
+                    eos = true;
+                    return false;
+                }
+                final int compressedLength = readInt();
+                if (compressedLength < 0 || compressedLength > maxCompressedLength(BLOCK_SIZE)) {
+                    throw new IOException("corrupted LZ4 block with [" + compressedLength + "] compressed bytes");
+                }
+                compressed = ArrayUtil.grow(compressed, compressedLength);
+                readFully(compressed, compressedLength);
+                decompressBlock(compressed, compressedLength, blockLength, uncompressed);
+                uncompressedLength = blockLength;
+                position = 0;
+            }
+            return true;
+        }
+
+        private int readInt() throws IOException {
+            readFully(blockHeader, Integer.BYTES);
+            return ((blockHeader[0] & 0xFF) << 24) | ((blockHeader[1] & 0xFF) << 16) | ((blockHeader[2] & 0xFF) << 8)
+                | (blockHeader[3] & 0xFF);
+        }
+
+        private void readFully(byte[] bytes, int length) throws IOException {
+            int read = 0;
+            while (read < length) {
+                final int r = in.read(bytes, read, length - read);
+                if (r == -1) {
+                    throw new EOFException("unexpected end of LZ4 compressed stream");
+                }
+                read += r;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+}
@@ -39,9 +39,12 @@ import java.nio.ByteBuffer;
 public class ByteBufferStreamInput extends StreamInput {
 
     private final ByteBuffer buffer;
+    // the position to reset to, the start of the stream if it was never marked
+    private int mark;
 
     public ByteBufferStreamInput(ByteBuffer buffer) {
         this.buffer = buffer;
+        this.mark = buffer.position();
     }
 
     @Override
@@ -74,7 +77,7 @@ public class ByteBufferStreamInput extends StreamInput {
     @Override
     public long skip(long n) throws IOException {
         if (n > buffer.remaining()) {
-            int ret = buffer.position();
+            int ret = buffer.remaining();
             buffer.position(buffer.limit());
             return ret;
         }
@@ -133,7 +136,7 @@ public class ByteBufferStreamInput extends StreamInput {
 
     @Override
     public void reset() throws IOException {
-        buffer.reset();
+        buffer.position(mark);
     }
 
     @Override
@@ -150,7 +153,7 @@ public class ByteBufferStreamInput extends StreamInput {
 
     @Override
     public void mark(int readlimit) {
-        buffer.mark();
+        mark = buffer.position();
     }
 
     @Override
@@ -32,6 +32,8 @@
 
 package org.opensearch.common.io.stream;
 
+import org.opensearch.common.bytes.BytesReference;
+
 import java.io.IOException;
 
 /**
@@ -66,6 +68,12 @@ public class NamedWriteableAwareStreamInput extends FilterStreamInput {
         return c;
     }
 
+    @Override
+    public BytesReference readBytesReference(int length) throws IOException {
+        // the wrapped stream may hold an actual reference to its underlying bytes rather than copy them
+        return delegate.readBytesReference(length);
+    }
+
     @Override
     public NamedWriteableRegistry namedWriteableRegistry() {
         return namedWriteableRegistry;
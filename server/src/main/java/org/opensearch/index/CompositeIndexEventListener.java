@@ -297,4 +297,16 @@ final class CompositeIndexEventListener implements IndexEventListener {
             }
         }
     }
+
+    @Override
+    public void afterSegmentsRefreshed(IndexShard indexShard) {
+        for (IndexEventListener listener : listeners) {
+            try {
+                listener.afterSegmentsRefreshed(indexShard);
+            } catch (Exception e) {
+                logger.warn(() -> new ParameterizedMessage("failed to invoke the listener after the segments of {} were refreshed",
+                    indexShard.shardId()), e);
+            }
+        }
+    }
 }
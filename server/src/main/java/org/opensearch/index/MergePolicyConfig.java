@@ -33,6 +33,7 @@
 package org.opensearch.index;
 
 import org.apache.logging.log4j.Logger;
+import org.apache.lucene.index.LogByteSizeMergePolicy;
 import org.apache.lucene.index.MergePolicy;
 import org.apache.lucene.index.NoMergePolicy;
 import org.apache.lucene.index.TieredMergePolicy;
@@ -41,6 +42,8 @@ import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.unit.ByteSizeUnit;
 import org.opensearch.common.unit.ByteSizeValue;
 
+import java.util.Locale;
+
 /**
  * A shard in opensearch is a Lucene index, and a Lucene index is broken
  * down into segments. Segments are internal storage elements in the index
@@ -101,6 +104,12 @@ import org.opensearch.common.unit.ByteSizeValue;
  *     the index. Lower values make the index more space efficient at the
  *     expense of increased CPU and I/O activity. Values must be between <code>20</code> and
  *     <code>50</code>. Default value is <code>33</code>.
+ *
+ * <li><code>index.merge.policy.type</code>:
+ *
+ *     The merge policy of the index, either <code>tiered</code> or <code>time_ordered</code>.
+ *     Default is <code>tiered</code>. This setting can only be set on index creation or on a
+ *     closed index.
  * </ul>
  *
  * <p>
@@ -126,12 +135,42 @@ import org.opensearch.common.unit.ByteSizeValue;
  * indices segments API to see the segments that an index has, and
  * possibly either increase the <code>max_merged_segment</code> or issue an optimize
  * call for the index (try and aim to issue it on a low traffic time).
+ *
+ * <p>
+ * The <code>time_ordered</code> merge policy is meant for append-only time series data,
+ * such as the backing indices of data streams, whose segments are flushed in time order.
+ * It only ever merges adjacent segments, so that merged segments keep covering a narrow
+ * time range that range queries and the can-match phase can skip, rather than mixing old
+ * and new documents. Adjacent segments of approximately equal size are merged
+ * <code>max_merge_at_once</code> at a time, which merges the small recent segments much
+ * more often than the older ones. Segments larger than <code>max_merged_segment</code>
+ * divided by <code>max_merge_at_once</code> are left alone unless the index is force merged,
+ * so that merged segments do not exceed <code>max_merged_segment</code>. <code>floor_segment</code> and
+ * <code>index.compound_format</code> apply as well, the other settings only apply to the
+ * <code>tiered</code> merge policy.
  */
 
 public final class MergePolicyConfig {
     private final OpenSearchTieredMergePolicy mergePolicy = new OpenSearchTieredMergePolicy();
+    private final LogByteSizeMergePolicy timeOrderedMergePolicy = new LogByteSizeMergePolicy();
     private final Logger logger;
     private final boolean mergesEnabled;
+    private final Type type;
+    private volatile ByteSizeValue maxMergedSegment;
+
+    /**
+     * The merge policies that an index can use
+     */
+    public enum Type {
+        /**
+         * Merges segments of approximately equal size regardless of their position in the index
+         */
+        TIERED,
+        /**
+         * Only merges adjacent segments, which keeps the segments of time series data partitioned by time
+         */
+        TIME_ORDERED
+    }
 
     public static final double          DEFAULT_EXPUNGE_DELETES_ALLOWED     = 10d;
     public static final ByteSizeValue   DEFAULT_FLOOR_SEGMENT               = new ByteSizeValue(2, ByteSizeUnit.MB);
@@ -169,6 +208,8 @@ public final class MergePolicyConfig {
     public static final Setting<Double> INDEX_MERGE_POLICY_DELETES_PCT_ALLOWED_SETTING =
         Setting.doubleSetting("index.merge.policy.deletes_pct_allowed", DEFAULT_DELETES_PCT_ALLOWED, 20.0d, 50.0d,
             Property.Dynamic, Property.IndexScope);
+    public static final Setting<Type> INDEX_MERGE_POLICY_TYPE_SETTING =
+        new Setting<>("index.merge.policy.type", "tiered", MergePolicyConfig::parseType, Property.IndexScope);
     // don't convert to Setting<> and register... we only set this in tests and register via a plugin
     public static final String INDEX_MERGE_ENABLED = "index.merge.enabled";
 
@@ -184,6 +225,7 @@ public final class MergePolicyConfig {
         double segmentsPerTier = indexSettings.getValue(INDEX_MERGE_POLICY_SEGMENTS_PER_TIER_SETTING);
         double reclaimDeletesWeight = indexSettings.getValue(INDEX_MERGE_POLICY_RECLAIM_DELETES_WEIGHT_SETTING);
         double deletesPctAllowed = indexSettings.getValue(INDEX_MERGE_POLICY_DELETES_PCT_ALLOWED_SETTING);
+        this.type = indexSettings.getValue(INDEX_MERGE_POLICY_TYPE_SETTING);
         this.mergesEnabled = indexSettings.getSettings().getAsBoolean(INDEX_MERGE_ENABLED, true);
         if (mergesEnabled == false) {
             logger.warn("[{}] is set to false, this should only be used in tests and can cause serious problems in production" +
@@ -198,12 +240,23 @@ public final class MergePolicyConfig {
         mergePolicy.setMaxMergedSegmentMB(maxMergedSegment.getMbFrac());
         mergePolicy.setSegmentsPerTier(segmentsPerTier);
         mergePolicy.setDeletesPctAllowed(deletesPctAllowed);
+        timeOrderedMergePolicy.setNoCFSRatio(indexSettings.getValue(INDEX_COMPOUND_FORMAT_SETTING));
+        timeOrderedMergePolicy.setMinMergeMB(floorSegment.getMbFrac());
+        timeOrderedMergePolicy.setMergeFactor(maxMergeAtOnce);
+        this.maxMergedSegment = maxMergedSegment;
+        updateTimeOrderedMaxMergeSize();
         if (logger.isTraceEnabled()) {
-            logger.trace("using [tiered] merge mergePolicy with expunge_deletes_allowed[{}], floor_segment[{}]," +
-                    " max_merge_at_once[{}], max_merge_at_once_explicit[{}], max_merged_segment[{}], segments_per_tier[{}]," +
-                    " deletes_pct_allowed[{}]",
-                forceMergeDeletesPctAllowed, floorSegment, maxMergeAtOnce, maxMergeAtOnceExplicit, maxMergedSegment, segmentsPerTier,
-                deletesPctAllowed);
+            if (type == Type.TIME_ORDERED) {
+                logger.trace("using [time_ordered] merge mergePolicy with floor_segment[{}], max_merge_at_once[{}]," +
+                        " max_merged_segment[{}]",
+                    floorSegment, maxMergeAtOnce, maxMergedSegment);
+            } else {
+                logger.trace("using [tiered] merge mergePolicy with expunge_deletes_allowed[{}], floor_segment[{}]," +
+                        " max_merge_at_once[{}], max_merge_at_once_explicit[{}], max_merged_segment[{}], segments_per_tier[{}]," +
+                        " deletes_pct_allowed[{}]",
+                    forceMergeDeletesPctAllowed, floorSegment, maxMergeAtOnce, maxMergeAtOnceExplicit, maxMergedSegment,
+                    segmentsPerTier, deletesPctAllowed);
+            }
         }
     }
 
@@ -213,6 +266,8 @@ public final class MergePolicyConfig {
 
     void setMaxMergedSegment(ByteSizeValue maxMergedSegment) {
         mergePolicy.setMaxMergedSegmentMB(maxMergedSegment.getMbFrac());
+        this.maxMergedSegment = maxMergedSegment;
+        updateTimeOrderedMaxMergeSize();
     }
 
     void setMaxMergesAtOnceExplicit(Integer maxMergeAtOnceExplicit) {
@@ -221,10 +276,21 @@ public final class MergePolicyConfig {
 
     void setMaxMergesAtOnce(Integer maxMergeAtOnce) {
         mergePolicy.setMaxMergeAtOnce(maxMergeAtOnce);
+        timeOrderedMergePolicy.setMergeFactor(maxMergeAtOnce);
+        updateTimeOrderedMaxMergeSize();
+    }
+
+    /**
+     * {@link LogByteSizeMergePolicy} caps the size of the segments that it merges rather than the size of the merged segment, so the
+     * cap is derived from the number of segments that are merged at once to keep merged segments under <code>max_merged_segment</code>.
+     */
+    private void updateTimeOrderedMaxMergeSize() {
+        timeOrderedMergePolicy.setMaxMergeMB(maxMergedSegment.getMbFrac() / timeOrderedMergePolicy.getMergeFactor());
     }
 
     void setFloorSegmentSetting(ByteSizeValue floorSegementSetting) {
         mergePolicy.setFloorSegmentMB(floorSegementSetting.getMbFrac());
+        timeOrderedMergePolicy.setMinMergeMB(floorSegementSetting.getMbFrac());
     }
 
     void setExpungeDeletesAllowed(Double value) {
@@ -233,6 +299,7 @@ public final class MergePolicyConfig {
 
     void setNoCFSRatio(Double noCFSRatio) {
         mergePolicy.setNoCFSRatio(noCFSRatio);
+        timeOrderedMergePolicy.setNoCFSRatio(noCFSRatio);
     }
 
     void setDeletesPctAllowed(Double deletesPctAllowed) {
@@ -256,7 +323,21 @@ public final class MergePolicyConfig {
     }
 
     MergePolicy getMergePolicy() {
-        return mergesEnabled ? mergePolicy : NoMergePolicy.INSTANCE;
+        if (mergesEnabled == false) {
+            return NoMergePolicy.INSTANCE;
+        }
+        return type == Type.TIME_ORDERED ? timeOrderedMergePolicy : mergePolicy;
+    }
+
+    private static Type parseType(String type) {
+        switch (type) {
+            case "tiered":
+            case "time_ordered":
+                return Type.valueOf(type.toUpperCase(Locale.ROOT));
+            default:
+                throw new IllegalArgumentException(
+                    "unknown value for [index.merge.policy.type] must be one of [tiered, time_ordered] but was: " + type);
+        }
     }
 
     private static double parseNoCFSRatio(String noCFSRatio) {
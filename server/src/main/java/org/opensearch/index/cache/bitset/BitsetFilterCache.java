@@ -100,7 +100,8 @@ public final class BitsetFilterCache extends AbstractIndexComponent
             throw new IllegalArgumentException("listener must not be null");
         }
         this.loadRandomAccessFiltersEagerly = this.indexSettings.getValue(INDEX_LOAD_RANDOM_ACCESS_FILTERS_EAGERLY_SETTING);
-        this.loadedFilters = CacheBuilder.<IndexReader.CacheKey, Cache<Query, Value>>builder().removalListener(this).build();
+        this.loadedFilters = CacheBuilder.<IndexReader.CacheKey, Cache<Query, Value>>builder().removalListener(this)
+            .setEvictionPolicy(Cache.EvictionPolicy.TINY_LFU).build();
         this.listener = listener;
     }
 
@@ -155,7 +156,7 @@ public final class BitsetFilterCache extends AbstractIndexComponent
         }
         Cache<Query, Value> filterToFbs = loadedFilters.computeIfAbsent(coreCacheReader, key -> {
             cacheHelper.addClosedListener(BitsetFilterCache.this);
-            return CacheBuilder.<Query, Value>builder().build();
+            return CacheBuilder.<Query, Value>builder().setEvictionPolicy(Cache.EvictionPolicy.TINY_LFU).build();
         });
 
         return filterToFbs.computeIfAbsent(query, key -> {
@@ -32,6 +32,7 @@
 
 package org.opensearch.index.cache.request;
 
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
@@ -47,6 +48,9 @@ public class RequestCacheStats implements Writeable, ToXContentFragment {
     private long evictions;
     private long hitCount;
     private long missCount;
+    private long tierSize;
+    private long tierEvictions;
+    private long tierHitCount;
 
     public RequestCacheStats() {
     }
@@ -56,13 +60,26 @@ public class RequestCacheStats implements Writeable, ToXContentFragment {
         evictions = in.readVLong();
         hitCount = in.readVLong();
         missCount = in.readVLong();
+        if (in.getVersion().onOrAfter(Version.V_1_1_0)) {
+            tierSize = in.readVLong();
+            tierEvictions = in.readVLong();
+            tierHitCount = in.readVLong();
+        }
     }
 
     public RequestCacheStats(long memorySize, long evictions, long hitCount, long missCount) {
+        this(memorySize, evictions, hitCount, missCount, 0, 0, 0);
+    }
+
+    public RequestCacheStats(long memorySize, long evictions, long hitCount, long missCount,
+                             long tierSize, long tierEvictions, long tierHitCount) {
         this.memorySize = memorySize;
         this.evictions = evictions;
         this.hitCount = hitCount;
         this.missCount = missCount;
+        this.tierSize = tierSize;
+        this.tierEvictions = tierEvictions;
+        this.tierHitCount = tierHitCount;
     }
 
     public void add(RequestCacheStats stats) {
@@ -70,6 +87,9 @@ public class RequestCacheStats implements Writeable, ToXContentFragment {
         this.evictions += stats.evictions;
         this.hitCount += stats.hitCount;
         this.missCount += stats.missCount;
+        this.tierSize += stats.tierSize;
+        this.tierEvictions += stats.tierEvictions;
+        this.tierHitCount += stats.tierHitCount;
     }
 
     public long getMemorySizeInBytes() {
@@ -92,12 +112,43 @@ public class RequestCacheStats implements Writeable, ToXContentFragment {
         return this.missCount;
     }
 
+    /**
+     * The number of bytes held by the tier behind the on-heap cache, if any.
+     */
+    public long getTierSizeInBytes() {
+        return this.tierSize;
+    }
+
+    public ByteSizeValue getTierSize() {
+        return new ByteSizeValue(tierSize);
+    }
+
+    /**
+     * The number of entries evicted from the tier behind the on-heap cache.
+     */
+    public long getTierEvictions() {
+        return this.tierEvictions;
+    }
+
+    /**
+     * The number of hits of the on-heap cache misses that were served from the tier behind it. These hits are also counted
+     * in {@link #getHitCount()}.
+     */
+    public long getTierHitCount() {
+        return this.tierHitCount;
+    }
+
     @Override
     public void writeTo(StreamOutput out) throws IOException {
         out.writeVLong(memorySize);
         out.writeVLong(evictions);
         out.writeVLong(hitCount);
         out.writeVLong(missCount);
+        if (out.getVersion().onOrAfter(Version.V_1_1_0)) {
+            out.writeVLong(tierSize);
+            out.writeVLong(tierEvictions);
+            out.writeVLong(tierHitCount);
+        }
     }
 
     @Override
@@ -107,6 +158,11 @@ public class RequestCacheStats implements Writeable, ToXContentFragment {
         builder.field(Fields.EVICTIONS, getEvictions());
         builder.field(Fields.HIT_COUNT, getHitCount());
         builder.field(Fields.MISS_COUNT, getMissCount());
+        builder.startObject(Fields.TIER);
+        builder.humanReadableField(Fields.SIZE_IN_BYTES, Fields.SIZE, getTierSize());
+        builder.field(Fields.EVICTIONS, getTierEvictions());
+        builder.field(Fields.HIT_COUNT, getTierHitCount());
+        builder.endObject();
         builder.endObject();
         return builder;
     }
@@ -118,5 +174,8 @@ public class RequestCacheStats implements Writeable, ToXContentFragment {
         static final String EVICTIONS = "evictions";
         static final String HIT_COUNT = "hit_count";
         static final String MISS_COUNT = "miss_count";
+        static final String TIER = "tier";
+        static final String SIZE = "size";
+        static final String SIZE_IN_BYTES = "size_in_bytes";
     }
 }
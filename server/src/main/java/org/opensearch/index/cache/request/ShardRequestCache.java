@@ -45,9 +45,13 @@ public final class ShardRequestCache {
     final CounterMetric totalMetric = new CounterMetric();
     final CounterMetric hitCount = new CounterMetric();
     final CounterMetric missCount = new CounterMetric();
+    final CounterMetric tierTotalMetric = new CounterMetric();
+    final CounterMetric tierEvictionsMetric = new CounterMetric();
+    final CounterMetric tierHitCount = new CounterMetric();
 
     public RequestCacheStats stats() {
-        return new RequestCacheStats(totalMetric.count(), evictionsMetric.count(), hitCount.count(), missCount.count());
+        return new RequestCacheStats(totalMetric.count(), evictionsMetric.count(), hitCount.count(), missCount.count(),
+            tierTotalMetric.count(), tierEvictionsMetric.count(), tierHitCount.count());
     }
 
     public void onHit() {
@@ -75,4 +79,19 @@ public final class ShardRequestCache {
         }
         totalMetric.dec(dec);
     }
+
+    public void onTierHit() {
+        tierHitCount.inc();
+    }
+
+    public void onTierCached(long sizeInBytes) {
+        tierTotalMetric.inc(sizeInBytes);
+    }
+
+    public void onTierRemoval(long sizeInBytes, boolean evicted) {
+        if (evicted) {
+            tierEvictionsMetric.inc();
+        }
+        tierTotalMetric.dec(sizeInBytes);
+    }
 }
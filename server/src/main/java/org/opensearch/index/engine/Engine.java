@@ -1126,6 +1126,14 @@ public abstract class Engine implements Closeable {
      */
     public abstract IndexCommitRef acquireSafeIndexCommit() throws EngineException;
 
+    /**
+     * Acquires the segments of the most recent reader of this engine along with the sequence numbers they hold, so that segment
+     * replication can copy them to the replicas. The files of the segments are kept until the returned handle is closed.
+     */
+    public SegmentInfosRef acquireLatestSegmentInfos() throws EngineException {
+        throw new UnsupportedOperationException("segment replication is not supported by " + getClass().getSimpleName());
+    }
+
     /**
      * @return a summary of the contents of the current safe commit
      */
@@ -1848,6 +1856,33 @@ public abstract class Engine implements Closeable {
         }
     }
 
+    /**
+     * A handle on the segments of a reader, which may not be committed yet. The user data of the segments holds the local checkpoint
+     * of the engine before the reader was refreshed, below which all the operations are in the segments, and an upper bound of the
+     * sequence numbers of the operations in the segments.
+     */
+    public static class SegmentInfosRef implements Closeable {
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private final CheckedRunnable<IOException> onClose;
+        private final SegmentInfos segmentInfos;
+
+        public SegmentInfosRef(SegmentInfos segmentInfos, CheckedRunnable<IOException> onClose) {
+            this.segmentInfos = segmentInfos;
+            this.onClose = onClose;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed.compareAndSet(false, true)) {
+                onClose.run();
+            }
+        }
+
+        public SegmentInfos getSegmentInfos() {
+            return segmentInfos;
+        }
+    }
+
     public void onSettingsChanged(TimeValue translogRetentionAge, ByteSizeValue translogRetentionSize, long softDeletesRetentionOps) {
 
     }
@@ -53,6 +53,7 @@ import org.opensearch.index.shard.ShardId;
 import org.opensearch.index.store.Store;
 import org.opensearch.index.translog.TranslogConfig;
 import org.opensearch.indices.IndexingMemoryController;
+import org.opensearch.indices.MergeBudgetCoordinator;
 import org.opensearch.indices.breaker.CircuitBreakerService;
 import org.opensearch.threadpool.ThreadPool;
 
@@ -106,6 +107,8 @@ public final class EngineConfig {
 
     private final LongSupplier primaryTermSupplier;
     private final TombstoneDocSupplier tombstoneDocSupplier;
+    @Nullable
+    private final MergeBudgetCoordinator mergeBudgetCoordinator;
 
     /**
      * Index setting to change the low level lucene codec used for writing new segments.
@@ -155,6 +158,27 @@ public final class EngineConfig {
                         Supplier<RetentionLeases> retentionLeasesSupplier,
                         LongSupplier primaryTermSupplier,
                         TombstoneDocSupplier tombstoneDocSupplier) {
+        this(shardId, threadPool, indexSettings, warmer, store, mergePolicy, analyzer, similarity, codecService, eventListener, queryCache,
+            queryCachingPolicy, translogConfig, flushMergesAfter, externalRefreshListener, internalRefreshListener, indexSort,
+            circuitBreakerService, globalCheckpointSupplier, retentionLeasesSupplier, primaryTermSupplier, tombstoneDocSupplier, null);
+    }
+
+    /**
+     * Creates a new {@link org.opensearch.index.engine.EngineConfig} whose engine takes part in the given merge budget of the node
+     */
+    public EngineConfig(ShardId shardId, ThreadPool threadPool,
+                        IndexSettings indexSettings, Engine.Warmer warmer, Store store,
+                        MergePolicy mergePolicy, Analyzer analyzer,
+                        Similarity similarity, CodecService codecService, Engine.EventListener eventListener,
+                        QueryCache queryCache, QueryCachingPolicy queryCachingPolicy,
+                        TranslogConfig translogConfig, TimeValue flushMergesAfter,
+                        List<ReferenceManager.RefreshListener> externalRefreshListener,
+                        List<ReferenceManager.RefreshListener> internalRefreshListener, Sort indexSort,
+                        CircuitBreakerService circuitBreakerService, LongSupplier globalCheckpointSupplier,
+                        Supplier<RetentionLeases> retentionLeasesSupplier,
+                        LongSupplier primaryTermSupplier,
+                        TombstoneDocSupplier tombstoneDocSupplier,
+                        @Nullable MergeBudgetCoordinator mergeBudgetCoordinator) {
         this.shardId = shardId;
         this.indexSettings = indexSettings;
         this.threadPool = threadPool;
@@ -192,6 +216,7 @@ public final class EngineConfig {
         this.retentionLeasesSupplier = Objects.requireNonNull(retentionLeasesSupplier);
         this.primaryTermSupplier = primaryTermSupplier;
         this.tombstoneDocSupplier = tombstoneDocSupplier;
+        this.mergeBudgetCoordinator = mergeBudgetCoordinator;
     }
 
     /**
@@ -401,4 +426,13 @@ public final class EngineConfig {
     public TombstoneDocSupplier getTombstoneDocSupplier() {
         return tombstoneDocSupplier;
     }
+
+    /**
+     * Returns the merge budget of the node that the merges of the engine take part in, or {@code null} if merges are only
+     * limited by the merge scheduler settings of the index.
+     */
+    @Nullable
+    public MergeBudgetCoordinator getMergeBudgetCoordinator() {
+        return mergeBudgetCoordinator;
+    }
 }
@@ -48,6 +48,7 @@ import org.apache.lucene.index.SegmentCommitInfo;
 import org.apache.lucene.index.SegmentInfos;
 import org.apache.lucene.index.ShuffleForcedMergePolicy;
 import org.apache.lucene.index.SoftDeletesRetentionMergePolicy;
+import org.apache.lucene.index.StandardDirectoryReaderHelper;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.search.BooleanClause;
 import org.apache.lucene.search.BooleanQuery;
@@ -108,6 +109,7 @@ import org.opensearch.index.translog.TranslogConfig;
 import org.opensearch.index.translog.TranslogCorruptedException;
 import org.opensearch.index.translog.TranslogDeletionPolicy;
 import org.opensearch.index.translog.TranslogStats;
+import org.opensearch.indices.MergeBudgetCoordinator;
 import org.opensearch.search.suggest.completion.CompletionStats;
 import org.opensearch.threadpool.ThreadPool;
 
@@ -132,6 +134,7 @@ import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.LongConsumer;
 import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -184,6 +187,7 @@ public class InternalEngine extends Engine {
     private final CounterMetric numDocUpdates = new CounterMetric();
     private final NumericDocValuesField softDeletesField = Lucene.newSoftDeletesField();
     private final boolean softDeleteEnabled;
+    private final boolean appendOnly;
     private final SoftDeletesPolicy softDeletesPolicy;
     private final LastRefreshedCheckpointListener lastRefreshedCheckpointListener;
 
@@ -238,7 +242,8 @@ public class InternalEngine extends Engine {
         boolean success = false;
         try {
             this.lastDeleteVersionPruneTimeMSec = engineConfig.getThreadPool().relativeTimeInMillis();
-            mergeScheduler = scheduler = new EngineMergeScheduler(engineConfig.getShardId(), engineConfig.getIndexSettings());
+            mergeScheduler = scheduler = new EngineMergeScheduler(engineConfig.getShardId(), engineConfig.getIndexSettings(),
+                engineConfig.getMergeBudgetCoordinator());
             throttle = new IndexThrottle();
             try {
                 trimUnsafeCommits(engineConfig);
@@ -253,6 +258,7 @@ public class InternalEngine extends Engine {
                 assert translog.getGeneration() != null;
                 this.translog = translog;
                 this.softDeleteEnabled = engineConfig.getIndexSettings().isSoftDeleteEnabled();
+                this.appendOnly = engineConfig.getIndexSettings().isAppendOnly();
                 this.softDeletesPolicy = newSoftDeletesPolicy();
                 this.combinedDeletionPolicy =
                     new CombinedDeletionPolicy(logger, translogDeletionPolicy, softDeletesPolicy, translog::getLastSyncedGlobalCheckpoint);
@@ -302,6 +308,7 @@ public class InternalEngine extends Engine {
             }
             completionStatsCache = new CompletionStatsCache(() -> acquireSearcher("completion_stats"));
             this.externalReaderManager.addListener(completionStatsCache);
+            scheduler.registerWithMergeBudget();
             success = true;
         } finally {
             if (success == false) {
@@ -685,7 +692,11 @@ public class InternalEngine extends Engine {
                 VersionValue versionValue = null;
                 try (Releasable ignore = versionMap.acquireLock(get.uid().bytes())) {
                     // we need to lock here to access the version map to do this truly in RT
-                    versionValue = getVersionFromMap(get.uid().bytes());
+                    if (appendOnly) {
+                        refreshForAppendOnlyLookup();
+                    } else {
+                        versionValue = getVersionFromMap(get.uid().bytes());
+                    }
                 }
                 if (versionValue != null) {
                     if (versionValue.isDelete()) {
@@ -813,6 +824,10 @@ public class InternalEngine extends Engine {
     }
 
     private VersionValue getVersionFromMap(BytesRef id) {
+        if (appendOnly) {
+            // append-only indices never add to the version map, see refreshForAppendOnlyLookup
+            return null;
+        }
         if (versionMap.isUnsafe()) {
             synchronized (versionMap) {
                 // we are switching from an unsafe map to a safe map. This might happen concurrently
@@ -827,6 +842,15 @@ public class InternalEngine extends Engine {
         return versionMap.getUnderLock(id);
     }
 
+    /**
+     * Append-only indices never add to the version map. The operations on an id are serialized by the id lock, so a refresh
+     * exposes the latest one to a lookup in the index. Called once per operation that looks up its id, under the id lock.
+     */
+    private void refreshForAppendOnlyLookup() {
+        assert appendOnly;
+        refreshIfNeeded("append_only_lookup", localCheckpointTracker.getMaxSeqNo());
+    }
+
     private boolean canOptimizeAddDocument(Index index) {
         if (index.getAutoGeneratedIdTimestamp() != IndexRequest.UNSET_AUTO_GENERATED_TIMESTAMP) {
             assert index.getAutoGeneratedIdTimestamp() >= 0 : "autoGeneratedIdTimestamp must be positive but was: "
@@ -979,7 +1003,7 @@ public class InternalEngine extends Engine {
                     }
                     indexResult.setTranslogLocation(location);
                 }
-                if (plan.indexIntoLucene && indexResult.getResultType() == Result.Type.SUCCESS) {
+                if (plan.indexIntoLucene && indexResult.getResultType() == Result.Type.SUCCESS && appendOnly == false) {
                     final Translog.Location translogLocation = trackTranslogLocation.get() ? indexResult.getTranslogLocation() : null;
                     versionMap.maybePutIndexUnderLock(index.uid().bytes(),
                         new IndexVersionValue(translogLocation, plan.versionForIndexing, index.seqNo(), index.primaryTerm()));
@@ -1035,7 +1059,11 @@ public class InternalEngine extends Engine {
             assert maxSeqNoOfUpdatesOrDeletes < index.seqNo() : index.seqNo() + ">=" + maxSeqNoOfUpdatesOrDeletes;
             plan = IndexingStrategy.optimizedAppendOnly(index.version(), 0);
         } else {
-            versionMap.enforceSafeAccess();
+            if (appendOnly == false) {
+                versionMap.enforceSafeAccess();
+            } else {
+                refreshForAppendOnlyLookup();
+            }
             final OpVsLuceneDocStatus opVsLucene = compareOpToLuceneDocBasedOnSeqNo(index);
             if (opVsLucene == OpVsLuceneDocStatus.OP_STALE_OR_EQUAL) {
                 plan = IndexingStrategy.processAsStaleOp(softDeleteEnabled, index.version());
@@ -1061,7 +1089,10 @@ public class InternalEngine extends Engine {
         final IndexingStrategy plan;
         // resolve an external operation into an internal one which is safe to replay
         final boolean canOptimizeAddDocument = canOptimizeAddDocument(index);
-        if (canOptimizeAddDocument && mayHaveBeenIndexedBefore(index) == false) {
+        if (appendOnly && canOptimizeAddDocument == false) {
+            plan = IndexingStrategy.failAsRejected(new IllegalArgumentException("index [" + shardId.getIndexName()
+                + "] is append-only and only accepts documents with auto-generated ids, got id [" + index.id() + "]"));
+        } else if (canOptimizeAddDocument && mayHaveBeenIndexedBefore(index) == false) {
             final Exception reserveError = tryAcquireInFlightDocs(index, reservingDocs);
             if (reserveError != null) {
                 plan = IndexingStrategy.failAsTooManyDocs(reserveError);
@@ -1069,7 +1100,11 @@ public class InternalEngine extends Engine {
                 plan = IndexingStrategy.optimizedAppendOnly(1L, reservingDocs);
             }
         } else {
-            versionMap.enforceSafeAccess();
+            if (appendOnly == false) {
+                versionMap.enforceSafeAccess();
+            } else {
+                refreshForAppendOnlyLookup();
+            }
             // resolves incoming version
             final VersionValue versionValue =
                 resolveDocVersion(index, index.getIfSeqNo() != SequenceNumbers.UNASSIGNED_SEQ_NO);
@@ -1268,6 +1303,11 @@ public class InternalEngine extends Engine {
             final IndexResult result = new IndexResult(e, Versions.NOT_FOUND);
             return new IndexingStrategy(false, false, false, false, Versions.NOT_FOUND, 0, result);
         }
+
+        static IndexingStrategy failAsRejected(Exception e) {
+            final IndexResult result = new IndexResult(e, Versions.NOT_FOUND);
+            return new IndexingStrategy(false, false, false, false, Versions.NOT_FOUND, 0, result);
+        }
     }
 
     /**
@@ -1313,7 +1353,9 @@ public class InternalEngine extends Engine {
 
     @Override
     public DeleteResult delete(Delete delete) throws IOException {
-        versionMap.enforceSafeAccess();
+        if (appendOnly == false) {
+            versionMap.enforceSafeAccess();
+        }
         assert Objects.equals(delete.uid().field(), IdFieldMapper.NAME) : delete.uid().field();
         assert assertIncomingSequenceNumber(delete.origin(), delete.seqNo());
         final DeleteResult deleteResult;
@@ -1419,6 +1461,9 @@ public class InternalEngine extends Engine {
             // See testRecoveryWithOutOfOrderDelete for an example of peer recovery
             plan = DeletionStrategy.processButSkipLucene(false, delete.version());
         } else {
+            if (appendOnly) {
+                refreshForAppendOnlyLookup();
+            }
             final OpVsLuceneDocStatus opVsLucene = compareOpToLuceneDocBasedOnSeqNo(delete);
             if (opVsLucene == OpVsLuceneDocStatus.OP_STALE_OR_EQUAL) {
                 plan = DeletionStrategy.processAsStaleOp(softDeleteEnabled, delete.version());
@@ -1436,6 +1481,10 @@ public class InternalEngine extends Engine {
 
     private DeletionStrategy planDeletionAsPrimary(Delete delete) throws IOException {
         assert delete.origin() == Operation.Origin.PRIMARY : "planing as primary but got " + delete.origin();
+        if (appendOnly) {
+            return DeletionStrategy.failAsRejected(new IllegalArgumentException("index [" + shardId.getIndexName()
+                + "] is append-only and does not accept deletes, got delete of id [" + delete.id() + "]"));
+        }
         // resolve operation from external to internal
         final VersionValue versionValue = resolveDocVersion(delete, delete.getIfSeqNo() != SequenceNumbers.UNASSIGNED_SEQ_NO);
         assert incrementVersionLookup();
@@ -1572,6 +1621,12 @@ public class InternalEngine extends Engine {
                 SequenceNumbers.UNASSIGNED_PRIMARY_TERM, SequenceNumbers.UNASSIGNED_SEQ_NO, false);
             return new DeletionStrategy(false, false, false, Versions.NOT_FOUND, 0, deleteResult);
         }
+
+        static DeletionStrategy failAsRejected(Exception e) {
+            final DeleteResult deleteResult = new DeleteResult(e, Versions.NOT_FOUND,
+                SequenceNumbers.UNASSIGNED_PRIMARY_TERM, SequenceNumbers.UNASSIGNED_SEQ_NO, false);
+            return new DeletionStrategy(false, false, false, Versions.NOT_FOUND, 0, deleteResult);
+        }
     }
 
     @Override
@@ -2118,6 +2173,28 @@ public class InternalEngine extends Engine {
         return new Engine.IndexCommitRef(safeCommit, () -> releaseIndexCommit(safeCommit));
     }
 
+    @Override
+    public SegmentInfosRef acquireLatestSegmentInfos() throws EngineException {
+        // all the operations below the refreshed checkpoint are in any reader acquired after reading it
+        final long refreshedCheckpoint = lastRefreshedCheckpoint();
+        final Searcher searcher = acquireSearcher("segment_replication", SearcherScope.INTERNAL);
+        boolean success = false;
+        try {
+            final SegmentInfos segmentInfos = StandardDirectoryReaderHelper.getSegmentInfos(searcher.getDirectoryReader()).clone();
+            final Map<String, String> userData = new HashMap<>(segmentInfos.getUserData());
+            userData.put(SequenceNumbers.LOCAL_CHECKPOINT_KEY, Long.toString(refreshedCheckpoint));
+            userData.put(SequenceNumbers.MAX_SEQ_NO, Long.toString(localCheckpointTracker.getMaxSeqNo()));
+            segmentInfos.setUserData(userData, false);
+            final SegmentInfosRef segmentInfosRef = new SegmentInfosRef(segmentInfos, searcher::close);
+            success = true;
+            return segmentInfosRef;
+        } finally {
+            if (success == false) {
+                searcher.close();
+            }
+        }
+    }
+
     private void releaseIndexCommit(IndexCommit snapshot) throws IOException {
         // Revisit the deletion policy if we can clean up the snapshotting commit.
         if (combinedDeletionPolicy.releaseCommit(snapshot)) {
@@ -2413,8 +2490,32 @@ public class InternalEngine extends Engine {
         private final AtomicInteger numMergesInFlight = new AtomicInteger(0);
         private final AtomicBoolean isThrottling = new AtomicBoolean();
 
-        EngineMergeScheduler(ShardId shardId, IndexSettings indexSettings) {
-            super(shardId, indexSettings);
+        EngineMergeScheduler(ShardId shardId, IndexSettings indexSettings, @Nullable MergeBudgetCoordinator mergeBudgetCoordinator) {
+            super(shardId, indexSettings, mergeBudgetCoordinator);
+        }
+
+        @Override
+        public int segmentCount() {
+            return (int) internalReaderStat(reader -> reader.leaves().size());
+        }
+
+        @Override
+        public long deletedDocCount() {
+            return internalReaderStat(DirectoryReader::numDeletedDocs);
+        }
+
+        private long internalReaderStat(ToLongFunction<OpenSearchDirectoryReader> stat) {
+            try {
+                final OpenSearchDirectoryReader reader = internalReaderManager.acquire();
+                try {
+                    return stat.applyAsLong(reader);
+                } finally {
+                    internalReaderManager.release(reader);
+                }
+            } catch (AlreadyClosedException | IOException e) {
+                // the engine is closing and its merges are aborted
+                return 0;
+            }
         }
 
         @Override
@@ -0,0 +1,664 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import com.carrotsearch.hppc.ObjectIntHashMap;
+import com.carrotsearch.hppc.cursors.ObjectCursor;
+import org.apache.lucene.index.IndexFileNames;
+import org.apache.lucene.index.SegmentCommitInfo;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.search.ReferenceManager;
+import org.apache.lucene.store.AlreadyClosedException;
+import org.opensearch.common.lucene.Lucene;
+import org.opensearch.common.lucene.index.OpenSearchDirectoryReader;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ReleasableLock;
+import org.opensearch.core.internal.io.IOUtils;
+import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.seqno.LocalCheckpointTracker;
+import org.opensearch.index.seqno.SeqNoStats;
+import org.opensearch.index.seqno.SequenceNumbers;
+import org.opensearch.index.translog.Translog;
+import org.opensearch.index.translog.TranslogConfig;
+import org.opensearch.index.translog.TranslogCorruptedException;
+import org.opensearch.index.translog.TranslogDeletionPolicy;
+import org.opensearch.index.translog.TranslogStats;
+import org.opensearch.search.suggest.completion.CompletionStats;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+import java.util.stream.Stream;
+
+/**
+ * The engine of the replicas of an index that uses segment replication. The operations replicated from the primary are only written
+ * to the translog, so that they can be replayed if the replica is promoted, while searches run on the segments that segment
+ * replication copies from the primary and passes to {@link #updateSegments(SegmentInfos)}. The copied segments are only committed on
+ * flush, along with the local checkpoint of the primary at the time it was refreshed, which allows trimming the translog up to that
+ * checkpoint.
+ */
+public class NRTReplicationEngine extends Engine {
+
+    private final Translog translog;
+    private final LocalCheckpointTracker localCheckpointTracker;
+    private final NRTReplicationReaderManager readerManager;
+    private final CompletionStatsCache completionStatsCache;
+    private final String historyUUID;
+    private final AtomicLong maxSeqNoOfUpdatesOrDeletes;
+    private final ReentrantLock flushLock = new ReentrantLock();
+    // Number of snapshots held against each commit point.
+    private final ObjectIntHashMap<SegmentInfos> snapshottedCommits = new ObjectIntHashMap<>();
+    private volatile SegmentInfos latestSegmentInfos;
+    private volatile SegmentInfos lastCommittedSegmentInfos;
+
+    public NRTReplicationEngine(EngineConfig engineConfig) {
+        super(engineConfig);
+        store.incRef();
+        Translog translog = null;
+        NRTReplicationReaderManager readerManager = null;
+        boolean success = false;
+        try {
+            try {
+                // unlike the other engines, this engine does not hold the index writer lock since segment replication writes the
+                // copied files to the store under that lock, just like peer recoveries do
+                lastCommittedSegmentInfos = store.readLastCommittedSegmentsInfo();
+                latestSegmentInfos = lastCommittedSegmentInfos;
+                final Map<String, String> userData = lastCommittedSegmentInfos.getUserData();
+                final SequenceNumbers.CommitInfo commitInfo = SequenceNumbers.loadSeqNoInfoFromLuceneCommit(userData.entrySet());
+                localCheckpointTracker = new LocalCheckpointTracker(commitInfo.maxSeqNo, commitInfo.localCheckpoint);
+                historyUUID = Objects.requireNonNull(userData.get(HISTORY_UUID_KEY), "commit doesn't contain history uuid");
+                final TranslogDeletionPolicy translogDeletionPolicy = new TranslogDeletionPolicy(
+                    engineConfig.getIndexSettings().getTranslogRetentionSize().getBytes(),
+                    engineConfig.getIndexSettings().getTranslogRetentionAge().getMillis(),
+                    engineConfig.getIndexSettings().getTranslogRetentionTotalFiles()
+                );
+                translogDeletionPolicy.setLocalCheckpointOfSafeCommit(commitInfo.localCheckpoint);
+                final TranslogConfig translogConfig = engineConfig.getTranslogConfig();
+                final String translogUUID = Objects.requireNonNull(userData.get(Translog.TRANSLOG_UUID_KEY));
+                translog = new Translog(translogConfig, translogUUID, translogDeletionPolicy, engineConfig.getGlobalCheckpointSupplier(),
+                    engineConfig.getPrimaryTermSupplier(), seqNo -> localCheckpointTracker.markSeqNoAsPersisted(seqNo));
+                this.translog = translog;
+                maxSeqNoOfUpdatesOrDeletes = new AtomicLong(SequenceNumbers.max(localCheckpointTracker.getMaxSeqNo(),
+                    translog.getMaxSeqNo()));
+                readerManager = new NRTReplicationReaderManager(store.directory(), shardId, lastCommittedSegmentInfos,
+                    new RamAccountingRefreshListener(engineConfig.getCircuitBreakerService()));
+                this.readerManager = readerManager;
+            } catch (IOException | TranslogCorruptedException e) {
+                throw new EngineCreationFailureException(shardId, "failed to create engine", e);
+            }
+            for (ReferenceManager.RefreshListener listener : engineConfig.getExternalRefreshListener()) {
+                readerManager.addListener(listener);
+            }
+            for (ReferenceManager.RefreshListener listener : engineConfig.getInternalRefreshListener()) {
+                readerManager.addListener(listener);
+            }
+            completionStatsCache = new CompletionStatsCache(() -> acquireSearcher("completion_stats"));
+            readerManager.addListener(completionStatsCache);
+            success = true;
+        } finally {
+            if (success == false) {
+                IOUtils.closeWhileHandlingException(readerManager, translog);
+                if (isClosed.get() == false) {
+                    // failure we need to dec the store reference
+                    store.decRef();
+                }
+            }
+        }
+        logger.trace("created new NRTReplicationEngine");
+    }
+
+    /**
+     * Makes the given segments copied from the primary, whose files must all be in the store already, visible to searches. The user
+     * data of the segments must hold the local checkpoint of the primary at the time it was refreshed, which is used to trim the
+     * operations that the segments hold from the translog once they are committed by a flush.
+     */
+    public void updateSegments(SegmentInfos segmentInfos) throws IOException {
+        try (ReleasableLock ignored = readLock.acquire()) {
+            ensureOpen();
+            final Map<String, String> userData = new HashMap<>(segmentInfos.getUserData());
+            userData.put(Translog.TRANSLOG_UUID_KEY, translog.getTranslogUUID());
+            userData.remove(SYNC_COMMIT_ID);
+            segmentInfos.setUserData(userData, false);
+            synchronized (this) {
+                // a new primary may have committed fewer times than the segments this replica committed
+                if (segmentInfos.getGeneration() < lastCommittedSegmentInfos.getGeneration()) {
+                    segmentInfos.updateGeneration(lastCommittedSegmentInfos);
+                }
+                latestSegmentInfos = segmentInfos;
+                readerManager.updateSegments(segmentInfos);
+                readerManager.maybeRefreshBlocking();
+                deleteUnreferencedFiles();
+            }
+        } catch (AlreadyClosedException e) {
+            throw e;
+        } catch (IOException e) {
+            maybeFailEngine("update segments", e);
+            throw e;
+        }
+    }
+
+    /**
+     * Deletes the files that are neither referenced by the latest copied segments, nor by the last commit, nor by a commit that is
+     * still acquired. This only runs when new segments are copied since the files of the segments being copied are only referenced
+     * once they are all in the store. The files that are still open are kept until the next update of the segments.
+     */
+    private void deleteUnreferencedFiles() throws IOException {
+        assert Thread.holdsLock(this);
+        final Set<String> referencedFiles = new HashSet<>(latestSegmentInfos.files(true));
+        referencedFiles.addAll(lastCommittedSegmentInfos.files(true));
+        for (ObjectCursor<SegmentInfos> snapshottedCommit : snapshottedCommits.keys()) {
+            referencedFiles.addAll(snapshottedCommit.value.files(true));
+        }
+        for (String file : store.directory().listAll()) {
+            if (referencedFiles.contains(file) == false
+                && (file.startsWith(IndexFileNames.SEGMENTS) || IndexFileNames.CODEC_FILE_PATTERN.matcher(file).matches())) {
+                store.deleteQuiet(file);
+            }
+        }
+    }
+
+    private static long localCheckpoint(SegmentInfos segmentInfos) {
+        return Long.parseLong(segmentInfos.getUserData().get(SequenceNumbers.LOCAL_CHECKPOINT_KEY));
+    }
+
+    @Override
+    protected SegmentInfos getLastCommittedSegmentInfos() {
+        return lastCommittedSegmentInfos;
+    }
+
+    @Override
+    public String getHistoryUUID() {
+        return historyUUID;
+    }
+
+    @Override
+    public long getWritingBytes() {
+        return 0;
+    }
+
+    @Override
+    public CompletionStats completionStats(String... fieldNamePatterns) {
+        return completionStatsCache.get(fieldNamePatterns);
+    }
+
+    @Override
+    public long getIndexThrottleTimeInMillis() {
+        return 0;
+    }
+
+    @Override
+    public boolean isThrottled() {
+        return false;
+    }
+
+    @Override
+    public void trimOperationsFromTranslog(long belowTerm, long aboveSeqNo) throws EngineException {
+        try (ReleasableLock ignored = readLock.acquire()) {
+            ensureOpen();
+            translog.trimOperations(belowTerm, aboveSeqNo);
+        } catch (Exception e) {
+            maybeFailEngine("translog operations trimming", e);
+            throw new EngineException(shardId, "failed to trim translog operations", e);
+        }
+    }
+
+    @Override
+    public IndexResult index(Index index) throws IOException {
+        assert index.origin() != Operation.Origin.PRIMARY : "the replica engine does not index operations on the primary";
+        try (ReleasableLock ignored = readLock.acquire()) {
+            ensureOpen();
+            final IndexResult indexResult = new IndexResult(index.version(), index.primaryTerm(), index.seqNo(), false);
+            final Translog.Location location = index.origin().isFromTranslog()
+                ? null
+                : translog.add(new Translog.Index(index, indexResult));
+            indexResult.setTranslogLocation(location);
+            indexResult.setTook(System.nanoTime() - index.startTime());
+            indexResult.freeze();
+            markSeqNoAsProcessed(index.seqNo(), location);
+            return indexResult;
+        } catch (Exception e) {
+            maybeFailEngine("index", e);
+            throw e;
+        }
+    }
+
+    @Override
+    public DeleteResult delete(Delete delete) throws IOException {
+        assert delete.origin() != Operation.Origin.PRIMARY : "the replica engine does not delete documents on the primary";
+        try (ReleasableLock ignored = readLock.acquire()) {
+            ensureOpen();
+            final DeleteResult deleteResult = new DeleteResult(delete.version(), delete.primaryTerm(), delete.seqNo(), true);
+            final Translog.Location location = delete.origin().isFromTranslog()
+                ? null : translog.add(new Translog.Delete(delete, deleteResult));
+            deleteResult.setTranslogLocation(location);
+            deleteResult.setTook(System.nanoTime() - delete.startTime());
+            deleteResult.freeze();
+            markSeqNoAsProcessed(delete.seqNo(), location);
+            return deleteResult;
+        } catch (Exception e) {
+            maybeFailEngine("delete", e);
+            throw e;
+        }
+    }
+
+    @Override
+    public NoOpResult noOp(NoOp noOp) throws IOException {
+        try (ReleasableLock ignored = readLock.acquire()) {
+            ensureOpen();
+            final NoOpResult noOpResult = new NoOpResult(noOp.primaryTerm(), noOp.seqNo());
+            final Translog.Location location = noOp.origin().isFromTranslog()
+                ? null : translog.add(new Translog.NoOp(noOp.seqNo(), noOp.primaryTerm(), noOp.reason()));
+            noOpResult.setTranslogLocation(location);
+            noOpResult.setTook(System.nanoTime() - noOp.startTime());
+            noOpResult.freeze();
+            markSeqNoAsProcessed(noOp.seqNo(), location);
+            return noOpResult;
+        } catch (Exception e) {
+            maybeFailEngine("noop", e);
+            throw e;
+        }
+    }
+
+    private void markSeqNoAsProcessed(long seqNo, Translog.Location location) {
+        localCheckpointTracker.advanceMaxSeqNo(seqNo);
+        localCheckpointTracker.markSeqNoAsProcessed(seqNo);
+        if (location == null) {
+            // the operation was replayed from the translog, so it is already persisted
+            localCheckpointTracker.markSeqNoAsPersisted(seqNo);
+        }
+    }
+
+    @Override
+    public SyncedFlushResult syncFlush(String syncId, CommitId expectedCommitId) throws EngineException {
+        // the commits of a replica are copies of the segments of the primary, which cannot hold the sync id
+        return SyncedFlushResult.COMMIT_MISMATCH;
+    }
+
+    @Override
+    public GetResult get(Get get, BiFunction<String, SearcherScope, Searcher> searcherFactory) throws EngineException {
+        return getFromSearcher(get, searcherFactory, SearcherScope.EXTERNAL);
+    }
+
+    @Override
+    protected ReferenceManager<OpenSearchDirectoryReader> getReferenceManager(SearcherScope scope) {
+        return readerManager;
+    }
+
+    @Override
+    public boolean isTranslogSyncNeeded() {
+        return translog.syncNeeded();
+    }
+
+    @Override
+    public boolean ensureTranslogSynced(Stream<Translog.Location> locations) throws IOException {
+        final boolean synced = translog.ensureSynced(locations);
+        if (synced) {
+            translog.trimUnreferencedReaders();
+        }
+        return synced;
+    }
+
+    @Override
+    public void syncTranslog() throws IOException {
+        translog.sync();
+        translog.trimUnreferencedReaders();
+    }
+
+    @Override
+    public Closeable acquireHistoryRetentionLock(HistorySource historySource) {
+        return () -> {};
+    }
+
+    @Override
+    public Translog.Snapshot newChangesSnapshot(String source, MapperService mapperService, long fromSeqNo, long toSeqNo,
+                                                boolean requiredFullRange) throws IOException {
+        return translog.newSnapshot(fromSeqNo, toSeqNo);
+    }
+
+    @Override
+    public Translog.Snapshot readHistoryOperations(String reason, HistorySource historySource, MapperService mapperService,
+                                                   long startingSeqNo) throws IOException {
+        return translog.newSnapshot(startingSeqNo, Long.MAX_VALUE);
+    }
+
+    @Override
+    public int estimateNumberOfHistoryOperations(String reason, HistorySource historySource, MapperService mapperService,
+                                                 long startingSeqNo) {
+        return translog.estimateTotalOperationsFromMinSeq(startingSeqNo);
+    }
+
+    @Override
+    public boolean hasCompleteOperationHistory(String reason, HistorySource historySource, MapperService mapperService,
+                                               long startingSeqNo) {
+        // replicas are never the source of a peer recovery
+        return false;
+    }
+
+    @Override
+    public long getMinRetainedSeqNo() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public TranslogStats getTranslogStats() {
+        return translog.stats();
+    }
+
+    @Override
+    public Translog.Location getTranslogLastWriteLocation() {
+        return translog.getLastWriteLocation();
+    }
+
+    @Override
+    public long getPersistedLocalCheckpoint() {
+        return localCheckpointTracker.getPersistedCheckpoint();
+    }
+
+    public long getProcessedLocalCheckpoint() {
+        return localCheckpointTracker.getProcessedCheckpoint();
+    }
+
+    @Override
+    public SeqNoStats getSeqNoStats(long globalCheckpoint) {
+        return localCheckpointTracker.getStats(globalCheckpoint);
+    }
+
+    @Override
+    public long getLastSyncedGlobalCheckpoint() {
+        return translog.getLastSyncedGlobalCheckpoint();
+    }
+
+    @Override
+    public long getIndexBufferRAMBytesUsed() {
+        return 0;
+    }
+
+    @Override
+    public List<Segment> segments(boolean verbose) {
+        final Segment[] segments = getSegmentInfo(latestSegmentInfos, verbose);
+        // the latest segments are not necessarily part of the last commit of this copy
+        final Set<String> committedSegments = new HashSet<>();
+        for (SegmentCommitInfo info : lastCommittedSegmentInfos) {
+            committedSegments.add(info.info.name);
+        }
+        for (Segment segment : segments) {
+            segment.committed = committedSegments.contains(segment.getName());
+        }
+        return Arrays.asList(segments);
+    }
+
+    @Override
+    public void refresh(String source) throws EngineException {
+        // only makes the last copied segments visible, if they are not yet
+        try {
+            readerManager.maybeRefreshBlocking();
+        } catch (AlreadyClosedException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RefreshFailedEngineException(shardId, e);
+        }
+    }
+
+    @Override
+    public boolean maybeRefresh(String source) throws EngineException {
+        try {
+            return readerManager.maybeRefresh();
+        } catch (AlreadyClosedException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RefreshFailedEngineException(shardId, e);
+        }
+    }
+
+    @Override
+    public boolean refreshNeeded() {
+        return readerManager.isRefreshNeeded();
+    }
+
+    @Override
+    public void writeIndexingBuffer() throws EngineException {
+    }
+
+    @Override
+    public boolean shouldPeriodicallyFlush() {
+        ensureOpen();
+        final long localCheckpointOfLastCommit = localCheckpoint(lastCommittedSegmentInfos);
+        if (localCheckpoint(latestSegmentInfos) <= localCheckpointOfLastCommit) {
+            // committing the copied segments would not allow trimming the translog any further
+            return false;
+        }
+        final long translogGenerationOfLastCommit =
+            translog.getMinGenerationForSeqNo(localCheckpointOfLastCommit + 1).translogFileGeneration;
+        final long flushThreshold = config().getIndexSettings().getFlushThresholdSize().getBytes();
+        return translog.sizeInBytesByMinGen(translogGenerationOfLastCommit) >= flushThreshold;
+    }
+
+    @Override
+    public CommitId flush(boolean force, boolean waitIfOngoing) throws EngineException {
+        try (ReleasableLock ignored = readLock.acquire()) {
+            ensureOpen();
+            if (flushLock.tryLock() == false) {
+                // if we can't get the lock right away we block if needed otherwise barf
+                if (waitIfOngoing) {
+                    flushLock.lock();
+                } else {
+                    return new CommitId(lastCommittedSegmentInfos.getId());
+                }
+            }
+            try {
+                translog.rollGeneration();
+                synchronized (this) {
+                    final SegmentInfos segmentInfos = latestSegmentInfos;
+                    if (segmentInfos != lastCommittedSegmentInfos) {
+                        // the copied files are synced as they are written, so committing only has to write and sync the segments file
+                        segmentInfos.commit(store.directory());
+                        lastCommittedSegmentInfos = segmentInfos;
+                    }
+                }
+                final long localCheckpoint = localCheckpoint(lastCommittedSegmentInfos);
+                final TranslogDeletionPolicy translogDeletionPolicy = translog.getDeletionPolicy();
+                if (localCheckpoint > translogDeletionPolicy.getLocalCheckpointOfSafeCommit()) {
+                    translogDeletionPolicy.setLocalCheckpointOfSafeCommit(localCheckpoint);
+                }
+                translog.trimUnreferencedReaders();
+                return new CommitId(lastCommittedSegmentInfos.getId());
+            } catch (AlreadyClosedException e) {
+                throw e;
+            } catch (Exception e) {
+                final FlushFailedEngineException ex = new FlushFailedEngineException(shardId, e);
+                maybeFailEngine("flush", ex);
+                throw ex;
+            } finally {
+                flushLock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public void trimUnreferencedTranslogFiles() throws EngineException {
+        try (ReleasableLock ignored = readLock.acquire()) {
+            ensureOpen();
+            translog.trimUnreferencedReaders();
+        } catch (AlreadyClosedException e) {
+            throw e;
+        } catch (Exception e) {
+            maybeFailEngine("translog trimming", e);
+            throw new EngineException(shardId, "failed to trim translog", e);
+        }
+    }
+
+    @Override
+    public boolean shouldRollTranslogGeneration() {
+        return translog.shouldRollGeneration();
+    }
+
+    @Override
+    public void rollTranslogGeneration() throws EngineException {
+        try (ReleasableLock ignored = readLock.acquire()) {
+            ensureOpen();
+            translog.rollGeneration();
+            translog.trimUnreferencedReaders();
+        } catch (AlreadyClosedException e) {
+            throw e;
+        } catch (Exception e) {
+            maybeFailEngine("translog rolling", e);
+            throw new EngineException(shardId, "failed to roll translog", e);
+        }
+    }
+
+    @Override
+    public void forceMerge(boolean flush, int maxNumSegments, boolean onlyExpungeDeletes, boolean upgrade,
+                           boolean upgradeOnlyAncientSegments, String forceMergeUUID) {
+        // the merged segments are copied from the primary
+    }
+
+    @Override
+    public IndexCommitRef acquireLastIndexCommit(boolean flushFirst) throws EngineException {
+        if (flushFirst) {
+            flush(false, true);
+        }
+        final SegmentInfos segmentInfos;
+        synchronized (this) {
+            segmentInfos = lastCommittedSegmentInfos;
+            snapshottedCommits.addTo(segmentInfos, 1); // increase refCount
+        }
+        store.incRef();
+        boolean success = false;
+        try {
+            final IndexCommitRef indexCommitRef = new IndexCommitRef(Lucene.getIndexCommit(segmentInfos, store.directory()), () -> {
+                releaseCommit(segmentInfos);
+                store.decRef();
+            });
+            success = true;
+            return indexCommitRef;
+        } catch (IOException e) {
+            throw new EngineException(shardId, "failed to acquire the last index commit", e);
+        } finally {
+            if (success == false) {
+                releaseCommit(segmentInfos);
+                store.decRef();
+            }
+        }
+    }
+
+    /**
+     * Releases a commit acquired by {@link #acquireLastIndexCommit(boolean)}. Its files are deleted by the next update of the
+     * segments if no other snapshot holds the commit and it is not the last commit anymore.
+     */
+    private synchronized void releaseCommit(SegmentInfos segmentInfos) {
+        assert snapshottedCommits.containsKey(segmentInfos) : "Release non-snapshotted commit;" +
+            "snapshotted commits [" + snapshottedCommits + "], releasing commit [" + segmentInfos + "]";
+        final int refCount = snapshottedCommits.addTo(segmentInfos, -1); // release refCount
+        assert refCount >= 0 : "Number of snapshots can not be negative [" + refCount + "]";
+        if (refCount == 0) {
+            snapshottedCommits.remove(segmentInfos);
+        }
+    }
+
+    @Override
+    public IndexCommitRef acquireSafeIndexCommit() throws EngineException {
+        return acquireLastIndexCommit(false);
+    }
+
+    @Override
+    public SafeCommitInfo getSafeCommitInfo() {
+        final SegmentInfos segmentInfos = lastCommittedSegmentInfos;
+        return new SafeCommitInfo(localCheckpoint(segmentInfos), segmentInfos.totalMaxDoc());
+    }
+
+    @Override
+    protected void closeNoLock(String reason, CountDownLatch closedLatch) {
+        if (isClosed.compareAndSet(false, true)) {
+            try {
+                IOUtils.close(readerManager, translog, store::decRef);
+            } catch (Exception e) {
+                logger.warn("failed to close engine", e);
+            } finally {
+                logger.debug("engine closed [{}]", reason);
+                closedLatch.countDown();
+            }
+        }
+    }
+
+    @Override
+    public void activateThrottling() {
+    }
+
+    @Override
+    public void deactivateThrottling() {
+    }
+
+    @Override
+    public int restoreLocalHistoryFromTranslog(TranslogRecoveryRunner translogRecoveryRunner) {
+        // the operations of the translog are processed as they are written, a replica that is promoted switches to an engine that
+        // replays them into its segments instead
+        return 0;
+    }
+
+    @Override
+    public int fillSeqNoGaps(long primaryTerm) {
+        return 0;
+    }
+
+    @Override
+    public Engine recoverFromTranslog(TranslogRecoveryRunner translogRecoveryRunner, long recoverUpToSeqNo) throws IOException {
+        try (ReleasableLock ignored = readLock.acquire()) {
+            ensureOpen();
+            final long localCheckpoint = localCheckpointTracker.getProcessedCheckpoint();
+            if (localCheckpoint < recoverUpToSeqNo) {
+                try (Translog.Snapshot snapshot = translog.newSnapshot(localCheckpoint + 1, recoverUpToSeqNo)) {
+                    translogRecoveryRunner.run(this, snapshot);
+                } catch (Exception e) {
+                    throw new EngineException(shardId, "failed to recover from translog", e);
+                }
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public void skipTranslogRecovery() {
+    }
+
+    @Override
+    public void maybePruneDeletes() {
+    }
+
+    @Override
+    public void updateMaxUnsafeAutoIdTimestamp(long newTimestamp) {
+    }
+
+    @Override
+    public long getMaxSeqNoOfUpdatesOrDeletes() {
+        return maxSeqNoOfUpdatesOrDeletes.get();
+    }
+
+    @Override
+    public void advanceMaxSeqNoOfUpdatesOrDeletes(long maxSeqNoOfUpdatesOnPrimary) {
+        maxSeqNoOfUpdatesOrDeletes.updateAndGet(curr -> Math.max(curr, maxSeqNoOfUpdatesOnPrimary));
+    }
+
+    @Override
+    public void onSettingsChanged(TimeValue translogRetentionAge, ByteSizeValue translogRetentionSize, long softDeletesRetentionOps) {
+        final TranslogDeletionPolicy translogDeletionPolicy = translog.getDeletionPolicy();
+        translogDeletionPolicy.setRetentionAgeInMillis(translogRetentionAge.millis());
+        translogDeletionPolicy.setRetentionSizeInBytes(translogRetentionSize.getBytes());
+    }
+}
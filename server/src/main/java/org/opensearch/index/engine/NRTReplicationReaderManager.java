@@ -0,0 +1,125 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.FilterDirectoryReader;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SegmentCommitInfo;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.index.SegmentReader;
+import org.apache.lucene.index.SoftDeletesDirectoryReaderWrapper;
+import org.apache.lucene.index.StandardDirectoryReaderHelper;
+import org.apache.lucene.search.ReferenceManager;
+import org.apache.lucene.store.Directory;
+import org.opensearch.common.SuppressForbidden;
+import org.opensearch.common.lucene.Lucene;
+import org.opensearch.common.lucene.index.OpenSearchDirectoryReader;
+import org.opensearch.index.shard.ShardId;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * A {@link ReferenceManager} that opens readers on segments copied from the primary by segment replication rather than on segments
+ * written by an {@link org.apache.lucene.index.IndexWriter}. Refreshing opens a reader on the latest segments passed to
+ * {@link #updateSegments(SegmentInfos)}, sharing the segment readers of the current reader whose segments did not change.
+ */
+@SuppressForbidden(reason = "reference counting is required here")
+final class NRTReplicationReaderManager extends ReferenceManager<OpenSearchDirectoryReader> {
+
+    private final Directory directory;
+    private final ShardId shardId;
+    private final BiConsumer<OpenSearchDirectoryReader, OpenSearchDirectoryReader> refreshListener;
+    private volatile SegmentInfos latestSegmentInfos;
+    private volatile SegmentInfos currentSegmentInfos;
+
+    /**
+     * @param directory       the directory holding the copied segments
+     * @param shardId         the shard the segments belong to
+     * @param segmentInfos    the segments to open the initial reader on
+     * @param refreshListener a consumer that is called every time a new reader is opened
+     */
+    NRTReplicationReaderManager(Directory directory, ShardId shardId, SegmentInfos segmentInfos,
+                                BiConsumer<OpenSearchDirectoryReader, OpenSearchDirectoryReader> refreshListener) throws IOException {
+        this.directory = directory;
+        this.shardId = shardId;
+        this.refreshListener = refreshListener;
+        this.latestSegmentInfos = segmentInfos;
+        this.currentSegmentInfos = segmentInfos;
+        this.current = open(segmentInfos, null);
+        refreshListener.accept(current, null);
+    }
+
+    /**
+     * Sets the segments that the next refresh opens a reader on. All the files of the segments must be in the directory.
+     */
+    void updateSegments(SegmentInfos segmentInfos) {
+        this.latestSegmentInfos = segmentInfos;
+    }
+
+    /**
+     * Returns true if the current reader is not opened on the latest segments.
+     */
+    boolean isRefreshNeeded() {
+        return latestSegmentInfos != currentSegmentInfos;
+    }
+
+    @Override
+    protected OpenSearchDirectoryReader refreshIfNeeded(OpenSearchDirectoryReader referenceToRefresh) throws IOException {
+        final SegmentInfos segmentInfos = latestSegmentInfos;
+        if (segmentInfos == currentSegmentInfos) {
+            return null;
+        }
+        final OpenSearchDirectoryReader reader = open(segmentInfos, referenceToRefresh);
+        currentSegmentInfos = segmentInfos;
+        refreshListener.accept(reader, referenceToRefresh);
+        return reader;
+    }
+
+    private OpenSearchDirectoryReader open(SegmentInfos segmentInfos, OpenSearchDirectoryReader previousReader) throws IOException {
+        final List<LeafReader> reusableReaders = new ArrayList<>();
+        if (previousReader != null) {
+            // a segment that was rewritten by a new primary keeps its name, so segment readers are only shared if their ids match
+            final Map<String, byte[]> segmentIds = new HashMap<>();
+            for (SegmentCommitInfo info : segmentInfos) {
+                segmentIds.put(info.info.name, info.info.getId());
+            }
+            for (LeafReaderContext leaf : FilterDirectoryReader.unwrap(previousReader).leaves()) {
+                final SegmentReader segmentReader = (SegmentReader) leaf.reader();
+                if (Arrays.equals(segmentIds.get(segmentReader.getSegmentName()), segmentReader.getSegmentInfo().info.getId())) {
+                    reusableReaders.add(segmentReader);
+                }
+            }
+        }
+        final DirectoryReader reader = StandardDirectoryReaderHelper.open(directory, segmentInfos, reusableReaders);
+        return OpenSearchDirectoryReader.wrap(new SoftDeletesDirectoryReaderWrapper(reader, Lucene.SOFT_DELETES_FIELD), shardId);
+    }
+
+    @Override
+    protected void decRef(OpenSearchDirectoryReader reference) throws IOException {
+        reference.decRef();
+    }
+
+    @Override
+    protected boolean tryIncRef(OpenSearchDirectoryReader reference) {
+        return reference.tryIncRef();
+    }
+
+    @Override
+    protected int getRefCount(OpenSearchDirectoryReader reference) {
+        return reference.getRefCount();
+    }
+}
@@ -37,6 +37,8 @@ import org.apache.lucene.index.ConcurrentMergeScheduler;
 import org.apache.lucene.index.MergePolicy;
 import org.apache.lucene.index.MergeScheduler;
 import org.apache.lucene.index.OneMergeHelper;
+import org.apache.lucene.store.Directory;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.logging.Loggers;
 import org.opensearch.common.metrics.CounterMetric;
 import org.opensearch.common.metrics.MeanMetric;
@@ -50,6 +52,7 @@ import org.opensearch.index.MergeSchedulerConfig;
 import org.opensearch.index.merge.MergeStats;
 import org.opensearch.index.merge.OnGoingMerge;
 import org.opensearch.index.shard.ShardId;
+import org.opensearch.indices.MergeBudgetCoordinator;
 
 import java.io.IOException;
 import java.util.Collections;
@@ -58,9 +61,9 @@ import java.util.Set;
 
 /**
  * An extension to the {@link ConcurrentMergeScheduler} that provides tracking on merge times, total
- * and current merges.
+ * and current merges, and that takes part in the merge budget of the node if there is one.
  */
-class OpenSearchConcurrentMergeScheduler extends ConcurrentMergeScheduler {
+class OpenSearchConcurrentMergeScheduler extends ConcurrentMergeScheduler implements MergeBudgetCoordinator.Participant {
 
     protected final Logger logger;
     private final Settings indexSettings;
@@ -74,16 +77,26 @@ class OpenSearchConcurrentMergeScheduler extends ConcurrentMergeScheduler {
     private final CounterMetric currentMergesSizeInBytes = new CounterMetric();
     private final CounterMetric totalMergeStoppedTime = new CounterMetric();
     private final CounterMetric totalMergeThrottledTime = new CounterMetric();
+    private final CounterMetric totalMergeBudgetThrottledTimeInNanos = new CounterMetric();
 
     private final Set<OnGoingMerge> onGoingMerges = ConcurrentCollections.newConcurrentSet();
     private final Set<OnGoingMerge> readOnlyOnGoingMerges = Collections.unmodifiableSet(onGoingMerges);
     private final MergeSchedulerConfig config;
+    @Nullable
+    private final MergeBudgetCoordinator mergeBudgetCoordinator;
+    private volatile int threadBudget = MergeBudgetCoordinator.UNLIMITED_THREADS;
 
     OpenSearchConcurrentMergeScheduler(ShardId shardId, IndexSettings indexSettings) {
+        this(shardId, indexSettings, null);
+    }
+
+    OpenSearchConcurrentMergeScheduler(ShardId shardId, IndexSettings indexSettings,
+                                       @Nullable MergeBudgetCoordinator mergeBudgetCoordinator) {
         this.config = indexSettings.getMergeSchedulerConfig();
         this.shardId = shardId;
         this.indexSettings = indexSettings.getSettings();
         this.logger = Loggers.getLogger(getClass(), shardId);
+        this.mergeBudgetCoordinator = mergeBudgetCoordinator;
         refreshConfig();
     }
 
@@ -102,6 +115,9 @@ class OpenSearchConcurrentMergeScheduler extends ConcurrentMergeScheduler {
 
         OnGoingMerge onGoingMerge = new OnGoingMerge(merge);
         onGoingMerges.add(onGoingMerge);
+        if (mergeBudgetCoordinator != null) {
+            mergeBudgetCoordinator.rebalance();
+        }
 
         if (logger.isTraceEnabled()) {
             logger.trace("merge [{}] starting..., merging [{}] segments, [{}] docs, [{}] size, into [{}] estimated_size",
@@ -120,6 +136,9 @@ class OpenSearchConcurrentMergeScheduler extends ConcurrentMergeScheduler {
             currentMerges.dec();
             currentMergesNumDocs.dec(totalNumDocs);
             currentMergesSizeInBytes.dec(totalSizeInBytes);
+            if (mergeBudgetCoordinator != null) {
+                mergeBudgetCoordinator.rebalance();
+            }
 
             totalMergesNumDocs.inc(totalNumDocs);
             totalMergesSizeInBytes.inc(totalSizeInBytes);
@@ -166,6 +185,65 @@ class OpenSearchConcurrentMergeScheduler extends ConcurrentMergeScheduler {
      */
     protected void afterMerge(OnGoingMerge merge) {}
 
+    @Override
+    public Directory wrapForMerge(MergePolicy.OneMerge merge, Directory in) {
+        final Directory directory = super.wrapForMerge(merge, in);
+        if (mergeBudgetCoordinator == null) {
+            return directory;
+        }
+        return mergeBudgetCoordinator.wrapForMerge(merge, directory, totalMergeBudgetThrottledTimeInNanos);
+    }
+
+    /**
+     * Adds this scheduler to the merge budget of the node, if there is one. Must be called once the shard is ready to merge.
+     */
+    void registerWithMergeBudget() {
+        if (mergeBudgetCoordinator != null) {
+            mergeBudgetCoordinator.register(this);
+        }
+    }
+
+    @Override
+    public int mergeCount() {
+        return (int) currentMerges.count();
+    }
+
+    @Override
+    public int maxThreadCount() {
+        return config.getMaxThreadCount();
+    }
+
+    @Override
+    public int segmentCount() {
+        return 0;
+    }
+
+    @Override
+    public long deletedDocCount() {
+        return 0;
+    }
+
+    @Override
+    public void setThreadBudget(int threadBudget) {
+        if (this.threadBudget != threadBudget) {
+            this.threadBudget = threadBudget;
+            refreshConfig();
+            // pauses or resumes the running merges according to the new budget
+            updateMergeThreads();
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            super.close();
+        } finally {
+            if (mergeBudgetCoordinator != null) {
+                mergeBudgetCoordinator.unregister(this);
+            }
+        }
+    }
+
     @Override
     public MergeScheduler clone() {
         // Lucene IW makes a clone internally but since we hold on to this instance
@@ -194,12 +272,18 @@ class OpenSearchConcurrentMergeScheduler extends ConcurrentMergeScheduler {
                 totalMergeStoppedTime.count(),
                 totalMergeThrottledTime.count(),
                 config.isAutoThrottle() ? getIORateLimitMBPerSec() : Double.POSITIVE_INFINITY);
+        mergeStats.addMergeBudget(Math.min(currentMerges.count(), getMaxThreadCount()),
+            TimeValue.nsecToMSec(totalMergeBudgetThrottledTimeInNanos.count()));
         return mergeStats;
     }
 
-    void refreshConfig() {
-        if (this.getMaxMergeCount() != config.getMaxMergeCount() || this.getMaxThreadCount() != config.getMaxThreadCount()) {
-            this.setMaxMergesAndThreads(config.getMaxMergeCount(), config.getMaxThreadCount());
+    synchronized void refreshConfig() {
+        final int threadBudget = this.threadBudget;
+        final int maxThreadCount = threadBudget == MergeBudgetCoordinator.UNLIMITED_THREADS
+            ? config.getMaxThreadCount()
+            : Math.min(config.getMaxThreadCount(), threadBudget);
+        if (this.getMaxMergeCount() != config.getMaxMergeCount() || this.getMaxThreadCount() != maxThreadCount) {
+            this.setMaxMergesAndThreads(config.getMaxMergeCount(), maxThreadCount);
         }
         boolean isEnabled = getIORateLimitMBPerSec() != Double.POSITIVE_INFINITY;
         if (config.isAutoThrottle() && isEnabled == false) {
@@ -32,6 +32,7 @@
 
 package org.opensearch.index.merge;
 
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
@@ -60,6 +61,12 @@ public class MergeStats implements Writeable, ToXContentFragment {
 
     private long totalBytesPerSecAutoThrottle;
 
+    /** The number of merge threads that merging shards may currently use, as allocated by the merge budget of the node. */
+    private long currentAllocatedThreads;
+
+    /** Total millis that we slept during writes so merge IO stays within the merge budget of the node. */
+    private long totalBudgetThrottledTimeInMillis;
+
     public MergeStats() {
 
     }
@@ -76,6 +83,10 @@ public class MergeStats implements Writeable, ToXContentFragment {
         totalStoppedTimeInMillis = in.readVLong();
         totalThrottledTimeInMillis = in.readVLong();
         totalBytesPerSecAutoThrottle = in.readVLong();
+        if (in.getVersion().onOrAfter(Version.V_1_1_0)) {
+            currentAllocatedThreads = in.readVLong();
+            totalBudgetThrottledTimeInMillis = in.readVLong();
+        }
     }
 
     public void add(long totalMerges, long totalMergeTime, long totalNumDocs, long totalSizeInBytes,
@@ -98,6 +109,11 @@ public class MergeStats implements Writeable, ToXContentFragment {
         }
     }
 
+    public void addMergeBudget(long currentAllocatedThreads, long budgetThrottledTimeMillis) {
+        this.currentAllocatedThreads += currentAllocatedThreads;
+        this.totalBudgetThrottledTimeInMillis += budgetThrottledTimeMillis;
+    }
+
     public void add(MergeStats mergeStats) {
         if (mergeStats == null) {
             return;
@@ -105,6 +121,7 @@ public class MergeStats implements Writeable, ToXContentFragment {
         this.current += mergeStats.current;
         this.currentNumDocs += mergeStats.currentNumDocs;
         this.currentSizeInBytes += mergeStats.currentSizeInBytes;
+        this.currentAllocatedThreads += mergeStats.currentAllocatedThreads;
 
         addTotals(mergeStats);
     }
@@ -119,6 +136,7 @@ public class MergeStats implements Writeable, ToXContentFragment {
         this.totalSizeInBytes += mergeStats.totalSizeInBytes;
         this.totalStoppedTimeInMillis += mergeStats.totalStoppedTimeInMillis;
         this.totalThrottledTimeInMillis += mergeStats.totalThrottledTimeInMillis;
+        this.totalBudgetThrottledTimeInMillis += mergeStats.totalBudgetThrottledTimeInMillis;
         if (this.totalBytesPerSecAutoThrottle == Long.MAX_VALUE || mergeStats.totalBytesPerSecAutoThrottle == Long.MAX_VALUE) {
             this.totalBytesPerSecAutoThrottle = Long.MAX_VALUE;
         } else {
@@ -191,6 +209,27 @@ public class MergeStats implements Writeable, ToXContentFragment {
         return totalBytesPerSecAutoThrottle;
     }
 
+    /**
+     * The number of merge threads that merging shards may currently use.
+     */
+    public long getCurrentAllocatedThreads() {
+        return this.currentAllocatedThreads;
+    }
+
+    /**
+     * The total time merge IO writes were throttled to stay within the merge budget of the node.
+     */
+    public long getTotalBudgetThrottledTimeInMillis() {
+        return this.totalBudgetThrottledTimeInMillis;
+    }
+
+    /**
+     * The total time merge IO writes were throttled to stay within the merge budget of the node.
+     */
+    public TimeValue getTotalBudgetThrottledTime() {
+        return new TimeValue(totalBudgetThrottledTimeInMillis);
+    }
+
     /**
      * The current number of merges executing.
      */
@@ -226,6 +265,9 @@ public class MergeStats implements Writeable, ToXContentFragment {
             builder.field(Fields.TOTAL_THROTTLE_BYTES_PER_SEC).value(new ByteSizeValue(totalBytesPerSecAutoThrottle).toString());
         }
         builder.field(Fields.TOTAL_THROTTLE_BYTES_PER_SEC_IN_BYTES, totalBytesPerSecAutoThrottle);
+        builder.field(Fields.CURRENT_ALLOCATED_THREADS, currentAllocatedThreads);
+        builder.humanReadableField(Fields.TOTAL_BUDGET_THROTTLED_TIME_IN_MILLIS, Fields.TOTAL_BUDGET_THROTTLED_TIME,
+            getTotalBudgetThrottledTime());
         builder.endObject();
         return builder;
     }
@@ -248,6 +290,9 @@ public class MergeStats implements Writeable, ToXContentFragment {
         static final String TOTAL_SIZE_IN_BYTES = "total_size_in_bytes";
         static final String TOTAL_THROTTLE_BYTES_PER_SEC_IN_BYTES = "total_auto_throttle_in_bytes";
         static final String TOTAL_THROTTLE_BYTES_PER_SEC = "total_auto_throttle";
+        static final String CURRENT_ALLOCATED_THREADS = "current_allocated_threads";
+        static final String TOTAL_BUDGET_THROTTLED_TIME = "total_budget_throttled_time";
+        static final String TOTAL_BUDGET_THROTTLED_TIME_IN_MILLIS = "total_budget_throttled_time_in_millis";
     }
 
     @Override
@@ -263,5 +308,9 @@ public class MergeStats implements Writeable, ToXContentFragment {
         out.writeVLong(totalStoppedTimeInMillis);
         out.writeVLong(totalThrottledTimeInMillis);
         out.writeVLong(totalBytesPerSecAutoThrottle);
+        if (out.getVersion().onOrAfter(Version.V_1_1_0)) {
+            out.writeVLong(currentAllocatedThreads);
+            out.writeVLong(totalBudgetThrottledTimeInMillis);
+        }
     }
 }
@@ -531,6 +531,14 @@ public class QueryShardContext extends QueryRewriteContext {
         return bigArrays;
     }
 
+    /**
+     * Return the {@link ScriptService} instance for this node. Use {@link #compile} to compile scripts
+     * that are executed against this shard.
+     */
+    public ScriptService getScriptService() {
+        return scriptService;
+    }
+
     public SimilarityService getSimilarityService() {
         return similarityService;
     }
@@ -0,0 +1,82 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.shard;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decides whether a scheduled refresh of a shard is due if the index uses adaptive refresh. The scheduled refresh of the index runs at
+ * the refresh interval of the index, which is the shortest interval of its shards, and a shard only refreshes once its own interval
+ * elapsed since its previous scheduled refresh:
+ * <ul>
+ *     <li>a shard that was searched since its previous scheduled refresh is refreshed at the shortest interval, so that its searches
+ *     see fresh data,</li>
+ *     <li>a shard that was not searched doubles its interval on every scheduled refresh up to the longest interval, so that shards that
+ *     are written to but not searched create far fewer and larger segments,</li>
+ *     <li>the interval of a shard is at least {@link #REFRESH_COST_FACTOR} times the time its recent refreshes took, which bounds the
+ *     share of time spent on creating segments on shards that index heavily.</li>
+ * </ul>
+ * Refresh listeners that wait for a refresh bypass the adaptive interval.
+ */
+final class AdaptiveRefreshInterval {
+
+    /**
+     * The interval of a shard is at least this many times the average time its refreshes took since its previous scheduled refresh
+     */
+    static final int REFRESH_COST_FACTOR = 20;
+
+    private long intervalInMillis;
+    private long lastRefreshInMillis;
+    private long refreshCostInMillis;
+    private long refreshCount;
+    private long refreshTimeInNanos;
+
+    AdaptiveRefreshInterval(long nowInMillis) {
+        this.lastRefreshInMillis = nowInMillis;
+    }
+
+    /**
+     * Returns whether the shard must be refreshed now. If so, the shard is assumed to be refreshed and the interval until its next
+     * scheduled refresh is adapted.
+     *
+     * @param nowInMillis                the current relative time
+     * @param lastSearcherAccessInMillis the relative time at which the shard was last searched
+     * @param refreshCount               the number of refreshes of the shard so far
+     * @param refreshTimeInNanos         the time the refreshes of the shard took so far
+     * @param minIntervalInMillis        the shortest interval between two scheduled refreshes
+     * @param maxIntervalInMillis        the longest interval between two scheduled refreshes
+     */
+    synchronized boolean isRefreshDue(long nowInMillis, long lastSearcherAccessInMillis, long refreshCount, long refreshTimeInNanos,
+                                      long minIntervalInMillis, long maxIntervalInMillis) {
+        if (refreshCount > this.refreshCount) {
+            refreshCostInMillis = TimeUnit.NANOSECONDS.toMillis((refreshTimeInNanos - this.refreshTimeInNanos)
+                / (refreshCount - this.refreshCount));
+            this.refreshCount = refreshCount;
+            this.refreshTimeInNanos = refreshTimeInNanos;
+        }
+        maxIntervalInMillis = Math.max(minIntervalInMillis, maxIntervalInMillis);
+        final boolean searched = lastSearcherAccessInMillis >= lastRefreshInMillis;
+        final long adaptedInterval = searched ? minIntervalInMillis : Math.max(minIntervalInMillis, intervalInMillis);
+        final long interval = Math.min(maxIntervalInMillis, Math.max(adaptedInterval, refreshCostInMillis * REFRESH_COST_FACTOR));
+        // the scheduled refresh runs every shortest interval, give it half of it as leeway
+        if (nowInMillis - lastRefreshInMillis < interval - minIntervalInMillis / 2) {
+            return false;
+        }
+        intervalInMillis = searched ? minIntervalInMillis : Math.min(maxIntervalInMillis, Math.max(minIntervalInMillis, interval * 2));
+        lastRefreshInMillis = nowInMillis;
+        return true;
+    }
+
+    /**
+     * Returns the interval until the next scheduled refresh of the shard, unless the shard is searched in the meantime.
+     */
+    synchronized long getIntervalInMillis() {
+        return intervalInMillis;
+    }
+}
@@ -198,4 +198,13 @@ public interface IndexEventListener {
      */
     default void beforeIndexShardRecovery(IndexShard indexShard, IndexSettings indexSettings) {
     }
+
+    /**
+     * Called after a refresh of a primary shard of an index using segment replication opened a reader on new segments.
+     * Note: this method is called on the refreshing thread rather than the cluster state update thread.
+     *
+     * @param indexShard the shard that was refreshed
+     */
+    default void afterSegmentsRefreshed(IndexShard indexShard) {
+    }
 }
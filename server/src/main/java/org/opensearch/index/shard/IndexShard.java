@@ -107,6 +107,8 @@ import org.opensearch.index.engine.Engine.GetResult;
 import org.opensearch.index.engine.EngineConfig;
 import org.opensearch.index.engine.EngineException;
 import org.opensearch.index.engine.EngineFactory;
+import org.opensearch.index.engine.InternalEngineFactory;
+import org.opensearch.index.engine.NRTReplicationEngine;
 import org.opensearch.index.engine.ReadOnlyEngine;
 import org.opensearch.index.engine.RefreshFailedEngineException;
 import org.opensearch.index.engine.SafeCommitInfo;
@@ -152,6 +154,8 @@ import org.opensearch.index.warmer.ShardIndexWarmerService;
 import org.opensearch.index.warmer.WarmerStats;
 import org.opensearch.indices.IndexingMemoryController;
 import org.opensearch.indices.IndicesService;
+import org.opensearch.indices.MergeBudgetCoordinator;
+import org.opensearch.indices.TranslogSyncCoordinator;
 import org.opensearch.indices.TypeMissingException;
 import org.opensearch.indices.breaker.CircuitBreakerService;
 import org.opensearch.indices.cluster.IndicesClusterStateService;
@@ -194,6 +198,7 @@ import java.util.function.Function;
 import java.util.function.LongSupplier;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import static org.opensearch.index.seqno.RetentionLeaseActions.RETAIN_ALL;
@@ -206,6 +211,7 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
     private final IndexCache indexCache;
     private final Store store;
     private final InternalIndexingStats internalIndexingStats;
+    private volatile long indexBufferBudgetInBytes;
     private final ShardSearchStats searchStats = new ShardSearchStats();
     private final ShardGetService getService;
     private final ShardIndexWarmerService shardWarmerService;
@@ -223,6 +229,8 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
     private final Supplier<Sort> indexSortSupplier;
     // Package visible for testing
     final CircuitBreakerService circuitBreakerService;
+    @Nullable
+    private final MergeBudgetCoordinator mergeBudgetCoordinator;
 
     private final SearchOperationListener searchOperationListener;
 
@@ -286,6 +294,7 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
     private final RefreshListeners refreshListeners;
 
     private final AtomicLong lastSearcherAccess = new AtomicLong();
+    private final AdaptiveRefreshInterval adaptiveRefreshInterval;
     private final AtomicReference<Translog.Location> pendingRefreshLocation = new AtomicReference<>();
     private final RefreshPendingLocationListener refreshPendingLocationListener;
     private volatile boolean useRetentionLeasesInPeerRecovery;
@@ -309,7 +318,9 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
             final List<IndexingOperationListener> listeners,
             final Runnable globalCheckpointSyncer,
             final RetentionLeaseSyncer retentionLeaseSyncer,
-            final CircuitBreakerService circuitBreakerService) throws IOException {
+            final CircuitBreakerService circuitBreakerService,
+            final @Nullable TranslogSyncCoordinator translogSyncCoordinator,
+            final @Nullable MergeBudgetCoordinator mergeBudgetCoordinator) throws IOException {
         super(shardRouting.shardId(), indexSettings);
         assert shardRouting.initializing();
         this.shardRouting = shardRouting;
@@ -324,6 +335,8 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         this.indexEventListener = indexEventListener;
         this.threadPool = threadPool;
         this.translogSyncProcessor = createTranslogSyncProcessor(logger, threadPool.getThreadContext(), this::getEngine);
+        this.translogSyncCoordinator = translogSyncCoordinator;
+        this.translogSyncer = locations -> syncTranslog(logger, this::getEngine, locations.stream());
         this.mapperService = mapperService;
         this.indexCache = indexCache;
         this.internalIndexingStats = new InternalIndexingStats();
@@ -343,6 +356,7 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         state = IndexShardState.CREATED;
         this.path = path;
         this.circuitBreakerService = circuitBreakerService;
+        this.mergeBudgetCoordinator = mergeBudgetCoordinator;
         /* create engine config */
         logger.debug("state: [CREATED]");
 
@@ -386,6 +400,7 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         readerWrapper = indexReaderWrapper;
         refreshListeners = buildRefreshListeners();
         lastSearcherAccess.set(threadPool.relativeTimeInMillis());
+        adaptiveRefreshInterval = new AdaptiveRefreshInterval(threadPool.relativeTimeInMillis());
         persistMetadata(path, indexSettings, shardRouting, null, logger);
         this.useRetentionLeasesInPeerRecovery = replicationTracker.hasAllPeerRecoveryRetentionLeases();
         this.refreshPendingLocationListener = new RefreshPendingLocationListener();
@@ -573,6 +588,10 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
                                  * primary/replica re-sync completes successfully and we are now being promoted, we have to restore
                                  * the reverted operations on this shard by replaying the translog to avoid losing acknowledged writes.
                                  */
+                                if (getEngine() instanceof NRTReplicationEngine) {
+                                    // a replica that copied the segments of its primary must now index the operations itself
+                                    resetToWriteableEngine();
+                                }
                                 final Engine engine = getEngine();
                                 engine.restoreLocalHistoryFromTranslog((resettingEngine, snapshot) ->
                                     runTranslogRecovery(resettingEngine, snapshot, Engine.Operation.Origin.LOCAL_RESET, () -> {}));
@@ -761,37 +780,111 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
                                                            long ifSeqNo, long ifPrimaryTerm, long autoGeneratedTimestamp,
                                                            boolean isRetry)
         throws IOException {
+        return applyIndexOperationOnPrimary(version, versionType, sourceToParse, ifSeqNo, ifPrimaryTerm, autoGeneratedTimestamp, isRetry,
+            null);
+    }
+
+    /**
+     * Applies an index operation on the primary, using the given document that was parsed ahead with {@link #parseSourceAhead} instead
+     * of parsing the source again if the mapping of the shard did not change since.
+     */
+    public Engine.IndexResult applyIndexOperationOnPrimary(long version, VersionType versionType, SourceToParse sourceToParse,
+                                                           long ifSeqNo, long ifPrimaryTerm, long autoGeneratedTimestamp,
+                                                           boolean isRetry, @Nullable ParsedAheadDocument parsedAhead)
+        throws IOException {
         assert versionType.validateVersionForWrites(version);
         return applyIndexOperation(getEngine(), UNASSIGNED_SEQ_NO, getOperationPrimaryTerm(), version, versionType, ifSeqNo,
-            ifPrimaryTerm, autoGeneratedTimestamp, isRetry, Engine.Operation.Origin.PRIMARY, sourceToParse);
+            ifPrimaryTerm, autoGeneratedTimestamp, isRetry, Engine.Operation.Origin.PRIMARY, sourceToParse, parsedAhead);
     }
 
     public Engine.IndexResult applyIndexOperationOnReplica(long seqNo, long opPrimaryTerm, long version, long autoGeneratedTimeStamp,
         boolean isRetry, SourceToParse sourceToParse)
         throws IOException {
         return applyIndexOperation(getEngine(), seqNo, opPrimaryTerm, version, null, UNASSIGNED_SEQ_NO, 0,
-            autoGeneratedTimeStamp, isRetry, Engine.Operation.Origin.REPLICA, sourceToParse);
+            autoGeneratedTimeStamp, isRetry, Engine.Operation.Origin.REPLICA, sourceToParse, null);
+    }
+
+    /**
+     * A document whose source was parsed ahead of the application of its index operation on the primary.
+     *
+     * @see #parseSourceAhead(SourceToParse)
+     */
+    public static final class ParsedAheadDocument {
+        private final DocumentMapper documentMapper;
+        private final ParsedDocument parsedDocument;
+        private final long parseTimeInNanos;
+
+        private ParsedAheadDocument(DocumentMapper documentMapper, ParsedDocument parsedDocument, long parseTimeInNanos) {
+            this.documentMapper = documentMapper;
+            this.parsedDocument = parsedDocument;
+            this.parseTimeInNanos = parseTimeInNanos;
+        }
+    }
+
+    /**
+     * Parses the source of an index operation with the current mapping of this shard, so that the source can be parsed concurrently
+     * with, and ahead of, the application of earlier operations. The parsed document is only used by
+     * {@link #applyIndexOperationOnPrimary} if the mapping did not change in the meantime.
+     *
+     * @return the parsed document, or {@code null} if the source can't be parsed ahead in which case the index operation parses it
+     */
+    @Nullable
+    public ParsedAheadDocument parseSourceAhead(SourceToParse sourceToParse) {
+        try {
+            final SourceToParse sourceWithResolvedType = resolveDocumentType(sourceToParse);
+            final DocumentMapperForType docMapper = docMapper(sourceWithResolvedType.type());
+            if (docMapper.getMapping() != null) {
+                // the type is not mapped yet, the index operation creates the mapping
+                return null;
+            }
+            final long startTime = System.nanoTime();
+            final ParsedDocument doc = docMapper.getDocumentMapper().parse(sourceWithResolvedType);
+            final long parseTimeInNanos = System.nanoTime() - startTime;
+            internalIndexingStats.sourceParsed(sourceWithResolvedType.type(), parseTimeInNanos);
+            return new ParsedAheadDocument(docMapper.getDocumentMapper(), doc, parseTimeInNanos);
+        } catch (Exception e) {
+            // the index operation parses the source again and reports the failure
+            return null;
+        }
+    }
+
+    private SourceToParse resolveDocumentType(SourceToParse sourceToParse) {
+        final String resolvedType = mapperService.resolveDocumentType(sourceToParse.type());
+        if (resolvedType.equals(sourceToParse.type())) {
+            return sourceToParse;
+        } else {
+            return new SourceToParse(sourceToParse.index(), resolvedType, sourceToParse.id(),
+                sourceToParse.source(), sourceToParse.getXContentType(), sourceToParse.routing());
+        }
     }
 
     private Engine.IndexResult applyIndexOperation(Engine engine, long seqNo, long opPrimaryTerm, long version,
                                                    @Nullable VersionType versionType, long ifSeqNo, long ifPrimaryTerm,
                                                    long autoGeneratedTimeStamp, boolean isRetry, Engine.Operation.Origin origin,
-                                                   SourceToParse sourceToParse) throws IOException {
+                                                   SourceToParse sourceToParse, @Nullable ParsedAheadDocument parsedAhead)
+        throws IOException {
         assert opPrimaryTerm <= getOperationPrimaryTerm()
                 : "op term [ " + opPrimaryTerm + " ] > shard term [" + getOperationPrimaryTerm() + "]";
         ensureWriteAllowed(origin);
         Engine.Index operation;
         try {
-            final String resolvedType = mapperService.resolveDocumentType(sourceToParse.type());
-            final SourceToParse sourceWithResolvedType;
-            if (resolvedType.equals(sourceToParse.type())) {
-                sourceWithResolvedType = sourceToParse;
+            final SourceToParse sourceWithResolvedType = resolveDocumentType(sourceToParse);
+            final DocumentMapperForType docMapper = docMapper(sourceWithResolvedType.type());
+            if (parsedAhead != null && parsedAhead.documentMapper == docMapper.getDocumentMapper() && docMapper.getMapping() == null) {
+                assert parsedAhead.parsedDocument.id().equals(sourceWithResolvedType.id())
+                    && parsedAhead.parsedDocument.source().equals(sourceWithResolvedType.source()) : "parsed ahead a different source";
+                // the time spent on parsing ahead is accounted as part of the operation, as if it parsed the source itself
+                final long startTime = System.nanoTime() - parsedAhead.parseTimeInNanos;
+                operation = prepareIndex(parsedAhead.parsedDocument, startTime, seqNo, opPrimaryTerm, version, versionType, origin,
+                    autoGeneratedTimeStamp, isRetry, ifSeqNo, ifPrimaryTerm);
+                internalIndexingStats.parsedAheadSourceUsed(operation.type());
             } else {
-                sourceWithResolvedType = new SourceToParse(sourceToParse.index(), resolvedType, sourceToParse.id(),
-                    sourceToParse.source(), sourceToParse.getXContentType(), sourceToParse.routing());
+                operation = prepareIndex(docMapper, sourceWithResolvedType,
+                    seqNo, opPrimaryTerm, version, versionType, origin, autoGeneratedTimeStamp, isRetry, ifSeqNo, ifPrimaryTerm);
+                if (origin.isRecovery() == false) {
+                    internalIndexingStats.sourceParsed(operation.type(), System.nanoTime() - operation.startTime());
+                }
             }
-            operation = prepareIndex(docMapper(resolvedType), sourceWithResolvedType,
-                seqNo, opPrimaryTerm, version, versionType, origin, autoGeneratedTimeStamp, isRetry, ifSeqNo, ifPrimaryTerm);
             Mapping update = operation.parsedDoc().dynamicMappingsUpdate();
             if (update != null) {
                 return new Engine.IndexResult(update);
@@ -817,6 +910,13 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         if (docMapper.getMapping() != null) {
             doc.addDynamicMappingsUpdate(docMapper.getMapping());
         }
+        return prepareIndex(doc, startTime, seqNo, primaryTerm, version, versionType, origin, autoGeneratedIdTimestamp, isRetry,
+            ifSeqNo, ifPrimaryTerm);
+    }
+
+    private static Engine.Index prepareIndex(ParsedDocument doc, long startTime, long seqNo, long primaryTerm, long version,
+                                             VersionType versionType, Engine.Operation.Origin origin, long autoGeneratedIdTimestamp,
+                                             boolean isRetry, long ifSeqNo, long ifPrimaryTerm) {
         Term uid = new Term(IdFieldMapper.NAME, Uid.encodeId(doc.id()));
         return new Engine.Index(uid, doc, seqNo, primaryTerm, version, versionType, origin, startTime, autoGeneratedIdTimestamp, isRetry,
             ifSeqNo, ifPrimaryTerm);
@@ -1037,7 +1137,7 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
             throttled = engine.isThrottled();
             throttleTimeInMillis = engine.getIndexThrottleTimeInMillis();
         }
-        return internalIndexingStats.stats(throttled, throttleTimeInMillis, types);
+        return internalIndexingStats.stats(throttled, throttleTimeInMillis, indexBufferBudgetInBytes, types);
     }
 
     public SearchStats searchStats(String... groups) {
@@ -1208,6 +1308,31 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         }
     }
 
+    /**
+     * Acquires the latest segments of the currently running engine, which may not be committed yet. All the files of the segments won't
+     * be freed until the reference is closed.
+     */
+    public Engine.SegmentInfosRef acquireLatestSegmentInfos() throws EngineException {
+        final IndexShardState state = this.state; // one time volatile read
+        if (state == IndexShardState.STARTED || state == IndexShardState.POST_RECOVERY) {
+            return getEngine().acquireLatestSegmentInfos();
+        } else {
+            throw new IllegalIndexShardStateException(shardId, state, "acquiring segments is not allowed");
+        }
+    }
+
+    /**
+     * Makes the given segments copied from the primary by segment replication visible to searches. All the files of the segments must
+     * already be in the store.
+     */
+    public void updateSegments(SegmentInfos segmentInfos) throws IOException {
+        final Engine engine = getEngine();
+        if (engine instanceof NRTReplicationEngine == false) {
+            throw new IllegalStateException("shard " + shardId + " does not copy the segments of its primary");
+        }
+        ((NRTReplicationEngine) engine).updateSegments(segmentInfos);
+    }
+
     /**
      * gets a {@link Store.MetadataSnapshot} for the current directory. This method is safe to call in all lifecycle of the index shard,
      * without having to worry about the current state of the engine and concurrent flushes.
@@ -1550,7 +1675,7 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
                 result = applyIndexOperation(engine, index.seqNo(), index.primaryTerm(), index.version(),
                     versionType, UNASSIGNED_SEQ_NO, 0, index.getAutoGeneratedIdTimestamp(), true, origin,
                     new SourceToParse(shardId.getIndexName(), index.type(), index.id(), index.source(),
-                        XContentHelper.xContentType(index.source()), index.routing()));
+                        XContentHelper.xContentType(index.source()), index.routing()), null);
                 break;
             case DELETE:
                 final Translog.Delete delete = (Translog.Delete) operation;
@@ -1664,7 +1789,7 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
             assert currentEngineReference.get() == null : "engine is running";
             verifyNotClosed();
             // we must create a new engine under mutex (see IndexShard#snapshotStoreMetadata).
-            final Engine newEngine = engineFactory.newReadWriteEngine(config);
+            final Engine newEngine = newEngine(config);
             onNewEngine(newEngine);
             currentEngineReference.set(newEngine);
             // We set active because we are now writing operations to the engine; this way,
@@ -2093,6 +2218,21 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         }
     }
 
+    /**
+     * Called by {@link IndexingMemoryController} with the share of the indexing buffer of the node that this shard is allotted.
+     */
+    public void setIndexBufferBudget(long indexBufferBudgetInBytes) {
+        this.indexBufferBudgetInBytes = indexBufferBudgetInBytes;
+    }
+
+    /**
+     * Called by {@link IndexingMemoryController} before it asks this shard to write its indexing buffer to disk, either because this
+     * shard stopped indexing ({@code idle}) or because the node is using too much heap for indexing buffers.
+     */
+    public void onIndexingBufferWriteScheduled(boolean idle) {
+        internalIndexingStats.indexingBufferWriteScheduled(idle);
+    }
+
     /**
      * Called when our shard is using too much heap and should move buffered indexed/deleted documents to disk.
      */
@@ -2796,16 +2936,21 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
                 this.warmer.warm(reader);
             }
         };
+        final List<ReferenceManager.RefreshListener> externalRefreshListeners =
+            new ArrayList<>(Arrays.asList(refreshListeners, refreshPendingLocationListener));
+        if (indexSettings.isSegRepEnabled()) {
+            externalRefreshListeners.add(new SegmentsRefreshedListener());
+        }
         return new EngineConfig(shardId,
                 threadPool, indexSettings, warmer, store, indexSettings.getMergePolicy(),
                 mapperService != null ? mapperService.indexAnalyzer() : null,
                 similarityService.similarity(mapperService), codecService, shardEventListener,
                 indexCache != null ? indexCache.query() : null, cachingPolicy, translogConfig,
                 IndexingMemoryController.SHARD_INACTIVE_TIME_SETTING.get(indexSettings.getSettings()),
-                Arrays.asList(refreshListeners, refreshPendingLocationListener),
+                externalRefreshListeners,
                 Collections.singletonList(new RefreshMetricUpdater(refreshMetric)),
                 indexSort, circuitBreakerService, globalCheckpointSupplier, replicationTracker::getRetentionLeases,
-                () -> getOperationPrimaryTerm(), tombstoneDocSupplier());
+                () -> getOperationPrimaryTerm(), tombstoneDocSupplier(), mergeBudgetCoordinator);
     }
 
     /**
@@ -3113,37 +3258,52 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
     }
 
     private final AsyncIOProcessor<Translog.Location> translogSyncProcessor;
+    @Nullable
+    private final TranslogSyncCoordinator translogSyncCoordinator;
+    private final CheckedConsumer<List<Translog.Location>, IOException> translogSyncer;
 
     private static AsyncIOProcessor<Translog.Location> createTranslogSyncProcessor(Logger logger, ThreadContext threadContext,
                                                                                    Supplier<Engine> engineSupplier) {
         return new AsyncIOProcessor<Translog.Location>(logger, 1024, threadContext) {
             @Override
             protected void write(List<Tuple<Translog.Location, Consumer<Exception>>> candidates) throws IOException {
-                try {
-                    engineSupplier.get().ensureTranslogSynced(candidates.stream().map(Tuple::v1));
-                } catch (AlreadyClosedException ex) {
-                    // that's fine since we already synced everything on engine close - this also is conform with the methods
-                    // documentation
-                } catch (IOException ex) { // if this fails we are in deep shit - fail the request
-                    logger.debug("failed to sync translog", ex);
-                    throw ex;
-                }
+                syncTranslog(logger, engineSupplier, candidates.stream().map(Tuple::v1));
             }
         };
     }
 
+    private static void syncTranslog(Logger logger, Supplier<Engine> engineSupplier, Stream<Translog.Location> locations)
+        throws IOException {
+        try {
+            engineSupplier.get().ensureTranslogSynced(locations);
+        } catch (AlreadyClosedException ex) {
+            // that's fine since we already synced everything on engine close - this also is conform with the methods
+            // documentation
+        } catch (IOException ex) { // if this fails we are in deep shit - fail the request
+            logger.debug("failed to sync translog", ex);
+            throw ex;
+        }
+    }
+
     /**
      * Syncs the given location with the underlying storage unless already synced. This method might return immediately without
      * actually fsyncing the location until the sync listener is called. Yet, unless there is already another thread fsyncing
      * the transaction log the caller thread will be hijacked to run the fsync for all pending fsync operations.
      * This method allows indexing threads to continue indexing without blocking on fsync calls. We ensure that there is only
      * one thread blocking on the sync an all others can continue indexing.
+     * If translog syncs are group-committed on this node, the location is handed to the {@link TranslogSyncCoordinator} instead, which
+     * fsyncs the translogs of all shards on the same data path in one round and notifies the listener on a
+     * {@link ThreadPool.Names#TRANSLOG_SYNC} thread, so the caller thread never blocks on fsync.
      * NOTE: if the syncListener throws an exception when it's processed the exception will only be logged. Users should make sure that the
      * listener handles all exception cases internally.
      */
     public final void sync(Translog.Location location, Consumer<Exception> syncListener) {
         verifyNotClosed();
-        translogSyncProcessor.put(location, syncListener);
+        if (translogSyncCoordinator != null) {
+            translogSyncCoordinator.sync(path.getRootDataPath(), translogSyncer, location, syncListener);
+        } else {
+            translogSyncProcessor.put(location, syncListener);
+        }
     }
 
     public void sync() throws IOException {
@@ -3293,6 +3453,10 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
                 engine.maybePruneDeletes(); // try to prune the deletes in the engine if we accumulated some
                 setRefreshPending(engine);
                 return false;
+            } else if (listenerNeedsRefresh == false && isAdaptiveRefreshDue() == false) {
+                // the adaptive refresh interval of this shard did not elapse yet
+                getEngine().maybePruneDeletes();
+                return false;
             } else {
                 if (logger.isTraceEnabled()) {
                     logger.trace("refresh with source [schedule]");
@@ -3305,6 +3469,15 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         return false;
     }
 
+    private boolean isAdaptiveRefreshDue() {
+        final long refreshInterval = indexSettings.getRefreshInterval().millis();
+        if (indexSettings.isAdaptiveRefresh() == false || refreshInterval <= 0) {
+            return true;
+        }
+        return adaptiveRefreshInterval.isRefreshDue(threadPool.relativeTimeInMillis(), lastSearcherAccess.get(), refreshMetric.count(),
+            refreshMetric.sum(), refreshInterval, indexSettings.getAdaptiveRefreshMaxInterval().millis());
+    }
+
     /**
      * Returns true if this shards is search idle
      */
@@ -3411,6 +3584,60 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         }
     }
 
+    /**
+     * Creates the engine of this shard. Replicas of open indices using segment replication copy the segments of their primary rather
+     * than indexing the operations themselves, unless a plugin provides the engine of the index.
+     */
+    private Engine newEngine(EngineConfig config) {
+        if (indexSettings.isSegRepEnabled() && shardRouting.primary() == false && engineFactory instanceof InternalEngineFactory) {
+            return new NRTReplicationEngine(config);
+        }
+        return engineFactory.newReadWriteEngine(config);
+    }
+
+    /**
+     * Replaces the engine of a promoted replica, which copied the segments of its primary, by a read-write engine on the same segments
+     * and replays the operations of the translog that are not in these segments yet.
+     */
+    private void resetToWriteableEngine() throws IOException {
+        assert Thread.holdsLock(mutex) == false : "resetting engine under mutex";
+        final Engine newEngine;
+        synchronized (engineMutex) {
+            verifyNotClosed();
+            // the engine holds the index writer lock, so it must be closed before the read-write engine is opened. It commits the
+            // segments it copied last so that the read-write engine only replays the operations that they don't hold.
+            final Engine currentEngine = currentEngineReference.getAndSet(null);
+            if (currentEngine != null) {
+                currentEngine.flushAndClose();
+            }
+            newEngine = engineFactory.newReadWriteEngine(newEngineConfig(replicationTracker));
+            onNewEngine(newEngine);
+            currentEngineReference.set(newEngine);
+        }
+        final Engine.TranslogRecoveryRunner translogRunner = (engine, snapshot) -> runTranslogRecovery(
+            engine, snapshot, Engine.Operation.Origin.LOCAL_RESET, () -> {});
+        newEngine.recoverFromTranslog(translogRunner, Long.MAX_VALUE);
+        newEngine.refresh("promotion");
+        onSettingsChanged();
+    }
+
+    /**
+     * Notifies the index event listener when a refresh of a primary using segment replication opened new segments to copy.
+     */
+    private class SegmentsRefreshedListener implements ReferenceManager.RefreshListener {
+
+        @Override
+        public void beforeRefresh() {
+        }
+
+        @Override
+        public void afterRefresh(boolean didRefresh) {
+            if (didRefresh && shardRouting.primary() && replicationTracker.isPrimaryMode()) {
+                indexEventListener.afterSegmentsRefreshed(IndexShard.this);
+            }
+        }
+    }
+
     private static class RefreshMetricUpdater implements ReferenceManager.RefreshListener {
 
         private final MeanMetric refreshMetric;
@@ -3516,7 +3743,7 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
                     }
                 };
             IOUtils.close(currentEngineReference.getAndSet(readOnlyEngine));
-            newEngineReference.set(engineFactory.newReadWriteEngine(newEngineConfig(replicationTracker)));
+            newEngineReference.set(newEngine(newEngineConfig(replicationTracker)));
             onNewEngine(newEngineReference.get());
         }
         final Engine.TranslogRecoveryRunner translogRunner = (engine, snapshot) -> runTranslogRecovery(
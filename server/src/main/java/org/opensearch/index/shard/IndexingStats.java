@@ -32,10 +32,12 @@
 
 package org.opensearch.index.shard;
 
+import org.opensearch.Version;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.unit.ByteSizeValue;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.xcontent.ToXContent;
 import org.opensearch.common.xcontent.ToXContentFragment;
@@ -59,6 +61,11 @@ public class IndexingStats implements Writeable, ToXContentFragment {
         private long noopUpdateCount;
         private long throttleTimeInMillis;
         private boolean isThrottled;
+        private long parseTimeInMillis;
+        private long parsedAheadCount;
+        private long indexBufferBudgetInBytes;
+        private long indexBufferBudgetWriteCount;
+        private long indexBufferIdleWriteCount;
 
         Stats() {}
 
@@ -73,10 +80,19 @@ public class IndexingStats implements Writeable, ToXContentFragment {
             noopUpdateCount = in.readVLong();
             isThrottled = in.readBoolean();
             throttleTimeInMillis = in.readLong();
+            if (in.getVersion().onOrAfter(Version.V_1_1_0)) {
+                parseTimeInMillis = in.readVLong();
+                parsedAheadCount = in.readVLong();
+                indexBufferBudgetInBytes = in.readVLong();
+                indexBufferBudgetWriteCount = in.readVLong();
+                indexBufferIdleWriteCount = in.readVLong();
+            }
         }
 
         public Stats(long indexCount, long indexTimeInMillis, long indexCurrent, long indexFailedCount, long deleteCount,
-                        long deleteTimeInMillis, long deleteCurrent, long noopUpdateCount, boolean isThrottled, long throttleTimeInMillis) {
+                     long deleteTimeInMillis, long deleteCurrent, long noopUpdateCount, boolean isThrottled, long throttleTimeInMillis,
+                     long parseTimeInMillis, long parsedAheadCount, long indexBufferBudgetInBytes, long indexBufferBudgetWriteCount,
+                     long indexBufferIdleWriteCount) {
             this.indexCount = indexCount;
             this.indexTimeInMillis = indexTimeInMillis;
             this.indexCurrent = indexCurrent;
@@ -87,6 +103,11 @@ public class IndexingStats implements Writeable, ToXContentFragment {
             this.noopUpdateCount = noopUpdateCount;
             this.isThrottled = isThrottled;
             this.throttleTimeInMillis = throttleTimeInMillis;
+            this.parseTimeInMillis = parseTimeInMillis;
+            this.parsedAheadCount = parsedAheadCount;
+            this.indexBufferBudgetInBytes = indexBufferBudgetInBytes;
+            this.indexBufferBudgetWriteCount = indexBufferBudgetWriteCount;
+            this.indexBufferIdleWriteCount = indexBufferIdleWriteCount;
         }
 
         public void add(Stats stats) {
@@ -101,6 +122,11 @@ public class IndexingStats implements Writeable, ToXContentFragment {
 
             noopUpdateCount += stats.noopUpdateCount;
             throttleTimeInMillis += stats.throttleTimeInMillis;
+            parseTimeInMillis += stats.parseTimeInMillis;
+            parsedAheadCount += stats.parsedAheadCount;
+            indexBufferBudgetInBytes += stats.indexBufferBudgetInBytes;
+            indexBufferBudgetWriteCount += stats.indexBufferBudgetWriteCount;
+            indexBufferIdleWriteCount += stats.indexBufferIdleWriteCount;
             if (isThrottled != stats.isThrottled) {
                 isThrottled = true; //When combining if one is throttled set result to throttled.
             }
@@ -161,6 +187,43 @@ public class IndexingStats implements Writeable, ToXContentFragment {
             return noopUpdateCount;
         }
 
+        /**
+         * The total amount of time spent on parsing the sources of index operations. It is part of the index time, but parsing of
+         * bulk items may also happen ahead of, and concurrently with, the indexing of earlier items.
+         */
+        public TimeValue getParseTime() {
+            return new TimeValue(parseTimeInMillis);
+        }
+
+        /**
+         * Returns the number of index operations whose source was parsed ahead of their execution by the bulk pipeline
+         */
+        public long getParsedAheadCount() {
+            return parsedAheadCount;
+        }
+
+        /**
+         * Returns the share of the indexing buffer of the node that is allotted to the shards based on how fast they index, or
+         * {@code 0} unless the indexing buffer is allocated by write rate.
+         */
+        public ByteSizeValue getIndexBufferBudget() {
+            return new ByteSizeValue(indexBufferBudgetInBytes);
+        }
+
+        /**
+         * Returns the number of times that the indexing buffer was written to disk because the node used too much heap for indexing buffers
+         */
+        public long getIndexBufferBudgetWriteCount() {
+            return indexBufferBudgetWriteCount;
+        }
+
+        /**
+         * Returns the number of times that the indexing buffer was written to disk because the shard stopped indexing
+         */
+        public long getIndexBufferIdleWriteCount() {
+            return indexBufferIdleWriteCount;
+        }
+
         @Override
         public void writeTo(StreamOutput out) throws IOException {
             out.writeVLong(indexCount);
@@ -173,7 +236,13 @@ public class IndexingStats implements Writeable, ToXContentFragment {
             out.writeVLong(noopUpdateCount);
             out.writeBoolean(isThrottled);
             out.writeLong(throttleTimeInMillis);
-
+            if (out.getVersion().onOrAfter(Version.V_1_1_0)) {
+                out.writeVLong(parseTimeInMillis);
+                out.writeVLong(parsedAheadCount);
+                out.writeVLong(indexBufferBudgetInBytes);
+                out.writeVLong(indexBufferBudgetWriteCount);
+                out.writeVLong(indexBufferIdleWriteCount);
+            }
         }
 
         @Override
@@ -191,6 +260,13 @@ public class IndexingStats implements Writeable, ToXContentFragment {
 
             builder.field(Fields.IS_THROTTLED, isThrottled);
             builder.humanReadableField(Fields.THROTTLED_TIME_IN_MILLIS, Fields.THROTTLED_TIME, getThrottleTime());
+
+            builder.humanReadableField(Fields.PARSE_TIME_IN_MILLIS, Fields.PARSE_TIME, getParseTime());
+            builder.field(Fields.PARSED_AHEAD_TOTAL, parsedAheadCount);
+
+            builder.humanReadableField(Fields.INDEX_BUFFER_BUDGET_IN_BYTES, Fields.INDEX_BUFFER_BUDGET, getIndexBufferBudget());
+            builder.field(Fields.INDEX_BUFFER_BUDGET_WRITE_TOTAL, indexBufferBudgetWriteCount);
+            builder.field(Fields.INDEX_BUFFER_IDLE_WRITE_TOTAL, indexBufferIdleWriteCount);
             return builder;
         }
     }
@@ -289,6 +365,13 @@ public class IndexingStats implements Writeable, ToXContentFragment {
         static final String IS_THROTTLED = "is_throttled";
         static final String THROTTLED_TIME_IN_MILLIS = "throttle_time_in_millis";
         static final String THROTTLED_TIME = "throttle_time";
+        static final String PARSE_TIME_IN_MILLIS = "parse_time_in_millis";
+        static final String PARSE_TIME = "parse_time";
+        static final String PARSED_AHEAD_TOTAL = "parsed_ahead_total";
+        static final String INDEX_BUFFER_BUDGET = "index_buffer_budget";
+        static final String INDEX_BUFFER_BUDGET_IN_BYTES = "index_buffer_budget_in_bytes";
+        static final String INDEX_BUFFER_BUDGET_WRITE_TOTAL = "index_buffer_budget_write_total";
+        static final String INDEX_BUFFER_IDLE_WRITE_TOTAL = "index_buffer_idle_write_total";
     }
 
     @Override
@@ -57,19 +57,19 @@ final class InternalIndexingStats implements IndexingOperationListener {
      * is returned for them. If they are set, then only types provided will be returned, or
      * {@code _all} for all types.
      */
-    IndexingStats stats(boolean isThrottled, long currentThrottleInMillis, String... types) {
-        IndexingStats.Stats total = totalStats.stats(isThrottled, currentThrottleInMillis);
+    IndexingStats stats(boolean isThrottled, long currentThrottleInMillis, long indexBufferBudgetInBytes, String... types) {
+        IndexingStats.Stats total = totalStats.stats(isThrottled, currentThrottleInMillis, indexBufferBudgetInBytes);
         Map<String, IndexingStats.Stats> typesSt = null;
         if (types != null && types.length > 0) {
             typesSt = new HashMap<>(typesStats.size());
             if (types.length == 1 && types[0].equals("_all")) {
                 for (Map.Entry<String, StatsHolder> entry : typesStats.entrySet()) {
-                    typesSt.put(entry.getKey(), entry.getValue().stats(isThrottled, currentThrottleInMillis));
+                    typesSt.put(entry.getKey(), entry.getValue().stats(isThrottled, currentThrottleInMillis, 0));
                 }
             } else {
                 for (Map.Entry<String, StatsHolder> entry : typesStats.entrySet()) {
                     if (Regex.simpleMatch(types, entry.getKey())) {
-                        typesSt.put(entry.getKey(), entry.getValue().stats(isThrottled, currentThrottleInMillis));
+                        typesSt.put(entry.getKey(), entry.getValue().stats(isThrottled, currentThrottleInMillis, 0));
                     }
                 }
             }
@@ -161,6 +161,27 @@ final class InternalIndexingStats implements IndexingOperationListener {
         typeStats(type).noopUpdates.inc();
     }
 
+    void sourceParsed(String type, long tookInNanos) {
+        totalStats.parseMetric.inc(tookInNanos);
+        typeStats(type).parseMetric.inc(tookInNanos);
+    }
+
+    void parsedAheadSourceUsed(String type) {
+        totalStats.parsedAhead.inc();
+        typeStats(type).parsedAhead.inc();
+    }
+
+    /**
+     * Indexing buffers belong to the shard rather than to a type, so they are only counted in the total stats.
+     */
+    void indexingBufferWriteScheduled(boolean idle) {
+        if (idle) {
+            totalStats.indexBufferIdleWrites.inc();
+        } else {
+            totalStats.indexBufferBudgetWrites.inc();
+        }
+    }
+
     private StatsHolder typeStats(String type) {
         StatsHolder stats = typesStats.get(type);
         if (stats == null) {
@@ -182,12 +203,18 @@ final class InternalIndexingStats implements IndexingOperationListener {
         private final CounterMetric indexFailed = new CounterMetric();
         private final CounterMetric deleteCurrent = new CounterMetric();
         private final CounterMetric noopUpdates = new CounterMetric();
+        private final MeanMetric parseMetric = new MeanMetric();
+        private final CounterMetric parsedAhead = new CounterMetric();
+        private final CounterMetric indexBufferBudgetWrites = new CounterMetric();
+        private final CounterMetric indexBufferIdleWrites = new CounterMetric();
 
-        IndexingStats.Stats stats(boolean isThrottled, long currentThrottleMillis) {
+        IndexingStats.Stats stats(boolean isThrottled, long currentThrottleMillis, long indexBufferBudgetInBytes) {
             return new IndexingStats.Stats(
                 indexMetric.count(), TimeUnit.NANOSECONDS.toMillis(indexMetric.sum()), indexCurrent.count(), indexFailed.count(),
                 deleteMetric.count(), TimeUnit.NANOSECONDS.toMillis(deleteMetric.sum()), deleteCurrent.count(),
-                noopUpdates.count(), isThrottled, TimeUnit.MILLISECONDS.toMillis(currentThrottleMillis));
+                noopUpdates.count(), isThrottled, TimeUnit.MILLISECONDS.toMillis(currentThrottleMillis),
+                TimeUnit.NANOSECONDS.toMillis(parseMetric.sum()), parsedAhead.count(),
+                indexBufferBudgetInBytes, indexBufferBudgetWrites.count(), indexBufferIdleWrites.count());
         }
     }
 }
@@ -141,6 +141,14 @@ public abstract class BaseTranslogReader implements Comparable<BaseTranslogReade
      */
     protected abstract void readBytes(ByteBuffer buffer, long position) throws IOException;
 
+    /**
+     * Returns the bytes of the given range of the file if they are memory-mapped and can be read without copying them, or null if they
+     * have to be read from the channel.
+     */
+    ByteBuffer mappedBytes(long position, int length) {
+        return null;
+    }
+
     @Override
     public String toString() {
         return "translog [" + generation + "][" + path + "]";
@@ -47,6 +47,7 @@ import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.lucene.uid.Versions;
+import org.opensearch.common.unit.ByteSizeUnit;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.concurrent.ReleasableLock;
 import org.opensearch.core.internal.io.IOUtils;
@@ -127,6 +128,8 @@ public class Translog extends AbstractIndexShardComponent implements IndexShardC
 
     static final Pattern PARSE_STRICT_ID_PATTERN = Pattern.compile("^" + TRANSLOG_FILE_PREFIX + "(\\d+)(\\.tlog)$");
     public static final int DEFAULT_HEADER_SIZE_IN_BYTES = TranslogHeader.headerSizeInBytes(UUIDs.randomBase64UUID());
+    static final long MIN_PREALLOCATION_SIZE_IN_BYTES = ByteSizeUnit.MB.toBytes(1);
+    static final long MAX_PREALLOCATION_SIZE_IN_BYTES = ByteSizeUnit.GB.toBytes(1);
 
     // the list of translog readers is guaranteed to be in order of translog generation
     private final List<TranslogReader> readers = new ArrayList<>();
@@ -497,6 +500,19 @@ public class Translog extends AbstractIndexShardComponent implements IndexShardC
         return writer;
     }
 
+    /**
+     * Returns the number of bytes a memory-mapped generation is pre-allocated by at a time, or 0 if generations are written through the
+     * file channel. Generations are pre-allocated up to the generation threshold size, within bounds so that tiny thresholds do not
+     * remap the file all the time and huge thresholds do not reserve disk space that will never be used.
+     */
+    private long getPreallocationSize() {
+        if (indexSettings.isTranslogMmapEnabled() == false) {
+            return 0;
+        }
+        final long generationThresholdSize = indexSettings.getGenerationThresholdSize().getBytes();
+        return Math.max(MIN_PREALLOCATION_SIZE_IN_BYTES, Math.min(generationThresholdSize, MAX_PREALLOCATION_SIZE_IN_BYTES));
+    }
+
     /**
      * creates a new writer
      *
@@ -520,7 +536,8 @@ public class Translog extends AbstractIndexShardComponent implements IndexShardC
                 initialMinTranslogGen, initialGlobalCheckpoint,
                 globalCheckpointSupplier, this::getMinFileGeneration, primaryTermSupplier.getAsLong(), tragedy,
                 persistedSequenceNumberConsumer,
-                bigArrays);
+                bigArrays,
+                getPreallocationSize());
         } catch (final IOException e) {
             throw new TranslogException(shardId, "failed to create new translog file", e);
         }
@@ -1932,7 +1949,7 @@ public class Translog extends AbstractIndexShardComponent implements IndexShardC
             new TragicExceptionHolder(),
             seqNo -> {
                 throw new UnsupportedOperationException();
-            }, BigArrays.NON_RECYCLING_INSTANCE);
+            }, BigArrays.NON_RECYCLING_INSTANCE, 0);
         writer.close();
         return uuid;
     }
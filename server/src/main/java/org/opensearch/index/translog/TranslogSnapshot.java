@@ -32,6 +32,7 @@
 package org.opensearch.index.translog;
 
 import org.opensearch.common.io.Channels;
+import org.opensearch.common.io.stream.ByteBufferStreamInput;
 import org.opensearch.index.seqno.SequenceNumbers;
 
 import java.io.EOFException;
@@ -44,6 +45,7 @@ final class TranslogSnapshot extends BaseTranslogReader {
     private final Checkpoint checkpoint;
     protected final long length;
 
+    private final BaseTranslogReader source;
     private final ByteBuffer reusableBuffer;
     private long position;
     private int skippedOperations;
@@ -55,6 +57,7 @@ final class TranslogSnapshot extends BaseTranslogReader {
      */
     TranslogSnapshot(final BaseTranslogReader reader, final long length) {
         super(reader.generation, reader.channel, reader.path, reader.header);
+        this.source = reader;
         this.length = length;
         this.totalOperations = reader.totalOperations();
         this.checkpoint = reader.getCheckpoint();
@@ -91,7 +94,13 @@ final class TranslogSnapshot extends BaseTranslogReader {
 
     private Translog.Operation readOperation() throws IOException {
         final int opSize = readSize(reusableBuffer, position);
-        reuse = checksummedStream(reusableBuffer, position, opSize, reuse);
+        final ByteBuffer mappedBytes = source.mappedBytes(position, opSize);
+        if (mappedBytes != null) {
+            // the operation is read straight from the memory mapping of the generation that is written to
+            reuse = new BufferedChecksumStreamInput(new ByteBufferStreamInput(mappedBytes), path.toString(), reuse);
+        } else {
+            reuse = checksummedStream(reusableBuffer, position, opSize, reuse);
+        }
         Translog.Operation op = read(reuse);
         position += opSize;
         readOperations++;
@@ -115,7 +124,12 @@ final class TranslogSnapshot extends BaseTranslogReader {
                 throw new IOException("read requested before position of first ops. pos [" + position + "] first op on: [" +
                     getFirstOperationOffset() + "], generation: [" + getGeneration() + "], path: [" + path + "]");
             }
-            Channels.readFromFileChannelWithEofException(channel, position, buffer);
+            final ByteBuffer mappedBytes = source.mappedBytes(position, buffer.remaining());
+            if (mappedBytes != null) {
+                buffer.put(mappedBytes);
+            } else {
+                Channels.readFromFileChannelWithEofException(channel, position, buffer);
+            }
         } catch (EOFException e) {
             throw new TranslogCorruptedException(path.toString(), "translog truncated", e);
         }
@@ -57,6 +57,7 @@ import org.opensearch.index.shard.ShardId;
 import java.io.Closeable;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
@@ -70,6 +71,9 @@ import java.util.function.LongSupplier;
 
 public class TranslogWriter extends BaseTranslogReader implements Closeable {
 
+    // the size of the writes of zeros that pre-allocate the regions of memory mapped generations
+    private static final int PREALLOCATION_CHUNK_SIZE = 64 * 1024;
+
     private final ShardId shardId;
     private final FileChannel checkpointChannel;
     private final Path checkpointPath;
@@ -105,6 +109,15 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
 
     private final Map<Long, Tuple<BytesReference, Exception>> seenSequenceNumbers;
 
+    // the number of bytes the file is grown by ahead of the writes when operations are written through a memory mapping, 0 if
+    // operations are written through the channel
+    private final long preallocationSize;
+    // the memory mapping operations are written to, which is replaced by a mapping of the next region once it is full. Guarded by the
+    // write lock, volatile for readers, which read the buffer and its offset together through the region.
+    private volatile MappedRegion mappedRegion;
+    // the offset up to which operations were written to the file, the channel position is only used if the file is not mapped
+    private volatile long writtenOffset;
+
     private TranslogWriter(
         final ShardId shardId,
         final Checkpoint initialCheckpoint,
@@ -116,7 +129,8 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
         final LongSupplier globalCheckpointSupplier, LongSupplier minTranslogGenerationSupplier, TranslogHeader header,
         final TragicExceptionHolder tragedy,
         final LongConsumer persistedSequenceNumberConsumer,
-        final BigArrays bigArrays)
+        final BigArrays bigArrays,
+        final long preallocationSize)
             throws
             IOException {
         super(initialCheckpoint.generation, channel, path, header);
@@ -140,13 +154,16 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
         this.bigArrays = bigArrays;
         this.seenSequenceNumbers = Assertions.ENABLED ? new HashMap<>() : null;
         this.tragedy = tragedy;
+        this.preallocationSize = preallocationSize;
+        this.writtenOffset = initialCheckpoint.offset;
     }
 
     public static TranslogWriter create(ShardId shardId, String translogUUID, long fileGeneration, Path file, ChannelFactory channelFactory,
                                         ByteSizeValue bufferSize, final long initialMinTranslogGen, long initialGlobalCheckpoint,
                                         final LongSupplier globalCheckpointSupplier, final LongSupplier minTranslogGenerationSupplier,
                                         final long primaryTerm, TragicExceptionHolder tragedy,
-                                        final LongConsumer persistedSequenceNumberConsumer, final BigArrays bigArrays)
+                                        final LongConsumer persistedSequenceNumberConsumer, final BigArrays bigArrays,
+                                        final long preallocationSize)
         throws IOException {
         final Path checkpointFile = file.getParent().resolve(Translog.CHECKPOINT_FILE_NAME);
 
@@ -171,7 +188,8 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
                 writerGlobalCheckpointSupplier = globalCheckpointSupplier;
             }
             return new TranslogWriter(shardId, checkpoint, channel, checkpointChannel, file, checkpointFile, bufferSize,
-                writerGlobalCheckpointSupplier, minTranslogGenerationSupplier, header, tragedy, persistedSequenceNumberConsumer, bigArrays);
+                writerGlobalCheckpointSupplier, minTranslogGenerationSupplier, header, tragedy, persistedSequenceNumberConsumer, bigArrays,
+                preallocationSize);
         } catch (Exception exception) {
             // if we fail to bake the file-generation into the checkpoint we stick with the file and once we recover and that
             // file exists we remove it. We only apply this logic to the checkpoint.generation+1 any other file with a higher generation
@@ -360,6 +378,7 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
                     if (closed.compareAndSet(false, true)) {
                         try {
                             checkpointChannel.close();
+                            truncatePreallocatedBytes();
                         } catch (final Exception ex) {
                             closeWithTragicEvent(ex);
                             throw ex;
@@ -400,8 +419,15 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
         }
     }
 
-    private long getWrittenOffset() throws IOException {
-        return channel.position();
+    private long getWrittenOffset() {
+        return writtenOffset;
+    }
+
+    /**
+     * Returns whether operations are written through a memory mapping of the file rather than through the channel.
+     */
+    boolean isMemoryMapped() {
+        return preallocationSize > 0;
     }
 
     /**
@@ -438,7 +464,13 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
                     // now do the actual fsync outside of the synchronized block such that
                     // we can continue writing to the buffer etc.
                     try {
-                        channel.force(false);
+                        final MappedRegion mappedRegion = this.mappedRegion;
+                        if (mappedRegion != null) {
+                            // the file is pre-allocated, so syncing the mapping only flushes the data and not the file size
+                            mappedRegion.buffer.force();
+                        } else {
+                            channel.force(false);
+                        }
                         writeCheckpoint(checkpointChannel, checkpointPath, checkpointToSync);
                     } catch (final Exception ex) {
                         closeWithTragicEvent(ex);
@@ -481,6 +513,10 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
     }
 
     private void writeAndReleaseOps(ReleasableBytesReference toWrite) throws IOException {
+        if (isMemoryMapped()) {
+            writeToMappingAndReleaseOps(toWrite);
+            return;
+        }
         try (ReleasableBytesReference toClose = toWrite) {
             assert writeLock.isHeldByCurrentThread();
             ByteBuffer ioBuffer = DiskIoBufferPool.getIoBuffer();
@@ -508,7 +544,99 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
     @SuppressForbidden(reason = "Channel#write")
     private void writeToFile(ByteBuffer ioBuffer) throws IOException {
         while (ioBuffer.remaining() > 0) {
-            channel.write(ioBuffer);
+            writtenOffset += channel.write(ioBuffer);
+        }
+    }
+
+    /**
+     * Copies the operations straight into the memory mapping of the file, mapping the next pre-allocated region of the file once the
+     * current one is full. Operations are only durable once the mapping is forced by a sync.
+     */
+    private void writeToMappingAndReleaseOps(ReleasableBytesReference toWrite) throws IOException {
+        try (ReleasableBytesReference toClose = toWrite) {
+            assert writeLock.isHeldByCurrentThread();
+            if (toWrite.length() == 0) {
+                return;
+            }
+            final long offset = writtenOffset;
+            MappedRegion region = mappedRegion;
+            if (region == null || offset + toWrite.length() > region.end()) {
+                region = mapNextRegion(offset, toWrite.length());
+            }
+            final MappedByteBuffer buffer = region.buffer;
+            buffer.position(Math.toIntExact(offset - region.offset));
+            final BytesRefIterator iterator = toWrite.iterator();
+            BytesRef current;
+            while ((current = iterator.next()) != null) {
+                buffer.put(current.bytes, current.offset, current.length);
+            }
+            writtenOffset = offset + toWrite.length();
+        }
+    }
+
+    private MappedRegion mapNextRegion(long offset, int minLength) throws IOException {
+        final MappedRegion previous = mappedRegion;
+        if (previous != null) {
+            // the previous region is no longer forced by syncs, so it needs to be durable before the operations of the next region are
+            previous.buffer.force();
+        }
+        // the file only grows once per region and not once per write
+        final long length = Math.min(Math.max(preallocationSize, minLength), Integer.MAX_VALUE);
+        preallocate(offset + length);
+        final MappedRegion next = new MappedRegion(channel.map(FileChannel.MapMode.READ_WRITE, offset, length), offset);
+        mappedRegion = next;
+        return next;
+    }
+
+    /**
+     * Grows the file to the given size by writing zeros through the channel. Mapping beyond the end of the file would only grow a
+     * sparse file without reserving disk space, so running out of disk space would then fail the writes to the mapping with a
+     * SIGBUS rather than with an {@link IOException} here.
+     */
+    @SuppressForbidden(reason = "Channel#write")
+    private void preallocate(long size) throws IOException {
+        long position = channel.size();
+        if (position >= size) {
+            return;
+        }
+        final ByteBuffer zeros = ByteBuffer.allocate((int) Math.min(PREALLOCATION_CHUNK_SIZE, size - position));
+        while (position < size) {
+            zeros.clear();
+            zeros.limit((int) Math.min(zeros.capacity(), size - position));
+            while (zeros.hasRemaining()) {
+                position += channel.write(zeros, position);
+            }
+        }
+    }
+
+    /**
+     * Returns the bytes of the given range of the file if they can be read from the memory mapping without copying them, or null.
+     */
+    @Override
+    ByteBuffer mappedBytes(long position, int length) {
+        final MappedRegion region = mappedRegion;
+        if (region == null || position < region.offset || position + length > Math.min(region.end(), getWrittenOffset())) {
+            return null;
+        }
+        final long offset = region.offset;
+        final ByteBuffer slice = region.buffer.duplicate();
+        slice.position(Math.toIntExact(position - offset));
+        slice.limit(Math.toIntExact(position - offset + length));
+        return slice.slice();
+    }
+
+    /**
+     * Cuts the pre-allocated bytes that were not written off the file so that readers of the file see the same file as if the operations
+     * had been written through the channel.
+     */
+    private void truncatePreallocatedBytes() throws IOException {
+        if (isMemoryMapped()) {
+            mappedRegion = null;
+            if (channel.size() > writtenOffset) {
+                channel.truncate(writtenOffset);
+                channel.force(true);
+            }
+            channel.position(writtenOffset);
         }
     }
 
@@ -528,7 +656,12 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
         }
         // we don't have to have a lock here because we only write ahead to the file, so all writes has been complete
         // for the requested location.
-        Channels.readFromFileChannelWithEofException(channel, position, targetBuffer);
+        final ByteBuffer mappedBytes = mappedBytes(position, targetBuffer.remaining());
+        if (mappedBytes != null) {
+            targetBuffer.put(mappedBytes);
+        } else {
+            Channels.readFromFileChannelWithEofException(channel, position, targetBuffer);
+        }
     }
 
     private static void writeCheckpoint(
@@ -554,6 +687,9 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
     }
 
     private boolean checkChannelPositionWhileHandlingException(long expectedOffset) {
+        if (isMemoryMapped()) {
+            return expectedOffset == getWrittenOffset();
+        }
         try {
             return expectedOffset == channel.position();
         } catch (IOException e) {
@@ -568,6 +704,7 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
                 Releasables.closeWhileHandlingException(buffer);
                 buffer = null;
                 bufferedBytes = 0;
+                mappedRegion = null;
             }
             IOUtils.close(checkpointChannel, channel);
         }
@@ -576,4 +713,23 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
     protected final boolean isClosed() {
         return closed.get();
     }
+
+    /**
+     * A memory mapping of a region of the file along with the offset of the file that it starts at, which are published together so
+     * that readers never pair a mapping with the offset of another one.
+     */
+    private static final class MappedRegion {
+
+        private final MappedByteBuffer buffer;
+        private final long offset;
+
+        MappedRegion(MappedByteBuffer buffer, long offset) {
+            this.buffer = buffer;
+            this.offset = offset;
+        }
+
+        long end() {
+            return offset + buffer.capacity();
+        }
+    }
 }
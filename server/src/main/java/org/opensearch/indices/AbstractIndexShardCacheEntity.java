@@ -67,4 +67,19 @@ abstract class AbstractIndexShardCacheEntity implements IndicesRequestCache.Cach
         stats().onRemoval(notification.getKey(), notification.getValue(),
                 notification.getRemovalReason() == RemovalNotification.RemovalReason.EVICTED);
     }
+
+    @Override
+    public final void onTierHit() {
+        stats().onTierHit();
+    }
+
+    @Override
+    public final void onTierCached(IndicesRequestCache.Key key, long sizeInBytes) {
+        stats().onTierCached(sizeInBytes);
+    }
+
+    @Override
+    public final void onTierRemoval(IndicesRequestCache.Key key, long sizeInBytes, boolean evicted) {
+        stats().onTierRemoval(sizeInBytes, evicted);
+    }
 }
@@ -54,11 +54,15 @@ import org.opensearch.threadpool.ThreadPool.Names;
 
 import java.io.Closeable;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.PriorityQueue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -102,6 +106,53 @@ public class IndexingMemoryController implements IndexingOperationListener, Clos
         TimeValue.timeValueSeconds(5),
         Property.NodeScope);
 
+    /**
+     * How the indexing buffer is allocated across shards:
+     * <ul>
+     *     <li>{@code largest_first}: once the node is over its indexing buffer, the shards with the largest indexing buffers are written
+     *     to disk first (default),</li>
+     *     <li>{@code write_rate}: every shard is allotted a budget of the indexing buffer in proportion to the rate at which it was
+     *     recently written to. Once the node is over its indexing buffer, the shards that exceed their budget the most are written to
+     *     disk first, so that shards that index fastest keep their buffers and create larger segments. Shards that were not written to
+     *     for the check interval have their indexing buffer written to disk right away, which frees up heap for the shards that still
+     *     index.</li>
+     * </ul>
+     */
+    public static final Setting<AllocationPolicy> INDEX_BUFFER_ALLOCATION_SETTING = new Setting<>(
+        "indices.memory.index_buffer_allocation",
+        AllocationPolicy.LARGEST_FIRST.value,
+        AllocationPolicy::fromString,
+        Property.NodeScope);
+
+    /** The weight of the bytes written since the previous check in the write rate of a shard, the rest is its previous rate */
+    static final double WRITE_RATE_WEIGHT = 0.3;
+
+    public enum AllocationPolicy {
+        LARGEST_FIRST("largest_first"),
+        WRITE_RATE("write_rate");
+
+        private final String value;
+
+        AllocationPolicy(String value) {
+            this.value = value;
+        }
+
+        static AllocationPolicy fromString(String value) {
+            for (AllocationPolicy policy : values()) {
+                if (policy.value.equals(value)) {
+                    return policy;
+                }
+            }
+            throw new IllegalArgumentException("unknown value for [" + INDEX_BUFFER_ALLOCATION_SETTING.getKey() + "] must be one of [" +
+                LARGEST_FIRST.value + ", " + WRITE_RATE.value + "] but was: " + value);
+        }
+
+        @Override
+        public String toString() {
+            return value;
+        }
+    }
+
     private final ThreadPool threadPool;
 
     private final Iterable<IndexShard> indexShards;
@@ -111,6 +162,11 @@ public class IndexingMemoryController implements IndexingOperationListener, Clos
     private final TimeValue inactiveTime;
     private final TimeValue interval;
 
+    private final AllocationPolicy allocationPolicy;
+
+    /** Recent write rates of the shards, only tracked with the {@link AllocationPolicy#WRITE_RATE} allocation policy */
+    private final Map<ShardId, ShardWriteRate> writeRates = new ConcurrentHashMap<>();
+
     /** Contains shards currently being throttled because we can't write segments quickly enough */
     private final Set<IndexShard> throttled = new HashSet<>();
 
@@ -144,13 +200,15 @@ public class IndexingMemoryController implements IndexingOperationListener, Clos
         this.inactiveTime = SHARD_INACTIVE_TIME_SETTING.get(settings);
         // we need to have this relatively small to free up heap quickly enough
         this.interval = SHARD_MEMORY_INTERVAL_TIME_SETTING.get(settings);
+        this.allocationPolicy = INDEX_BUFFER_ALLOCATION_SETTING.get(settings);
 
         this.statusChecker = new ShardsIndicesStatusChecker();
 
-        logger.debug("using indexing buffer size [{}] with {} [{}], {} [{}]",
+        logger.debug("using indexing buffer size [{}] with {} [{}], {} [{}], {} [{}]",
                      this.indexingBuffer,
                      SHARD_INACTIVE_TIME_SETTING.getKey(), this.inactiveTime,
-                     SHARD_MEMORY_INTERVAL_TIME_SETTING.getKey(), this.interval);
+                     SHARD_MEMORY_INTERVAL_TIME_SETTING.getKey(), this.interval,
+                     INDEX_BUFFER_ALLOCATION_SETTING.getKey(), this.allocationPolicy);
         this.scheduler = scheduleTask(threadPool);
 
         // Need to save this so we can later launch async "write indexing buffer to disk" on shards:
@@ -210,6 +268,21 @@ public class IndexingMemoryController implements IndexingOperationListener, Clos
         });
     }
 
+    /** records that the indexing buffer of this shard is written to disk, either because it is idle or because the node is over budget */
+    protected void recordIndexingBufferWrite(IndexShard shard, boolean idle) {
+        shard.onIndexingBufferWriteScheduled(idle);
+    }
+
+    /** hands this shard the share of the indexing buffer that it is allotted */
+    protected void setIndexBufferBudget(IndexShard shard, long indexBufferBudgetInBytes) {
+        shard.setIndexBufferBudget(indexBufferBudgetInBytes);
+    }
+
+    /** returns the current relative time, which the write rates of shards are tracked with */
+    protected long relativeTimeInNanos() {
+        return System.nanoTime();
+    }
+
     /** force checker to run now */
     void forceCheck() {
         statusChecker.run();
@@ -227,34 +300,67 @@ public class IndexingMemoryController implements IndexingOperationListener, Clos
 
     @Override
     public void postIndex(ShardId shardId, Engine.Index index, Engine.IndexResult result) {
-        recordOperationBytes(index, result);
+        recordOperationBytes(shardId, index, result);
     }
 
     @Override
     public void postDelete(ShardId shardId, Engine.Delete delete, Engine.DeleteResult result) {
-        recordOperationBytes(delete, result);
+        recordOperationBytes(shardId, delete, result);
     }
 
     /** called by IndexShard to record estimated bytes written to translog for the operation */
-    private void recordOperationBytes(Engine.Operation operation, Engine.Result result) {
+    private void recordOperationBytes(ShardId shardId, Engine.Operation operation, Engine.Result result) {
         if (result.getResultType() == Engine.Result.Type.SUCCESS) {
-            statusChecker.bytesWritten(operation.estimatedSizeInBytes());
+            bytesWritten(shardId, operation.estimatedSizeInBytes());
+        }
+    }
+
+    void bytesWritten(ShardId shardId, int bytes) {
+        if (allocationPolicy == AllocationPolicy.WRITE_RATE) {
+            ShardWriteRate writeRate = writeRates.get(shardId);
+            if (writeRate == null) {
+                writeRate = writeRates.computeIfAbsent(shardId, k -> new ShardWriteRate());
+            }
+            writeRate.bytesWritten(bytes, relativeTimeInNanos());
+        }
+        statusChecker.bytesWritten(bytes);
+    }
+
+    /**
+     * The rate at which a shard is written to, as a moving average of the bytes written to it between two checks. Since all shards
+     * share the same checks, the averages of the shards are comparable with each other.
+     */
+    private static final class ShardWriteRate {
+        final AtomicLong bytesWrittenSinceCheck = new AtomicLong();
+        volatile long lastWriteNanos;
+        double rate; // guarded by the run lock of the status checker
+
+        void bytesWritten(int bytes, long nowInNanos) {
+            bytesWrittenSinceCheck.addAndGet(bytes);
+            lastWriteNanos = nowInNanos;
+        }
+
+        double updateRate() {
+            rate = WRITE_RATE_WEIGHT * bytesWrittenSinceCheck.getAndSet(0) + (1 - WRITE_RATE_WEIGHT) * rate;
+            return rate;
         }
     }
 
     private static final class ShardAndBytesUsed implements Comparable<ShardAndBytesUsed> {
         final long bytesUsed;
+        final long bytesOverBudget;
         final IndexShard shard;
 
-        ShardAndBytesUsed(long bytesUsed, IndexShard shard) {
+        ShardAndBytesUsed(long bytesUsed, long bytesOverBudget, IndexShard shard) {
             this.bytesUsed = bytesUsed;
+            this.bytesOverBudget = bytesOverBudget;
             this.shard = shard;
         }
 
         @Override
         public int compareTo(ShardAndBytesUsed other) {
-            // Sort larger shards first:
-            return Long.compare(other.bytesUsed, bytesUsed);
+            // Sort shards that are most over their budget first:
+            return Long.compare(other.bytesOverBudget, bytesOverBudget);
         }
     }
 
@@ -310,11 +416,17 @@ public class IndexingMemoryController implements IndexingOperationListener, Clos
             // NOTE: even if we hit an errant exc here, our ThreadPool.scheduledWithFixedDelay will log the exception and re-invoke us
             // again, on schedule
 
+            final List<IndexShard> shards = availableShards();
+            final Map<ShardId, Long> budgets = allocationPolicy == AllocationPolicy.WRITE_RATE ? allocateBudgets(shards) :
+                Collections.emptyMap();
+            final Set<IndexShard> idleShards = new HashSet<>();
+            final long nowInNanos = relativeTimeInNanos();
+
             // First pass to sum up how much heap all shards' indexing buffers are using now, and how many bytes they are currently moving
             // to disk:
             long totalBytesUsed = 0;
             long totalBytesWriting = 0;
-            for (IndexShard shard : availableShards()) {
+            for (IndexShard shard : shards) {
 
                 // Give shard a chance to transition to inactive so sync'd flush can happen:
                 checkIdle(shard, inactiveTime.nanos());
@@ -334,6 +446,18 @@ public class IndexingMemoryController implements IndexingOperationListener, Clos
                     continue;
                 }
 
+                // A shard that stopped indexing does not need its indexing buffer anymore, free it up for the shards that still index:
+                if (allocationPolicy == AllocationPolicy.WRITE_RATE && shardBytesUsed > 0 && shardWritingBytes == 0
+                    && isWriteIdle(shard, nowInNanos)) {
+                    logger.debug("write indexing buffer to disk for idle shard [{}] to free up its [{}] indexing buffer",
+                        shard.shardId(), new ByteSizeValue(shardBytesUsed));
+                    idleShards.add(shard);
+                    recordIndexingBufferWrite(shard, true);
+                    writeIndexingBufferAsync(shard);
+                    totalBytesWriting += shardBytesUsed;
+                    continue;
+                }
+
                 totalBytesUsed += shardBytesUsed;
             }
 
@@ -351,7 +475,11 @@ public class IndexingMemoryController implements IndexingOperationListener, Clos
                 // OK we are now over-budget; fill the priority queue and ask largest shard(s) to refresh:
                 PriorityQueue<ShardAndBytesUsed> queue = new PriorityQueue<>();
 
-                for (IndexShard shard : availableShards()) {
+                for (IndexShard shard : shards) {
+                    if (idleShards.contains(shard)) {
+                        continue;
+                    }
+
                     // How many bytes this shard is currently (async'd) moving from heap to disk:
                     long shardWritingBytes = getShardWritingBytes(shard);
 
@@ -376,7 +504,8 @@ public class IndexingMemoryController implements IndexingOperationListener, Clos
                                 logger.trace("shard [{}] is using [{}] heap, not writing any bytes", shard.shardId(), shardBytesUsed);
                             }
                         }
-                        queue.add(new ShardAndBytesUsed(shardBytesUsed, shard));
+                        final long shardBudget = budgets.getOrDefault(shard.shardId(), 0L);
+                        queue.add(new ShardAndBytesUsed(shardBytesUsed, shardBytesUsed - shardBudget, shard));
                     }
                 }
 
@@ -388,6 +517,7 @@ public class IndexingMemoryController implements IndexingOperationListener, Clos
                     ShardAndBytesUsed largest = queue.poll();
                     logger.debug("write indexing buffer to disk for shard [{}] to free up its [{}] indexing buffer",
                         largest.shard.shardId(), new ByteSizeValue(largest.bytesUsed));
+                    recordIndexingBufferWrite(largest.shard, false);
                     writeIndexingBufferAsync(largest.shard);
                     totalBytesUsed -= largest.bytesUsed;
                     if (doThrottle && throttled.contains(largest.shard) == false) {
@@ -406,6 +536,37 @@ public class IndexingMemoryController implements IndexingOperationListener, Clos
                 throttled.clear();
             }
         }
+
+        /**
+         * Allots every shard a share of the indexing buffer in proportion to its recent write rate, and returns the budgets by shard.
+         * Shards that are not written to anymore end up with no budget, as do all shards if none of them was recently written to.
+         */
+        private Map<ShardId, Long> allocateBudgets(List<IndexShard> shards) {
+            final Map<ShardId, Double> rates = new HashMap<>();
+            double totalRate = 0;
+            for (IndexShard shard : shards) {
+                final ShardWriteRate writeRate = writeRates.get(shard.shardId());
+                final double rate = writeRate == null ? 0 : writeRate.updateRate();
+                rates.put(shard.shardId(), rate);
+                totalRate += rate;
+            }
+            // forget about shards that were closed or relocated away:
+            writeRates.keySet().retainAll(rates.keySet());
+
+            final Map<ShardId, Long> budgets = new HashMap<>();
+            for (IndexShard shard : shards) {
+                final long budget = totalRate > 0 ? (long) (indexingBuffer.getBytes() * rates.get(shard.shardId()) / totalRate) : 0;
+                budgets.put(shard.shardId(), budget);
+                setIndexBufferBudget(shard, budget);
+            }
+            return budgets;
+        }
+
+        /** returns whether this shard was not written to for at least the check interval */
+        private boolean isWriteIdle(IndexShard shard, long nowInNanos) {
+            final ShardWriteRate writeRate = writeRates.get(shard.shardId());
+            return writeRate == null || nowInNanos - writeRate.lastWriteNanos >= interval.nanos();
+        }
     }
 
     /**
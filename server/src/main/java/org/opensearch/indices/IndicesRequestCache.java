@@ -41,6 +41,7 @@ import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.util.Accountable;
 import org.apache.lucene.util.RamUsageEstimator;
 import org.opensearch.common.CheckedSupplier;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.cache.Cache;
 import org.opensearch.common.cache.CacheBuilder;
@@ -51,18 +52,23 @@ import org.opensearch.common.lucene.index.OpenSearchDirectoryReader;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.ByteSizeUnit;
 import org.opensearch.common.unit.ByteSizeValue;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.core.internal.io.IOUtils;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.Predicate;
 
 /**
  * The indices request cache allows to cache a shard level request stage responses, helping with improving
@@ -74,6 +80,9 @@ import java.util.concurrent.ConcurrentMap;
  * Currently, the cache is only enabled for count requests, and can only be opted in on an index
  * level setting that can be dynamically changed and defaults to false.
  * <p>
+ * The entries evicted from the on-heap cache can optionally be kept in an {@link IndicesRequestCacheTier} outside of the heap,
+ * misses of the on-heap cache are then looked up in the tier and promoted back to the heap on hits.
+ * <p>
  * There are still several TODOs left in this class, some easily addressable, some more complex, but the support
  * is functional.
  */
@@ -91,28 +100,86 @@ public final class IndicesRequestCache implements RemovalListener<IndicesRequest
         Setting.memorySizeSetting("indices.requests.cache.size", "1%", Property.NodeScope);
     public static final Setting<TimeValue> INDICES_CACHE_QUERY_EXPIRE =
         Setting.positiveTimeSetting("indices.requests.cache.expire", new TimeValue(0), Property.NodeScope);
+    public static final Setting<TierType> INDICES_CACHE_TIER_TYPE =
+        new Setting<>("indices.requests.cache.tier.type", TierType.NONE.toString(), TierType::fromString, Property.NodeScope);
+    public static final Setting<ByteSizeValue> INDICES_CACHE_TIER_SIZE =
+        Setting.byteSizeSetting("indices.requests.cache.tier.size", new ByteSizeValue(1, ByteSizeUnit.GB), new ByteSizeValue(1),
+            new ByteSizeValue(Long.MAX_VALUE), Property.NodeScope);
+
+    /**
+     * Where the entries evicted from the on-heap cache are kept.
+     */
+    public enum TierType {
+        /**
+         * The evicted entries are discarded.
+         */
+        NONE,
+        /**
+         * The evicted entries are kept in direct byte buffers, which count against the maximum direct memory of the JVM.
+         */
+        OFF_HEAP,
+        /**
+         * The evicted entries are kept in a file under the node data path that is mapped in memory, so they live in the page cache
+         * and are paged out to disk by the operating system.
+         */
+        MMAP;
+
+        public static TierType fromString(String type) {
+            return TierType.valueOf(type.toUpperCase(Locale.ROOT));
+        }
+
+        @Override
+        public String toString() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
 
     private final ConcurrentMap<CleanupKey, Boolean> registeredClosedListeners = ConcurrentCollections.newConcurrentMap();
     private final Set<CleanupKey> keysToClean = ConcurrentCollections.newConcurrentSet();
     private final ByteSizeValue size;
     private final TimeValue expire;
     private final Cache<Key, BytesReference> cache;
+    private final IndicesRequestCacheTier tier;
 
-    IndicesRequestCache(Settings settings) {
+    IndicesRequestCache(Settings settings) throws IOException {
+        this(settings, null);
+    }
+
+    /**
+     * @param dataPath the node data path that holds the file of a {@link TierType#MMAP} tier
+     */
+    IndicesRequestCache(Settings settings, @Nullable Path dataPath) throws IOException {
         this.size = INDICES_CACHE_QUERY_SIZE.get(settings);
         this.expire = INDICES_CACHE_QUERY_EXPIRE.exists(settings) ? INDICES_CACHE_QUERY_EXPIRE.get(settings) : null;
         long sizeInBytes = size.getBytes();
         CacheBuilder<Key, BytesReference> cacheBuilder = CacheBuilder.<Key, BytesReference>builder()
-            .setMaximumWeight(sizeInBytes).weigher((k, v) -> k.ramBytesUsed() + v.ramBytesUsed()).removalListener(this);
+            .setMaximumWeight(sizeInBytes).weigher((k, v) -> k.ramBytesUsed() + v.ramBytesUsed()).removalListener(this)
+            .setEvictionPolicy(Cache.EvictionPolicy.TINY_LFU);
         if (expire != null) {
             cacheBuilder.setExpireAfterAccess(expire);
         }
         cache = cacheBuilder.build();
+        final long tierSizeInBytes = INDICES_CACHE_TIER_SIZE.get(settings).getBytes();
+        switch (INDICES_CACHE_TIER_TYPE.get(settings)) {
+            case OFF_HEAP:
+                tier = IndicesRequestCacheTier.offHeap(tierSizeInBytes);
+                break;
+            case MMAP:
+                if (dataPath == null) {
+                    throw new IllegalArgumentException("[" + INDICES_CACHE_TIER_TYPE.getKey() + "] set to ["
+                        + TierType.MMAP + "] requires a node data path");
+                }
+                tier = IndicesRequestCacheTier.mmap(tierSizeInBytes, dataPath.resolve(IndicesRequestCacheTier.FILE_NAME));
+                break;
+            default:
+                tier = null;
+        }
     }
 
     @Override
-    public void close() {
+    public void close() throws IOException {
         cache.invalidateAll();
+        IOUtils.close(tier);
     }
 
     void clear(CacheEntity entity) {
@@ -122,17 +189,27 @@ public final class IndicesRequestCache implements RemovalListener<IndicesRequest
 
     @Override
     public void onRemoval(RemovalNotification<Key, BytesReference> notification) {
-        notification.getKey().entity.onRemoval(notification);
+        final Key key = notification.getKey();
+        key.entity.onRemoval(notification);
+        // only entries that are still valid are moved to the tier, invalidated entries are dropped
+        if (tier != null && notification.getRemovalReason() == RemovalNotification.RemovalReason.EVICTED && key.entity.isOpen()) {
+            tier.put(key, notification.getValue());
+        }
     }
 
     BytesReference getOrCompute(CacheEntity cacheEntity, CheckedSupplier<BytesReference, IOException> loader,
                                 DirectoryReader reader, BytesReference cacheKey) throws Exception {
         assert reader.getReaderCacheHelper() != null;
         final Key key =  new Key(cacheEntity, reader.getReaderCacheHelper().getKey(), cacheKey);
-        Loader cacheLoader = new Loader(cacheEntity, loader);
+        Loader cacheLoader = new Loader(cacheEntity, loader, tier);
         BytesReference value = cache.computeIfAbsent(key, cacheLoader);
         if (cacheLoader.isLoaded()) {
-            key.entity.onMiss();
+            if (cacheLoader.isLoadedFromTier()) {
+                key.entity.onHit();
+                key.entity.onTierHit();
+            } else {
+                key.entity.onMiss();
+            }
             // see if its the first time we see this reader, and make sure to register a cleanup key
             CleanupKey cleanupKey = new CleanupKey(cacheEntity, reader.getReaderCacheHelper().getKey());
             if (!registeredClosedListeners.containsKey(cleanupKey)) {
@@ -155,27 +232,43 @@ public final class IndicesRequestCache implements RemovalListener<IndicesRequest
      */
     void invalidate(CacheEntity cacheEntity, DirectoryReader reader, BytesReference cacheKey) {
         assert reader.getReaderCacheHelper() != null;
-        cache.invalidate(new Key(cacheEntity, reader.getReaderCacheHelper().getKey(), cacheKey));
+        final Key key = new Key(cacheEntity, reader.getReaderCacheHelper().getKey(), cacheKey);
+        cache.invalidate(key);
+        if (tier != null) {
+            tier.invalidate(key);
+        }
     }
 
     private static class Loader implements CacheLoader<Key, BytesReference> {
 
         private final CacheEntity entity;
         private final CheckedSupplier<BytesReference, IOException> loader;
+        private final IndicesRequestCacheTier tier;
         private boolean loaded;
+        private boolean loadedFromTier;
 
-        Loader(CacheEntity entity, CheckedSupplier<BytesReference, IOException> loader) {
+        Loader(CacheEntity entity, CheckedSupplier<BytesReference, IOException> loader, @Nullable IndicesRequestCacheTier tier) {
             this.entity = entity;
             this.loader = loader;
+            this.tier = tier;
         }
 
         public boolean isLoaded() {
             return this.loaded;
         }
 
+        public boolean isLoadedFromTier() {
+            return this.loadedFromTier;
+        }
+
         @Override
         public BytesReference load(Key key) throws Exception {
-            BytesReference value = loader.get();
+            BytesReference value = tier == null ? null : tier.remove(key);
+            if (value != null) {
+                loadedFromTier = true;
+            } else {
+                value = loader.get();
+            }
             entity.onCached(key, value);
             loaded = true;
             return value;
@@ -218,6 +311,21 @@ public final class IndicesRequestCache implements RemovalListener<IndicesRequest
          * Called when this entity instance is removed
          */
         void onRemoval(RemovalNotification<Key, BytesReference> notification);
+
+        /**
+         * Called each time a miss of the on-heap cache is served by the tier.
+         */
+        void onTierHit();
+
+        /**
+         * Called after a value evicted from the on-heap cache was stored in the tier.
+         */
+        void onTierCached(Key key, long sizeInBytes);
+
+        /**
+         * Called when a value is removed from the tier.
+         */
+        void onTierRemoval(Key key, long sizeInBytes, boolean evicted);
     }
 
     static class Key implements Accountable {
@@ -319,16 +427,17 @@ public final class IndicesRequestCache implements RemovalListener<IndicesRequest
             }
         }
         if (!currentKeysToClean.isEmpty() || !currentFullClean.isEmpty()) {
+            final Predicate<Key> shouldClean = key -> currentFullClean.contains(key.entity.getCacheIdentity())
+                || currentKeysToClean.contains(new CleanupKey(key.entity, key.readerCacheKey));
             for (Iterator<Key> iterator = cache.keys().iterator(); iterator.hasNext(); ) {
                 Key key = iterator.next();
-                if (currentFullClean.contains(key.entity.getCacheIdentity())) {
+                if (shouldClean.test(key)) {
                     iterator.remove();
-                } else {
-                    if (currentKeysToClean.contains(new CleanupKey(key.entity, key.readerCacheKey))) {
-                        iterator.remove();
-                    }
                 }
             }
+            if (tier != null) {
+                tier.invalidateAll(shouldClean);
+            }
         }
 
         cache.refresh();
@@ -342,6 +451,13 @@ public final class IndicesRequestCache implements RemovalListener<IndicesRequest
         return cache.count();
     }
 
+    /**
+     * Returns the number of entries in the tier
+     */
+    int tierCount() {
+        return tier == null ? 0 : tier.count();
+    }
+
     int numRegisteredCloseListeners() { // for testing
         return registeredClosedListeners.size();
     }
@@ -0,0 +1,282 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.BytesRefIterator;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.core.internal.io.IOUtils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * A second level of the {@link IndicesRequestCache} that keeps the values evicted from the on-heap cache outside of the heap,
+ * either in direct buffers or in a memory-mapped file. The keys stay on heap so that entries can be invalidated with the same
+ * reader cache keys as the on-heap entries.
+ * <p>
+ * The storage is split into fixed-size chunks that are written sequentially like a ring buffer. When the chunk that is about to
+ * be written still holds entries, they are all evicted at once, which makes the eviction policy FIFO at the granularity of a chunk.
+ * Entries that are removed before being evicted leave a hole in their chunk until it is reused.
+ */
+final class IndicesRequestCacheTier implements Closeable {
+
+    static final String FILE_NAME = "request_cache.tier";
+    static final int MAX_CHUNK_SIZE = 64 * 1024 * 1024;
+
+    private final ConcurrentMap<IndicesRequestCache.Key, Entry> entries = ConcurrentCollections.newConcurrentMap();
+    private final Chunk[] chunks;
+    private final int chunkSize;
+    private final FileChannel channel;
+    private final Path file;
+    private volatile boolean closed;
+    // guarded by this
+    private int writeChunk;
+    private int writeOffset;
+
+    private IndicesRequestCacheTier(long sizeInBytes, int maxChunkSize, FileChannel channel, Path file) {
+        // the size is split in as few chunks as possible of equal size, so that all of it is used but none of the chunks is larger
+        // than the maximum chunk size
+        final int numberOfChunks = (int) Math.max(1, (sizeInBytes + maxChunkSize - 1) / maxChunkSize);
+        this.chunkSize = (int) (sizeInBytes / numberOfChunks);
+        this.chunks = new Chunk[numberOfChunks];
+        for (int i = 0; i < chunks.length; i++) {
+            chunks[i] = new Chunk();
+        }
+        this.channel = channel;
+        this.file = file;
+    }
+
+    /**
+     * Creates a tier that stores its values in direct byte buffers, allocated when first written to.
+     */
+    static IndicesRequestCacheTier offHeap(long sizeInBytes) {
+        return offHeap(sizeInBytes, MAX_CHUNK_SIZE);
+    }
+
+    // pkg-private for testing
+    static IndicesRequestCacheTier offHeap(long sizeInBytes, int maxChunkSize) {
+        return new IndicesRequestCacheTier(sizeInBytes, maxChunkSize, null, null);
+    }
+
+    /**
+     * Creates a tier that stores its values in the given file, which is mapped in memory. The file is truncated since the entries
+     * refer to readers that do not survive a restart, and deleted when the tier is closed.
+     */
+    static IndicesRequestCacheTier mmap(long sizeInBytes, Path file) throws IOException {
+        Files.createDirectories(file.getParent());
+        final FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING);
+        return new IndicesRequestCacheTier(sizeInBytes, MAX_CHUNK_SIZE, channel, file);
+    }
+
+    /**
+     * Stores the given value, replacing the value that is already stored for the key, if any. Values that do not fit in a chunk
+     * are not stored.
+     */
+    synchronized void put(IndicesRequestCache.Key key, BytesReference value) {
+        final int length = value.length();
+        if (closed || length > chunkSize) {
+            return;
+        }
+        removeEntry(key);
+        if (writeOffset + length > chunkSize) {
+            writeChunk = (writeChunk + 1) % chunks.length;
+            writeOffset = 0;
+            recycle(chunks[writeChunk]);
+        }
+        final Chunk chunk = chunks[writeChunk];
+        if (chunk.buffer == null) {
+            chunk.buffer = allocate(writeChunk);
+        }
+        final ByteBuffer buffer = chunk.buffer.duplicate();
+        buffer.position(writeOffset);
+        try {
+            final BytesRefIterator iterator = value.iterator();
+            for (BytesRef bytes = iterator.next(); bytes != null; bytes = iterator.next()) {
+                buffer.put(bytes.bytes, bytes.offset, bytes.length);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        final Entry entry = new Entry(writeChunk, chunk.generation, writeOffset, length);
+        writeOffset += length;
+        chunk.entries.put(key, entry);
+        // the map provides the happens-before edge between the writes above and the reads of the entry
+        entries.put(key, entry);
+        key.entity.onTierCached(key, length);
+    }
+
+    /**
+     * Returns a copy of the value stored for the given key, or <code>null</code> if there is none.
+     */
+    BytesReference get(IndicesRequestCache.Key key) {
+        final Entry entry = entries.get(key);
+        return entry == null ? null : read(entry);
+    }
+
+    /**
+     * Removes the value stored for the given key and returns a copy of it, or <code>null</code> if there is none.
+     */
+    BytesReference remove(IndicesRequestCache.Key key) {
+        final Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        final BytesReference value = read(entry);
+        if (value != null && entries.remove(key, entry)) {
+            chunks[entry.chunk].entries.remove(key, entry);
+            key.entity.onTierRemoval(key, entry.length, false);
+            return value;
+        }
+        return null;
+    }
+
+    /**
+     * Removes the value stored for the given key, if any.
+     */
+    void invalidate(IndicesRequestCache.Key key) {
+        removeEntry(key);
+    }
+
+    /**
+     * Removes the values of all keys that match the given predicate.
+     */
+    void invalidateAll(Predicate<IndicesRequestCache.Key> predicate) {
+        for (Iterator<IndicesRequestCache.Key> iterator = entries.keySet().iterator(); iterator.hasNext(); ) {
+            final IndicesRequestCache.Key key = iterator.next();
+            if (predicate.test(key)) {
+                removeEntry(key);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of values stored in the tier.
+     */
+    int count() {
+        return entries.size();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        closed = true;
+        invalidateAll(key -> true);
+        for (Chunk chunk : chunks) {
+            chunk.lock.writeLock().lock();
+            try {
+                chunk.generation++;
+                chunk.buffer = null;
+            } finally {
+                chunk.lock.writeLock().unlock();
+            }
+        }
+        if (channel != null) {
+            // the mappings are released once the buffers are garbage collected, which does not prevent deleting the file
+            IOUtils.close(channel, () -> Files.deleteIfExists(file));
+        }
+    }
+
+    private void removeEntry(IndicesRequestCache.Key key) {
+        final Entry entry = entries.remove(key);
+        if (entry != null) {
+            chunks[entry.chunk].entries.remove(key, entry);
+            key.entity.onTierRemoval(key, entry.length, false);
+        }
+    }
+
+    /**
+     * Evicts all entries of the given chunk and bumps its generation so that concurrent readers of these entries fail.
+     */
+    private void recycle(Chunk chunk) {
+        final long generation = chunk.generation;
+        chunk.lock.writeLock().lock();
+        try {
+            chunk.generation++;
+        } finally {
+            chunk.lock.writeLock().unlock();
+        }
+        final Iterator<Map.Entry<IndicesRequestCache.Key, Entry>> iterator = chunk.entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Map.Entry<IndicesRequestCache.Key, Entry> chunkEntry = iterator.next();
+            iterator.remove();
+            final IndicesRequestCache.Key key = chunkEntry.getKey();
+            final Entry entry = chunkEntry.getValue();
+            if (entry.generation == generation && entries.remove(key, entry)) {
+                key.entity.onTierRemoval(key, entry.length, true);
+            }
+        }
+    }
+
+    private ByteBuffer allocate(int chunk) {
+        if (channel == null) {
+            return ByteBuffer.allocateDirect(chunkSize);
+        }
+        try {
+            return channel.map(FileChannel.MapMode.READ_WRITE, (long) chunk * chunkSize, chunkSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private BytesReference read(Entry entry) {
+        final Chunk chunk = chunks[entry.chunk];
+        chunk.lock.readLock().lock();
+        try {
+            if (chunk.generation != entry.generation) {
+                // the chunk was reused since the entry was written
+                return null;
+            }
+            final ByteBuffer buffer = chunk.buffer.duplicate();
+            buffer.position(entry.offset);
+            final byte[] bytes = new byte[entry.length];
+            buffer.get(bytes);
+            return new BytesArray(bytes);
+        } finally {
+            chunk.lock.readLock().unlock();
+        }
+    }
+
+    private static final class Chunk {
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        // the entries written to this chunk, removed by entry and not by key since the key may be stored again meanwhile
+        private final ConcurrentMap<IndicesRequestCache.Key, Entry> entries = ConcurrentCollections.newConcurrentMap();
+        // written under the write lock or by the single writer of the tier
+        private volatile ByteBuffer buffer;
+        private volatile long generation;
+    }
+
+    private static final class Entry {
+        private final int chunk;
+        private final long generation;
+        private final int offset;
+        private final int length;
+
+        private Entry(int chunk, long generation, int offset, int length) {
+            this.chunk = chunk;
+            this.generation = generation;
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+}
@@ -230,6 +230,9 @@ public class IndicesService extends AbstractLifecycleComponent
     private final MapperRegistry mapperRegistry;
     private final NamedWriteableRegistry namedWriteableRegistry;
     private final IndexingMemoryController indexingMemoryController;
+    @Nullable
+    private final TranslogSyncCoordinator translogSyncCoordinator;
+    private final MergeBudgetCoordinator mergeBudgetCoordinator;
     private final TimeValue cleanInterval;
     final IndicesRequestCache indicesRequestCache; // pkg-private for testing
     private final IndicesQueryCache indicesQueryCache;
@@ -271,13 +274,21 @@ public class IndicesService extends AbstractLifecycleComponent
         this.shardsClosedTimeout = settings.getAsTime(INDICES_SHARDS_CLOSED_TIMEOUT, new TimeValue(1, TimeUnit.DAYS));
         this.analysisRegistry = analysisRegistry;
         this.indexNameExpressionResolver = indexNameExpressionResolver;
-        this.indicesRequestCache = new IndicesRequestCache(settings);
+        try {
+            this.indicesRequestCache = new IndicesRequestCache(settings, nodeEnv.hasNodeFile() ? nodeEnv.nodeDataPaths()[0] : null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
         this.indicesQueryCache = new IndicesQueryCache(settings);
         this.mapperRegistry = mapperRegistry;
         this.namedWriteableRegistry = namedWriteableRegistry;
         indexingMemoryController = new IndexingMemoryController(settings, threadPool,
                                                                 // ensure we pull an iter with new shards - flatten makes a copy
                                                                 () -> Iterables.flatten(this).iterator());
+        this.translogSyncCoordinator = TranslogSyncCoordinator.INDICES_TRANSLOG_GROUP_COMMIT_ENABLED_SETTING.get(settings)
+            ? new TranslogSyncCoordinator(threadPool)
+            : null;
+        this.mergeBudgetCoordinator = new MergeBudgetCoordinator(settings, clusterService.getClusterSettings());
         this.indexScopedSettings = indexScopedSettings;
         this.circuitBreakerService = circuitBreakerService;
         this.bigArrays = bigArrays;
@@ -682,7 +693,9 @@ public class IndicesService extends AbstractLifecycleComponent
                 indicesFieldDataCache,
                 namedWriteableRegistry,
                 this::isIdFieldDataEnabled,
-                valuesSourceRegistry
+                valuesSourceRegistry,
+                translogSyncCoordinator,
+                mergeBudgetCoordinator
         );
     }
 
@@ -0,0 +1,207 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.PointValues;
+import org.opensearch.action.ActionListener;
+import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.cluster.ClusterStateListener;
+import org.opensearch.cluster.action.shard.ShardTimestampRangeAction;
+import org.opensearch.cluster.action.shard.ShardTimestampRangeAction.ShardTimestampRangeEntry;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.IndexTimestampRange;
+import org.opensearch.cluster.routing.IndexRoutingTable;
+import org.opensearch.cluster.routing.ShardRouting;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.AbstractRunnable;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.index.IndexService;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.engine.Engine;
+import org.opensearch.index.mapper.DateFieldMapper;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.index.shard.IndexShardState;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Computes the range of the values of the {@link IndexSettings#TIMESTAMP_RANGE_FIELD_SETTING timestamp field} of the primaries that
+ * are allocated to this node once their index is blocked for writes, and reports them to the master so that they are recorded in
+ * the {@link IndexTimestampRange} of the index.
+ */
+public class IndicesTimestampRangeService implements ClusterStateListener {
+
+    private static final Logger logger = LogManager.getLogger(IndicesTimestampRangeService.class);
+
+    private final IndicesService indicesService;
+    private final ShardTimestampRangeAction shardTimestampRangeAction;
+    private final ThreadPool threadPool;
+
+    // the ranges that are being computed or that were sent to the master but are not in the cluster state yet
+    private final Set<PendingRange> pendingRanges = ConcurrentCollections.newConcurrentSet();
+
+    public IndicesTimestampRangeService(IndicesService indicesService, ShardTimestampRangeAction shardTimestampRangeAction,
+                                        ThreadPool threadPool) {
+        this.indicesService = indicesService;
+        this.shardTimestampRangeAction = shardTimestampRangeAction;
+        this.threadPool = threadPool;
+    }
+
+    @Override
+    public void clusterChanged(ClusterChangedEvent event) {
+        if (event.metadataChanged() == false && event.routingTableChanged() == false) {
+            return;
+        }
+        for (Iterator<PendingRange> iterator = pendingRanges.iterator(); iterator.hasNext(); ) {
+            final PendingRange pendingRange = iterator.next();
+            final ShardId shardId = pendingRange.indexShard.shardId();
+            final IndexMetadata indexMetadata = event.state().metadata().index(shardId.getIndex());
+            final IndexRoutingTable indexRoutingTable = event.state().routingTable().index(shardId.getIndex());
+            if (indexMetadata == null || indexRoutingTable == null
+                    || indexMetadata.getSettingsVersion() != pendingRange.settingsVersion
+                    || (indexMetadata.getTimestampRange().getSettingsVersion() == pendingRange.settingsVersion
+                        && indexMetadata.getTimestampRange().hasShardRange(shardId.id()))) {
+                iterator.remove();
+                continue;
+            }
+            final ShardRouting primary = indexRoutingTable.shard(shardId.id()).primaryShard();
+            if (primary.allocationId() == null || primary.allocationId().getId().equals(pendingRange.allocationId) == false) {
+                iterator.remove();
+            }
+        }
+        for (IndexService indexService : indicesService) {
+            final IndexMetadata indexMetadata = event.state().metadata().index(indexService.index());
+            if (indexMetadata == null || IndexTimestampRange.isBlockedForWrites(indexMetadata) == false) {
+                continue;
+            }
+            final String field = IndexSettings.TIMESTAMP_RANGE_FIELD_SETTING.get(indexMetadata.getSettings());
+            if (field.isEmpty()) {
+                continue;
+            }
+            final IndexTimestampRange timestampRange = indexMetadata.getTimestampRange();
+            final MappedFieldType fieldType = indexService.mapperService().fieldType(field);
+            if (fieldType instanceof DateFieldMapper.DateFieldType == false) {
+                continue;
+            }
+            for (IndexShard indexShard : indexService) {
+                final ShardRouting shardRouting = indexShard.routingEntry();
+                if (shardRouting.primary() == false || shardRouting.started() == false
+                        || (timestampRange.appliesTo(indexMetadata) && timestampRange.hasShardRange(shardRouting.id()))) {
+                    continue;
+                }
+                final PendingRange pendingRange = new PendingRange(indexShard, shardRouting.allocationId().getId(),
+                    indexMetadata.getSettingsVersion());
+                if (pendingRanges.add(pendingRange)) {
+                    computeRange(pendingRange, field, (DateFieldMapper.DateFieldType) fieldType);
+                }
+            }
+        }
+    }
+
+    private void computeRange(PendingRange pendingRange, String field, DateFieldMapper.DateFieldType fieldType) {
+        final IndexShard indexShard = pendingRange.indexShard;
+        // once all permits are acquired, the in-flight writes have completed and the new writes are rejected by the block
+        indexShard.acquireAllPrimaryOperationsPermits(ActionListener.wrap(releasable -> {
+            threadPool.executor(ThreadPool.Names.REFRESH).execute(new AbstractRunnable() {
+                @Override
+                public void onFailure(Exception e) {
+                    pendingRanges.remove(pendingRange);
+                    logger.debug(() -> new ParameterizedMessage("{} failed to compute timestamp range", indexShard.shardId()), e);
+                }
+
+                @Override
+                protected void doRun() throws IOException {
+                    final ShardTimestampRangeEntry entry;
+                    try (Releasable ignored = releasable) {
+                        indexShard.refresh("timestamp_range");
+                        try (Engine.Searcher searcher = indexShard.acquireSearcher("timestamp_range")) {
+                            entry = readRange(pendingRange, searcher.getIndexReader(), field, fieldType);
+                        }
+                    }
+                    logger.debug("{} sending timestamp range [{}]", indexShard.shardId(), entry);
+                    shardTimestampRangeAction.sendTimestampRange(entry, ActionListener.wrap(r -> {}, this::onFailure));
+                }
+
+                @Override
+                public void onRejection(Exception e) {
+                    try {
+                        releasable.close();
+                    } finally {
+                        onFailure(e);
+                    }
+                }
+            });
+        }, e -> {
+            pendingRanges.remove(pendingRange);
+            logger.debug(() -> new ParameterizedMessage("{} failed to acquire permits to compute timestamp range",
+                indexShard.shardId()), e);
+        }), TimeValue.timeValueSeconds(30));
+    }
+
+    static ShardTimestampRangeEntry readRange(PendingRange pendingRange, IndexReader reader, String field,
+                                              DateFieldMapper.DateFieldType fieldType) throws IOException {
+        final IndexShard indexShard = pendingRange.indexShard;
+        if (indexShard.state() != IndexShardState.STARTED) {
+            throw new IllegalStateException("shard is not started: " + indexShard.state());
+        }
+        final byte[] minPackedValue = PointValues.getMinPackedValue(reader, field);
+        final byte[] maxPackedValue = PointValues.getMaxPackedValue(reader, field);
+        final long min;
+        final long max;
+        if (minPackedValue == null) {
+            // no document has a value, so the shard cannot match any range
+            min = Long.MAX_VALUE;
+            max = Long.MIN_VALUE;
+        } else {
+            // values in nanoseconds are truncated to milliseconds, which is fine as long as the bounds of queries are truncated too
+            min = fieldType.resolution().parsePointAsMillis(minPackedValue);
+            max = fieldType.resolution().parsePointAsMillis(maxPackedValue);
+        }
+        return new ShardTimestampRangeEntry(indexShard.shardId(), pendingRange.allocationId, pendingRange.settingsVersion, field,
+            fieldType.dateTimeFormatter().pattern(), min, max);
+    }
+
+    static final class PendingRange {
+        private final IndexShard indexShard;
+        private final String allocationId;
+        private final long settingsVersion;
+
+        PendingRange(IndexShard indexShard, String allocationId, long settingsVersion) {
+            this.indexShard = indexShard;
+            this.allocationId = allocationId;
+            this.settingsVersion = settingsVersion;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            PendingRange that = (PendingRange) o;
+            return settingsVersion == that.settingsVersion
+                && indexShard.shardId().equals(that.indexShard.shardId())
+                && allocationId.equals(that.allocationId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(indexShard.shardId(), allocationId, settingsVersion);
+        }
+    }
+}
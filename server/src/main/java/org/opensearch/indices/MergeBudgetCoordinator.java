@@ -0,0 +1,260 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.apache.lucene.index.MergePolicy;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FilterDirectory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexOutput;
+import org.apache.lucene.store.RateLimitedIndexOutput;
+import org.apache.lucene.store.RateLimiter;
+import org.apache.lucene.store.RateLimiter.SimpleRateLimiter;
+import org.opensearch.common.metrics.CounterMetric;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.ByteSizeUnit;
+import org.opensearch.common.unit.ByteSizeValue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Shares a merge budget across the merge schedulers of all shards of a node, on top of the per-shard merge scheduler settings and auto
+ * IO throttling:
+ * <ul>
+ *     <li>the bytes written by big merges of all shards are limited by a single node-wide rate limiter, so that many shards that merge
+ *     at the same time do not saturate the disks of the node,</li>
+ *     <li>the merge threads of the node are distributed across the shards that are merging, shards with the most segments and then
+ *     the most deleted documents first. Every merging shard keeps at least one merge thread, merges beyond the threads of a shard are
+ *     paused by its merge scheduler until a thread is available.</li>
+ * </ul>
+ * Forced merges are not limited, just like with auto IO throttling.
+ */
+public final class MergeBudgetCoordinator {
+
+    /**
+     * The maximum rate at which big merges of all shards of the node write, unlimited if {@code 0}.
+     */
+    public static final Setting<ByteSizeValue> INDICES_MERGE_BUDGET_MAX_BYTES_PER_SEC_SETTING =
+        Setting.byteSizeSetting("indices.merge.budget.max_bytes_per_sec", new ByteSizeValue(0), Property.Dynamic, Property.NodeScope);
+
+    /**
+     * The number of merge threads that are shared by the merging shards of the node, unlimited if {@code 0}.
+     */
+    public static final Setting<Integer> INDICES_MERGE_BUDGET_MAX_THREAD_COUNT_SETTING =
+        Setting.intSetting("indices.merge.budget.max_thread_count", 0, 0, Property.Dynamic, Property.NodeScope);
+
+    /**
+     * The thread budget of a shard if the number of merge threads of the node is unlimited
+     */
+    public static final int UNLIMITED_THREADS = -1;
+
+    /**
+     * Merges that are estimated to write less than this are not rate limited, which matches the merges that auto IO throttling limits
+     */
+    static final long MIN_BUDGETED_MERGE_BYTES = new ByteSizeValue(50, ByteSizeUnit.MB).getBytes();
+
+    /** how often writes of budgeted merges check the rate limiter while the rate is unlimited, so that they pick up a new limit */
+    private static final long UNLIMITED_PAUSE_CHECK_BYTES = new ByteSizeValue(1, ByteSizeUnit.MB).getBytes();
+
+    /**
+     * The merge scheduler of a shard, which takes part in the budget of the node
+     */
+    public interface Participant {
+
+        /**
+         * Returns the number of merges that the shard currently runs or pauses.
+         */
+        int mergeCount();
+
+        /**
+         * Returns the number of merge threads that the shard is configured with.
+         */
+        int maxThreadCount();
+
+        /**
+         * Returns the number of segments of the shard.
+         */
+        int segmentCount();
+
+        /**
+         * Returns the number of deleted documents in the segments of the shard.
+         */
+        long deletedDocCount();
+
+        /**
+         * Limits the number of merge threads of the shard to the given budget, or {@link #UNLIMITED_THREADS}.
+         */
+        void setThreadBudget(int threadBudget);
+    }
+
+    private final Set<Participant> participants = new LinkedHashSet<>(); // guarded by this
+    private int maxThreadCount; // guarded by this
+    private volatile SimpleRateLimiter rateLimiter;
+
+    public MergeBudgetCoordinator(Settings settings, ClusterSettings clusterSettings) {
+        this.maxThreadCount = INDICES_MERGE_BUDGET_MAX_THREAD_COUNT_SETTING.get(settings);
+        setMaxBytesPerSec(INDICES_MERGE_BUDGET_MAX_BYTES_PER_SEC_SETTING.get(settings));
+        clusterSettings.addSettingsUpdateConsumer(INDICES_MERGE_BUDGET_MAX_BYTES_PER_SEC_SETTING, this::setMaxBytesPerSec);
+        clusterSettings.addSettingsUpdateConsumer(INDICES_MERGE_BUDGET_MAX_THREAD_COUNT_SETTING, this::setMaxThreadCount);
+    }
+
+    private void setMaxBytesPerSec(ByteSizeValue maxBytesPerSec) {
+        if (maxBytesPerSec.getBytes() <= 0) {
+            rateLimiter = null;
+        } else if (rateLimiter != null) {
+            rateLimiter.setMBPerSec(maxBytesPerSec.getMbFrac());
+        } else {
+            rateLimiter = new SimpleRateLimiter(maxBytesPerSec.getMbFrac());
+        }
+    }
+
+    private synchronized void setMaxThreadCount(int maxThreadCount) {
+        this.maxThreadCount = maxThreadCount;
+        rebalance();
+    }
+
+    /**
+     * Adds the merge scheduler of a shard to the budget of the node.
+     */
+    public synchronized void register(Participant participant) {
+        participants.add(participant);
+        rebalance();
+    }
+
+    /**
+     * Removes the merge scheduler of a shard from the budget of the node, which makes its merge threads available to other shards.
+     */
+    public synchronized void unregister(Participant participant) {
+        if (participants.remove(participant)) {
+            rebalance();
+        }
+    }
+
+    /**
+     * Distributes the merge threads of the node across the shards. Must be called whenever a shard starts or finishes a merge.
+     */
+    public synchronized void rebalance() {
+        if (maxThreadCount <= 0) {
+            for (Participant participant : participants) {
+                participant.setThreadBudget(UNLIMITED_THREADS);
+            }
+            return;
+        }
+        final List<MergingShard> mergingShards = new ArrayList<>();
+        for (Participant participant : participants) {
+            final int mergeCount = participant.mergeCount();
+            if (mergeCount > 0) {
+                mergingShards.add(new MergingShard(participant, Math.min(mergeCount, participant.maxThreadCount()),
+                    participant.segmentCount(), participant.deletedDocCount()));
+            } else {
+                // a shard that starts merging can run its first merge right away, until it rebalances the budget
+                participant.setThreadBudget(1);
+            }
+        }
+        mergingShards.sort(MergingShard.PRIORITY);
+        int availableThreads = maxThreadCount - mergingShards.size();
+        for (MergingShard mergingShard : mergingShards) {
+            final int extraThreads = Math.max(0, Math.min(availableThreads, mergingShard.neededThreads - 1));
+            availableThreads -= extraThreads;
+            mergingShard.participant.setThreadBudget(1 + extraThreads);
+        }
+    }
+
+    /**
+     * Wraps the directory that the given merge writes to, so that the merge writes within the node-wide rate limit if it is a big merge.
+     *
+     * @param merge                 the merge
+     * @param in                    the directory the merge writes to
+     * @param throttledTimeInNanos  incremented by the time that the merge was paused to stay within the rate limit
+     */
+    public Directory wrapForMerge(MergePolicy.OneMerge merge, Directory in, CounterMetric throttledTimeInNanos) {
+        if (merge.getStoreMergeInfo().mergeMaxNumSegments != -1 || merge.estimatedMergeBytes < MIN_BUDGETED_MERGE_BYTES) {
+            return in;
+        }
+        final RateLimiter budgetRateLimiter = new BudgetRateLimiter(throttledTimeInNanos);
+        return new FilterDirectory(in) {
+            @Override
+            public IndexOutput createOutput(String name, IOContext context) throws IOException {
+                return new RateLimitedIndexOutput(budgetRateLimiter, in.createOutput(name, context));
+            }
+        };
+    }
+
+    /**
+     * Delegates to the node-wide rate limiter that is current at the time of the write, so that merges pick up changes of the limit.
+     */
+    private final class BudgetRateLimiter extends RateLimiter {
+
+        private final CounterMetric throttledTimeInNanos;
+
+        BudgetRateLimiter(CounterMetric throttledTimeInNanos) {
+            this.throttledTimeInNanos = throttledTimeInNanos;
+        }
+
+        @Override
+        public void setMBPerSec(double mbPerSec) {
+            throw new UnsupportedOperationException("the merge budget is set through [" +
+                INDICES_MERGE_BUDGET_MAX_BYTES_PER_SEC_SETTING.getKey() + "]");
+        }
+
+        @Override
+        public double getMBPerSec() {
+            final SimpleRateLimiter rateLimiter = MergeBudgetCoordinator.this.rateLimiter;
+            return rateLimiter == null ? Double.POSITIVE_INFINITY : rateLimiter.getMBPerSec();
+        }
+
+        @Override
+        public long pause(long bytes) throws IOException {
+            final SimpleRateLimiter rateLimiter = MergeBudgetCoordinator.this.rateLimiter;
+            if (rateLimiter == null) {
+                return 0;
+            }
+            final long pausedNanos;
+            // the limiter is not thread-safe, and serializing the pauses of all merges shares the rate among them
+            synchronized (rateLimiter) {
+                pausedNanos = rateLimiter.pause(bytes);
+            }
+            throttledTimeInNanos.inc(pausedNanos);
+            return pausedNanos;
+        }
+
+        @Override
+        public long getMinPauseCheckBytes() {
+            final SimpleRateLimiter rateLimiter = MergeBudgetCoordinator.this.rateLimiter;
+            return rateLimiter == null ? UNLIMITED_PAUSE_CHECK_BYTES : rateLimiter.getMinPauseCheckBytes();
+        }
+    }
+
+    private static final class MergingShard {
+
+        /** shards with the most segments first, then the shards with the most deleted documents */
+        static final Comparator<MergingShard> PRIORITY = Comparator.<MergingShard>comparingInt(s -> s.segmentCount)
+            .thenComparingLong(s -> s.deletedDocCount).reversed();
+
+        final Participant participant;
+        final int neededThreads;
+        final int segmentCount;
+        final long deletedDocCount;
+
+        MergingShard(Participant participant, int neededThreads, int segmentCount, long deletedDocCount) {
+            this.participant = participant;
+            this.neededThreads = neededThreads;
+            this.segmentCount = segmentCount;
+            this.deletedDocCount = deletedDocCount;
+        }
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.opensearch.common.CheckedConsumer;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.util.concurrent.AbstractRunnable;
+import org.opensearch.common.util.concurrent.CountDown;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.index.translog.Translog;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Group-commits translog syncs across the shards of a node. Shards that need their translog to be durable up to a location hand the
+ * location to this coordinator instead of fsyncing on the calling thread. Pending syncs are batched per data path, which is the unit
+ * of filesystem of a node, into rounds that fsync the translog of every shard with pending syncs on that data path once. The translogs
+ * of a round are fsynced in parallel on the {@link ThreadPool.Names#TRANSLOG_SYNC} thread pool, and the listeners of each translog are
+ * notified as soon as it is synced. Callers are never blocked on fsync and concurrent syncs of many shards on the same filesystem share
+ * the same round.
+ */
+public final class TranslogSyncCoordinator {
+
+    private static final Logger logger = LogManager.getLogger(TranslogSyncCoordinator.class);
+
+    /**
+     * Whether shards of this node group-commit their translog syncs through the coordinator rather than fsync on the thread that
+     * completed the write.
+     */
+    public static final Setting<Boolean> INDICES_TRANSLOG_GROUP_COMMIT_ENABLED_SETTING =
+        Setting.boolSetting("indices.translog.group_commit.enabled", false, Property.NodeScope);
+
+    private final ThreadPool threadPool;
+    private final Map<Path, SyncRound> rounds = new ConcurrentHashMap<>();
+
+    public TranslogSyncCoordinator(ThreadPool threadPool) {
+        this.threadPool = threadPool;
+    }
+
+    /**
+     * Syncs the given location with the underlying storage. The listener is notified on a {@link ThreadPool.Names#TRANSLOG_SYNC}
+     * thread once the location is synced, or with the exception that failed the sync.
+     *
+     * @param dataPath the data path the translog lives on, syncs of translogs on the same data path are group-committed
+     * @param syncer   syncs a translog up to the greatest of the given locations, must be the same instance for every sync of a shard
+     * @param location the location to sync
+     * @param listener notified once the location is synced
+     */
+    public void sync(Path dataPath, CheckedConsumer<List<Translog.Location>, IOException> syncer, Translog.Location location,
+                     Consumer<Exception> listener) {
+        final ThreadContext threadContext = threadPool.getThreadContext();
+        final Supplier<ThreadContext.StoredContext> restorableContext = threadContext.newRestorableContext(false);
+        final Consumer<Exception> contextPreservingListener = e -> {
+            try (ThreadContext.StoredContext ignore = restorableContext.get()) {
+                listener.accept(e);
+            }
+        };
+        rounds.computeIfAbsent(dataPath, SyncRound::new).add(new PendingSync(syncer, location, contextPreservingListener));
+    }
+
+    private static final class PendingSync {
+        private final CheckedConsumer<List<Translog.Location>, IOException> syncer;
+        private final Translog.Location location;
+        private final Consumer<Exception> listener;
+
+        private PendingSync(CheckedConsumer<List<Translog.Location>, IOException> syncer, Translog.Location location,
+                            Consumer<Exception> listener) {
+            this.syncer = syncer;
+            this.location = location;
+            this.listener = listener;
+        }
+    }
+
+    /**
+     * The pending syncs of a data path. At most one round of a data path runs at a time, syncs that are added while a round runs are
+     * processed by the next round. A round ends once the translogs of all its syncs are synced.
+     */
+    private final class SyncRound extends AbstractRunnable {
+        private final Path dataPath;
+        private final Queue<PendingSync> pendingSyncs = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private SyncRound(Path dataPath) {
+            this.dataPath = dataPath;
+        }
+
+        void add(PendingSync pendingSync) {
+            pendingSyncs.add(pendingSync);
+            maybeSchedule();
+        }
+
+        private void maybeSchedule() {
+            if (pendingSyncs.isEmpty() == false && scheduled.compareAndSet(false, true)) {
+                // the round must not inherit the context of the caller that happened to schedule it
+                try (ThreadContext.StoredContext ignore = threadPool.getThreadContext().stashContext()) {
+                    threadPool.executor(ThreadPool.Names.TRANSLOG_SYNC).execute(this);
+                }
+            }
+        }
+
+        @Override
+        protected void doRun() {
+            final Map<CheckedConsumer<List<Translog.Location>, IOException>, List<PendingSync>> syncsPerTranslog = new LinkedHashMap<>();
+            PendingSync pendingSync;
+            while ((pendingSync = pendingSyncs.poll()) != null) {
+                syncsPerTranslog.computeIfAbsent(pendingSync.syncer, k -> new ArrayList<>()).add(pendingSync);
+            }
+            if (syncsPerTranslog.isEmpty()) {
+                finishRound();
+                return;
+            }
+            final CountDown pendingTranslogs = new CountDown(syncsPerTranslog.size());
+            final Runnable onTranslogSynced = () -> {
+                if (pendingTranslogs.countDown()) {
+                    finishRound();
+                }
+            };
+            final Iterator<Map.Entry<CheckedConsumer<List<Translog.Location>, IOException>, List<PendingSync>>> iterator =
+                syncsPerTranslog.entrySet().iterator();
+            final Map.Entry<CheckedConsumer<List<Translog.Location>, IOException>, List<PendingSync>> first = iterator.next();
+            // the other translogs are fsynced in parallel, while this thread fsyncs the first one
+            while (iterator.hasNext()) {
+                final Map.Entry<CheckedConsumer<List<Translog.Location>, IOException>, List<PendingSync>> entry = iterator.next();
+                try (ThreadContext.StoredContext ignore = threadPool.getThreadContext().stashContext()) {
+                    threadPool.executor(ThreadPool.Names.TRANSLOG_SYNC).execute(new AbstractRunnable() {
+                        @Override
+                        protected void doRun() {
+                            syncTranslog(entry.getKey(), entry.getValue());
+                        }
+
+                        @Override
+                        public void onFailure(Exception e) {
+                            // the thread pool only rejects when the node shuts down
+                            notifyListeners(entry.getValue(), e);
+                        }
+
+                        @Override
+                        public void onAfter() {
+                            onTranslogSynced.run();
+                        }
+                    });
+                }
+            }
+            try {
+                syncTranslog(first.getKey(), first.getValue());
+            } finally {
+                onTranslogSynced.run();
+            }
+        }
+
+        private void syncTranslog(CheckedConsumer<List<Translog.Location>, IOException> syncer, List<PendingSync> syncs) {
+            final List<Translog.Location> locations = new ArrayList<>(syncs.size());
+            for (PendingSync sync : syncs) {
+                locations.add(sync.location);
+            }
+            Exception exception = null;
+            try {
+                syncer.accept(locations);
+            } catch (Exception e) {
+                logger.debug(() -> new ParameterizedMessage("failed to sync translog on data path [{}]", dataPath), e);
+                exception = e;
+            }
+            notifyListeners(syncs, exception);
+        }
+
+        @Override
+        public void onFailure(Exception e) {
+            assert false : e;
+            logger.warn(() -> new ParameterizedMessage("unexpected failure while syncing translogs on data path [{}]", dataPath), e);
+            finishRound();
+        }
+
+        @Override
+        public void onRejection(Exception e) {
+            // the thread pool only rejects when the node shuts down
+            final List<PendingSync> syncs = new ArrayList<>();
+            PendingSync pendingSync;
+            while ((pendingSync = pendingSyncs.poll()) != null) {
+                syncs.add(pendingSync);
+            }
+            notifyListeners(syncs, e);
+            finishRound();
+        }
+
+        private void finishRound() {
+            scheduled.set(false);
+            // syncs that were added while this round ran did not schedule a new round
+            maybeSchedule();
+        }
+
+        private void notifyListeners(List<PendingSync> syncs, Exception exception) {
+            for (PendingSync sync : syncs) {
+                try {
+                    sync.listener.accept(exception);
+                } catch (Exception e) {
+                    logger.warn("failed to notify translog sync listener", e);
+                }
+            }
+        }
+    }
+}
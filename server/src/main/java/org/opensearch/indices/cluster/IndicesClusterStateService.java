@@ -81,6 +81,8 @@ import org.opensearch.indices.recovery.PeerRecoverySourceService;
 import org.opensearch.indices.recovery.PeerRecoveryTargetService;
 import org.opensearch.indices.recovery.RecoveryFailedException;
 import org.opensearch.indices.recovery.RecoveryState;
+import org.opensearch.indices.replication.SegmentReplicationSourceService;
+import org.opensearch.indices.replication.SegmentReplicationTargetService;
 import org.opensearch.repositories.RepositoriesService;
 import org.opensearch.search.SearchService;
 import org.opensearch.snapshots.SnapshotShardsService;
@@ -147,6 +149,8 @@ public class IndicesClusterStateService extends AbstractLifecycleComponent imple
             final SyncedFlushService syncedFlushService,
             final PeerRecoverySourceService peerRecoverySourceService,
             final SnapshotShardsService snapshotShardsService,
+            final SegmentReplicationSourceService segmentReplicationSourceService,
+            final SegmentReplicationTargetService segmentReplicationTargetService,
             final PrimaryReplicaSyncer primaryReplicaSyncer,
             final GlobalCheckpointSyncAction globalCheckpointSyncAction,
             final RetentionLeaseSyncer retentionLeaseSyncer) {
@@ -163,6 +167,8 @@ public class IndicesClusterStateService extends AbstractLifecycleComponent imple
                 syncedFlushService,
                 peerRecoverySourceService,
                 snapshotShardsService,
+                segmentReplicationSourceService,
+                segmentReplicationTargetService,
                 primaryReplicaSyncer,
                 globalCheckpointSyncAction::updateGlobalCheckpointForShard,
                 retentionLeaseSyncer);
@@ -182,6 +188,8 @@ public class IndicesClusterStateService extends AbstractLifecycleComponent imple
             final SyncedFlushService syncedFlushService,
             final PeerRecoverySourceService peerRecoverySourceService,
             final SnapshotShardsService snapshotShardsService,
+            final SegmentReplicationSourceService segmentReplicationSourceService,
+            final SegmentReplicationTargetService segmentReplicationTargetService,
             final PrimaryReplicaSyncer primaryReplicaSyncer,
             final Consumer<ShardId> globalCheckpointSyncer,
             final RetentionLeaseSyncer retentionLeaseSyncer) {
@@ -192,7 +200,9 @@ public class IndicesClusterStateService extends AbstractLifecycleComponent imple
                         recoveryTargetService,
                         searchService,
                         syncedFlushService,
-                        snapshotShardsService);
+                        snapshotShardsService,
+                        segmentReplicationSourceService,
+                        segmentReplicationTargetService);
         this.indicesService = indicesService;
         this.clusterService = clusterService;
         this.threadPool = threadPool;
@@ -0,0 +1,54 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.recovery;
+
+import org.apache.lucene.store.RateLimiter;
+import org.opensearch.OpenSearchException;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pauses the senders of file chunks according to the rate limit of the {@link RecoverySettings}.
+ */
+public final class FileChunkRateLimiter {
+
+    private final RecoverySettings recoverySettings;
+
+    // How many bytes we've copied since we last called RateLimiter.pause
+    private final AtomicLong bytesSinceLastPause = new AtomicLong();
+
+    public FileChunkRateLimiter(RecoverySettings recoverySettings) {
+        this.recoverySettings = recoverySettings;
+    }
+
+    /**
+     * Accounts for the given number of bytes about to be sent, pausing if they exceed the rate limit.
+     *
+     * @return the time spent paused, in nanoseconds
+     */
+    public long maybePause(long bytes) {
+        // always fetch the ratelimiter - it might be updated in real-time on the recovery settings
+        final RateLimiter rl = recoverySettings.rateLimiter();
+        if (rl == null) {
+            return 0;
+        }
+        final long pendingBytes = bytesSinceLastPause.addAndGet(bytes);
+        if (pendingBytes <= rl.getMinPauseCheckBytes()) {
+            return 0;
+        }
+        // Time to pause
+        bytesSinceLastPause.addAndGet(-pendingBytes);
+        try {
+            return rl.pause(pendingBytes);
+        } catch (IOException e) {
+            throw new OpenSearchException("failed to pause recovery", e);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.recovery;
+
+import org.apache.logging.log4j.Logger;
+import org.apache.lucene.index.CorruptIndexException;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.util.ArrayUtil;
+import org.opensearch.action.ActionListener;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.lucene.store.InputStreamIndexInput;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.internal.io.IOUtils;
+import org.opensearch.index.store.Store;
+import org.opensearch.index.store.StoreFileMetadata;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+/**
+ * Sends the content of store files in chunks of at most {@code chunkSizeInBytes} bytes, smallest file first. This is shared by peer
+ * recoveries and segment replication, which only differ in how a chunk reaches the target.
+ */
+public abstract class MultiFileSender extends MultiChunkTransfer<StoreFileMetadata, MultiFileSender.FileChunk> {
+
+    private final Store store;
+    private final int chunkSizeInBytes;
+    private final Deque<byte[]> buffers = new ConcurrentLinkedDeque<>();
+    private InputStreamIndexInput currentInput = null;
+    private long offset = 0;
+
+    protected MultiFileSender(Logger logger, ThreadContext threadContext, ActionListener<Void> listener, int maxConcurrentFileChunks,
+                              Store store, StoreFileMetadata[] files, int chunkSizeInBytes) {
+        super(logger, threadContext, listener, maxConcurrentFileChunks, Arrays.asList(sortBySize(files)));
+        this.store = store;
+        this.chunkSizeInBytes = chunkSizeInBytes;
+    }
+
+    private static StoreFileMetadata[] sortBySize(StoreFileMetadata[] files) {
+        ArrayUtil.timSort(files, Comparator.comparingLong(StoreFileMetadata::length)); // send smallest first
+        return files;
+    }
+
+    /**
+     * Sends the given chunk of the given file to the target and notifies the listener once the target acknowledged it.
+     */
+    protected abstract void sendFileChunk(StoreFileMetadata md, long position, BytesReference content, boolean lastChunk,
+                                          ActionListener<Void> listener);
+
+    @Override
+    protected void onNewResource(StoreFileMetadata md) throws IOException {
+        offset = 0;
+        IOUtils.close(currentInput, () -> currentInput = null);
+        final IndexInput indexInput = store.directory().openInput(md.name(), IOContext.READONCE);
+        currentInput = new InputStreamIndexInput(indexInput, md.length()) {
+            @Override
+            public void close() throws IOException {
+                IOUtils.close(indexInput, super::close); // InputStreamIndexInput's close is a noop
+            }
+        };
+    }
+
+    private byte[] acquireBuffer() {
+        final byte[] buffer = buffers.pollFirst();
+        if (buffer != null) {
+            return buffer;
+        }
+        return new byte[chunkSizeInBytes];
+    }
+
+    @Override
+    protected FileChunk nextChunkRequest(StoreFileMetadata md) throws IOException {
+        final byte[] buffer = acquireBuffer();
+        final int bytesRead = currentInput.read(buffer);
+        if (bytesRead == -1) {
+            throw new CorruptIndexException("file truncated; length=" + md.length() + " offset=" + offset, md.name());
+        }
+        final boolean lastChunk = offset + bytesRead == md.length();
+        final FileChunk chunk = new FileChunk(md, new BytesArray(buffer, 0, bytesRead), offset, lastChunk,
+            () -> buffers.addFirst(buffer));
+        offset += bytesRead;
+        return chunk;
+    }
+
+    @Override
+    protected void executeChunkRequest(FileChunk request, ActionListener<Void> listener) {
+        sendFileChunk(request.md, request.position, request.content, request.lastChunk,
+            ActionListener.runBefore(listener, request::close));
+    }
+
+    @Override
+    public void close() throws IOException {
+        IOUtils.close(currentInput, () -> currentInput = null);
+    }
+
+    public static final class FileChunk implements MultiChunkTransfer.ChunkRequest, Releasable {
+        final StoreFileMetadata md;
+        final BytesReference content;
+        final long position;
+        final boolean lastChunk;
+        final Releasable onClose;
+
+        FileChunk(StoreFileMetadata md, BytesReference content, long position, boolean lastChunk, Releasable onClose) {
+            this.md = md;
+            this.content = content;
+            this.position = position;
+            this.lastChunk = lastChunk;
+            this.onClose = onClose;
+        }
+
+        @Override
+        public boolean lastChunk() {
+            return lastChunk;
+        }
+
+        @Override
+        public void close() {
+            onClose.close();
+        }
+    }
+}
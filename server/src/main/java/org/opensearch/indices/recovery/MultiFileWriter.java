@@ -35,11 +35,11 @@ import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.message.ParameterizedMessage;
 import org.apache.lucene.store.IOContext;
 import org.apache.lucene.store.IndexOutput;
-import org.apache.lucene.util.BytesRef;
-import org.apache.lucene.util.BytesRefIterator;
 import org.opensearch.common.Strings;
+import org.opensearch.common.bytes.BytesArray;
 import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.lucene.store.IndexOutputOutputStream;
 import org.opensearch.common.util.concurrent.AbstractRefCounted;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.index.store.Store;
@@ -133,11 +133,8 @@ public class MultiFileWriter extends AbstractRefCounted implements Releasable {
             indexOutput = getOpenIndexOutput(name);
         }
         assert indexOutput.getFilePointer() == position : "file-pointer " + indexOutput.getFilePointer() + " != " + position;
-        BytesRefIterator iterator = content.iterator();
-        BytesRef scratch;
-        while((scratch = iterator.next()) != null) { // we iterate over all pages - this is a 0-copy for all core impls
-            indexOutput.writeBytes(scratch.bytes, scratch.offset, scratch.length);
-        }
+        // this is a 0-copy for all core impls, and the content of direct buffers is written through a single scratch page
+        content.writeTo(new IndexOutputOutputStream(indexOutput));
         indexState.addRecoveredBytesToFile(name, content.length());
         if (indexOutput.getFilePointer() >= fileMetadata.length() || lastChunk) {
             try {
@@ -211,18 +208,17 @@ public class MultiFileWriter extends AbstractRefCounted implements Releasable {
         long lastPosition = 0;
 
         void writeChunk(FileChunk newChunk) throws IOException {
+            FileChunk chunk;
             synchronized (this) {
-                pendingChunks.add(newChunk);
-            }
-            while (true) {
-                final FileChunk chunk;
-                synchronized (this) {
-                    chunk = pendingChunks.peek();
-                    if (chunk == null || chunk.position != lastPosition) {
-                        return;
-                    }
-                    pendingChunks.remove();
+                if (newChunk.position != lastPosition) {
+                    // the content may be a slice of a network buffer that is released once this chunk is acknowledged, so a chunk
+                    // that is written later, possibly by another thread, holds on to a copy of it
+                    pendingChunks.add(copyOf(newChunk));
+                    return;
                 }
+                chunk = newChunk;
+            }
+            while (chunk != null) {
                 innerWriteFileChunk(chunk.md, chunk.position, chunk.content, chunk.lastChunk);
                 synchronized (this) {
                     assert lastPosition == chunk.position : "last_position " + lastPosition + " != chunk_position " + chunk.position;
@@ -232,8 +228,18 @@ public class MultiFileWriter extends AbstractRefCounted implements Releasable {
                         fileChunkWriters.remove(chunk.md.name());
                         assert fileChunkWriters.containsValue(this) == false : "chunk writer [" + newChunk.md + "] was not removed";
                     }
+                    chunk = pendingChunks.peek();
+                    if (chunk == null || chunk.position != lastPosition) {
+                        return;
+                    }
+                    pendingChunks.remove();
                 }
             }
         }
+
+        private FileChunk copyOf(FileChunk chunk) {
+            // BytesReference#toBytes returns the backing array itself when the content spans all of it
+            return new FileChunk(chunk.md, new BytesArray(chunk.content.toBytesRef(), true), chunk.position, chunk.lastChunk);
+        }
     }
 }
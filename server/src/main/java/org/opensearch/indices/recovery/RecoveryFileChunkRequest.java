@@ -39,10 +39,18 @@ import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.lucene.Lucene;
 import org.opensearch.index.shard.ShardId;
 import org.opensearch.index.store.StoreFileMetadata;
+import org.opensearch.transport.Compression;
 
 import java.io.IOException;
 
 public final class RecoveryFileChunkRequest extends RecoveryTransportRequest {
+
+    /**
+     * File chunks are mostly made of Lucene files that are compressed already, so they are compressed with the cheap LZ4 rather than
+     * DEFLATE, which would cost a lot of CPU for little gain. They are only compressed if compression is enabled for the connection.
+     */
+    public static final Compression.Scheme COMPRESSION_SCHEME = Compression.Scheme.LZ4;
+
     private final boolean lastChunk;
     private final long recoveryId;
     private final ShardId shardId;
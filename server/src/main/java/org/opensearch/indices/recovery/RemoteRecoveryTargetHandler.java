@@ -34,9 +34,7 @@ package org.opensearch.indices.recovery;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.apache.lucene.store.RateLimiter;
 import org.opensearch.LegacyESVersion;
-import org.opensearch.OpenSearchException;
 import org.opensearch.ExceptionsHelper;
 import org.opensearch.action.ActionListener;
 import org.opensearch.action.ActionListenerResponseHandler;
@@ -64,7 +62,6 @@ import org.opensearch.transport.TransportRequestOptions;
 import org.opensearch.transport.TransportResponse;
 import org.opensearch.transport.TransportService;
 
-import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
@@ -85,7 +82,7 @@ public class RemoteRecoveryTargetHandler implements RecoveryTargetHandler {
     private final TransportRequestOptions translogOpsRequestOptions;
     private final TransportRequestOptions fileChunkRequestOptions;
 
-    private final AtomicLong bytesSinceLastPause = new AtomicLong();
+    private final FileChunkRateLimiter rateLimiter;
     private final AtomicLong requestSeqNoGenerator = new AtomicLong(0);
 
     private final Consumer<Long> onSourceThrottle;
@@ -101,6 +98,7 @@ public class RemoteRecoveryTargetHandler implements RecoveryTargetHandler {
         this.targetNode = targetNode;
         this.recoverySettings = recoverySettings;
         this.onSourceThrottle = onSourceThrottle;
+        this.rateLimiter = new FileChunkRateLimiter(recoverySettings);
         this.translogOpsRequestOptions = TransportRequestOptions.builder()
                 .withType(TransportRequestOptions.Type.RECOVERY)
                 .withTimeout(recoverySettings.internalActionLongTimeout())
@@ -108,6 +106,7 @@ public class RemoteRecoveryTargetHandler implements RecoveryTargetHandler {
         this.fileChunkRequestOptions = TransportRequestOptions.builder()
                 .withType(TransportRequestOptions.Type.RECOVERY)
                 .withTimeout(recoverySettings.internalActionTimeout())
+                .withCompressionScheme(RecoveryFileChunkRequest.COMPRESSION_SCHEME)
                 .build();
         this.retriesSupported = targetNode.getVersion().onOrAfter(LegacyESVersion.V_7_9_0);
     }
@@ -210,25 +209,9 @@ public class RemoteRecoveryTargetHandler implements RecoveryTargetHandler {
     public void writeFileChunk(StoreFileMetadata fileMetadata, long position, BytesReference content,
                                boolean lastChunk, int totalTranslogOps, ActionListener<Void> listener) {
         // Pause using the rate limiter, if desired, to throttle the recovery
-        final long throttleTimeInNanos;
-        // always fetch the ratelimiter - it might be updated in real-time on the recovery settings
-        final RateLimiter rl = recoverySettings.rateLimiter();
-        if (rl != null) {
-            long bytes = bytesSinceLastPause.addAndGet(content.length());
-            if (bytes > rl.getMinPauseCheckBytes()) {
-                // Time to pause
-                bytesSinceLastPause.addAndGet(-bytes);
-                try {
-                    throttleTimeInNanos = rl.pause(bytes);
-                    onSourceThrottle.accept(throttleTimeInNanos);
-                } catch (IOException e) {
-                    throw new OpenSearchException("failed to pause recovery", e);
-                }
-            } else {
-                throttleTimeInNanos = 0;
-            }
-        } else {
-            throttleTimeInNanos = 0;
+        final long throttleTimeInNanos = rateLimiter.maybePause(content.length());
+        if (throttleTimeInNanos > 0) {
+            onSourceThrottle.accept(throttleTimeInNanos);
         }
 
         final String action = PeerRecoveryTargetService.Actions.FILE_CHUNK;
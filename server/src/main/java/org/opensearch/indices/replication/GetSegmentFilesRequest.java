@@ -0,0 +1,86 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.replication;
+
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.index.store.Store;
+import org.opensearch.transport.TransportRequest;
+
+import java.io.IOException;
+
+/**
+ * Sent by a replica to its primary to copy the latest segments of the primary. The primary sends the files the replica misses as file
+ * chunks before responding with the segments themselves.
+ */
+public class GetSegmentFilesRequest extends TransportRequest {
+
+    private final long replicationId;
+    private final ShardId shardId;
+    private final String targetAllocationId;
+    private final DiscoveryNode targetNode;
+    private final Store.MetadataSnapshot metadataSnapshot;
+
+    /**
+     * @param replicationId      the id that the file chunks of this replication are sent with
+     * @param shardId            the shard to copy the segments of
+     * @param targetAllocationId the allocation id of the replica
+     * @param targetNode         the node of the replica, which the file chunks are sent to
+     * @param metadataSnapshot   the files the replica already has
+     */
+    public GetSegmentFilesRequest(long replicationId, ShardId shardId, String targetAllocationId, DiscoveryNode targetNode,
+                                  Store.MetadataSnapshot metadataSnapshot) {
+        this.replicationId = replicationId;
+        this.shardId = shardId;
+        this.targetAllocationId = targetAllocationId;
+        this.targetNode = targetNode;
+        this.metadataSnapshot = metadataSnapshot;
+    }
+
+    public GetSegmentFilesRequest(StreamInput in) throws IOException {
+        super(in);
+        replicationId = in.readLong();
+        shardId = new ShardId(in);
+        targetAllocationId = in.readString();
+        targetNode = new DiscoveryNode(in);
+        metadataSnapshot = new Store.MetadataSnapshot(in);
+    }
+
+    public long replicationId() {
+        return replicationId;
+    }
+
+    public ShardId shardId() {
+        return shardId;
+    }
+
+    public String targetAllocationId() {
+        return targetAllocationId;
+    }
+
+    public DiscoveryNode targetNode() {
+        return targetNode;
+    }
+
+    public Store.MetadataSnapshot metadataSnapshot() {
+        return metadataSnapshot;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeLong(replicationId);
+        shardId.writeTo(out);
+        out.writeString(targetAllocationId);
+        targetNode.writeTo(out);
+        metadataSnapshot.writeTo(out);
+    }
+}
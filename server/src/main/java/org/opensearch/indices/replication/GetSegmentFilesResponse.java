@@ -0,0 +1,71 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.replication;
+
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.store.BufferedChecksumIndexInput;
+import org.apache.lucene.store.ByteBuffersDataOutput;
+import org.apache.lucene.store.ByteBuffersIndexOutput;
+import org.apache.lucene.store.Directory;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.lucene.store.ByteArrayIndexInput;
+import org.opensearch.transport.TransportResponse;
+
+import java.io.IOException;
+
+/**
+ * The response to a {@link GetSegmentFilesRequest}, sent once the replica has all the files of the segments.
+ */
+public class GetSegmentFilesResponse extends TransportResponse {
+
+    private final ReplicationCheckpoint checkpoint;
+    private final long segmentsGen;
+    private final BytesReference segmentInfosBytes;
+
+    public GetSegmentFilesResponse(ReplicationCheckpoint checkpoint, SegmentInfos segmentInfos) throws IOException {
+        this.checkpoint = checkpoint;
+        this.segmentsGen = segmentInfos.getGeneration();
+        final ByteBuffersDataOutput buffer = new ByteBuffersDataOutput();
+        try (ByteBuffersIndexOutput output = new ByteBuffersIndexOutput(buffer, "segment infos", "segment infos")) {
+            segmentInfos.write(output);
+        }
+        this.segmentInfosBytes = new BytesArray(buffer.toArrayCopy());
+    }
+
+    public GetSegmentFilesResponse(StreamInput in) throws IOException {
+        super(in);
+        checkpoint = new ReplicationCheckpoint(in);
+        segmentsGen = in.readLong();
+        segmentInfosBytes = in.readBytesReference();
+    }
+
+    public ReplicationCheckpoint getCheckpoint() {
+        return checkpoint;
+    }
+
+    /**
+     * Reads the segments of the primary, whose files must all be in the given directory.
+     */
+    public SegmentInfos readSegmentInfos(Directory directory) throws IOException {
+        final byte[] bytes = BytesReference.toBytes(segmentInfosBytes);
+        try (BufferedChecksumIndexInput input = new BufferedChecksumIndexInput(new ByteArrayIndexInput("segment infos", bytes))) {
+            return SegmentInfos.readCommit(directory, input, segmentsGen);
+        }
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        checkpoint.writeTo(out);
+        out.writeLong(segmentsGen);
+        out.writeBytesReference(segmentInfosBytes);
+    }
+}
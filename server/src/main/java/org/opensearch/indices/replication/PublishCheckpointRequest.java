@@ -0,0 +1,47 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.replication;
+
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.transport.TransportRequest;
+
+import java.io.IOException;
+
+/**
+ * Sent by a primary to its replicas after a refresh that changed its segments.
+ */
+public class PublishCheckpointRequest extends TransportRequest {
+
+    private final ReplicationCheckpoint checkpoint;
+
+    public PublishCheckpointRequest(ReplicationCheckpoint checkpoint) {
+        this.checkpoint = checkpoint;
+    }
+
+    public PublishCheckpointRequest(StreamInput in) throws IOException {
+        super(in);
+        checkpoint = new ReplicationCheckpoint(in);
+    }
+
+    public ReplicationCheckpoint getCheckpoint() {
+        return checkpoint;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        checkpoint.writeTo(out);
+    }
+
+    @Override
+    public String toString() {
+        return "PublishCheckpointRequest{checkpoint=" + checkpoint + '}';
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.replication;
+
+import org.opensearch.common.Nullable;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.index.shard.ShardId;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Identifies the segments of a primary shard after one of its refreshes, so that its replicas can tell whether they need to copy them.
+ */
+public class ReplicationCheckpoint implements Writeable {
+
+    private final ShardId shardId;
+    private final long primaryTerm;
+    private final long segmentsGen;
+    private final long seqNo;
+    private final long segmentInfosVersion;
+
+    public ReplicationCheckpoint(ShardId shardId, long primaryTerm, long segmentsGen, long seqNo, long segmentInfosVersion) {
+        this.shardId = shardId;
+        this.primaryTerm = primaryTerm;
+        this.segmentsGen = segmentsGen;
+        this.seqNo = seqNo;
+        this.segmentInfosVersion = segmentInfosVersion;
+    }
+
+    public ReplicationCheckpoint(StreamInput in) throws IOException {
+        shardId = new ShardId(in);
+        primaryTerm = in.readLong();
+        segmentsGen = in.readLong();
+        seqNo = in.readLong();
+        segmentInfosVersion = in.readLong();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        shardId.writeTo(out);
+        out.writeLong(primaryTerm);
+        out.writeLong(segmentsGen);
+        out.writeLong(seqNo);
+        out.writeLong(segmentInfosVersion);
+    }
+
+    public ShardId getShardId() {
+        return shardId;
+    }
+
+    public long getPrimaryTerm() {
+        return primaryTerm;
+    }
+
+    /**
+     * The generation of the last commit the segments are based on.
+     */
+    public long getSegmentsGen() {
+        return segmentsGen;
+    }
+
+    /**
+     * The sequence number up to which all operations are visible in the segments.
+     */
+    public long getSeqNo() {
+        return seqNo;
+    }
+
+    /**
+     * The version of the segments, which the primary increments on every change.
+     */
+    public long getSegmentInfosVersion() {
+        return segmentInfosVersion;
+    }
+
+    /**
+     * Returns true if the segments of this checkpoint are newer than those of the given checkpoint. Segments of a newer primary term
+     * always win since a new primary may have rewritten segments of the same version.
+     */
+    public boolean isAheadOf(@Nullable ReplicationCheckpoint other) {
+        return other == null || primaryTerm > other.primaryTerm
+            || (primaryTerm == other.primaryTerm && segmentInfosVersion > other.segmentInfosVersion);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ReplicationCheckpoint that = (ReplicationCheckpoint) o;
+        return primaryTerm == that.primaryTerm && segmentsGen == that.segmentsGen && seqNo == that.seqNo
+            && segmentInfosVersion == that.segmentInfosVersion && Objects.equals(shardId, that.shardId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(shardId, primaryTerm, segmentsGen, seqNo, segmentInfosVersion);
+    }
+
+    @Override
+    public String toString() {
+        return "ReplicationCheckpoint{shardId=" + shardId + ", primaryTerm=" + primaryTerm + ", segmentsGen=" + segmentsGen
+            + ", seqNo=" + seqNo + ", version=" + segmentInfosVersion + '}';
+    }
+}
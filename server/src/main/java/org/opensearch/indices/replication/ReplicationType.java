@@ -0,0 +1,42 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.replication;
+
+import java.util.Locale;
+
+/**
+ * How the replicas of an index are kept up to date with their primary.
+ */
+public enum ReplicationType {
+
+    /**
+     * The replicas index the same operations as the primary.
+     */
+    DOCUMENT,
+
+    /**
+     * Only the primary indexes the operations, which the replicas only write to their translog. The replicas copy the segments of the
+     * primary after each of its refreshes instead.
+     */
+    SEGMENT;
+
+    public static ReplicationType parseString(String replicationType) {
+        try {
+            return ReplicationType.valueOf(replicationType.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("unknown replication type [" + replicationType + "], must be one of "
+                + "[document, segment]", e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
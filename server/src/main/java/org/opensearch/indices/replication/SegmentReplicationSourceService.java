@@ -0,0 +1,185 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.replication;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.apache.lucene.index.SegmentInfos;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.ActionListenerResponseHandler;
+import org.opensearch.action.support.ChannelActionListener;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.node.DiscoveryNodes;
+import org.opensearch.cluster.routing.ShardRouting;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.core.internal.io.IOUtils;
+import org.opensearch.index.IndexService;
+import org.opensearch.index.engine.Engine;
+import org.opensearch.index.seqno.SequenceNumbers;
+import org.opensearch.index.shard.IndexEventListener;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.index.store.Store;
+import org.opensearch.index.store.StoreFileMetadata;
+import org.opensearch.indices.IndicesService;
+import org.opensearch.indices.recovery.FileChunkRateLimiter;
+import org.opensearch.indices.recovery.MultiFileSender;
+import org.opensearch.indices.recovery.RecoveryFileChunkRequest;
+import org.opensearch.indices.recovery.RecoverySettings;
+import org.opensearch.tasks.Task;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.EmptyTransportResponseHandler;
+import org.opensearch.transport.TransportChannel;
+import org.opensearch.transport.TransportException;
+import org.opensearch.transport.TransportRequestHandler;
+import org.opensearch.transport.TransportRequestOptions;
+import org.opensearch.transport.TransportResponse;
+import org.opensearch.transport.TransportService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The source of segment replication. A primary shard of an index using segment replication publishes a {@link ReplicationCheckpoint}
+ * to its replicas after each refresh that opened new segments, and sends the files of its latest segments to the replicas that request
+ * them, reusing the file chunks of peer recoveries.
+ */
+public class SegmentReplicationSourceService implements IndexEventListener {
+
+    private static final Logger logger = LogManager.getLogger(SegmentReplicationSourceService.class);
+
+    public static class Actions {
+        public static final String GET_SEGMENT_FILES = "internal:index/shard/replication/get_segment_files";
+    }
+
+    private final TransportService transportService;
+    private final IndicesService indicesService;
+    private final RecoverySettings recoverySettings;
+    private final TransportRequestOptions fileChunkRequestOptions;
+
+    private final FileChunkRateLimiter rateLimiter;
+
+    @Inject
+    public SegmentReplicationSourceService(TransportService transportService, IndicesService indicesService,
+                                           RecoverySettings recoverySettings) {
+        this.transportService = transportService;
+        this.indicesService = indicesService;
+        this.recoverySettings = recoverySettings;
+        this.rateLimiter = new FileChunkRateLimiter(recoverySettings);
+        this.fileChunkRequestOptions = TransportRequestOptions.builder()
+            .withType(TransportRequestOptions.Type.RECOVERY)
+            .withTimeout(recoverySettings.internalActionTimeout())
+            .withCompressionScheme(RecoveryFileChunkRequest.COMPRESSION_SCHEME)
+            .build();
+        transportService.registerRequestHandler(Actions.GET_SEGMENT_FILES, ThreadPool.Names.GENERIC, GetSegmentFilesRequest::new,
+            new GetSegmentFilesRequestHandler());
+    }
+
+    /**
+     * Returns the checkpoint of the given segments of the given primary shard.
+     */
+    static ReplicationCheckpoint checkpoint(IndexShard indexShard, SegmentInfos segmentInfos) {
+        final String localCheckpoint = segmentInfos.getUserData().get(SequenceNumbers.LOCAL_CHECKPOINT_KEY);
+        return new ReplicationCheckpoint(indexShard.shardId(), indexShard.getOperationPrimaryTerm(), segmentInfos.getGeneration(),
+            localCheckpoint == null ? SequenceNumbers.NO_OPS_PERFORMED : Long.parseLong(localCheckpoint), segmentInfos.getVersion());
+    }
+
+    @Override
+    public void afterSegmentsRefreshed(IndexShard indexShard) {
+        final ReplicationCheckpoint checkpoint;
+        try (Engine.SegmentInfosRef segmentInfosRef = indexShard.acquireLatestSegmentInfos()) {
+            checkpoint = checkpoint(indexShard, segmentInfosRef.getSegmentInfos());
+        } catch (Exception e) {
+            logger.debug(() -> new ParameterizedMessage("{} failed to acquire the segments to publish", indexShard.shardId()), e);
+            return;
+        }
+        final DiscoveryNodes nodes = indicesService.clusterService().state().nodes();
+        for (ShardRouting replica : indexShard.getReplicationGroup().getReplicationTargets()) {
+            if (replica.primary() || replica.assignedToNode() == false) {
+                continue;
+            }
+            final DiscoveryNode node = nodes.get(replica.currentNodeId());
+            if (node == null) {
+                continue;
+            }
+            logger.trace("{} publishing {} to {}", indexShard.shardId(), checkpoint, node);
+            transportService.sendRequest(node, SegmentReplicationTargetService.Actions.PUBLISH_CHECKPOINT,
+                new PublishCheckpointRequest(checkpoint), new EmptyTransportResponseHandler(ThreadPool.Names.SAME) {
+                    @Override
+                    public void handleException(TransportException exp) {
+                        logger.debug(() -> new ParameterizedMessage("{} failed to publish {} to {}",
+                            indexShard.shardId(), checkpoint, node), exp);
+                    }
+                });
+        }
+    }
+
+    class GetSegmentFilesRequestHandler implements TransportRequestHandler<GetSegmentFilesRequest> {
+        @Override
+        public void messageReceived(GetSegmentFilesRequest request, TransportChannel channel, Task task) throws Exception {
+            final IndexService indexService = indicesService.indexServiceSafe(request.shardId().getIndex());
+            final IndexShard shard = indexService.getShard(request.shardId().id());
+            if (shard.routingEntry().primary() == false || shard.indexSettings().isSegRepEnabled() == false) {
+                throw new IllegalStateException("shard " + request.shardId() + " is not a primary using segment replication");
+            }
+            final ActionListener<GetSegmentFilesResponse> listener = new ChannelActionListener<>(channel,
+                Actions.GET_SEGMENT_FILES, request);
+            final Engine.SegmentInfosRef segmentInfosRef = shard.acquireLatestSegmentInfos();
+            try {
+                final SegmentInfos segmentInfos = segmentInfosRef.getSegmentInfos();
+                final ReplicationCheckpoint checkpoint = checkpoint(shard, segmentInfos);
+                final Store store = shard.store();
+                final Store.RecoveryDiff diff = store.getSegmentMetadata(segmentInfos).recoveryDiff(request.metadataSnapshot());
+                final List<StoreFileMetadata> files = new ArrayList<>(diff.missing);
+                files.addAll(diff.different);
+                logger.trace("{} sending {} files of {} to {}", request.shardId(), files.size(), checkpoint, request.targetNode());
+                sendFiles(request, store, files, ActionListener.runAfter(ActionListener.wrap(
+                    r -> listener.onResponse(new GetSegmentFilesResponse(checkpoint, segmentInfos)),
+                    listener::onFailure), () -> IOUtils.closeWhileHandlingException(segmentInfosRef)));
+            } catch (Exception e) {
+                IOUtils.closeWhileHandlingException(segmentInfosRef);
+                throw e;
+            }
+        }
+    }
+
+    private void sendFiles(GetSegmentFilesRequest request, Store store, List<StoreFileMetadata> files, ActionListener<Void> listener) {
+        if (files.isEmpty()) {
+            listener.onResponse(null);
+            return;
+        }
+        final AtomicLong requestSeqNoGenerator = new AtomicLong();
+        store.incRef();
+        final MultiFileSender multiFileSender = new MultiFileSender(logger, transportService.getThreadPool().getThreadContext(),
+            ActionListener.runAfter(listener, store::decRef), recoverySettings.getMaxConcurrentFileChunks(), store,
+            files.toArray(new StoreFileMetadata[0]), Math.toIntExact(recoverySettings.getChunkSize().getBytes())) {
+
+            @Override
+            protected void sendFileChunk(StoreFileMetadata md, long position, BytesReference content, boolean lastChunk,
+                                         ActionListener<Void> listener) {
+                final long throttleTimeInNanos = rateLimiter.maybePause(content.length());
+                final RecoveryFileChunkRequest chunkRequest = new RecoveryFileChunkRequest(request.replicationId(),
+                    requestSeqNoGenerator.getAndIncrement(), request.shardId(), md, position, content, lastChunk, 0,
+                    throttleTimeInNanos);
+                transportService.sendRequest(request.targetNode(), SegmentReplicationTargetService.Actions.FILE_CHUNK, chunkRequest,
+                    fileChunkRequestOptions, new ActionListenerResponseHandler<>(ActionListener.map(listener, r -> null),
+                        in -> TransportResponse.Empty.INSTANCE, ThreadPool.Names.GENERIC));
+            }
+
+            @Override
+            protected void handleError(StoreFileMetadata md, Exception e) throws Exception {
+                logger.debug(() -> new ParameterizedMessage("{} failed to send file [{}] to {}",
+                    request.shardId(), md.name(), request.targetNode()), e);
+            }
+        };
+        multiFileSender.start();
+    }
+}
@@ -0,0 +1,298 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.replication;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.apache.lucene.store.AlreadyClosedException;
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.ActionListenerResponseHandler;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.routing.ShardRouting;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.UUIDs;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.index.IndexService;
+import org.opensearch.index.shard.IndexEventListener;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.index.shard.IndexShardState;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.index.store.Store;
+import org.opensearch.indices.IndicesService;
+import org.opensearch.indices.recovery.MultiFileWriter;
+import org.opensearch.indices.recovery.RecoveryFileChunkRequest;
+import org.opensearch.indices.recovery.RecoverySettings;
+import org.opensearch.indices.recovery.RecoveryState;
+import org.opensearch.tasks.Task;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportChannel;
+import org.opensearch.transport.TransportRequestHandler;
+import org.opensearch.transport.TransportRequestOptions;
+import org.opensearch.transport.TransportResponse;
+import org.opensearch.transport.TransportService;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The target of segment replication. A replica shard of an index using segment replication copies the latest segments of its primary
+ * once it is started and whenever its primary publishes a {@link ReplicationCheckpoint} that is ahead of the segments it copied last.
+ * At most one copy runs per shard at a time; checkpoints published during a copy are coalesced into a single follow-up copy.
+ */
+public class SegmentReplicationTargetService implements IndexEventListener {
+
+    private static final Logger logger = LogManager.getLogger(SegmentReplicationTargetService.class);
+
+    public static class Actions {
+        public static final String PUBLISH_CHECKPOINT = "internal:index/shard/replication/publish_checkpoint";
+        public static final String FILE_CHUNK = "internal:index/shard/replication/file_chunk";
+    }
+
+    private final ThreadPool threadPool;
+    private final TransportService transportService;
+    private final IndicesService indicesService;
+    private final RecoverySettings recoverySettings;
+
+    private final AtomicLong idGenerator = new AtomicLong();
+    private final ConcurrentMap<ShardId, ShardReplicationState> shardStates = ConcurrentCollections.newConcurrentMap();
+    private final ConcurrentMap<Long, ReplicationTarget> onGoingReplications = ConcurrentCollections.newConcurrentMap();
+
+    @Inject
+    public SegmentReplicationTargetService(ThreadPool threadPool, TransportService transportService, IndicesService indicesService,
+                                           RecoverySettings recoverySettings) {
+        this.threadPool = threadPool;
+        this.transportService = transportService;
+        this.indicesService = indicesService;
+        this.recoverySettings = recoverySettings;
+        transportService.registerRequestHandler(Actions.PUBLISH_CHECKPOINT, ThreadPool.Names.GENERIC, PublishCheckpointRequest::new,
+            new PublishCheckpointRequestHandler());
+        transportService.registerRequestHandler(Actions.FILE_CHUNK, ThreadPool.Names.GENERIC, RecoveryFileChunkRequest::new,
+            new FileChunkTransportRequestHandler());
+    }
+
+    @Override
+    public void afterIndexShardStarted(IndexShard indexShard) {
+        if (shouldReplicate(indexShard)) {
+            // the shard may still hold its mutex, so the copy must not start on this thread
+            threadPool.generic().execute(() -> replicate(indexShard));
+        }
+    }
+
+    @Override
+    public void beforeIndexShardClosed(ShardId shardId, @Nullable IndexShard indexShard, Settings indexSettings) {
+        shardStates.remove(shardId);
+        onGoingReplications.values().removeIf(target -> {
+            if (target.shardId().equals(shardId)) {
+                target.close();
+                return true;
+            }
+            return false;
+        });
+    }
+
+    private static boolean shouldReplicate(IndexShard indexShard) {
+        return indexShard.indexSettings().isSegRepEnabled() && indexShard.routingEntry().primary() == false
+            && indexShard.state() == IndexShardState.STARTED;
+    }
+
+    /**
+     * Copies the latest segments of the primary of the given shard, unless a copy is already running, in which case another copy is
+     * started once the running one completes.
+     */
+    void replicate(IndexShard indexShard) {
+        final ShardReplicationState state = shardStates.computeIfAbsent(indexShard.shardId(), shardId -> new ShardReplicationState());
+        synchronized (state) {
+            if (state.ongoing) {
+                state.pending = true;
+                return;
+            }
+            state.ongoing = true;
+        }
+        startReplication(indexShard, state, ActionListener.wrap(
+            checkpoint -> {
+                logger.trace("{} copied the segments of {}", indexShard.shardId(), checkpoint);
+                finishReplication(indexShard, state, checkpoint);
+            },
+            e -> {
+                if (ExceptionsHelper.unwrapCorruption(e) != null) {
+                    indexShard.failShard("segment replication failed", e);
+                } else if (e instanceof AlreadyClosedException == false) {
+                    logger.warn(() -> new ParameterizedMessage("{} failed to copy the segments of the primary", indexShard.shardId()), e);
+                }
+                finishReplication(indexShard, state, null);
+            }));
+    }
+
+    private void finishReplication(IndexShard indexShard, ShardReplicationState state, @Nullable ReplicationCheckpoint checkpoint) {
+        final boolean pending;
+        synchronized (state) {
+            if (checkpoint != null) {
+                state.appliedCheckpoint = checkpoint;
+            }
+            state.ongoing = false;
+            pending = state.pending;
+            state.pending = false;
+        }
+        if (pending && shouldReplicate(indexShard)) {
+            replicate(indexShard);
+        }
+    }
+
+    private void startReplication(IndexShard indexShard, ShardReplicationState state, ActionListener<ReplicationCheckpoint> listener) {
+        final ShardId shardId = indexShard.shardId();
+        final DiscoveryNode primaryNode;
+        final Store.MetadataSnapshot metadataSnapshot;
+        try {
+            final ClusterState clusterState = indicesService.clusterService().state();
+            final ShardRouting primary = clusterState.routingTable().shardRoutingTable(shardId).primaryShard();
+            if (primary == null || primary.active() == false) {
+                throw new IllegalStateException("no active primary for shard " + shardId);
+            }
+            primaryNode = clusterState.nodes().get(primary.currentNodeId());
+            if (primaryNode == null) {
+                throw new IllegalStateException("the node of the primary " + primary + " is not in the cluster");
+            }
+            metadataSnapshot = indexShard.snapshotStoreMetadata();
+        } catch (Exception e) {
+            listener.onFailure(e);
+            return;
+        }
+        final ReplicationTarget target = new ReplicationTarget(idGenerator.incrementAndGet(), indexShard);
+        onGoingReplications.put(target.replicationId, target);
+        final ActionListener<GetSegmentFilesResponse> responseListener = ActionListener.runAfter(ActionListener.wrap(
+            response -> {
+                final ReplicationCheckpoint checkpoint = response.getCheckpoint();
+                final ReplicationCheckpoint appliedCheckpoint;
+                synchronized (state) {
+                    appliedCheckpoint = state.appliedCheckpoint;
+                }
+                if (checkpoint.isAheadOf(appliedCheckpoint)) {
+                    target.multiFileWriter.renameAllTempFiles();
+                    indexShard.updateSegments(response.readSegmentInfos(indexShard.store().directory()));
+                }
+                listener.onResponse(checkpoint);
+            }, listener::onFailure), () -> {
+                onGoingReplications.remove(target.replicationId);
+                target.close();
+            });
+        final GetSegmentFilesRequest request = new GetSegmentFilesRequest(target.replicationId, shardId,
+            indexShard.routingEntry().allocationId().getId(), indicesService.clusterService().localNode(), metadataSnapshot);
+        final TransportRequestOptions options = TransportRequestOptions.builder()
+            .withTimeout(recoverySettings.internalActionLongTimeout())
+            .build();
+        transportService.sendRequest(primaryNode, SegmentReplicationSourceService.Actions.GET_SEGMENT_FILES, request, options,
+            new ActionListenerResponseHandler<>(responseListener, GetSegmentFilesResponse::new, ThreadPool.Names.GENERIC));
+    }
+
+    class PublishCheckpointRequestHandler implements TransportRequestHandler<PublishCheckpointRequest> {
+        @Override
+        public void messageReceived(PublishCheckpointRequest request, TransportChannel channel, Task task) throws Exception {
+            final ReplicationCheckpoint checkpoint = request.getCheckpoint();
+            final IndexService indexService = indicesService.indexService(checkpoint.getShardId().getIndex());
+            final IndexShard indexShard = indexService == null ? null : indexService.getShardOrNull(checkpoint.getShardId().id());
+            if (indexShard != null && shouldReplicate(indexShard)) {
+                final ShardReplicationState state = shardStates.get(indexShard.shardId());
+                final ReplicationCheckpoint appliedCheckpoint;
+                if (state == null) {
+                    appliedCheckpoint = null;
+                } else {
+                    synchronized (state) {
+                        appliedCheckpoint = state.appliedCheckpoint;
+                    }
+                }
+                if (checkpoint.isAheadOf(appliedCheckpoint)) {
+                    replicate(indexShard);
+                }
+            }
+            channel.sendResponse(TransportResponse.Empty.INSTANCE);
+        }
+    }
+
+    class FileChunkTransportRequestHandler implements TransportRequestHandler<RecoveryFileChunkRequest> {
+        @Override
+        public void messageReceived(RecoveryFileChunkRequest request, TransportChannel channel, Task task) throws Exception {
+            final ReplicationTarget target = onGoingReplications.get(request.recoveryId());
+            if (target == null || target.multiFileWriter.tryIncRef() == false) {
+                throw new IllegalStateException("segment replication [" + request.recoveryId() + "] of shard " + request.shardId()
+                    + " is not running");
+            }
+            try {
+                target.writeFileChunk(request);
+            } finally {
+                target.multiFileWriter.decRef();
+            }
+            channel.sendResponse(TransportResponse.Empty.INSTANCE);
+        }
+    }
+
+    private static class ShardReplicationState {
+        ReplicationCheckpoint appliedCheckpoint;
+        boolean ongoing;
+        boolean pending;
+    }
+
+    /**
+     * Writes the file chunks of a single copy to temporary files, which are renamed once all of them have been received.
+     */
+    private static class ReplicationTarget {
+        final long replicationId;
+        final IndexShard indexShard;
+        final Store store;
+        final RecoveryState.Index indexState = new RecoveryState.Index();
+        final MultiFileWriter multiFileWriter;
+        final AtomicBoolean closed = new AtomicBoolean();
+
+        ReplicationTarget(long replicationId, IndexShard indexShard) {
+            this.replicationId = replicationId;
+            this.indexShard = indexShard;
+            this.store = indexShard.store();
+            store.incRef();
+            this.multiFileWriter = new MultiFileWriter(store, indexState, "replication." + UUIDs.randomBase64UUID() + ".", logger,
+                this::ensureOpen);
+        }
+
+        ShardId shardId() {
+            return indexShard.shardId();
+        }
+
+        private void ensureOpen() {
+            if (closed.get()) {
+                throw new AlreadyClosedException("segment replication [" + replicationId + "] of shard " + shardId() + " is closed");
+            }
+        }
+
+        void writeFileChunk(RecoveryFileChunkRequest request) throws IOException {
+            ensureOpen();
+            synchronized (indexState) {
+                // chunks may be handled out of order, so the details of a file are added on whichever of its chunks comes first
+                if (indexState.getFileDetails(request.name()) == null) {
+                    indexState.addFileDetail(request.name(), request.length(), false);
+                }
+            }
+            multiFileWriter.writeFileChunk(request.metadata(), request.position(), request.content(), request.lastChunk());
+        }
+
+        void close() {
+            if (closed.compareAndSet(false, true)) {
+                try {
+                    multiFileWriter.close();
+                } finally {
+                    store.decRef();
+                }
+            }
+        }
+    }
+}
@@ -94,6 +94,14 @@ public class AdaptiveSelectionStats implements Writeable, ToXContentFragment {
                     builder.field("avg_response_time", new TimeValue((long) stats.responseTime, TimeUnit.NANOSECONDS).toString());
                 }
                 builder.field("avg_response_time_ns", (long) stats.responseTime);
+                builder.startObject("response_time_histogram");
+                builder.field("recent_responses", stats.recentResponses);
+                percentileField(builder, "p50", stats.responseTimeP50);
+                percentileField(builder, "p90", stats.responseTimeP90);
+                percentileField(builder, "p99", stats.responseTimeP99);
+                builder.field("in_flight_requests", stats.inFlightRequests);
+                builder.humanReadableField("in_flight_age_ns", "in_flight_age", new TimeValue(stats.inFlightAge, TimeUnit.NANOSECONDS));
+                builder.endObject();
                 builder.field("rank", String.format(Locale.ROOT, "%.1f", stats.rank(outgoingSearches)));
             }
             builder.endObject();
@@ -102,6 +110,12 @@ public class AdaptiveSelectionStats implements Writeable, ToXContentFragment {
         return builder;
     }
 
+    private static void percentileField(XContentBuilder builder, String name, long nanos) throws IOException {
+        if (nanos >= 0) {
+            builder.humanReadableField(name + "_ns", name, new TimeValue(nanos, TimeUnit.NANOSECONDS));
+        }
+    }
+
     /**
      * Returns a map of node id to the outgoing search requests to that node
      */
@@ -0,0 +1,172 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.node;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * A rolling histogram of the response times of a node, used by the {@link ResponseCollectorService.RankingMode#LATENCY_HISTOGRAM}
+ * ranking of adaptive replica selection. Samples are recorded in log-linear buckets of microseconds (four buckets per power of two,
+ * so the reported percentiles are at most 25% above the actual values) into a ring of time slots. When computing percentiles, the
+ * samples of each slot weigh half as much as those of the next slot, so a burst of slow responses is visible as soon as it is recorded
+ * but fades away quickly once the node recovers, unlike an EWMA that both reacts and recovers slowly.
+ * <p>
+ * Percentiles are only recomputed when new samples were recorded, and at most every {@link #REFRESH_INTERVAL_NANOS} once the
+ * histogram has samples, since ranking reads them for every shard of every search request.
+ */
+final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 2;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    // response times are capped at 2^40 microseconds, which is about 12 days
+    private static final int MAX_EXPONENT = 40;
+    static final int NUM_BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    static final int NUM_SLOTS = 6;
+    static final long SLOT_NANOS = TimeUnit.SECONDS.toNanos(5);
+    static final long REFRESH_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final LongSupplier nanoTime;
+    private final long[][] counts = new long[NUM_SLOTS][NUM_BUCKETS];
+    // the epoch, in number of slots since the creation of the histogram, of the samples held by each slot
+    private final long[] slotEpochs = new long[NUM_SLOTS];
+    private final long startNanos;
+
+    private boolean dirty = false;
+    private long snapshotEpoch = -1;
+    private long snapshotNanos;
+    private Snapshot snapshot = Snapshot.EMPTY;
+
+    LatencyHistogram(LongSupplier nanoTime) {
+        this.nanoTime = nanoTime;
+        this.startNanos = nanoTime.getAsLong();
+        for (int i = 0; i < NUM_SLOTS; i++) {
+            slotEpochs[i] = -NUM_SLOTS;
+        }
+    }
+
+    synchronized void record(long responseTimeNanos) {
+        final long epoch = currentEpoch(nanoTime.getAsLong());
+        final int slot = (int) Math.floorMod(epoch, (long) NUM_SLOTS);
+        if (slotEpochs[slot] != epoch) {
+            slotEpochs[slot] = epoch;
+            Arrays.fill(counts[slot], 0L);
+        }
+        counts[slot][bucket(TimeUnit.NANOSECONDS.toMicros(Math.max(0L, responseTimeNanos)))]++;
+        dirty = true;
+    }
+
+    synchronized Snapshot snapshot() {
+        final long now = nanoTime.getAsLong();
+        final long epoch = currentEpoch(now);
+        if (epoch != snapshotEpoch || (dirty && (snapshot == Snapshot.EMPTY || now - snapshotNanos >= REFRESH_INTERVAL_NANOS))) {
+            snapshot = computeSnapshot(epoch);
+            snapshotEpoch = epoch;
+            snapshotNanos = now;
+            dirty = false;
+        }
+        return snapshot;
+    }
+
+    private Snapshot computeSnapshot(long epoch) {
+        final double[] weights = new double[NUM_SLOTS];
+        double totalWeight = 0;
+        for (int slot = 0; slot < NUM_SLOTS; slot++) {
+            final long age = epoch - slotEpochs[slot];
+            if (age >= 0 && age < NUM_SLOTS) {
+                weights[slot] = 1.0d / (1L << age);
+                for (long count : counts[slot]) {
+                    totalWeight += count * weights[slot];
+                }
+            }
+        }
+        if (totalWeight == 0) {
+            return Snapshot.EMPTY;
+        }
+        final double p50Weight = totalWeight * 0.5;
+        final double p90Weight = totalWeight * 0.9;
+        final double p99Weight = totalWeight * 0.99;
+        long p50 = -1;
+        long p90 = -1;
+        long p99 = -1;
+        long max = -1;
+        double cumulativeWeight = 0;
+        for (int bucket = 0; bucket < NUM_BUCKETS && p99 == -1; bucket++) {
+            for (int slot = 0; slot < NUM_SLOTS; slot++) {
+                if (counts[slot][bucket] > 0 && weights[slot] > 0) {
+                    cumulativeWeight += counts[slot][bucket] * weights[slot];
+                    max = bucketUpperBoundNanos(bucket);
+                }
+            }
+            if (p50 == -1 && cumulativeWeight >= p50Weight) {
+                p50 = bucketUpperBoundNanos(bucket);
+            }
+            if (p90 == -1 && cumulativeWeight >= p90Weight) {
+                p90 = bucketUpperBoundNanos(bucket);
+            }
+            if (cumulativeWeight >= p99Weight) {
+                p99 = bucketUpperBoundNanos(bucket);
+            }
+        }
+        // rounding errors may leave the cumulative weight slightly below the highest targets
+        return new Snapshot(totalWeight, p50 == -1 ? max : p50, p90 == -1 ? max : p90, p99 == -1 ? max : p99);
+    }
+
+    private long currentEpoch(long now) {
+        return Math.floorDiv(now - startNanos, SLOT_NANOS);
+    }
+
+    /**
+     * Returns the bucket of the given response time in microseconds: values below 4 have their own bucket, and every following
+     * power of two is split into four buckets of equal width.
+     */
+    static int bucket(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) micros;
+        }
+        final long capped = Math.min(micros, (1L << MAX_EXPONENT) - 1);
+        final int exponent = 63 - Long.numberOfLeadingZeros(capped);
+        final int subBucket = (int) ((capped >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1));
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Returns the largest response time, in nanoseconds, that falls into the given bucket.
+     */
+    static long bucketUpperBoundNanos(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return TimeUnit.MICROSECONDS.toNanos(bucket);
+        }
+        final int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        final long subBucket = bucket % SUB_BUCKETS;
+        final long upperBoundMicros = ((SUB_BUCKETS + subBucket + 1) << (exponent - SUB_BUCKET_BITS)) - 1;
+        return TimeUnit.MICROSECONDS.toNanos(upperBoundMicros);
+    }
+
+    /**
+     * The decayed percentiles of the histogram, in nanoseconds, or -1 if the histogram has no recent sample.
+     */
+    static final class Snapshot {
+        static final Snapshot EMPTY = new Snapshot(0, -1, -1, -1);
+
+        final double weightedCount;
+        final long p50;
+        final long p90;
+        final long p99;
+
+        Snapshot(double weightedCount, long p50, long p90, long p99) {
+            this.weightedCount = weightedCount;
+            this.p50 = p50;
+            this.p90 = p90;
+            this.p99 = p99;
+        }
+    }
+}
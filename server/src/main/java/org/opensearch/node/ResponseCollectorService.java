@@ -32,6 +32,7 @@
 
 package org.opensearch.node;
 
+import org.opensearch.Version;
 import org.opensearch.cluster.ClusterChangedEvent;
 import org.opensearch.cluster.ClusterStateListener;
 import org.opensearch.cluster.node.DiscoveryNode;
@@ -40,6 +41,8 @@ import org.opensearch.common.ExponentiallyWeightedMovingAverage;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
 
 import java.io.IOException;
@@ -48,22 +51,48 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
 
 /**
  * Collects statistics about queue size, response time, and service time of
  * tasks executed on each node, making the EWMA of the values available to the
- * coordinating node.
+ * coordinating node. It also keeps a rolling histogram of the response times
+ * and tracks the requests in flight to each node, which are used to rank the
+ * nodes when the {@link RankingMode#LATENCY_HISTOGRAM} ranking is selected.
  */
 public final class ResponseCollectorService implements ClusterStateListener {
 
     private static final double ALPHA = 0.3;
 
+    public static final Setting<RankingMode> RANKING_MODE_SETTING =
+        new Setting<>("cluster.routing.adaptive_replica_selection.ranking", RankingMode.C3.toString(), RankingMode::fromString,
+            Property.Dynamic, Property.NodeScope);
+
     private final ConcurrentMap<String, NodeStatistics> nodeIdToStats = ConcurrentCollections.newConcurrentMap();
+    private final ConcurrentMap<String, NodeLatency> nodeIdToLatency = ConcurrentCollections.newConcurrentMap();
+    private final LongSupplier nanoTime;
+
+    private volatile RankingMode rankingMode;
 
     public ResponseCollectorService(ClusterService clusterService) {
+        this(clusterService, System::nanoTime);
+    }
+
+    ResponseCollectorService(ClusterService clusterService, LongSupplier nanoTime) {
+        this.nanoTime = nanoTime;
+        this.rankingMode = RANKING_MODE_SETTING.get(clusterService.getSettings());
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(RANKING_MODE_SETTING, this::setRankingMode);
         clusterService.addListener(this);
     }
 
+    private void setRankingMode(RankingMode rankingMode) {
+        this.rankingMode = rankingMode;
+    }
+
+    public RankingMode getRankingMode() {
+        return rankingMode;
+    }
+
     @Override
     public void clusterChanged(ClusterChangedEvent event) {
         if (event.nodesRemoved()) {
@@ -75,6 +104,7 @@ public final class ResponseCollectorService implements ClusterStateListener {
 
     void removeNode(String nodeId) {
         nodeIdToStats.remove(nodeId);
+        nodeIdToLatency.remove(nodeId);
     }
 
     public void addNodeStatistics(String nodeId, int queueSize, long responseTimeNanos, long avgServiceTimeNanos) {
@@ -92,12 +122,38 @@ public final class ResponseCollectorService implements ClusterStateListener {
         });
     }
 
+    /**
+     * Records that a request was sent to the given node. Every call must be followed by a call to
+     * {@link #onRequestCompleted(String, long, boolean)} with the same start time once the response or failure is received.
+     *
+     * @return the start time of the request
+     */
+    public long onRequestSent(String nodeId) {
+        final long startNanos = nanoTime.getAsLong();
+        nodeIdToLatency.computeIfAbsent(nodeId, id -> new NodeLatency(nanoTime)).onRequestSent(startNanos);
+        return startNanos;
+    }
+
+    /**
+     * Records that the response or failure of a request that was sent to the given node at the given time was received. The response
+     * time is added to the rolling histogram of the node if {@code recordResponseTime} is true.
+     */
+    public void onRequestCompleted(String nodeId, long startNanos, boolean recordResponseTime) {
+        final NodeLatency nodeLatency = nodeIdToLatency.get(nodeId);
+        // the node may have left the cluster in the meantime
+        if (nodeLatency != null) {
+            nodeLatency.onRequestCompleted(startNanos, recordResponseTime ? nanoTime.getAsLong() - startNanos : -1L);
+        }
+    }
+
     public Map<String, ComputedNodeStats> getAllNodeStatistics() {
         final int clientNum = nodeIdToStats.size();
         // Transform the mutable object internally used for accounting into the computed version
         Map<String, ComputedNodeStats> nodeStats = new HashMap<>(nodeIdToStats.size());
+        final RankingMode rankingMode = this.rankingMode;
+        final long now = nanoTime.getAsLong();
         nodeIdToStats.forEach((k, v) -> {
-            nodeStats.put(k, new ComputedNodeStats(clientNum, v));
+            nodeStats.put(k, new ComputedNodeStats(clientNum, v, rankingMode, nodeIdToLatency.get(k), now));
         });
         return nodeStats;
     }
@@ -113,13 +169,40 @@ public final class ResponseCollectorService implements ClusterStateListener {
      */
     public Optional<ComputedNodeStats> getNodeStatistics(final String nodeId) {
         final int clientNum = nodeIdToStats.size();
-        return Optional.ofNullable(nodeIdToStats.get(nodeId)).map(ns -> new ComputedNodeStats(clientNum, ns));
+        final RankingMode rankingMode = this.rankingMode;
+        return Optional.ofNullable(nodeIdToStats.get(nodeId))
+            .map(ns -> new ComputedNodeStats(clientNum, ns, rankingMode, nodeIdToLatency.get(nodeId), nanoTime.getAsLong()));
+    }
+
+    /**
+     * The formula used to rank the nodes holding a copy of a shard.
+     */
+    public enum RankingMode {
+        /**
+         * The formula of the C3 paper, based on the EWMA of the queue size, response time, and service time of the nodes.
+         */
+        C3,
+        /**
+         * Ranks the nodes by the decayed 99th percentile of their recent response times, or by the age of their requests in flight
+         * if it is higher, so that a node that suddenly stalls is avoided before its slow responses are even received.
+         */
+        LATENCY_HISTOGRAM;
+
+        public static RankingMode fromString(String mode) {
+            return valueOf(mode.toUpperCase(Locale.ROOT));
+        }
+
+        @Override
+        public String toString() {
+            return name().toLowerCase(Locale.ROOT);
+        }
     }
 
     /**
      * Struct-like class encapsulating a point-in-time snapshot of a particular
      * node's statistics. This includes the EWMA of queue size, response time,
-     * and service time.
+     * and service time, and the percentiles of the rolling histogram of the
+     * response times.
      */
     public static class ComputedNodeStats implements Writeable {
         // We store timestamps with nanosecond precision, however, the
@@ -134,18 +217,49 @@ public final class ResponseCollectorService implements ClusterStateListener {
         public final int queueSize;
         public final double responseTime;
         public final double serviceTime;
+        public final RankingMode rankingMode;
+        // percentiles of the recent response times in nanoseconds, or -1 if there is no recent response
+        public final long responseTimeP50;
+        public final long responseTimeP90;
+        public final long responseTimeP99;
+        // the number of recent responses, older responses being counted with a lower weight
+        public final long recentResponses;
+        public final int inFlightRequests;
+        // the average time since the requests in flight were sent, in nanoseconds
+        public final long inFlightAge;
 
         public ComputedNodeStats(String nodeId, int clientNum, int queueSize, double responseTime, double serviceTime) {
+            this(nodeId, clientNum, queueSize, responseTime, serviceTime, RankingMode.C3, -1, -1, -1, 0, 0, 0);
+        }
+
+        public ComputedNodeStats(String nodeId, int clientNum, int queueSize, double responseTime, double serviceTime,
+                                 RankingMode rankingMode, long responseTimeP50, long responseTimeP90, long responseTimeP99,
+                                 long recentResponses, int inFlightRequests, long inFlightAge) {
             this.nodeId = nodeId;
             this.clientNum = clientNum;
             this.queueSize = queueSize;
             this.responseTime = responseTime;
             this.serviceTime = serviceTime;
+            this.rankingMode = rankingMode;
+            this.responseTimeP50 = responseTimeP50;
+            this.responseTimeP90 = responseTimeP90;
+            this.responseTimeP99 = responseTimeP99;
+            this.recentResponses = recentResponses;
+            this.inFlightRequests = inFlightRequests;
+            this.inFlightAge = inFlightAge;
+        }
+
+        ComputedNodeStats(int clientNum, NodeStatistics nodeStats, RankingMode rankingMode, NodeLatency nodeLatency, long nowNanos) {
+            this(nodeStats.nodeId, clientNum, (int) nodeStats.queueSize.getAverage(), nodeStats.responseTime.getAverage(),
+                nodeStats.serviceTime, rankingMode,
+                nodeLatency == null ? LatencyHistogram.Snapshot.EMPTY : nodeLatency.histogram.snapshot(), nodeLatency, nowNanos);
         }
 
-        ComputedNodeStats(int clientNum, NodeStatistics nodeStats) {
-            this(nodeStats.nodeId, clientNum,
-                    (int) nodeStats.queueSize.getAverage(), nodeStats.responseTime.getAverage(), nodeStats.serviceTime);
+        private ComputedNodeStats(String nodeId, int clientNum, int queueSize, double responseTime, double serviceTime,
+                                  RankingMode rankingMode, LatencyHistogram.Snapshot snapshot, NodeLatency nodeLatency, long nowNanos) {
+            this(nodeId, clientNum, queueSize, responseTime, serviceTime, rankingMode, snapshot.p50, snapshot.p90, snapshot.p99,
+                Math.round(snapshot.weightedCount), nodeLatency == null ? 0 : nodeLatency.inFlightRequests(),
+                nodeLatency == null ? 0 : nodeLatency.inFlightAge(nowNanos));
         }
 
         ComputedNodeStats(StreamInput in) throws IOException {
@@ -154,6 +268,23 @@ public final class ResponseCollectorService implements ClusterStateListener {
             this.queueSize = in.readInt();
             this.responseTime = in.readDouble();
             this.serviceTime = in.readDouble();
+            if (in.getVersion().onOrAfter(Version.V_1_1_0)) {
+                this.rankingMode = in.readEnum(RankingMode.class);
+                this.responseTimeP50 = in.readZLong();
+                this.responseTimeP90 = in.readZLong();
+                this.responseTimeP99 = in.readZLong();
+                this.recentResponses = in.readVLong();
+                this.inFlightRequests = in.readVInt();
+                this.inFlightAge = in.readVLong();
+            } else {
+                this.rankingMode = RankingMode.C3;
+                this.responseTimeP50 = -1;
+                this.responseTimeP90 = -1;
+                this.responseTimeP99 = -1;
+                this.recentResponses = 0;
+                this.inFlightRequests = 0;
+                this.inFlightAge = 0;
+            }
         }
 
         @Override
@@ -163,6 +294,15 @@ public final class ResponseCollectorService implements ClusterStateListener {
             out.writeInt(this.queueSize);
             out.writeDouble(this.responseTime);
             out.writeDouble(this.serviceTime);
+            if (out.getVersion().onOrAfter(Version.V_1_1_0)) {
+                out.writeEnum(this.rankingMode);
+                out.writeZLong(this.responseTimeP50);
+                out.writeZLong(this.responseTimeP90);
+                out.writeZLong(this.responseTimeP99);
+                out.writeVLong(this.recentResponses);
+                out.writeVInt(this.inFlightRequests);
+                out.writeVLong(this.inFlightAge);
+            }
         }
 
         /**
@@ -193,9 +333,21 @@ public final class ResponseCollectorService implements ClusterStateListener {
             return rank;
         }
 
+        /**
+         * Rank this copy of the data by its expected tail latency in milliseconds, that is the highest of the decayed 99th percentile
+         * of the recent response times and of the age of the requests in flight, scaled by the number of outstanding requests. The
+         * EWMA of the response time is used if there is no recent response.
+         */
+        private double latencyHistogramRank(long outstandingRequests) {
+            final double latency = Math.max(responseTimeP99 >= 0 ? responseTimeP99 : responseTime, inFlightAge) / FACTOR;
+            return (1 + latency) * (1 + outstandingRequests);
+        }
+
         public double rank(long outstandingRequests) {
             if (cachedRank == 0) {
-                cachedRank = innerRank(outstandingRequests);
+                cachedRank = rankingMode == RankingMode.LATENCY_HISTOGRAM
+                    ? latencyHistogramRank(outstandingRequests)
+                    : innerRank(outstandingRequests);
             }
             return cachedRank;
         }
@@ -208,6 +360,8 @@ public final class ResponseCollectorService implements ClusterStateListener {
             sb.append(", queue: ").append(queueSize);
             sb.append(", response time: ").append(String.format(Locale.ROOT, "%.1f", responseTime));
             sb.append(", service time: ").append(String.format(Locale.ROOT, "%.1f", serviceTime));
+            sb.append(", response time p99: ").append(responseTimeP99);
+            sb.append(", in flight: ").append(inFlightRequests);
             sb.append(", rank: ").append(String.format(Locale.ROOT, "%.1f", rank(1)));
             sb.append(")");
             return sb.toString();
@@ -235,4 +389,49 @@ public final class ResponseCollectorService implements ClusterStateListener {
             this.serviceTime = serviceTimeEWMA;
         }
     }
+
+    /**
+     * The rolling histogram of the response times of a node and the requests in flight to it, only used for the internal accounting
+     * of {@code ResponseCollectorService}.
+     */
+    private static class NodeLatency {
+        final LatencyHistogram histogram;
+        // start times are stored relative to the creation of this object so that their sum does not overflow
+        private final long baseNanos;
+        private int inFlightRequests;
+        private long inFlightStartSum;
+
+        NodeLatency(LongSupplier nanoTime) {
+            this.histogram = new LatencyHistogram(nanoTime);
+            this.baseNanos = nanoTime.getAsLong();
+        }
+
+        synchronized void onRequestSent(long startNanos) {
+            inFlightRequests++;
+            inFlightStartSum += startNanos - baseNanos;
+        }
+
+        void onRequestCompleted(long startNanos, long responseTimeNanos) {
+            synchronized (this) {
+                if (inFlightRequests > 0) {
+                    inFlightRequests--;
+                    inFlightStartSum -= startNanos - baseNanos;
+                }
+            }
+            if (responseTimeNanos >= 0) {
+                histogram.record(responseTimeNanos);
+            }
+        }
+
+        synchronized int inFlightRequests() {
+            return inFlightRequests;
+        }
+
+        synchronized long inFlightAge(long nowNanos) {
+            if (inFlightRequests == 0) {
+                return 0;
+            }
+            return Math.max(0L, nowNanos - baseNanos - inFlightStartSum / inFlightRequests);
+        }
+    }
 }
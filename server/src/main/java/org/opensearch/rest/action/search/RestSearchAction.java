@@ -186,6 +186,8 @@ public class RestSearchAction extends BaseRestHandler {
         }
         parseSearchSource(searchRequest.source(), request, setSize);
         searchRequest.requestCache(request.paramAsBoolean("request_cache", searchRequest.requestCache()));
+        searchRequest.concurrentSegmentSearch(
+            request.paramAsBoolean("concurrent_segment_search", searchRequest.concurrentSegmentSearch()));
 
         String scroll = request.param("scroll");
         if (scroll != null) {
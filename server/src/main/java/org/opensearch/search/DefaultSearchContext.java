@@ -36,6 +36,7 @@ import org.apache.lucene.search.BooleanClause.Occur;
 import org.apache.lucene.search.BooleanQuery;
 import org.apache.lucene.search.BoostQuery;
 import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.CollectorManager;
 import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.MatchNoDocsQuery;
 import org.apache.lucene.search.Query;
@@ -44,6 +45,7 @@ import org.opensearch.action.search.SearchShardTask;
 import org.opensearch.action.search.SearchType;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.Nullable;
+import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.lucene.search.Queries;
 import org.opensearch.common.unit.TimeValue;
@@ -83,10 +85,13 @@ import org.opensearch.search.internal.ShardSearchRequest;
 import org.opensearch.search.profile.Profilers;
 import org.opensearch.search.query.QueryPhaseExecutionException;
 import org.opensearch.search.query.QuerySearchResult;
+import org.opensearch.search.query.ReduceableSearchResult;
 import org.opensearch.search.rescore.RescoreContext;
 import org.opensearch.search.slice.SliceBuilder;
 import org.opensearch.search.sort.SortAndFormats;
 import org.opensearch.search.suggest.SuggestionSearchContext;
+import org.opensearch.tasks.TaskManager;
+import org.opensearch.threadpool.ThreadPool;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
@@ -95,6 +100,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.function.LongSupplier;
 
 final class DefaultSearchContext extends SearchContext {
@@ -164,6 +170,7 @@ final class DefaultSearchContext extends SearchContext {
 
     private final Map<String, SearchExtBuilder> searchExtBuilders = new HashMap<>();
     private final Map<Class<?>, Collector> queryCollectors = new HashMap<>();
+    private final Map<Class<?>, CollectorManager<? extends Collector, ReduceableSearchResult>> queryCollectorManagers = new HashMap<>();
     private final QueryShardContext queryShardContext;
     private final FetchPhase fetchPhase;
 
@@ -176,7 +183,8 @@ final class DefaultSearchContext extends SearchContext {
                          TimeValue timeout,
                          FetchPhase fetchPhase,
                          boolean lowLevelCancellation,
-                         Version minNodeVersion) throws IOException {
+                         Version minNodeVersion,
+                         @Nullable TaskManager taskManager) throws IOException {
         this.readerContext = readerContext;
         this.request = request;
         this.fetchPhase = fetchPhase;
@@ -192,7 +200,8 @@ final class DefaultSearchContext extends SearchContext {
         this.clusterService = clusterService;
         this.engineSearcher = readerContext.acquireSearcher("search");
         this.searcher = new ContextIndexSearcher(engineSearcher.getIndexReader(), engineSearcher.getSimilarity(),
-            engineSearcher.getQueryCache(), engineSearcher.getQueryCachingPolicy(), lowLevelCancellation);
+            engineSearcher.getQueryCache(), engineSearcher.getQueryCachingPolicy(), lowLevelCancellation,
+            concurrentSegmentSearchExecutor(request, indexService, indexShard, taskManager));
         this.relativeTimeSupplier = relativeTimeSupplier;
         this.timeout = timeout;
         this.minNodeVersion = minNodeVersion;
@@ -424,6 +433,39 @@ final class DefaultSearchContext extends SearchContext {
         return rescore;
     }
 
+    /**
+     * Returns the executor used to search the leaf slices concurrently or <code>null</code> if the
+     * concurrent segment search is disabled for the request. The request option takes precedence
+     * over the index setting. The resources used to search the slices are tracked on behalf of
+     * the task of the context, see {@link TaskManager#startResourceTracking}.
+     */
+    @Nullable
+    private Executor concurrentSegmentSearchExecutor(ShardSearchRequest request, IndexService indexService,
+                                                     IndexShard indexShard, @Nullable TaskManager taskManager) {
+        final Boolean requested = request.concurrentSegmentSearch();
+        final boolean enabled = requested != null ? requested : indexService.getIndexSettings().isConcurrentSegmentSearchEnabled();
+        if (enabled == false) {
+            return null;
+        }
+        final Executor executor = indexShard.getThreadPool().executor(ThreadPool.Names.INDEX_SEARCHER);
+        if (taskManager == null) {
+            return executor;
+        }
+        return command -> {
+            // the task is set once the context is created, before searching
+            final SearchShardTask task = this.task;
+            if (task == null) {
+                executor.execute(command);
+            } else {
+                executor.execute(() -> {
+                    try (Releasable ignored = taskManager.startResourceTracking(task)) {
+                        command.run();
+                    }
+                });
+            }
+        };
+    }
+
     @Override
     public void addRescore(RescoreContext rescore) {
         if (this.rescore == null) {
@@ -805,6 +847,11 @@ final class DefaultSearchContext extends SearchContext {
         return queryCollectors;
     }
 
+    @Override
+    public Map<Class<?>, CollectorManager<? extends Collector, ReduceableSearchResult>> queryCollectorManagers() {
+        return queryCollectorManagers;
+    }
+
     @Override
     public QueryShardContext getQueryShardContext() {
         return queryShardContext;
@@ -39,6 +39,7 @@ import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.TopDocs;
 import org.opensearch.LegacyESVersion;
 import org.opensearch.OpenSearchException;
+import org.opensearch.Version;
 import org.opensearch.action.ActionListener;
 import org.opensearch.action.ActionRunnable;
 import org.opensearch.action.OriginalIndices;
@@ -49,6 +50,7 @@ import org.opensearch.action.support.TransportActions;
 import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.CheckedSupplier;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.UUIDs;
 import org.opensearch.common.breaker.CircuitBreaker;
 import org.opensearch.common.component.AbstractLifecycleComponent;
@@ -82,6 +84,7 @@ import org.opensearch.index.shard.IndexEventListener;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.shard.SearchOperationListener;
 import org.opensearch.index.shard.ShardId;
+import org.opensearch.indices.IndicesRequestCache;
 import org.opensearch.indices.IndicesService;
 import org.opensearch.indices.breaker.CircuitBreakerService;
 import org.opensearch.indices.cluster.IndicesClusterStateService.AllocatedIndices.IndexRemovalReason;
@@ -129,6 +132,7 @@ import org.opensearch.search.sort.SortAndFormats;
 import org.opensearch.search.sort.SortBuilder;
 import org.opensearch.search.suggest.Suggest;
 import org.opensearch.search.suggest.completion.CompletionSuggestion;
+import org.opensearch.tasks.TaskManager;
 import org.opensearch.threadpool.Scheduler.Cancellable;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.threadpool.ThreadPool.Names;
@@ -194,6 +198,8 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
 
     private final ResponseCollectorService responseCollectorService;
 
+    private final TaskManager taskManager;
+
     private final BigArrays bigArrays;
 
     private final DfsPhase dfsPhase = new DfsPhase();
@@ -227,13 +233,15 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
 
     public SearchService(ClusterService clusterService, IndicesService indicesService,
                          ThreadPool threadPool, ScriptService scriptService, BigArrays bigArrays, FetchPhase fetchPhase,
-                         ResponseCollectorService responseCollectorService, CircuitBreakerService circuitBreakerService) {
+                         ResponseCollectorService responseCollectorService, CircuitBreakerService circuitBreakerService,
+                         TaskManager taskManager) {
         Settings settings = clusterService.getSettings();
         this.threadPool = threadPool;
         this.clusterService = clusterService;
         this.indicesService = indicesService;
         this.scriptService = scriptService;
         this.responseCollectorService = responseCollectorService;
+        this.taskManager = taskManager;
         this.bigArrays = bigArrays;
         this.queryPhase = new QueryPhase();
         this.fetchPhase = fetchPhase;
@@ -348,7 +356,7 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
             @Override
             public void onResponse(ShardSearchRequest rewritten) {
                 // fork the execution in the search thread pool
-                runAsync(getExecutor(shard), () -> executeDfsPhase(request, task, keepStatesInContext), listener);
+                runAsync(getExecutor(shard), task, () -> executeDfsPhase(request, task, keepStatesInContext), listener);
             }
 
             @Override
@@ -411,7 +419,7 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
                     }
                 }
                 // fork the execution in the search thread pool
-                runAsync(getExecutor(shard), () -> executeQueryPhase(orig, task, keepStatesInContext), listener);
+                runAsync(getExecutor(shard), task, () -> executeQueryPhase(orig, task, keepStatesInContext), listener);
             }
 
             @Override
@@ -429,8 +437,13 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         }
     }
 
-    private <T> void runAsync(Executor executor, CheckedSupplier<T, Exception> executable, ActionListener<T> listener) {
-        executor.execute(ActionRunnable.supply(listener, executable::get));
+    private <T> void runAsync(Executor executor, SearchShardTask task, CheckedSupplier<T, Exception> executable,
+                              ActionListener<T> listener) {
+        executor.execute(ActionRunnable.supply(listener, () -> {
+            try (Releasable ignored = taskManager.startResourceTracking(task)) {
+                return executable.get();
+            }
+        }));
     }
 
     private SearchPhaseResult executeQueryPhase(ShardSearchRequest request,
@@ -493,7 +506,7 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
             freeReaderContext(readerContext.id());
             throw e;
         }
-        runAsync(getExecutor(readerContext.indexShard()), () -> {
+        runAsync(getExecutor(readerContext.indexShard()), task, () -> {
             final ShardSearchRequest shardSearchRequest = readerContext.getShardSearchRequest(null);
             try (SearchContext searchContext = createContext(readerContext, shardSearchRequest, task, false);
                  SearchOperationListenerExecutor executor = new SearchOperationListenerExecutor(searchContext)) {
@@ -515,7 +528,7 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         final ReaderContext readerContext = findReaderContext(request.contextId(), request.shardSearchRequest());
         final ShardSearchRequest shardSearchRequest = readerContext.getShardSearchRequest(request.shardSearchRequest());
         final Releasable markAsUsed = readerContext.markAsUsed(getKeepAlive(shardSearchRequest));
-        runAsync(getExecutor(readerContext.indexShard()), () -> {
+        runAsync(getExecutor(readerContext.indexShard()), task, () -> {
             readerContext.setAggregatedDfs(request.dfs());
             try (SearchContext searchContext = createContext(readerContext, shardSearchRequest, task, true);
                  SearchOperationListenerExecutor executor = new SearchOperationListenerExecutor(searchContext)) {
@@ -565,7 +578,7 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
             freeReaderContext(readerContext.id());
             throw e;
         }
-        runAsync(getExecutor(readerContext.indexShard()), () -> {
+        runAsync(getExecutor(readerContext.indexShard()), task, () -> {
             final ShardSearchRequest shardSearchRequest = readerContext.getShardSearchRequest(null);
             try (SearchContext searchContext = createContext(readerContext, shardSearchRequest, task, false);
                  SearchOperationListenerExecutor executor = new SearchOperationListenerExecutor(searchContext)) {
@@ -589,7 +602,7 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         final ReaderContext readerContext = findReaderContext(request.contextId(), request);
         final ShardSearchRequest shardSearchRequest = readerContext.getShardSearchRequest(request.getShardSearchRequest());
         final Releasable markAsUsed = readerContext.markAsUsed(getKeepAlive(shardSearchRequest));
-        runAsync(getExecutor(readerContext.indexShard()), () -> {
+        runAsync(getExecutor(readerContext.indexShard()), task, () -> {
             try (SearchContext searchContext = createContext(readerContext, shardSearchRequest, task, false)) {
                 if (request.lastEmittedDoc() != null) {
                     searchContext.scrollContext().lastEmittedDoc = request.lastEmittedDoc();
@@ -778,7 +791,7 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
                 reader.indexShard().shardId(), request.getClusterAlias(), OriginalIndices.NONE);
             searchContext = new DefaultSearchContext(reader, request, shardTarget, clusterService, bigArrays,
                 threadPool::relativeTimeInMillis, timeout, fetchPhase, lowLevelCancellation,
-                clusterService.state().nodes().getMinNodeVersion());
+                clusterService.state().nodes().getMinNodeVersion(), taskManager);
             // we clone the query shard context here just for rewriting otherwise we
             // might end up with incorrect state since we are using now() or script services
             // during rewrite and normalized / evaluate templates etc.
@@ -1197,9 +1210,49 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
                     // null query means match_all
                     canMatch = aliasFilterCanMatch;
                 }
-                return new CanMatchResponse(canMatch || hasRefreshPending, minMax);
+                final String shardGeneration = request.includeShardGeneration() && readerContext == null && hasRefreshPending == false
+                    && canCacheResponse(request, indexService, context)
+                    ? shardGeneration(indexService.getShard(request.shardId().id()), canMatchSearcher)
+                    : null;
+                return new CanMatchResponse(canMatch || hasRefreshPending, minMax, shardGeneration);
+            }
+        }
+    }
+
+    /**
+     * Returns true if the response of the given shard request only depends on the content of the shard reader, which allows the
+     * coordinating node to cache the reduced response under the {@link #shardGeneration shard generations} of the targeted shards.
+     * The rules are the same as the ones of the shard request cache, aggregations are built against the rewritten context in order
+     * to detect non-deterministic values like {@code now} in their parameters.
+     */
+    private boolean canCacheResponse(ShardSearchRequest request, IndexService indexService, QueryShardContext context) throws IOException {
+        if (request.scroll() != null) {
+            return false;
+        }
+        final SearchSourceBuilder source = request.source();
+        if (source != null && source.profile()) {
+            return false;
+        }
+        if (request.requestCache() == null) {
+            if (indexService.getIndexSettings().getValue(IndicesRequestCache.INDEX_CACHE_REQUEST_ENABLED_SETTING) == false) {
+                return false;
+            } else if (source == null || source.size() != 0) {
+                return false;
             }
+        } else if (request.requestCache() == false) {
+            return false;
+        }
+        if (source != null && source.aggregations() != null) {
+            source.aggregations().build(context, null);
         }
+        return context.isCacheable();
+    }
+
+    /**
+     * An opaque identifier of the point in time view of a shard copy, it changes whenever the shard reader is refreshed.
+     */
+    private static String shardGeneration(IndexShard indexShard, Engine.Searcher searcher) {
+        return indexShard.routingEntry().allocationId().getId() + "/" + searcher.getDirectoryReader().getVersion();
     }
 
     /**
@@ -1272,6 +1325,7 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
     public static final class CanMatchResponse extends SearchPhaseResult {
         private final boolean canMatch;
         private final MinAndMax<?> estimatedMinAndMax;
+        private final String shardGeneration;
 
         public CanMatchResponse(StreamInput in) throws IOException {
             super(in);
@@ -1281,11 +1335,21 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
             } else {
                 estimatedMinAndMax = null;
             }
+            if (in.getVersion().onOrAfter(Version.V_1_1_0)) {
+                shardGeneration = in.readOptionalString();
+            } else {
+                shardGeneration = null;
+            }
         }
 
         public CanMatchResponse(boolean canMatch, MinAndMax<?> estimatedMinAndMax) {
+            this(canMatch, estimatedMinAndMax, null);
+        }
+
+        public CanMatchResponse(boolean canMatch, MinAndMax<?> estimatedMinAndMax, @Nullable String shardGeneration) {
             this.canMatch = canMatch;
             this.estimatedMinAndMax = estimatedMinAndMax;
+            this.shardGeneration = shardGeneration;
         }
 
         @Override
@@ -1294,6 +1358,9 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
             if (out.getVersion().onOrAfter(LegacyESVersion.V_7_6_0)) {
                 out.writeOptionalWriteable(estimatedMinAndMax);
             }
+            if (out.getVersion().onOrAfter(Version.V_1_1_0)) {
+                out.writeOptionalString(shardGeneration);
+            }
         }
 
         public boolean canMatch() {
@@ -1303,6 +1370,15 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         public MinAndMax<?> estimatedMinAndMax() {
             return estimatedMinAndMax;
         }
+
+        /**
+         * The generation of the shard reader that would execute the request, or {@code null} if the response of the request cannot be
+         * cached on the coordinating node.
+         */
+        @Nullable
+        public String shardGeneration() {
+            return shardGeneration;
+        }
     }
 
     /**
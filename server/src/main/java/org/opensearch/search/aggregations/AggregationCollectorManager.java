@@ -0,0 +1,107 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations;
+
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.CollectorManager;
+import org.opensearch.search.aggregations.bucket.global.GlobalAggregator;
+import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.query.ReduceableSearchResult;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A {@link CollectorManager} for the non-global top level aggregators when the leaves of a shard are searched
+ * concurrently. The first leaf slice is collected by the aggregators registered in the {@link SearchContextAggregations},
+ * each additional slice gets its own aggregators. On reduce, the aggregators of the additional slices are registered in
+ * {@link SearchContextAggregations#sliceAggregators()} when they all support {@link Aggregator#mergeSlice merging} so
+ * that the {@link AggregationPhase} merges their buckets before building the aggregations once. Otherwise their
+ * aggregations are built and registered in {@link SearchContextAggregations#sliceAggregations()} so that the
+ * {@link AggregationPhase} can reduce them with the aggregations of the registered aggregators.
+ */
+public class AggregationCollectorManager implements CollectorManager<Collector, ReduceableSearchResult> {
+    private final SearchContext context;
+    private final Collector collector;
+    private final List<List<Aggregator>> sliceAggregators = new ArrayList<>();
+    private boolean collectorCreated;
+
+    /**
+     * @param context The search context
+     * @param collector The collector that wraps the non-global aggregators registered in the search context
+     */
+    AggregationCollectorManager(SearchContext context, Collector collector) {
+        this.context = context;
+        this.collector = collector;
+    }
+
+    @Override
+    public Collector newCollector() throws IOException {
+        if (collectorCreated == false) {
+            collectorCreated = true;
+            return collector;
+        }
+        final Aggregator[] aggregators = context.aggregations().factories().createTopLevelAggregators(context);
+        final List<Aggregator> collectors = new ArrayList<>(aggregators.length);
+        for (Aggregator aggregator : aggregators) {
+            // global aggregators are executed once by the aggregation phase
+            if (aggregator instanceof GlobalAggregator == false) {
+                collectors.add(aggregator);
+            }
+        }
+        sliceAggregators.add(collectors);
+        final BucketCollector bucketCollector = MultiBucketCollector.wrap(collectors);
+        bucketCollector.preCollection();
+        return bucketCollector;
+    }
+
+    @Override
+    public ReduceableSearchResult reduce(Collection<Collector> collectors) throws IOException {
+        final List<List<Aggregator>> aggregatorsToMerge = new ArrayList<>(sliceAggregators.size());
+        final List<InternalAggregations> sliceAggregations = new ArrayList<>(sliceAggregators.size());
+        final boolean merge = supportsSliceMerge();
+        for (List<Aggregator> aggregators : sliceAggregators) {
+            final List<InternalAggregation> aggregations = new ArrayList<>(aggregators.size());
+            context.aggregations().resetBucketMultiConsumer();
+            for (Aggregator aggregator : aggregators) {
+                try {
+                    aggregator.postCollection();
+                    if (merge == false) {
+                        aggregations.add(aggregator.buildTopLevel());
+                    }
+                } catch (IOException e) {
+                    throw new AggregationExecutionException("Failed to build aggregation [" + aggregator.name() + "]", e);
+                }
+            }
+            if (merge) {
+                aggregatorsToMerge.add(aggregators);
+            } else {
+                sliceAggregations.add(InternalAggregations.from(aggregations));
+            }
+        }
+        sliceAggregators.clear();
+        return result -> {
+            context.aggregations().sliceAggregators().addAll(aggregatorsToMerge);
+            context.aggregations().sliceAggregations().addAll(sliceAggregations);
+        };
+    }
+
+    private boolean supportsSliceMerge() {
+        for (List<Aggregator> aggregators : sliceAggregators) {
+            for (Aggregator aggregator : aggregators) {
+                if (aggregator.supportsSliceMerge() == false) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
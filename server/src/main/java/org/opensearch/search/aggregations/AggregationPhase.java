@@ -35,7 +35,9 @@ import org.apache.lucene.search.Collector;
 import org.apache.lucene.search.Query;
 import org.opensearch.common.inject.Inject;
 import org.opensearch.common.lucene.search.Queries;
+import org.opensearch.search.aggregations.InternalAggregation.ReduceContext;
 import org.opensearch.search.aggregations.bucket.global.GlobalAggregator;
+import org.opensearch.search.aggregations.pipeline.PipelineAggregator.PipelineTree;
 import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.profile.query.CollectorResult;
 import org.opensearch.search.profile.query.InternalProfileCollector;
@@ -45,6 +47,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * Aggregation phase of a search request, used to collect aggregations
@@ -76,7 +79,11 @@ public class AggregationPhase {
                                 // TODO: report on child aggs as well
                                 Collections.emptyList());
                     }
-                    context.queryCollectors().put(AggregationPhase.class, collector);
+                    if (context.shouldUseConcurrentSearch()) {
+                        context.queryCollectorManagers().put(AggregationPhase.class, new AggregationCollectorManager(context, collector));
+                    } else {
+                        context.queryCollectors().put(AggregationPhase.class, collector);
+                    }
                 }
             } catch (IOException e) {
                 throw new AggregationInitializationException("Could not initialize aggregators", e);
@@ -133,16 +140,66 @@ public class AggregationPhase {
         for (Aggregator aggregator : context.aggregations().aggregators()) {
             try {
                 aggregator.postCollection();
+            } catch (IOException e) {
+                throw new AggregationExecutionException("Failed to build aggregation [" + aggregator.name() + "]", e);
+            }
+        }
+        mergeSliceAggregators(context);
+        for (Aggregator aggregator : context.aggregations().aggregators()) {
+            try {
                 aggregations.add(aggregator.buildTopLevel());
             } catch (IOException e) {
                 throw new AggregationExecutionException("Failed to build aggregation [" + aggregator.name() + "]", e);
             }
         }
-        context.queryResult().aggregations(new InternalAggregations(aggregations,
-                context.request().source().aggregations()::buildPipelineTree));
+        final Supplier<PipelineTree> pipelineTree = context.request().source().aggregations()::buildPipelineTree;
+        InternalAggregations internalAggregations = new InternalAggregations(aggregations, pipelineTree);
+        final List<InternalAggregations> sliceAggregations = context.aggregations().sliceAggregations();
+        if (sliceAggregations.isEmpty() == false) {
+            // reduce the aggregations of the leaf slices that were searched concurrently
+            final List<InternalAggregations> toReduce = new ArrayList<>(sliceAggregations.size() + 1);
+            toReduce.add(internalAggregations);
+            toReduce.addAll(sliceAggregations);
+            final ReduceContext reduceContext = ReduceContext.forPartialReduction(context.bigArrays(),
+                context.getQueryShardContext().getScriptService(), pipelineTree);
+            internalAggregations = InternalAggregations.reduce(toReduce, reduceContext,
+                reducedAggregations -> new InternalAggregations(reducedAggregations, pipelineTree));
+            sliceAggregations.clear();
+        }
+        context.queryResult().aggregations(internalAggregations);
 
         // disable aggregations so that they don't run on next pages in case of scrolling
         context.aggregations(null);
         context.queryCollectors().remove(AggregationPhase.class);
+        context.queryCollectorManagers().remove(AggregationPhase.class);
+    }
+
+    /**
+     * Merges the aggregators of the leaf slices that were searched concurrently into the non-global top level aggregators.
+     */
+    private static void mergeSliceAggregators(SearchContext context) {
+        final List<List<Aggregator>> sliceAggregators = context.aggregations().sliceAggregators();
+        if (sliceAggregators.isEmpty()) {
+            return;
+        }
+        final List<Aggregator> collectors = new ArrayList<>();
+        for (Aggregator aggregator : context.aggregations().aggregators()) {
+            if (aggregator instanceof GlobalAggregator == false) {
+                collectors.add(aggregator);
+            }
+        }
+        for (List<Aggregator> slice : sliceAggregators) {
+            assert slice.size() == collectors.size();
+            for (int i = 0; i < collectors.size(); i++) {
+                final Aggregator aggregator = collectors.get(i);
+                try {
+                    // top level aggregators only collect the owning bucket 0
+                    aggregator.mergeSlice(slice.get(i), owningBucketOrd -> owningBucketOrd == 0 ? 0 : -1);
+                } catch (IOException e) {
+                    throw new AggregationExecutionException("Failed to merge aggregation [" + aggregator.name() + "]", e);
+                }
+            }
+        }
+        sliceAggregators.clear();
     }
 }
@@ -48,6 +48,7 @@ import org.opensearch.search.sort.SortOrder;
 import java.io.IOException;
 import java.util.Iterator;
 import java.util.function.BiConsumer;
+import java.util.function.LongUnaryOperator;
 
 /**
  * An Aggregator.
@@ -178,6 +179,30 @@ public abstract class Aggregator extends BucketCollector implements Releasable {
      */
     public abstract InternalAggregation buildEmptyAggregation();
 
+    /**
+     * Whether the state collected by another instance of this aggregator on
+     * a different leaf slice of the same shard can be merged into this one
+     * with {@link #mergeSlice(Aggregator, LongUnaryOperator)}. Aggregators
+     * that don't support it are built per slice and reduced instead.
+     */
+    public boolean supportsSliceMerge() {
+        return false;
+    }
+
+    /**
+     * Merge the state that <code>slice</code>, an aggregator created from
+     * the same factory that collected another leaf slice of the shard, has
+     * collected into this aggregator. Both aggregators must have been post
+     * collected.
+     * @param slice the aggregator of the other leaf slice
+     * @param owningBucketOrdMap maps the owning bucket ordinals of
+     *        <code>slice</code> to the owning bucket ordinals of this
+     *        aggregator, {@code -1} if the bucket was not kept
+     */
+    public void mergeSlice(Aggregator slice, LongUnaryOperator owningBucketOrdMap) throws IOException {
+        throw new UnsupportedOperationException("Aggregator [" + name() + "] doesn't support merging leaf slices");
+    }
+
     /**
      * Collect debug information to add to the profiling results. This will
      * only be called if the aggregation is being profiled.
@@ -49,6 +49,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
+import java.util.function.LongUnaryOperator;
 
 /**
  * Base implementation for concrete aggregators.
@@ -293,6 +294,29 @@ public abstract class AggregatorBase extends Aggregator {
     protected void doPostCollection() throws IOException {
     }
 
+    /**
+     * Whether all the sub-aggregators of this aggregator support merging leaf slices.
+     */
+    protected final boolean subAggregatorsSupportSliceMerge() {
+        for (Aggregator aggregator : subAggregators) {
+            if (aggregator.supportsSliceMerge() == false) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Merge the sub-aggregators of <code>slice</code> into the sub-aggregators of this aggregator.
+     * @param bucketOrdMap maps the bucket ordinals of <code>slice</code> to the bucket ordinals of this aggregator
+     */
+    protected final void mergeSubAggregatorSlices(AggregatorBase slice, LongUnaryOperator bucketOrdMap) throws IOException {
+        assert subAggregators.length == slice.subAggregators.length;
+        for (int i = 0; i < subAggregators.length; i++) {
+            subAggregators[i].mergeSlice(slice.subAggregators[i], bucketOrdMap);
+        }
+    }
+
     protected final InternalAggregations buildEmptySubAggregations() {
         List<InternalAggregation> aggs = new ArrayList<>();
         for (Aggregator aggregator : subAggregators) {
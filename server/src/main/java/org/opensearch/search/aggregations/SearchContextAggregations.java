@@ -31,6 +31,9 @@
 
 package org.opensearch.search.aggregations;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.opensearch.search.aggregations.MultiBucketConsumerService.MultiBucketConsumer;
 
 /**
@@ -41,6 +44,8 @@ public class SearchContextAggregations {
     private final AggregatorFactories factories;
     private final MultiBucketConsumer multiBucketConsumer;
     private Aggregator[] aggregators;
+    private final List<List<Aggregator>> sliceAggregators = new ArrayList<>();
+    private final List<InternalAggregations> sliceAggregations = new ArrayList<>();
 
     /**
      * Creates a new aggregation context with the parsed aggregator factories
@@ -67,6 +72,23 @@ public class SearchContextAggregations {
         this.aggregators = aggregators;
     }
 
+    /**
+     * Returns the non-global top level aggregators of the additional leaf slices when the leaves of the shard are
+     * searched concurrently and all the aggregators support {@link Aggregator#mergeSlice merging}. They are post
+     * collected and merged into the top level aggregators before building the aggregations.
+     */
+    public List<List<Aggregator>> sliceAggregators() {
+        return sliceAggregators;
+    }
+
+    /**
+     * Returns the aggregations built by the additional leaf slices when the leaves of the shard are searched
+     * concurrently. They are reduced with the aggregations of the top level aggregators.
+     */
+    public List<InternalAggregations> sliceAggregations() {
+        return sliceAggregations;
+    }
+
     /**
      * Returns a consumer for multi bucket aggregation that checks the total number of buckets
      * created in the response
@@ -153,6 +153,27 @@ public abstract class BucketsAggregator extends AggregatorBase {
         }
     }
 
+    /**
+     * Merge the doc counts and the sub-aggregators of the buckets that <code>slice</code> collected on another
+     * leaf slice into the buckets of this aggregator.
+     *
+     * @param bucketOrdMap a unary operator which maps the bucket ordinals of <code>slice</code> to the bucket ordinals
+     * of this aggregator. If a bucket's ordinal is mapped to -1 then the bucket is skipped.
+     */
+    protected final void mergeSliceBuckets(BucketsAggregator slice, LongUnaryOperator bucketOrdMap) throws IOException {
+        for (long i = 0; i < slice.docCounts.size(); i++) {
+            int docCount = slice.docCounts.get(i);
+            if (docCount == 0) {
+                continue;
+            }
+            long destinationOrdinal = bucketOrdMap.applyAsLong(i);
+            if (destinationOrdinal != -1) {
+                incrementBucketDocCount(destinationOrdinal, docCount);
+            }
+        }
+        mergeSubAggregatorSlices(slice, bucketOrdMap);
+    }
+
     public IntArray getDocCounts() {
         return docCounts;
     }
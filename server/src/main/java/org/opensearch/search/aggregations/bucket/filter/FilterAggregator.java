@@ -47,6 +47,7 @@ import org.opensearch.search.internal.SearchContext;
 
 import java.io.IOException;
 import java.util.Map;
+import java.util.function.LongUnaryOperator;
 import java.util.function.Supplier;
 
 /**
@@ -92,6 +93,17 @@ public class FilterAggregator extends BucketsAggregator implements SingleBucketA
     public InternalAggregation buildEmptyAggregation() {
         return new InternalFilter(name, 0, buildEmptySubAggregations(), metadata());
     }
+
+    @Override
+    public boolean supportsSliceMerge() {
+        return subAggregatorsSupportSliceMerge();
+    }
+
+    @Override
+    public void mergeSlice(Aggregator slice, LongUnaryOperator owningBucketOrdMap) throws IOException {
+        // the bucket ordinal is the owning bucket ordinal
+        mergeSliceBuckets((FilterAggregator) slice, owningBucketOrdMap);
+    }
 }
 
 
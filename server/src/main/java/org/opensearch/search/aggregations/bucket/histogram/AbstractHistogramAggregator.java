@@ -34,6 +34,7 @@ package org.opensearch.search.aggregations.bucket.histogram;
 
 import org.apache.lucene.util.CollectionUtil;
 import org.opensearch.common.lease.Releasables;
+import org.opensearch.common.util.LongArray;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.aggregations.Aggregator;
 import org.opensearch.search.aggregations.AggregatorFactories;
@@ -48,6 +49,7 @@ import java.io.IOException;
 import java.util.Collections;
 import java.util.Map;
 import java.util.function.BiConsumer;
+import java.util.function.LongUnaryOperator;
 
 import static org.opensearch.search.aggregations.bucket.histogram.DoubleBounds.getEffectiveMax;
 import static org.opensearch.search.aggregations.bucket.histogram.DoubleBounds.getEffectiveMin;
@@ -129,6 +131,19 @@ public abstract class AbstractHistogramAggregator extends BucketsAggregator {
         return new InternalHistogram(name, Collections.emptyList(), order, minDocCount, emptyBucketInfo, formatter, keyed, metadata());
     }
 
+    @Override
+    public boolean supportsSliceMerge() {
+        return subAggregatorsSupportSliceMerge();
+    }
+
+    @Override
+    public void mergeSlice(Aggregator slice, LongUnaryOperator owningBucketOrdMap) throws IOException {
+        AbstractHistogramAggregator other = (AbstractHistogramAggregator) slice;
+        try (LongArray ordMap = bucketOrds.merge(other.bucketOrds, owningBucketOrdMap, context.bigArrays())) {
+            mergeSliceBuckets(other, ord -> ord < ordMap.size() ? ordMap.get(ord) : -1);
+        }
+    }
+
     @Override
     public void doClose() {
         Releasables.close(bucketOrds);
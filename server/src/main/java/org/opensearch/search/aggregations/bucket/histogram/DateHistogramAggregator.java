@@ -38,6 +38,7 @@ import org.apache.lucene.util.CollectionUtil;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.Rounding;
 import org.opensearch.common.lease.Releasables;
+import org.opensearch.common.util.LongArray;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.aggregations.Aggregator;
 import org.opensearch.search.aggregations.AggregatorFactories;
@@ -56,6 +57,7 @@ import java.io.IOException;
 import java.util.Collections;
 import java.util.Map;
 import java.util.function.BiConsumer;
+import java.util.function.LongUnaryOperator;
 
 /**
  * An aggregator for date values. Every date is rounded down using a configured
@@ -186,6 +188,19 @@ class DateHistogramAggregator extends BucketsAggregator implements SizedBucketAg
                 keyed, metadata());
     }
 
+    @Override
+    public boolean supportsSliceMerge() {
+        return subAggregatorsSupportSliceMerge();
+    }
+
+    @Override
+    public void mergeSlice(Aggregator slice, LongUnaryOperator owningBucketOrdMap) throws IOException {
+        DateHistogramAggregator other = (DateHistogramAggregator) slice;
+        try (LongArray ordMap = bucketOrds.merge(other.bucketOrds, owningBucketOrdMap, context.bigArrays())) {
+            mergeSliceBuckets(other, ord -> ord < ordMap.size() ? ordMap.get(ord) : -1);
+        }
+    }
+
     @Override
     public void doClose() {
         Releasables.close(bucketOrds);
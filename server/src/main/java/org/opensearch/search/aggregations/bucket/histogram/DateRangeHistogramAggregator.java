@@ -38,6 +38,7 @@ import org.apache.lucene.util.CollectionUtil;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.Rounding;
 import org.opensearch.common.lease.Releasables;
+import org.opensearch.common.util.LongArray;
 import org.opensearch.index.fielddata.SortedBinaryDocValues;
 import org.opensearch.index.mapper.RangeFieldMapper;
 import org.opensearch.index.mapper.RangeType;
@@ -60,6 +61,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.function.BiConsumer;
+import java.util.function.LongUnaryOperator;
 
 import static java.lang.Long.max;
 import static java.lang.Long.min;
@@ -220,6 +222,19 @@ class DateRangeHistogramAggregator extends BucketsAggregator {
                 keyed, metadata());
     }
 
+    @Override
+    public boolean supportsSliceMerge() {
+        return subAggregatorsSupportSliceMerge();
+    }
+
+    @Override
+    public void mergeSlice(Aggregator slice, LongUnaryOperator owningBucketOrdMap) throws IOException {
+        DateRangeHistogramAggregator other = (DateRangeHistogramAggregator) slice;
+        try (LongArray ordMap = bucketOrds.merge(other.bucketOrds, owningBucketOrdMap, context.bigArrays())) {
+            mergeSliceBuckets(other, ord -> ord < ordMap.size() ? ordMap.get(ord) : -1);
+        }
+    }
+
     @Override
     public void doClose() {
         Releasables.close(bucketOrds);
@@ -62,6 +62,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.LongUnaryOperator;
 
 import static org.opensearch.common.xcontent.ConstructingObjectParser.optionalConstructorArg;
 
@@ -336,6 +337,19 @@ public class RangeAggregator extends BucketsAggregator {
         return owningBucketOrdinal * ranges.length + rangeOrd;
     }
 
+    @Override
+    public boolean supportsSliceMerge() {
+        return subAggregatorsSupportSliceMerge();
+    }
+
+    @Override
+    public void mergeSlice(Aggregator slice, LongUnaryOperator owningBucketOrdMap) throws IOException {
+        mergeSliceBuckets((RangeAggregator) slice, bucketOrd -> {
+            long owningBucketOrd = owningBucketOrdMap.applyAsLong(bucketOrd / ranges.length);
+            return owningBucketOrd == -1 ? -1 : subBucketOrdinal(owningBucketOrd, (int) (bucketOrd % ranges.length));
+        });
+    }
+
     @Override
     public InternalAggregation[] buildAggregations(long[] owningBucketOrds) throws IOException {
         return buildAggregationsForFixedBucketCount(owningBucketOrds, ranges.length,
@@ -37,8 +37,11 @@ import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.BytesRefHash;
+import org.opensearch.common.util.LongArray;
 import org.opensearch.search.aggregations.CardinalityUpperBound;
 
+import java.util.function.LongUnaryOperator;
+
 /**
  * Maps {@link BytesRef} bucket keys to bucket ordinals.
  */
@@ -69,6 +72,49 @@ public abstract class BytesKeyedBucketOrds implements Releasable {
      */
     public abstract long size();
 
+    /**
+     * Returns the {@code owningBucketOrd} currently associated with the bucket ordinal.
+     */
+    abstract long owningBucketOrd(long ordinal);
+
+    /**
+     * Read the value currently associated with the bucket ordinal.
+     */
+    abstract void readValue(long ordinal, BytesRef dest);
+
+    /**
+     * Add all the buckets of {@code other} to these ords, mapping their
+     * {@code owningBucketOrd} with {@code owningBucketOrdMap}. Buckets
+     * whose {@code owningBucketOrd} is mapped to {@code -1} are skipped.
+     * <p>
+     * The caller is responsible for closing the returned array.
+     * @return an array mapping the ordinals of {@code other} to the
+     *         ordinals of these ords, {@code -1} for the skipped buckets
+     */
+    public final LongArray merge(BytesKeyedBucketOrds other, LongUnaryOperator owningBucketOrdMap, BigArrays bigArrays) {
+        LongArray ordMap = bigArrays.newLongArray(other.size(), false);
+        boolean success = false;
+        try {
+            BytesRef scratch = new BytesRef();
+            for (long ord = 0; ord < other.size(); ord++) {
+                long owningBucketOrd = owningBucketOrdMap.applyAsLong(other.owningBucketOrd(ord));
+                if (owningBucketOrd == -1) {
+                    ordMap.set(ord, -1);
+                    continue;
+                }
+                other.readValue(ord, scratch);
+                long newOrd = add(owningBucketOrd, scratch);
+                ordMap.set(ord, newOrd < 0 ? -1 - newOrd : newOrd);
+            }
+            success = true;
+            return ordMap;
+        } finally {
+            if (success == false) {
+                ordMap.close();
+            }
+        }
+    }
+
     /**
      * Build an iterator for buckets inside {@code owningBucketOrd} in order
      * of increasing ord.
@@ -144,6 +190,16 @@ public abstract class BytesKeyedBucketOrds implements Releasable {
             return ords.size();
         }
 
+        @Override
+        long owningBucketOrd(long ordinal) {
+            return 0;
+        }
+
+        @Override
+        void readValue(long ordinal, BytesRef dest) {
+            ords.get(ordinal, dest);
+        }
+
         @Override
         public BucketOrdsEnum ordsEnum(long owningBucketOrd) {
             return new BucketOrdsEnum() {
@@ -205,6 +261,16 @@ public abstract class BytesKeyedBucketOrds implements Releasable {
             return longToBucketOrds.size();
         }
 
+        @Override
+        long owningBucketOrd(long ordinal) {
+            return longToBucketOrds.owningBucketOrd(ordinal);
+        }
+
+        @Override
+        void readValue(long ordinal, BytesRef dest) {
+            bytesToLong.get(longToBucketOrds.get(ordinal), dest);
+        }
+
         @Override
         public BucketOrdsEnum ordsEnum(long owningBucketOrd) {
             LongKeyedBucketOrds.BucketOrdsEnum delegate = longToBucketOrds.ordsEnum(owningBucketOrd);
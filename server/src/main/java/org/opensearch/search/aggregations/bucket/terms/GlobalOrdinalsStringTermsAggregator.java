@@ -215,6 +215,16 @@ public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggr
         return resultStrategy.buildEmptyResult();
     }
 
+    @Override
+    protected boolean buildsSignificantTerms() {
+        return resultStrategy instanceof SignificantTermsResults;
+    }
+
+    @Override
+    public void mergeSlice(Aggregator slice, LongUnaryOperator owningBucketOrdMap) throws IOException {
+        collectionStrategy.mergeSlice((GlobalOrdinalsStringTermsAggregator) slice, owningBucketOrdMap);
+    }
+
     @Override
     public void collectDebugInfo(BiConsumer<String, Object> add) {
         super.collectDebugInfo(add);
@@ -424,6 +434,11 @@ public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggr
          * they'll skip all global ords that weren't collected.
          */
         abstract void forEach(long owningBucketOrd, BucketInfoConsumer consumer) throws IOException;
+        /**
+         * Merge the buckets that {@code slice} collected on another leaf
+         * slice of the shard into the buckets of this aggregator.
+         */
+        abstract void mergeSlice(GlobalOrdinalsStringTermsAggregator slice, LongUnaryOperator owningBucketOrdMap) throws IOException;
     }
     interface BucketInfoConsumer {
         void accept(long globalOrd, long bucketOrd, long docCount) throws IOException;
@@ -473,6 +488,17 @@ public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggr
             }
         }
 
+        @Override
+        void mergeSlice(GlobalOrdinalsStringTermsAggregator slice, LongUnaryOperator owningBucketOrdMap) throws IOException {
+            long owningBucketOrd = owningBucketOrdMap.applyAsLong(0);
+            if (owningBucketOrd == -1) {
+                return;
+            }
+            assert owningBucketOrd == 0;
+            // all the slices of a shard share the same global ordinals
+            mergeSliceBuckets(slice, globalOrd -> globalOrd);
+        }
+
         @Override
         public void close() {}
     }
@@ -554,6 +580,14 @@ public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggr
             }
         }
 
+        @Override
+        void mergeSlice(GlobalOrdinalsStringTermsAggregator slice, LongUnaryOperator owningBucketOrdMap) throws IOException {
+            LongKeyedBucketOrds sliceBucketOrds = ((RemapGlobalOrds) slice.collectionStrategy).bucketOrds;
+            try (LongArray ordMap = bucketOrds.merge(sliceBucketOrds, owningBucketOrdMap, context.bigArrays())) {
+                mergeSliceBuckets(slice, ord -> ord < ordMap.size() ? ordMap.get(ord) : -1);
+            }
+        }
+
         @Override
         public void close() {
             bucketOrds.close();
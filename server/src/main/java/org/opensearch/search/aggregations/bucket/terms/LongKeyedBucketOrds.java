@@ -34,10 +34,13 @@ package org.opensearch.search.aggregations.bucket.terms;
 
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.LongArray;
 import org.opensearch.common.util.LongHash;
 import org.opensearch.common.util.LongLongHash;
 import org.opensearch.search.aggregations.CardinalityUpperBound;
 
+import java.util.function.LongUnaryOperator;
+
 /**
  * Maps long bucket keys to bucket ordinals.
  */
@@ -82,6 +85,42 @@ public abstract class LongKeyedBucketOrds implements Releasable {
      */
     public abstract long size();
 
+    /**
+     * Returns the {@code owningBucketOrd} currently associated with the bucket ordinal
+     */
+    public abstract long owningBucketOrd(long ordinal);
+
+    /**
+     * Add all the buckets of {@code other} to these ords, mapping their
+     * {@code owningBucketOrd} with {@code owningBucketOrdMap}. Buckets
+     * whose {@code owningBucketOrd} is mapped to {@code -1} are skipped.
+     * <p>
+     * The caller is responsible for closing the returned array.
+     * @return an array mapping the ordinals of {@code other} to the
+     *         ordinals of these ords, {@code -1} for the skipped buckets
+     */
+    public final LongArray merge(LongKeyedBucketOrds other, LongUnaryOperator owningBucketOrdMap, BigArrays bigArrays) {
+        LongArray ordMap = bigArrays.newLongArray(other.size(), false);
+        boolean success = false;
+        try {
+            for (long ord = 0; ord < other.size(); ord++) {
+                long owningBucketOrd = owningBucketOrdMap.applyAsLong(other.owningBucketOrd(ord));
+                if (owningBucketOrd == -1) {
+                    ordMap.set(ord, -1);
+                    continue;
+                }
+                long newOrd = add(owningBucketOrd, other.get(ord));
+                ordMap.set(ord, newOrd < 0 ? -1 - newOrd : newOrd);
+            }
+            success = true;
+            return ordMap;
+        } finally {
+            if (success == false) {
+                ordMap.close();
+            }
+        }
+    }
+
     /**
      * The maximum possible used {@code owningBucketOrd}.
      */
@@ -156,6 +195,11 @@ public abstract class LongKeyedBucketOrds implements Releasable {
             return ords.get(ordinal);
         }
 
+        @Override
+        public long owningBucketOrd(long ordinal) {
+            return 0;
+        }
+
         @Override
         public long bucketsInOrd(long owningBucketOrd) {
             assert owningBucketOrd == 0;
@@ -233,6 +277,11 @@ public abstract class LongKeyedBucketOrds implements Releasable {
             return ords.getKey2(ordinal);
         }
 
+        @Override
+        public long owningBucketOrd(long ordinal) {
+            return ords.getKey1(ordinal);
+        }
+
         @Override
         public long bucketsInOrd(long owningBucketOrd) {
             // TODO it'd be faster to count the number of buckets in a list of these ords rather than one at a time
@@ -61,6 +61,7 @@ import java.util.Map;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.LongConsumer;
+import java.util.function.LongUnaryOperator;
 import java.util.function.Supplier;
 
 import static org.opensearch.search.aggregations.InternalOrder.isKeyOrder;
@@ -137,6 +138,19 @@ public class MapStringTermsAggregator extends AbstractStringTermsAggregator {
         return resultStrategy.buildEmptyResult();
     }
 
+    @Override
+    protected boolean buildsSignificantTerms() {
+        return resultStrategy instanceof SignificantTermsResults;
+    }
+
+    @Override
+    public void mergeSlice(Aggregator slice, LongUnaryOperator owningBucketOrdMap) throws IOException {
+        MapStringTermsAggregator other = (MapStringTermsAggregator) slice;
+        try (LongArray ordMap = bucketOrds.merge(other.bucketOrds, owningBucketOrdMap, context.bigArrays())) {
+            mergeSliceBuckets(other, ord -> ord < ordMap.size() ? ordMap.get(ord) : -1);
+        }
+    }
+
     @Override
     public void collectDebugInfo(BiConsumer<String, Object> add) {
         super.collectDebugInfo(add);
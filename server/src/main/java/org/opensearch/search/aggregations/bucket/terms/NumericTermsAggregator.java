@@ -65,6 +65,7 @@ import java.util.Arrays;
 import java.util.Map;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.function.LongUnaryOperator;
 import java.util.function.Supplier;
 
 import static java.util.Collections.emptyList;
@@ -148,6 +149,19 @@ public class NumericTermsAggregator extends TermsAggregator {
         return resultStrategy.buildEmptyResult();
     }
 
+    @Override
+    protected boolean buildsSignificantTerms() {
+        return resultStrategy instanceof SignificantLongTermsResults;
+    }
+
+    @Override
+    public void mergeSlice(Aggregator slice, LongUnaryOperator owningBucketOrdMap) throws IOException {
+        NumericTermsAggregator other = (NumericTermsAggregator) slice;
+        try (LongArray ordMap = bucketOrds.merge(other.bucketOrds, owningBucketOrdMap, context.bigArrays())) {
+            mergeSliceBuckets(other, ord -> ord < ordMap.size() ? ordMap.get(ord) : -1);
+        }
+    }
+
     @Override
     public void doClose() {
         Releasables.close(super::doClose, bucketOrds, resultStrategy);
@@ -241,6 +241,21 @@ public abstract class TermsAggregator extends DeferableBucketAggregator {
         return false;
     }
 
+    /**
+     * Significant terms aggregators are never merged across slices: their result strategy counts the documents that every owning
+     * bucket collected, the subset size that each term is scored against along with its background frequency, and
+     * {@link #mergeSlice} only merges the buckets. They are built per slice and reduced instead.
+     */
+    @Override
+    public boolean supportsSliceMerge() {
+        return buildsSignificantTerms() == false && subAggregatorsSupportSliceMerge();
+    }
+
+    /**
+     * Whether this aggregator builds significant terms rather than terms.
+     */
+    protected abstract boolean buildsSignificantTerms();
+
     @Override
     protected boolean shouldDefer(Aggregator aggregator) {
         return collectMode == SubAggCollectionMode.BREADTH_FIRST
@@ -49,6 +49,7 @@ import org.opensearch.search.internal.SearchContext;
 
 import java.io.IOException;
 import java.util.Map;
+import java.util.function.LongUnaryOperator;
 
 class AvgAggregator extends NumericMetricsAggregator.SingleValue {
 
@@ -138,6 +139,35 @@ class AvgAggregator extends NumericMetricsAggregator.SingleValue {
         return new InternalAvg(name, 0.0, 0L, format, metadata());
     }
 
+    @Override
+    public boolean supportsSliceMerge() {
+        return true;
+    }
+
+    @Override
+    public void mergeSlice(Aggregator slice, LongUnaryOperator owningBucketOrdMap) {
+        if (valuesSource == null) {
+            return;
+        }
+        final AvgAggregator other = (AvgAggregator) slice;
+        final BigArrays bigArrays = context.bigArrays();
+        final CompensatedSum kahanSummation = new CompensatedSum(0, 0);
+        for (long i = 0; i < other.counts.size(); i++) {
+            final long bucket = owningBucketOrdMap.applyAsLong(i);
+            if (bucket == -1) {
+                continue;
+            }
+            counts = bigArrays.grow(counts, bucket + 1);
+            sums = bigArrays.grow(sums, bucket + 1);
+            compensations = bigArrays.grow(compensations, bucket + 1);
+            counts.increment(bucket, other.counts.get(i));
+            kahanSummation.reset(sums.get(bucket), compensations.get(bucket));
+            kahanSummation.add(other.sums.get(i), other.compensations.get(i));
+            sums.set(bucket, kahanSummation.value());
+            compensations.set(bucket, kahanSummation.delta());
+        }
+    }
+
     @Override
     public void doClose() {
         Releasables.close(counts, sums, compensations);
@@ -56,6 +56,7 @@ import org.opensearch.search.internal.SearchContext;
 import java.io.IOException;
 import java.util.Map;
 import java.util.function.Function;
+import java.util.function.LongUnaryOperator;
 
 class MaxAggregator extends NumericMetricsAggregator.SingleValue {
 
@@ -162,6 +163,32 @@ class MaxAggregator extends NumericMetricsAggregator.SingleValue {
         return new InternalMax(name, Double.NEGATIVE_INFINITY, formatter, metadata());
     }
 
+    @Override
+    public boolean supportsSliceMerge() {
+        return true;
+    }
+
+    @Override
+    public void mergeSlice(Aggregator slice, LongUnaryOperator owningBucketOrdMap) {
+        if (valuesSource == null) {
+            return;
+        }
+        final MaxAggregator other = (MaxAggregator) slice;
+        final BigArrays bigArrays = context.bigArrays();
+        for (long i = 0; i < other.maxes.size(); i++) {
+            final long bucket = owningBucketOrdMap.applyAsLong(i);
+            if (bucket == -1) {
+                continue;
+            }
+            if (bucket >= maxes.size()) {
+                long from = maxes.size();
+                maxes = bigArrays.grow(maxes, bucket + 1);
+                maxes.fill(from, maxes.size(), Double.NEGATIVE_INFINITY);
+            }
+            maxes.set(bucket, Math.max(maxes.get(bucket), other.maxes.get(i)));
+        }
+    }
+
     @Override
     public void doClose() {
         Releasables.close(maxes);
@@ -55,6 +55,7 @@ import org.opensearch.search.internal.SearchContext;
 import java.io.IOException;
 import java.util.Map;
 import java.util.function.Function;
+import java.util.function.LongUnaryOperator;
 
 class MinAggregator extends NumericMetricsAggregator.SingleValue {
     private static final int MAX_BKD_LOOKUPS = 1024;
@@ -162,6 +163,32 @@ class MinAggregator extends NumericMetricsAggregator.SingleValue {
         return new InternalMin(name, Double.POSITIVE_INFINITY, format, metadata());
     }
 
+    @Override
+    public boolean supportsSliceMerge() {
+        return true;
+    }
+
+    @Override
+    public void mergeSlice(Aggregator slice, LongUnaryOperator owningBucketOrdMap) {
+        if (valuesSource == null) {
+            return;
+        }
+        final MinAggregator other = (MinAggregator) slice;
+        final BigArrays bigArrays = context.bigArrays();
+        for (long i = 0; i < other.mins.size(); i++) {
+            final long bucket = owningBucketOrdMap.applyAsLong(i);
+            if (bucket == -1) {
+                continue;
+            }
+            if (bucket >= mins.size()) {
+                long from = mins.size();
+                mins = bigArrays.grow(mins, bucket + 1);
+                mins.fill(from, mins.size(), Double.POSITIVE_INFINITY);
+            }
+            mins.set(bucket, Math.min(mins.get(bucket), other.mins.get(i)));
+        }
+    }
+
     @Override
     public void doClose() {
         Releasables.close(mins);
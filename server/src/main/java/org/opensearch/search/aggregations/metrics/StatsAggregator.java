@@ -49,6 +49,7 @@ import org.opensearch.search.internal.SearchContext;
 
 import java.io.IOException;
 import java.util.Map;
+import java.util.function.LongUnaryOperator;
 
 class StatsAggregator extends NumericMetricsAggregator.MultiValue {
 
@@ -188,6 +189,45 @@ class StatsAggregator extends NumericMetricsAggregator.MultiValue {
         return new InternalStats(name, 0, 0, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, format, metadata());
     }
 
+    @Override
+    public boolean supportsSliceMerge() {
+        return true;
+    }
+
+    @Override
+    public void mergeSlice(Aggregator slice, LongUnaryOperator owningBucketOrdMap) {
+        if (valuesSource == null) {
+            return;
+        }
+        final StatsAggregator other = (StatsAggregator) slice;
+        final BigArrays bigArrays = context.bigArrays();
+        final CompensatedSum kahanSummation = new CompensatedSum(0, 0);
+        for (long i = 0; i < other.counts.size(); i++) {
+            final long bucket = owningBucketOrdMap.applyAsLong(i);
+            if (bucket == -1) {
+                continue;
+            }
+            if (bucket >= counts.size()) {
+                final long from = counts.size();
+                final long overSize = BigArrays.overSize(bucket + 1);
+                counts = bigArrays.resize(counts, overSize);
+                sums = bigArrays.resize(sums, overSize);
+                compensations = bigArrays.resize(compensations, overSize);
+                mins = bigArrays.resize(mins, overSize);
+                maxes = bigArrays.resize(maxes, overSize);
+                mins.fill(from, overSize, Double.POSITIVE_INFINITY);
+                maxes.fill(from, overSize, Double.NEGATIVE_INFINITY);
+            }
+            counts.increment(bucket, other.counts.get(i));
+            kahanSummation.reset(sums.get(bucket), compensations.get(bucket));
+            kahanSummation.add(other.sums.get(i), other.compensations.get(i));
+            sums.set(bucket, kahanSummation.value());
+            compensations.set(bucket, kahanSummation.delta());
+            mins.set(bucket, Math.min(mins.get(bucket), other.mins.get(i)));
+            maxes.set(bucket, Math.max(maxes.get(bucket), other.maxes.get(i)));
+        }
+    }
+
     @Override
     public void doClose() {
         Releasables.close(counts, maxes, mins, sums, compensations);
@@ -48,6 +48,7 @@ import org.opensearch.search.internal.SearchContext;
 
 import java.io.IOException;
 import java.util.Map;
+import java.util.function.LongUnaryOperator;
 
 public class SumAggregator extends NumericMetricsAggregator.SingleValue {
 
@@ -135,6 +136,33 @@ public class SumAggregator extends NumericMetricsAggregator.SingleValue {
         return new InternalSum(name, 0.0, format, metadata());
     }
 
+    @Override
+    public boolean supportsSliceMerge() {
+        return true;
+    }
+
+    @Override
+    public void mergeSlice(Aggregator slice, LongUnaryOperator owningBucketOrdMap) {
+        if (valuesSource == null) {
+            return;
+        }
+        final SumAggregator other = (SumAggregator) slice;
+        final BigArrays bigArrays = context.bigArrays();
+        final CompensatedSum kahanSummation = new CompensatedSum(0, 0);
+        for (long i = 0; i < other.sums.size(); i++) {
+            final long bucket = owningBucketOrdMap.applyAsLong(i);
+            if (bucket == -1) {
+                continue;
+            }
+            sums = bigArrays.grow(sums, bucket + 1);
+            compensations = bigArrays.grow(compensations, bucket + 1);
+            kahanSummation.reset(sums.get(bucket), compensations.get(bucket));
+            kahanSummation.add(other.sums.get(i), other.compensations.get(i));
+            sums.set(bucket, kahanSummation.value());
+            compensations.set(bucket, kahanSummation.delta());
+        }
+    }
+
     @Override
     public void doClose() {
         Releasables.close(sums, compensations);
@@ -49,6 +49,7 @@ import org.opensearch.search.internal.SearchContext;
 
 import java.io.IOException;
 import java.util.Map;
+import java.util.function.LongUnaryOperator;
 
 /**
  * A field data based aggregator that counts the number of values a specific field has within the aggregation context.
@@ -149,6 +150,28 @@ public class ValueCountAggregator extends NumericMetricsAggregator.SingleValue {
         return new InternalValueCount(name, 0L, metadata());
     }
 
+    @Override
+    public boolean supportsSliceMerge() {
+        return true;
+    }
+
+    @Override
+    public void mergeSlice(Aggregator slice, LongUnaryOperator owningBucketOrdMap) {
+        if (valuesSource == null) {
+            return;
+        }
+        final ValueCountAggregator other = (ValueCountAggregator) slice;
+        final BigArrays bigArrays = context.bigArrays();
+        for (long i = 0; i < other.counts.size(); i++) {
+            final long bucket = owningBucketOrdMap.applyAsLong(i);
+            if (bucket == -1) {
+                continue;
+            }
+            counts = bigArrays.grow(counts, bucket + 1);
+            counts.increment(bucket, other.counts.get(i));
+        }
+    }
+
     @Override
     public void doClose() {
         Releasables.close(counts);
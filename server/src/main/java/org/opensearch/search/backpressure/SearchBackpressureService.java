@@ -0,0 +1,290 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.backpressure;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.action.search.SearchShardTask;
+import org.opensearch.common.component.AbstractLifecycleComponent;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.monitor.process.ProcessProbe;
+import org.opensearch.tasks.CancellableTask;
+import org.opensearch.tasks.TaskManager;
+import org.opensearch.tasks.TaskResourceUsage;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryUsage;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Protects the node from the search requests that use most of its resources. It periodically checks whether the heap usage or the
+ * CPU usage of the node is above its threshold, and once it has been for a number of successive checks, cancels the search shard
+ * tasks that used the most CPU time and heap among those that exceed the per-task thresholds, a limited number at a time so that
+ * the node has time to recover before more tasks are cancelled.
+ * <p>
+ * The resource usage of the tasks is tracked by the {@link TaskManager}, see {@link TaskManager#startResourceTracking}.
+ */
+public class SearchBackpressureService extends AbstractLifecycleComponent {
+
+    private static final Logger logger = LogManager.getLogger(SearchBackpressureService.class);
+
+    /**
+     * What the service does when the node is in duress.
+     */
+    public enum Mode {
+        /**
+         * Nothing, the resource usage of the node is not even checked.
+         */
+        DISABLED,
+        /**
+         * Only logs and counts the tasks that would be cancelled, each of them once, separately from the cancelled tasks.
+         */
+        MONITOR_ONLY,
+        /**
+         * Cancels the tasks.
+         */
+        ENFORCED;
+
+        public static Mode fromString(String mode) {
+            return valueOf(mode.toUpperCase(Locale.ROOT));
+        }
+
+        @Override
+        public String toString() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    public static final Setting<Mode> MODE_SETTING =
+        new Setting<>("search_backpressure.mode", Mode.MONITOR_ONLY.toString(), Mode::fromString, Property.Dynamic, Property.NodeScope);
+    public static final Setting<TimeValue> INTERVAL_SETTING =
+        Setting.timeSetting("search_backpressure.interval", TimeValue.timeValueSeconds(1), TimeValue.timeValueMillis(1),
+            Property.NodeScope);
+    public static final Setting<Integer> NUM_SUCCESSIVE_BREACHES_SETTING =
+        Setting.intSetting("search_backpressure.node_duress.num_successive_breaches", 3, 1, Property.Dynamic, Property.NodeScope);
+    public static final Setting<Double> NODE_HEAP_THRESHOLD_SETTING =
+        Setting.doubleSetting("search_backpressure.node_duress.heap_threshold", 0.7, 0.0, 1.0, Property.Dynamic, Property.NodeScope);
+    public static final Setting<Double> NODE_CPU_THRESHOLD_SETTING =
+        Setting.doubleSetting("search_backpressure.node_duress.cpu_threshold", 0.9, 0.0, 1.0, Property.Dynamic, Property.NodeScope);
+    public static final Setting<TimeValue> TASK_CPU_TIME_THRESHOLD_SETTING =
+        Setting.timeSetting("search_backpressure.search_shard_task.cpu_time_threshold", TimeValue.timeValueSeconds(15),
+            TimeValue.timeValueMillis(1), Property.Dynamic, Property.NodeScope);
+    public static final Setting<ByteSizeValue> TASK_HEAP_THRESHOLD_SETTING =
+        Setting.memorySizeSetting("search_backpressure.search_shard_task.heap_threshold", "5%", Property.Dynamic, Property.NodeScope);
+    public static final Setting<Integer> MAX_CANCELLATIONS_PER_INTERVAL_SETTING =
+        Setting.intSetting("search_backpressure.max_cancellations_per_interval", 1, 1, Property.Dynamic, Property.NodeScope);
+
+    private final ThreadPool threadPool;
+    private final TaskManager taskManager;
+    private final TimeValue interval;
+    // the used fraction of the heap and of the CPU, negative if unknown
+    private final DoubleSupplier nodeHeapUsage;
+    private final DoubleSupplier nodeCpuUsage;
+
+    private volatile Mode mode;
+    private volatile int numSuccessiveBreaches;
+    private volatile double nodeHeapThreshold;
+    private volatile double nodeCpuThreshold;
+    private volatile TimeValue taskCpuTimeThreshold;
+    private volatile ByteSizeValue taskHeapThreshold;
+    private volatile int maxCancellationsPerInterval;
+
+    // only updated by the scheduled checks, which do not run concurrently
+    private volatile int successiveBreaches;
+    // the tasks that would have been cancelled in monitor only mode, so that they are reported and counted once
+    private final Set<Long> reportedTaskIds = new HashSet<>();
+    private final AtomicLong cancellationCount = new AtomicLong();
+    private final AtomicLong monitorOnlyCancellationCount = new AtomicLong();
+    private final AtomicLong limitReachedCount = new AtomicLong();
+    private volatile TaskResourceUsage lastCancelledTaskUsage;
+
+    private volatile Scheduler.Cancellable scheduledFuture;
+
+    public SearchBackpressureService(Settings settings, ClusterSettings clusterSettings, ThreadPool threadPool, TaskManager taskManager) {
+        this(settings, clusterSettings, threadPool, taskManager, SearchBackpressureService::heapUsage,
+            () -> ProcessProbe.getInstance().getProcessCpuPercent() / 100.0);
+    }
+
+    SearchBackpressureService(Settings settings, ClusterSettings clusterSettings, ThreadPool threadPool, TaskManager taskManager,
+                              DoubleSupplier nodeHeapUsage, DoubleSupplier nodeCpuUsage) {
+        this.threadPool = threadPool;
+        this.taskManager = taskManager;
+        this.interval = INTERVAL_SETTING.get(settings);
+        this.nodeHeapUsage = nodeHeapUsage;
+        this.nodeCpuUsage = nodeCpuUsage;
+        this.mode = MODE_SETTING.get(settings);
+        this.numSuccessiveBreaches = NUM_SUCCESSIVE_BREACHES_SETTING.get(settings);
+        this.nodeHeapThreshold = NODE_HEAP_THRESHOLD_SETTING.get(settings);
+        this.nodeCpuThreshold = NODE_CPU_THRESHOLD_SETTING.get(settings);
+        this.taskCpuTimeThreshold = TASK_CPU_TIME_THRESHOLD_SETTING.get(settings);
+        this.taskHeapThreshold = TASK_HEAP_THRESHOLD_SETTING.get(settings);
+        this.maxCancellationsPerInterval = MAX_CANCELLATIONS_PER_INTERVAL_SETTING.get(settings);
+        clusterSettings.addSettingsUpdateConsumer(MODE_SETTING, this::setMode);
+        clusterSettings.addSettingsUpdateConsumer(NUM_SUCCESSIVE_BREACHES_SETTING, this::setNumSuccessiveBreaches);
+        clusterSettings.addSettingsUpdateConsumer(NODE_HEAP_THRESHOLD_SETTING, this::setNodeHeapThreshold);
+        clusterSettings.addSettingsUpdateConsumer(NODE_CPU_THRESHOLD_SETTING, this::setNodeCpuThreshold);
+        clusterSettings.addSettingsUpdateConsumer(TASK_CPU_TIME_THRESHOLD_SETTING, this::setTaskCpuTimeThreshold);
+        clusterSettings.addSettingsUpdateConsumer(TASK_HEAP_THRESHOLD_SETTING, this::setTaskHeapThreshold);
+        clusterSettings.addSettingsUpdateConsumer(MAX_CANCELLATIONS_PER_INTERVAL_SETTING, this::setMaxCancellationsPerInterval);
+    }
+
+    private static double heapUsage() {
+        final MemoryMXBean memoryMXBean = ManagementFactory.getMemoryMXBean();
+        final MemoryUsage heap = memoryMXBean.getHeapMemoryUsage();
+        return heap.getMax() > 0 ? (double) heap.getUsed() / heap.getMax() : -1;
+    }
+
+    @Override
+    protected void doStart() {
+        scheduledFuture = threadPool.scheduleWithFixedDelay(() -> {
+            try {
+                doRun();
+            } catch (Exception e) {
+                logger.warn("search backpressure check failed", e);
+            }
+        }, interval, ThreadPool.Names.GENERIC);
+    }
+
+    @Override
+    protected void doStop() {
+        scheduledFuture.cancel();
+    }
+
+    @Override
+    protected void doClose() {
+    }
+
+    void doRun() {
+        final Mode mode = this.mode;
+        final Map<Long, CancellableTask> tasks = taskManager.getCancellableTasks();
+        reportedTaskIds.retainAll(tasks.keySet());
+        if (mode == Mode.DISABLED) {
+            successiveBreaches = 0;
+            return;
+        }
+        final double heapUsage = nodeHeapUsage.getAsDouble();
+        final double cpuUsage = nodeCpuUsage.getAsDouble();
+        if (heapUsage >= nodeHeapThreshold || cpuUsage >= nodeCpuThreshold) {
+            successiveBreaches++;
+        } else {
+            successiveBreaches = 0;
+        }
+        if (successiveBreaches < numSuccessiveBreaches) {
+            return;
+        }
+
+        final long cpuTimeThreshold = taskCpuTimeThreshold.nanos();
+        final long heapThreshold = taskHeapThreshold.getBytes();
+        final List<Candidate> candidates = new ArrayList<>();
+        for (CancellableTask task : tasks.values()) {
+            if (task instanceof SearchShardTask && task.isCancelled() == false) {
+                final TaskResourceUsage usage = taskManager.getResourceUsage(task);
+                if (usage.getCpuTimeNanos() >= cpuTimeThreshold || usage.getAllocatedBytes() >= heapThreshold) {
+                    if (mode == Mode.MONITOR_ONLY && reportedTaskIds.contains(task.getId())) {
+                        // it would have been cancelled by a previous check already
+                        logger.debug("task [{}] with description [{}] would already have been cancelled if search backpressure was "
+                            + "enforced", task.getId(), task.getDescription());
+                        continue;
+                    }
+                    final double score = (double) usage.getCpuTimeNanos() / cpuTimeThreshold
+                        + (double) usage.getAllocatedBytes() / heapThreshold;
+                    candidates.add(new Candidate(task, usage, score));
+                }
+            }
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+        candidates.sort(Comparator.comparingDouble((Candidate candidate) -> candidate.score).reversed());
+        final int maxCancellations = maxCancellationsPerInterval;
+        if (candidates.size() > maxCancellations) {
+            limitReachedCount.addAndGet(candidates.size() - maxCancellations);
+        }
+        for (Candidate candidate : candidates.subList(0, Math.min(maxCancellations, candidates.size()))) {
+            final String reason = String.format(Locale.ROOT,
+                "cancelled by search backpressure: heap usage [%.2f], cpu usage [%.2f] for [%d] checks, task cpu time [%s], "
+                    + "task heap allocations [%s]",
+                heapUsage, cpuUsage, successiveBreaches,
+                TimeValue.timeValueNanos(candidate.usage.getCpuTimeNanos()), new ByteSizeValue(candidate.usage.getAllocatedBytes()));
+            if (mode == Mode.ENFORCED) {
+                logger.warn("cancelling task [{}] with description [{}]: {}", candidate.task.getId(), candidate.task.getDescription(),
+                    reason);
+                taskManager.cancel(candidate.task, reason, () -> {});
+                cancellationCount.incrementAndGet();
+                lastCancelledTaskUsage = candidate.usage;
+            } else {
+                logger.info("would cancel task [{}] with description [{}] if search backpressure was enforced: {}",
+                    candidate.task.getId(), candidate.task.getDescription(), reason);
+                reportedTaskIds.add(candidate.task.getId());
+                monitorOnlyCancellationCount.incrementAndGet();
+            }
+        }
+    }
+
+    public SearchBackpressureStats stats() {
+        return new SearchBackpressureStats(mode, successiveBreaches >= numSuccessiveBreaches, cancellationCount.get(),
+            monitorOnlyCancellationCount.get(), limitReachedCount.get(), lastCancelledTaskUsage);
+    }
+
+    private void setMode(Mode mode) {
+        this.mode = mode;
+    }
+
+    private void setNumSuccessiveBreaches(int numSuccessiveBreaches) {
+        this.numSuccessiveBreaches = numSuccessiveBreaches;
+    }
+
+    private void setNodeHeapThreshold(double nodeHeapThreshold) {
+        this.nodeHeapThreshold = nodeHeapThreshold;
+    }
+
+    private void setNodeCpuThreshold(double nodeCpuThreshold) {
+        this.nodeCpuThreshold = nodeCpuThreshold;
+    }
+
+    private void setTaskCpuTimeThreshold(TimeValue taskCpuTimeThreshold) {
+        this.taskCpuTimeThreshold = taskCpuTimeThreshold;
+    }
+
+    private void setTaskHeapThreshold(ByteSizeValue taskHeapThreshold) {
+        this.taskHeapThreshold = taskHeapThreshold;
+    }
+
+    private void setMaxCancellationsPerInterval(int maxCancellationsPerInterval) {
+        this.maxCancellationsPerInterval = maxCancellationsPerInterval;
+    }
+
+    private static final class Candidate {
+        private final CancellableTask task;
+        private final TaskResourceUsage usage;
+        private final double score;
+
+        private Candidate(CancellableTask task, TaskResourceUsage usage, double score) {
+            this.task = task;
+            this.usage = usage;
+            this.score = score;
+        }
+    }
+}
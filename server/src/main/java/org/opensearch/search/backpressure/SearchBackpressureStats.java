@@ -0,0 +1,123 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.backpressure;
+
+import org.opensearch.common.Nullable;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.xcontent.ToXContentFragment;
+import org.opensearch.common.xcontent.XContentBuilder;
+import org.opensearch.tasks.TaskResourceUsage;
+
+import java.io.IOException;
+
+/**
+ * The statistics of the {@link SearchBackpressureService} of a node.
+ */
+public class SearchBackpressureStats implements Writeable, ToXContentFragment {
+
+    private final SearchBackpressureService.Mode mode;
+    private final boolean inDuress;
+    private final long cancellationCount;
+    private final long monitorOnlyCancellationCount;
+    private final long limitReachedCount;
+    @Nullable
+    private final TaskResourceUsage lastCancelledTaskUsage;
+
+    public SearchBackpressureStats(SearchBackpressureService.Mode mode, boolean inDuress, long cancellationCount,
+                                   long monitorOnlyCancellationCount, long limitReachedCount,
+                                   @Nullable TaskResourceUsage lastCancelledTaskUsage) {
+        this.mode = mode;
+        this.inDuress = inDuress;
+        this.cancellationCount = cancellationCount;
+        this.monitorOnlyCancellationCount = monitorOnlyCancellationCount;
+        this.limitReachedCount = limitReachedCount;
+        this.lastCancelledTaskUsage = lastCancelledTaskUsage;
+    }
+
+    public SearchBackpressureStats(StreamInput in) throws IOException {
+        mode = in.readEnum(SearchBackpressureService.Mode.class);
+        inDuress = in.readBoolean();
+        cancellationCount = in.readVLong();
+        monitorOnlyCancellationCount = in.readVLong();
+        limitReachedCount = in.readVLong();
+        lastCancelledTaskUsage = in.readOptionalWriteable(TaskResourceUsage::new);
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeEnum(mode);
+        out.writeBoolean(inDuress);
+        out.writeVLong(cancellationCount);
+        out.writeVLong(monitorOnlyCancellationCount);
+        out.writeVLong(limitReachedCount);
+        out.writeOptionalWriteable(lastCancelledTaskUsage);
+    }
+
+    public SearchBackpressureService.Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Whether the resource usage of the node was above its thresholds for enough successive checks at the last check.
+     */
+    public boolean isInDuress() {
+        return inDuress;
+    }
+
+    /**
+     * The number of search shard tasks that were cancelled.
+     */
+    public long getCancellationCount() {
+        return cancellationCount;
+    }
+
+    /**
+     * The number of search shard tasks that would have been cancelled if search backpressure was enforced, in
+     * {@link SearchBackpressureService.Mode#MONITOR_ONLY monitor only} mode.
+     */
+    public long getMonitorOnlyCancellationCount() {
+        return monitorOnlyCancellationCount;
+    }
+
+    /**
+     * The number of search shard tasks that were eligible for cancellation, but were not cancelled because enough tasks were
+     * cancelled during the same check already.
+     */
+    public long getLimitReachedCount() {
+        return limitReachedCount;
+    }
+
+    @Nullable
+    public TaskResourceUsage getLastCancelledTaskUsage() {
+        return lastCancelledTaskUsage;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject("search_backpressure");
+        builder.field("mode", mode.toString());
+        builder.startObject("node_duress");
+        builder.field("in_duress", inDuress);
+        builder.endObject();
+        builder.startObject("search_shard_task");
+        builder.field("cancellation_count", cancellationCount);
+        builder.field("monitor_only_cancellation_count", monitorOnlyCancellationCount);
+        builder.field("limit_reached_count", limitReachedCount);
+        if (lastCancelledTaskUsage != null) {
+            builder.startObject("last_cancelled_task");
+            lastCancelledTaskUsage.toXContent(builder, params);
+            builder.endObject();
+        }
+        builder.endObject();
+        builder.endObject();
+        return builder;
+    }
+}
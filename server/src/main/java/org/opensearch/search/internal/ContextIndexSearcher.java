@@ -62,6 +62,8 @@ import org.apache.lucene.util.BitSetIterator;
 import org.apache.lucene.util.Bits;
 import org.apache.lucene.util.CombinedBitSet;
 import org.apache.lucene.util.SparseFixedBitSet;
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
 import org.opensearch.search.DocValueFormat;
@@ -76,10 +78,15 @@ import org.opensearch.search.query.QuerySearchResult;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Context-aware extension of {@link IndexSearcher}.
@@ -91,25 +98,58 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
      */
     private static int CHECK_CANCELLED_SCORER_INTERVAL = 1 << 11;
 
+    /**
+     * The maximum number of documents and segments that are grouped into a single leaf slice when searching concurrently.
+     * These are the same limits as the ones Lucene uses to slice the leaves of an {@link IndexSearcher} created with an executor.
+     */
+    static final int MAX_DOCS_PER_SLICE = 250_000;
+    static final int MAX_SEGMENTS_PER_SLICE = 5;
+
+    /**
+     * Marks the threads that are currently searching a leaf slice so that nested searches run sequentially instead of
+     * waiting on the (possibly saturated) executor that they are running on.
+     */
+    private static final ThreadLocal<Boolean> SEARCHING_SLICE = ThreadLocal.withInitial(() -> false);
+
     private AggregatedDfs aggregatedDfs;
     private QueryProfiler profiler;
     private MutableQueryTimeout cancellable;
+    private final Executor executor;
 
     public ContextIndexSearcher(IndexReader reader, Similarity similarity,
                                 QueryCache queryCache, QueryCachingPolicy queryCachingPolicy,
                                 boolean wrapWithExitableDirectoryReader) throws IOException {
-        this(reader, similarity, queryCache, queryCachingPolicy, new MutableQueryTimeout(), wrapWithExitableDirectoryReader);
+        this(reader, similarity, queryCache, queryCachingPolicy, wrapWithExitableDirectoryReader, null);
+    }
+
+    /**
+     * Creates a searcher that searches the leaf slices of the reader concurrently on the provided <code>executor</code>
+     * when a {@link CollectorManager} is used to collect the results, or sequentially if the executor is <code>null</code>.
+     */
+    public ContextIndexSearcher(IndexReader reader, Similarity similarity,
+                                QueryCache queryCache, QueryCachingPolicy queryCachingPolicy,
+                                boolean wrapWithExitableDirectoryReader, @Nullable Executor executor) throws IOException {
+        this(reader, similarity, queryCache, queryCachingPolicy, new MutableQueryTimeout(), wrapWithExitableDirectoryReader, executor);
     }
 
     private ContextIndexSearcher(IndexReader reader, Similarity similarity,
                                  QueryCache queryCache, QueryCachingPolicy queryCachingPolicy,
                                  MutableQueryTimeout cancellable,
-                                 boolean wrapWithExitableDirectoryReader) throws IOException {
+                                 boolean wrapWithExitableDirectoryReader,
+                                 Executor executor) throws IOException {
         super(wrapWithExitableDirectoryReader ? new ExitableDirectoryReader((DirectoryReader) reader, cancellable) : reader);
         setSimilarity(similarity);
         setQueryCache(queryCache);
         setQueryCachingPolicy(queryCachingPolicy);
         this.cancellable = cancellable;
+        this.executor = executor;
+    }
+
+    /**
+     * Returns <code>true</code> if this searcher searches leaf slices concurrently when a {@link CollectorManager} is used.
+     */
+    public boolean isConcurrentSegmentSearchEnabled() {
+        return executor != null;
     }
 
     public void setProfiler(QueryProfiler profiler) {
@@ -189,10 +229,20 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
     public void search(List<LeafReaderContext> leaves, Weight weight, CollectorManager manager,
             QuerySearchResult result, DocValueFormat[] formats, TotalHits totalHits) throws IOException {
         final List<Collector> collectors = new ArrayList<>(leaves.size());
-        for (LeafReaderContext ctx : leaves) {
-            final Collector collector = manager.newCollector();
-            searchLeaf(ctx, weight, collector);
-            collectors.add(collector);
+        if (isConcurrentSegmentSearchEnabled() && leaves.size() > 1) {
+            final List<List<LeafReaderContext>> slices = new ArrayList<>();
+            // the slices keep the order of the provided leaves since it is used to optimize the sort
+            for (LeafSlice slice : sliceLeaves(leaves)) {
+                slices.add(Arrays.asList(slice.leaves));
+                collectors.add(manager.newCollector());
+            }
+            searchSlices(slices, weight, collectors);
+        } else {
+            for (LeafReaderContext ctx : leaves) {
+                final Collector collector = manager.newCollector();
+                searchLeaf(ctx, weight, collector);
+                collectors.add(collector);
+            }
         }
         TopFieldDocs mergedTopDocs = (TopFieldDocs) manager.reduce(collectors);
         // Lucene sets shards indexes during merging of topDocs from different collectors
@@ -206,6 +256,93 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
         result.topDocs(new TopDocsAndMaxScore(mergedTopDocs, Float.NaN), formats);
     }
 
+    /**
+     * Searches the provided <code>query</code> with one collector per leaf slice. The slices are searched concurrently
+     * if concurrent segment search is enabled, and all the leaves are searched with a single collector otherwise.
+     * Unlike {@link IndexSearcher}, exceptions thrown while searching a slice are rethrown unwrapped once all the slices are done.
+     */
+    @Override
+    public <C extends Collector, T> T search(Query query, CollectorManager<C, T> collectorManager) throws IOException {
+        final List<LeafReaderContext> leaves = getIndexReader().leaves();
+        if (isConcurrentSegmentSearchEnabled() == false || leaves.size() <= 1 || SEARCHING_SLICE.get()) {
+            final C collector = collectorManager.newCollector();
+            search(query, collector);
+            return collectorManager.reduce(Collections.singletonList(collector));
+        }
+        final LeafSlice[] leafSlices = sliceLeaves(leaves);
+        final List<List<LeafReaderContext>> slices = new ArrayList<>(leafSlices.length);
+        final List<C> collectors = new ArrayList<>(leafSlices.length);
+        ScoreMode scoreMode = null;
+        for (LeafSlice slice : leafSlices) {
+            slices.add(Arrays.asList(slice.leaves));
+            final C collector = collectorManager.newCollector();
+            collectors.add(collector);
+            if (scoreMode == null) {
+                scoreMode = collector.scoreMode();
+            } else if (scoreMode != collector.scoreMode()) {
+                throw new IllegalStateException("CollectorManager does not always produce collectors with the same score mode");
+            }
+        }
+        final Weight weight = createWeight(rewrite(query), scoreMode, 1);
+        searchSlices(slices, weight, collectors);
+        return collectorManager.reduce(collectors);
+    }
+
+    /**
+     * Searches each slice of leaves with its own collector. All slices but the last one are submitted to the executor while the
+     * calling thread searches the last slice, and then waits for the other slices to complete.
+     */
+    private void searchSlices(List<List<LeafReaderContext>> slices, Weight weight, List<? extends Collector> collectors)
+            throws IOException {
+        assert slices.size() == collectors.size();
+        final List<FutureTask<Void>> tasks = new ArrayList<>(slices.size());
+        for (int i = 0; i < slices.size(); i++) {
+            final List<LeafReaderContext> slice = slices.get(i);
+            final Collector collector = collectors.get(i);
+            tasks.add(new FutureTask<>(() -> {
+                final boolean nested = SEARCHING_SLICE.get();
+                SEARCHING_SLICE.set(true);
+                try {
+                    search(slice, weight, collector);
+                } finally {
+                    SEARCHING_SLICE.set(nested);
+                }
+                return null;
+            }));
+        }
+        for (int i = 0; i < tasks.size() - 1; i++) {
+            try {
+                executor.execute(tasks.get(i));
+            } catch (RejectedExecutionException e) {
+                // the executor is saturated, search the slice on the calling thread instead
+                tasks.get(i).run();
+            }
+        }
+        tasks.get(tasks.size() - 1).run();
+
+        Throwable failure = null;
+        for (FutureTask<Void> task : tasks) {
+            try {
+                task.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure = ExceptionsHelper.useOrSuppress(failure, e);
+            } catch (ExecutionException e) {
+                failure = ExceptionsHelper.useOrSuppress(failure, e.getCause());
+            }
+        }
+        if (failure != null) {
+            if (failure instanceof IOException) {
+                throw (IOException) failure;
+            } else if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            } else if (failure instanceof Error) {
+                throw (Error) failure;
+            }
+            throw new IllegalStateException("failed to search leaf slices", failure);
+        }
+    }
+
     @Override
     protected void search(List<LeafReaderContext> leaves, Weight weight, Collector collector) throws IOException {
         for (LeafReaderContext ctx : leaves) { // search each subreader
@@ -213,6 +350,40 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
         }
     }
 
+    /**
+     * Groups the provided leaves into slices that can be searched concurrently, using the same limits as Lucene. Unlike Lucene,
+     * the slices are made of contiguous leaves, in the provided order, so that merging the top docs of the slices in order
+     * breaks ties the same way as a sequential search does.
+     */
+    static LeafSlice[] sliceLeaves(List<LeafReaderContext> leaves) {
+        final List<LeafSlice> slices = new ArrayList<>();
+        final List<LeafReaderContext> group = new ArrayList<>();
+        long docSum = 0;
+        for (LeafReaderContext ctx : leaves) {
+            if (ctx.reader().maxDoc() > MAX_DOCS_PER_SLICE) {
+                // big segments are searched on their own
+                if (group.isEmpty() == false) {
+                    slices.add(new LeafSlice(group.toArray(new LeafReaderContext[0])));
+                    group.clear();
+                    docSum = 0;
+                }
+                slices.add(new LeafSlice(new LeafReaderContext[] { ctx }));
+            } else {
+                group.add(ctx);
+                docSum += ctx.reader().maxDoc();
+                if (group.size() >= MAX_SEGMENTS_PER_SLICE || docSum > MAX_DOCS_PER_SLICE) {
+                    slices.add(new LeafSlice(group.toArray(new LeafReaderContext[0])));
+                    group.clear();
+                    docSum = 0;
+                }
+            }
+        }
+        if (group.isEmpty() == false) {
+            slices.add(new LeafSlice(group.toArray(new LeafReaderContext[0])));
+        }
+        return slices.toArray(new LeafSlice[0]);
+    }
+
     /**
      * Lower-level search API.
      *
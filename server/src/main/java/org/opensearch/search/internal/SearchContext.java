@@ -33,6 +33,7 @@ package org.opensearch.search.internal;
 
 
 import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.CollectorManager;
 import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.Query;
 import org.opensearch.action.search.SearchShardTask;
@@ -67,6 +68,7 @@ import org.opensearch.search.fetch.subphase.ScriptFieldsContext;
 import org.opensearch.search.fetch.subphase.highlight.SearchHighlightContext;
 import org.opensearch.search.profile.Profilers;
 import org.opensearch.search.query.QuerySearchResult;
+import org.opensearch.search.query.ReduceableSearchResult;
 import org.opensearch.search.rescore.RescoreContext;
 import org.opensearch.search.sort.SortAndFormats;
 import org.opensearch.search.suggest.SuggestionSearchContext;
@@ -394,6 +396,26 @@ public abstract class SearchContext implements Releasable {
     /** Return a view of the additional query collectors that should be run for this context. */
     public abstract Map<Class<?>, Collector> queryCollectors();
 
+    /**
+     * Return a view of the additional query collector managers that should be run for this context when
+     * the leaves are searched concurrently, see {@link #shouldUseConcurrentSearch()}.
+     */
+    public abstract Map<Class<?>, CollectorManager<? extends Collector, ReduceableSearchResult>> queryCollectorManagers();
+
+    /**
+     * Returns <code>true</code> if the leaf slices of the shard should be searched concurrently. Profiling,
+     * scrolling, field collapsing, <code>terminate_after</code> and additional query collectors require
+     * the leaves to be searched sequentially.
+     */
+    public boolean shouldUseConcurrentSearch() {
+        return searcher().isConcurrentSegmentSearchEnabled()
+            && getProfilers() == null
+            && scrollContext() == null
+            && collapse() == null
+            && terminateAfter() == DEFAULT_TERMINATE_AFTER
+            && queryCollectors().isEmpty();
+    }
+
     public abstract QueryShardContext getQueryShardContext();
 
     @Override
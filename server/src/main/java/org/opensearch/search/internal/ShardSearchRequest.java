@@ -33,6 +33,7 @@
 package org.opensearch.search.internal;
 
 import org.opensearch.LegacyESVersion;
+import org.opensearch.Version;
 import org.opensearch.action.IndicesRequest;
 import org.opensearch.action.OriginalIndices;
 import org.opensearch.action.search.SearchRequest;
@@ -89,6 +90,7 @@ public class ShardSearchRequest extends TransportRequest implements IndicesReque
     private final String[] types;
     private final float indexBoost;
     private final Boolean requestCache;
+    private final Boolean concurrentSegmentSearch;
     private final long nowInMillis;
     private final boolean allowPartialSearchResults;
     private final String[] indexRoutings;
@@ -96,6 +98,7 @@ public class ShardSearchRequest extends TransportRequest implements IndicesReque
     private final OriginalIndices originalIndices;
 
     private boolean canReturnNullResponseIfMatchNoDocs;
+    private boolean includeShardGeneration;
     private SearchSortValuesAndFormats bottomSortValues;
 
     //these are the only mutable fields, as they are subject to rewriting
@@ -135,6 +138,7 @@ public class ShardSearchRequest extends TransportRequest implements IndicesReque
             searchRequest.source(),
             searchRequest.types(),
             searchRequest.requestCache(),
+            searchRequest.concurrentSegmentSearch(),
             aliasFilter,
             indexBoost,
             searchRequest.allowPartialSearchResults(),
@@ -155,7 +159,7 @@ public class ShardSearchRequest extends TransportRequest implements IndicesReque
                               long nowInMillis,
                               AliasFilter aliasFilter) {
         this(OriginalIndices.NONE, shardId, -1, SearchType.QUERY_THEN_FETCH, null, types,
-            null, aliasFilter, 1.0f, false, Strings.EMPTY_ARRAY, null, null, nowInMillis, null, null, null);
+            null, null, aliasFilter, 1.0f, false, Strings.EMPTY_ARRAY, null, null, nowInMillis, null, null, null);
     }
 
     private ShardSearchRequest(OriginalIndices originalIndices,
@@ -165,6 +169,7 @@ public class ShardSearchRequest extends TransportRequest implements IndicesReque
                                SearchSourceBuilder source,
                                String[] types,
                                Boolean requestCache,
+                               Boolean concurrentSegmentSearch,
                                AliasFilter aliasFilter,
                                float indexBoost,
                                boolean allowPartialSearchResults,
@@ -181,6 +186,7 @@ public class ShardSearchRequest extends TransportRequest implements IndicesReque
         this.source = source;
         this.types = types;
         this.requestCache = requestCache;
+        this.concurrentSegmentSearch = concurrentSegmentSearch;
         this.aliasFilter = aliasFilter;
         this.indexBoost = indexBoost;
         this.allowPartialSearchResults = allowPartialSearchResults;
@@ -236,6 +242,13 @@ public class ShardSearchRequest extends TransportRequest implements IndicesReque
             this.readerId = null;
             this.keepAlive = null;
         }
+        if (in.getVersion().onOrAfter(Version.V_1_1_0)) {
+            concurrentSegmentSearch = in.readOptionalBoolean();
+            includeShardGeneration = in.readBoolean();
+        } else {
+            concurrentSegmentSearch = null;
+            includeShardGeneration = false;
+        }
         originalIndices = OriginalIndices.readOriginalIndices(in);
         assert keepAlive == null || readerId != null : "readerId: " + readerId + " keepAlive: " + keepAlive;
     }
@@ -251,11 +264,13 @@ public class ShardSearchRequest extends TransportRequest implements IndicesReque
         this.indexBoost = clone.indexBoost;
         this.nowInMillis = clone.nowInMillis;
         this.requestCache = clone.requestCache;
+        this.concurrentSegmentSearch = clone.concurrentSegmentSearch;
         this.clusterAlias = clone.clusterAlias;
         this.allowPartialSearchResults = clone.allowPartialSearchResults;
         this.indexRoutings = clone.indexRoutings;
         this.preference = clone.preference;
         this.canReturnNullResponseIfMatchNoDocs = clone.canReturnNullResponseIfMatchNoDocs;
+        this.includeShardGeneration = clone.includeShardGeneration;
         this.bottomSortValues = clone.bottomSortValues;
         this.originalIndices = clone.originalIndices;
         this.readerId = clone.readerId;
@@ -304,6 +319,10 @@ public class ShardSearchRequest extends TransportRequest implements IndicesReque
             out.writeOptionalWriteable(readerId);
             out.writeOptionalTimeValue(keepAlive);
         }
+        if (out.getVersion().onOrAfter(Version.V_1_1_0) && asKey == false) {
+            out.writeOptionalBoolean(concurrentSegmentSearch);
+            out.writeBoolean(includeShardGeneration);
+        }
     }
 
     @Override
@@ -366,6 +385,14 @@ public class ShardSearchRequest extends TransportRequest implements IndicesReque
         return requestCache;
     }
 
+    /**
+     * Returns whether the leaves of the shard should be searched concurrently, or <code>null</code>
+     * if the index level setting should be used.
+     */
+    public Boolean concurrentSegmentSearch() {
+        return concurrentSegmentSearch;
+    }
+
     public boolean allowPartialSearchResults() {
         return allowPartialSearchResults;
     }
@@ -409,6 +436,18 @@ public class ShardSearchRequest extends TransportRequest implements IndicesReque
         this.canReturnNullResponseIfMatchNoDocs = value;
     }
 
+    /**
+     * Returns true if the can match phase should report the generation of the shard reader when the response of the request can be
+     * cached on the coordinating node.
+     */
+    public boolean includeShardGeneration() {
+        return includeShardGeneration;
+    }
+
+    public void includeShardGeneration(boolean value) {
+        this.includeShardGeneration = value;
+    }
+
     private static final ThreadLocal<BytesStreamOutput> scratch = ThreadLocal.withInitial(BytesStreamOutput::new);
 
     /**
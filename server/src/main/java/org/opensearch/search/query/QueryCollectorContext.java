@@ -33,6 +33,7 @@
 package org.opensearch.search.query;
 
 import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.CollectorManager;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.MultiCollector;
 import org.apache.lucene.search.Query;
@@ -78,6 +79,26 @@ abstract class QueryCollectorContext {
      */
     abstract Collector create(Collector in) throws IOException;
 
+    /**
+     * Creates a collector manager that wraps each collector created by the provided <code>in</code> manager, one per leaf slice,
+     * when the leaves are searched concurrently. The default implementation calls {@link #create(Collector)} for each slice
+     * so it must be overridden by contexts that keep a state per collector.
+     * @param in The delegate collector manager
+     */
+    QueryCollectorManager createManager(QueryCollectorManager in) throws IOException {
+        return new QueryCollectorManager() {
+            @Override
+            public Collector newCollector() throws IOException {
+                return create(in.newCollector());
+            }
+
+            @Override
+            ReduceableSearchResult reduce() throws IOException {
+                return in.reduce();
+            }
+        };
+    }
+
     /**
      * Wraps this collector with a profiler
      */
@@ -105,6 +126,18 @@ abstract class QueryCollectorContext {
         return collector;
     }
 
+    /**
+     * Creates the collector manager tree from the provided <code>collectors</code>
+     * @param collectors Ordered list of collector context
+     */
+    static QueryCollectorManager createQueryCollectorManager(List<QueryCollectorContext> collectors) throws IOException {
+        QueryCollectorManager manager = null;
+        for (QueryCollectorContext ctx : collectors) {
+            manager = ctx.createManager(manager);
+        }
+        return manager;
+    }
+
     /**
      * Creates the collector tree from the provided <code>collectors</code> and wraps each collector with a profiler
      * @param collectors Ordered list of collector context
@@ -172,6 +205,52 @@ abstract class QueryCollectorContext {
         };
     }
 
+    /**
+     * Creates a multi collector manager from the provided <code>subs</code>. The returned context can
+     * only be used when the leaves are searched concurrently.
+     */
+    static QueryCollectorContext createMultiCollectorManagerContext(
+            Collection<CollectorManager<? extends Collector, ReduceableSearchResult>> subs) {
+        return new QueryCollectorContext(REASON_SEARCH_MULTI) {
+            @Override
+            Collector create(Collector in) {
+                throw new UnsupportedOperationException("collector managers can only be used to search leaf slices concurrently");
+            }
+
+            @Override
+            QueryCollectorManager createManager(QueryCollectorManager in) {
+                final List<QueryCollectorManager> managers = new ArrayList<>();
+                managers.add(in);
+                for (CollectorManager<? extends Collector, ReduceableSearchResult> sub : subs) {
+                    managers.add(QueryCollectorManager.wrap(sub));
+                }
+                return new QueryCollectorManager() {
+                    @Override
+                    public Collector newCollector() throws IOException {
+                        final List<Collector> subCollectors = new ArrayList<>(managers.size());
+                        for (QueryCollectorManager manager : managers) {
+                            subCollectors.add(manager.newCollector());
+                        }
+                        return MultiCollector.wrap(subCollectors);
+                    }
+
+                    @Override
+                    ReduceableSearchResult reduce() throws IOException {
+                        final List<ReduceableSearchResult> results = new ArrayList<>(managers.size());
+                        for (QueryCollectorManager manager : managers) {
+                            results.add(manager.reduce());
+                        }
+                        return result -> {
+                            for (ReduceableSearchResult reduced : results) {
+                                reduced.reduce(result);
+                            }
+                        };
+                    }
+                };
+            }
+        };
+    }
+
     /**
      * Creates collector limiting the collection to the first <code>numHits</code> documents
      */
@@ -193,6 +272,11 @@ abstract class QueryCollectorContext {
                 this.collector = MultiCollector.wrap(subCollectors);
                 return collector;
             }
+
+            @Override
+            QueryCollectorManager createManager(QueryCollectorManager in) {
+                throw new UnsupportedOperationException("terminate_after requires the leaves to be searched sequentially");
+            }
         };
     }
 }
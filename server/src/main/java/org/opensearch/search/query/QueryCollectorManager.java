@@ -0,0 +1,55 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.query;
+
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.CollectorManager;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A {@link CollectorManager} used by the query phase when the leaves of a shard are searched concurrently.
+ * Implementations keep track of the collectors they create so that the collectors that they wrap can be
+ * reduced by their own manager, and so that partial results can be reduced if the search is interrupted.
+ */
+abstract class QueryCollectorManager implements CollectorManager<Collector, ReduceableSearchResult> {
+
+    @Override
+    public final ReduceableSearchResult reduce(Collection<Collector> collectors) throws IOException {
+        return reduce();
+    }
+
+    /**
+     * Reduces all the collectors that were created by this manager so far.
+     */
+    abstract ReduceableSearchResult reduce() throws IOException;
+
+    /**
+     * Adapts a generic {@link CollectorManager} so that it keeps track of the collectors it creates.
+     */
+    static <C extends Collector> QueryCollectorManager wrap(CollectorManager<C, ReduceableSearchResult> manager) {
+        final List<C> collectors = new ArrayList<>();
+        return new QueryCollectorManager() {
+            @Override
+            public Collector newCollector() throws IOException {
+                final C collector = manager.newCollector();
+                collectors.add(collector);
+                return collector;
+            }
+
+            @Override
+            ReduceableSearchResult reduce() throws IOException {
+                return manager.reduce(collectors);
+            }
+        };
+    }
+}
@@ -71,6 +71,7 @@ import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.SearchContextSourcePrinter;
 import org.opensearch.search.SearchService;
+import org.opensearch.search.SearchSortValuesAndFormats;
 import org.opensearch.search.aggregations.AggregationPhase;
 import org.opensearch.search.internal.ContextIndexSearcher;
 import org.opensearch.search.internal.ScrollContext;
@@ -79,6 +80,7 @@ import org.opensearch.search.profile.ProfileShardResult;
 import org.opensearch.search.profile.SearchProfileShardResults;
 import org.opensearch.search.profile.query.InternalProfileCollector;
 import org.opensearch.search.rescore.RescorePhase;
+import org.opensearch.search.sort.FieldSortBuilder;
 import org.opensearch.search.sort.SortAndFormats;
 import org.opensearch.search.suggest.SuggestPhase;
 import org.opensearch.tasks.TaskCancelledException;
@@ -97,6 +99,7 @@ import static org.opensearch.search.query.QueryCollectorContext.createEarlyTermi
 import static org.opensearch.search.query.QueryCollectorContext.createFilteredCollectorContext;
 import static org.opensearch.search.query.QueryCollectorContext.createMinScoreCollectorContext;
 import static org.opensearch.search.query.QueryCollectorContext.createMultiCollectorContext;
+import static org.opensearch.search.query.QueryCollectorContext.createMultiCollectorManagerContext;
 import static org.opensearch.search.query.TopDocsCollectorContext.createTopDocsCollectorContext;
 import static org.opensearch.search.query.TopDocsCollectorContext.shortcutTotalHitCount;
 
@@ -224,6 +227,16 @@ public class QueryPhase {
                 }
             }
 
+            // skip the segments that cannot compete with the bottom of the top hits of the other shards or with the search_after
+            // values
+            final Query competitiveSegmentsQuery = buildCompetitiveSegmentsQuery(searchContext);
+            if (competitiveSegmentsQuery != null) {
+                query = new BooleanQuery.Builder()
+                    .add(query, BooleanClause.Occur.MUST)
+                    .add(competitiveSegmentsQuery, BooleanClause.Occur.FILTER)
+                    .build();
+            }
+
             final LinkedList<QueryCollectorContext> collectors = new LinkedList<>();
             // whether the chain contains a collector that filters documents
             boolean hasFilterCollector = false;
@@ -245,6 +258,11 @@ public class QueryPhase {
                 // plug in additional collectors, like aggregations
                 collectors.add(createMultiCollectorContext(searchContext.queryCollectors().values()));
             }
+            if (searchContext.queryCollectorManagers().isEmpty() == false) {
+                // plug in additional collector managers, like aggregations, when the leaves are searched concurrently
+                assert searchContext.shouldUseConcurrentSearch();
+                collectors.add(createMultiCollectorManagerContext(searchContext.queryCollectorManagers().values()));
+            }
             if (searchContext.minimumScore() != null) {
                 // apply the minimum score after multi collector so we filter aggs as well
                 collectors.add(createMinScoreCollectorContext(searchContext.minimumScore()));
@@ -305,6 +323,8 @@ public class QueryPhase {
                 // if we are optimizing sort and there are no other collectors
                 if (sortAndFormatsForRewrittenNumericSort!=null && collectors.size()==0 && searchContext.getProfilers()==null) {
                     shouldRescore = searchWithCollectorManager(searchContext, searcher, query, leafSorter, timeoutSet);
+                } else if (searchContext.shouldUseConcurrentSearch()) {
+                    shouldRescore = searchConcurrently(searchContext, searcher, query, collectors, hasFilterCollector, timeoutSet);
                 } else {
                     shouldRescore = searchWithCollector(searchContext, searcher, query, collectors, hasFilterCollector, timeoutSet);
                 }
@@ -371,6 +391,32 @@ public class QueryPhase {
         return topDocsFactory.shouldRescore();
     }
 
+    /*
+     * Searches the leaf slices of the shard concurrently, each slice is collected by its own collector tree
+     * and the results are reduced once all slices are done. Partial results are reduced on timeout.
+     */
+    private static boolean searchConcurrently(SearchContext searchContext, ContextIndexSearcher searcher, Query query,
+            LinkedList<QueryCollectorContext> collectors, boolean hasFilterCollector, boolean timeoutSet) throws IOException {
+        // create the top docs collector last when the other collectors are known
+        final TopDocsCollectorContext topDocsFactory = createTopDocsCollectorContext(searchContext, hasFilterCollector);
+        // add the top docs collector, the first collector context in the chain
+        collectors.addFirst(topDocsFactory);
+
+        final QueryCollectorManager manager = QueryCollectorContext.createQueryCollectorManager(collectors);
+        final QuerySearchResult queryResult = searchContext.queryResult();
+        try {
+            searcher.search(query, manager).reduce(queryResult);
+        } catch (TimeExceededException e) {
+            assert timeoutSet : "TimeExceededException thrown even though timeout wasn't set";
+            if (searchContext.request().allowPartialSearchResults() == false) {
+                // Can't rethrow TimeExceededException because not serializable
+                throw new QueryPhaseExecutionException(searchContext.shardTarget(), "Time exceeded");
+            }
+            queryResult.searchTimedOut(true);
+            manager.reduce().reduce(queryResult);
+        }
+        return topDocsFactory.shouldRescore();
+    }
 
     /*
      * We use collectorManager during sort optimization, where
@@ -505,6 +551,50 @@ public class QueryPhase {
         return rewrittenQuery;
     }
 
+    /**
+     * Returns a filter that skips the segments that cannot hold a document that competes with the bottom sort values shared by the
+     * coordinating node or with the <code>search_after</code> values of the request, or <code>null</code> if no segment can be
+     * skipped. Skipping segments changes the number of matching documents, so the total hits must not be tracked, and the documents
+     * must not be collected for other purposes than the top hits.
+     */
+    static Query buildCompetitiveSegmentsQuery(SearchContext searchContext) {
+        if (searchContext.sort() == null || searchContext.request() == null || searchContext.request().source() == null) return null;
+        if ((searchContext.from() + searchContext.size()) <= 0) return null;
+        if (searchContext.trackTotalHitsUpTo() != SearchContext.TRACK_TOTAL_HITS_DISABLED) return null;
+        if (searchContext.scrollContext() != null) return null;
+        if (searchContext.collapse() != null) return null;
+        if (searchContext.aggregations() != null) return null;
+        if (searchContext.queryCollectors().isEmpty() == false || searchContext.queryCollectorManagers().isEmpty() == false) return null;
+        if (searchContext.terminateAfter() != SearchContext.DEFAULT_TERMINATE_AFTER) return null;
+        final FieldSortBuilder primarySort = FieldSortBuilder.getPrimaryFieldSortOrNull(searchContext.request().source());
+        if (primarySort == null) return null;
+
+        final List<Query> queries = new ArrayList<>(2);
+        final SearchSortValuesAndFormats bottomSortValues = searchContext.request().getBottomSortValues();
+        if (bottomSortValues != null && bottomSortValues.getRawSortValues().length > 0) {
+            // documents without a value compete with a bottom value that stands for a missing value
+            final Object bottomSortValue = bottomSortValues.getRawSortValues()[0];
+            if (bottomSortValue != null && bottomSortValue.equals(searchContext.sort().sort.getSort()[0].getMissingValue()) == false) {
+                queries.add(primarySort.buildBottomSortSegmentsQuery(searchContext.getQueryShardContext(), bottomSortValues));
+            }
+        }
+        if (searchContext.searchAfter() != null) {
+            final SearchSortValuesAndFormats searchAfterValues =
+                new SearchSortValuesAndFormats(searchContext.searchAfter().fields, searchContext.sort().formats);
+            queries.add(primarySort.buildSearchAfterSegmentsQuery(searchContext.getQueryShardContext(), searchAfterValues));
+        }
+        BooleanQuery.Builder builder = null;
+        for (Query query : queries) {
+            if (query != null) {
+                if (builder == null) {
+                    builder = new BooleanQuery.Builder();
+                }
+                builder.add(query, BooleanClause.Occur.FILTER);
+            }
+        }
+        return builder == null ? null : builder.build();
+    }
+
     /**
      * Creates a sorter of {@link LeafReaderContext} that orders leaves depending on the minimum
      * value and the sort order of the provided <code>sortField</code>.
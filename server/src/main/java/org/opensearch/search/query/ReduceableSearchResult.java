@@ -0,0 +1,27 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.query;
+
+import org.apache.lucene.search.CollectorManager;
+
+import java.io.IOException;
+
+/**
+ * The result of reducing the collectors created by a {@link CollectorManager} for each leaf slice
+ * when the leaves of a shard are searched concurrently.
+ */
+@FunctionalInterface
+public interface ReduceableSearchResult {
+    /**
+     * Applies the reduced result to the provided query search result.
+     *
+     * @param result The query search result to populate
+     */
+    void reduce(QuerySearchResult result) throws IOException;
+}
@@ -80,6 +80,8 @@ import org.opensearch.search.rescore.RescoreContext;
 import org.opensearch.search.sort.SortAndFormats;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Supplier;
 
@@ -111,10 +113,27 @@ abstract class TopDocsCollectorContext extends QueryCollectorContext {
         return false;
     }
 
+    @Override
+    QueryCollectorManager createManager(QueryCollectorManager in) throws IOException {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " does not support searching leaf slices concurrently");
+    }
+
+    /**
+     * Resets the shard index of the provided top docs that were merged from several leaf slices.
+     * The shard index is set later during the reduce stage on the coordinating node.
+     */
+    private static void resetShardIndex(TopDocs topDocs) {
+        for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+            scoreDoc.shardIndex = -1;
+        }
+    }
+
     static class EmptyTopDocsCollectorContext extends TopDocsCollectorContext {
         private final Sort sort;
         private final Collector collector;
         private final Supplier<TotalHits> hitCountSupplier;
+        private final int trackTotalHitsUpTo;
+        private final int hitCount;
 
         /**
          * Ctr
@@ -130,14 +149,16 @@ abstract class TopDocsCollectorContext extends QueryCollectorContext {
                                              boolean hasFilterCollector) throws IOException {
             super(REASON_SEARCH_COUNT, 0);
             this.sort = sortAndFormats == null ? null : sortAndFormats.sort;
+            this.trackTotalHitsUpTo = trackTotalHitsUpTo;
             if (trackTotalHitsUpTo == SearchContext.TRACK_TOTAL_HITS_DISABLED) {
                 this.collector = new EarlyTerminatingCollector(new TotalHitCountCollector(), 0, false);
                 // for bwc hit count is set to 0, it will be converted to -1 by the coordinating node
                 this.hitCountSupplier = () -> new TotalHits(0, TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO);
+                this.hitCount = -1;
             } else {
                 TotalHitCountCollector hitCountCollector = new TotalHitCountCollector();
                 // implicit total hit counts are valid only when there is no filter collector in the chain
-                int hitCount =  hasFilterCollector ? -1 : shortcutTotalHitCount(reader, query);
+                this.hitCount = hasFilterCollector ? -1 : shortcutTotalHitCount(reader, query);
                 if (hitCount == -1) {
                     if (trackTotalHitsUpTo == SearchContext.TRACK_TOTAL_HITS_ACCURATE) {
                         this.collector = hitCountCollector;
@@ -164,7 +185,54 @@ abstract class TopDocsCollectorContext extends QueryCollectorContext {
 
         @Override
         void postProcess(QuerySearchResult result) {
-            final TotalHits totalHitCount = hitCountSupplier.get();
+            setTopDocs(result, hitCountSupplier.get());
+        }
+
+        @Override
+        QueryCollectorManager createManager(QueryCollectorManager in) {
+            assert in == null;
+            return new QueryCollectorManager() {
+                private final List<TotalHitCountCollector> hitCountCollectors = new ArrayList<>();
+                private final List<EarlyTerminatingCollector> earlyTerminatingCollectors = new ArrayList<>();
+
+                @Override
+                public Collector newCollector() {
+                    if (trackTotalHitsUpTo == SearchContext.TRACK_TOTAL_HITS_DISABLED || hitCount != -1) {
+                        return new EarlyTerminatingCollector(new TotalHitCountCollector(), 0, false);
+                    }
+                    final TotalHitCountCollector hitCountCollector = new TotalHitCountCollector();
+                    hitCountCollectors.add(hitCountCollector);
+                    if (trackTotalHitsUpTo == SearchContext.TRACK_TOTAL_HITS_ACCURATE) {
+                        return hitCountCollector;
+                    }
+                    final EarlyTerminatingCollector col = new EarlyTerminatingCollector(hitCountCollector, trackTotalHitsUpTo, false);
+                    earlyTerminatingCollectors.add(col);
+                    return col;
+                }
+
+                @Override
+                ReduceableSearchResult reduce() {
+                    final TotalHits totalHitCount;
+                    if (trackTotalHitsUpTo == SearchContext.TRACK_TOTAL_HITS_DISABLED) {
+                        totalHitCount = new TotalHits(0, TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO);
+                    } else if (hitCount != -1) {
+                        totalHitCount = new TotalHits(hitCount, TotalHits.Relation.EQUAL_TO);
+                    } else {
+                        long value = 0;
+                        for (TotalHitCountCollector hitCountCollector : hitCountCollectors) {
+                            value += hitCountCollector.getTotalHits();
+                        }
+                        final boolean earlyTerminated = earlyTerminatingCollectors.stream()
+                            .anyMatch(EarlyTerminatingCollector::hasEarlyTerminated);
+                        totalHitCount = new TotalHits(value,
+                            earlyTerminated ? TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO : TotalHits.Relation.EQUAL_TO);
+                    }
+                    return result -> setTopDocs(result, totalHitCount);
+                }
+            };
+        }
+
+        private void setTopDocs(QuerySearchResult result, TotalHits totalHitCount) {
             final TopDocs topDocs;
             if (sort != null) {
                 topDocs = new TopFieldDocs(totalHitCount, Lucene.EMPTY_SCORE_DOCS, sort.getSort());
@@ -236,6 +304,11 @@ abstract class TopDocsCollectorContext extends QueryCollectorContext {
         private final Supplier<TotalHits> totalHitsSupplier;
         private final Supplier<TopDocs> topDocsSupplier;
         private final Supplier<Float> maxScoreSupplier;
+        private final @Nullable ScoreDoc searchAfter;
+        private final boolean trackMaxScore;
+        private final int hitCountThreshold;
+        // the total hits if they are not computed via the collector, null otherwise
+        private final @Nullable TotalHits totalHits;
 
         /**
          * Ctr
@@ -258,6 +331,8 @@ abstract class TopDocsCollectorContext extends QueryCollectorContext {
                                               boolean hasFilterCollector) throws IOException {
             super(REASON_SEARCH_TOP_HITS, numHits);
             this.sortAndFormats = sortAndFormats;
+            this.searchAfter = searchAfter;
+            this.trackMaxScore = trackMaxScore;
 
             final TopDocsCollector<?> topDocsCollector;
 
@@ -265,26 +340,34 @@ abstract class TopDocsCollectorContext extends QueryCollectorContext {
                     && hasInfMaxScore(query)) {
                 // disable max score optimization since we have a mandatory clause
                 // that doesn't track the maximum score
-                topDocsCollector = createCollector(sortAndFormats, numHits, searchAfter, Integer.MAX_VALUE);
+                hitCountThreshold = Integer.MAX_VALUE;
+                totalHits = null;
+                topDocsCollector = createCollector(sortAndFormats, numHits, searchAfter, hitCountThreshold);
                 topDocsSupplier = new CachedSupplier<>(topDocsCollector::topDocs);
                 totalHitsSupplier = () -> topDocsSupplier.get().totalHits;
             } else if (trackTotalHitsUpTo == SearchContext.TRACK_TOTAL_HITS_DISABLED) {
                 // don't compute hit counts via the collector
-                topDocsCollector = createCollector(sortAndFormats, numHits, searchAfter, 1);
+                hitCountThreshold = 1;
+                totalHits = new TotalHits(0, TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO);
+                topDocsCollector = createCollector(sortAndFormats, numHits, searchAfter, hitCountThreshold);
                 topDocsSupplier = new CachedSupplier<>(topDocsCollector::topDocs);
-                totalHitsSupplier = () -> new TotalHits(0, TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO);
+                totalHitsSupplier = () -> totalHits;
             } else {
                 // implicit total hit counts are valid only when there is no filter collector in the chain
                 final int hitCount = hasFilterCollector ? -1 : shortcutTotalHitCount(reader, query);
                 if (hitCount == -1) {
-                    topDocsCollector = createCollector(sortAndFormats, numHits, searchAfter, trackTotalHitsUpTo);
+                    hitCountThreshold = trackTotalHitsUpTo;
+                    totalHits = null;
+                    topDocsCollector = createCollector(sortAndFormats, numHits, searchAfter, hitCountThreshold);
                     topDocsSupplier = new CachedSupplier<>(topDocsCollector::topDocs);
                     totalHitsSupplier = () -> topDocsSupplier.get().totalHits;
                 } else {
                     // don't compute hit counts via the collector
-                    topDocsCollector = createCollector(sortAndFormats, numHits, searchAfter, 1);
+                    hitCountThreshold = 1;
+                    totalHits = new TotalHits(hitCount, TotalHits.Relation.EQUAL_TO);
+                    topDocsCollector = createCollector(sortAndFormats, numHits, searchAfter, hitCountThreshold);
                     topDocsSupplier = new CachedSupplier<>(topDocsCollector::topDocs);
-                    totalHitsSupplier = () -> new TotalHits(hitCount, TotalHits.Relation.EQUAL_TO);
+                    totalHitsSupplier = () -> totalHits;
                 }
             }
             MaxScoreCollector maxScoreCollector = null;
@@ -332,6 +415,81 @@ abstract class TopDocsCollectorContext extends QueryCollectorContext {
             final TopDocsAndMaxScore topDocs = newTopDocs();
             result.topDocs(topDocs, sortAndFormats == null ? null : sortAndFormats.formats);
         }
+
+        @Override
+        QueryCollectorManager createManager(QueryCollectorManager in) {
+            assert in == null;
+            return new QueryCollectorManager() {
+                private final List<TopDocsCollector<?>> topDocsCollectors = new ArrayList<>();
+                private final List<MaxScoreCollector> maxScoreCollectors = new ArrayList<>();
+
+                @Override
+                public Collector newCollector() {
+                    final TopDocsCollector<?> topDocsCollector = createCollector(sortAndFormats, numHits, searchAfter, hitCountThreshold);
+                    topDocsCollectors.add(topDocsCollector);
+                    MaxScoreCollector maxScoreCollector = null;
+                    if (sortAndFormats != null && trackMaxScore) {
+                        maxScoreCollector = new MaxScoreCollector();
+                        maxScoreCollectors.add(maxScoreCollector);
+                    }
+                    return MultiCollector.wrap(topDocsCollector, maxScoreCollector);
+                }
+
+                @Override
+                ReduceableSearchResult reduce() {
+                    final TopDocs mergedTopDocs;
+                    long totalHitsValue = 0;
+                    TotalHits.Relation totalHitsRelation = TotalHits.Relation.EQUAL_TO;
+                    if (sortAndFormats == null) {
+                        final TopDocs[] topDocs = new TopDocs[topDocsCollectors.size()];
+                        for (int i = 0; i < topDocs.length; i++) {
+                            topDocs[i] = topDocsCollectors.get(i).topDocs();
+                        }
+                        mergedTopDocs = TopDocs.merge(0, numHits, topDocs, true);
+                    } else {
+                        final TopFieldDocs[] topDocs = new TopFieldDocs[topDocsCollectors.size()];
+                        for (int i = 0; i < topDocs.length; i++) {
+                            topDocs[i] = (TopFieldDocs) topDocsCollectors.get(i).topDocs();
+                        }
+                        mergedTopDocs = TopDocs.merge(sortAndFormats.sort, 0, numHits, topDocs, true);
+                    }
+                    resetShardIndex(mergedTopDocs);
+
+                    final TotalHits mergedTotalHits;
+                    if (totalHits != null) {
+                        mergedTotalHits = totalHits;
+                    } else {
+                        // the hit count threshold is applied per leaf slice
+                        mergedTotalHits = mergedTopDocs.totalHits;
+                    }
+
+                    final float maxScore;
+                    if (sortAndFormats == null) {
+                        maxScore = mergedTopDocs.scoreDocs.length == 0 ? Float.NaN : mergedTopDocs.scoreDocs[0].score;
+                    } else if (trackMaxScore) {
+                        float max = Float.NaN;
+                        for (MaxScoreCollector maxScoreCollector : maxScoreCollectors) {
+                            final float score = maxScoreCollector.getMaxScore();
+                            if (Float.isNaN(max) || score > max) {
+                                max = score;
+                            }
+                        }
+                        maxScore = max;
+                    } else {
+                        maxScore = Float.NaN;
+                    }
+
+                    final TopDocs newTopDocs;
+                    if (mergedTopDocs instanceof TopFieldDocs) {
+                        newTopDocs = new TopFieldDocs(mergedTotalHits, mergedTopDocs.scoreDocs, ((TopFieldDocs) mergedTopDocs).fields);
+                    } else {
+                        newTopDocs = new TopDocs(mergedTotalHits, mergedTopDocs.scoreDocs);
+                    }
+                    final TopDocsAndMaxScore topDocsAndMaxScore = new TopDocsAndMaxScore(newTopDocs, maxScore);
+                    return result -> result.topDocs(topDocsAndMaxScore, sortAndFormats == null ? null : sortAndFormats.formats);
+                }
+            };
+        }
     }
 
     static class ScrollingTopDocsCollectorContext extends SimpleTopDocsCollectorContext {
@@ -353,6 +511,11 @@ abstract class TopDocsCollectorContext extends QueryCollectorContext {
             this.numberOfShards = numberOfShards;
         }
 
+        @Override
+        QueryCollectorManager createManager(QueryCollectorManager in) {
+            throw new UnsupportedOperationException("scroll requests require the leaves to be searched sequentially");
+        }
+
         @Override
         void postProcess(QuerySearchResult result) throws IOException {
             final TopDocsAndMaxScore topDocs = newTopDocs();
@@ -0,0 +1,94 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.sort;
+
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.PointValues;
+import org.apache.lucene.search.ConstantScoreScorer;
+import org.apache.lucene.search.ConstantScoreWeight;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.Weight;
+import org.opensearch.common.CheckedFunction;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * A query that matches all the documents of the segments that may hold a document whose primary sort value competes with a sort
+ * value, and none of the documents of the other segments. Used as a filter, it skips the segments whose points are all outside of
+ * the competitive range without visiting their documents, while the documents of the other segments are left to the collector.
+ */
+final class CompetitiveSegmentsQuery extends Query {
+    private final String field;
+    private final Object sortValue;
+    private final boolean missingCompetes;
+    private final CheckedFunction<LeafReader, Boolean, IOException> disjoint;
+
+    /**
+     * @param field           the primary sort field
+     * @param sortValue       the sort value the documents must compete with, used to identify the query
+     * @param missingCompetes whether the documents without a value compete with the sort value
+     * @param disjoint        returns true if the points of the given segment are all outside of the competitive range
+     */
+    CompetitiveSegmentsQuery(String field, Object sortValue, boolean missingCompetes,
+                             CheckedFunction<LeafReader, Boolean, IOException> disjoint) {
+        this.field = field;
+        this.sortValue = sortValue;
+        this.missingCompetes = missingCompetes;
+        this.disjoint = disjoint;
+    }
+
+    @Override
+    public Weight createWeight(IndexSearcher searcher, ScoreMode scoreMode, float boost) {
+        return new ConstantScoreWeight(this, boost) {
+            @Override
+            public Scorer scorer(LeafReaderContext context) throws IOException {
+                final LeafReader reader = context.reader();
+                final PointValues values = reader.getPointValues(field);
+                final boolean hasMissingValues = values == null || values.getDocCount() < reader.maxDoc();
+                if ((missingCompetes == false || hasMissingValues == false)
+                        && (values == null || disjoint.apply(reader))) {
+                    return null;
+                }
+                return new ConstantScoreScorer(this, score(), scoreMode, DocIdSetIterator.all(reader.maxDoc()));
+            }
+
+            @Override
+            public boolean isCacheable(LeafReaderContext ctx) {
+                // matches all or none of the documents of a segment, and depends on the sort values of a single request
+                return false;
+            }
+        };
+    }
+
+    @Override
+    public String toString(String field) {
+        return "CompetitiveSegmentsQuery(field=" + this.field + ", value=" + sortValue + ", missing_competes=" + missingCompetes + ")";
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (sameClassAs(o) == false) {
+            return false;
+        }
+        CompetitiveSegmentsQuery that = (CompetitiveSegmentsQuery) o;
+        return field.equals(that.field) && Objects.equals(sortValue, that.sortValue) && missingCompetes == that.missingCompetes
+            && disjoint == that.disjoint;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(classHash(), field, sortValue, missingCompetes);
+    }
+}
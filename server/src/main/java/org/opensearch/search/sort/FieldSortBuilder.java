@@ -37,6 +37,7 @@ import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.MultiTerms;
 import org.apache.lucene.index.PointValues;
 import org.apache.lucene.index.Terms;
+import org.apache.lucene.search.Query;
 import org.apache.lucene.search.SortField;
 import org.opensearch.LegacyESVersion;
 import org.opensearch.OpenSearchParseException;
@@ -463,13 +464,7 @@ public class FieldSortBuilder extends SortBuilder<FieldSortBuilder> {
         if (fieldType.isSearchable() == false) {
             return false;
         }
-        DocValueFormat docValueFormat = bottomSortValues.getSortValueFormats()[0];
-        final DateMathParser dateMathParser;
-        if (docValueFormat instanceof DocValueFormat.DateTime) {
-            dateMathParser = ((DocValueFormat.DateTime) docValueFormat).getDateMathParser();
-        } else {
-            dateMathParser = null;
-        }
+        DateMathParser dateMathParser = dateMathParserOrNull(bottomSortValues.getSortValueFormats()[0]);
         Object bottomSortValue =  bottomSortValues.getFormattedSortValues()[0];
         Object minValue = order() == SortOrder.DESC ? bottomSortValue : null;
         Object maxValue = order() == SortOrder.DESC ? null : bottomSortValue;
@@ -483,6 +478,91 @@ public class FieldSortBuilder extends SortBuilder<FieldSortBuilder> {
         }
     }
 
+    /**
+     * Returns a query that skips the segments that cannot hold a document that competes with the primary sort value of the given
+     * <code>bottomSortValues</code>, that is a document that sorts before or on par with it, or <code>null</code> if the segments
+     * cannot be filtered on their primary sort value.
+     */
+    public Query buildBottomSortSegmentsQuery(QueryShardContext context, SearchSortValuesAndFormats bottomSortValues) {
+        // documents without a value sort last, so they cannot compete with a bottom value
+        return buildCompetitiveSegmentsQuery(context, bottomSortValues, true, false);
+    }
+
+    /**
+     * Returns a query that skips the segments that cannot hold a document that sorts on par with or after the primary sort value of
+     * the given <code>searchAfterValues</code>, or <code>null</code> if the segments cannot be filtered on their primary sort value.
+     */
+    public Query buildSearchAfterSegmentsQuery(QueryShardContext context, SearchSortValuesAndFormats searchAfterValues) {
+        // documents without a value sort last, after any search_after value
+        return buildCompetitiveSegmentsQuery(context, searchAfterValues, false, true);
+    }
+
+    private Query buildCompetitiveSegmentsQuery(QueryShardContext context, SearchSortValuesAndFormats sortValues,
+                                                boolean sortsBefore, boolean missingCompetes) {
+        if (sortValues == null || sortValues.getRawSortValues().length == 0) {
+            return null;
+        }
+        if (canRewriteToMatchNone() == false) {
+            return null;
+        }
+        // the sort value of a document must be within the range of the values of its segment, which does not hold for sort modes
+        // that combine the values of multi-valued fields, like sum
+        if (sortMode != null && sortMode != SortMode.MIN && sortMode != SortMode.MAX) {
+            return null;
+        }
+        if (numericType != null) {
+            return null;
+        }
+        MappedFieldType fieldType = context.fieldMapper(fieldName);
+        if (fieldType == null || fieldType.isSearchable() == false) {
+            return null;
+        }
+        // whether the competitive values are greater than or equal to the sort value, or lower than or equal to it
+        final boolean lowerBound = sortsBefore == (order() == SortOrder.DESC);
+        final Object rawSortValue = sortValues.getRawSortValues()[0];
+        final Number sortValue;
+        final Function<byte[], Number> pointDecoder;
+        if (fieldType instanceof DateFieldType) {
+            DateMathParser dateMathParser = dateMathParserOrNull(sortValues.getSortValueFormats()[0]);
+            try {
+                sortValue = ((DateFieldType) fieldType).parseToLong(sortValues.getFormattedSortValues()[0], lowerBound == false, null,
+                    dateMathParser, context::nowInMillis);
+            } catch (OpenSearchParseException | IllegalArgumentException exc) {
+                // can happen if the sort field is mapped differently in another search index
+                return null;
+            }
+            pointDecoder = packedValue -> LongPoint.decodeDimension(packedValue, 0);
+        } else if (fieldType instanceof NumberFieldType && rawSortValue instanceof Number) {
+            sortValue = (Number) rawSortValue;
+            pointDecoder = ((NumberFieldType) fieldType)::parsePoint;
+        } else {
+            return null;
+        }
+        return new CompetitiveSegmentsQuery(fieldName, rawSortValue, missingCompetes, reader -> {
+            PointValues pointValues = reader.getPointValues(fieldName);
+            if (lowerBound) {
+                return compareNumbers(pointDecoder.apply(pointValues.getMaxPackedValue()), sortValue) < 0;
+            } else {
+                return compareNumbers(pointDecoder.apply(pointValues.getMinPackedValue()), sortValue) > 0;
+            }
+        });
+    }
+
+    private static int compareNumbers(Number a, Number b) {
+        if ((a instanceof Long || a instanceof Integer) && (b instanceof Long || b instanceof Integer)) {
+            return Long.compare(a.longValue(), b.longValue());
+        }
+        // the rounding of large integers to doubles preserves their order, so this never reports disjoint ranges that intersect
+        return Double.compare(a.doubleValue(), b.doubleValue());
+    }
+
+    private static DateMathParser dateMathParserOrNull(DocValueFormat docValueFormat) {
+        if (docValueFormat instanceof DocValueFormat.DateTime) {
+            return ((DocValueFormat.DateTime) docValueFormat).getDateMathParser();
+        }
+        return null;
+    }
+
     @Override
     public BucketedSort buildBucketedSort(QueryShardContext context, int bucketSize, BucketedSort.ExtraData extra) throws IOException {
         if (DOC_FIELD_NAME.equals(fieldName)) {
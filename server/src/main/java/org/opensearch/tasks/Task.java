@@ -74,6 +74,11 @@ public class Task {
      */
     private final long startTimeNanos;
 
+    /**
+     * The CPU time and heap allocations of the threads that worked on this task, see {@link TaskManager#startResourceTracking(Task)}.
+     */
+    final TaskResourceTracker resourceTracker = new TaskResourceTracker();
+
     public Task(long id, String type, String action, String description, TaskId parentTask, Map<String, String> headers) {
         this(id, type, action, description, parentTask, System.currentTimeMillis(), System.nanoTime(), headers);
     }
@@ -50,6 +50,8 @@ import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.node.DiscoveryNodes;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lease.Releasables;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.ByteSizeValue;
 import org.opensearch.common.unit.TimeValue;
@@ -61,6 +63,9 @@ import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.TcpChannel;
 
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -89,6 +94,12 @@ public class TaskManager implements ClusterStateApplier {
 
     private static final TimeValue WAIT_FOR_COMPLETION_POLL = timeValueMillis(100);
 
+    public static final Setting<Boolean> TASK_RESOURCE_TRACKING_ENABLED_SETTING =
+        Setting.boolSetting("task_resource_tracking.enabled", true, Property.Dynamic, Property.NodeScope);
+
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+    private static final Method getThreadAllocatedBytes = getThreadAllocatedBytesMethod();
+
     /** Rest headers that are copied to the task */
     private final List<String> taskHeaders;
     private final ThreadPool threadPool;
@@ -110,10 +121,13 @@ public class TaskManager implements ClusterStateApplier {
     private final Map<TcpChannel, ChannelPendingTaskTracker> channelPendingTaskTrackers = ConcurrentCollections.newConcurrentMap();
     private final SetOnce<TaskCancellationService> cancellationService = new SetOnce<>();
 
+    private volatile boolean resourceTrackingEnabled;
+
     public TaskManager(Settings settings, ThreadPool threadPool, Set<String> taskHeaders) {
         this.threadPool = threadPool;
         this.taskHeaders = new ArrayList<>(taskHeaders);
         this.maxHeaderSize = SETTING_HTTP_MAX_HEADER_SIZE.get(settings);
+        setResourceTrackingEnabled(TASK_RESOURCE_TRACKING_ENABLED_SETTING.get(settings));
     }
 
     public void setTaskResultsService(TaskResultsService taskResultsService) {
@@ -125,6 +139,67 @@ public class TaskManager implements ClusterStateApplier {
         this.cancellationService.set(taskCancellationService);
     }
 
+    public void setResourceTrackingEnabled(boolean resourceTrackingEnabled) {
+        this.resourceTrackingEnabled = resourceTrackingEnabled && THREAD_MX_BEAN.isThreadCpuTimeSupported();
+    }
+
+    public boolean isResourceTrackingEnabled() {
+        return resourceTrackingEnabled;
+    }
+
+    /**
+     * Starts tracking the CPU time and heap allocations of the current thread on behalf of the given task, until the returned
+     * {@link Releasable} is closed by the same thread. Threads may work on several tasks over time, but on a single task at a time.
+     */
+    public Releasable startResourceTracking(Task task) {
+        if (resourceTrackingEnabled == false) {
+            return () -> {};
+        }
+        final long threadId = Thread.currentThread().getId();
+        final TaskResourceTracker.ThreadSample sample =
+            task.resourceTracker.onThreadStarted(threadId, threadCpuTimeNanos(threadId), threadAllocatedBytes(threadId));
+        return () -> task.resourceTracker.onThreadFinished(sample, threadCpuTimeNanos(threadId), threadAllocatedBytes(threadId));
+    }
+
+    /**
+     * Returns the CPU time and heap allocations of the threads that worked on the given task so far, including the threads that are
+     * still working on it.
+     */
+    public TaskResourceUsage getResourceUsage(Task task) {
+        return task.resourceTracker.getResourceUsage(TaskManager::threadCpuTimeNanos, TaskManager::threadAllocatedBytes);
+    }
+
+    private static long threadCpuTimeNanos(long threadId) {
+        // -1 if the thread is dead or if the measurement was disabled through JMX
+        return Math.max(0L, THREAD_MX_BEAN.getThreadCpuTime(threadId));
+    }
+
+    private static long threadAllocatedBytes(long threadId) {
+        if (getThreadAllocatedBytes != null) {
+            try {
+                // -1 if the thread is dead or if the measurement was disabled through JMX
+                return Math.max(0L, (long) getThreadAllocatedBytes.invoke(THREAD_MX_BEAN, threadId));
+            } catch (Exception e) {
+                return 0L;
+            }
+        }
+        return 0L;
+    }
+
+    /**
+     * Returns the getThreadAllocatedBytes(long) method of the ThreadMXBean,
+     * or null if the method is not found or unavailable.
+     */
+    private static Method getThreadAllocatedBytesMethod() {
+        try {
+            final Class<?> clazz = Class.forName("com.sun.management.ThreadMXBean");
+            return clazz.isInstance(THREAD_MX_BEAN) ? clazz.getMethod("getThreadAllocatedBytes", long.class) : null;
+        } catch (Exception e) {
+            // not available
+            return null;
+        }
+    }
+
     /**
      * Registers a task without parent task
      */
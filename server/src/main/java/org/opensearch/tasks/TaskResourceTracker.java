@@ -0,0 +1,70 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.tasks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Accumulates the resource usage of the threads that worked on a task. The usage of a thread is added once it is done with the task,
+ * and the threads that are still working on it are sampled on demand, so that a task that runs for a long time on a single thread
+ * is accounted for while it runs.
+ */
+final class TaskResourceTracker {
+
+    private long cpuTimeNanos;
+    private long allocatedBytes;
+    // the threads that are working on the task, usually at most one
+    private List<ThreadSample> activeThreads;
+
+    synchronized ThreadSample onThreadStarted(long threadId, long cpuTimeNanos, long allocatedBytes) {
+        if (activeThreads == null) {
+            activeThreads = new ArrayList<>(1);
+        }
+        final ThreadSample sample = new ThreadSample(threadId, cpuTimeNanos, allocatedBytes);
+        activeThreads.add(sample);
+        return sample;
+    }
+
+    synchronized void onThreadFinished(ThreadSample sample, long cpuTimeNanos, long allocatedBytes) {
+        if (activeThreads.remove(sample)) {
+            this.cpuTimeNanos += Math.max(0L, cpuTimeNanos - sample.cpuTimeNanos);
+            this.allocatedBytes += Math.max(0L, allocatedBytes - sample.allocatedBytes);
+        }
+    }
+
+    /**
+     * Returns the resource usage of the task, reading the current CPU time and allocations of the threads that still work on it with
+     * the given functions of the thread id.
+     */
+    synchronized TaskResourceUsage getResourceUsage(LongUnaryOperator threadCpuTimeNanos, LongUnaryOperator threadAllocatedBytes) {
+        long cpuTimeNanos = this.cpuTimeNanos;
+        long allocatedBytes = this.allocatedBytes;
+        if (activeThreads != null) {
+            for (ThreadSample sample : activeThreads) {
+                cpuTimeNanos += Math.max(0L, threadCpuTimeNanos.applyAsLong(sample.threadId) - sample.cpuTimeNanos);
+                allocatedBytes += Math.max(0L, threadAllocatedBytes.applyAsLong(sample.threadId) - sample.allocatedBytes);
+            }
+        }
+        return new TaskResourceUsage(cpuTimeNanos, allocatedBytes);
+    }
+
+    static final class ThreadSample {
+        final long threadId;
+        final long cpuTimeNanos;
+        final long allocatedBytes;
+
+        ThreadSample(long threadId, long cpuTimeNanos, long allocatedBytes) {
+            this.threadId = threadId;
+            this.cpuTimeNanos = cpuTimeNanos;
+            this.allocatedBytes = allocatedBytes;
+        }
+    }
+}
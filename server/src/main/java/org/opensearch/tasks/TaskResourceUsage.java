@@ -0,0 +1,86 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.tasks;
+
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.ToXContentFragment;
+import org.opensearch.common.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The CPU time and the heap allocations of the threads that worked on a task, as tracked by
+ * {@link TaskManager#startResourceTracking(Task)}.
+ */
+public final class TaskResourceUsage implements Writeable, ToXContentFragment {
+
+    public static final TaskResourceUsage EMPTY = new TaskResourceUsage(0, 0);
+
+    private final long cpuTimeNanos;
+    private final long allocatedBytes;
+
+    public TaskResourceUsage(long cpuTimeNanos, long allocatedBytes) {
+        this.cpuTimeNanos = cpuTimeNanos;
+        this.allocatedBytes = allocatedBytes;
+    }
+
+    public TaskResourceUsage(StreamInput in) throws IOException {
+        cpuTimeNanos = in.readVLong();
+        allocatedBytes = in.readVLong();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVLong(cpuTimeNanos);
+        out.writeVLong(allocatedBytes);
+    }
+
+    public long getCpuTimeNanos() {
+        return cpuTimeNanos;
+    }
+
+    /**
+     * The number of bytes allocated on the heap, or 0 if the JVM cannot measure allocations per thread. This includes short-lived
+     * garbage, so it is an upper bound of the heap that the task retains.
+     */
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.humanReadableField("cpu_time_in_nanos", "cpu_time", new TimeValue(cpuTimeNanos, TimeUnit.NANOSECONDS));
+        builder.humanReadableField("allocated_in_bytes", "allocated", new ByteSizeValue(allocatedBytes));
+        return builder;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        TaskResourceUsage that = (TaskResourceUsage) o;
+        return cpuTimeNanos == that.cpuTimeNanos && allocatedBytes == that.allocatedBytes;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(cpuTimeNanos, allocatedBytes);
+    }
+
+    @Override
+    public String toString() {
+        return "TaskResourceUsage{cpuTimeNanos=" + cpuTimeNanos + ", allocatedBytes=" + allocatedBytes + "}";
+    }
+}
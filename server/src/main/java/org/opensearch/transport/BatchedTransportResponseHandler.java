@@ -0,0 +1,23 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.transport;
+
+import org.opensearch.action.ActionListener;
+
+/**
+ * A {@link TransportResponseHandler} that handles a response that is sent in batches, such as a large result set, one batch at a time
+ * on its {@link #executor() executor} and in the order that they were sent, before the final response or exception. The responder sends
+ * the next batch once the listener of the previous batch is notified, so a handler that processes a batch asynchronously holds back the
+ * responder until it is done. The response timeout, if any, covers the whole response, including its batches.
+ */
+public interface BatchedTransportResponseHandler<T extends TransportResponse> extends TransportResponseHandler<T> {
+
+    @Override
+    void handleBatch(T batch, ActionListener<Void> listener);
+}
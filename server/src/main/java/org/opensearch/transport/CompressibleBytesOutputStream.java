@@ -34,7 +34,6 @@ package org.opensearch.transport;
 
 import org.opensearch.core.internal.io.IOUtils;
 import org.opensearch.common.bytes.BytesReference;
-import org.opensearch.common.compress.CompressorFactory;
 import org.opensearch.common.io.Streams;
 import org.opensearch.common.io.stream.BytesStream;
 import org.opensearch.common.io.stream.StreamOutput;
@@ -45,7 +44,7 @@ import java.util.zip.DeflaterOutputStream;
 
 /**
  * This class exists to provide a stream with optional compression. This is useful as using compression
- * requires that the underlying {@link DeflaterOutputStream} be closed to write EOS bytes. However, the
+ * requires that the underlying compressing stream, e.g. a {@link DeflaterOutputStream}, be closed to write EOS bytes. However, the
  * {@link BytesStream} should not be closed yet, as we have not used the bytes. This class handles these
  * intricacies.
  *
@@ -63,10 +62,14 @@ final class CompressibleBytesOutputStream extends StreamOutput {
     private final boolean shouldCompress;
 
     CompressibleBytesOutputStream(BytesStream bytesStreamOutput, boolean shouldCompress) throws IOException {
+        this(bytesStreamOutput, shouldCompress ? Compression.Scheme.DEFLATE : Compression.Scheme.NONE);
+    }
+
+    CompressibleBytesOutputStream(BytesStream bytesStreamOutput, Compression.Scheme compressionScheme) throws IOException {
         this.bytesStreamOutput = bytesStreamOutput;
-        this.shouldCompress = shouldCompress;
+        this.shouldCompress = compressionScheme != Compression.Scheme.NONE;
         if (shouldCompress) {
-            this.stream = CompressorFactory.COMPRESSOR.threadLocalOutputStream(Streams.flushOnCloseStream(bytesStreamOutput));
+            this.stream = compressionScheme.compressor().threadLocalOutputStream(Streams.flushOnCloseStream(bytesStreamOutput));
         } else {
             this.stream = bytesStreamOutput;
         }
@@ -0,0 +1,107 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.transport;
+
+import org.opensearch.Version;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.compress.Compressor;
+import org.opensearch.common.compress.CompressorFactory;
+
+import java.util.Locale;
+
+/**
+ * The compression schemes of transport messages.
+ */
+public final class Compression {
+
+    private Compression() {
+    }
+
+    public enum Scheme {
+        /**
+         * Messages are not compressed
+         */
+        NONE(null, Version.V_EMPTY),
+        /**
+         * Messages are compressed with DEFLATE, which all versions can decompress
+         */
+        DEFLATE(CompressorFactory.COMPRESSOR, Version.V_EMPTY),
+        /**
+         * Messages are compressed with LZ4, which is much cheaper than DEFLATE but compresses less
+         */
+        LZ4(CompressorFactory.LZ4_COMPRESSOR, Version.V_1_1_0);
+
+        private final Compressor compressor;
+        private final Version minimumVersion;
+
+        Scheme(Compressor compressor, Version minimumVersion) {
+            this.compressor = compressor;
+            this.minimumVersion = minimumVersion;
+        }
+
+        /**
+         * Returns the compressor of this scheme, or {@code null} if messages are not compressed.
+         */
+        Compressor compressor() {
+            return compressor;
+        }
+
+        /**
+         * Returns whether a node of the given version can decompress messages that are compressed with this scheme.
+         */
+        boolean isSupportedBy(Version version) {
+            return version.onOrAfter(minimumVersion);
+        }
+
+        /**
+         * Parses the value of a compression scheme setting, which is one of {@code deflate} or {@code lz4}.
+         */
+        public static Scheme parse(String value) {
+            switch (value) {
+                case "deflate":
+                    return DEFLATE;
+                case "lz4":
+                    return LZ4;
+                default:
+                    throw new IllegalArgumentException("unknown compression scheme [" + value + "], must be one of [deflate, lz4]");
+            }
+        }
+
+        @Override
+        public String toString() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /**
+     * Returns the scheme that the given bytes are compressed with, which start with the header of the compressor of the scheme, or
+     * {@code null} if the bytes start with no known header.
+     */
+    static Scheme detectScheme(BytesReference bytes) {
+        for (Scheme scheme : Scheme.values()) {
+            if (scheme.compressor != null && scheme.compressor.isCompressed(bytes)) {
+                return scheme;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The number of bytes that the compressed content of a message needs to start with to detect its compression scheme
+     */
+    static int headerLength() {
+        int headerLength = 0;
+        for (Scheme scheme : Scheme.values()) {
+            if (scheme.compressor != null) {
+                headerLength = Math.max(headerLength, scheme.compressor.headerLength());
+            }
+        }
+        return headerLength;
+    }
+}
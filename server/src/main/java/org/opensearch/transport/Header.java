@@ -57,6 +57,8 @@ public class Header {
     String actionName;
     Tuple<Map<String, String>, Map<String, Set<String>>> headers;
     Set<String> features;
+    // set once the compressed content of the message starts to be decompressed
+    private Compression.Scheme compressionScheme = Compression.Scheme.NONE;
 
     Header(int networkMessageSize, long requestId, byte status, Version version) {
         this.networkMessageSize = networkMessageSize;
@@ -101,6 +103,49 @@ public class Header {
         return TransportStatus.isCompress(status);
     }
 
+    /**
+     * Returns whether this is the header of a chunk of a message that is sent in chunks, which has no variable header.
+     */
+    boolean isChunk() {
+        return TransportStatus.isChunk(status);
+    }
+
+    /**
+     * Returns whether this is the header of a batch of a response, which is followed by more batches or by the response itself.
+     */
+    boolean isBatch() {
+        return TransportStatus.isBatch(status);
+    }
+
+    /**
+     * Returns whether this is the header of the acknowledgement of a batch of a response, which the requester sends back once it handled
+     * the batch.
+     */
+    boolean isBatchAck() {
+        return TransportStatus.isBatchAck(status);
+    }
+
+    /**
+     * Returns the lane of a request, which responses to the request are sent in too. Requests of nodes that do not send the lane of
+     * their requests are in the regular lane.
+     */
+    TransportRequestOptions.Type getLane() {
+        final TransportRequestOptions.Type lane = TransportStatus.getLane(status);
+        return lane == null ? TransportRequestOptions.Type.REG : lane;
+    }
+
+    /**
+     * Returns the scheme that the message is compressed with, which responses to requests are compressed with too.
+     */
+    Compression.Scheme getCompressionScheme() {
+        return compressionScheme;
+    }
+
+    void setCompressionScheme(Compression.Scheme compressionScheme) {
+        assert isCompressed() : "message is not compressed";
+        this.compressionScheme = compressionScheme;
+    }
+
     public String getActionName() {
         return actionName;
     }
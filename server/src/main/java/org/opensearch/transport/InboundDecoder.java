@@ -33,31 +33,62 @@
 package org.opensearch.transport;
 
 import org.opensearch.Version;
+import org.opensearch.common.breaker.CircuitBreaker;
+import org.opensearch.common.breaker.CircuitBreakingException;
+import org.opensearch.common.breaker.NoopCircuitBreaker;
 import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.bytes.CompositeBytesReference;
 import org.opensearch.common.bytes.ReleasableBytesReference;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.util.PageCacheRecycler;
 import org.opensearch.core.internal.io.IOUtils;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 public class InboundDecoder implements Releasable {
 
     static final Object PING = new Object();
     static final Object END_CONTENT = new Object();
 
+    // the sender writes the chunks of the messages of a lane one message after the other, so a channel has at most one message per lane
+    // that is partially received
+    private static final int MAX_CHUNKED_MESSAGES = TransportRequestOptions.Type.values().length;
+
     private final Version version;
     private final PageCacheRecycler recycler;
+    private final Supplier<CircuitBreaker> circuitBreaker;
     private TransportDecompressor decompressor;
+    // the header of the message that is being decompressed, which learns about the compression scheme once decompression starts
+    private Header compressedHeader;
+    // the header of the chunk that is being decoded, whose content is added to the received chunks of its message
+    private Header chunkHeader;
+    // the received chunks of the messages that are sent in chunks, by request id, which are decoded once all their chunks are received
+    private final Map<Long, ChunkedMessage> chunkedRequests = new HashMap<>();
+    private final Map<Long, ChunkedMessage> chunkedResponses = new HashMap<>();
+    private boolean decodingChunkedMessage = false;
     private int totalNetworkSize = -1;
     private int bytesConsumed = 0;
     private boolean isClosed = false;
 
     public InboundDecoder(Version version, PageCacheRecycler recycler) {
+        this(version, recycler, () -> new NoopCircuitBreaker(CircuitBreaker.IN_FLIGHT_REQUESTS));
+    }
+
+    /**
+     * @param circuitBreaker the in-flight requests circuit breaker, which accounts for the chunks of the messages that are partially
+     *                       received until they are decoded
+     */
+    public InboundDecoder(Version version, PageCacheRecycler recycler, Supplier<CircuitBreaker> circuitBreaker) {
         this.version = version;
         this.recycler = recycler;
+        this.circuitBreaker = circuitBreaker;
     }
 
     public int decode(ReleasableBytesReference reference, Consumer<Object> fragmentConsumer) throws IOException {
@@ -87,8 +118,19 @@ public class InboundDecoder implements Releasable {
 
                     Header header = readHeader(version, messageLength, reference);
                     bytesConsumed += headerBytesToRead;
+                    if (header.isChunk()) {
+                        if (decodingChunkedMessage) {
+                            throw new IllegalStateException("chunked message [" + header.getRequestId() + "] contains a chunk");
+                        }
+                        chunkHeader = header;
+                        if (isDone()) {
+                            finishChunk(fragmentConsumer);
+                        }
+                        return headerBytesToRead;
+                    }
                     if (header.isCompressed()) {
                         decompressor = new TransportDecompressor(recycler);
+                        compressedHeader = header;
                     }
                     fragmentConsumer.accept(header);
 
@@ -111,7 +153,9 @@ public class InboundDecoder implements Releasable {
             } else {
                 retainedContent = reference.retain();
             }
-            if (decompressor != null) {
+            if (chunkHeader != null) {
+                addChunk(retainedContent);
+            } else if (decompressor != null) {
                 decompress(retainedContent);
                 ReleasableBytesReference decompressed;
                 while ((decompressed = decompressor.pollDecompressedPage()) != null) {
@@ -121,7 +165,11 @@ public class InboundDecoder implements Releasable {
                 fragmentConsumer.accept(retainedContent);
             }
             if (isDone()) {
-                finishMessage(fragmentConsumer);
+                if (chunkHeader != null) {
+                    finishChunk(fragmentConsumer);
+                } else {
+                    finishMessage(fragmentConsumer);
+                }
             }
 
             return bytesToConsume;
@@ -132,6 +180,10 @@ public class InboundDecoder implements Releasable {
     public void close() {
         isClosed = true;
         cleanDecodeState();
+        Releasables.closeWhileHandlingException(chunkedRequests.values());
+        Releasables.closeWhileHandlingException(chunkedResponses.values());
+        chunkedRequests.clear();
+        chunkedResponses.clear();
     }
 
     private void finishMessage(Consumer<Object> fragmentConsumer) {
@@ -139,9 +191,63 @@ public class InboundDecoder implements Releasable {
         fragmentConsumer.accept(END_CONTENT);
     }
 
+    /**
+     * Adds the given content of the chunk that is being decoded to the received chunks of its message. Fails if the content trips the
+     * in-flight requests circuit breaker, or if the chunk starts a message while every lane has a message that is partially received
+     * already, which means that the sender abandoned a message that will never complete. Either way the channel is closed, which releases
+     * the received chunks.
+     */
+    private void addChunk(ReleasableBytesReference content) {
+        final Map<Long, ChunkedMessage> chunkedMessages = chunkHeader.isRequest() ? chunkedRequests : chunkedResponses;
+        final long requestId = chunkHeader.getRequestId();
+        ChunkedMessage chunkedMessage = chunkedMessages.get(requestId);
+        if (chunkedMessage == null) {
+            if (chunkedRequests.size() + chunkedResponses.size() >= MAX_CHUNKED_MESSAGES) {
+                content.close();
+                throw new IllegalStateException("chunked message [" + requestId + "] exceeds the [" + MAX_CHUNKED_MESSAGES
+                    + "] messages that can be partially received at a time");
+            }
+            chunkedMessage = new ChunkedMessage(circuitBreaker.get());
+            chunkedMessages.put(requestId, chunkedMessage);
+        }
+        chunkedMessage.add(content);
+    }
+
+    /**
+     * Decodes the message of the chunk that was just received if all the chunks of the message are received, as if the message was
+     * received in a single piece.
+     */
+    private void finishChunk(Consumer<Object> fragmentConsumer) throws IOException {
+        final Map<Long, ChunkedMessage> chunkedMessages = chunkHeader.isRequest() ? chunkedRequests : chunkedResponses;
+        final long requestId = chunkHeader.getRequestId();
+        cleanDecodeState();
+        final ChunkedMessage chunkedMessage = chunkedMessages.get(requestId);
+        if (chunkedMessage != null && chunkedMessage.isComplete()) {
+            chunkedMessages.remove(requestId);
+            decodingChunkedMessage = true;
+            // the in-flight requests circuit breaker accounts for the decoded message instead
+            try (ReleasableBytesReference message = chunkedMessage.bytes()) {
+                int bytesDecoded = 0;
+                while (bytesDecoded < message.length()) {
+                    try (ReleasableBytesReference remaining = message.retainedSlice(bytesDecoded, message.length() - bytesDecoded)) {
+                        final int decoded = internalDecode(remaining, fragmentConsumer);
+                        if (decoded == 0) {
+                            throw new IllegalStateException("chunked message [" + requestId + "] is incomplete");
+                        }
+                        bytesDecoded += decoded;
+                    }
+                }
+            } finally {
+                decodingChunkedMessage = false;
+            }
+        }
+    }
+
     private void cleanDecodeState() {
         IOUtils.closeWhileHandlingException(decompressor);
         decompressor = null;
+        compressedHeader = null;
+        chunkHeader = null;
         totalNetworkSize = -1;
         bytesConsumed = 0;
     }
@@ -150,6 +256,9 @@ public class InboundDecoder implements Releasable {
         try (ReleasableBytesReference toRelease = content) {
             int consumed = decompressor.decompress(content);
             assert consumed == content.length();
+            if (compressedHeader.getCompressionScheme() == Compression.Scheme.NONE) {
+                compressedHeader.setCompressionScheme(decompressor.getScheme());
+            }
         }
     }
 
@@ -194,13 +303,73 @@ public class InboundDecoder implements Releasable {
                 if (remoteVersion.onOrAfter(TcpHeader.VERSION_WITH_HEADER_SIZE)) {
                     // Skip since we already have ensured enough data available
                     streamInput.readInt();
-                    header.finishParsingHeader(streamInput);
+                    if (header.isChunk() == false) {
+                        header.finishParsingHeader(streamInput);
+                    }
                 }
             }
             return header;
         }
     }
 
+    /**
+     * The chunks of a message that is sent in chunks, see {@link OutboundLanes}.
+     */
+    private static final class ChunkedMessage implements Releasable {
+
+        private final CircuitBreaker circuitBreaker;
+        private final ArrayList<ReleasableBytesReference> chunks = new ArrayList<>();
+        private int length = 0;
+        private int networkMessageSize = -1;
+        private long reservedBytes = 0;
+
+        ChunkedMessage(CircuitBreaker circuitBreaker) {
+            this.circuitBreaker = circuitBreaker;
+        }
+
+        void add(ReleasableBytesReference chunk) {
+            try {
+                circuitBreaker.addEstimateBytesAndMaybeBreak(chunk.length(), "<chunked transport message>");
+            } catch (CircuitBreakingException e) {
+                chunk.close();
+                throw e;
+            }
+            reservedBytes += chunk.length();
+            chunks.add(chunk);
+            length += chunk.length();
+        }
+
+        boolean isComplete() throws IOException {
+            if (networkMessageSize == -1) {
+                final int messageLength = TcpTransport.readMessageLength(CompositeBytesReference.of(chunks.toArray(new BytesReference[0])));
+                if (messageLength == -1) {
+                    return false;
+                }
+                networkMessageSize = messageLength + TcpHeader.BYTES_REQUIRED_FOR_MESSAGE_SIZE;
+            }
+            return length >= networkMessageSize;
+        }
+
+        ReleasableBytesReference bytes() {
+            final ReleasableBytesReference[] references = chunks.toArray(new ReleasableBytesReference[0]);
+            chunks.clear();
+            releaseBreaker();
+            return new ReleasableBytesReference(CompositeBytesReference.of(references), () -> Releasables.close(references));
+        }
+
+        private void releaseBreaker() {
+            circuitBreaker.addWithoutBreaking(-reservedBytes);
+            reservedBytes = 0;
+        }
+
+        @Override
+        public void close() {
+            Releasables.closeWhileHandlingException(chunks);
+            chunks.clear();
+            releaseBreaker();
+        }
+    }
+
     private boolean isOnHeader() {
         return totalNetworkSize == -1;
     }
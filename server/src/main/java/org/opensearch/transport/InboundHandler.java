@@ -37,10 +37,13 @@ import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.message.ParameterizedMessage;
 import org.apache.lucene.util.BytesRef;
 import org.opensearch.Version;
+import org.opensearch.action.ActionListener;
 import org.opensearch.common.io.stream.ByteBufferStreamInput;
 import org.opensearch.common.io.stream.NamedWriteableAwareStreamInput;
 import org.opensearch.common.io.stream.NamedWriteableRegistry;
 import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.transport.TransportAddress;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.AbstractRunnable;
@@ -121,6 +124,13 @@ public class InboundHandler {
             } else {
                 // Responses do not support short circuiting currently
                 assert message.isShortCircuit() == false;
+                if (header.isBatchAck()) {
+                    handleBatchAck(channel, header, message);
+                    return;
+                } else if (header.isBatch()) {
+                    handleBatch(channel, header, message);
+                    return;
+                }
                 final TransportResponseHandler<?> handler;
                 long requestId = header.getRequestId();
                 if (header.isHandshake()) {
@@ -180,7 +190,8 @@ public class InboundHandler {
             final StreamInput stream = namedWriteableStream(message.openOrGetStreamInput());
             assertRemoteVersion(stream, header.getVersion());
             final TransportChannel transportChannel = new TcpTransportChannel(outboundHandler, channel, action, requestId, version,
-                header.getFeatures(), header.isCompressed(), header.isHandshake(), message.takeBreakerReleaseControl());
+                header.getFeatures(), header.getCompressionScheme(), header.getLane(), header.isHandshake(),
+                message.takeBreakerReleaseControl());
             try {
                 handshaker.handleHandshake(transportChannel, requestId, stream);
             } catch (Exception e) {
@@ -194,8 +205,16 @@ public class InboundHandler {
                 }
             }
         } else {
+            final RequestHandlerRegistry<T> reg = requestHandlers.getHandler(action);
+            final Releasable release;
+            if (message.isShortCircuit() == false && reg != null && reg.allowsUnsafeBuffers()) {
+                // the request may hold on to slices of the content of the message, which is released along with the response
+                release = Releasables.wrap(message.takeBreakerReleaseControl(), message.retainContent());
+            } else {
+                release = message.takeBreakerReleaseControl();
+            }
             final TransportChannel transportChannel = new TcpTransportChannel(outboundHandler, channel, action, requestId, version,
-                header.getFeatures(), header.isCompressed(), header.isHandshake(), message.takeBreakerReleaseControl());
+                header.getFeatures(), header.getCompressionScheme(), header.getLane(), header.isHandshake(), release);
             try {
                 messageListener.onRequestReceived(requestId, action);
                 if (message.isShortCircuit()) {
@@ -203,7 +222,6 @@ public class InboundHandler {
                 } else {
                     final StreamInput stream = namedWriteableStream(message.openOrGetStreamInput());
                     assertRemoteVersion(stream, header.getVersion());
-                    final RequestHandlerRegistry<T> reg = requestHandlers.getHandler(action);
                     assert reg != null;
                     final T request = reg.newRequest(stream);
                     request.remoteAddress(new TransportAddress(channel.getRemoteAddress()));
@@ -269,6 +287,95 @@ public class InboundHandler {
         }
     }
 
+    private void handleBatchAck(TcpChannel channel, Header header, InboundMessage message) throws IOException {
+        Exception failure = null;
+        if (header.isError()) {
+            final StreamInput streamInput = namedWriteableStream(message.openOrGetStreamInput());
+            assertRemoteVersion(streamInput, header.getVersion());
+            try {
+                failure = streamInput.readException();
+            } catch (Exception e) {
+                failure = new TransportSerializationException(
+                    "Failed to deserialize the failure of the batch of the response to request [" + header.getRequestId() + "]", e);
+            }
+        }
+        outboundHandler.onBatchAck(channel, header.getRequestId(), failure);
+    }
+
+    /**
+     * Handles a batch of a response without removing the handler of the response, which still has to handle the following batches and
+     * the response itself, and acknowledges the batch to the responder once the handler is done with it.
+     */
+    private <T extends TransportResponse> void handleBatch(TcpChannel channel, Header header, InboundMessage message) throws IOException {
+        final long requestId = header.getRequestId();
+        final Version version = header.getVersion();
+        final Transport.ResponseContext<? extends TransportResponse> context = responseHandlers.get(requestId);
+        if (context == null) {
+            // the request timed out or its connection was closed, so nobody is waiting for the response anymore
+            sendBatchAck(channel, version, requestId,
+                new TransportException("no handler for the batch of the response to request [" + requestId + "]"));
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        final TransportResponseHandler<T> handler = (TransportResponseHandler<T>) context.handler();
+        final T batch;
+        try {
+            final StreamInput streamInput = namedWriteableStream(message.openOrGetStreamInput());
+            assertRemoteVersion(streamInput, version);
+            batch = handler.read(streamInput);
+            batch.remoteAddress(new TransportAddress(channel.getRemoteAddress()));
+            if (streamInput.read() != -1) {
+                throw new IllegalStateException("Message not fully read (batch) for requestId [" + requestId + "], handler [" + handler
+                    + "]; resetting");
+            }
+        } catch (Exception e) {
+            final Exception serializationException = new TransportSerializationException(
+                "Failed to deserialize the batch of the response from handler [" + handler + "]", e);
+            logger.warn(new ParameterizedMessage("Failed to deserialize the batch of a response from [{}]", channel.getRemoteAddress()),
+                serializationException);
+            sendBatchAck(channel, version, requestId, serializationException);
+            return;
+        }
+        final ActionListener<Void> ackListener = ActionListener.wrap(
+            v -> sendBatchAck(channel, version, requestId, null),
+            e -> sendBatchAck(channel, version, requestId, e));
+        final String executor = handler.executor();
+        if (ThreadPool.Names.SAME.equals(executor)) {
+            doHandleBatch(handler, batch, ackListener);
+        } else {
+            threadPool.executor(executor).execute(new AbstractRunnable() {
+                @Override
+                protected void doRun() {
+                    doHandleBatch(handler, batch, ackListener);
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    ackListener.onFailure(e);
+                }
+            });
+        }
+    }
+
+    private <T extends TransportResponse> void doHandleBatch(TransportResponseHandler<T> handler, T batch, ActionListener<Void> listener) {
+        try {
+            handler.handleBatch(batch, listener);
+        } catch (Exception e) {
+            listener.onFailure(e);
+        }
+    }
+
+    private void sendBatchAck(TcpChannel channel, Version version, long requestId, Exception failure) {
+        try {
+            outboundHandler.sendBatchAck(version, channel, requestId, failure);
+        } catch (Exception e) {
+            if (failure != null) {
+                e.addSuppressed(failure);
+            }
+            logger.warn(() -> new ParameterizedMessage("failed to acknowledge the batch of the response to request [{}]", requestId), e);
+        }
+    }
+
     private void handlerResponseError(StreamInput stream, final TransportResponseHandler<?> handler) {
         Exception error;
         try {
@@ -32,7 +32,10 @@
 
 package org.opensearch.transport;
 
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.bytes.ReleasableBytesReference;
+import org.opensearch.common.io.stream.FilterStreamInput;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lease.Releasables;
@@ -48,6 +51,7 @@ public class InboundMessage implements Releasable {
     private final boolean isPing;
     private Releasable breakerRelease;
     private StreamInput streamInput;
+    private boolean contentRetained;
 
     public InboundMessage(Header header, ReleasableBytesReference content, Releasable breakerRelease) {
         this.header = header;
@@ -107,10 +111,21 @@ public class InboundMessage implements Releasable {
         }
     }
 
+    /**
+     * Retains the content of this message until both this message and the returned releasable are released. Once the content is
+     * retained, the stream of this message reads {@link StreamInput#readBytesReference(int) bytes references} as slices of the content
+     * rather than as copies, so that a request read from this message can hold on to them until the returned releasable is released.
+     */
+    public Releasable retainContent() {
+        assert isPing == false && content != null;
+        contentRetained = true;
+        return content.retain();
+    }
+
     public StreamInput openOrGetStreamInput() throws IOException {
         assert isPing == false && content != null;
         if (streamInput == null) {
-            streamInput = content.streamInput();
+            streamInput = new ContentStreamInput(content.streamInput());
             streamInput.setVersion(header.getVersion());
         }
         return streamInput;
@@ -126,4 +141,39 @@ public class InboundMessage implements Releasable {
     public String toString() {
         return "InboundMessage{" + header + "}";
     }
+
+    /**
+     * A stream over the content of the message that slices rather than copies bytes references once the content is retained.
+     */
+    private final class ContentStreamInput extends FilterStreamInput {
+
+        private ContentStreamInput(StreamInput delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public BytesReference readBytesReference(int length) throws IOException {
+            if (contentRetained == false) {
+                return super.readBytesReference(length);
+            }
+            if (length == 0) {
+                return BytesArray.EMPTY;
+            }
+            ensureCanReadBytes(length);
+            final BytesReference slice = content.slice(content.length() - delegate.available(), length);
+            final long skipped = delegate.skip(length);
+            assert skipped == length : skipped + " vs " + length;
+            return slice;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            return delegate.read(b, off, len);
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            return delegate.skip(n);
+        }
+    }
 }
@@ -66,7 +66,7 @@ public class InboundPipeline implements Releasable {
                            Supplier<CircuitBreaker> circuitBreaker,
                            Function<String, RequestHandlerRegistry<TransportRequest>> registryFunction,
                            BiConsumer<TcpChannel, InboundMessage> messageHandler) {
-        this(statsTracker, relativeTimeInMillis, new InboundDecoder(version, recycler),
+        this(statsTracker, relativeTimeInMillis, new InboundDecoder(version, recycler, circuitBreaker),
             new InboundAggregator(circuitBreaker, registryFunction), messageHandler);
     }
 
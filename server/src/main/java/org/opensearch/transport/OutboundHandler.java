@@ -42,17 +42,21 @@ import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.common.CheckedSupplier;
 import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.io.stream.ReleasableBytesStreamOutput;
+import org.opensearch.common.io.stream.Writeable;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.network.CloseableChannel;
 import org.opensearch.common.transport.NetworkExceptionHelper;
 import org.opensearch.common.transport.TransportAddress;
+import org.opensearch.common.unit.ByteSizeValue;
 import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.core.internal.io.IOUtils;
 import org.opensearch.threadpool.ThreadPool;
 
 import java.io.IOException;
+import java.util.Map;
 import java.util.Set;
 
 final class OutboundHandler {
@@ -65,20 +69,24 @@ final class OutboundHandler {
     private final StatsTracker statsTracker;
     private final ThreadPool threadPool;
     private final BigArrays bigArrays;
+    private final OutboundLanes lanes;
+    // the listeners of the batches of responses that were sent and that the requester did not acknowledge yet, by channel and request id
+    private final Map<TcpChannel, Map<Long, ActionListener<Void>>> pendingBatches = ConcurrentCollections.newConcurrentMap();
     private volatile TransportMessageListener messageListener = TransportMessageListener.NOOP_LISTENER;
 
     OutboundHandler(String nodeName, Version version, String[] features, StatsTracker statsTracker, ThreadPool threadPool,
-                    BigArrays bigArrays) {
+                    BigArrays bigArrays, ByteSizeValue messageChunkSize) {
         this.nodeName = nodeName;
         this.version = version;
         this.features = features;
         this.statsTracker = statsTracker;
         this.threadPool = threadPool;
         this.bigArrays = bigArrays;
+        this.lanes = new OutboundLanes(Math.toIntExact(messageChunkSize.getBytes()));
     }
 
     void sendBytes(TcpChannel channel, BytesReference bytes, ActionListener<Void> listener) {
-        SendContext sendContext = new SendContext(channel, () -> bytes, listener);
+        SendContext sendContext = new SendContext(channel, () -> bytes, null, null, listener);
         try {
             internalSend(channel, sendContext);
         } catch (IOException e) {
@@ -89,52 +97,142 @@ final class OutboundHandler {
 
     /**
      * Sends the request to the given channel. This method should be used to send {@link TransportRequest}
-     * objects back to the caller.
+     * objects back to the caller. Large requests are sent in chunks in the lane of the type of the request.
      */
     void sendRequest(final DiscoveryNode node, final TcpChannel channel, final long requestId, final String action,
                      final TransportRequest request, final TransportRequestOptions options, final Version channelVersion,
-                     final boolean compressRequest, final boolean isHandshake) throws IOException, TransportException {
+                     final Compression.Scheme compressionScheme, final boolean isHandshake) throws IOException, TransportException {
         Version version = Version.min(this.version, channelVersion);
+        final TransportRequestOptions.Type lane = isHandshake ? null : options.type();
         OutboundMessage.Request message = new OutboundMessage.Request(threadPool.getThreadContext(), features, request, version, action,
-            requestId, isHandshake, compressRequest);
+            requestId, isHandshake, compressionScheme, lane);
         ActionListener<Void> listener = ActionListener.wrap(() ->
             messageListener.onRequestSent(node, requestId, action, request, options));
-        sendMessage(channel, message, listener);
+        sendMessage(channel, message, lane, listener);
     }
 
     /**
      * Sends the response to the given channel. This method should be used to send {@link TransportResponse}
-     * objects back to the caller.
+     * objects back to the caller. Large responses are sent in chunks in the lane of the request.
      *
-     * @see #sendErrorResponse(Version, Set, TcpChannel, long, String, Exception) for sending error responses
+     * @see #sendErrorResponse(Version, Set, TcpChannel, long, String, TransportRequestOptions.Type, Exception) for sending error responses
      */
     void sendResponse(final Version nodeVersion, final Set<String> features, final TcpChannel channel,
                       final long requestId, final String action, final TransportResponse response,
-                      final boolean compress, final boolean isHandshake) throws IOException {
+                      final Compression.Scheme compressionScheme, final TransportRequestOptions.Type lane,
+                      final boolean isHandshake) throws IOException {
         Version version = Version.min(this.version, nodeVersion);
         OutboundMessage.Response message = new OutboundMessage.Response(threadPool.getThreadContext(), features, response, version,
-            requestId, isHandshake, compress);
+            requestId, isHandshake, compressionScheme);
         ActionListener<Void> listener = ActionListener.wrap(() -> messageListener.onResponseSent(requestId, action, response));
-        sendMessage(channel, message, listener);
+        sendMessage(channel, message, isHandshake ? null : lane, listener);
     }
 
     /**
      * Sends back an error response to the caller via the given channel
      */
     void sendErrorResponse(final Version nodeVersion, final Set<String> features, final TcpChannel channel, final long requestId,
-                           final String action, final Exception error) throws IOException {
+                           final String action, final TransportRequestOptions.Type lane, final Exception error) throws IOException {
         Version version = Version.min(this.version, nodeVersion);
         TransportAddress address = new TransportAddress(channel.getLocalAddress());
         RemoteTransportException tx = new RemoteTransportException(nodeName, address, action, error);
         OutboundMessage.Response message = new OutboundMessage.Response(threadPool.getThreadContext(), features, tx, version, requestId,
             false, false);
         ActionListener<Void> listener = ActionListener.wrap(() -> messageListener.onResponseSent(requestId, action, error));
-        sendMessage(channel, message, listener);
+        sendMessage(channel, message, lane, listener);
     }
 
-    private void sendMessage(TcpChannel channel, OutboundMessage networkMessage, ActionListener<Void> listener) throws IOException {
+    /**
+     * Sends a batch of the response to the given request, which the requester handles before it receives the response itself. The
+     * listener is notified once the requester acknowledged the batch, which it does once it handled the batch, or once the batch
+     * cannot be sent or the channel is closed before the batch is acknowledged. At most one batch per request is in flight.
+     */
+    void sendResponseBatch(final Version nodeVersion, final Set<String> features, final TcpChannel channel, final long requestId,
+                           final String action, final TransportResponse batch, final Compression.Scheme compressionScheme,
+                           final TransportRequestOptions.Type lane, final ActionListener<Void> listener) throws IOException {
+        Version version = Version.min(this.version, nodeVersion);
+        assert version.onOrAfter(Version.V_1_1_0) : "batches of responses are not supported by " + version;
+        Map<Long, ActionListener<Void>> channelBatches = pendingBatches.get(channel);
+        if (channelBatches == null) {
+            final Map<Long, ActionListener<Void>> newChannelBatches = ConcurrentCollections.newConcurrentMap();
+            channelBatches = pendingBatches.putIfAbsent(channel, newChannelBatches);
+            if (channelBatches == null) {
+                channelBatches = newChannelBatches;
+                channel.addCloseListener(ActionListener.wrap(() -> failPendingBatches(channel)));
+            }
+        }
+        final ActionListener<Void> existing = channelBatches.putIfAbsent(requestId, listener);
+        if (existing != null) {
+            throw new IllegalStateException("a batch of the response to request [" + requestId + "] is already in flight");
+        }
+        final Map<Long, ActionListener<Void>> batches = channelBatches;
+        if (channel.isOpen() == false) {
+            // the channel may have been closed before the batch was registered, in which case the close listener did not see it
+            failPendingBatch(batches, requestId, new TransportException("channel [" + channel + "] is closed"));
+            return;
+        }
+        OutboundMessage.Response message = new OutboundMessage.Response(threadPool.getThreadContext(), features, batch, version,
+            requestId, false, compressionScheme, true);
+        sendMessage(channel, message, lane, ActionListener.wrap(v -> {}, e -> failPendingBatch(batches, requestId, e)));
+    }
+
+    /**
+     * Acknowledges a batch of the response to the given request once it was handled, or once it failed to be handled with the given
+     * exception, so that the responder sends the next batch or gives up on the response.
+     */
+    void sendBatchAck(final Version nodeVersion, final TcpChannel channel, final long requestId, final Exception failure)
+        throws IOException {
+        Version version = Version.min(this.version, nodeVersion);
+        final Writeable content;
+        if (failure == null) {
+            content = TransportResponse.Empty.INSTANCE;
+        } else {
+            content = new RemoteTransportException(nodeName, new TransportAddress(channel.getLocalAddress()), null, failure);
+        }
+        OutboundMessage.BatchAck message = new OutboundMessage.BatchAck(threadPool.getThreadContext(), version, requestId, content);
+        sendMessage(channel, message, null, ActionListener.wrap(() -> {}));
+    }
+
+    /**
+     * Notifies the listener of the batch of the response to the given request that the requester acknowledged it. The listener is
+     * notified on the network thread, so it must fork if it does anything more expensive than sending the next batch.
+     */
+    void onBatchAck(final TcpChannel channel, final long requestId, final Exception failure) {
+        final Map<Long, ActionListener<Void>> channelBatches = pendingBatches.get(channel);
+        final ActionListener<Void> listener = channelBatches == null ? null : channelBatches.remove(requestId);
+        if (listener == null) {
+            logger.debug("received the acknowledgement of an unknown batch of the response to request [{}] on channel [{}]",
+                requestId, channel);
+        } else if (failure == null) {
+            listener.onResponse(null);
+        } else {
+            listener.onFailure(failure);
+        }
+    }
+
+    private static void failPendingBatch(Map<Long, ActionListener<Void>> channelBatches, long requestId, Exception e) {
+        final ActionListener<Void> listener = channelBatches.remove(requestId);
+        if (listener != null) {
+            listener.onFailure(e);
+        }
+    }
+
+    private void failPendingBatches(TcpChannel channel) {
+        final Map<Long, ActionListener<Void>> channelBatches = pendingBatches.remove(channel);
+        if (channelBatches != null) {
+            for (Long requestId : channelBatches.keySet()) {
+                failPendingBatch(channelBatches, requestId, new TransportException("channel [" + channel
+                    + "] was closed before the batch of the response to request [" + requestId + "] was acknowledged"));
+            }
+        }
+    }
+
+    private void sendMessage(TcpChannel channel, OutboundMessage networkMessage, TransportRequestOptions.Type lane,
+                             ActionListener<Void> listener) throws IOException {
         MessageSerializer serializer = new MessageSerializer(networkMessage, bigArrays);
-        SendContext sendContext = new SendContext(channel, serializer, listener, serializer);
+        // only nodes that know how to reassemble chunked messages receive messages in chunks
+        final TransportRequestOptions.Type chunkingLane = networkMessage.getVersion().onOrAfter(Version.V_1_1_0) ? lane : null;
+        SendContext sendContext = new SendContext(channel, serializer, networkMessage, chunkingLane, listener, serializer);
         internalSend(channel, sendContext);
     }
 
@@ -143,7 +241,11 @@ final class OutboundHandler {
         BytesReference reference = sendContext.get();
         // stash thread context so that channel event loop is not polluted by thread context
         try (ThreadContext.StoredContext existing = threadPool.getThreadContext().stashContext()) {
-            channel.sendMessage(reference, sendContext);
+            if (sendContext.lane != null && lanes.needsChunking(reference.length())) {
+                lanes.sendMessage(channel, sendContext.lane, sendContext.message, reference, sendContext);
+            } else {
+                channel.sendMessage(reference, sendContext);
+            }
         } catch (RuntimeException ex) {
             sendContext.onFailure(ex);
             CloseableChannel.closeChannel(channel);
@@ -186,19 +288,24 @@ final class OutboundHandler {
 
         private final TcpChannel channel;
         private final CheckedSupplier<BytesReference, IOException> messageSupplier;
+        // the message and the lane to send it in chunks in if it is large, or null if it is never sent in chunks
+        private final NetworkMessage message;
+        private final TransportRequestOptions.Type lane;
         private final ActionListener<Void> listener;
         private final Releasable optionalReleasable;
         private long messageSize = -1;
 
-        private SendContext(TcpChannel channel, CheckedSupplier<BytesReference, IOException> messageSupplier,
-                            ActionListener<Void> listener) {
-            this(channel, messageSupplier, listener, null);
+        private SendContext(TcpChannel channel, CheckedSupplier<BytesReference, IOException> messageSupplier, NetworkMessage message,
+                            TransportRequestOptions.Type lane, ActionListener<Void> listener) {
+            this(channel, messageSupplier, message, lane, listener, null);
         }
 
-        private SendContext(TcpChannel channel, CheckedSupplier<BytesReference, IOException> messageSupplier,
-                            ActionListener<Void> listener, Releasable optionalReleasable) {
+        private SendContext(TcpChannel channel, CheckedSupplier<BytesReference, IOException> messageSupplier, NetworkMessage message,
+                            TransportRequestOptions.Type lane, ActionListener<Void> listener, Releasable optionalReleasable) {
             this.channel = channel;
             this.messageSupplier = messageSupplier;
+            this.message = message;
+            this.lane = lane;
             this.listener = listener;
             this.optionalReleasable = optionalReleasable;
         }
@@ -0,0 +1,254 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.transport;
+
+import org.opensearch.Version;
+import org.opensearch.action.ActionListener;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.bytes.CompositeBytesReference;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.network.CloseableChannel;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sends the messages that are larger than the chunk size as a series of chunks, so that the messages that are sent on the same channel
+ * in the meantime are written in between two chunks rather than after the whole message. A channel writes one chunk at a time, which it
+ * takes from the oldest message of the lane with the highest priority, so that a large cluster state update overtakes the large recovery
+ * and bulk messages that are already being sent for instance. The receiver reassembles the chunks of a message, see
+ * {@link InboundDecoder}.
+ * <p>
+ * The priorities only order the messages of a single channel. Under the default {@link ConnectionProfile} every channel of a connection
+ * carries a single type of message, so there the lanes only interleave the messages of the same type, and they do not let a ping of
+ * the follower checks overtake anything since pings have channels of their own. The priorities take effect with profiles that share
+ * channels between types, such as the profile of the listed nodes of the transport client.
+ * <p>
+ * Each channel schedules its chunks under its own lock, so the channels do not contend with each other.
+ */
+final class OutboundLanes {
+
+    // the lanes from the highest to the lowest priority
+    private static final TransportRequestOptions.Type[] LANES_BY_PRIORITY = new TransportRequestOptions.Type[] {
+        TransportRequestOptions.Type.PING,
+        TransportRequestOptions.Type.STATE,
+        TransportRequestOptions.Type.REG,
+        TransportRequestOptions.Type.BULK,
+        TransportRequestOptions.Type.RECOVERY
+    };
+
+    private final int chunkSize;
+    // the lanes of the channels that have chunks to write, which are removed once they have no chunks left
+    private final Map<TcpChannel, ChannelLanes> channelLanes = new ConcurrentHashMap<>();
+
+    OutboundLanes(int chunkSize) {
+        if (chunkSize < TcpHeader.BYTES_REQUIRED_FOR_MESSAGE_SIZE) {
+            throw new IllegalArgumentException("chunk size must be at least [" + TcpHeader.BYTES_REQUIRED_FOR_MESSAGE_SIZE + "] bytes");
+        }
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Returns whether a message of the given length is sent in chunks.
+     */
+    boolean needsChunking(int length) {
+        return length > chunkSize;
+    }
+
+    /**
+     * Sends the given serialized message in chunks in the given lane of the channel, and notifies the listener once its last chunk is
+     * written or once a chunk fails to be written, which closes the channel since the receiver cannot make sense of the following chunks.
+     */
+    void sendMessage(TcpChannel channel, TransportRequestOptions.Type lane, NetworkMessage message, BytesReference bytes,
+                     ActionListener<Void> listener) {
+        assert message.getVersion().onOrAfter(Version.V_1_1_0) : "chunked messages are not supported by " + message.getVersion();
+        final ChunkedMessage chunkedMessage = new ChunkedMessage(message, bytes, listener);
+        while (true) {
+            final ChannelLanes existing = channelLanes.get(channel);
+            if (existing != null) {
+                synchronized (existing) {
+                    if (existing.removed == false) {
+                        // the chunks of the message are written once the chunk that is being written is done
+                        existing.add(lane, chunkedMessage);
+                        return;
+                    }
+                }
+            }
+            final ChannelLanes lanes = new ChannelLanes(channel);
+            lanes.add(lane, chunkedMessage);
+            if (channelLanes.putIfAbsent(channel, lanes) == null) {
+                writeChunks(lanes);
+                return;
+            }
+            // another message registered the lanes of the channel in the meantime
+        }
+    }
+
+    /**
+     * Writes the chunks of the channel one at a time until a chunk is written asynchronously, in which case the next chunk is written once
+     * it is done, or until the channel has no chunks left. Chunks that are written synchronously are followed by the next chunk in a loop
+     * rather than through their listener, which would grow the stack by a few frames per chunk.
+     */
+    private void writeChunks(ChannelLanes lanes) {
+        while (true) {
+            final ChunkedMessage message;
+            final BytesReference chunk;
+            final boolean isLastChunk;
+            synchronized (lanes) {
+                message = lanes.peek();
+                if (message == null) {
+                    lanes.removed = true;
+                    channelLanes.remove(lanes.channel, lanes);
+                    return;
+                }
+                chunk = message.nextChunk(chunkSize);
+                isLastChunk = message.hasMoreChunks() == false;
+                if (isLastChunk) {
+                    lanes.remove(message);
+                }
+                lanes.writing = true;
+                lanes.chunkDone = false;
+            }
+            final ActionListener<Void> chunkListener = new ActionListener<Void>() {
+                @Override
+                public void onResponse(Void v) {
+                    try {
+                        if (isLastChunk) {
+                            message.listener.onResponse(v);
+                        }
+                    } finally {
+                        onChunkDone(lanes);
+                    }
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    if (isLastChunk == false) {
+                        synchronized (lanes) {
+                            lanes.remove(message);
+                        }
+                    }
+                    try {
+                        message.listener.onFailure(e);
+                    } finally {
+                        CloseableChannel.closeChannel(lanes.channel);
+                        onChunkDone(lanes);
+                    }
+                }
+            };
+            try {
+                lanes.channel.sendMessage(chunk, chunkListener);
+            } catch (RuntimeException e) {
+                chunkListener.onFailure(e);
+            }
+            synchronized (lanes) {
+                lanes.writing = false;
+                if (lanes.chunkDone == false) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void onChunkDone(ChannelLanes lanes) {
+        synchronized (lanes) {
+            if (lanes.writing) {
+                // the chunk was written synchronously, the loop that is writing it writes the next chunk
+                lanes.chunkDone = true;
+                return;
+            }
+        }
+        writeChunks(lanes);
+    }
+
+    /**
+     * The messages of a channel that are being sent in chunks, by lane.
+     */
+    private static final class ChannelLanes {
+
+        private final TcpChannel channel;
+        // whether a chunk is being written by the loop of writeChunks, and whether the chunk is done already
+        private boolean writing = false;
+        private boolean chunkDone = false;
+        // whether the lanes have no chunks left and were removed, in which case new messages register new lanes
+        private boolean removed = false;
+        private final EnumMap<TransportRequestOptions.Type, ArrayDeque<ChunkedMessage>> lanes =
+            new EnumMap<>(TransportRequestOptions.Type.class);
+
+        ChannelLanes(TcpChannel channel) {
+            this.channel = channel;
+        }
+
+        void add(TransportRequestOptions.Type lane, ChunkedMessage message) {
+            message.lane = lane;
+            lanes.computeIfAbsent(lane, l -> new ArrayDeque<>()).add(message);
+        }
+
+        ChunkedMessage peek() {
+            for (TransportRequestOptions.Type lane : LANES_BY_PRIORITY) {
+                final ArrayDeque<ChunkedMessage> messages = lanes.get(lane);
+                if (messages != null && messages.isEmpty() == false) {
+                    return messages.peekFirst();
+                }
+            }
+            return null;
+        }
+
+        void remove(ChunkedMessage message) {
+            final ArrayDeque<ChunkedMessage> messages = lanes.get(message.lane);
+            if (messages != null) {
+                messages.remove(message);
+            }
+        }
+    }
+
+    private static final class ChunkedMessage {
+
+        private final long requestId;
+        private final byte status;
+        private final Version version;
+        private final BytesReference bytes;
+        private final ActionListener<Void> listener;
+        private TransportRequestOptions.Type lane;
+        private int offset = 0;
+
+        ChunkedMessage(NetworkMessage message, BytesReference bytes, ActionListener<Void> listener) {
+            this.requestId = message.getRequestId();
+            final byte status = message.isRequest() ? TransportStatus.setRequest((byte) 0) : TransportStatus.setResponse((byte) 0);
+            this.status = TransportStatus.setChunk(status);
+            this.version = message.getVersion();
+            this.bytes = bytes;
+            this.listener = listener;
+        }
+
+        boolean hasMoreChunks() {
+            return offset < bytes.length();
+        }
+
+        /**
+         * Returns the next chunk of the message along with the header that identifies the message that it belongs to.
+         */
+        BytesReference nextChunk(int chunkSize) {
+            final int length = Math.min(chunkSize, bytes.length() - offset);
+            final BytesReference content = bytes.slice(offset, length);
+            offset += length;
+            try (BytesStreamOutput header = new BytesStreamOutput(TcpHeader.headerSize(version))) {
+                TcpHeader.writeHeader(header, requestId, status, version, length, 0);
+                return CompositeBytesReference.of(header.copyBytes(), content);
+            } catch (IOException e) {
+                // writing to a BytesStreamOutput does not fail
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -47,10 +47,13 @@ import java.util.Set;
 abstract class OutboundMessage extends NetworkMessage {
 
     private final Writeable message;
+    private final Compression.Scheme compressionScheme;
 
-    OutboundMessage(ThreadContext threadContext, Version version, byte status, long requestId, Writeable message) {
+    OutboundMessage(ThreadContext threadContext, Version version, byte status, long requestId, Writeable message,
+                    Compression.Scheme compressionScheme) {
         super(threadContext, version, status, requestId);
         this.message = message;
+        this.compressionScheme = TransportStatus.isCompress(status) ? compressionScheme : Compression.Scheme.NONE;
     }
 
     BytesReference serialize(BytesStreamOutput bytesStream) throws IOException {
@@ -68,7 +71,7 @@ abstract class OutboundMessage extends NetworkMessage {
         }
 
         try (CompressibleBytesOutputStream stream =
-                 new CompressibleBytesOutputStream(bytesStream, TransportStatus.isCompress(status))) {
+                 new CompressibleBytesOutputStream(bytesStream, compressionScheme)) {
             stream.setVersion(version);
             stream.setFeatures(bytesStream.getFeatures());
 
@@ -121,7 +124,19 @@ abstract class OutboundMessage extends NetworkMessage {
 
         Request(ThreadContext threadContext, String[] features, Writeable message, Version version, String action, long requestId,
                 boolean isHandshake, boolean compress) {
-            super(threadContext, version, setStatus(compress, isHandshake, message), requestId, message);
+            this(threadContext, features, message, version, action, requestId, isHandshake,
+                compress ? Compression.Scheme.DEFLATE : Compression.Scheme.NONE);
+        }
+
+        Request(ThreadContext threadContext, String[] features, Writeable message, Version version, String action, long requestId,
+                boolean isHandshake, Compression.Scheme compressionScheme) {
+            this(threadContext, features, message, version, action, requestId, isHandshake, compressionScheme, null);
+        }
+
+        Request(ThreadContext threadContext, String[] features, Writeable message, Version version, String action, long requestId,
+                boolean isHandshake, Compression.Scheme compressionScheme, TransportRequestOptions.Type lane) {
+            super(threadContext, version, setStatus(compressionScheme != Compression.Scheme.NONE, isHandshake, message, version, lane),
+                requestId, message, compressionScheme);
             this.features = features;
             this.action = action;
         }
@@ -135,7 +150,8 @@ abstract class OutboundMessage extends NetworkMessage {
             stream.writeString(action);
         }
 
-        private static byte setStatus(boolean compress, boolean isHandshake, Writeable message) {
+        private static byte setStatus(boolean compress, boolean isHandshake, Writeable message, Version version,
+                                      TransportRequestOptions.Type lane) {
             byte status = 0;
             status = TransportStatus.setRequest(status);
             if (compress && OutboundMessage.canCompress(message)) {
@@ -144,6 +160,9 @@ abstract class OutboundMessage extends NetworkMessage {
             if (isHandshake) {
                 status = TransportStatus.setHandshake(status);
             }
+            if (lane != null && version.onOrAfter(Version.V_1_1_0)) {
+                status = TransportStatus.setLane(status, lane);
+            }
 
             return status;
         }
@@ -155,7 +174,19 @@ abstract class OutboundMessage extends NetworkMessage {
 
         Response(ThreadContext threadContext, Set<String> features, Writeable message, Version version, long requestId,
                  boolean isHandshake, boolean compress) {
-            super(threadContext, version, setStatus(compress, isHandshake, message), requestId, message);
+            this(threadContext, features, message, version, requestId, isHandshake,
+                compress ? Compression.Scheme.DEFLATE : Compression.Scheme.NONE);
+        }
+
+        Response(ThreadContext threadContext, Set<String> features, Writeable message, Version version, long requestId,
+                 boolean isHandshake, Compression.Scheme compressionScheme) {
+            this(threadContext, features, message, version, requestId, isHandshake, compressionScheme, false);
+        }
+
+        Response(ThreadContext threadContext, Set<String> features, Writeable message, Version version, long requestId,
+                 boolean isHandshake, Compression.Scheme compressionScheme, boolean isBatch) {
+            super(threadContext, version, setStatus(compressionScheme != Compression.Scheme.NONE, isHandshake, isBatch, message),
+                requestId, message, compressionScheme);
             this.features = features;
         }
 
@@ -165,7 +196,7 @@ abstract class OutboundMessage extends NetworkMessage {
             stream.setFeatures(features);
         }
 
-        private static byte setStatus(boolean compress, boolean isHandshake, Writeable message) {
+        private static byte setStatus(boolean compress, boolean isHandshake, boolean isBatch, Writeable message) {
             byte status = 0;
             status = TransportStatus.setResponse(status);
             if (message instanceof RemoteTransportException) {
@@ -177,11 +208,35 @@ abstract class OutboundMessage extends NetworkMessage {
             if (isHandshake) {
                 status = TransportStatus.setHandshake(status);
             }
+            if (isBatch) {
+                status = TransportStatus.setBatch(status);
+            }
 
             return status;
         }
     }
 
+    /**
+     * The acknowledgement of a batch of a response, which the requester sends back to the responder once it handled the batch, and
+     * which carries the exception that the requester failed to handle the batch with if any.
+     */
+    static class BatchAck extends OutboundMessage {
+
+        BatchAck(ThreadContext threadContext, Version version, long requestId, Writeable message) {
+            super(threadContext, version, setStatus(message), requestId, message, Compression.Scheme.NONE);
+        }
+
+        private static byte setStatus(Writeable message) {
+            byte status = 0;
+            status = TransportStatus.setResponse(status);
+            status = TransportStatus.setBatchAck(status);
+            if (message instanceof RemoteTransportException) {
+                status = TransportStatus.setError(status);
+            }
+            return status;
+        }
+    }
+
     private static boolean canCompress(Writeable message) {
         return message instanceof BytesTransportRequest == false;
     }
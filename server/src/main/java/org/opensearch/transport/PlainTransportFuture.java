@@ -34,6 +34,7 @@ package org.opensearch.transport;
 
 import org.opensearch.OpenSearchException;
 import org.opensearch.OpenSearchTimeoutException;
+import org.opensearch.action.ActionListener;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.util.concurrent.BaseFuture;
 
@@ -113,6 +114,11 @@ public class PlainTransportFuture<V extends TransportResponse> extends BaseFutur
         }
     }
 
+    @Override
+    public void handleBatch(V batch, ActionListener<Void> listener) {
+        handler.handleBatch(batch, listener);
+    }
+
     @Override
     public String toString() {
         return "future(" + handler.toString() + ")";
@@ -48,6 +48,7 @@ public class RequestHandlerRegistry<Request extends TransportRequest> {
     private final TransportRequestHandler<Request> handler;
     private final boolean forceExecution;
     private final boolean canTripCircuitBreaker;
+    private final boolean allowsUnsafeBuffers;
     private final String executor;
     private final TaskManager taskManager;
     private final Writeable.Reader<Request> requestReader;
@@ -55,11 +56,18 @@ public class RequestHandlerRegistry<Request extends TransportRequest> {
     public RequestHandlerRegistry(String action, Writeable.Reader<Request> requestReader, TaskManager taskManager,
                                   TransportRequestHandler<Request> handler, String executor, boolean forceExecution,
                                   boolean canTripCircuitBreaker) {
+        this(action, requestReader, taskManager, handler, executor, forceExecution, canTripCircuitBreaker, false);
+    }
+
+    public RequestHandlerRegistry(String action, Writeable.Reader<Request> requestReader, TaskManager taskManager,
+                                  TransportRequestHandler<Request> handler, String executor, boolean forceExecution,
+                                  boolean canTripCircuitBreaker, boolean allowsUnsafeBuffers) {
         this.action = action;
         this.requestReader = requestReader;
         this.handler = handler;
         this.forceExecution = forceExecution;
         this.canTripCircuitBreaker = canTripCircuitBreaker;
+        this.allowsUnsafeBuffers = allowsUnsafeBuffers;
         this.executor = executor;
         this.taskManager = taskManager;
     }
@@ -97,6 +105,14 @@ public class RequestHandlerRegistry<Request extends TransportRequest> {
         return canTripCircuitBreaker;
     }
 
+    /**
+     * Whether requests of this handler may hold on to the network buffers they were read from rather than to copies of them. The buffers
+     * are released once a response to the request is sent, so the handler must not use a request once it responded to it.
+     */
+    public boolean allowsUnsafeBuffers() {
+        return allowsUnsafeBuffers;
+    }
+
     public String getExecutor() {
         return executor;
     }
@@ -113,6 +129,6 @@ public class RequestHandlerRegistry<Request extends TransportRequest> {
     public static <R extends TransportRequest> RequestHandlerRegistry<R> replaceHandler(RequestHandlerRegistry<R> registry,
                                                                                         TransportRequestHandler<R> handler) {
         return new RequestHandlerRegistry<>(registry.action, registry.requestReader, registry.taskManager, handler,
-            registry.executor, registry.forceExecution, registry.canTripCircuitBreaker);
+            registry.executor, registry.forceExecution, registry.canTripCircuitBreaker, registry.allowsUnsafeBuffers);
     }
 }
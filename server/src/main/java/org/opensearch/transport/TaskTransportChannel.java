@@ -33,6 +33,7 @@
 package org.opensearch.transport;
 
 import org.opensearch.Version;
+import org.opensearch.action.ActionListener;
 import org.opensearch.common.lease.Releasable;
 
 import java.io.IOException;
@@ -75,6 +76,11 @@ public class TaskTransportChannel implements TransportChannel {
         }
     }
 
+    @Override
+    public void sendResponseBatch(TransportResponse batch, ActionListener<Void> listener) {
+        channel.sendResponseBatch(batch, listener);
+    }
+
     @Override
     public Version getVersion() {
         return channel.getVersion();
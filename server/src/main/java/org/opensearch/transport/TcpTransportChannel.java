@@ -33,6 +33,7 @@
 package org.opensearch.transport;
 
 import org.opensearch.Version;
+import org.opensearch.action.ActionListener;
 import org.opensearch.common.lease.Releasable;
 
 import java.io.IOException;
@@ -48,19 +49,22 @@ public final class TcpTransportChannel implements TransportChannel {
     private final long requestId;
     private final Version version;
     private final Set<String> features;
-    private final boolean compressResponse;
+    private final Compression.Scheme compressionScheme;
+    private final TransportRequestOptions.Type lane;
     private final boolean isHandshake;
     private final Releasable breakerRelease;
 
     TcpTransportChannel(OutboundHandler outboundHandler, TcpChannel channel, String action, long requestId, Version version,
-                        Set<String> features, boolean compressResponse, boolean isHandshake, Releasable breakerRelease) {
+                        Set<String> features, Compression.Scheme compressionScheme, TransportRequestOptions.Type lane, boolean isHandshake,
+                        Releasable breakerRelease) {
         this.version = version;
         this.features = features;
         this.channel = channel;
         this.outboundHandler = outboundHandler;
         this.action = action;
         this.requestId = requestId;
-        this.compressResponse = compressResponse;
+        this.compressionScheme = compressionScheme;
+        this.lane = lane;
         this.isHandshake = isHandshake;
         this.breakerRelease = breakerRelease;
     }
@@ -73,7 +77,7 @@ public final class TcpTransportChannel implements TransportChannel {
     @Override
     public void sendResponse(TransportResponse response) throws IOException {
         try {
-            outboundHandler.sendResponse(version, features, channel, requestId, action, response, compressResponse, isHandshake);
+            outboundHandler.sendResponse(version, features, channel, requestId, action, response, compressionScheme, lane, isHandshake);
         } finally {
             release(false);
         }
@@ -82,12 +86,28 @@ public final class TcpTransportChannel implements TransportChannel {
     @Override
     public void sendResponse(Exception exception) throws IOException {
         try {
-            outboundHandler.sendErrorResponse(version, features, channel, requestId, action, exception);
+            outboundHandler.sendErrorResponse(version, features, channel, requestId, action, lane, exception);
         } finally {
             release(true);
         }
     }
 
+    @Override
+    public void sendResponseBatch(TransportResponse batch, ActionListener<Void> listener) {
+        if (released.get()) {
+            throw new IllegalStateException("the response was already sent", releaseBy);
+        }
+        if (isHandshake || version.before(Version.V_1_1_0)) {
+            listener.onFailure(new UnsupportedOperationException("batches of responses are not supported by [" + version + "]"));
+            return;
+        }
+        try {
+            outboundHandler.sendResponseBatch(version, features, channel, requestId, action, batch, compressionScheme, lane, listener);
+        } catch (Exception e) {
+            listener.onFailure(e);
+        }
+    }
+
     private Exception releaseBy;
 
     private void release(boolean isExceptionResponse) {
@@ -114,5 +134,12 @@ public final class TcpTransportChannel implements TransportChannel {
     public TcpChannel getChannel() {
         return channel;
     }
+
+    /**
+     * Returns the compression scheme of the request, which the response is compressed with too.
+     */
+    public Compression.Scheme getCompressionScheme() {
+        return compressionScheme;
+    }
 }
 
@@ -200,6 +200,14 @@ public interface Transport extends LifecycleComponent {
             return handlers.containsKey(requestId);
         }
 
+        /**
+         * Returns the {@link ResponseContext} for the given request ID without removing it, such as to handle a batch of the response
+         * before the response itself, or returns <code>null</code> if no context is associated with this request ID.
+         */
+        public ResponseContext<? extends TransportResponse> get(long requestId) {
+            return handlers.get(requestId);
+        }
+
         /**
          * Removes and return the {@link ResponseContext} for the given request ID or returns
          * <code>null</code> if no context is associated with this request ID.
@@ -31,6 +31,7 @@
 
 package org.opensearch.transport;
 
+import org.opensearch.action.ActionListener;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
@@ -106,6 +107,12 @@ public final class TransportActionProxy {
             }
         }
 
+        @Override
+        public void handleBatch(T batch, ActionListener<Void> listener) {
+            // the batch is acknowledged to the target node once the node that sent the proxied request acknowledged it
+            channel.sendResponseBatch(batch, listener);
+        }
+
         @Override
         public String executor() {
             return ThreadPool.Names.SAME;
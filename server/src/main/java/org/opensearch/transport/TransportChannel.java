@@ -36,6 +36,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.message.ParameterizedMessage;
 import org.opensearch.Version;
+import org.opensearch.action.ActionListener;
 
 import java.io.IOException;
 
@@ -54,6 +55,18 @@ public interface TransportChannel {
 
     void sendResponse(Exception exception) throws IOException;
 
+    /**
+     * Sends a batch of the response, which the requester handles with {@link TransportResponseHandler#handleBatch} before it receives
+     * the response itself, so that large results are neither built nor received at once. The listener is notified once the requester
+     * handled the batch, which is when the next batch should be sent, so that a requester that falls behind slows down the responder
+     * rather than buffering the batches. The response, or the exception, must be sent once the listener of the last batch is notified.
+     * Channels that cannot send batches, such as the channels of nodes that do not support them, fail the listener with an
+     * {@link UnsupportedOperationException}, in which case the response has to be sent at once.
+     */
+    default void sendResponseBatch(TransportResponse batch, ActionListener<Void> listener) {
+        listener.onFailure(new UnsupportedOperationException("channel [" + getChannelType() + "] does not support batches of responses"));
+    }
+
     /**
      * Returns the version of the other party that this channel will send a response to.
      */
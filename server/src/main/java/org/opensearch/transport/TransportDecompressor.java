@@ -37,7 +37,7 @@ import org.apache.lucene.util.BytesRefIterator;
 import org.opensearch.common.bytes.BytesArray;
 import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.bytes.ReleasableBytesReference;
-import org.opensearch.common.compress.CompressorFactory;
+import org.opensearch.common.compress.Lz4Compressor;
 import org.opensearch.common.recycler.Recycler;
 import org.opensearch.common.util.PageCacheRecycler;
 
@@ -47,24 +47,40 @@ import java.util.ArrayDeque;
 import java.util.zip.DataFormatException;
 import java.util.zip.Inflater;
 
+/**
+ * Decompresses the content of a transport message into pages as it is received. The scheme that the content is compressed with is
+ * detected from the header that the compressed content starts with.
+ */
 public class TransportDecompressor implements Closeable {
 
-    private final Inflater inflater;
     private final PageCacheRecycler recycler;
     private final ArrayDeque<Recycler.V<byte[]>> pages;
     private int pageOffset = PageCacheRecycler.BYTE_PAGE_SIZE;
-    private boolean hasReadHeader = false;
+    private Compression.Scheme scheme;
+
+    // DEFLATE state
+    private Inflater inflater;
+
+    // LZ4 state: the header of the current block, followed by its compressed bytes if they are split across calls
+    private final byte[] lz4BlockHeader = new byte[Lz4Compressor.BLOCK_HEADER_LENGTH];
+    private int lz4BlockHeaderOffset;
+    private byte[] lz4Compressed;
+    private int lz4CompressedOffset;
+    private boolean lz4EOS;
+
+    // blocks that do not fit in a page are decompressed to this buffer, which is only used within a call to decompress
+    private static final ThreadLocal<byte[]> lz4BlockBuffer = ThreadLocal.withInitial(() -> new byte[Lz4Compressor.BLOCK_SIZE]);
 
     public TransportDecompressor(PageCacheRecycler recycler) {
         this.recycler = recycler;
-        inflater = new Inflater(true);
         pages = new ArrayDeque<>(4);
     }
 
     public int decompress(BytesReference bytesReference) throws IOException {
         int bytesConsumed = 0;
-        if (hasReadHeader == false) {
-            if (CompressorFactory.COMPRESSOR.isCompressed(bytesReference) == false) {
+        if (scheme == null) {
+            final Compression.Scheme detected = Compression.detectScheme(bytesReference);
+            if (detected == null) {
                 int maxToRead = Math.min(bytesReference.length(), 10);
                 StringBuilder sb = new StringBuilder("stream marked as compressed, but no compressor found, first [")
                     .append(maxToRead).append("] content bytes out of [").append(bytesReference.length())
@@ -75,8 +91,11 @@ public class TransportDecompressor implements Closeable {
                 sb.append("]");
                 throw new IllegalStateException(sb.toString());
             }
-            hasReadHeader = true;
-            int headerLength = CompressorFactory.COMPRESSOR.headerLength();
+            scheme = detected;
+            if (scheme == Compression.Scheme.DEFLATE) {
+                inflater = new Inflater(true);
+            }
+            int headerLength = scheme.compressor().headerLength();
             bytesReference = bytesReference.slice(headerLength, bytesReference.length() - headerLength);
             bytesConsumed += headerLength;
         }
@@ -84,53 +103,169 @@ public class TransportDecompressor implements Closeable {
         BytesRefIterator refIterator = bytesReference.iterator();
         BytesRef ref;
         while ((ref = refIterator.next()) != null) {
-            inflater.setInput(ref.bytes, ref.offset, ref.length);
-            bytesConsumed += ref.length;
-            boolean continueInflating = true;
-            while (continueInflating) {
-                final Recycler.V<byte[]> page;
-                final boolean isNewPage = pageOffset == PageCacheRecycler.BYTE_PAGE_SIZE;
+            if (scheme == Compression.Scheme.LZ4) {
+                bytesConsumed += decompressLz4(ref.bytes, ref.offset, ref.length);
+            } else {
+                bytesConsumed += inflate(ref);
+            }
+        }
+
+        return bytesConsumed;
+    }
+
+    private int inflate(BytesRef ref) throws IOException {
+        int bytesConsumed = ref.length;
+        inflater.setInput(ref.bytes, ref.offset, ref.length);
+        boolean continueInflating = true;
+        while (continueInflating) {
+            final Recycler.V<byte[]> page;
+            final boolean isNewPage = pageOffset == PageCacheRecycler.BYTE_PAGE_SIZE;
+            if (isNewPage) {
+                pageOffset = 0;
+                page = recycler.bytePage(false);
+            } else {
+                page = pages.getLast();
+            }
+            byte[] output = page.v();
+            try {
+                int bytesInflated = inflater.inflate(output, pageOffset, PageCacheRecycler.BYTE_PAGE_SIZE - pageOffset);
+                pageOffset += bytesInflated;
                 if (isNewPage) {
-                    pageOffset = 0;
-                    page = recycler.bytePage(false);
-                } else {
-                    page = pages.getLast();
+                    if (bytesInflated == 0) {
+                        page.close();
+                        pageOffset = PageCacheRecycler.BYTE_PAGE_SIZE;
+                    } else {
+                        pages.add(page);
+                    }
+                }
+            } catch (DataFormatException e) {
+                throw new IOException("Exception while inflating bytes", e);
+            }
+            if (inflater.needsInput()) {
+                continueInflating = false;
+            }
+            if (inflater.finished()) {
+                bytesConsumed -= inflater.getRemaining();
+                continueInflating = false;
+            }
+            assert inflater.needsDictionary() == false;
+        }
+        return bytesConsumed;
+    }
+
+    /**
+     * Consumes LZ4 blocks, which may be split across any number of calls, and returns the number of bytes consumed, which is less than
+     * the given length only once the end of the compressed content was reached.
+     */
+    private int decompressLz4(byte[] bytes, int offset, int length) throws IOException {
+        final int start = offset;
+        final int end = offset + length;
+        while (offset < end && lz4EOS == false) {
+            if (lz4BlockHeaderOffset < Integer.BYTES) {
+                // the uncompressed length of the block, 0 marks the end of the compressed content
+                final int toCopy = Math.min(end - offset, Integer.BYTES - lz4BlockHeaderOffset);
+                System.arraycopy(bytes, offset, lz4BlockHeader, lz4BlockHeaderOffset, toCopy);
+                lz4BlockHeaderOffset += toCopy;
+                offset += toCopy;
+                if (lz4BlockHeaderOffset == Integer.BYTES && readBlockHeaderInt(0) == 0) {
+                    lz4EOS = true;
                 }
-                byte[] output = page.v();
-                try {
-                    int bytesInflated = inflater.inflate(output, pageOffset, PageCacheRecycler.BYTE_PAGE_SIZE - pageOffset);
-                    pageOffset += bytesInflated;
-                    if (isNewPage) {
-                        if (bytesInflated == 0) {
-                            page.close();
-                            pageOffset = PageCacheRecycler.BYTE_PAGE_SIZE;
-                        } else {
-                            pages.add(page);
-                        }
+            } else if (lz4BlockHeaderOffset < Lz4Compressor.BLOCK_HEADER_LENGTH) {
+                final int toCopy = Math.min(end - offset, Lz4Compressor.BLOCK_HEADER_LENGTH - lz4BlockHeaderOffset);
+                System.arraycopy(bytes, offset, lz4BlockHeader, lz4BlockHeaderOffset, toCopy);
+                lz4BlockHeaderOffset += toCopy;
+                offset += toCopy;
+                if (lz4BlockHeaderOffset == Lz4Compressor.BLOCK_HEADER_LENGTH) {
+                    final int compressedLength = readBlockHeaderInt(Integer.BYTES);
+                    if (compressedLength <= 0 || compressedLength > Lz4Compressor.maxCompressedLength(Lz4Compressor.BLOCK_SIZE)) {
+                        throw new IOException("corrupted LZ4 block with [" + compressedLength + "] compressed bytes");
                     }
-                } catch (DataFormatException e) {
-                    throw new IOException("Exception while inflating bytes", e);
+                    lz4CompressedOffset = 0;
                 }
-                if (inflater.needsInput()) {
-                    continueInflating = false;
+            } else {
+                final int compressedLength = readBlockHeaderInt(Integer.BYTES);
+                if (lz4CompressedOffset == 0 && end - offset >= compressedLength) {
+                    // the whole block was received at once, it is decompressed without copying it first
+                    decompressLz4Block(bytes, offset, compressedLength);
+                    offset += compressedLength;
+                    lz4BlockHeaderOffset = 0;
+                    continue;
                 }
-                if (inflater.finished()) {
-                    bytesConsumed -= inflater.getRemaining();
-                    continueInflating = false;
+                if (lz4Compressed == null || lz4Compressed.length < compressedLength) {
+                    lz4Compressed = new byte[compressedLength];
                 }
-                assert inflater.needsDictionary() == false;
+                final int toCopy = Math.min(end - offset, compressedLength - lz4CompressedOffset);
+                System.arraycopy(bytes, offset, lz4Compressed, lz4CompressedOffset, toCopy);
+                lz4CompressedOffset += toCopy;
+                offset += toCopy;
+            }
+            if (lz4BlockHeaderOffset == Lz4Compressor.BLOCK_HEADER_LENGTH
+                && lz4CompressedOffset == readBlockHeaderInt(Integer.BYTES)) {
+                decompressLz4Block(lz4Compressed, 0, lz4CompressedOffset);
+                lz4BlockHeaderOffset = 0;
+                lz4CompressedOffset = 0;
             }
         }
+        return offset - start;
+    }
 
-        return bytesConsumed;
+    /**
+     * Decompresses the current block to pages. A block that fits in the current page, or in a new page if the current one is full, is
+     * decompressed to the page directly, like the single block of a small message. Other blocks are decompressed to a buffer of the
+     * current thread first, since the pages of a message must be full but for the last one.
+     */
+    private void decompressLz4Block(byte[] compressed, int compressedOffset, int compressedLength) throws IOException {
+        final int uncompressedLength = readBlockHeaderInt(0);
+        if (pageOffset == PageCacheRecycler.BYTE_PAGE_SIZE && uncompressedLength <= PageCacheRecycler.BYTE_PAGE_SIZE) {
+            pages.add(recycler.bytePage(false));
+            pageOffset = 0;
+        }
+        if (uncompressedLength <= PageCacheRecycler.BYTE_PAGE_SIZE - pageOffset) {
+            Lz4Compressor.decompressBlock(compressed, compressedOffset, compressedLength, uncompressedLength, pages.getLast().v(),
+                pageOffset);
+            pageOffset += uncompressedLength;
+        } else {
+            final byte[] uncompressed = lz4BlockBuffer.get();
+            Lz4Compressor.decompressBlock(compressed, compressedOffset, compressedLength, uncompressedLength, uncompressed, 0);
+            writeToPages(uncompressed, uncompressedLength);
+        }
+    }
+
+    private int readBlockHeaderInt(int offset) {
+        return ((lz4BlockHeader[offset] & 0xFF) << 24) | ((lz4BlockHeader[offset + 1] & 0xFF) << 16)
+            | ((lz4BlockHeader[offset + 2] & 0xFF) << 8) | (lz4BlockHeader[offset + 3] & 0xFF);
+    }
+
+    private void writeToPages(byte[] bytes, int length) {
+        int offset = 0;
+        while (offset < length) {
+            if (pageOffset == PageCacheRecycler.BYTE_PAGE_SIZE) {
+                pages.add(recycler.bytePage(false));
+                pageOffset = 0;
+            }
+            final int toCopy = Math.min(length - offset, PageCacheRecycler.BYTE_PAGE_SIZE - pageOffset);
+            System.arraycopy(bytes, offset, pages.getLast().v(), pageOffset, toCopy);
+            pageOffset += toCopy;
+            offset += toCopy;
+        }
     }
 
     public boolean canDecompress(int bytesAvailable) {
-        return hasReadHeader || bytesAvailable >= CompressorFactory.COMPRESSOR.headerLength();
+        return scheme != null || bytesAvailable >= Compression.headerLength();
     }
 
     public boolean isEOS() {
-        return inflater.finished();
+        if (scheme == Compression.Scheme.LZ4) {
+            return lz4EOS;
+        }
+        return inflater != null && inflater.finished();
+    }
+
+    /**
+     * Returns the scheme that the content is compressed with, or {@code null} if nothing was decompressed yet.
+     */
+    public Compression.Scheme getScheme() {
+        return scheme;
     }
 
     public ReleasableBytesReference pollDecompressedPage() {
@@ -153,7 +288,9 @@ public class TransportDecompressor implements Closeable {
 
     @Override
     public void close() {
-        inflater.end();
+        if (inflater != null) {
+            inflater.end();
+        }
         for (Recycler.V<byte[]> page : pages) {
             page.close();
         }
@@ -129,6 +129,15 @@ final class TransportHandshaker {
         }
     }
 
+    /**
+     * Returns the compression scheme of messages that are sent on a connection, given the scheme that is asked for and the version that
+     * the handshake established for the connection. Nodes that cannot decompress the scheme that is asked for are sent messages that
+     * are compressed with DEFLATE instead, which all versions support.
+     */
+    static Compression.Scheme negotiateCompressionScheme(Compression.Scheme scheme, Version handshakeVersion) {
+        return scheme.isSupportedBy(handshakeVersion) ? scheme : Compression.Scheme.DEFLATE;
+    }
+
     TransportResponseHandler<HandshakeResponse> removeHandlerForHandshake(long requestId) {
         return pendingHandshakes.remove(requestId);
     }
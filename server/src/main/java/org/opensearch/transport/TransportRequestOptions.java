@@ -32,16 +32,19 @@
 
 package org.opensearch.transport;
 
+import org.opensearch.common.Nullable;
 import org.opensearch.common.unit.TimeValue;
 
 public class TransportRequestOptions {
 
     private final TimeValue timeout;
     private final Type type;
+    private final Compression.Scheme compressionScheme;
 
-    private TransportRequestOptions(TimeValue timeout, Type type) {
+    private TransportRequestOptions(TimeValue timeout, Type type, Compression.Scheme compressionScheme) {
         this.timeout = timeout;
         this.type = type;
+        this.compressionScheme = compressionScheme;
     }
 
     public TimeValue timeout() {
@@ -52,6 +55,15 @@ public class TransportRequestOptions {
         return this.type;
     }
 
+    /**
+     * Returns the scheme that the request and its response are compressed with, or {@code null} if they are compressed as configured
+     * for the connection.
+     */
+    @Nullable
+    public Compression.Scheme compressionScheme() {
+        return this.compressionScheme;
+    }
+
     public static final TransportRequestOptions EMPTY = new TransportRequestOptions.Builder().build();
 
     public enum Type {
@@ -69,6 +81,7 @@ public class TransportRequestOptions {
     public static class Builder {
         private TimeValue timeout;
         private Type type = Type.REG;
+        private Compression.Scheme compressionScheme;
 
         private Builder() {
         }
@@ -87,8 +100,18 @@ public class TransportRequestOptions {
             return this;
         }
 
+        /**
+         * Compresses the request and its response with the given scheme rather than as configured for the connection, which allows to
+         * pick the scheme that suits the messages of an action best. This has no effect on connections that do not have compression
+         * enabled. Falls back to DEFLATE if the receiving node does not support the scheme.
+         */
+        public Builder withCompressionScheme(Compression.Scheme compressionScheme) {
+            this.compressionScheme = compressionScheme;
+            return this;
+        }
+
         public TransportRequestOptions build() {
-            return new TransportRequestOptions(timeout, type);
+            return new TransportRequestOptions(timeout, type, compressionScheme);
         }
     }
 }
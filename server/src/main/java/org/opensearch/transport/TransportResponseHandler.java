@@ -32,6 +32,7 @@
 
 package org.opensearch.transport;
 
+import org.opensearch.action.ActionListener;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.Writeable;
 
@@ -44,6 +45,17 @@ public interface TransportResponseHandler<T extends TransportResponse> extends W
 
     void handleException(TransportException exp);
 
+    /**
+     * Handles a batch of the response, which the responder sent with {@link TransportChannel#sendResponseBatch} before the response
+     * itself. The listener must be notified once the batch is handled, since the responder does not send the next batch until then.
+     * Handlers that do not expect batches fail the listener, which fails the response on the responder.
+     *
+     * @see BatchedTransportResponseHandler
+     */
+    default void handleBatch(T batch, ActionListener<Void> listener) {
+        listener.onFailure(new UnsupportedOperationException("handler [" + this + "] does not handle batches of responses"));
+    }
+
     String executor();
 
     default <Q extends TransportResponse> TransportResponseHandler<Q> wrap(Function<Q, T> converter, Writeable.Reader<Q> reader) {
@@ -59,6 +71,11 @@ public interface TransportResponseHandler<T extends TransportResponse> extends W
                 self.handleException(exp);
             }
 
+            @Override
+            public void handleBatch(Q batch, ActionListener<Void> listener) {
+                self.handleBatch(converter.apply(batch), listener);
+            }
+
             @Override
             public String executor() {
                 return self.executor();
@@ -664,6 +664,11 @@ public class TransportService extends AbstractLifecycleComponent implements Repo
                         handler.handleException(exp);
                     }
 
+                    @Override
+                    public void handleBatch(T batch, ActionListener<Void> listener) {
+                        handler.handleBatch(batch, listener);
+                    }
+
                     @Override
                     public String executor() {
                         return handler.executor();
@@ -971,10 +976,31 @@ public class TransportService extends AbstractLifecycleComponent implements Repo
                                                                           boolean canTripCircuitBreaker,
                                                                           Writeable.Reader<Request> requestReader,
                                                                           TransportRequestHandler<Request> handler) {
+        registerRequestHandler(action, executor, forceExecution, canTripCircuitBreaker, false, requestReader, handler);
+    }
+
+    /**
+     * Registers a new request handler
+     *
+     * @param action                The action the request handler is associated with
+     * @param requestReader         The request class that will be used to construct new instances for streaming
+     * @param executor              The executor the request handling will be executed on
+     * @param forceExecution        Force execution on the executor queue and never reject it
+     * @param canTripCircuitBreaker Check the request size and raise an exception in case the limit is breached.
+     * @param allowsUnsafeBuffers   Whether requests may hold on to the network buffers they were read from until they are responded to,
+     *                              rather than to copies of them. The handler must not use a request once it responded to it.
+     * @param handler               The handler itself that implements the request handling
+     */
+    public <Request extends TransportRequest> void registerRequestHandler(String action,
+                                                                          String executor, boolean forceExecution,
+                                                                          boolean canTripCircuitBreaker,
+                                                                          boolean allowsUnsafeBuffers,
+                                                                          Writeable.Reader<Request> requestReader,
+                                                                          TransportRequestHandler<Request> handler) {
         validateActionName(action);
         handler = interceptor.interceptHandler(action, executor, forceExecution, handler);
         RequestHandlerRegistry<Request> reg = new RequestHandlerRegistry<>(
-            action, requestReader, taskManager, handler, executor, forceExecution, canTripCircuitBreaker);
+            action, requestReader, taskManager, handler, executor, forceExecution, canTripCircuitBreaker, allowsUnsafeBuffers);
         transport.registerRequestHandler(reg);
     }
 
@@ -1218,6 +1244,14 @@ public class TransportService extends AbstractLifecycleComponent implements Repo
             }
         }
 
+        @Override
+        public void handleBatch(T batch, ActionListener<Void> listener) {
+            // the timeout covers the whole response, so it is not cancelled by its batches
+            try (ThreadContext.StoredContext ignore = contextSupplier.get()) {
+                delegate.handleBatch(batch, listener);
+            }
+        }
+
         @Override
         public String executor() {
             return delegate.executor();
@@ -1279,6 +1313,46 @@ public class TransportService extends AbstractLifecycleComponent implements Repo
             }
         }
 
+        @Override
+        public void sendResponseBatch(TransportResponse batch, ActionListener<Void> listener) {
+            final Transport.ResponseContext<? extends TransportResponse> context = service.responseHandlers.get(requestId);
+            if (context == null) {
+                listener.onFailure(new TransportException("no handler for the response to request [" + requestId + "][" + action + "]"));
+                return;
+            }
+            final TransportResponseHandler handler = context.handler();
+            final String executor = handler.executor();
+            if (ThreadPool.Names.SAME.equals(executor)) {
+                processBatch(handler, batch, listener);
+            } else {
+                threadPool.executor(executor).execute(new AbstractRunnable() {
+                    @Override
+                    protected void doRun() {
+                        processBatch(handler, batch, listener);
+                    }
+
+                    @Override
+                    public void onFailure(Exception e) {
+                        listener.onFailure(e);
+                    }
+
+                    @Override
+                    public String toString() {
+                        return "delivery of batch of response to [" + requestId + "][" + action + "]: " + batch;
+                    }
+                });
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        protected void processBatch(TransportResponseHandler handler, TransportResponse batch, ActionListener<Void> listener) {
+            try {
+                handler.handleBatch(batch, listener);
+            } catch (Exception e) {
+                listener.onFailure(e);
+            }
+        }
+
         @SuppressWarnings("unchecked")
         protected void processResponse(TransportResponseHandler handler, TransportResponse response) {
             try {
@@ -38,6 +38,13 @@ public final class TransportStatus {
     private static final byte STATUS_ERROR = 1 << 1;
     private static final byte STATUS_COMPRESS = 1 << 2;
     private static final byte STATUS_HANDSHAKE = 1 << 3;
+    private static final byte STATUS_CHUNK = 1 << 4;
+    // the lane of a request is stored as the ordinal of its request type plus one, so that zero means that the request has no lane
+    private static final int LANE_SHIFT = 5;
+    private static final int LANE_MASK = 0b111 << LANE_SHIFT;
+    // responses have no lane, so they use the bits of the lane to mark the batches of a response and their acknowledgements
+    private static final byte STATUS_BATCH = 1 << 5;
+    private static final byte STATUS_BATCH_ACK = 1 << 6;
 
     public static boolean isRequest(byte value) {
         return (value & STATUS_REQRES) == 0;
@@ -79,4 +86,50 @@ public final class TransportStatus {
         value |= STATUS_HANDSHAKE;
         return value;
     }
+
+    static boolean isChunk(byte value) { // pkg private since it's only used internally
+        return (value & STATUS_CHUNK) != 0;
+    }
+
+    static byte setChunk(byte value) { // pkg private since it's only used internally
+        value |= STATUS_CHUNK;
+        return value;
+    }
+
+    /**
+     * Returns the lane of a request, or {@code null} if the request has no lane or if the message is a response.
+     */
+    static TransportRequestOptions.Type getLane(byte value) { // pkg private since it's only used internally
+        if (isRequest(value) == false) {
+            return null;
+        }
+        final int lane = (value & LANE_MASK) >>> LANE_SHIFT;
+        final TransportRequestOptions.Type[] types = TransportRequestOptions.Type.values();
+        return lane == 0 || lane > types.length ? null : types[lane - 1];
+    }
+
+    static byte setLane(byte value, TransportRequestOptions.Type lane) { // pkg private since it's only used internally
+        assert isRequest(value) : "responses have no lane";
+        return (byte) ((value & ~LANE_MASK) | ((lane.ordinal() + 1) << LANE_SHIFT));
+    }
+
+    static boolean isBatch(byte value) { // pkg private since it's only used internally
+        return isRequest(value) == false && (value & STATUS_BATCH) != 0;
+    }
+
+    static byte setBatch(byte value) { // pkg private since it's only used internally
+        assert isRequest(value) == false : "requests have no batches";
+        value |= STATUS_BATCH;
+        return value;
+    }
+
+    static boolean isBatchAck(byte value) { // pkg private since it's only used internally
+        return isRequest(value) == false && (value & STATUS_BATCH_ACK) != 0;
+    }
+
+    static byte setBatchAck(byte value) { // pkg private since it's only used internally
+        assert isRequest(value) == false : "requests have no batches";
+        value |= STATUS_BATCH_ACK;
+        return value;
+    }
 }
@@ -50,6 +50,9 @@ import org.opensearch.node.AdaptiveSelectionStats;
 import org.opensearch.node.ResponseCollectorService;
 import org.opensearch.script.ScriptCacheStats;
 import org.opensearch.script.ScriptStats;
+import org.opensearch.search.backpressure.SearchBackpressureService;
+import org.opensearch.search.backpressure.SearchBackpressureStats;
+import org.opensearch.tasks.TaskResourceUsage;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.test.VersionUtils;
 import org.opensearch.threadpool.ThreadPoolStats;
@@ -324,8 +327,31 @@ public class NodeStatsTests extends OpenSearchTestCase {
                         assertEquals(aStats.queueSize, bStats.queueSize, 0.01);
                         assertEquals(aStats.serviceTime, bStats.serviceTime, 0.01);
                         assertEquals(aStats.responseTime, bStats.responseTime, 0.01);
+                        assertEquals(aStats.rankingMode, bStats.rankingMode);
+                        assertEquals(aStats.responseTimeP50, bStats.responseTimeP50);
+                        assertEquals(aStats.responseTimeP90, bStats.responseTimeP90);
+                        assertEquals(aStats.responseTimeP99, bStats.responseTimeP99);
+                        assertEquals(aStats.recentResponses, bStats.recentResponses);
+                        assertEquals(aStats.inFlightRequests, bStats.inFlightRequests);
+                        assertEquals(aStats.inFlightAge, bStats.inFlightAge);
                     });
                 }
+                SearchBackpressureStats searchBackpressureStats = nodeStats.getSearchBackpressureStats();
+                SearchBackpressureStats deserializedSearchBackpressureStats = deserializedNodeStats.getSearchBackpressureStats();
+                if (searchBackpressureStats == null) {
+                    assertNull(deserializedSearchBackpressureStats);
+                } else {
+                    assertEquals(searchBackpressureStats.getMode(), deserializedSearchBackpressureStats.getMode());
+                    assertEquals(searchBackpressureStats.isInDuress(), deserializedSearchBackpressureStats.isInDuress());
+                    assertEquals(searchBackpressureStats.getCancellationCount(),
+                        deserializedSearchBackpressureStats.getCancellationCount());
+                    assertEquals(searchBackpressureStats.getMonitorOnlyCancellationCount(),
+                        deserializedSearchBackpressureStats.getMonitorOnlyCancellationCount());
+                    assertEquals(searchBackpressureStats.getLimitReachedCount(),
+                        deserializedSearchBackpressureStats.getLimitReachedCount());
+                    assertEquals(searchBackpressureStats.getLastCancelledTaskUsage(),
+                        deserializedSearchBackpressureStats.getLastCancelledTaskUsage());
+                }
                 ScriptCacheStats scriptCacheStats = nodeStats.getScriptCacheStats();
                 ScriptCacheStats deserializedScriptCacheStats = deserializedNodeStats.getScriptCacheStats();
                 if (scriptCacheStats == null) {
@@ -522,17 +548,26 @@ public class NodeStatsTests extends OpenSearchTestCase {
                     ResponseCollectorService.ComputedNodeStats stats = new ResponseCollectorService.ComputedNodeStats(nodeId,
                             randomIntBetween(1,10), randomIntBetween(0, 2000),
                             randomDoubleBetween(1.0, 10000000.0, true),
-                            randomDoubleBetween(1.0, 10000000.0, true));
+                            randomDoubleBetween(1.0, 10000000.0, true),
+                            randomFrom(ResponseCollectorService.RankingMode.values()),
+                            randomLongBetween(-1, 1000000), randomLongBetween(-1, 1000000), randomLongBetween(-1, 1000000),
+                            randomNonNegativeLong(), randomIntBetween(0, 100), randomNonNegativeLong());
                     nodeStats.put(nodeId, stats);
                 }
             }
             adaptiveSelectionStats = new AdaptiveSelectionStats(nodeConnections, nodeStats);
         }
         ScriptCacheStats scriptCacheStats = scriptStats != null ? scriptStats.toScriptCacheStats() : null;
+        SearchBackpressureStats searchBackpressureStats = null;
+        if (frequently()) {
+            searchBackpressureStats = new SearchBackpressureStats(randomFrom(SearchBackpressureService.Mode.values()), randomBoolean(),
+                randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong(),
+                randomBoolean() ? null : new TaskResourceUsage(randomNonNegativeLong(), randomNonNegativeLong()));
+        }
         //TODO NodeIndicesStats are not tested here, way too complicated to create, also they need to be migrated to Writeable yet
         return new NodeStats(node, randomNonNegativeLong(), null, osStats, processStats, jvmStats, threadPoolStats,
                 fsInfo, transportStats, httpStats, allCircuitBreakerStats, scriptStats, discoveryStats,
-                ingestStats, adaptiveSelectionStats, scriptCacheStats, null);
+                ingestStats, adaptiveSelectionStats, scriptCacheStats, null, searchBackpressureStats);
     }
 
     private IngestStats.Stats getPipelineStats(List<IngestStats.PipelineStat> pipelineStats, String id) {
@@ -51,6 +51,7 @@ import org.opensearch.action.update.UpdateRequest;
 import org.opensearch.action.update.UpdateResponse;
 import org.opensearch.client.Requests;
 import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.common.compress.CompressedXContent;
 import org.opensearch.common.lucene.uid.Versions;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
@@ -72,7 +73,9 @@ import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.threadpool.ThreadPool.Names;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.BrokenBarrierException;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.CyclicBarrier;
@@ -84,6 +87,7 @@ import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.Matchers.arrayWithSize;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyBoolean;
@@ -247,6 +251,101 @@ public class TransportShardBulkActionTests extends IndexShardTestCase {
         latch.await();
     }
 
+    public void testBulkItemsParsedAhead() throws Exception {
+        final IndexShard shard = newShard(new ShardId(indexMetadata().getIndex(), 0), true, "n1", indexMetadata(), null);
+        recoverShardFromStore(shard);
+
+        final BulkItemRequest[] items = new BulkItemRequest[randomIntBetween(2, 150)];
+        for (int i = 0; i < items.length; i++) {
+            items[i] = new BulkItemRequest(i,
+                new IndexRequest("index", "_doc", "id_" + i).source(Requests.INDEX_CONTENT_TYPE, "foo", "bar" + i));
+        }
+        final BulkShardRequest bulkShardRequest = new BulkShardRequest(shardId, RefreshPolicy.NONE, items);
+        // parses the items that are ahead of the executing one on the calling thread
+        final BulkPrimaryExecutionContext context = new BulkPrimaryExecutionContext(bulkShardRequest, shard,
+            new BulkPrimaryParseStage(bulkShardRequest, shard, Runnable::run));
+        final boolean mappingChanged = randomBoolean();
+        if (mappingChanged) {
+            // the items parsed with the previous mapping are parsed again
+            shard.mapperService().merge("_doc", new CompressedXContent("{\"properties\":{\"baz\":{\"type\":\"keyword\"}}}"),
+                MapperService.MergeReason.MAPPING_UPDATE);
+        }
+        while (context.hasMoreOperationsToExecute()) {
+            assertTrue(TransportShardBulkAction.executeBulkItemRequest(context, null, threadPool::absoluteTimeInMillis,
+                new NoopMappingUpdatePerformer(), listener -> {}, ASSERTING_DONE_LISTENER));
+        }
+        for (BulkItemRequest item : items) {
+            assertFalse(item.getPrimaryResponse().isFailed());
+        }
+        assertDocCount(shard, items.length);
+        // the first item is executed before it can be parsed ahead
+        final long expectedParsedAhead = mappingChanged
+            ? Math.max(0, items.length - 1 - BulkPrimaryParseStage.MAX_ITEMS_AHEAD)
+            : items.length - 1;
+        assertThat(shard.indexingStats().getTotal().getParsedAheadCount(), equalTo(expectedParsedAhead));
+        closeShards(shard);
+    }
+
+    public void testClosedContextStopsParsingAhead() throws Exception {
+        final IndexShard shard = newShard(new ShardId(indexMetadata().getIndex(), 0), true, "n1", indexMetadata(), null);
+        recoverShardFromStore(shard);
+
+        final BulkItemRequest[] items = new BulkItemRequest[randomIntBetween(2, 10)];
+        for (int i = 0; i < items.length; i++) {
+            items[i] = new BulkItemRequest(i,
+                new IndexRequest("index", "_doc", "id_" + i).source(Requests.INDEX_CONTENT_TYPE, "foo", "bar" + i));
+        }
+        final BulkShardRequest bulkShardRequest = new BulkShardRequest(shardId, RefreshPolicy.NONE, items);
+        final List<Runnable> parseTasks = new ArrayList<>();
+        final BulkPrimaryExecutionContext context = new BulkPrimaryExecutionContext(bulkShardRequest, shard,
+            new BulkPrimaryParseStage(bulkShardRequest, shard, parseTasks::add));
+        assertThat(parseTasks, hasSize(1));
+        // the request fails before its items are executed, and the stage runs after it released the sources of the items
+        context.close();
+        parseTasks.get(0).run();
+        assertThat(shard.indexingStats().getTotal().getParsedAheadCount(), equalTo(0L));
+        closeShards(shard);
+    }
+
+    public void testPerformOnPrimaryWithPipelinedParsing() throws Exception {
+        final IndexShard shard = newShard(new ShardId(indexMetadata().getIndex(), 0), true, "n1", indexMetadata(), null);
+        recoverShardFromStore(shard);
+
+        final BulkItemRequest[] items = new BulkItemRequest[randomIntBetween(2, 300)];
+        int numDeletes = 0;
+        for (int i = 0; i < items.length; i++) {
+            final DocWriteRequest<?> writeRequest;
+            // deletes the document of the previous item, unless it is a delete too
+            if (i > 0 && items[i - 1].request() instanceof IndexRequest && rarely()) {
+                writeRequest = new DeleteRequest("index", "_doc", "id_" + (i - 1));
+                numDeletes++;
+            } else {
+                writeRequest = new IndexRequest("index", "_doc", "id_" + i).source(Requests.INDEX_CONTENT_TYPE, "foo", "bar" + i);
+            }
+            items[i] = new BulkItemRequest(i, writeRequest);
+        }
+        final BulkShardRequest bulkShardRequest = new BulkShardRequest(shardId, RefreshPolicy.NONE, items);
+
+        final CountDownLatch latch = new CountDownLatch(1);
+        TransportShardBulkAction.performOnPrimary(
+            bulkShardRequest, shard, null, threadPool::absoluteTimeInMillis, new NoopMappingUpdatePerformer(),
+            listener -> {}, ActionListener.runAfter(
+                ActionTestUtils.assertNoFailureListener(result -> {
+                    final BulkItemResponse[] responses = result.finalResponseIfSuccessful.getResponses();
+                    assertThat(responses, arrayWithSize(items.length));
+                    for (int i = 0; i < items.length; i++) {
+                        assertThat(responses[i].getItemId(), equalTo(i));
+                        assertFalse(responses[i].isFailed());
+                        // items are executed in order
+                        assertThat(responses[i].getResponse().getSeqNo(), equalTo((long) i));
+                    }
+                }), latch::countDown), threadPool, Names.WRITE, true);
+        latch.await();
+
+        assertDocCount(shard, items.length - 2 * numDeletes);
+        closeShards(shard);
+    }
+
     public void testExecuteBulkIndexRequestWithMappingUpdates() throws Exception {
 
         BulkItemRequest[] items = new BulkItemRequest[1];
@@ -263,7 +362,7 @@ public class TransportShardBulkActionTests extends IndexShardTestCase {
 
         IndexShard shard = mock(IndexShard.class);
         when(shard.shardId()).thenReturn(shardId);
-        when(shard.applyIndexOperationOnPrimary(anyLong(), any(), any(), anyLong(), anyLong(), anyLong(), anyBoolean()))
+        when(shard.applyIndexOperationOnPrimary(anyLong(), any(), any(), anyLong(), anyLong(), anyLong(), anyBoolean(), any()))
             .thenReturn(mappingUpdate);
         when(shard.mapperService()).thenReturn(mock(MapperService.class));
 
@@ -285,9 +384,9 @@ public class TransportShardBulkActionTests extends IndexShardTestCase {
         assertThat("mappings were \"updated\" once", updateCalled.get(), equalTo(1));
 
         // Verify that the shard "executed" the operation once
-        verify(shard, times(1)).applyIndexOperationOnPrimary(anyLong(), any(), any(), anyLong(), anyLong(), anyLong(), anyBoolean());
+        verify(shard, times(1)).applyIndexOperationOnPrimary(anyLong(), any(), any(), anyLong(), anyLong(), anyLong(), anyBoolean(), any());
 
-        when(shard.applyIndexOperationOnPrimary(anyLong(), any(), any(), anyLong(), anyLong(), anyLong(), anyBoolean()))
+        when(shard.applyIndexOperationOnPrimary(anyLong(), any(), any(), anyLong(), anyLong(), anyLong(), anyBoolean(), any()))
             .thenReturn(success);
 
         TransportShardBulkAction.executeBulkItemRequest(context, null, threadPool::absoluteTimeInMillis,
@@ -297,7 +396,7 @@ public class TransportShardBulkActionTests extends IndexShardTestCase {
 
         // Verify that the shard "executed" the operation only once (1 for previous invocations plus
         // 1 for this execution)
-        verify(shard, times(2)).applyIndexOperationOnPrimary(anyLong(), any(), any(), anyLong(), anyLong(), anyLong(), anyBoolean());
+        verify(shard, times(2)).applyIndexOperationOnPrimary(anyLong(), any(), any(), anyLong(), anyLong(), anyLong(), anyBoolean(), any());
 
 
         BulkItemResponse primaryResponse = bulkShardRequest.items()[0].getPrimaryResponse();
@@ -507,7 +606,7 @@ public class TransportShardBulkActionTests extends IndexShardTestCase {
         Exception err = new OpenSearchException("I'm dead <(x.x)>");
         Engine.IndexResult indexResult = new Engine.IndexResult(err, 0, 0, 0);
         IndexShard shard = mock(IndexShard.class);
-        when(shard.applyIndexOperationOnPrimary(anyLong(), any(), any(), anyLong(), anyLong(), anyLong(), anyBoolean()))
+        when(shard.applyIndexOperationOnPrimary(anyLong(), any(), any(), anyLong(), anyLong(), anyLong(), anyBoolean(), any()))
             .thenReturn(indexResult);
         when(shard.indexSettings()).thenReturn(indexSettings);
 
@@ -557,7 +656,7 @@ public class TransportShardBulkActionTests extends IndexShardTestCase {
             "I'm conflicted <(;_;)>");
         Engine.IndexResult indexResult = new Engine.IndexResult(err, 0, 0, 0);
         IndexShard shard = mock(IndexShard.class);
-        when(shard.applyIndexOperationOnPrimary(anyLong(), any(), any(), anyLong(), anyLong(), anyLong(), anyBoolean()))
+        when(shard.applyIndexOperationOnPrimary(anyLong(), any(), any(), anyLong(), anyLong(), anyLong(), anyBoolean(), any()))
             .thenReturn(indexResult);
         when(shard.indexSettings()).thenReturn(indexSettings);
 
@@ -604,7 +703,7 @@ public class TransportShardBulkActionTests extends IndexShardTestCase {
         Translog.Location resultLocation = new Translog.Location(42, 42, 42);
         Engine.IndexResult indexResult = new FakeIndexResult(1, 1, 13, created, resultLocation);
         IndexShard shard = mock(IndexShard.class);
-        when(shard.applyIndexOperationOnPrimary(anyLong(), any(), any(), anyLong(), anyLong(), anyLong(), anyBoolean()))
+        when(shard.applyIndexOperationOnPrimary(anyLong(), any(), any(), anyLong(), anyLong(), anyLong(), anyBoolean(), any()))
             .thenReturn(indexResult);
         when(shard.indexSettings()).thenReturn(indexSettings);
         when(shard.shardId()).thenReturn(shardId);
@@ -797,16 +896,17 @@ public class TransportShardBulkActionTests extends IndexShardTestCase {
         Engine.IndexResult success = new FakeIndexResult(1, 1, 13, true, resultLocation);
 
         IndexShard shard = mock(IndexShard.class);
-        when(shard.applyIndexOperationOnPrimary(anyLong(), any(), any(), anyLong(), anyLong(), anyLong(), anyBoolean())).thenAnswer(ir -> {
-            if (randomBoolean()) {
-                return conflictedResult;
-            }
-            if (randomBoolean()) {
-                return mappingUpdate;
-            } else {
-                return success;
-            }
-        });
+        when(shard.applyIndexOperationOnPrimary(anyLong(), any(), any(), anyLong(), anyLong(), anyLong(), anyBoolean(), any()))
+            .thenAnswer(ir -> {
+                if (randomBoolean()) {
+                    return conflictedResult;
+                }
+                if (randomBoolean()) {
+                    return mappingUpdate;
+                } else {
+                    return success;
+                }
+            });
         when(shard.indexSettings()).thenReturn(indexSettings);
         when(shard.shardId()).thenReturn(shardId);
         when(shard.mapperService()).thenReturn(mock(MapperService.class));
@@ -879,7 +979,7 @@ public class TransportShardBulkActionTests extends IndexShardTestCase {
 
             IndexShard shard = mock(IndexShard.class);
             when(shard.shardId()).thenReturn(shardId);
-            when(shard.applyIndexOperationOnPrimary(anyLong(), any(), any(), anyLong(), anyLong(), anyLong(), anyBoolean()))
+            when(shard.applyIndexOperationOnPrimary(anyLong(), any(), any(), anyLong(), anyLong(), anyLong(), anyBoolean(), any()))
                 .thenReturn(success1, mappingUpdate, success2);
             when(shard.getFailedIndexResult(any(OpenSearchRejectedExecutionException.class), anyLong())).thenCallRealMethod();
             when(shard.mapperService()).thenReturn(mock(MapperService.class));
@@ -913,7 +1013,8 @@ public class TransportShardBulkActionTests extends IndexShardTestCase {
 
             assertThat("mappings were \"updated\" once", updateCalled.get(), equalTo(1));
 
-            verify(shard, times(2)).applyIndexOperationOnPrimary(anyLong(), any(), any(), anyLong(), anyLong(), anyLong(), anyBoolean());
+            verify(shard, times(2)).applyIndexOperationOnPrimary(anyLong(), any(), any(), anyLong(), anyLong(), anyLong(), anyBoolean(),
+                any());
 
             BulkItemResponse primaryResponse1 = bulkShardRequest.items()[0].getPrimaryResponse();
             assertThat(primaryResponse1.getItemId(), equalTo(0));
@@ -36,16 +36,23 @@ import org.opensearch.Version;
 import org.opensearch.action.ActionListener;
 import org.opensearch.action.OriginalIndices;
 import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.IndexTimestampRange;
+import org.opensearch.cluster.metadata.Metadata;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.routing.GroupShardsIterator;
 import org.opensearch.common.Strings;
+import org.opensearch.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.index.shard.ShardId;
 import org.opensearch.search.SearchPhaseResult;
 import org.opensearch.search.SearchService;
 import org.opensearch.search.SearchShardTarget;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.internal.AliasFilter;
+import org.opensearch.search.internal.InternalSearchResponse;
 import org.opensearch.search.internal.ShardSearchRequest;
 import org.opensearch.search.sort.MinAndMax;
 import org.opensearch.search.sort.SortBuilders;
@@ -55,6 +62,7 @@ import org.opensearch.transport.Transport;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
@@ -65,6 +73,8 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.IntStream;
 
@@ -133,6 +143,81 @@ public class CanMatchPreFilterSearchPhaseTests extends OpenSearchTestCase {
         }
     }
 
+    public void testSkipShardsWithTimestampRange() throws InterruptedException {
+        final TransportSearchAction.SearchTimeProvider timeProvider = new TransportSearchAction.SearchTimeProvider(0, System.nanoTime(),
+            System::nanoTime);
+        Map<String, Transport.Connection> lookup = new ConcurrentHashMap<>();
+        DiscoveryNode primaryNode = new DiscoveryNode("node_1", buildNewFakeTransportAddress(), Version.CURRENT);
+        lookup.put("node1", new SearchAsyncActionTests.MockConnection(primaryNode));
+
+        final boolean blocked = randomBoolean();
+        final IndexTimestampRange timestampRange = IndexTimestampRange.UNKNOWN
+            // 2020-01-01 to 2020-01-02 and 2020-01-10 to 2020-01-20
+            .withShardRange(3, 0, "@timestamp", null, 2, 1577836800000L, 1577923200000L)
+            .withShardRange(3, 1, "@timestamp", null, 2, 1578614400000L, 1579478400000L)
+            .withShardRange(3, 2, "@timestamp", null, 2, Long.MAX_VALUE, Long.MIN_VALUE);
+        final IndexMetadata indexMetadata = IndexMetadata.builder("idx")
+            .settings(Settings.builder()
+                .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+                .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 3)
+                .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0)
+                .put(IndexMetadata.INDEX_BLOCKS_WRITE_SETTING.getKey(), blocked))
+            .settingsVersion(2)
+            .timestampRange(timestampRange)
+            .build();
+        final ClusterState clusterState = ClusterState.builder(ClusterState.EMPTY_STATE)
+            .metadata(Metadata.builder().put(indexMetadata, false))
+            .build();
+
+        final Set<Integer> requestedShards = ConcurrentHashMap.newKeySet();
+        SearchTransportService searchTransportService = new SearchTransportService(null, null) {
+            @Override
+            public void sendCanMatch(Transport.Connection connection, ShardSearchRequest request, SearchTask task,
+                                     ActionListener<SearchService.CanMatchResponse> listener) {
+                requestedShards.add(request.shardId().id());
+                new Thread(() -> listener.onResponse(new SearchService.CanMatchResponse(true, null))).start();
+            }
+        };
+
+        AtomicReference<GroupShardsIterator<SearchShardIterator>> result = new AtomicReference<>();
+        CountDownLatch latch = new CountDownLatch(1);
+        GroupShardsIterator<SearchShardIterator> shardsIter = SearchAsyncActionTests.getShardsIter("idx",
+            new OriginalIndices(new String[]{"idx"}, SearchRequest.DEFAULT_INDICES_OPTIONS),
+            3, false, primaryNode, null);
+        final SearchRequest searchRequest = new SearchRequest();
+        searchRequest.allowPartialSearchResults(true);
+        searchRequest.source(new SearchSourceBuilder().query(QueryBuilders.boolQuery()
+            .filter(QueryBuilders.rangeQuery("@timestamp").gte("2020-01-05").lte("2020-01-15"))));
+
+        CanMatchPreFilterSearchPhase canMatchPhase = new CanMatchPreFilterSearchPhase(logger,
+            searchTransportService,
+            (clusterAlias, node) -> lookup.get(node),
+            Collections.singletonMap("_na_", new AliasFilter(null, Strings.EMPTY_ARRAY)),
+            Collections.emptyMap(), Collections.emptyMap(), OpenSearchExecutors.newDirectExecutorService(),
+            searchRequest, null, shardsIter, timeProvider, clusterState, null,
+            (iter) -> new SearchPhase("test") {
+                @Override
+                public void run() {
+                    result.set(iter);
+                    latch.countDown();
+                }}, SearchResponse.Clusters.EMPTY);
+
+        canMatchPhase.start();
+        latch.await();
+
+        if (blocked) {
+            assertThat(requestedShards, equalTo(Collections.singleton(1)));
+            assertTrue(result.get().get(0).skip());
+            assertFalse(result.get().get(1).skip());
+            assertTrue(result.get().get(2).skip());
+        } else {
+            assertThat(requestedShards, equalTo(new HashSet<>(Arrays.asList(0, 1, 2))));
+            for (SearchShardIterator i : result.get()) {
+                assertFalse(i.skip());
+            }
+        }
+    }
+
     public void testFilterWithFailure() throws InterruptedException {
         final TransportSearchAction.SearchTimeProvider timeProvider = new TransportSearchAction.SearchTimeProvider(0, System.nanoTime(),
             System::nanoTime);
@@ -438,4 +523,102 @@ public class CanMatchPreFilterSearchPhaseTests extends OpenSearchTestCase {
             assertThat(result.get().size(), equalTo(numShards));
         }
     }
+    public void testCachedResponse() throws InterruptedException {
+        Map<String, Transport.Connection> lookup = new ConcurrentHashMap<>();
+        DiscoveryNode primaryNode = new DiscoveryNode("node_1", buildNewFakeTransportAddress(), Version.CURRENT);
+        DiscoveryNode replicaNode = new DiscoveryNode("node_2", buildNewFakeTransportAddress(), Version.CURRENT);
+        lookup.put("node1", new SearchAsyncActionTests.MockConnection(primaryNode));
+        lookup.put("node2", new SearchAsyncActionTests.MockConnection(replicaNode));
+        final AtomicInteger generation = new AtomicInteger();
+        final AtomicBoolean cacheableShards = new AtomicBoolean(true);
+        SearchTransportService searchTransportService = new SearchTransportService(null, null) {
+            @Override
+            public void sendCanMatch(Transport.Connection connection, ShardSearchRequest request, SearchTask task,
+                                     ActionListener<SearchService.CanMatchResponse> listener) {
+                assertTrue(request.includeShardGeneration());
+                final String shardGeneration = cacheableShards.get() || request.shardId().id() == 0
+                    ? request.shardId().id() + "/" + generation.get() : null;
+                new Thread(() -> listener.onResponse(new SearchService.CanMatchResponse(true, null, shardGeneration))).start();
+            }
+        };
+        final SearchResponseCache responseCache = new SearchResponseCache(
+            Settings.builder().put(SearchResponseCache.SEARCH_RESPONSE_CACHE_SIZE.getKey(), "1mb").build(),
+            new NamedWriteableRegistry(Collections.emptyList()));
+        final SearchRequest searchRequest = new SearchRequest("idx").source(new SearchSourceBuilder().size(0))
+            .allowPartialSearchResults(true);
+        assertTrue(responseCache.canCache(searchRequest));
+        Map<String, AliasFilter> aliasFilters = Collections.singletonMap("_na_", new AliasFilter(null, Strings.EMPTY_ARRAY));
+        Map<String, Set<String>> indexRoutings = Collections.emptyMap();
+
+        // first request for the generations of the shards
+        assertTrue(executeWithResponseCache(searchRequest, responseCache, searchTransportService, lookup, primaryNode, replicaNode,
+            aliasFilters, indexRoutings));
+        // same generations
+        assertFalse(executeWithResponseCache(searchRequest, responseCache, searchTransportService, lookup, primaryNode, replicaNode,
+            aliasFilters, indexRoutings));
+        // one of the shards cannot cache the request
+        cacheableShards.set(false);
+        assertTrue(executeWithResponseCache(searchRequest, responseCache, searchTransportService, lookup, primaryNode, replicaNode,
+            aliasFilters, indexRoutings));
+        // the shards have been refreshed
+        cacheableShards.set(true);
+        generation.incrementAndGet();
+        assertTrue(executeWithResponseCache(searchRequest, responseCache, searchTransportService, lookup, primaryNode, replicaNode,
+            aliasFilters, indexRoutings));
+        assertFalse(executeWithResponseCache(searchRequest, responseCache, searchTransportService, lookup, primaryNode, replicaNode,
+            aliasFilters, indexRoutings));
+        // the filter of the alias changed without a refresh of the shards
+        aliasFilters = Collections.singletonMap("_na_", new AliasFilter(QueryBuilders.termQuery("field", "value"), "alias"));
+        assertTrue(executeWithResponseCache(searchRequest, responseCache, searchTransportService, lookup, primaryNode, replicaNode,
+            aliasFilters, indexRoutings));
+        // the routing of the alias changed without a refresh of the shards
+        indexRoutings = Collections.singletonMap("idx", Collections.singleton("1"));
+        assertTrue(executeWithResponseCache(searchRequest, responseCache, searchTransportService, lookup, primaryNode, replicaNode,
+            aliasFilters, indexRoutings));
+        assertFalse(executeWithResponseCache(searchRequest, responseCache, searchTransportService, lookup, primaryNode, replicaNode,
+            aliasFilters, indexRoutings));
+    }
+
+    /**
+     * Executes the can match phase with the given response cache and returns whether the next phase was executed.
+     */
+    private boolean executeWithResponseCache(SearchRequest searchRequest, SearchResponseCache responseCache,
+                                             SearchTransportService searchTransportService, Map<String, Transport.Connection> lookup,
+                                             DiscoveryNode primaryNode, DiscoveryNode replicaNode,
+                                             Map<String, AliasFilter> aliasFilters,
+                                             Map<String, Set<String>> indexRoutings) throws InterruptedException {
+        final TransportSearchAction.SearchTimeProvider timeProvider = new TransportSearchAction.SearchTimeProvider(0, System.nanoTime(),
+            System::nanoTime);
+        final AtomicBoolean nextPhaseExecuted = new AtomicBoolean();
+        final AtomicReference<SearchResponse> response = new AtomicReference<>();
+        final CountDownLatch latch = new CountDownLatch(1);
+        final SearchResponseCache.Lookup responseCacheLookup = responseCache.lookup(searchRequest);
+        final ActionListener<SearchResponse> listener = ActionListener.wrap(r -> {
+            response.set(r);
+            latch.countDown();
+        }, e -> {
+            throw new AssertionError(e);
+        });
+        GroupShardsIterator<SearchShardIterator> shardsIter = SearchAsyncActionTests.getShardsIter("idx",
+            new OriginalIndices(new String[]{"idx"}, SearchRequest.DEFAULT_INDICES_OPTIONS),
+            2, false, primaryNode, replicaNode);
+        CanMatchPreFilterSearchPhase canMatchPhase = new CanMatchPreFilterSearchPhase(logger,
+            searchTransportService,
+            (clusterAlias, node) -> lookup.get(node),
+            aliasFilters, Collections.emptyMap(), indexRoutings, OpenSearchExecutors.newDirectExecutorService(),
+            searchRequest, listener, shardsIter, timeProvider, ClusterState.EMPTY_STATE, null,
+            (iter) -> new SearchPhase("test") {
+                @Override
+                public void run() {
+                    nextPhaseExecuted.set(true);
+                    responseCacheLookup.wrap(listener).onResponse(new SearchResponse(InternalSearchResponse.empty(), null,
+                        2, 2, 0, 1L, ShardSearchFailure.EMPTY_ARRAY, SearchResponse.Clusters.EMPTY));
+                }}, SearchResponse.Clusters.EMPTY, responseCacheLookup);
+
+        canMatchPhase.start();
+        latch.await();
+        assertEquals(2, response.get().getTotalShards());
+        assertEquals(2, response.get().getSuccessfulShards());
+        return nextPhaseExecuted.get();
+    }
 }
@@ -82,6 +82,7 @@ import org.opensearch.search.suggest.Suggest;
 import org.opensearch.search.suggest.completion.CompletionSuggestion;
 import org.opensearch.search.suggest.phrase.PhraseSuggestion;
 import org.opensearch.search.suggest.term.TermSuggestion;
+import org.opensearch.tasks.TaskId;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.test.InternalAggregationTestCase;
 import org.opensearch.threadpool.TestThreadPool;
@@ -108,6 +109,7 @@ import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.lessThan;
@@ -561,6 +563,52 @@ public class SearchPhaseControllerTests extends OpenSearchTestCase {
         assertNull(reduce.sortedTopDocs.collapseValues);
     }
 
+    public void testStreamingConsumerConcurrently() throws Exception {
+        int expectedNumResults = randomIntBetween(1, 100);
+        SearchRequest request = randomSearchRequest();
+        request.source(new SearchSourceBuilder().aggregation(AggregationBuilders.avg("foo")).size(1));
+        QueryPhaseResultConsumer consumer = searchPhaseController.newSearchPhaseResults(fixedExecutor,
+            new NoopCircuitBreaker(CircuitBreaker.REQUEST), SearchProgressListener.NOOP,
+            request, expectedNumResults, true, exc  -> {});
+        AtomicInteger max = new AtomicInteger();
+        Thread[] threads = new Thread[expectedNumResults];
+        CountDownLatch latch = new CountDownLatch(expectedNumResults);
+        for (int i = 0; i < expectedNumResults; i++) {
+            int id = i;
+            threads[i] = new Thread(() -> {
+                int number = randomIntBetween(1, 1000);
+                max.updateAndGet(prev -> Math.max(prev, number));
+                QuerySearchResult result = new QuerySearchResult(new ShardSearchContextId("", id),
+                    new SearchShardTarget("node", new ShardId("a", "b", id), null, OriginalIndices.NONE), null);
+                result.topDocs(new TopDocsAndMaxScore(
+                    new TopDocs(new TotalHits(1, TotalHits.Relation.EQUAL_TO), new ScoreDoc[] {new ScoreDoc(0, number)}), number),
+                    new DocValueFormat[0]);
+                InternalAggregations aggs = InternalAggregations.from(Collections.singletonList(new InternalMax("test", (double) number,
+                    DocValueFormat.RAW, Collections.emptyMap())));
+                result.aggregations(aggs);
+                result.setShardIndex(id);
+                result.size(1);
+                consumer.consumeResult(result, latch::countDown);
+            });
+            threads[i].start();
+        }
+        for (int i = 0; i < expectedNumResults; i++) {
+            threads[i].join();
+        }
+        latch.await();
+
+        SearchPhaseController.ReducedQueryPhase reduce = consumer.reduce();
+        assertAggReduction(request);
+        InternalMax internalMax = (InternalMax) reduce.aggregations.asList().get(0);
+        assertEquals(max.get(), internalMax.getValue(), 0.0D);
+        assertEquals(1, reduce.sortedTopDocs.scoreDocs.length);
+        assertEquals(max.get(), reduce.maxScore, 0.0f);
+        assertEquals(expectedNumResults, reduce.totalHits.value);
+        assertEquals(max.get(), reduce.sortedTopDocs.scoreDocs[0].score, 0.0f);
+        // the first result is reduced with the second one and every following result is folded as soon as possible
+        assertThat(reduce.numReducePhases, lessThanOrEqualTo(expectedNumResults));
+    }
+
     public void testConsumerOnlyAggs() throws Exception {
         int expectedNumResults = randomIntBetween(1, 100);
         int bufferSize = randomIntBetween(2, 200);
@@ -952,17 +1000,29 @@ public class SearchPhaseControllerTests extends OpenSearchTestCase {
 
     public void testPartialReduce() throws Exception {
         for (int i = 0; i < 10; i++) {
-            testReduceCase(false);
+            testReduceCase(false, false);
         }
     }
 
     public void testPartialReduceWithFailure() throws Exception {
         for (int i = 0; i < 10; i++) {
-            testReduceCase(true);
+            testReduceCase(true, false);
+        }
+    }
+
+    public void testStreamingReduce() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            testReduceCase(false, true);
+        }
+    }
+
+    public void testStreamingReduceWithFailure() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            testReduceCase(true, true);
         }
     }
 
-    private void testReduceCase(boolean shouldFail) throws Exception {
+    private void testReduceCase(boolean shouldFail, boolean streamingReduce) throws Exception {
         int expectedNumResults = randomIntBetween(20, 200);
         int bufferSize = randomIntBetween(2, expectedNumResults - 1);
         SearchRequest request = new SearchRequest();
@@ -977,7 +1037,7 @@ public class SearchPhaseControllerTests extends OpenSearchTestCase {
         }
         QueryPhaseResultConsumer consumer = searchPhaseController.newSearchPhaseResults(fixedExecutor,
             circuitBreaker, SearchProgressListener.NOOP,
-            request, expectedNumResults, exc -> hasConsumedFailure.set(true));
+            request, expectedNumResults, streamingReduce, exc -> hasConsumedFailure.set(true));
         CountDownLatch latch = new CountDownLatch(expectedNumResults);
         Thread[] threads = new Thread[expectedNumResults];
         for (int i =  0; i < expectedNumResults; i++) {
@@ -1012,6 +1072,15 @@ public class SearchPhaseControllerTests extends OpenSearchTestCase {
             circuitBreaker.shouldBreak.set(false);
         } else {
             SearchPhaseController.ReducedQueryPhase phase = consumer.reduce();
+            assertThat(consumer.getMaxReduceMemoryBytes(), greaterThanOrEqualTo(consumer.getReduceMemoryBytes()));
+            SearchTask task = new SearchTask(0, "type", "action", () -> "desc", TaskId.EMPTY_TASK_ID, Collections.emptyMap());
+            assertNull(task.getStatus());
+            task.setQueryResultConsumer(consumer);
+            assertEquals(new SearchTask.Status(consumer.getReduceMemoryBytes(), consumer.getMaxReduceMemoryBytes()), task.getStatus());
+            if (streamingReduce) {
+                // every shard result but the first one is folded into the running partial reduce
+                assertThat(phase.numReducePhases, greaterThan(1));
+            }
         }
         consumer.close();
         assertThat(circuitBreaker.allocated, equalTo(0L));
@@ -115,6 +115,11 @@ public class SearchRequestTests extends AbstractSearchTestCase {
             assertEquals(searchRequest.getAbsoluteStartMillis(), deserializedRequest.getAbsoluteStartMillis());
             assertEquals(searchRequest.isFinalReduce(), deserializedRequest.isFinalReduce());
         }
+        if (version.before(Version.V_1_1_0)) {
+            assertNull(deserializedRequest.concurrentSegmentSearch());
+        } else {
+            assertEquals(searchRequest.concurrentSegmentSearch(), deserializedRequest.concurrentSegmentSearch());
+        }
     }
 
     public void testReadFromPre6_7_0() throws IOException {
@@ -261,6 +266,8 @@ public class SearchRequestTests extends AbstractSearchTestCase {
             () -> randomFrom(SearchType.DFS_QUERY_THEN_FETCH, SearchType.QUERY_THEN_FETCH))));
         mutators.add(() -> mutation.source(randomValueOtherThan(searchRequest.source(), this::createSearchSourceBuilder)));
         mutators.add(() -> mutation.setCcsMinimizeRoundtrips(searchRequest.isCcsMinimizeRoundtrips() == false));
+        mutators.add(() -> mutation.concurrentSegmentSearch(
+            randomValueOtherThan(searchRequest.concurrentSegmentSearch(), OpenSearchTestCase::randomBoolean)));
         randomFrom(mutators).run();
         return mutation;
     }
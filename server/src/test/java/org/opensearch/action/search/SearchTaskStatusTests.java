@@ -0,0 +1,35 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.test.AbstractWireSerializingTestCase;
+
+public class SearchTaskStatusTests extends AbstractWireSerializingTestCase<SearchTask.Status> {
+
+    @Override
+    protected SearchTask.Status createTestInstance() {
+        long maxReduceMemoryBytes = randomLongBetween(0, Long.MAX_VALUE / 2);
+        return new SearchTask.Status(randomLongBetween(0, maxReduceMemoryBytes), maxReduceMemoryBytes);
+    }
+
+    @Override
+    protected Writeable.Reader<SearchTask.Status> instanceReader() {
+        return SearchTask.Status::new;
+    }
+
+    @Override
+    protected SearchTask.Status mutateInstance(SearchTask.Status instance) {
+        if (randomBoolean()) {
+            return new SearchTask.Status(instance.getReduceMemoryBytes() + 1, instance.getMaxReduceMemoryBytes());
+        } else {
+            return new SearchTask.Status(instance.getReduceMemoryBytes(), instance.getMaxReduceMemoryBytes() + 1);
+        }
+    }
+}
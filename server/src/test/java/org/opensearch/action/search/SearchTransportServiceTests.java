@@ -0,0 +1,160 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.action.ActionListener;
+import org.opensearch.common.UUIDs;
+import org.opensearch.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.common.text.Text;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.fetch.FetchSearchResult;
+import org.opensearch.search.internal.ShardSearchContextId;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.transport.TransportChannel;
+import org.opensearch.transport.TransportRequest;
+import org.opensearch.transport.TransportResponse;
+import org.opensearch.transport.TransportService;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.Matchers.equalTo;
+
+public class SearchTransportServiceTests extends OpenSearchTestCase {
+
+    private static final NamedWriteableRegistry NAMED_WRITEABLE_REGISTRY = new NamedWriteableRegistry(Collections.emptyList());
+
+    public void testFetchResultIsSentInBatches() throws Exception {
+        final int numHits = randomIntBetween(0, SearchTransportService.FETCH_HITS_PER_BATCH * 5);
+        final FetchSearchResult result = fetchResult(numHits);
+        final AtomicReference<FetchSearchResult> received = new AtomicReference<>();
+        final AtomicInteger numBatches = new AtomicInteger();
+        final SearchTransportService.FetchResultHandler handler = newFetchResultHandler(received);
+        final TransportChannel channel = new TestChannel("default") {
+            @Override
+            public void sendResponseBatch(TransportResponse batch, ActionListener<Void> listener) {
+                numBatches.incrementAndGet();
+                final FetchSearchResult fetchBatch = copy((FetchSearchResult) batch);
+                assertThat(fetchBatch.hits().getHits().length, equalTo(SearchTransportService.FETCH_HITS_PER_BATCH));
+                // acknowledged by another thread, like the acknowledgements that the requester sends back
+                new Thread(() -> handler.handleBatch(fetchBatch, listener)).start();
+            }
+
+            @Override
+            public void sendResponse(TransportResponse response) {
+                handler.handleResponse(copy((FetchSearchResult) response));
+            }
+        };
+        SearchTransportService.fetchResultListener(channel, "action", TransportRequest.Empty.INSTANCE).onResponse(result);
+        assertBusy(() -> assertNotNull(received.get()));
+        assertThat(numBatches.get(), equalTo(Math.max(0, (numHits - 1) / SearchTransportService.FETCH_HITS_PER_BATCH)));
+        assertSameHits(result, received.get());
+    }
+
+    public void testFetchResultIsSentAtOnceWithoutBatches() {
+        final FetchSearchResult result = fetchResult(randomIntBetween(SearchTransportService.FETCH_HITS_PER_BATCH + 1, 1000));
+        final AtomicReference<FetchSearchResult> received = new AtomicReference<>();
+        final SearchTransportService.FetchResultHandler handler = newFetchResultHandler(received);
+        final TransportChannel channel = new TestChannel("default") {
+            @Override
+            public void sendResponseBatch(TransportResponse batch, ActionListener<Void> listener) {
+                listener.onFailure(new UnsupportedOperationException("batches are not supported"));
+            }
+
+            @Override
+            public void sendResponse(TransportResponse response) {
+                handler.handleResponse(copy((FetchSearchResult) response));
+            }
+        };
+        SearchTransportService.fetchResultListener(channel, "action", TransportRequest.Empty.INSTANCE).onResponse(result);
+        assertSameHits(result, received.get());
+    }
+
+    public void testLocalFetchResultIsSentAtOnce() {
+        final FetchSearchResult result = fetchResult(randomIntBetween(SearchTransportService.FETCH_HITS_PER_BATCH + 1, 1000));
+        final AtomicReference<TransportResponse> received = new AtomicReference<>();
+        final TransportChannel channel = new TestChannel(TransportService.DIRECT_RESPONSE_PROFILE) {
+            @Override
+            public void sendResponseBatch(TransportResponse batch, ActionListener<Void> listener) {
+                throw new AssertionError("local requests should not get batches");
+            }
+
+            @Override
+            public void sendResponse(TransportResponse response) {
+                received.set(response);
+            }
+        };
+        SearchTransportService.fetchResultListener(channel, "action", TransportRequest.Empty.INSTANCE).onResponse(result);
+        assertSame(result, received.get());
+    }
+
+    private static SearchTransportService.FetchResultHandler newFetchResultHandler(AtomicReference<FetchSearchResult> received) {
+        final SearchTransportService searchTransportService = new SearchTransportService(null, null);
+        return searchTransportService.new FetchResultHandler(ActionListener.wrap(received::set, e -> {
+            throw new AssertionError(e);
+        }), new HashMap<>(), "node");
+    }
+
+    private static FetchSearchResult fetchResult(int numHits) {
+        final SearchHit[] hits = new SearchHit[numHits];
+        for (int i = 0; i < numHits; i++) {
+            hits[i] = new SearchHit(i, Integer.toString(i), new Text("type"), Collections.emptyMap(), Collections.emptyMap());
+        }
+        final FetchSearchResult result = new FetchSearchResult(new ShardSearchContextId(UUIDs.randomBase64UUID(), randomNonNegativeLong()),
+            null);
+        result.hits(new SearchHits(hits, new TotalHits(numHits, TotalHits.Relation.EQUAL_TO), Float.NaN));
+        return result;
+    }
+
+    private static FetchSearchResult copy(FetchSearchResult result) {
+        try {
+            return copyWriteable(result, NAMED_WRITEABLE_REGISTRY, FetchSearchResult::new);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void assertSameHits(FetchSearchResult expected, FetchSearchResult actual) {
+        assertThat(actual.getContextId(), equalTo(expected.getContextId()));
+        assertThat(actual.hits().getTotalHits(), equalTo(expected.hits().getTotalHits()));
+        assertThat(actual.hits().getHits().length, equalTo(expected.hits().getHits().length));
+        for (int i = 0; i < expected.hits().getHits().length; i++) {
+            assertThat(actual.hits().getHits()[i].getId(), equalTo(expected.hits().getHits()[i].getId()));
+        }
+    }
+
+    private abstract static class TestChannel implements TransportChannel {
+        private final String profileName;
+
+        TestChannel(String profileName) {
+            this.profileName = profileName;
+        }
+
+        @Override
+        public String getProfileName() {
+            return profileName;
+        }
+
+        @Override
+        public String getChannelType() {
+            return "test";
+        }
+
+        @Override
+        public void sendResponse(Exception exception) {
+            throw new AssertionError(exception);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cluster.action.shard;
+
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.ClusterStateTaskExecutor;
+import org.opensearch.cluster.action.shard.ShardTimestampRangeAction.ShardTimestampRangeEntry;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.IndexTimestampRange;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.cluster.routing.ShardRouting;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.Collections;
+
+import static org.opensearch.action.support.replication.ClusterStateCreationUtils.stateWithActivePrimary;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+public class ShardTimestampRangeClusterStateTaskExecutorTests extends OpenSearchTestCase {
+
+    private final ShardTimestampRangeAction.ShardTimestampRangeClusterStateTaskExecutor executor =
+        new ShardTimestampRangeAction.ShardTimestampRangeClusterStateTaskExecutor();
+
+    public void testRecordsRangeOfPrimary() throws Exception {
+        final ClusterState clusterState = blockForWrites(stateWithActivePrimary("test", true, 1), true);
+        final IndexMetadata indexMetadata = clusterState.metadata().index("test");
+        final ShardRouting primary = clusterState.routingTable().index("test").shard(0).primaryShard();
+
+        final ShardTimestampRangeEntry entry = new ShardTimestampRangeEntry(primary.shardId(), primary.allocationId().getId(),
+            indexMetadata.getSettingsVersion(), "@timestamp", null, 10, 20);
+        final ClusterState resultingState = executeTask(clusterState, entry);
+
+        final IndexMetadata resultingIndexMetadata = resultingState.metadata().index("test");
+        final IndexTimestampRange timestampRange = resultingIndexMetadata.getTimestampRange();
+        assertTrue(timestampRange.appliesTo(resultingIndexMetadata));
+        assertTrue(timestampRange.isComplete());
+        assertThat(timestampRange.getField(), equalTo("@timestamp"));
+        assertThat(timestampRange.getMin(0), equalTo(10L));
+        assertThat(timestampRange.getMax(0), equalTo(20L));
+        assertThat(resultingIndexMetadata.getVersion(), equalTo(indexMetadata.getVersion() + 1));
+    }
+
+    public void testIgnoresStaleRanges() throws Exception {
+        final boolean blocked = randomBoolean();
+        final ClusterState clusterState = blockForWrites(stateWithActivePrimary("test", true, 1), blocked);
+        final IndexMetadata indexMetadata = clusterState.metadata().index("test");
+        final ShardRouting primary = clusterState.routingTable().index("test").shard(0).primaryShard();
+        final ShardRouting replica = clusterState.routingTable().index("test").shard(0).replicaShards().get(0);
+
+        final ShardTimestampRangeEntry entry;
+        if (blocked == false) {
+            entry = new ShardTimestampRangeEntry(primary.shardId(), primary.allocationId().getId(),
+                indexMetadata.getSettingsVersion(), "@timestamp", null, 10, 20);
+        } else if (randomBoolean()) {
+            entry = new ShardTimestampRangeEntry(primary.shardId(), primary.allocationId().getId(),
+                indexMetadata.getSettingsVersion() - 1, "@timestamp", null, 10, 20);
+        } else {
+            final String allocationId = replica.allocationId() == null ? "_na_" : replica.allocationId().getId();
+            entry = new ShardTimestampRangeEntry(primary.shardId(), allocationId, indexMetadata.getSettingsVersion(), "@timestamp", null,
+                10, 20);
+        }
+        assertSame(clusterState, executeTask(clusterState, entry));
+    }
+
+    private ClusterState executeTask(ClusterState clusterState, ShardTimestampRangeEntry entry) throws Exception {
+        final ClusterStateTaskExecutor.ClusterTasksResult<ShardTimestampRangeEntry> result =
+            executor.execute(clusterState, Collections.singletonList(entry));
+        assertThat(result.executionResults.get(entry).isSuccess(), is(true));
+        return result.resultingState;
+    }
+
+    private static ClusterState blockForWrites(ClusterState clusterState, boolean blocked) {
+        final IndexMetadata indexMetadata = clusterState.metadata().index("test");
+        return ClusterState.builder(clusterState)
+            .metadata(Metadata.builder(clusterState.metadata()).put(IndexMetadata.builder(indexMetadata)
+                .settings(Settings.builder().put(indexMetadata.getSettings())
+                    .put(IndexMetadata.INDEX_BLOCKS_WRITE_SETTING.getKey(), blocked))
+                .settingsVersion(indexMetadata.getSettingsVersion() + 1)))
+            .build();
+    }
+}
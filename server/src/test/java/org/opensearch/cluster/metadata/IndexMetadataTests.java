@@ -66,6 +66,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.BiFunction;
 
 import static org.opensearch.cluster.metadata.IndexMetadata.parseIndexNameCounter;
 import static org.hamcrest.Matchers.containsString;
@@ -108,6 +109,7 @@ public class IndexMetadataTests extends OpenSearchTestCase {
             .primaryTerm(0, 2)
             .setRoutingNumShards(32)
             .system(system)
+            .timestampRange(randomTimestampRange(numShard))
             .putCustom("my_custom", customMap)
             .putRolloverInfo(
                 new RolloverInfo(randomAlphaOfLength(5),
@@ -135,6 +137,7 @@ public class IndexMetadataTests extends OpenSearchTestCase {
         assertEquals(metadata.getRoutingFactor(), fromXContentMeta.getRoutingFactor());
         assertEquals(metadata.primaryTerm(0), fromXContentMeta.primaryTerm(0));
         assertEquals(metadata.isSystem(), fromXContentMeta.isSystem());
+        assertEquals(metadata.getTimestampRange(), fromXContentMeta.getTimestampRange());
         ImmutableOpenMap.Builder<String, DiffableStringMap> expectedCustomBuilder = ImmutableOpenMap.builder();
         expectedCustomBuilder.put("my_custom", new DiffableStringMap(customMap));
         ImmutableOpenMap<String, DiffableStringMap> expectedCustom = expectedCustomBuilder.build();
@@ -159,6 +162,71 @@ public class IndexMetadataTests extends OpenSearchTestCase {
             assertEquals(deserialized.getCustomData(), expectedCustom);
             assertEquals(metadata.getCustomData(),  deserialized.getCustomData());
             assertEquals(metadata.isSystem(), deserialized.isSystem());
+            assertEquals(metadata.getTimestampRange(), deserialized.getTimestampRange());
+        }
+    }
+
+    private static IndexTimestampRange randomTimestampRange(int numberOfShards) {
+        IndexTimestampRange timestampRange = IndexTimestampRange.UNKNOWN;
+        if (randomBoolean()) {
+            final String field = randomAlphaOfLength(5);
+            final String format = randomBoolean() ? null : "strict_date_optional_time||epoch_millis";
+            for (int i = 0; i < numberOfShards; i++) {
+                if (randomBoolean()) {
+                    final long min = randomLong();
+                    timestampRange = timestampRange.withShardRange(numberOfShards, i, field, format, 1, min,
+                        randomLongBetween(min, Long.MAX_VALUE));
+                }
+            }
+        }
+        return timestampRange;
+    }
+
+    public void testTimestampRange() throws IOException {
+        final Settings settings = Settings.builder()
+            .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+            .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 2)
+            .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0)
+            .build();
+        final Settings blockedSettings = Settings.builder().put(settings)
+            .put(IndexMetadata.INDEX_BLOCKS_WRITE_SETTING.getKey(), true).build();
+        final BiFunction<Settings, Long, IndexMetadata> indexMetadata =
+            (indexSettings, settingsVersion) -> IndexMetadata.builder("foo")
+                .settings(indexSettings)
+                .settingsVersion(settingsVersion)
+                .build();
+        IndexTimestampRange timestampRange = IndexTimestampRange.UNKNOWN;
+        assertFalse(timestampRange.appliesTo(indexMetadata.apply(blockedSettings, 3L)));
+        assertTrue(timestampRange.mayIntersect(0, 0, 10));
+
+        timestampRange = timestampRange.withShardRange(2, 0, "@timestamp", null, 3, 10, 20);
+        timestampRange = timestampRange.withShardRange(2, 1, "@timestamp", null, 3, Long.MAX_VALUE, Long.MIN_VALUE);
+        assertTrue(timestampRange.isComplete());
+        assertTrue(timestampRange.appliesTo(indexMetadata.apply(blockedSettings, 3L)));
+        assertTrue(timestampRange.mayIntersect(0, 0, 10));
+        assertTrue(timestampRange.mayIntersect(0, 15, 15));
+        assertTrue(timestampRange.mayIntersect(0, 20, 30));
+        assertFalse(timestampRange.mayIntersect(0, 0, 9));
+        assertFalse(timestampRange.mayIntersect(0, 21, 30));
+        assertFalse("a shard without value never intersects", timestampRange.mayIntersect(1, Long.MIN_VALUE, Long.MAX_VALUE));
+
+        // the range is reset by a range computed for another settings version
+        IndexTimestampRange newTimestampRange = timestampRange.withShardRange(2, 1, "@timestamp", null, 4, 30, 40);
+        assertFalse(newTimestampRange.hasShardRange(0));
+        assertTrue(newTimestampRange.hasShardRange(1));
+        assertFalse(newTimestampRange.isComplete());
+
+        // the range does not apply once the settings change or the index is not blocked for writes anymore
+        assertFalse(timestampRange.appliesTo(indexMetadata.apply(blockedSettings, 4L)));
+        assertFalse(timestampRange.appliesTo(indexMetadata.apply(settings, 3L)));
+
+        // the range is sent in full in diffs
+        final IndexMetadata before = indexMetadata.apply(blockedSettings, 3L);
+        final IndexMetadata after = IndexMetadata.builder(before).timestampRange(timestampRange).version(before.getVersion() + 1).build();
+        final BytesStreamOutput out = new BytesStreamOutput();
+        after.diff(before).writeTo(out);
+        try (StreamInput in = out.bytes().streamInput()) {
+            assertEquals(timestampRange, IndexMetadata.readDiffFrom(in).apply(before).getTimestampRange());
         }
     }
 
@@ -0,0 +1,154 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.bytes;
+
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.io.stream.StreamInput;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.Matchers.instanceOf;
+
+public class ByteBufferReferenceTests extends AbstractBytesReferenceTestCase {
+
+    @Override
+    protected BytesReference newBytesReference(int length) throws IOException {
+        return newBytesReference(length, randomInt(length));
+    }
+
+    @Override
+    protected BytesReference newBytesReferenceWithOffsetOfZero(int length) throws IOException {
+        return newBytesReference(length, 0);
+    }
+
+    private BytesReference newBytesReference(int length, int offset) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(length + offset);
+        for (int i = 0; i < length + offset; i++) {
+            buffer.put((byte) random().nextInt(1 << 8));
+        }
+        buffer.position(offset);
+        final BytesReference ref = BytesReference.fromByteBuffer(buffer);
+        assertThat(ref, instanceOf(ByteBufferReference.class));
+        assertEquals(length, ref.length());
+        return ref;
+    }
+
+    @Override
+    public void testToBytesRefSharedPage() throws IOException {
+        // the bytes of a direct buffer are copied to the heap on every call
+    }
+
+    @Override
+    public void testSliceArrayOffset() throws IOException {
+        // pages of a direct buffer are copies that start at offset 0
+    }
+
+    @Override
+    public void testSliceToBytesRef() throws IOException {
+        // pages of a direct buffer are copies that start at offset 0
+    }
+
+    public void testReadsInPlace() throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(randomIntBetween(64, 1024));
+        final int value = randomInt();
+        final long longValue = randomLong();
+        final String string = randomAlphaOfLength(10);
+        final BytesReference bytes;
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            out.writeInt(value);
+            out.writeLong(longValue);
+            out.writeString(string);
+            out.writeBytesReference(new BytesArray(string));
+            bytes = out.bytes();
+        }
+        buffer.put(BytesReference.toBytes(bytes));
+        buffer.flip();
+
+        final BytesReference ref = BytesReference.fromByteBuffer(buffer);
+        assertEquals(value, ref.getInt(0));
+        try (StreamInput in = ref.streamInput()) {
+            assertEquals(value, in.readInt());
+            assertEquals(longValue, in.readLong());
+            assertEquals(string, in.readString());
+            assertEquals(new BytesArray(string), in.readBytesReference());
+            assertEquals(0, in.available());
+            expectThrows(IOException.class, in::readInt);
+        }
+        assertEquals(bytes, ref);
+        // the stream reads from a view of the buffer, so the buffer is left as is
+        assertEquals(0, buffer.position());
+    }
+
+    public void testCompositeOfDirectBuffersIsStreamedInPlace() throws IOException {
+        final int numValues = randomIntBetween(1, 1000);
+        final int[] values = new int[numValues];
+        final String[] strings = new String[numValues];
+        final BytesReference bytes;
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            for (int i = 0; i < numValues; i++) {
+                values[i] = randomInt();
+                strings[i] = randomAlphaOfLength(randomIntBetween(0, 100));
+                out.writeInt(values[i]);
+                out.writeLong(values[i]);
+                out.writeString(strings[i]);
+            }
+            bytes = out.bytes();
+        }
+        // split the bytes in direct buffers at random offsets, so that values span several buffers, like the reads of a large message
+        final byte[] array = BytesReference.toBytes(bytes);
+        final List<ByteBuffer> buffers = new ArrayList<>();
+        final List<BytesReference> references = new ArrayList<>();
+        int offset = 0;
+        while (offset < array.length) {
+            final int length = Math.min(array.length - offset, randomIntBetween(2, 100));
+            final ByteBuffer buffer = ByteBuffer.allocateDirect(length);
+            buffer.put(array, offset, length);
+            buffer.flip();
+            buffers.add(buffer);
+            references.add(ReleasableBytesReference.wrap(BytesReference.fromByteBuffer(buffer)));
+            offset += length;
+        }
+        final BytesReference composite = CompositeBytesReference.of(references.toArray(new BytesReference[0]));
+        assertEquals(bytes, composite);
+
+        try (StreamInput in = composite.streamInput()) {
+            in.mark(Integer.MAX_VALUE);
+            for (int i = 0; i < numValues; i++) {
+                assertEquals(values[i], in.readInt());
+                assertEquals(values[i], in.readLong());
+                assertEquals(strings[i], in.readString());
+            }
+            assertEquals(0, in.available());
+            expectThrows(IOException.class, in::readByte);
+
+            final int skip = randomIntBetween(0, array.length);
+            in.reset();
+            assertEquals(skip, in.skip(skip));
+            assertEquals(array.length - skip, in.available());
+            in.mark(Integer.MAX_VALUE);
+            final byte[] remaining = new byte[array.length - skip];
+            in.readBytes(remaining, 0, remaining.length);
+            assertArrayEquals(Arrays.copyOfRange(array, skip, array.length), remaining);
+            in.reset();
+            assertEquals(array.length - skip, in.available());
+        }
+
+        // the stream reads the buffers themselves rather than copies of them
+        try (StreamInput in = composite.streamInput()) {
+            assertEquals(array[0], in.readByte());
+            final byte changed = (byte) (buffers.get(0).get(1) + 1);
+            buffers.get(0).put(1, changed);
+            assertEquals(changed, in.readByte());
+        }
+    }
+}
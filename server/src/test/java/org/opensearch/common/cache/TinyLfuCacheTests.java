@@ -0,0 +1,448 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.cache;
+
+import org.opensearch.test.OpenSearchTestCase;
+import org.junit.Before;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+public class TinyLfuCacheTests extends OpenSearchTestCase {
+    private int numberOfEntries;
+
+    @Before
+    public void setUp() throws Exception {
+        super.setUp();
+        numberOfEntries = randomIntBetween(1000, 10000);
+        logger.debug("numberOfEntries: {}", numberOfEntries);
+    }
+
+    private static <K, V> CacheBuilder<K, V> builder() {
+        return CacheBuilder.<K, V>builder().setEvictionPolicy(Cache.EvictionPolicy.TINY_LFU);
+    }
+
+    public void testBuilder() {
+        assertThat(builder().build(), instanceOf(TinyLfuCache.class));
+        assertThat(CacheBuilder.builder().build() instanceof TinyLfuCache, is(false));
+    }
+
+    public void testCacheStats() {
+        AtomicLong evictions = new AtomicLong();
+        Set<Integer> keys = new HashSet<>();
+        Cache<Integer, String> cache = TinyLfuCacheTests.<Integer, String>builder()
+            .setMaximumWeight(numberOfEntries / 2)
+            .removalListener(notification -> {
+                keys.remove(notification.getKey());
+                evictions.incrementAndGet();
+            })
+            .build();
+
+        for (int i = 0; i < numberOfEntries; i++) {
+            // track the keys, which are removed upon eviction (see the RemovalListener)
+            keys.add(i);
+            cache.put(i, Integer.toString(i));
+        }
+        long hits = 0;
+        long misses = 0;
+        Integer missingKey = 0;
+        for (Integer key : keys) {
+            --missingKey;
+            if (rarely()) {
+                misses++;
+                cache.get(missingKey);
+            } else {
+                hits++;
+                cache.get(key);
+            }
+        }
+        assertEquals(hits, cache.stats().getHits());
+        assertEquals(misses, cache.stats().getMisses());
+        assertEquals((long) Math.ceil(numberOfEntries / 2.0), evictions.get());
+        assertEquals(evictions.get(), cache.stats().getEvictions());
+        assertEquals(numberOfEntries / 2, cache.count());
+        assertEquals(numberOfEntries / 2, cache.weight());
+    }
+
+    public void testWeigher() {
+        int maximumWeight = 2 * numberOfEntries;
+        int weight = randomIntBetween(2, 10);
+        AtomicLong evictions = new AtomicLong();
+        Cache<Integer, String> cache = TinyLfuCacheTests.<Integer, String>builder()
+            .setMaximumWeight(maximumWeight)
+            .weigher((k, v) -> weight)
+            .removalListener(notification -> evictions.incrementAndGet())
+            .build();
+        for (int i = 0; i < numberOfEntries; i++) {
+            cache.put(i, Integer.toString(i));
+        }
+        // cache weight should be the largest multiple of weight less than maximumWeight
+        assertEquals(weight * (maximumWeight / weight), cache.weight());
+        // the number of evicted entries should be the number of entries that fit in the excess weight
+        assertEquals((int) Math.ceil((weight - 2) * numberOfEntries / (1.0 * weight)), evictions.get());
+        assertEquals(evictions.get(), cache.stats().getEvictions());
+    }
+
+    /**
+     * A hot set that is larger than what a LRU cache could retain when it is interleaved with a scan of keys that are only read once
+     * stays in the cache because the scanned keys are not admitted in place of more frequent ones.
+     */
+    public void testScanResistance() {
+        final int maximumWeight = 100;
+        final int hotKeys = 80;
+        final int iterations = 20 * numberOfEntries;
+        Cache<Integer, String> cache = TinyLfuCacheTests.<Integer, String>builder().setMaximumWeight(maximumWeight).build();
+        Cache<Integer, String> lru = CacheBuilder.<Integer, String>builder().setMaximumWeight(maximumWeight).build();
+        int hits = 0;
+        int lruHits = 0;
+        for (int i = 0; i < iterations; i++) {
+            Integer hotKey = i % hotKeys;
+            if (cache.get(hotKey) == null) {
+                cache.put(hotKey, Integer.toString(hotKey));
+            } else {
+                hits++;
+            }
+            if (lru.get(hotKey) == null) {
+                lru.put(hotKey, Integer.toString(hotKey));
+            } else {
+                lruHits++;
+            }
+            Integer scanKey = hotKeys + i;
+            cache.put(scanKey, Integer.toString(scanKey));
+            lru.put(scanKey, Integer.toString(scanKey));
+        }
+        assertThat((double) hits / iterations, greaterThan(0.9));
+        assertThat(lruHits, lessThan(hits));
+        assertEquals(maximumWeight, cache.count());
+    }
+
+    public void testExpirationAfterAccess() {
+        AtomicLong now = new AtomicLong();
+        TinyLfuCache<Integer, String> cache = new TinyLfuCache<Integer, String>() {
+            @Override
+            protected long now() {
+                return now.get();
+            }
+        };
+        cache.setExpireAfterAccessNanos(2);
+        List<Integer> evictedKeys = new ArrayList<>();
+        cache.setRemovalListener(notification -> {
+            assertEquals(RemovalNotification.RemovalReason.EVICTED, notification.getRemovalReason());
+            evictedKeys.add(notification.getKey());
+        });
+        now.set(0);
+        for (int i = 0; i < numberOfEntries; i++) {
+            cache.put(i, Integer.toString(i));
+        }
+        now.set(1);
+        // reading the even keys keeps them alive
+        for (int i = 0; i < numberOfEntries; i += 2) {
+            assertEquals(Integer.toString(i), cache.get(i));
+        }
+        now.set(3);
+        for (int i = 1; i < numberOfEntries; i += 2) {
+            assertNull(cache.get(i));
+        }
+        cache.refresh();
+        assertEquals(numberOfEntries / 2, evictedKeys.size());
+        assertEquals((numberOfEntries + 1) / 2, cache.count());
+        for (Integer key : evictedKeys) {
+            assertEquals(1, key % 2);
+        }
+        for (Integer key : cache.keys()) {
+            assertEquals(0, key % 2);
+        }
+        now.set(4);
+        cache.refresh();
+        assertEquals(0, cache.count());
+        assertEquals(0, cache.weight());
+        assertEquals(numberOfEntries, evictedKeys.size());
+    }
+
+    public void testExpirationAfterWrite() {
+        AtomicLong now = new AtomicLong();
+        TinyLfuCache<Integer, String> cache = new TinyLfuCache<Integer, String>() {
+            @Override
+            protected long now() {
+                return now.get();
+            }
+        };
+        cache.setExpireAfterWriteNanos(1);
+        now.set(0);
+        for (int i = 0; i < numberOfEntries; i++) {
+            cache.put(i, Integer.toString(i));
+        }
+        now.set(1);
+        for (int i = numberOfEntries; i < 2 * numberOfEntries; i++) {
+            cache.put(i, Integer.toString(i));
+        }
+        now.set(2);
+        for (int i = 0; i < numberOfEntries; i++) {
+            assertNull(cache.get(i));
+        }
+        cache.refresh();
+        assertEquals(numberOfEntries, cache.count());
+        Set<Integer> remainingKeys = new HashSet<>();
+        for (Integer key : cache.keys()) {
+            remainingKeys.add(key);
+        }
+        for (int i = numberOfEntries; i < 2 * numberOfEntries; i++) {
+            assertTrue(remainingKeys.contains(i));
+        }
+    }
+
+    public void testComputeIfAbsentAfterExpiration() throws ExecutionException {
+        AtomicLong now = new AtomicLong();
+        TinyLfuCache<Integer, String> cache = new TinyLfuCache<Integer, String>() {
+            @Override
+            protected long now() {
+                return now.get();
+            }
+        };
+        cache.setExpireAfterAccessNanos(1);
+        now.set(0);
+        for (int i = 0; i < numberOfEntries; i++) {
+            cache.put(i, Integer.toString(i));
+        }
+        now.set(2);
+        for (int i = 0; i < numberOfEntries; i++) {
+            assertEquals(Integer.toString(i + 1), cache.computeIfAbsent(i, key -> Integer.toString(key + 1)));
+        }
+        assertEquals(numberOfEntries, cache.count());
+        assertEquals(numberOfEntries, cache.stats().getEvictions());
+    }
+
+    public void testReplaceRecomputesSize() {
+        List<RemovalNotification<Integer, String>> notifications = new ArrayList<>();
+        Cache<Integer, String> cache = TinyLfuCacheTests.<Integer, String>builder()
+            .weigher((k, v) -> v.length())
+            .removalListener(notifications::add)
+            .build();
+        cache.put(1, "a");
+        assertEquals(1, cache.weight());
+        cache.put(1, "abc");
+        assertEquals(3, cache.weight());
+        assertEquals(1, cache.count());
+        assertEquals(1, notifications.size());
+        assertEquals("a", notifications.get(0).getValue());
+        assertEquals(RemovalNotification.RemovalReason.REPLACED, notifications.get(0).getRemovalReason());
+        assertEquals(0, cache.stats().getEvictions());
+    }
+
+    public void testInvalidate() {
+        List<RemovalNotification<Integer, String>> notifications = new ArrayList<>();
+        Cache<Integer, String> cache = TinyLfuCacheTests.<Integer, String>builder().removalListener(notifications::add).build();
+        for (int i = 0; i < numberOfEntries; i++) {
+            cache.put(i, Integer.toString(i));
+        }
+        Set<Integer> invalidated = new HashSet<>();
+        for (int i = 0; i < numberOfEntries; i++) {
+            if (rarely()) {
+                invalidated.add(i);
+                cache.invalidate(i);
+            } else if (rarely()) {
+                // does not match the value of the entry
+                cache.invalidate(i, Integer.toString(i + 1));
+            }
+        }
+        assertEquals(numberOfEntries - invalidated.size(), cache.count());
+        assertEquals(invalidated.size(), notifications.size());
+        for (RemovalNotification<Integer, String> notification : notifications) {
+            assertTrue(invalidated.contains(notification.getKey()));
+            assertEquals(RemovalNotification.RemovalReason.INVALIDATED, notification.getRemovalReason());
+        }
+        for (int i = 0; i < numberOfEntries; i++) {
+            assertEquals(invalidated.contains(i), cache.get(i) == null);
+        }
+        cache.invalidate(0, "0");
+        assertNull(cache.get(0));
+    }
+
+    public void testInvalidateAll() {
+        Set<Integer> invalidated = new HashSet<>();
+        Cache<Integer, String> cache = TinyLfuCacheTests.<Integer, String>builder()
+            .setMaximumWeight(numberOfEntries)
+            .removalListener(notification -> {
+                assertEquals(RemovalNotification.RemovalReason.INVALIDATED, notification.getRemovalReason());
+                invalidated.add(notification.getKey());
+            })
+            .build();
+        for (int i = 0; i < numberOfEntries; i++) {
+            cache.put(i, Integer.toString(i));
+        }
+        cache.invalidateAll();
+        assertEquals(0, cache.count());
+        assertEquals(0, cache.weight());
+        assertEquals(numberOfEntries, invalidated.size());
+        for (int i = 0; i < numberOfEntries; i++) {
+            assertNull(cache.get(i));
+        }
+    }
+
+    public void testRemoveUsingValuesIterator() {
+        final List<RemovalNotification<Integer, String>> removalNotifications = new ArrayList<>();
+        Cache<Integer, String> cache = TinyLfuCacheTests.<Integer, String>builder()
+            .setMaximumWeight(numberOfEntries)
+            .removalListener(removalNotifications::add)
+            .build();
+        for (int i = 0; i < numberOfEntries; i++) {
+            cache.put(i, Integer.toString(i));
+        }
+
+        final Set<String> expectedRemovals = new HashSet<>();
+        Iterator<String> valueIterator = cache.values().iterator();
+        while (valueIterator.hasNext()) {
+            String value = valueIterator.next();
+            if (randomBoolean()) {
+                valueIterator.remove();
+                expectedRemovals.add(value);
+            }
+        }
+
+        assertEquals(expectedRemovals.size(), removalNotifications.size());
+        assertEquals(numberOfEntries - expectedRemovals.size(), cache.count());
+        for (RemovalNotification<Integer, String> notification : removalNotifications) {
+            assertTrue(expectedRemovals.contains(notification.getValue()));
+            assertEquals(RemovalNotification.RemovalReason.INVALIDATED, notification.getRemovalReason());
+        }
+    }
+
+    public void testComputeIfAbsentCallsOnce() throws BrokenBarrierException, InterruptedException {
+        int numberOfThreads = randomIntBetween(2, 32);
+        final Cache<Integer, String> cache = TinyLfuCacheTests.<Integer, String>builder().build();
+        final AtomicInteger[] loads = new AtomicInteger[numberOfEntries];
+        for (int j = 0; j < numberOfEntries; j++) {
+            loads[j] = new AtomicInteger();
+        }
+        CopyOnWriteArrayList<Exception> failures = new CopyOnWriteArrayList<>();
+
+        CyclicBarrier barrier = new CyclicBarrier(1 + numberOfThreads);
+        for (int i = 0; i < numberOfThreads; i++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    barrier.await();
+                    for (int j = 0; j < numberOfEntries; j++) {
+                        try {
+                            String value = cache.computeIfAbsent(j, key -> {
+                                loads[key].incrementAndGet();
+                                return Integer.toString(key);
+                            });
+                            assertEquals(Integer.toString(j), value);
+                        } catch (ExecutionException e) {
+                            failures.add(e);
+                            break;
+                        }
+                    }
+                    barrier.await();
+                } catch (BrokenBarrierException | InterruptedException e) {
+                    throw new AssertionError(e);
+                }
+            });
+            thread.start();
+        }
+
+        // wait for all threads to be ready
+        barrier.await();
+        // wait for all threads to finish
+        barrier.await();
+
+        assertThat(failures, is(empty()));
+        for (int j = 0; j < numberOfEntries; j++) {
+            assertEquals(1, loads[j].get());
+        }
+        assertEquals(numberOfEntries, cache.count());
+    }
+
+    public void testComputeIfAbsentThrowsExceptionIfLoaderReturnsANullValue() {
+        final Cache<Integer, String> cache = TinyLfuCacheTests.<Integer, String>builder().build();
+        ExecutionException e = expectThrows(ExecutionException.class, () -> cache.computeIfAbsent(1, k -> null));
+        assertThat(e.getCause(), instanceOf(NullPointerException.class));
+        assertEquals(0, cache.count());
+    }
+
+    public void testComputeIfAbsentLoaderFailure() throws ExecutionException {
+        final Cache<Integer, String> cache = TinyLfuCacheTests.<Integer, String>builder().build();
+        ExecutionException e = expectThrows(
+            ExecutionException.class,
+            () -> cache.computeIfAbsent(1, k -> { throw new IllegalArgumentException("boom"); })
+        );
+        assertThat(e.getCause(), instanceOf(IllegalArgumentException.class));
+        assertNull(cache.get(1));
+        // a failed load does not prevent later loads
+        assertEquals("1", cache.computeIfAbsent(1, Object::toString));
+        assertEquals(1, cache.count());
+    }
+
+    public void testTorture() throws BrokenBarrierException, InterruptedException {
+        int numberOfThreads = randomIntBetween(2, 32);
+        final Cache<Integer, String> cache = TinyLfuCacheTests.<Integer, String>builder()
+            .setMaximumWeight(1000)
+            .weigher((k, v) -> 2)
+            .build();
+
+        CyclicBarrier barrier = new CyclicBarrier(1 + numberOfThreads);
+        for (int i = 0; i < numberOfThreads; i++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    barrier.await();
+                    Random random = new Random(random().nextLong());
+                    for (int j = 0; j < numberOfEntries; j++) {
+                        Integer key = random.nextInt(numberOfEntries);
+                        switch (random.nextInt(4)) {
+                            case 0:
+                                cache.put(key, Integer.toString(j));
+                                break;
+                            case 1:
+                                cache.invalidate(key);
+                                break;
+                            default:
+                                cache.get(key);
+                                break;
+                        }
+                    }
+                    barrier.await();
+                } catch (BrokenBarrierException | InterruptedException e) {
+                    throw new AssertionError(e);
+                }
+            });
+            thread.start();
+        }
+
+        // wait for all threads to be ready
+        barrier.await();
+        // wait for all threads to finish
+        barrier.await();
+
+        cache.refresh();
+        assertThat(cache.weight(), lessThanOrEqualTo(1000L));
+        int count = 0;
+        for (Integer ignored : cache.keys()) {
+            count++;
+        }
+        assertEquals(count, cache.count());
+        assertEquals(2L * count, cache.weight());
+    }
+}
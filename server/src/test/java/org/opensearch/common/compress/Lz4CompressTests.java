@@ -0,0 +1,134 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.compress;
+
+import org.apache.lucene.util.LineFileDocs;
+import org.apache.lucene.util.TestUtil;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+public class Lz4CompressTests extends OpenSearchTestCase {
+
+    private final Compressor compressor = new Lz4Compressor();
+
+    public void testRandom() throws IOException {
+        Random r = random();
+        for (int i = 0; i < 10; i++) {
+            byte[] bytes = new byte[TestUtil.nextInt(r, 1, 300000)];
+            r.nextBytes(bytes);
+            doTest(bytes);
+        }
+    }
+
+    public void testLineDocs() throws IOException {
+        Random r = random();
+        LineFileDocs lineFileDocs = new LineFileDocs(r);
+        for (int i = 0; i < 10; i++) {
+            int numDocs = TestUtil.nextInt(r, 1, 200);
+            ByteArrayOutputStream bos = new ByteArrayOutputStream();
+            for (int j = 0; j < numDocs; j++) {
+                String s = lineFileDocs.nextDoc().get("body");
+                bos.write(s.getBytes(StandardCharsets.UTF_8));
+            }
+            doTest(bos.toByteArray());
+        }
+        lineFileDocs.close();
+    }
+
+    public void testRepetitive() throws IOException {
+        byte[] bytes = new byte[TestUtil.nextInt(random(), 1, 300000)];
+        Arrays.fill(bytes, randomByte());
+        doTest(bytes);
+    }
+
+    public void testEmpty() throws IOException {
+        doTest(new byte[0]);
+    }
+
+    public void testCompressAndUncompress() throws IOException {
+        BytesReference bytes = new BytesArray(randomAlphaOfLengthBetween(1, 200000).getBytes(StandardCharsets.UTF_8));
+        BytesReference compressed = compressor.compress(bytes);
+        assertTrue(compressor.isCompressed(compressed));
+        assertFalse(CompressorFactory.COMPRESSOR.isCompressed(compressed));
+        assertSame(CompressorFactory.LZ4_COMPRESSOR, CompressorFactory.compressor(compressed));
+        assertEquals(bytes, compressor.uncompress(compressed));
+        assertEquals(bytes, CompressorFactory.uncompressIfNeeded(compressed));
+    }
+
+    public void testNestedStreams() throws IOException {
+        byte[] outer = randomAlphaOfLengthBetween(1, 100000).getBytes(StandardCharsets.UTF_8);
+        byte[] inner = randomAlphaOfLengthBetween(1, 100000).getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream outerBytes = new ByteArrayOutputStream();
+        ByteArrayOutputStream innerBytes = new ByteArrayOutputStream();
+        try (OutputStream outerStream = compressor.threadLocalOutputStream(outerBytes)) {
+            outerStream.write(outer, 0, outer.length / 2);
+            try (OutputStream innerStream = compressor.threadLocalOutputStream(innerBytes)) {
+                innerStream.write(inner);
+            }
+            outerStream.write(outer, outer.length / 2, outer.length - outer.length / 2);
+        }
+        assertEquals(new BytesArray(outer), compressor.uncompress(new BytesArray(outerBytes.toByteArray())));
+        assertEquals(new BytesArray(inner), compressor.uncompress(new BytesArray(innerBytes.toByteArray())));
+    }
+
+    public void testCorruptedBlock() throws IOException {
+        byte[] bytes = randomAlphaOfLengthBetween(1000, 10000).getBytes(StandardCharsets.UTF_8);
+        byte[] compressed = BytesReference.toBytes(compressor.compress(new BytesArray(bytes)));
+        // claim that the first block decompresses to more bytes than a block can hold
+        compressed[compressor.headerLength()] = (byte) 0x7F;
+        expectThrows(IOException.class, () -> compressor.uncompress(new BytesArray(compressed)));
+    }
+
+    public void testTruncated() throws IOException {
+        byte[] bytes = randomAlphaOfLengthBetween(1000, 10000).getBytes(StandardCharsets.UTF_8);
+        BytesReference compressed = compressor.compress(new BytesArray(bytes));
+        BytesReference truncated = compressed.slice(0, randomIntBetween(compressor.headerLength(), compressed.length() - 1));
+        expectThrows(IOException.class, () -> compressor.uncompress(truncated));
+    }
+
+    private void doTest(byte[] bytes) throws IOException {
+        final Random r = random();
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (OutputStream os = compressor.threadLocalOutputStream(bos)) {
+            int offset = 0;
+            while (offset < bytes.length) {
+                if (r.nextInt(10) == 0) {
+                    os.write(bytes[offset++]);
+                } else {
+                    int len = Math.min(bytes.length - offset, TestUtil.nextInt(r, 1, 100000));
+                    os.write(bytes, offset, len);
+                    offset += len;
+                }
+                if (r.nextInt(20) == 0) {
+                    os.flush();
+                }
+            }
+        }
+
+        InputStream in = compressor.threadLocalInputStream(new ByteArrayInputStream(bos.toByteArray()));
+        ByteArrayOutputStream uncompressedOut = new ByteArrayOutputStream();
+        byte[] buffer = new byte[TestUtil.nextInt(r, 1, 70000)];
+        int len;
+        while ((len = in.read(buffer)) != -1) {
+            uncompressedOut.write(buffer, 0, len);
+        }
+        assertEquals(-1, in.read());
+        assertArrayEquals(bytes, uncompressedOut.toByteArray());
+    }
+}
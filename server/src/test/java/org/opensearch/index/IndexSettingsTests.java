@@ -579,6 +579,30 @@ public class IndexSettingsTests extends OpenSearchTestCase {
         assertThat(error.getMessage(), equalTo("final index setting [index.soft_deletes.enabled], not updateable"));
     }
 
+    public void testSegmentReplicationRequiresSoftDeletes() {
+        IndexSettings indexSettings = new IndexSettings(newIndexMeta("index", Settings.builder()
+            .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+            .put(IndexMetadata.SETTING_REPLICATION_TYPE, "segment")
+            .build()), Settings.EMPTY);
+        assertTrue(indexSettings.isSegRepEnabled());
+        assertFalse(new IndexSettings(newIndexMeta("index", Settings.builder()
+            .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT).build()), Settings.EMPTY).isSegRepEnabled());
+
+        IllegalArgumentException error = expectThrows(IllegalArgumentException.class, () -> new IndexSettings(newIndexMeta("index",
+            Settings.builder()
+                .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+                .put(IndexSettings.INDEX_SOFT_DELETES_SETTING.getKey(), false)
+                .put(IndexMetadata.SETTING_REPLICATION_TYPE, "segment")
+                .build()), Settings.EMPTY));
+        assertThat(error.getMessage(),
+            equalTo("[index.replication.type] can only be set to [segment] on indices with soft-deletes enabled"));
+
+        error = expectThrows(IllegalArgumentException.class,
+            () -> IndexMetadata.INDEX_REPLICATION_TYPE_SETTING.get(Settings.builder().put(IndexMetadata.SETTING_REPLICATION_TYPE, "foo")
+                .build()));
+        assertThat(error.getMessage(), equalTo("unknown replication type [foo], must be one of [document, segment]"));
+    }
+
     public void testSoftDeletesDefaultSetting() {
         // enabled by default on 7.0+ or later
         {
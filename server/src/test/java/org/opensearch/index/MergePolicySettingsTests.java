@@ -31,7 +31,21 @@
 
 package org.opensearch.index;
 
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.LogByteSizeMergePolicy;
+import org.apache.lucene.index.MergePolicy;
 import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.index.PointValues;
+import org.apache.lucene.index.SegmentCommitInfo;
+import org.apache.lucene.index.SegmentReader;
+import org.apache.lucene.index.SerialMergeScheduler;
+import org.apache.lucene.store.Directory;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.ByteSizeUnit;
 import org.opensearch.common.unit.ByteSizeValue;
@@ -44,6 +58,9 @@ import static org.opensearch.common.settings.Settings.Builder.EMPTY_SETTINGS;
 import static org.opensearch.index.IndexSettingsTests.newIndexMeta;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 
 public class MergePolicySettingsTests extends OpenSearchTestCase {
     protected final ShardId shardId = new ShardId("index", "_na_", 1);
@@ -172,6 +189,105 @@ public class MergePolicySettingsTests extends OpenSearchTestCase {
             MergePolicyConfig.DEFAULT_DELETES_PCT_ALLOWED, 0);
     }
 
+    public void testTimeOrderedMergePolicySettingsUpdate() throws IOException {
+        final Settings settings = Settings.builder()
+            .put(MergePolicyConfig.INDEX_MERGE_POLICY_TYPE_SETTING.getKey(), "time_ordered")
+            .build();
+        final IndexSettings indexSettings = indexSettings(settings);
+        assertThat(indexSettings.getMergePolicy(), instanceOf(LogByteSizeMergePolicy.class));
+        LogByteSizeMergePolicy mergePolicy = (LogByteSizeMergePolicy) indexSettings.getMergePolicy();
+        assertEquals(mergePolicy.getMinMergeMB(), MergePolicyConfig.DEFAULT_FLOOR_SEGMENT.getMbFrac(), 0);
+        assertEquals(mergePolicy.getMergeFactor(), MergePolicyConfig.DEFAULT_MAX_MERGE_AT_ONCE);
+        assertEquals(mergePolicy.getMaxMergeMB(),
+            MergePolicyConfig.DEFAULT_MAX_MERGED_SEGMENT.getMbFrac() / MergePolicyConfig.DEFAULT_MAX_MERGE_AT_ONCE, 0);
+        assertEquals(mergePolicy.getNoCFSRatio(), 0.1, 0);
+
+        indexSettings.updateIndexMetadata(newIndexMeta("index", Settings.builder().put(settings)
+            .put(MergePolicyConfig.INDEX_MERGE_POLICY_FLOOR_SEGMENT_SETTING.getKey(), new ByteSizeValue(1, ByteSizeUnit.MB))
+            .put(MergePolicyConfig.INDEX_MERGE_POLICY_MAX_MERGE_AT_ONCE_SETTING.getKey(), 4)
+            .put(MergePolicyConfig.INDEX_MERGE_POLICY_MAX_MERGED_SEGMENT_SETTING.getKey(), new ByteSizeValue(1, ByteSizeUnit.GB))
+            .put(MergePolicyConfig.INDEX_COMPOUND_FORMAT_SETTING.getKey(), 0.5)
+            .build()));
+        assertSame(mergePolicy, indexSettings.getMergePolicy());
+        assertEquals(mergePolicy.getMinMergeMB(), 1, 0);
+        assertEquals(mergePolicy.getMergeFactor(), 4);
+        assertEquals(mergePolicy.getMaxMergeMB(), 1024 / 4, 0);
+        assertEquals(mergePolicy.getNoCFSRatio(), 0.5, 0);
+
+        final IllegalArgumentException e = expectThrows(IllegalArgumentException.class, () -> indexSettings(Settings.builder()
+            .put(MergePolicyConfig.INDEX_MERGE_POLICY_TYPE_SETTING.getKey(), "unknown").build()));
+        assertThat(e.getMessage(), containsString("index.merge.policy.type"));
+    }
+
+    public void testTimeOrderedMergePolicyKeepsSegmentsPartitionedByTime() throws IOException {
+        final MergePolicy mergePolicy = indexSettings(Settings.builder()
+            .put(MergePolicyConfig.INDEX_MERGE_POLICY_TYPE_SETTING.getKey(), "time_ordered")
+            .put(MergePolicyConfig.INDEX_MERGE_POLICY_MAX_MERGE_AT_ONCE_SETTING.getKey(), randomIntBetween(2, 5))
+            .build()).getMergePolicy();
+        try (Directory directory = newDirectory();
+             IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig()
+                 .setMergePolicy(mergePolicy)
+                 .setMergeScheduler(new SerialMergeScheduler()))) {
+            long timestamp = 0;
+            final int numSegments = randomIntBetween(10, 50);
+            for (int i = 0; i < numSegments; i++) {
+                final int numDocs = randomIntBetween(1, 100);
+                for (int j = 0; j < numDocs; j++) {
+                    final Document document = new Document();
+                    document.add(new LongPoint("@timestamp", timestamp++));
+                    writer.addDocument(document);
+                }
+                writer.commit();
+            }
+            try (DirectoryReader reader = DirectoryReader.open(writer)) {
+                assertThat(reader.leaves().size(), lessThan(numSegments));
+                // segments cover disjoint time ranges, in the order in which they were written
+                long maxTimestamp = -1;
+                for (LeafReaderContext leaf : reader.leaves()) {
+                    final PointValues pointValues = leaf.reader().getPointValues("@timestamp");
+                    final long segmentMinTimestamp = LongPoint.decodeDimension(pointValues.getMinPackedValue(), 0);
+                    final long segmentMaxTimestamp = LongPoint.decodeDimension(pointValues.getMaxPackedValue(), 0);
+                    assertThat(segmentMinTimestamp, equalTo(maxTimestamp + 1));
+                    assertThat(segmentMaxTimestamp - segmentMinTimestamp + 1, equalTo((long) leaf.reader().maxDoc()));
+                    maxTimestamp = segmentMaxTimestamp;
+                }
+                assertThat(maxTimestamp, equalTo(timestamp - 1));
+            }
+        }
+    }
+
+    public void testTimeOrderedMergePolicyRespectsMaxMergedSegment() throws IOException {
+        final ByteSizeValue maxMergedSegment = new ByteSizeValue(128, ByteSizeUnit.KB);
+        final MergePolicy mergePolicy = indexSettings(Settings.builder()
+            .put(MergePolicyConfig.INDEX_MERGE_POLICY_TYPE_SETTING.getKey(), "time_ordered")
+            .put(MergePolicyConfig.INDEX_MERGE_POLICY_MAX_MERGE_AT_ONCE_SETTING.getKey(), 4)
+            .put(MergePolicyConfig.INDEX_MERGE_POLICY_MAX_MERGED_SEGMENT_SETTING.getKey(), maxMergedSegment)
+            .build()).getMergePolicy();
+        try (Directory directory = newDirectory();
+             IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig()
+                 .setMergePolicy(mergePolicy)
+                 .setMergeScheduler(new SerialMergeScheduler()))) {
+            // segments of 10 to 30 incompressible documents of 1kb, small enough to be merged with each other
+            final int numSegments = randomIntBetween(48, 64);
+            for (int i = 0; i < numSegments; i++) {
+                final int numDocs = randomIntBetween(10, 30);
+                for (int j = 0; j < numDocs; j++) {
+                    final Document document = new Document();
+                    document.add(new StoredField("payload", randomByteArrayOfLength(1024)));
+                    writer.addDocument(document);
+                }
+                writer.commit();
+            }
+            try (DirectoryReader reader = DirectoryReader.open(writer)) {
+                assertThat(reader.leaves().size(), lessThan(numSegments));
+                for (LeafReaderContext leaf : reader.leaves()) {
+                    final SegmentCommitInfo info = ((SegmentReader) leaf.reader()).getSegmentInfo();
+                    assertThat(info.sizeInBytes(), lessThanOrEqualTo(maxMergedSegment.getBytes()));
+                }
+            }
+        }
+    }
+
     public Settings build(String value) {
         return Settings.builder().put(MergePolicyConfig.INDEX_COMPOUND_FORMAT_SETTING.getKey(), value).build();
     }
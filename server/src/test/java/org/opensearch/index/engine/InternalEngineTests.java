@@ -45,6 +45,7 @@ import org.apache.lucene.document.LongPoint;
 import org.apache.lucene.document.NumericDocValuesField;
 import org.apache.lucene.document.StoredField;
 import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.ConcurrentMergeScheduler;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexCommit;
 import org.apache.lucene.index.IndexReader;
@@ -109,6 +110,7 @@ import org.opensearch.common.lucene.index.SequentialStoredFieldsLeafReader;
 import org.opensearch.common.lucene.uid.Versions;
 import org.opensearch.common.lucene.uid.VersionsAndSeqNoResolver;
 import org.opensearch.common.lucene.uid.VersionsAndSeqNoResolver.DocIdAndSeqNo;
+import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.ByteSizeValue;
 import org.opensearch.common.unit.TimeValue;
@@ -135,6 +137,7 @@ import org.opensearch.index.mapper.SeqNoFieldMapper;
 import org.opensearch.index.mapper.SourceFieldMapper;
 import org.opensearch.index.mapper.Uid;
 import org.opensearch.index.mapper.VersionFieldMapper;
+import org.opensearch.index.merge.MergeStats;
 import org.opensearch.index.seqno.LocalCheckpointTracker;
 import org.opensearch.index.seqno.ReplicationTracker;
 import org.opensearch.index.seqno.RetentionLease;
@@ -148,6 +151,7 @@ import org.opensearch.index.translog.SnapshotMatchers;
 import org.opensearch.index.translog.TestTranslog;
 import org.opensearch.index.translog.Translog;
 import org.opensearch.index.translog.TranslogConfig;
+import org.opensearch.indices.MergeBudgetCoordinator;
 import org.opensearch.indices.breaker.NoneCircuitBreakerService;
 import org.opensearch.test.IndexSettingsModule;
 import org.opensearch.test.VersionUtils;
@@ -519,6 +523,46 @@ public class InternalEngineTests extends EngineTestCase {
         }
     }
 
+    public void testMergeSchedulerTakesPartInMergeBudget() throws Exception {
+        final ClusterSettings clusterSettings = new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS);
+        final MergeBudgetCoordinator mergeBudgetCoordinator = new MergeBudgetCoordinator(Settings.builder()
+            .put(MergeBudgetCoordinator.INDICES_MERGE_BUDGET_MAX_THREAD_COUNT_SETTING.getKey(), 1)
+            .put(MergeBudgetCoordinator.INDICES_MERGE_BUDGET_MAX_BYTES_PER_SEC_SETTING.getKey(), "100mb")
+            .build(), clusterSettings);
+        try (Store store = createStore()) {
+            final EngineConfig config = engine.config();
+            final TranslogConfig translogConfig = new TranslogConfig(config.getTranslogConfig().getShardId(),
+                createTempDir(), config.getTranslogConfig().getIndexSettings(), config.getTranslogConfig().getBigArrays());
+            final EngineConfig configWithMergeBudget = new EngineConfig(config.getShardId(), config.getThreadPool(),
+                config.getIndexSettings(), config.getWarmer(), store, new TieredMergePolicy(), config.getAnalyzer(),
+                config.getSimilarity(), new CodecService(null, logger), config.getEventListener(), config.getQueryCache(),
+                config.getQueryCachingPolicy(), translogConfig, config.getFlushMergesAfter(),
+                config.getExternalRefreshListener(), config.getInternalRefreshListener(), config.getIndexSort(),
+                config.getCircuitBreakerService(), config.getGlobalCheckpointSupplier(), config.retentionLeasesSupplier(),
+                config.getPrimaryTermSupplier(), config.getTombstoneDocSupplier(), mergeBudgetCoordinator);
+            final int configuredMaxThreadCount = config.getIndexSettings().getMergeSchedulerConfig().getMaxThreadCount();
+            try (InternalEngine engine = createEngine(configWithMergeBudget)) {
+                final ConcurrentMergeScheduler mergeScheduler =
+                    (ConcurrentMergeScheduler) engine.getCurrentIndexWriterConfig().getMergeScheduler();
+                assertThat(mergeScheduler.getMaxThreadCount(), equalTo(1));
+                final int numSegments = randomIntBetween(2, 10);
+                for (int i = 0; i < numSegments; i++) {
+                    engine.index(indexForDoc(testParsedDocument(Integer.toString(i), null, testDocument(), B_1, null)));
+                    engine.refresh("test");
+                }
+                engine.forceMerge(true, 1, false, false, false, UUIDs.randomBase64UUID());
+                engine.refresh("test");
+                assertThat(engine.segments(false).size(), equalTo(1));
+                final MergeStats mergeStats = engine.getMergeStats();
+                assertThat(mergeStats.getTotal(), greaterThan(0L));
+                assertThat(mergeStats.getCurrentAllocatedThreads(), equalTo(0L));
+
+                clusterSettings.applySettings(Settings.EMPTY);
+                assertThat(mergeScheduler.getMaxThreadCount(), equalTo(configuredMaxThreadCount));
+            }
+        }
+    }
+
     public void testSegmentsWithMergeFlag() throws Exception {
         try (Store store = createStore();
              Engine engine = createEngine(defaultSettings, store, createTempDir(), new TieredMergePolicy())) {
@@ -3481,6 +3525,61 @@ public class InternalEngineTests extends EngineTestCase {
         }
     }
 
+    public void testAppendOnlyIndexSkipsVersionMap() throws IOException {
+        final Settings settings = Settings.builder()
+            .put(defaultSettings.getSettings())
+            .put(IndexSettings.INDEX_APPEND_ONLY_SETTING.getKey(), true)
+            .build();
+        final IndexSettings indexSettings = IndexSettingsModule.newIndexSettings(
+            IndexMetadata.builder(defaultSettings.getIndexMetadata()).settings(settings).build());
+        try (Store store = createStore();
+             InternalEngine engine = createEngine(config(indexSettings, store, createTempDir(), newMergePolicy(), null))) {
+            final int numDocs = randomIntBetween(1, 20);
+            final List<ParsedDocument> docs = new ArrayList<>();
+            for (int i = 0; i < numDocs; i++) {
+                final ParsedDocument doc = testParsedDocument(Integer.toString(i), null, testDocumentWithTextField(), B_1, null);
+                final Engine.IndexResult result = engine.index(appendOnlyPrimary(doc, false, i));
+                assertThat(result.getResultType(), equalTo(Engine.Result.Type.SUCCESS));
+                assertThat(result.getVersion(), equalTo(1L));
+                docs.add(doc);
+            }
+            assertThat(engine.getVersionMap().values(), empty());
+            assertFalse(engine.isSafeAccessRequired());
+            assertEquals(0, engine.getNumVersionLookups());
+
+            // documents are visible to realtime gets without being tracked in the version map
+            final ParsedDocument lastDoc = docs.get(numDocs - 1);
+            try (Engine.GetResult getResult = engine.get(newGet(true, lastDoc), engine::acquireSearcher)) {
+                assertTrue(getResult.exists());
+            }
+
+            // retries still don't duplicate documents
+            final ParsedDocument retriedDoc = randomFrom(docs);
+            final Engine.IndexResult retryResult = engine.index(appendOnlyPrimary(retriedDoc, true, docs.indexOf(retriedDoc)));
+            assertThat(retryResult.getResultType(), equalTo(Engine.Result.Type.SUCCESS));
+            assertThat(engine.getVersionMap().values(), empty());
+
+            // explicit ids, updates and deletes are rejected without consuming a sequence number
+            final long maxSeqNo = engine.getSeqNoStats(-1).getMaxSeqNo();
+            final ParsedDocument explicitIdDoc = testParsedDocument("explicit", null, testDocumentWithTextField(), B_1, null);
+            final Engine.IndexResult explicitIdResult = engine.index(indexForDoc(randomBoolean() ? explicitIdDoc : retriedDoc));
+            assertThat(explicitIdResult.getResultType(), equalTo(Engine.Result.Type.FAILURE));
+            assertThat(explicitIdResult.getFailure(), instanceOf(IllegalArgumentException.class));
+            assertThat(explicitIdResult.getFailure().getMessage(), containsString("append-only"));
+            final Engine.DeleteResult deleteResult = engine.delete(new Engine.Delete("test", retriedDoc.id(),
+                newUid(retriedDoc), primaryTerm.get()));
+            assertThat(deleteResult.getResultType(), equalTo(Engine.Result.Type.FAILURE));
+            assertThat(deleteResult.getFailure(), instanceOf(IllegalArgumentException.class));
+            assertThat(deleteResult.getFailure().getMessage(), containsString("append-only"));
+            assertThat(engine.getSeqNoStats(-1).getMaxSeqNo(), equalTo(maxSeqNo));
+
+            engine.refresh("test");
+            try (Engine.Searcher searcher = engine.acquireSearcher("test")) {
+                assertEquals(numDocs, searcher.getIndexReader().numDocs());
+            }
+        }
+    }
+
     public void testDoubleDeliveryPrimary() throws IOException {
         final ParsedDocument doc = testParsedDocument("1", null, testDocumentWithTextField(),
             new BytesArray("{}".getBytes(Charset.defaultCharset())), null);
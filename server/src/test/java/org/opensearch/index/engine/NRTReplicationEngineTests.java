@@ -0,0 +1,196 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.store.IOContext;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.common.lucene.Lucene;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.internal.io.IOUtils;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.mapper.ParsedDocument;
+import org.opensearch.index.seqno.SequenceNumbers;
+import org.opensearch.index.store.Store;
+import org.opensearch.index.translog.Translog;
+import org.opensearch.indices.replication.ReplicationType;
+import org.opensearch.test.IndexSettingsModule;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+
+public class NRTReplicationEngineTests extends EngineTestCase {
+
+    private final AtomicLong globalCheckpoint = new AtomicLong(SequenceNumbers.NO_OPS_PERFORMED);
+
+    private IndexSettings segRepSettings() {
+        final Settings settings = Settings.builder()
+            .put(defaultSettings.getSettings())
+            .put(IndexSettings.INDEX_SOFT_DELETES_SETTING.getKey(), true)
+            .put(IndexMetadata.SETTING_REPLICATION_TYPE, ReplicationType.SEGMENT.toString())
+            .build();
+        return IndexSettingsModule.newIndexSettings(IndexMetadata.builder(defaultSettings.getIndexMetadata()).settings(settings).build());
+    }
+
+    private NRTReplicationEngine createNRTEngine(IndexSettings indexSettings, Store store, Path translogPath) throws IOException {
+        if (Lucene.indexExists(store.directory()) == false) {
+            store.createEmpty(indexSettings.getIndexVersionCreated().luceneVersion);
+            final String translogUuid = Translog.createEmptyTranslog(translogPath, SequenceNumbers.NO_OPS_PERFORMED, shardId,
+                primaryTerm.get());
+            store.associateIndexWithNewTranslog(translogUuid);
+        }
+        return new NRTReplicationEngine(config(indexSettings, store, translogPath, NoMergePolicy.INSTANCE, null, null,
+            globalCheckpoint::get));
+    }
+
+    /**
+     * Copies the files of the latest segments of the primary that the replica misses and syncs them, as segment replication does.
+     */
+    private static void copySegments(InternalEngine primary, Store primaryStore, NRTReplicationEngine replica, Store replicaStore)
+        throws IOException {
+        try (Engine.SegmentInfosRef segmentInfosRef = primary.acquireLatestSegmentInfos()) {
+            final SegmentInfos segmentInfos = segmentInfosRef.getSegmentInfos();
+            final Set<String> existingFiles = new HashSet<>(Arrays.asList(replicaStore.directory().listAll()));
+            for (String file : segmentInfos.files(false)) {
+                if (existingFiles.contains(file) == false) {
+                    replicaStore.directory().copyFrom(primaryStore.directory(), file, file, IOContext.DEFAULT);
+                    replicaStore.directory().sync(Collections.singleton(file));
+                }
+            }
+            replica.updateSegments(segmentInfos.clone());
+        }
+    }
+
+    public void testReplicaReadsCopiedSegments() throws IOException {
+        IOUtils.close(engine, replicaEngine);
+        final IndexSettings indexSettings = segRepSettings();
+        try (Store primaryStore = createStore(); Store replicaStore = createStore();
+             InternalEngine primary = createEngine(config(indexSettings, primaryStore, createTempDir(), NoMergePolicy.INSTANCE, null,
+                 null, globalCheckpoint::get));
+             NRTReplicationEngine replica = createNRTEngine(indexSettings, replicaStore, createTempDir())) {
+            final String translogUuid = replica.getLastCommittedSegmentInfos().getUserData().get(Translog.TRANSLOG_UUID_KEY);
+            final int numDocs = randomIntBetween(1, 100);
+            for (int i = 0; i < numDocs; i++) {
+                final ParsedDocument doc = createParsedDoc(Integer.toString(i), null);
+                final Engine.IndexResult result = primary.index(indexForDoc(doc));
+                replica.index(replicaIndexForDoc(doc, result.getVersion(), result.getSeqNo(), false));
+            }
+            assertThat(replica.getProcessedLocalCheckpoint(), equalTo((long) numDocs - 1));
+            // the replica only writes the operations to its translog
+            assertThat(getDocIds(replica, true).size(), equalTo(0));
+
+            primary.refresh("test");
+            copySegments(primary, primaryStore, replica, replicaStore);
+            assertThat(getDocIds(replica, false), equalTo(getDocIds(primary, false)));
+
+            final int numDeletes = randomIntBetween(0, numDocs);
+            for (int i = 0; i < numDeletes; i++) {
+                final Engine.DeleteResult result = primary.delete(new Engine.Delete("test", Integer.toString(i),
+                    newUid(Integer.toString(i)), primaryTerm.get()));
+                replica.delete(replicaDeleteForDoc(Integer.toString(i), result.getVersion(), result.getSeqNo(), randomNonNegativeLong()));
+            }
+            primary.refresh("test");
+            copySegments(primary, primaryStore, replica, replicaStore);
+            assertThat(getDocIds(replica, false), equalTo(getDocIds(primary, false)));
+            assertThat(getDocIds(replica, false).size(), equalTo(numDocs - numDeletes));
+            // the copied segments are reported before they are committed
+            assertThat(replica.segments(false).stream().map(Segment::getName).collect(Collectors.toSet()),
+                equalTo(primary.segments(false).stream().map(Segment::getName).collect(Collectors.toSet())));
+            assertTrue(replica.segments(false).stream().noneMatch(segment -> segment.committed));
+
+            // the copied segments are only committed on flush, with the translog of the replica
+            final long generation = replica.getLastCommittedSegmentInfos().getGeneration();
+            assertThat(SegmentInfos.readLatestCommit(replicaStore.directory()).getGeneration(), equalTo(generation));
+            replica.flush();
+            final SegmentInfos lastCommit = SegmentInfos.readLatestCommit(replicaStore.directory());
+            assertThat(lastCommit.getGeneration(), greaterThan(generation));
+            assertThat(lastCommit.getUserData().get(Translog.TRANSLOG_UUID_KEY), equalTo(translogUuid));
+            assertThat(lastCommit.getUserData().get(Engine.HISTORY_UUID_KEY), equalTo(primary.getHistoryUUID()));
+            assertTrue(replica.segments(false).stream().allMatch(segment -> segment.committed));
+        }
+    }
+
+    public void testAcquiredCommitKeepsItsFiles() throws IOException {
+        IOUtils.close(engine, replicaEngine);
+        final IndexSettings indexSettings = segRepSettings();
+        try (Store primaryStore = createStore(); Store replicaStore = createStore();
+             InternalEngine primary = createEngine(config(indexSettings, primaryStore, createTempDir(), NoMergePolicy.INSTANCE, null,
+                 null, globalCheckpoint::get));
+             NRTReplicationEngine replica = createNRTEngine(indexSettings, replicaStore, createTempDir())) {
+            final int numDocs = randomIntBetween(1, 10);
+            for (int i = 0; i < numDocs; i++) {
+                primary.index(indexForDoc(createParsedDoc(Integer.toString(i), null)));
+            }
+            primary.refresh("test");
+            copySegments(primary, primaryStore, replica, replicaStore);
+            replica.flush();
+
+            final Engine.IndexCommitRef commitRef = replica.acquireLastIndexCommit(false);
+            final Collection<String> acquiredFiles = commitRef.getIndexCommit().getFileNames();
+            // deleting a document rewrites the live docs of its segment, so the files of the acquired commit are replaced
+            primary.delete(new Engine.Delete("test", "0", newUid("0"), primaryTerm.get()));
+            primary.refresh("test");
+            copySegments(primary, primaryStore, replica, replicaStore);
+            replica.flush();
+            final Set<String> replicaFiles = new HashSet<>(Arrays.asList(replicaStore.directory().listAll()));
+            assertTrue(replicaFiles.containsAll(acquiredFiles));
+
+            // the files of a released commit are deleted by the next update of the segments
+            commitRef.close();
+            copySegments(primary, primaryStore, replica, replicaStore);
+            final Set<String> referencedFiles = new HashSet<>(replica.getLastCommittedSegmentInfos().files(true));
+            for (String file : replicaStore.directory().listAll()) {
+                if (acquiredFiles.contains(file)) {
+                    assertTrue("released file [" + file + "] was not deleted", referencedFiles.contains(file));
+                }
+            }
+        }
+    }
+
+    public void testReadWriteEngineRecoversOperationsMissingFromCopiedSegments() throws IOException {
+        IOUtils.close(engine, replicaEngine);
+        final IndexSettings indexSettings = segRepSettings();
+        final Path replicaTranslogPath = createTempDir();
+        try (Store primaryStore = createStore(); Store replicaStore = createStore()) {
+            final int numDocs = randomIntBetween(1, 50);
+            final int numCopiedDocs = randomIntBetween(0, numDocs);
+            try (InternalEngine primary = createEngine(config(indexSettings, primaryStore, createTempDir(), NoMergePolicy.INSTANCE, null,
+                     null, globalCheckpoint::get));
+                 NRTReplicationEngine replica = createNRTEngine(indexSettings, replicaStore, replicaTranslogPath)) {
+                for (int i = 0; i < numDocs; i++) {
+                    final ParsedDocument doc = createParsedDoc(Integer.toString(i), null);
+                    final Engine.IndexResult result = primary.index(indexForDoc(doc));
+                    replica.index(replicaIndexForDoc(doc, result.getVersion(), result.getSeqNo(), false));
+                    if (i == numCopiedDocs - 1) {
+                        primary.refresh("test");
+                        copySegments(primary, primaryStore, replica, replicaStore);
+                    }
+                }
+                replica.syncTranslog();
+            }
+            // a promoted replica opens a read-write engine on the copied segments and replays the rest of its translog
+            try (InternalEngine promoted = createEngine(config(indexSettings, replicaStore, replicaTranslogPath, NoMergePolicy.INSTANCE,
+                     null, null, globalCheckpoint::get))) {
+                assertThat(promoted.getProcessedLocalCheckpoint(), equalTo((long) numDocs - 1));
+                assertThat(getDocIds(promoted, true).size(), equalTo(numDocs));
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.shard;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.equalTo;
+
+public class AdaptiveRefreshIntervalTests extends OpenSearchTestCase {
+
+    private static final long MIN_INTERVAL = 1000;
+    private static final long MAX_INTERVAL = 8000;
+
+    public void testUnsearchedShardStretchesIntervalUpToMax() {
+        final AdaptiveRefreshInterval adaptiveRefreshInterval = new AdaptiveRefreshInterval(0);
+        final StringBuilder refreshes = new StringBuilder();
+        for (long now = MIN_INTERVAL; now <= 30 * MIN_INTERVAL; now += MIN_INTERVAL) {
+            if (adaptiveRefreshInterval.isRefreshDue(now, -1, 0, 0, MIN_INTERVAL, MAX_INTERVAL)) {
+                refreshes.append(now / MIN_INTERVAL).append(' ');
+            }
+        }
+        assertThat(refreshes.toString(), equalTo("1 3 7 15 23 "));
+        assertThat(adaptiveRefreshInterval.getIntervalInMillis(), equalTo(MAX_INTERVAL));
+    }
+
+    public void testSearchedShardIsRefreshedAtMinInterval() {
+        final AdaptiveRefreshInterval adaptiveRefreshInterval = new AdaptiveRefreshInterval(0);
+        long now = 0;
+        while (adaptiveRefreshInterval.getIntervalInMillis() < MAX_INTERVAL) {
+            now += MIN_INTERVAL;
+            adaptiveRefreshInterval.isRefreshDue(now, -1, 0, 0, MIN_INTERVAL, MAX_INTERVAL);
+        }
+        // a search moves the shard back to the shortest interval for as long as it keeps being searched
+        final long lastSearcherAccess = now + randomLongBetween(0, MIN_INTERVAL - 1);
+        now += MIN_INTERVAL;
+        assertTrue(adaptiveRefreshInterval.isRefreshDue(now, lastSearcherAccess, 0, 0, MIN_INTERVAL, MAX_INTERVAL));
+        assertThat(adaptiveRefreshInterval.getIntervalInMillis(), equalTo(MIN_INTERVAL));
+        for (int i = 0; i < 10; i++) {
+            now += MIN_INTERVAL;
+            assertTrue(adaptiveRefreshInterval.isRefreshDue(now, now - 1, 0, 0, MIN_INTERVAL, MAX_INTERVAL));
+        }
+        // and stretches it again once it is not searched anymore
+        now += MIN_INTERVAL;
+        assertTrue(adaptiveRefreshInterval.isRefreshDue(now, now - MIN_INTERVAL - 1, 0, 0, MIN_INTERVAL, MAX_INTERVAL));
+        assertThat(adaptiveRefreshInterval.getIntervalInMillis(), equalTo(2 * MIN_INTERVAL));
+    }
+
+    public void testIntervalIsAtLeastMultipleOfRefreshCost() {
+        final AdaptiveRefreshInterval adaptiveRefreshInterval = new AdaptiveRefreshInterval(0);
+        final long refreshCost = 200;
+        final int refreshCount = randomIntBetween(1, 10);
+        final long refreshTimeInNanos = TimeUnit.MILLISECONDS.toNanos(refreshCost) * refreshCount;
+        final long costInterval = refreshCost * AdaptiveRefreshInterval.REFRESH_COST_FACTOR;
+        // even a searched shard is not refreshed more often than its refreshes allow
+        long now = costInterval - MIN_INTERVAL;
+        assertFalse(adaptiveRefreshInterval.isRefreshDue(now, now, refreshCount, refreshTimeInNanos, MIN_INTERVAL, MAX_INTERVAL));
+        now = costInterval;
+        assertTrue(adaptiveRefreshInterval.isRefreshDue(now, now, refreshCount, refreshTimeInNanos, MIN_INTERVAL, MAX_INTERVAL));
+        // but the longest interval bounds the cost of refreshes
+        assertTrue(adaptiveRefreshInterval.isRefreshDue(now + MAX_INTERVAL, now + MAX_INTERVAL, refreshCount + 1,
+            refreshTimeInNanos + TimeUnit.SECONDS.toNanos(10), MIN_INTERVAL, MAX_INTERVAL));
+    }
+
+    public void testMaxIntervalBelowMinInterval() {
+        final AdaptiveRefreshInterval adaptiveRefreshInterval = new AdaptiveRefreshInterval(0);
+        for (long now = MIN_INTERVAL; now <= 10 * MIN_INTERVAL; now += MIN_INTERVAL) {
+            assertTrue(adaptiveRefreshInterval.isRefreshDue(now, -1, 0, 0, MIN_INTERVAL, randomLongBetween(0, MIN_INTERVAL)));
+            assertThat(adaptiveRefreshInterval.getIntervalInMillis(), equalTo(MIN_INTERVAL));
+        }
+    }
+}
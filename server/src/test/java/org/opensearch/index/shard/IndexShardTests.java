@@ -3502,6 +3502,43 @@ public class IndexShardTests extends IndexShardTestCase {
         closeShards(primary);
     }
 
+    public void testScheduledRefreshWithAdaptiveRefresh() throws Exception {
+        Settings settings = Settings.builder().put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+            .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 1)
+            .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1)
+            .put(IndexSettings.INDEX_REFRESH_INTERVAL_SETTING.getKey(), TimeValue.timeValueHours(1))
+            .put(IndexSettings.INDEX_REFRESH_ADAPTIVE_ENABLED_SETTING.getKey(), true)
+            .build();
+        IndexMetadata metadata = IndexMetadata.builder("test")
+            .putMapping("_doc", "{ \"properties\": { \"foo\":  { \"type\": \"text\"}}}")
+            .settings(settings)
+            .primaryTerm(0, 1).build();
+        IndexShard primary = newShard(new ShardId(metadata.getIndex(), 0), true, "n1", metadata, null);
+        recoverShardFromStore(primary);
+        Engine.IndexResult doc = indexDoc(primary, "_doc", "0", "{\"foo\" : \"bar\"}");
+        assertTrue(primary.getEngine().refreshNeeded());
+        // the adaptive interval of the shard did not elapse yet
+        assertFalse(primary.scheduledRefresh());
+        assertTrue(primary.getEngine().refreshNeeded());
+
+        // but a listener waiting for a refresh forces it
+        CountDownLatch latch = new CountDownLatch(1);
+        primary.addRefreshListener(doc.getTranslogLocation(), r -> latch.countDown());
+        assertTrue(primary.scheduledRefresh());
+        latch.await();
+
+        indexDoc(primary, "_doc", "1", "{\"foo\" : \"bar\"}");
+        assertFalse(primary.scheduledRefresh());
+        IndexScopedSettings scopedSettings = primary.indexSettings().getScopedSettings();
+        settings = Settings.builder().put(settings).put(IndexSettings.INDEX_REFRESH_ADAPTIVE_ENABLED_SETTING.getKey(), false).build();
+        scopedSettings.applySettings(settings);
+        assertTrue(primary.scheduledRefresh());
+        try (Engine.Searcher searcher = primary.acquireSearcher("test")) {
+            assertEquals(2, searcher.getIndexReader().numDocs());
+        }
+        closeShards(primary);
+    }
+
     public void testSegmentMemoryTrackedInBreaker() throws Exception {
         Settings settings = Settings.builder().put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
             .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 1)
@@ -45,6 +45,7 @@ import org.apache.lucene.mockfile.FilterFileSystemProvider;
 import org.apache.lucene.store.AlreadyClosedException;
 import org.apache.lucene.store.ByteArrayDataOutput;
 import org.apache.lucene.store.MockDirectoryWrapper;
+import org.apache.lucene.util.Constants;
 import org.apache.lucene.util.LineFileDocs;
 import org.apache.lucene.util.LuceneTestCase;
 import org.opensearch.Assertions;
@@ -120,6 +121,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
+import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
@@ -389,6 +391,144 @@ public class TranslogTests extends OpenSearchTestCase {
         }
     }
 
+    public void testMemoryMappedGenerations() throws IOException {
+        assumeFalse("mapped translog generations are not supported on Windows", Constants.WINDOWS);
+        final Path path = createTempDir();
+        final Settings settings = Settings.builder()
+            .put(IndexMetadata.SETTING_VERSION_CREATED, org.opensearch.Version.CURRENT)
+            .put(IndexSettings.INDEX_TRANSLOG_MMAP_SETTING.getKey(), true)
+            .build();
+        final TranslogConfig config = getTranslogConfig(path, settings);
+        final List<Translog.Operation> ops = new ArrayList<>();
+        final String translogUUID;
+        try (Translog mappedTranslog = createTranslog(config)) {
+            translogUUID = mappedTranslog.getTranslogUUID();
+            assertTrue(mappedTranslog.getCurrent().isMemoryMapped());
+            // large enough for the operations to span several pre-allocated regions of the generation most of the time
+            final int numOps = randomIntBetween(1, 500);
+            final List<Translog.Location> locations = new ArrayList<>();
+            for (int i = 0; i < numOps; i++) {
+                final Translog.Index op = new Translog.Index("test", Integer.toString(i), i, primaryTerm.get(),
+                    randomAlphaOfLength(randomIntBetween(1, 8192)).getBytes(StandardCharsets.UTF_8));
+                ops.add(op);
+                locations.add(mappedTranslog.add(op));
+                if (rarely()) {
+                    mappedTranslog.sync();
+                }
+            }
+            final long currentGeneration = mappedTranslog.currentFileGeneration();
+            final Path currentFile = path.resolve(Translog.getFilename(currentGeneration));
+            // the generation is pre-allocated once it is written to
+            assertThat(Files.size(currentFile), greaterThanOrEqualTo(Translog.MIN_PREALLOCATION_SIZE_IN_BYTES));
+            for (int i = 0; i < numOps; i++) {
+                assertThat(mappedTranslog.readOperation(locations.get(i)), equalTo(ops.get(i)));
+            }
+            try (Translog.Snapshot snapshot = mappedTranslog.newSnapshot()) {
+                assertThat(snapshot, SnapshotMatchers.equalsTo(ops));
+            }
+
+            // rolling the generation cuts the bytes that were pre-allocated but not written off the file
+            final long sizeInBytes = mappedTranslog.getCurrent().sizeInBytes();
+            mappedTranslog.rollGeneration();
+            assertThat(Files.size(currentFile), equalTo(sizeInBytes));
+            try (Translog.Snapshot snapshot = mappedTranslog.newSnapshot()) {
+                assertThat(snapshot, SnapshotMatchers.equalsTo(ops));
+            }
+
+            final Translog.Index op = new Translog.Index("test", Integer.toString(numOps), numOps, primaryTerm.get(), new byte[]{1});
+            ops.add(op);
+            mappedTranslog.add(op);
+            mappedTranslog.sync();
+        }
+        // a generation that was not rolled keeps its pre-allocated bytes, which are ignored when the translog is recovered
+        try (Translog recoveredTranslog = openTranslog(getTranslogConfig(path), translogUUID);
+             Translog.Snapshot snapshot = recoveredTranslog.newSnapshot()) {
+            assertThat(snapshot, SnapshotMatchers.containsOperationsInAnyOrder(ops));
+        }
+    }
+
+    public void testMemoryMappedGenerationFailsToPreallocate() throws IOException {
+        assumeFalse("mapped translog generations are not supported on Windows", Constants.WINDOWS);
+        final Path path = createTempDir();
+        final Settings settings = Settings.builder()
+            .put(IndexMetadata.SETTING_VERSION_CREATED, org.opensearch.Version.CURRENT)
+            .put(IndexSettings.INDEX_TRANSLOG_MMAP_SETTING.getKey(), true)
+            .build();
+        final TranslogConfig config = getTranslogConfig(path, settings);
+        final AtomicBoolean diskFull = new AtomicBoolean();
+        final ChannelFactory channelFactory = (file, openOption) -> new FilterFileChannel(FileChannel.open(file, openOption)) {
+            @Override
+            public int write(ByteBuffer src, long position) throws IOException {
+                // only the generation is written to through its channel, the checkpoint still fits on the disk
+                if (diskFull.get() && file.getFileName().toString().endsWith(Translog.TRANSLOG_FILE_SUFFIX)) {
+                    throw new IOException("__FAKE__ no space left on device");
+                }
+                return super.write(src, position);
+            }
+        };
+        final String translogUUID = Translog.createEmptyTranslog(
+            config.getTranslogPath(), SequenceNumbers.NO_OPS_PERFORMED, shardId, channelFactory, primaryTerm.get());
+        try (Translog translog = new Translog(config, translogUUID, createTranslogDeletionPolicy(),
+            () -> SequenceNumbers.NO_OPS_PERFORMED, primaryTerm::get, seqNo -> {}) {
+            @Override
+            ChannelFactory getChannelFactory() {
+                return channelFactory;
+            }
+        }) {
+            assertTrue(translog.getCurrent().isMemoryMapped());
+            // the region that the operation is written to can't be allocated, which fails the translog instead of the process
+            diskFull.set(true);
+            translog.add(new Translog.Index("test", "1", 0, primaryTerm.get(), new byte[]{1}));
+            final IOException e = expectThrows(IOException.class, translog::sync);
+            assertThat(e.getMessage(), containsString("no space left on device"));
+            assertSame(e, translog.getTragicException());
+        }
+    }
+
+    public void testConcurrentReadsOfMemoryMappedGeneration() throws Exception {
+        assumeFalse("mapped translog generations are not supported on Windows", Constants.WINDOWS);
+        final Settings settings = Settings.builder()
+            .put(IndexMetadata.SETTING_VERSION_CREATED, org.opensearch.Version.CURRENT)
+            .put(IndexSettings.INDEX_TRANSLOG_MMAP_SETTING.getKey(), true)
+            .build();
+        try (Translog mappedTranslog = createTranslog(getTranslogConfig(createTempDir(), settings))) {
+            final int numOps = randomIntBetween(100, 500);
+            final List<Translog.Operation> ops = Collections.synchronizedList(new ArrayList<>());
+            final List<Translog.Location> locations = Collections.synchronizedList(new ArrayList<>());
+            final AtomicBoolean done = new AtomicBoolean();
+            final AtomicReference<Throwable> failure = new AtomicReference<>();
+            final Random readerRandom = new Random(random().nextLong());
+            // reads the operations that are written while the writer maps the next regions of the generation
+            final Thread reader = new Thread(() -> {
+                try {
+                    while (done.get() == false) {
+                        final int size = locations.size();
+                        if (size > 0) {
+                            final int i = readerRandom.nextInt(size);
+                            assertThat(mappedTranslog.readOperation(locations.get(i)), equalTo(ops.get(i)));
+                        }
+                    }
+                } catch (Exception | AssertionError e) {
+                    failure.set(e);
+                }
+            });
+            reader.start();
+            try {
+                for (int i = 0; i < numOps; i++) {
+                    final Translog.Index op = new Translog.Index("test", Integer.toString(i), i, primaryTerm.get(),
+                        randomAlphaOfLength(randomIntBetween(1, 8192)).getBytes(StandardCharsets.UTF_8));
+                    final Translog.Location location = mappedTranslog.add(op);
+                    ops.add(op);
+                    locations.add(location);
+                }
+            } finally {
+                done.set(true);
+                reader.join();
+            }
+            assertNull(failure.get());
+        }
+    }
+
     protected TranslogStats stats() throws IOException {
         // force flushing and updating of stats
         translog.sync();
@@ -38,6 +38,7 @@ import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.ByteSizeUnit;
 import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.index.codec.CodecService;
 import org.opensearch.index.engine.EngineConfig;
@@ -45,6 +46,7 @@ import org.opensearch.index.engine.InternalEngine;
 import org.opensearch.index.refresh.RefreshStats;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.shard.IndexShardTestCase;
+import org.opensearch.index.shard.ShardId;
 import org.opensearch.indices.recovery.RecoveryState;
 import org.opensearch.threadpool.Scheduler.Cancellable;
 import org.opensearch.threadpool.ThreadPool;
@@ -64,7 +66,9 @@ import java.util.concurrent.atomic.AtomicReference;
 
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.emptySet;
+import static org.hamcrest.Matchers.closeTo;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 
 public class IndexingMemoryControllerTests extends IndexShardTestCase {
@@ -80,6 +84,8 @@ public class IndexingMemoryControllerTests extends IndexShardTestCase {
         // Shards that are currently throttled
         final Set<IndexShard> throttled = new HashSet<>();
 
+        long relativeTimeInNanos;
+
         MockController(Settings settings) {
             super(Settings.builder()
                             .put("indices.memory.interval", "200h") // disable it
@@ -87,6 +93,11 @@ public class IndexingMemoryControllerTests extends IndexShardTestCase {
                             .build(), null, null);
         }
 
+        public void addShard(IndexShard shard) {
+            indexBufferRAMBytesUsed.put(shard, 0L);
+            writingBytes.put(shard, 0L);
+        }
+
         public void deleteShard(IndexShard shard) {
             indexBufferRAMBytesUsed.remove(shard);
             writingBytes.remove(shard);
@@ -174,6 +185,11 @@ public class IndexingMemoryControllerTests extends IndexShardTestCase {
             forceCheck();
         }
 
+        @Override
+        protected long relativeTimeInNanos() {
+            return relativeTimeInNanos;
+        }
+
         @Override
         protected Cancellable scheduleTask(ThreadPool threadPool) {
             return null;
@@ -355,6 +371,78 @@ public class IndexingMemoryControllerTests extends IndexShardTestCase {
         closeShards(shard0, shard1);
     }
 
+    public void testWriteRateAllocation() throws IOException {
+        MockController controller = new MockController(Settings.builder()
+                                                       .put("indices.memory.index_buffer_size", "4mb")
+                                                       .put("indices.memory.index_buffer_allocation", "write_rate").build());
+        IndexShard shard0 = newStartedShard(p -> newShard(new ShardId("index0", "_na_", 0), p), true);
+        IndexShard shard1 = newStartedShard(p -> newShard(new ShardId("index1", "_na_", 0), p), true);
+        controller.addShard(shard0);
+        controller.addShard(shard1);
+
+        // shard0 indexes three times as fast as shard1, so it gets three quarters of the indexing buffer:
+        controller.bytesWritten(shard0.shardId(), 3000);
+        controller.bytesWritten(shard1.shardId(), 1000);
+        controller.forceCheck();
+        long budget0 = shard0.indexingStats().getTotal().getIndexBufferBudget().getBytes();
+        long budget1 = shard1.indexingStats().getTotal().getIndexBufferBudget().getBytes();
+        assertThat(budget0, greaterThan(budget1));
+        assertThat((double) budget0, closeTo(3 * 1024 * 1024, 1));
+        assertThat((double) budget1, closeTo(1024 * 1024, 1));
+
+        controller.simulateIndexing(shard0);
+        controller.simulateIndexing(shard0);
+        controller.simulateIndexing(shard0);
+        controller.simulateIndexing(shard1);
+        controller.simulateIndexing(shard1);
+
+        // We are now using 5 MB, so we should be writing shard1 since it's most over its budget, although shard0 uses more heap:
+        controller.assertWriting(shard0, 0);
+        controller.assertWriting(shard1, 2);
+        controller.assertBuffer(shard0, 3);
+        controller.assertBuffer(shard1, 0);
+        assertThat(shard0.indexingStats().getTotal().getIndexBufferBudgetWriteCount(), equalTo(0L));
+        assertThat(shard1.indexingStats().getTotal().getIndexBufferBudgetWriteCount(), equalTo(1L));
+        controller.doneWriting(shard1);
+
+        // shard0 stops indexing, so its indexing buffer is written after the check interval and its budget goes to shard1:
+        controller.relativeTimeInNanos += TimeValue.timeValueHours(200).nanos();
+        controller.bytesWritten(shard1.shardId(), 1000);
+        controller.forceCheck();
+        controller.assertWriting(shard0, 3);
+        controller.assertBuffer(shard0, 0);
+        assertThat(shard0.indexingStats().getTotal().getIndexBufferIdleWriteCount(), equalTo(1L));
+        assertThat(shard1.indexingStats().getTotal().getIndexBufferIdleWriteCount(), equalTo(0L));
+        assertThat(shard1.indexingStats().getTotal().getIndexBufferBudget().getBytes(),
+            greaterThan(shard0.indexingStats().getTotal().getIndexBufferBudget().getBytes()));
+
+        // an idle shard is only written once, until it indexes again:
+        controller.forceCheck();
+        assertThat(shard0.indexingStats().getTotal().getIndexBufferIdleWriteCount(), equalTo(1L));
+        closeShards(shard0, shard1);
+    }
+
+    public void testLargestFirstAllocationAssignsNoBudgets() throws IOException {
+        MockController controller = new MockController(Settings.builder()
+                                                       .put("indices.memory.index_buffer_size", "4mb").build());
+        IndexShard shard = newStartedShard();
+        controller.bytesWritten(shard.shardId(), 1000);
+        controller.simulateIndexing(shard);
+        controller.relativeTimeInNanos += TimeValue.timeValueHours(200).nanos();
+        controller.forceCheck();
+        controller.assertBuffer(shard, 1);
+        assertThat(shard.indexingStats().getTotal().getIndexBufferBudget().getBytes(), equalTo(0L));
+        assertThat(shard.indexingStats().getTotal().getIndexBufferIdleWriteCount(), equalTo(0L));
+        closeShards(shard);
+    }
+
+    public void testUnknownIndexBufferAllocation() {
+        Exception e = expectThrows(IllegalArgumentException.class,
+            () -> new MockController(Settings.builder().put("indices.memory.index_buffer_allocation", "fastest").build()));
+        assertEquals("unknown value for [indices.memory.index_buffer_allocation] must be one of [largest_first, write_rate] " +
+            "but was: fastest", e.getMessage());
+    }
+
     public void testTranslogRecoveryWorksWithIMC() throws IOException {
         IndexShard shard = newStartedShard(true);
         for (int i = 0; i < 100; i++) {
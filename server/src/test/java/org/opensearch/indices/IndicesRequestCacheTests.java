@@ -47,6 +47,7 @@ import org.apache.lucene.store.Directory;
 import org.apache.lucene.util.BytesRef;
 import org.opensearch.common.CheckedSupplier;
 import org.opensearch.common.bytes.AbstractBytesReference;
+import org.opensearch.common.bytes.BytesArray;
 import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.lucene.index.OpenSearchDirectoryReader;
@@ -61,9 +62,14 @@ import org.opensearch.index.shard.ShardId;
 import org.opensearch.test.OpenSearchTestCase;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
+import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import static org.hamcrest.Matchers.greaterThan;
+
 public class IndicesRequestCacheTests extends OpenSearchTestCase {
 
     public void testBasicOperationsCache() throws Exception {
@@ -287,6 +293,231 @@ public class IndicesRequestCacheTests extends OpenSearchTestCase {
         IOUtils.close(reader, secondReader, thirdReader, writer, dir, cache);
     }
 
+    public void testEvictionToTier() throws Exception {
+        ByteSizeValue size;
+        {
+            IndicesRequestCache cache = new IndicesRequestCache(Settings.EMPTY);
+            AtomicBoolean indexShard = new AtomicBoolean(true);
+            ShardRequestCache requestCacheStats = new ShardRequestCache();
+            Directory dir = newDirectory();
+            IndexWriter writer = new IndexWriter(dir, newIndexWriterConfig());
+
+            writer.addDocument(newDoc(0, "foo"));
+            DirectoryReader reader = OpenSearchDirectoryReader.wrap(DirectoryReader.open(writer),
+                new ShardId("foo", "bar", 1));
+            TermQueryBuilder termQuery = new TermQueryBuilder("id", "0");
+            BytesReference termBytes = XContentHelper.toXContent(termQuery, XContentType.JSON, false);
+            TestEntity entity = new TestEntity(requestCacheStats, indexShard);
+            Loader loader = new Loader(reader, 0);
+
+            writer.updateDocument(new Term("id", "0"), newDoc(0, "bar"));
+            DirectoryReader secondReader = OpenSearchDirectoryReader.wrap(DirectoryReader.open(writer),
+                new ShardId("foo", "bar", 1));
+            TestEntity secondEntity = new TestEntity(requestCacheStats, indexShard);
+            Loader secondLoader = new Loader(secondReader, 0);
+
+            cache.getOrCompute(entity, loader, reader, termBytes);
+            cache.getOrCompute(secondEntity, secondLoader, secondReader, termBytes);
+            size = requestCacheStats.stats().getMemorySize();
+            IOUtils.close(reader, secondReader, writer, dir, cache);
+        }
+        IndicesRequestCache.TierType tierType = randomFrom(IndicesRequestCache.TierType.OFF_HEAP, IndicesRequestCache.TierType.MMAP);
+        Path dataPath = createTempDir();
+        IndicesRequestCache cache = new IndicesRequestCache(Settings.builder()
+            .put(IndicesRequestCache.INDICES_CACHE_QUERY_SIZE.getKey(), size.getBytes() + 1 + "b")
+            .put(IndicesRequestCache.INDICES_CACHE_TIER_TYPE.getKey(), tierType.toString())
+            .put(IndicesRequestCache.INDICES_CACHE_TIER_SIZE.getKey(), "1kb")
+            .build(), dataPath);
+        assertEquals(tierType == IndicesRequestCache.TierType.MMAP, Files.exists(dataPath.resolve(IndicesRequestCacheTier.FILE_NAME)));
+        AtomicBoolean indexShard = new AtomicBoolean(true);
+        ShardRequestCache requestCacheStats = new ShardRequestCache();
+        Directory dir = newDirectory();
+        IndexWriter writer = new IndexWriter(dir, newIndexWriterConfig());
+        TermQueryBuilder termQuery = new TermQueryBuilder("id", "0");
+        BytesReference termBytes = XContentHelper.toXContent(termQuery, XContentType.JSON, false);
+
+        String[] values = new String[] { "foo", "bar", "baz" };
+        DirectoryReader[] readers = new DirectoryReader[values.length];
+        TestEntity[] entities = new TestEntity[values.length];
+        for (int i = 0; i < values.length; i++) {
+            writer.updateDocument(new Term("id", "0"), newDoc(0, values[i]));
+            readers[i] = OpenSearchDirectoryReader.wrap(DirectoryReader.open(writer), new ShardId("foo", "bar", 1));
+            entities[i] = new TestEntity(requestCacheStats, indexShard);
+            BytesReference value = cache.getOrCompute(entities[i], new Loader(readers[i], 0), readers[i], termBytes);
+            assertEquals(values[i], value.streamInput().readString());
+        }
+        assertEquals(2, cache.count());
+        assertEquals(1, cache.tierCount());
+        assertEquals(1, requestCacheStats.stats().getEvictions());
+        assertEquals(0, requestCacheStats.stats().getTierEvictions());
+        assertThat(requestCacheStats.stats().getTierSizeInBytes(), greaterThan(0L));
+
+        // the entry evicted from the heap is served by the tier and moved back to the heap
+        for (int i = 0; i < values.length; i++) {
+            Loader loader = new Loader(readers[i], 0);
+            BytesReference value = cache.getOrCompute(entities[i], loader, readers[i], termBytes);
+            assertEquals(values[i], value.streamInput().readString());
+            assertTrue(loader.loadedFromCache);
+        }
+        assertEquals(2, cache.count());
+        assertEquals(1, cache.tierCount());
+        assertEquals(values.length, requestCacheStats.stats().getHitCount());
+        assertEquals(values.length, requestCacheStats.stats().getMissCount());
+        assertThat(requestCacheStats.stats().getTierHitCount(), greaterThan(0L));
+
+        // closing the readers invalidates their entries in both levels
+        IOUtils.close(readers);
+        cache.cleanCache();
+        assertEquals(0, cache.count());
+        assertEquals(0, cache.tierCount());
+        assertEquals(0, requestCacheStats.stats().getMemorySize().bytesAsInt());
+        assertEquals(0, requestCacheStats.stats().getTierSizeInBytes());
+
+        IOUtils.close(writer, dir, cache);
+        assertFalse(Files.exists(dataPath.resolve(IndicesRequestCacheTier.FILE_NAME)));
+    }
+
+    public void testTierEvictsOldestChunk() throws Exception {
+        AtomicBoolean indexShard = new AtomicBoolean(true);
+        ShardRequestCache requestCacheStats = new ShardRequestCache();
+        TestEntity entity = new TestEntity(requestCacheStats, indexShard);
+        Directory dir = newDirectory();
+        IndexWriter writer = new IndexWriter(dir, newIndexWriterConfig());
+        writer.addDocument(newDoc(0, "foo"));
+        DirectoryReader reader = OpenSearchDirectoryReader.wrap(DirectoryReader.open(writer), new ShardId("foo", "bar", 1));
+        // two chunks of ten entries
+        IndicesRequestCacheTier tier = IndicesRequestCacheTier.offHeap(200, 100);
+        int numberOfEntries = randomIntBetween(21, 100);
+        IndicesRequestCache.Key[] keys = new IndicesRequestCache.Key[numberOfEntries];
+        for (int i = 0; i < numberOfEntries; i++) {
+            keys[i] = new IndicesRequestCache.Key(entity, reader.getReaderCacheHelper().getKey(), new BytesArray(Integer.toString(i)));
+            byte[] value = new byte[10];
+            Arrays.fill(value, (byte) i);
+            tier.put(keys[i], new BytesArray(value));
+        }
+        // the current chunk holds the last entries, the previous one is full
+        int retained = 10 + (numberOfEntries - 1) % 10 + 1;
+        assertEquals(retained, tier.count());
+        assertEquals(numberOfEntries - retained, requestCacheStats.stats().getTierEvictions());
+        assertEquals(10L * retained, requestCacheStats.stats().getTierSizeInBytes());
+        for (int i = 0; i < numberOfEntries; i++) {
+            BytesReference value = tier.get(keys[i]);
+            if (i < numberOfEntries - retained) {
+                assertNull(value);
+            } else {
+                assertEquals(10, value.length());
+                assertEquals((byte) i, value.get(9));
+            }
+        }
+        // values that do not fit in a chunk are not stored
+        tier.put(keys[0], new BytesArray(new byte[101]));
+        assertNull(tier.get(keys[0]));
+
+        BytesReference value = tier.remove(keys[numberOfEntries - 1]);
+        assertEquals((byte) (numberOfEntries - 1), value.get(0));
+        assertNull(tier.get(keys[numberOfEntries - 1]));
+        assertEquals(retained - 1, tier.count());
+        tier.close();
+        assertEquals(0, tier.count());
+        assertEquals(0, requestCacheStats.stats().getTierSizeInBytes());
+        assertEquals(numberOfEntries - retained, requestCacheStats.stats().getTierEvictions());
+        IOUtils.close(reader, writer, dir);
+    }
+
+    public void testTierSizeIsNotMultipleOfChunkSize() throws Exception {
+        AtomicBoolean indexShard = new AtomicBoolean(true);
+        ShardRequestCache requestCacheStats = new ShardRequestCache();
+        TestEntity entity = new TestEntity(requestCacheStats, indexShard);
+        Directory dir = newDirectory();
+        IndexWriter writer = new IndexWriter(dir, newIndexWriterConfig());
+        writer.addDocument(newDoc(0, "foo"));
+        DirectoryReader reader = OpenSearchDirectoryReader.wrap(DirectoryReader.open(writer), new ShardId("foo", "bar", 1));
+        // two chunks of fifty bytes rather than a single chunk of sixty four bytes
+        IndicesRequestCacheTier tier = IndicesRequestCacheTier.offHeap(100, 64);
+        IndicesRequestCache.Key[] keys = new IndicesRequestCache.Key[3];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = new IndicesRequestCache.Key(entity, reader.getReaderCacheHelper().getKey(), new BytesArray(Integer.toString(i)));
+        }
+        tier.put(keys[0], new BytesArray(new byte[40]));
+        tier.put(keys[1], new BytesArray(new byte[40]));
+        assertEquals(2, tier.count());
+        assertNotNull(tier.get(keys[0]));
+        assertNotNull(tier.get(keys[1]));
+        assertEquals(0, requestCacheStats.stats().getTierEvictions());
+
+        // the third value recycles the first chunk
+        tier.put(keys[2], new BytesArray(new byte[40]));
+        assertNull(tier.get(keys[0]));
+        assertNotNull(tier.get(keys[1]));
+        assertNotNull(tier.get(keys[2]));
+        assertEquals(1, requestCacheStats.stats().getTierEvictions());
+
+        // values that do not fit in a chunk are not stored
+        tier.put(keys[0], new BytesArray(new byte[51]));
+        assertNull(tier.get(keys[0]));
+        tier.close();
+        IOUtils.close(reader, writer, dir);
+    }
+
+    public void testTierConcurrentPutAndRemoveOfSameKey() throws Exception {
+        AtomicBoolean indexShard = new AtomicBoolean(true);
+        ShardRequestCache requestCacheStats = new ShardRequestCache();
+        TestEntity entity = new TestEntity(requestCacheStats, indexShard);
+        Directory dir = newDirectory();
+        IndexWriter writer = new IndexWriter(dir, newIndexWriterConfig());
+        writer.addDocument(newDoc(0, "foo"));
+        DirectoryReader reader = OpenSearchDirectoryReader.wrap(DirectoryReader.open(writer), new ShardId("foo", "bar", 1));
+        // two chunks of ten entries
+        IndicesRequestCacheTier tier = IndicesRequestCacheTier.offHeap(200, 100);
+        IndicesRequestCache.Key key = new IndicesRequestCache.Key(entity, reader.getReaderCacheHelper().getKey(), new BytesArray("0"));
+        int iterations = scaledRandomIntBetween(100, 10000);
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        Thread remover = new Thread(() -> {
+            try {
+                barrier.await();
+                for (int i = 0; i < iterations; i++) {
+                    tier.remove(key);
+                }
+            } catch (Exception e) {
+                throw new AssertionError(e);
+            }
+        });
+        remover.start();
+        barrier.await();
+        for (int i = 0; i < iterations; i++) {
+            tier.put(key, new BytesArray(new byte[10]));
+        }
+        remover.join();
+
+        // writing three chunks of other entries recycles both chunks, so only these entries may be left
+        int retained = 0;
+        for (int i = 1; i <= 30; i++) {
+            IndicesRequestCache.Key other = new IndicesRequestCache.Key(
+                entity,
+                reader.getReaderCacheHelper().getKey(),
+                new BytesArray(Integer.toString(i))
+            );
+            tier.put(other, new BytesArray(new byte[10]));
+        }
+        for (int i = 1; i <= 30; i++) {
+            IndicesRequestCache.Key other = new IndicesRequestCache.Key(
+                entity,
+                reader.getReaderCacheHelper().getKey(),
+                new BytesArray(Integer.toString(i))
+            );
+            if (tier.get(other) != null) {
+                retained++;
+            }
+        }
+        assertNull(tier.get(key));
+        assertEquals(retained, tier.count());
+        assertEquals(10L * retained, requestCacheStats.stats().getTierSizeInBytes());
+        tier.close();
+        assertEquals(0, tier.count());
+        assertEquals(0, requestCacheStats.stats().getTierSizeInBytes());
+        IOUtils.close(reader, writer, dir);
+    }
+
     public void testClearAllEntityIdentity() throws Exception {
         IndicesRequestCache cache = new IndicesRequestCache(Settings.EMPTY);
         AtomicBoolean indexShard =  new AtomicBoolean(true);
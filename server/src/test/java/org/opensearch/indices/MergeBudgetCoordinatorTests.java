@@ -0,0 +1,113 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.test.OpenSearchTestCase;
+
+import static org.hamcrest.Matchers.equalTo;
+
+public class MergeBudgetCoordinatorTests extends OpenSearchTestCase {
+
+    public void testThreadsAreUnlimitedByDefault() {
+        final MergeBudgetCoordinator coordinator = newCoordinator(Settings.EMPTY);
+        final TestParticipant participant = new TestParticipant(randomIntBetween(0, 10), randomIntBetween(1, 4), 10, 0);
+        coordinator.register(participant);
+        assertThat(participant.threadBudget, equalTo(MergeBudgetCoordinator.UNLIMITED_THREADS));
+    }
+
+    public void testThreadsAreAllocatedToShardsWithMostSegmentsAndDeletesFirst() {
+        final ClusterSettings clusterSettings = new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS);
+        final MergeBudgetCoordinator coordinator = new MergeBudgetCoordinator(Settings.builder()
+            .put(MergeBudgetCoordinator.INDICES_MERGE_BUDGET_MAX_THREAD_COUNT_SETTING.getKey(), 6).build(), clusterSettings);
+        final TestParticipant idle = new TestParticipant(0, 4, 100, 100);
+        final TestParticipant fewSegments = new TestParticipant(4, 4, 10, 1000);
+        final TestParticipant manySegments = new TestParticipant(3, 4, 50, 0);
+        final TestParticipant manySegmentsAndDeletes = new TestParticipant(2, 4, 50, 10);
+        for (TestParticipant participant : new TestParticipant[] { idle, fewSegments, manySegments, manySegmentsAndDeletes }) {
+            coordinator.register(participant);
+        }
+        // every merging shard gets a thread, the remaining three go to the shards with the most segments, then deletes
+        assertThat(idle.threadBudget, equalTo(1));
+        assertThat(manySegmentsAndDeletes.threadBudget, equalTo(2));
+        assertThat(manySegments.threadBudget, equalTo(3));
+        assertThat(fewSegments.threadBudget, equalTo(1));
+
+        // threads of a shard that stops merging go to the other shards
+        manySegments.mergeCount = 0;
+        coordinator.rebalance();
+        assertThat(manySegments.threadBudget, equalTo(1));
+        assertThat(manySegmentsAndDeletes.threadBudget, equalTo(2));
+        assertThat(fewSegments.threadBudget, equalTo(4));
+
+        // and so do threads of a shard that is closed
+        manySegments.mergeCount = 3;
+        coordinator.rebalance();
+        assertThat(fewSegments.threadBudget, equalTo(1));
+        coordinator.unregister(manySegments);
+        assertThat(fewSegments.threadBudget, equalTo(4));
+
+        // every merging shard keeps a thread even if the budget is smaller than the number of merging shards
+        clusterSettings.applySettings(Settings.builder()
+            .put(MergeBudgetCoordinator.INDICES_MERGE_BUDGET_MAX_THREAD_COUNT_SETTING.getKey(), 1).build());
+        assertThat(manySegmentsAndDeletes.threadBudget, equalTo(1));
+        assertThat(fewSegments.threadBudget, equalTo(1));
+
+        clusterSettings.applySettings(Settings.EMPTY);
+        assertThat(idle.threadBudget, equalTo(MergeBudgetCoordinator.UNLIMITED_THREADS));
+        assertThat(manySegmentsAndDeletes.threadBudget, equalTo(MergeBudgetCoordinator.UNLIMITED_THREADS));
+        assertThat(fewSegments.threadBudget, equalTo(MergeBudgetCoordinator.UNLIMITED_THREADS));
+    }
+
+    private static MergeBudgetCoordinator newCoordinator(Settings settings) {
+        return new MergeBudgetCoordinator(settings, new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS));
+    }
+
+    private static final class TestParticipant implements MergeBudgetCoordinator.Participant {
+
+        int mergeCount;
+        final int maxThreadCount;
+        final int segmentCount;
+        final long deletedDocCount;
+        int threadBudget = Integer.MIN_VALUE;
+
+        TestParticipant(int mergeCount, int maxThreadCount, int segmentCount, long deletedDocCount) {
+            this.mergeCount = mergeCount;
+            this.maxThreadCount = maxThreadCount;
+            this.segmentCount = segmentCount;
+            this.deletedDocCount = deletedDocCount;
+        }
+
+        @Override
+        public int mergeCount() {
+            return mergeCount;
+        }
+
+        @Override
+        public int maxThreadCount() {
+            return maxThreadCount;
+        }
+
+        @Override
+        public int segmentCount() {
+            return segmentCount;
+        }
+
+        @Override
+        public long deletedDocCount() {
+            return deletedDocCount;
+        }
+
+        @Override
+        public void setThreadBudget(int threadBudget) {
+            this.threadBudget = threadBudget;
+        }
+    }
+}
@@ -0,0 +1,234 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.opensearch.common.CheckedConsumer;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.index.translog.Translog;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class TranslogSyncCoordinatorTests extends OpenSearchTestCase {
+
+    private ThreadPool threadPool;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        threadPool = new TestThreadPool(getTestName());
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        terminate(threadPool);
+        super.tearDown();
+    }
+
+    public void testSyncsOfSameTranslogAreGroupCommitted() throws Exception {
+        final TranslogSyncCoordinator coordinator = new TranslogSyncCoordinator(threadPool);
+        final Path dataPath = createTempDir();
+        final CountDownLatch firstSyncStarted = new CountDownLatch(1);
+        final CountDownLatch releaseFirstSync = new CountDownLatch(1);
+        final AtomicInteger syncCalls = new AtomicInteger();
+        final AtomicInteger syncedLocations = new AtomicInteger();
+        final CheckedConsumer<List<Translog.Location>, IOException> syncer = locations -> {
+            if (syncCalls.incrementAndGet() == 1) {
+                firstSyncStarted.countDown();
+                try {
+                    releaseFirstSync.await();
+                } catch (InterruptedException e) {
+                    throw new AssertionError(e);
+                }
+            }
+            syncedLocations.addAndGet(locations.size());
+        };
+
+        final int numSyncs = randomIntBetween(2, 50);
+        final CountDownLatch synced = new CountDownLatch(numSyncs + 1);
+        final AtomicReference<Exception> failure = new AtomicReference<>();
+        coordinator.sync(dataPath, syncer, new Translog.Location(0, 0, 1), e -> {
+            failure.compareAndSet(null, e);
+            synced.countDown();
+        });
+        // the syncs that are added while the first round fsyncs are all processed by the next round
+        assertTrue(firstSyncStarted.await(10, TimeUnit.SECONDS));
+        for (int i = 0; i < numSyncs; i++) {
+            coordinator.sync(dataPath, syncer, new Translog.Location(0, i + 1, 1), e -> {
+                failure.compareAndSet(null, e);
+                synced.countDown();
+            });
+        }
+        releaseFirstSync.countDown();
+        assertTrue(synced.await(10, TimeUnit.SECONDS));
+        assertNull(failure.get());
+        assertThat(syncCalls.get(), equalTo(2));
+        assertThat(syncedLocations.get(), equalTo(numSyncs + 1));
+    }
+
+    public void testListenersAreNotifiedOnSyncThread() throws Exception {
+        final TranslogSyncCoordinator coordinator = new TranslogSyncCoordinator(threadPool);
+        final CountDownLatch synced = new CountDownLatch(1);
+        final AtomicReference<String> listenerThread = new AtomicReference<>();
+        final String header = randomAlphaOfLength(10);
+        final AtomicReference<String> listenerHeader = new AtomicReference<>();
+        threadPool.getThreadContext().putHeader("test", header);
+        coordinator.sync(createTempDir(), locations -> {}, new Translog.Location(0, 0, 1), e -> {
+            listenerThread.set(Thread.currentThread().getName());
+            listenerHeader.set(threadPool.getThreadContext().getHeader("test"));
+            synced.countDown();
+        });
+        assertTrue(synced.await(10, TimeUnit.SECONDS));
+        assertThat(listenerThread.get(), containsString("[" + ThreadPool.Names.TRANSLOG_SYNC + "]"));
+        // the listener runs with the context of the caller that added the sync
+        assertThat(listenerHeader.get(), equalTo(header));
+    }
+
+    public void testFailedSyncOnlyFailsListenersOfThatTranslog() throws Exception {
+        final TranslogSyncCoordinator coordinator = new TranslogSyncCoordinator(threadPool);
+        final Path dataPath = createTempDir();
+        final IOException syncFailure = new IOException("simulated");
+        final CheckedConsumer<List<Translog.Location>, IOException> failingSyncer = locations -> {
+            throw syncFailure;
+        };
+        final CheckedConsumer<List<Translog.Location>, IOException> syncer = locations -> {};
+
+        final int numSyncs = randomIntBetween(1, 20);
+        final CountDownLatch synced = new CountDownLatch(2 * numSyncs);
+        final List<Exception> failures = new ArrayList<>();
+        final AtomicInteger successes = new AtomicInteger();
+        for (int i = 0; i < numSyncs; i++) {
+            coordinator.sync(dataPath, failingSyncer, new Translog.Location(0, i, 1), e -> {
+                synchronized (failures) {
+                    failures.add(e);
+                }
+                synced.countDown();
+            });
+            coordinator.sync(dataPath, syncer, new Translog.Location(0, i, 1), e -> {
+                if (e == null) {
+                    successes.incrementAndGet();
+                }
+                synced.countDown();
+            });
+        }
+        assertTrue(synced.await(10, TimeUnit.SECONDS));
+        assertThat(successes.get(), equalTo(numSyncs));
+        assertThat(failures.size(), equalTo(numSyncs));
+        for (Exception failure : failures) {
+            assertThat(failure, sameInstance(syncFailure));
+        }
+    }
+
+    public void testPendingSyncsOfAllShardsOnDataPathShareRound() throws Exception {
+        final TranslogSyncCoordinator coordinator = new TranslogSyncCoordinator(threadPool);
+        final Path dataPath = createTempDir();
+        final CountDownLatch blockingSyncStarted = new CountDownLatch(1);
+        final CountDownLatch releaseBlockingSync = new CountDownLatch(1);
+        final CountDownLatch blockingSynced = new CountDownLatch(1);
+        coordinator.sync(dataPath, locations -> {
+            blockingSyncStarted.countDown();
+            try {
+                releaseBlockingSync.await();
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            }
+        }, new Translog.Location(0, 0, 1), e -> blockingSynced.countDown());
+        assertTrue(blockingSyncStarted.await(10, TimeUnit.SECONDS));
+
+        final int numShards = randomIntBetween(2, 8);
+        final int syncsPerShard = randomIntBetween(1, 20);
+        final AtomicIntegerArray syncCalls = new AtomicIntegerArray(numShards);
+        final AtomicIntegerArray syncedLocations = new AtomicIntegerArray(numShards);
+        final CountDownLatch synced = new CountDownLatch(numShards * syncsPerShard);
+        final List<CheckedConsumer<List<Translog.Location>, IOException>> syncers = new ArrayList<>();
+        for (int i = 0; i < numShards; i++) {
+            final int shard = i;
+            syncers.add(locations -> {
+                syncCalls.incrementAndGet(shard);
+                syncedLocations.addAndGet(shard, locations.size());
+            });
+        }
+        for (int j = 0; j < syncsPerShard; j++) {
+            for (int i = 0; i < numShards; i++) {
+                coordinator.sync(dataPath, syncers.get(i), new Translog.Location(0, j, 1), e -> {
+                    assertNull(e);
+                    synced.countDown();
+                });
+            }
+        }
+        releaseBlockingSync.countDown();
+        assertTrue(blockingSynced.await(10, TimeUnit.SECONDS));
+        assertTrue(synced.await(10, TimeUnit.SECONDS));
+        // every shard is synced once, in the round that follows the blocking one
+        for (int i = 0; i < numShards; i++) {
+            assertThat(syncCalls.get(i), equalTo(1));
+            assertThat(syncedLocations.get(i), equalTo(syncsPerShard));
+        }
+    }
+
+    public void testTranslogsOfRoundAreSyncedInParallel() throws Exception {
+        final int numShards = randomIntBetween(2, 4);
+        final ThreadPool syncThreadPool = new TestThreadPool(getTestName(),
+            Settings.builder().put("thread_pool." + ThreadPool.Names.TRANSLOG_SYNC + ".max", numShards).build());
+        try {
+            final TranslogSyncCoordinator coordinator = new TranslogSyncCoordinator(syncThreadPool);
+            final Path dataPath = createTempDir();
+            final CountDownLatch blockingSyncStarted = new CountDownLatch(1);
+            final CountDownLatch releaseBlockingSync = new CountDownLatch(1);
+            coordinator.sync(dataPath, locations -> {
+                blockingSyncStarted.countDown();
+                try {
+                    releaseBlockingSync.await();
+                } catch (InterruptedException e) {
+                    throw new AssertionError(e);
+                }
+            }, new Translog.Location(0, 0, 1), e -> {});
+            assertTrue(blockingSyncStarted.await(10, TimeUnit.SECONDS));
+
+            // every fsync of the next round waits for the others, which only completes if they run at the same time
+            final CyclicBarrier allSyncing = new CyclicBarrier(numShards);
+            final CountDownLatch synced = new CountDownLatch(numShards);
+            final AtomicReference<Exception> failure = new AtomicReference<>();
+            for (int i = 0; i < numShards; i++) {
+                coordinator.sync(dataPath, locations -> {
+                    try {
+                        allSyncing.await(10, TimeUnit.SECONDS);
+                    } catch (Exception e) {
+                        throw new IOException(e);
+                    }
+                }, new Translog.Location(0, i, 1), e -> {
+                    if (e != null) {
+                        failure.compareAndSet(null, e);
+                    }
+                    synced.countDown();
+                });
+            }
+            releaseBlockingSync.countDown();
+            assertTrue(synced.await(30, TimeUnit.SECONDS));
+            assertNull(failure.get());
+        } finally {
+            terminate(syncThreadPool);
+        }
+    }
+}
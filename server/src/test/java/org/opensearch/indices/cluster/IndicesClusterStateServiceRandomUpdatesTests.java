@@ -526,6 +526,8 @@ public class IndicesClusterStateServiceRandomUpdatesTests extends AbstractIndice
                 null,
                 null,
                 null,
+                null,
+                null,
                 primaryReplicaSyncer,
                 s -> {},
                 RetentionLeaseSyncer.EMPTY);
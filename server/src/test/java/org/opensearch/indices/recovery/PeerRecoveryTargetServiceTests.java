@@ -34,6 +34,7 @@ package org.opensearch.indices.recovery;
 
 import org.apache.lucene.store.IOContext;
 import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.util.BytesRef;
 import org.opensearch.Version;
 import org.opensearch.action.ActionListener;
 import org.opensearch.action.admin.indices.flush.FlushRequest;
@@ -61,6 +62,7 @@ import org.opensearch.index.translog.Translog;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -127,8 +129,11 @@ public class PeerRecoveryTargetServiceTests extends IndexShardTestCase {
                     barrier.await();
                     RecoveryFileChunkRequest r;
                     while ((r = queue.poll()) != null) {
+                        // the content may be a slice of a network buffer that is reused once the chunk is acknowledged
+                        final BytesRef content = r.content().toBytesRef();
                         recoveryTarget.writeFileChunk(r.metadata(), r.position(), r.content(), r.lastChunk(), r.totalTranslogOps(),
-                            ActionListener.wrap(ignored -> {},
+                            ActionListener.wrap(ignored -> Arrays.fill(content.bytes, content.offset, content.offset + content.length,
+                                (byte) 0),
                                 e -> {
                                     throw new AssertionError(e);
                                 }));
@@ -0,0 +1,94 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.node;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+public class LatencyHistogramTests extends OpenSearchTestCase {
+
+    public void testBuckets() {
+        int previousBucket = -1;
+        for (long micros = 0; micros < 100000; micros++) {
+            final int bucket = LatencyHistogram.bucket(micros);
+            assertThat(bucket, greaterThanOrEqualTo(previousBucket));
+            assertThat(bucket, lessThan(LatencyHistogram.NUM_BUCKETS));
+            final long upperBoundMicros = TimeUnit.NANOSECONDS.toMicros(LatencyHistogram.bucketUpperBoundNanos(bucket));
+            assertThat(upperBoundMicros, greaterThanOrEqualTo(micros));
+            assertThat((double) upperBoundMicros, lessThanOrEqualTo(Math.max(3, micros * 1.25)));
+            if (bucket != previousBucket && previousBucket >= 0) {
+                // buckets are contiguous
+                assertThat(TimeUnit.NANOSECONDS.toMicros(LatencyHistogram.bucketUpperBoundNanos(previousBucket)), equalTo(micros - 1));
+            }
+            previousBucket = bucket;
+        }
+        assertThat(LatencyHistogram.bucket(Long.MAX_VALUE), equalTo(LatencyHistogram.NUM_BUCKETS - 1));
+    }
+
+    public void testPercentiles() {
+        final AtomicLong nanoTime = new AtomicLong(randomLong());
+        final LatencyHistogram histogram = new LatencyHistogram(nanoTime::get);
+        assertSame(LatencyHistogram.Snapshot.EMPTY, histogram.snapshot());
+
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(i));
+        }
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertThat(snapshot.weightedCount, equalTo(1000.0));
+        assertPercentile(snapshot.p50, 500);
+        assertPercentile(snapshot.p90, 900);
+        assertPercentile(snapshot.p99, 990);
+
+        // the snapshot is cached until the refresh interval elapses
+        histogram.record(TimeUnit.SECONDS.toNanos(10));
+        assertSame(snapshot, histogram.snapshot());
+        nanoTime.addAndGet(LatencyHistogram.REFRESH_INTERVAL_NANOS);
+        assertThat(histogram.snapshot().weightedCount, equalTo(1001.0));
+    }
+
+    public void testDecay() {
+        final AtomicLong nanoTime = new AtomicLong(randomLong());
+        final LatencyHistogram histogram = new LatencyHistogram(nanoTime::get);
+        // a burst of slow responses
+        for (int i = 0; i < 100; i++) {
+            histogram.record(TimeUnit.SECONDS.toNanos(1));
+        }
+        nanoTime.addAndGet(LatencyHistogram.SLOT_NANOS);
+        // followed by as many fast responses, which weigh twice as much
+        for (int i = 0; i < 100; i++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertThat(snapshot.weightedCount, equalTo(150.0));
+        assertPercentile(snapshot.p50, 1);
+        assertPercentile(snapshot.p99, 1000);
+
+        // the slow responses are forgotten once their slot is out of the window
+        nanoTime.addAndGet(LatencyHistogram.SLOT_NANOS * (LatencyHistogram.NUM_SLOTS - 1));
+        snapshot = histogram.snapshot();
+        assertThat(snapshot.weightedCount, equalTo(100.0 / (1 << (LatencyHistogram.NUM_SLOTS - 1))));
+        assertPercentile(snapshot.p99, 1);
+
+        nanoTime.addAndGet(LatencyHistogram.SLOT_NANOS);
+        assertSame(LatencyHistogram.Snapshot.EMPTY, histogram.snapshot());
+    }
+
+    private static void assertPercentile(long nanos, long expectedMillis) {
+        final long expectedNanos = TimeUnit.MILLISECONDS.toNanos(expectedMillis);
+        assertThat(nanos, greaterThanOrEqualTo(expectedNanos));
+        assertThat((double) nanos, lessThanOrEqualTo(expectedNanos * 1.25));
+    }
+}
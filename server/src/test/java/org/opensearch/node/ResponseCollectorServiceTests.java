@@ -49,9 +49,13 @@ import org.junit.Before;
 
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
 
 public class ResponseCollectorServiceTests extends OpenSearchTestCase {
 
@@ -150,4 +154,45 @@ public class ResponseCollectorServiceTests extends OpenSearchTestCase {
         assertTrue(nodeStats.containsKey("node1"));
         assertFalse(nodeStats.containsKey("node2"));
     }
+
+    public void testLatencyHistogramRanking() {
+        final AtomicLong nanoTime = new AtomicLong(randomLongBetween(0, 1000000));
+        final ClusterSettings clusterSettings = new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS);
+        final ResponseCollectorService collector = new ResponseCollectorService(
+            new ClusterService(Settings.EMPTY, clusterSettings, threadpool), nanoTime::get);
+        assertThat(collector.getRankingMode(), equalTo(ResponseCollectorService.RankingMode.C3));
+        clusterSettings.applySettings(Settings.builder()
+            .put(ResponseCollectorService.RANKING_MODE_SETTING.getKey(), "latency_histogram").build());
+        assertThat(collector.getRankingMode(), equalTo(ResponseCollectorService.RankingMode.LATENCY_HISTOGRAM));
+
+        // both nodes have the same EWMAs, but one of them has a slow tail
+        for (String nodeId : new String[] {"fast", "slow"}) {
+            collector.addNodeStatistics(nodeId, 1, TimeUnit.MILLISECONDS.toNanos(5), TimeUnit.MILLISECONDS.toNanos(5));
+            for (int i = 0; i < 100; i++) {
+                final long startNanos = collector.onRequestSent(nodeId);
+                nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(nodeId.equals("slow") && i % 10 == 0 ? 500 : 5));
+                collector.onRequestCompleted(nodeId, startNanos, true);
+            }
+        }
+        nanoTime.addAndGet(LatencyHistogram.REFRESH_INTERVAL_NANOS);
+        final ResponseCollectorService.ComputedNodeStats fast = collector.getNodeStatistics("fast").get();
+        final ResponseCollectorService.ComputedNodeStats slow = collector.getNodeStatistics("slow").get();
+        assertThat(fast.recentResponses, greaterThan(0L));
+        assertThat(fast.inFlightRequests, equalTo(0));
+        assertThat(fast.responseTimeP99, lessThan(TimeUnit.MILLISECONDS.toNanos(10)));
+        assertThat(slow.responseTimeP99, greaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(500)));
+        assertThat(slow.rank(1), greaterThan(fast.rank(1)));
+
+        // a request that is stuck on the fast node makes it rank worse than the slow node
+        collector.onRequestSent("fast");
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        final ResponseCollectorService.ComputedNodeStats stalled = collector.getNodeStatistics("fast").get();
+        assertThat(stalled.inFlightRequests, equalTo(1));
+        assertThat(stalled.inFlightAge, equalTo(TimeUnit.SECONDS.toNanos(1)));
+        assertThat(stalled.rank(1), greaterThan(collector.getNodeStatistics("slow").get().rank(1)));
+
+        // the C3 formula only looks at the EWMAs
+        clusterSettings.applySettings(Settings.EMPTY);
+        assertEquals(collector.getNodeStatistics("fast").get().rank(1), collector.getNodeStatistics("slow").get().rank(1), 0.0);
+    }
 }
@@ -32,24 +32,34 @@
 
 package org.opensearch.search;
 
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.NoMergePolicy;
 import org.apache.lucene.index.RandomIndexWriter;
 import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.MatchNoDocsQuery;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.QueryCachingPolicy;
 import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopScoreDocCollector;
 import org.apache.lucene.store.Directory;
 import org.opensearch.Version;
 import org.opensearch.action.OriginalIndices;
+import org.opensearch.action.search.SearchShardTask;
 import org.opensearch.action.search.SearchType;
 import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.common.UUIDs;
+import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.MockBigArrays;
 import org.opensearch.common.util.MockPageCacheRecycler;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.index.IndexService;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.cache.IndexCache;
@@ -71,17 +81,24 @@ import org.opensearch.search.internal.ShardSearchRequest;
 import org.opensearch.search.rescore.RescoreContext;
 import org.opensearch.search.slice.SliceBuilder;
 import org.opensearch.search.sort.SortAndFormats;
+import org.opensearch.tasks.Task;
+import org.opensearch.tasks.TaskManager;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.threadpool.TestThreadPool;
 import org.opensearch.threadpool.ThreadPool;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.mockito.Matchers.anyObject;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
@@ -160,7 +177,7 @@ public class DefaultSearchContextTests extends OpenSearchTestCase {
                 newContextId(), indexService, indexShard, searcherSupplier.get(), randomNonNegativeLong(), false);
 
             DefaultSearchContext contextWithoutScroll = new DefaultSearchContext(readerWithoutScroll, shardSearchRequest, target, null,
-                bigArrays, null, timeout, null, false, Version.CURRENT);
+                bigArrays, null, timeout, null, false, Version.CURRENT, null);
             contextWithoutScroll.from(300);
             contextWithoutScroll.close();
 
@@ -176,7 +193,7 @@ public class DefaultSearchContextTests extends OpenSearchTestCase {
             ReaderContext readerContext = new LegacyReaderContext(
                 newContextId(), indexService, indexShard, searcherSupplier.get(), shardSearchRequest, randomNonNegativeLong());
             DefaultSearchContext context1 = new DefaultSearchContext(readerContext, shardSearchRequest, target, null,
-                bigArrays, null, timeout, null, false, Version.CURRENT);
+                bigArrays, null, timeout, null, false, Version.CURRENT, null);
             context1.from(300);
             exception = expectThrows(IllegalArgumentException.class, () -> context1.preProcess(false));
             assertThat(exception.getMessage(), equalTo("Batch size is too large, size must be less than or equal to: ["
@@ -210,7 +227,7 @@ public class DefaultSearchContextTests extends OpenSearchTestCase {
                 newContextId(), indexService, indexShard, searcherSupplier.get(), randomNonNegativeLong(), false);
             // rescore is null but sliceBuilder is not null
             DefaultSearchContext context2 = new DefaultSearchContext(readerContext, shardSearchRequest, target,
-                null, bigArrays, null, timeout, null, false, Version.CURRENT);
+                null, bigArrays, null, timeout, null, false, Version.CURRENT, null);
 
             SliceBuilder sliceBuilder = mock(SliceBuilder.class);
             int numSlices = maxSlicesPerScroll + randomIntBetween(1, 100);
@@ -227,7 +244,7 @@ public class DefaultSearchContextTests extends OpenSearchTestCase {
             when(shardSearchRequest.indexBoost()).thenReturn(AbstractQueryBuilder.DEFAULT_BOOST);
 
             DefaultSearchContext context3 = new DefaultSearchContext(readerContext, shardSearchRequest, target, null,
-                bigArrays, null, timeout, null, false, Version.CURRENT);
+                bigArrays, null, timeout, null, false, Version.CURRENT, null);
             ParsedQuery parsedQuery = ParsedQuery.parsedMatchAllQuery();
             context3.sliceBuilder(null).parsedQuery(parsedQuery).preProcess(false);
             assertEquals(context3.query(), context3.buildFilteredQuery(parsedQuery.query()));
@@ -240,7 +257,7 @@ public class DefaultSearchContextTests extends OpenSearchTestCase {
             readerContext = new ReaderContext(newContextId(), indexService, indexShard,
                 searcherSupplier.get(), randomNonNegativeLong(), false);
             DefaultSearchContext context4 = new DefaultSearchContext(readerContext, shardSearchRequest, target, null, bigArrays, null,
-                timeout, null, false, Version.CURRENT);
+                timeout, null, false, Version.CURRENT, null);
             context4.sliceBuilder(new SliceBuilder(1,2)).parsedQuery(parsedQuery).preProcess(false);
             Query query1 = context4.query();
             context4.sliceBuilder(new SliceBuilder(0,2)).parsedQuery(parsedQuery).preProcess(false);
@@ -294,7 +311,7 @@ public class DefaultSearchContextTests extends OpenSearchTestCase {
                 newContextId(), indexService, indexShard, searcherSupplier, randomNonNegativeLong(), false);
 
             DefaultSearchContext context = new DefaultSearchContext(
-                readerContext, shardSearchRequest, target, null, bigArrays, null, timeout, null, false, Version.CURRENT);
+                readerContext, shardSearchRequest, target, null, bigArrays, null, timeout, null, false, Version.CURRENT, null);
             assertThat(context.searcher().hasCancellations(), is(false));
             context.searcher().addQueryCancellation(() -> {});
             assertThat(context.searcher().hasCancellations(), is(true));
@@ -307,6 +324,83 @@ public class DefaultSearchContextTests extends OpenSearchTestCase {
         }
     }
 
+    public void testConcurrentSegmentSearchTracksSliceResources() throws IOException {
+        TimeValue timeout = new TimeValue(randomIntBetween(1, 100));
+        ShardSearchRequest shardSearchRequest = mock(ShardSearchRequest.class);
+        when(shardSearchRequest.searchType()).thenReturn(SearchType.DEFAULT);
+        when(shardSearchRequest.concurrentSegmentSearch()).thenReturn(true);
+        ShardId shardId = new ShardId("index", UUID.randomUUID().toString(), 1);
+        when(shardSearchRequest.shardId()).thenReturn(shardId);
+
+        ThreadPool threadPool = new TestThreadPool(this.getClass().getName());
+        IndexShard indexShard = mock(IndexShard.class);
+        QueryCachingPolicy queryCachingPolicy = mock(QueryCachingPolicy.class);
+        when(indexShard.getQueryCachingPolicy()).thenReturn(queryCachingPolicy);
+        when(indexShard.getThreadPool()).thenReturn(threadPool);
+
+        IndexService indexService = mock(IndexService.class);
+        QueryShardContext queryShardContext = mock(QueryShardContext.class);
+        when(indexService.newQueryShardContext(eq(shardId.id()), anyObject(), anyObject(), anyString())).thenReturn(queryShardContext);
+
+        BigArrays bigArrays = new MockBigArrays(new MockPageCacheRecycler(Settings.EMPTY), new NoneCircuitBreakerService());
+        SearchShardTask task = new SearchShardTask(123L, "", "", "", null, Collections.emptyMap());
+        Set<String> trackingThreads = ConcurrentCollections.newConcurrentSet();
+        TaskManager taskManager = new TaskManager(Settings.EMPTY, threadPool, Collections.emptySet()) {
+            @Override
+            public Releasable startResourceTracking(Task trackedTask) {
+                assertSame(task, trackedTask);
+                trackingThreads.add(Thread.currentThread().getName());
+                return super.startResourceTracking(trackedTask);
+            }
+        };
+
+        // more segments than a single slice holds
+        int numSegments = randomIntBetween(6, 12);
+        try (Directory dir = newDirectory();
+             IndexWriter w = new IndexWriter(dir, newIndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE))) {
+            for (int i = 0; i < numSegments; i++) {
+                w.addDocument(new Document());
+                w.flush();
+            }
+            try (IndexReader reader = DirectoryReader.open(w);
+                 Engine.Searcher searcher = new Engine.Searcher("test", reader,
+                     IndexSearcher.getDefaultSimilarity(), IndexSearcher.getDefaultQueryCache(),
+                     IndexSearcher.getDefaultQueryCachingPolicy(), reader)) {
+
+                Engine.SearcherSupplier searcherSupplier = new Engine.SearcherSupplier(Function.identity()) {
+                    @Override
+                    protected void doClose() {
+
+                    }
+
+                    @Override
+                    protected Engine.Searcher acquireSearcherInternal(String source) {
+                        return searcher;
+                    }
+                };
+                SearchShardTarget target = new SearchShardTarget("node", shardId, null, OriginalIndices.NONE);
+                ReaderContext readerContext = new ReaderContext(
+                    newContextId(), indexService, indexShard, searcherSupplier, randomNonNegativeLong(), false);
+
+                DefaultSearchContext context = new DefaultSearchContext(
+                    readerContext, shardSearchRequest, target, null, bigArrays, null, timeout, null, false, Version.CURRENT, taskManager);
+                context.setTask(task);
+                assertTrue(context.searcher().isConcurrentSegmentSearchEnabled());
+                TopDocs topDocs = context.searcher().search(new MatchAllDocsQuery(),
+                    TopScoreDocCollector.createSharedManager(numSegments, null, Integer.MAX_VALUE));
+                assertEquals(numSegments, topDocs.totalHits.value);
+                context.close();
+            }
+            // all the slices but the last one are searched on the executor, on behalf of the task
+            assertThat(trackingThreads, not(empty()));
+            for (String thread : trackingThreads) {
+                assertThat(thread, containsString("[" + ThreadPool.Names.INDEX_SEARCHER + "]"));
+            }
+        } finally {
+            threadPool.shutdown();
+        }
+    }
+
     private ShardSearchContextId newContextId() {
         return new ShardSearchContextId(UUIDs.randomBase64UUID(), randomNonNegativeLong());
     }
@@ -69,6 +69,7 @@ import org.opensearch.index.query.MatchNoneQueryBuilder;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryRewriteContext;
 import org.opensearch.index.query.QueryShardContext;
+import org.opensearch.index.query.RangeQueryBuilder;
 import org.opensearch.index.query.TermQueryBuilder;
 import org.opensearch.index.search.stats.SearchStats;
 import org.opensearch.index.shard.IndexShard;
@@ -84,9 +85,13 @@ import org.opensearch.script.MockScriptPlugin;
 import org.opensearch.script.Script;
 import org.opensearch.script.ScriptType;
 import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.aggregations.Aggregator;
 import org.opensearch.search.aggregations.InternalAggregation;
 import org.opensearch.search.aggregations.MultiBucketConsumerService;
 import org.opensearch.search.aggregations.bucket.global.GlobalAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.histogram.DateHistogramAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.histogram.DateHistogramInterval;
+import org.opensearch.search.aggregations.bucket.histogram.LongBounds;
 import org.opensearch.search.aggregations.bucket.terms.TermsAggregationBuilder;
 import org.opensearch.search.aggregations.support.ValueType;
 import org.opensearch.search.builder.SearchSourceBuilder;
@@ -104,6 +109,7 @@ import org.opensearch.threadpool.ThreadPool;
 import org.junit.Before;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -773,6 +779,57 @@ public class SearchServiceTests extends OpenSearchSingleNodeTestCase {
         latch.await();
     }
 
+    public void testCanMatchShardGeneration() throws Exception {
+        createIndex("index", Settings.EMPTY, "_doc", "date", "type=date");
+        client().prepareIndex("index", "_doc").setSource("date", "2021-01-01").setRefreshPolicy(IMMEDIATE).get();
+        final SearchService service = getInstanceFromNode(SearchService.class);
+        final IndicesService indicesService = getInstanceFromNode(IndicesService.class);
+        final IndexShard indexShard = indicesService.indexServiceSafe(resolveIndex("index")).getShard(0);
+        final SearchRequest searchRequest = new SearchRequest().allowPartialSearchResults(true)
+            .source(new SearchSourceBuilder().size(0).query(new RangeQueryBuilder("date").gte("2020-01-01")));
+        final Function<SearchRequest, String> shardGeneration = request -> {
+            ShardSearchRequest shardRequest = new ShardSearchRequest(OriginalIndices.NONE, request, indexShard.shardId(), 1,
+                new AliasFilter(null, Strings.EMPTY_ARRAY), 1f, -1, null, null);
+            shardRequest.includeShardGeneration(true);
+            try {
+                return service.canMatch(shardRequest).shardGeneration();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+
+        final String generation = shardGeneration.apply(searchRequest);
+        assertNotNull(generation);
+        assertEquals(generation, shardGeneration.apply(searchRequest));
+        // not requested by the coordinating node
+        assertNull(service.canMatch(new ShardSearchRequest(OriginalIndices.NONE, searchRequest, indexShard.shardId(), 1,
+            new AliasFilter(null, Strings.EMPTY_ARRAY), 1f, -1, null, null)).shardGeneration());
+
+        // hits are only cached if explicitly requested
+        searchRequest.source().size(10);
+        assertNull(shardGeneration.apply(searchRequest));
+        searchRequest.requestCache(true);
+        assertEquals(generation, shardGeneration.apply(searchRequest));
+        searchRequest.requestCache(false).source().size(0);
+        assertNull(shardGeneration.apply(searchRequest));
+        searchRequest.requestCache(null);
+
+        // non deterministic queries and aggregations
+        searchRequest.source().query(new RangeQueryBuilder("date").gte("now-1d"));
+        assertNull(shardGeneration.apply(searchRequest));
+        searchRequest.source().query(null).aggregation(new DateHistogramAggregationBuilder("histo").field("date")
+            .calendarInterval(DateHistogramInterval.DAY).extendedBounds(new LongBounds("now-1d", "now")));
+        assertNull(shardGeneration.apply(searchRequest));
+        searchRequest.source(new SearchSourceBuilder().size(0));
+        assertEquals(generation, shardGeneration.apply(searchRequest));
+
+        // a refresh changes the generation
+        client().prepareIndex("index", "_doc").setSource("date", "2021-01-02").setRefreshPolicy(IMMEDIATE).get();
+        final String newGeneration = shardGeneration.apply(searchRequest);
+        assertNotNull(newGeneration);
+        assertNotEquals(generation, newGeneration);
+    }
+
     public void testCanRewriteToMatchNone() {
         assertFalse(SearchService.canRewriteToMatchNone(new SearchSourceBuilder().query(new MatchNoneQueryBuilder())
             .aggregation(new GlobalAggregationBuilder("test"))));
@@ -894,6 +951,73 @@ public class SearchServiceTests extends OpenSearchSingleNodeTestCase {
      * While we have no NPE in DefaultContext constructor anymore, we still want to guard against it (or other failures) in the future to
      * avoid leaking searchers.
      */
+    public void testConcurrentSegmentSearch() throws IOException {
+        final boolean indexEnabled = randomBoolean();
+        IndexService indexService = createIndex("index", Settings.builder()
+            .put(IndexSettings.INDEX_CONCURRENT_SEGMENT_SEARCH_SETTING.getKey(), indexEnabled)
+            .build());
+        final int numSegments = randomIntBetween(2, 10);
+        for (int i = 0; i < numSegments; i++) {
+            for (int j = 0; j < 10; j++) {
+                client().prepareIndex("index", "_doc").setSource("field", "value" + j % 3, "number", j).get();
+            }
+            client().admin().indices().prepareRefresh("index").get();
+        }
+
+        final SearchService service = getInstanceFromNode(SearchService.class);
+        final Boolean requested = randomFrom(true, false, null);
+        SearchRequest searchRequest = new SearchRequest().allowPartialSearchResults(true).concurrentSegmentSearch(requested);
+        ShardSearchRequest request = new ShardSearchRequest(OriginalIndices.NONE, searchRequest, new ShardId(indexService.index(), 0),
+            indexService.numberOfShards(), AliasFilter.EMPTY, 1f, System.currentTimeMillis(), null, Strings.EMPTY_ARRAY);
+        try (DefaultSearchContext searchContext = service.createSearchContext(request, new TimeValue(System.currentTimeMillis()))) {
+            final boolean expected = requested != null ? requested : indexEnabled;
+            assertEquals(expected, searchContext.searcher().isConcurrentSegmentSearchEnabled());
+        }
+
+        final SearchSourceBuilder source = new SearchSourceBuilder()
+            .aggregation(AggregationBuilders.terms("terms").field("field.keyword")
+                .subAggregation(AggregationBuilders.sum("sum").field("number")))
+            .aggregation(AggregationBuilders.max("max").field("number"));
+        final SearchResponse sequential = client().prepareSearch("index").setSource(source)
+            .setConcurrentSegmentSearch(false).get();
+        final SearchResponse concurrent = client().prepareSearch("index").setSource(source)
+            .setConcurrentSegmentSearch(true).get();
+        assertEquals(sequential.getHits().getTotalHits(), concurrent.getHits().getTotalHits());
+        assertEquals(numSegments * 10, concurrent.getHits().getTotalHits().value);
+        assertEquals(sequential.getAggregations().asMap(), concurrent.getAggregations().asMap());
+    }
+
+    public void testConcurrentSegmentSearchMergesSliceAggregations() {
+        createIndex("index");
+        final int numSegments = randomIntBetween(6, 12);
+        for (int i = 0; i < numSegments; i++) {
+            for (int j = 0; j < 10; j++) {
+                client().prepareIndex("index", "_doc").setSource("field", "value" + (i + j) % 7, "number", i * j).get();
+            }
+            client().admin().indices().prepareRefresh("index").get();
+        }
+
+        // a small shard_size prunes the terms once the slices are merged, like a sequential search
+        // deferred sub-aggregations can't be merged so the terms are collected depth first
+        final SearchSourceBuilder source = new SearchSourceBuilder()
+            .aggregation(AggregationBuilders.terms("terms").field("field.keyword").size(2).shardSize(2)
+                .collectMode(Aggregator.SubAggCollectionMode.DEPTH_FIRST)
+                .subAggregation(AggregationBuilders.terms("numbers").field("number").size(3).shardSize(3)))
+            .aggregation(AggregationBuilders.histogram("histogram").field("number").interval(5)
+                .subAggregation(AggregationBuilders.stats("stats").field("number"))
+                .subAggregation(AggregationBuilders.avg("avg").field("number")))
+            .aggregation(AggregationBuilders.range("range").field("number").addUnboundedTo(10).addRange(10, 50).addUnboundedFrom(50)
+                .subAggregation(AggregationBuilders.min("min").field("number")))
+            .aggregation(AggregationBuilders.filter("filter", new TermQueryBuilder("field.keyword", "value1"))
+                .subAggregation(AggregationBuilders.count("count").field("number")));
+        final SearchResponse sequential = client().prepareSearch("index").setSource(source)
+            .setConcurrentSegmentSearch(false).get();
+        final SearchResponse concurrent = client().prepareSearch("index").setSource(source)
+            .setConcurrentSegmentSearch(true).get();
+        assertEquals(numSegments * 10, concurrent.getHits().getTotalHits().value);
+        assertEquals(sequential.getAggregations().asMap(), concurrent.getAggregations().asMap());
+    }
+
     public void testCreateSearchContextFailure() throws Exception {
         final String index = randomAlphaOfLengthBetween(5, 10).toLowerCase(Locale.ROOT);
         final IndexService indexService = createIndex(index);
@@ -34,6 +34,7 @@ package org.opensearch.search.aggregations.bucket.terms;
 
 import org.apache.lucene.util.BytesRef;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.LongArray;
 import org.opensearch.common.util.MockBigArrays;
 import org.opensearch.common.util.MockPageCacheRecycler;
 import org.opensearch.indices.breaker.NoneCircuitBreakerService;
@@ -183,6 +184,43 @@ public class BytesKeyedBucketOrdsTests extends OpenSearchTestCase {
         }
     }
 
+    public void testMergeFromSingleBucket() {
+        try (
+            BytesKeyedBucketOrds ords = BytesKeyedBucketOrds.build(bigArrays, CardinalityUpperBound.ONE);
+            BytesKeyedBucketOrds other = BytesKeyedBucketOrds.build(bigArrays, CardinalityUpperBound.ONE)
+        ) {
+            assertThat(ords.add(0, SHIP_1), equalTo(0L));
+            assertThat(other.add(0, SHIP_2), equalTo(0L));
+            assertThat(other.add(0, SHIP_1), equalTo(1L));
+            try (LongArray ordMap = ords.merge(other, owningBucketOrd -> owningBucketOrd, bigArrays)) {
+                assertThat(ordMap.get(0), equalTo(1L));
+                assertThat(ordMap.get(1), equalTo(0L));
+            }
+            assertThat(ords.size(), equalTo(2L));
+            assertThat(ords.add(0, SHIP_2), equalTo(-2L));
+        }
+    }
+
+    public void testMergeFromManyBuckets() {
+        try (
+            BytesKeyedBucketOrds ords = BytesKeyedBucketOrds.build(bigArrays, CardinalityUpperBound.MANY);
+            BytesKeyedBucketOrds other = BytesKeyedBucketOrds.build(bigArrays, CardinalityUpperBound.MANY)
+        ) {
+            assertThat(ords.add(1, SHIP_1), equalTo(0L));
+            assertThat(other.add(0, SHIP_1), equalTo(0L));
+            assertThat(other.add(1, SHIP_2), equalTo(1L));
+            assertThat(other.add(2, SHIP_1), equalTo(2L));
+            try (LongArray ordMap = ords.merge(other, owningBucketOrd -> owningBucketOrd == 2 ? -1 : owningBucketOrd + 1, bigArrays)) {
+                assertThat(ordMap.get(0), equalTo(0L));
+                assertThat(ordMap.get(1), equalTo(1L));
+                assertThat(ordMap.get(2), equalTo(-1L));
+            }
+            assertThat(ords.size(), equalTo(2L));
+            assertThat(ords.add(2, SHIP_2), equalTo(-2L));
+            assertThat(ords.bucketsInOrd(3), equalTo(0L));
+        }
+    }
+
     private class OwningBucketOrdAndValue {
         private final long owningBucketOrd;
         private final BytesRef value;
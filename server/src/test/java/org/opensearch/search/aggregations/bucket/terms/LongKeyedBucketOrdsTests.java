@@ -33,6 +33,7 @@
 package org.opensearch.search.aggregations.bucket.terms;
 
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.LongArray;
 import org.opensearch.common.util.MockBigArrays;
 import org.opensearch.common.util.MockPageCacheRecycler;
 import org.opensearch.indices.breaker.NoneCircuitBreakerService;
@@ -188,6 +189,52 @@ public class LongKeyedBucketOrdsTests extends OpenSearchTestCase {
         }
     }
 
+    public void testMergeFromSingleBucket() {
+        try (
+            LongKeyedBucketOrds ords = LongKeyedBucketOrds.build(bigArrays, CardinalityUpperBound.ONE);
+            LongKeyedBucketOrds other = LongKeyedBucketOrds.build(bigArrays, CardinalityUpperBound.ONE)
+        ) {
+            assertThat(ords.add(0, 10), equalTo(0L));
+            assertThat(ords.add(0, 20), equalTo(1L));
+            assertThat(other.add(0, 20), equalTo(0L));
+            assertThat(other.add(0, 30), equalTo(1L));
+            try (LongArray ordMap = ords.merge(other, owningBucketOrd -> owningBucketOrd, bigArrays)) {
+                assertThat(ordMap.get(0), equalTo(1L));
+                assertThat(ordMap.get(1), equalTo(2L));
+            }
+            assertThat(ords.size(), equalTo(3L));
+            assertThat(ords.find(0, 30), equalTo(2L));
+            assertThat(other.owningBucketOrd(1), equalTo(0L));
+        }
+    }
+
+    public void testMergeFromManyBuckets() {
+        try (
+            LongKeyedBucketOrds ords = LongKeyedBucketOrds.build(bigArrays, CardinalityUpperBound.MANY);
+            LongKeyedBucketOrds other = LongKeyedBucketOrds.build(bigArrays, CardinalityUpperBound.MANY)
+        ) {
+            int maxOwningBucketOrd = between(1, 10);
+            for (int i = 0; i < scaledRandomIntBetween(1, 1000); i++) {
+                ords.add(between(0, maxOwningBucketOrd), between(0, 100));
+            }
+            for (int i = 0; i < scaledRandomIntBetween(1, 1000); i++) {
+                other.add(between(0, maxOwningBucketOrd), between(0, 100));
+            }
+            long skipped = randomLongBetween(0, maxOwningBucketOrd);
+            try (LongArray ordMap = ords.merge(other, o -> o == skipped ? -1 : o + 1, bigArrays)) {
+                for (long ord = 0; ord < other.size(); ord++) {
+                    long owningBucketOrd = other.owningBucketOrd(ord);
+                    if (owningBucketOrd == skipped) {
+                        assertThat(ordMap.get(ord), equalTo(-1L));
+                    } else {
+                        assertThat(ordMap.get(ord), equalTo(ords.find(owningBucketOrd + 1, other.get(ord))));
+                        assertThat(ords.owningBucketOrd(ordMap.get(ord)), equalTo(owningBucketOrd + 1));
+                    }
+                }
+            }
+        }
+    }
+
     private class OwningBucketOrdAndValue {
         private final long owningBucketOrd;
         private final long value;
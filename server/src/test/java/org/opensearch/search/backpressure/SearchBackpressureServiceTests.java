@@ -0,0 +1,205 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.backpressure;
+
+import org.opensearch.action.search.SearchShardTask;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.tasks.CancellableTask;
+import org.opensearch.tasks.Task;
+import org.opensearch.tasks.TaskId;
+import org.opensearch.tasks.TaskManager;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportRequest;
+import org.junit.After;
+import org.junit.Before;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+
+public class SearchBackpressureServiceTests extends OpenSearchTestCase {
+
+    private ThreadPool threadPool;
+    private TaskManager taskManager;
+
+    @Before
+    public void setUpThreadPool() {
+        threadPool = new TestThreadPool(getTestName());
+        taskManager = new TaskManager(Settings.EMPTY, threadPool, Collections.emptySet());
+    }
+
+    @After
+    public void tearDownThreadPool() {
+        terminate(threadPool);
+    }
+
+    public void testCancelsHeaviestSearchShardTasks() {
+        assumeTrue("thread cpu time is not supported", taskManager.isResourceTrackingEnabled());
+        final Settings settings = Settings.builder()
+            .put(SearchBackpressureService.MODE_SETTING.getKey(), "enforced")
+            .put(SearchBackpressureService.NUM_SUCCESSIVE_BREACHES_SETTING.getKey(), 2)
+            .put(SearchBackpressureService.TASK_CPU_TIME_THRESHOLD_SETTING.getKey(), "1ms")
+            .put(SearchBackpressureService.TASK_HEAP_THRESHOLD_SETTING.getKey(), "1tb")
+            .build();
+        final ClusterSettings clusterSettings = new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS);
+        final double[] heapUsage = new double[] { 0.5 };
+        final SearchBackpressureService service =
+            new SearchBackpressureService(settings, clusterSettings, threadPool, taskManager, () -> heapUsage[0], () -> -1);
+
+        final CancellableTask light = registerTask(true);
+        final CancellableTask heavy = registerTask(true);
+        final CancellableTask heaviest = registerTask(true);
+        final CancellableTask notSearchShard = registerTask(false);
+        burnCpu(heavy, TimeUnit.MILLISECONDS.toNanos(2));
+        burnCpu(heaviest, TimeUnit.MILLISECONDS.toNanos(50));
+        burnCpu(notSearchShard, TimeUnit.MILLISECONDS.toNanos(100));
+
+        // the node is not in duress
+        service.doRun();
+        service.doRun();
+        assertFalse(service.stats().isInDuress());
+        assertThat(service.stats().getCancellationCount(), equalTo(0L));
+
+        // the node needs to be in duress for two successive checks
+        heapUsage[0] = 0.9;
+        service.doRun();
+        assertFalse(service.stats().isInDuress());
+        assertFalse(heaviest.isCancelled());
+        service.doRun();
+        assertTrue(service.stats().isInDuress());
+        assertTrue(heaviest.isCancelled());
+        assertFalse(heavy.isCancelled());
+        assertThat(service.stats().getCancellationCount(), equalTo(1L));
+        assertThat(service.stats().getLimitReachedCount(), equalTo(1L));
+        assertThat(service.stats().getLastCancelledTaskUsage().getCpuTimeNanos(),
+            greaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50)));
+
+        // in monitor only mode, tasks are counted separately but not cancelled
+        clusterSettings.applySettings(withMode(settings, "monitor_only"));
+        service.doRun();
+        assertFalse(heavy.isCancelled());
+        assertThat(service.stats().getCancellationCount(), equalTo(1L));
+        assertThat(service.stats().getMonitorOnlyCancellationCount(), equalTo(1L));
+        assertThat(service.stats().getLimitReachedCount(), equalTo(1L));
+
+        clusterSettings.applySettings(withMode(settings, "enforced"));
+        service.doRun();
+        assertTrue(heavy.isCancelled());
+        assertFalse(light.isCancelled());
+        assertFalse(notSearchShard.isCancelled());
+        assertThat(service.stats().getCancellationCount(), equalTo(2L));
+        assertThat(service.stats().getMonitorOnlyCancellationCount(), equalTo(1L));
+
+        // once the node recovers, the tasks are left alone
+        heapUsage[0] = 0.5;
+        final CancellableTask another = registerTask(true);
+        burnCpu(another, TimeUnit.MILLISECONDS.toNanos(2));
+        service.doRun();
+        assertFalse(service.stats().isInDuress());
+        assertFalse(another.isCancelled());
+
+        heapUsage[0] = 0.9;
+        clusterSettings.applySettings(withMode(settings, "disabled"));
+        service.doRun();
+        service.doRun();
+        assertFalse(service.stats().isInDuress());
+        assertFalse(another.isCancelled());
+    }
+
+    public void testMonitorOnlyReportsEachTaskOnce() {
+        assumeTrue("thread cpu time is not supported", taskManager.isResourceTrackingEnabled());
+        final Settings settings = Settings.builder()
+            .put(SearchBackpressureService.MODE_SETTING.getKey(), "monitor_only")
+            .put(SearchBackpressureService.NUM_SUCCESSIVE_BREACHES_SETTING.getKey(), 1)
+            .put(SearchBackpressureService.TASK_CPU_TIME_THRESHOLD_SETTING.getKey(), "1ms")
+            .put(SearchBackpressureService.TASK_HEAP_THRESHOLD_SETTING.getKey(), "1tb")
+            .build();
+        final ClusterSettings clusterSettings = new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS);
+        final SearchBackpressureService service =
+            new SearchBackpressureService(settings, clusterSettings, threadPool, taskManager, () -> 0.9, () -> -1);
+
+        final CancellableTask heavy = registerTask(true);
+        final CancellableTask heaviest = registerTask(true);
+        burnCpu(heavy, TimeUnit.MILLISECONDS.toNanos(2));
+        burnCpu(heaviest, TimeUnit.MILLISECONDS.toNanos(50));
+
+        // one task is reported per check, the heaviest first, and the reported tasks are not reported again
+        service.doRun();
+        assertThat(service.stats().getMonitorOnlyCancellationCount(), equalTo(1L));
+        assertThat(service.stats().getLimitReachedCount(), equalTo(1L));
+        service.doRun();
+        assertThat(service.stats().getMonitorOnlyCancellationCount(), equalTo(2L));
+        assertThat(service.stats().getLimitReachedCount(), equalTo(1L));
+        final int numChecks = randomIntBetween(1, 10);
+        for (int i = 0; i < numChecks; i++) {
+            service.doRun();
+        }
+        assertThat(service.stats().getMonitorOnlyCancellationCount(), equalTo(2L));
+        assertThat(service.stats().getLimitReachedCount(), equalTo(1L));
+        // nothing was actually cancelled
+        assertThat(service.stats().getCancellationCount(), equalTo(0L));
+        assertNull(service.stats().getLastCancelledTaskUsage());
+        assertFalse(heavy.isCancelled());
+        assertFalse(heaviest.isCancelled());
+
+        // tasks registered later are reported too
+        final CancellableTask another = registerTask(true);
+        burnCpu(another, TimeUnit.MILLISECONDS.toNanos(2));
+        service.doRun();
+        service.doRun();
+        assertThat(service.stats().getMonitorOnlyCancellationCount(), equalTo(3L));
+
+        // the reported tasks are cancelled once enforced
+        clusterSettings.applySettings(withMode(settings, "enforced"));
+        service.doRun();
+        assertTrue(heaviest.isCancelled());
+        assertThat(service.stats().getCancellationCount(), equalTo(1L));
+        assertThat(service.stats().getMonitorOnlyCancellationCount(), equalTo(3L));
+        assertThat(service.stats().getLastCancelledTaskUsage().getCpuTimeNanos(),
+            greaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50)));
+    }
+
+    private static Settings withMode(Settings settings, String mode) {
+        return Settings.builder().put(settings).put(SearchBackpressureService.MODE_SETTING.getKey(), mode).build();
+    }
+
+    private CancellableTask registerTask(boolean searchShardTask) {
+        return (CancellableTask) taskManager.register("transport", "test", new TransportRequest() {
+            @Override
+            public Task createTask(long id, String type, String action, TaskId parentTaskId, Map<String, String> headers) {
+                if (searchShardTask) {
+                    return new SearchShardTask(id, type, action, "test", parentTaskId, headers);
+                }
+                return new CancellableTask(id, type, action, "test", parentTaskId, headers) {
+                    @Override
+                    public boolean shouldCancelChildrenOnCancellation() {
+                        return false;
+                    }
+                };
+            }
+        });
+    }
+
+    private void burnCpu(Task task, long cpuTimeNanos) {
+        try (Releasable ignored = taskManager.startResourceTracking(task)) {
+            long value = 0;
+            while (taskManager.getResourceUsage(task).getCpuTimeNanos() < cpuTimeNanos) {
+                value += randomLong();
+            }
+            logger.trace("burnt cpu: {}", value);
+        }
+    }
+}
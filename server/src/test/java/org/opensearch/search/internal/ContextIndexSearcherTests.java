@@ -81,14 +81,20 @@ import org.opensearch.index.IndexSettings;
 import org.opensearch.index.cache.bitset.BitsetFilterCache;
 import org.opensearch.index.shard.ShardId;
 import org.opensearch.search.aggregations.LeafBucketCollector;
+import org.opensearch.tasks.TaskCancelledException;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.test.IndexSettingsModule;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.opensearch.search.internal.ContextIndexSearcher.intersectScorerAndBitSet;
 import static org.opensearch.search.internal.ExitableDirectoryReader.ExitableLeafReader;
@@ -96,6 +102,7 @@ import static org.opensearch.search.internal.ExitableDirectoryReader.ExitablePoi
 import static org.opensearch.search.internal.ExitableDirectoryReader.ExitableTerms;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 
 public class ContextIndexSearcherTests extends OpenSearchTestCase {
     public void testIntersectScorerAndRoleBits() throws Exception {
@@ -290,6 +297,77 @@ public class ContextIndexSearcherTests extends OpenSearchTestCase {
         IOUtils.close(reader, w, dir);
     }
 
+    public void testSliceLeaves() throws IOException {
+        try (Directory dir = newDirectory();
+             IndexWriter w = new IndexWriter(dir, newIndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE))) {
+            final int numSegments = randomIntBetween(1, 20);
+            for (int i = 0; i < numSegments; i++) {
+                final int numDocs = randomIntBetween(1, 10);
+                for (int j = 0; j < numDocs; j++) {
+                    w.addDocument(new Document());
+                }
+                w.commit();
+            }
+            try (DirectoryReader reader = DirectoryReader.open(w)) {
+                final IndexSearcher.LeafSlice[] slices = ContextIndexSearcher.sliceLeaves(reader.leaves());
+                final List<LeafReaderContext> sliced = new ArrayList<>();
+                for (IndexSearcher.LeafSlice slice : slices) {
+                    assertThat(slice.leaves.length, lessThanOrEqualTo(ContextIndexSearcher.MAX_SEGMENTS_PER_SLICE));
+                    sliced.addAll(Arrays.asList(slice.leaves));
+                }
+                // the slices are made of contiguous leaves
+                assertEquals(reader.leaves(), sliced);
+                assertEquals((numSegments + ContextIndexSearcher.MAX_SEGMENTS_PER_SLICE - 1) / ContextIndexSearcher.MAX_SEGMENTS_PER_SLICE,
+                    slices.length);
+            }
+        }
+    }
+
+    public void testConcurrentSegmentSearch() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(randomIntBetween(1, 4));
+        try (Directory dir = newDirectory();
+             IndexWriter w = new IndexWriter(dir, newIndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE))) {
+            final int numSegments = randomIntBetween(2, 20);
+            for (int i = 0; i < numSegments; i++) {
+                final int numDocs = randomIntBetween(1, 20);
+                for (int j = 0; j < numDocs; j++) {
+                    Document doc = new Document();
+                    doc.add(new StringField("foo", randomFrom("bar", "baz"), Field.Store.NO));
+                    w.addDocument(doc);
+                }
+                w.commit();
+            }
+            try (DirectoryReader reader = DirectoryReader.open(w)) {
+                ContextIndexSearcher sequential = new ContextIndexSearcher(reader, IndexSearcher.getDefaultSimilarity(),
+                    IndexSearcher.getDefaultQueryCache(), IndexSearcher.getDefaultQueryCachingPolicy(), true);
+                ContextIndexSearcher concurrent = new ContextIndexSearcher(reader, IndexSearcher.getDefaultSimilarity(),
+                    IndexSearcher.getDefaultQueryCache(), IndexSearcher.getDefaultQueryCachingPolicy(), true, executor);
+                assertFalse(sequential.isConcurrentSegmentSearchEnabled());
+                assertTrue(concurrent.isConcurrentSegmentSearchEnabled());
+
+                for (Query query : new Query[] { new MatchAllDocsQuery(), new TermQuery(new Term("foo", "bar")) }) {
+                    assertEquals(sequential.count(query), concurrent.count(query));
+                    final int numHits = randomIntBetween(1, 50);
+                    final TopDocs expected = sequential.search(query, numHits);
+                    final TopDocs actual = concurrent.search(query, numHits);
+                    assertEquals(expected.totalHits.value, actual.totalHits.value);
+                    assertEquals(expected.scoreDocs.length, actual.scoreDocs.length);
+                    for (int i = 0; i < expected.scoreDocs.length; i++) {
+                        assertEquals(expected.scoreDocs[i].doc, actual.scoreDocs[i].doc);
+                    }
+                }
+
+                // failures are rethrown unwrapped
+                concurrent.addQueryCancellation(() -> {
+                    throw new TaskCancelledException("cancelled");
+                });
+                expectThrows(TaskCancelledException.class, () -> concurrent.search(new MatchAllDocsQuery(), 10));
+            }
+        } finally {
+            terminate(executor);
+        }
+    }
+
     private SparseFixedBitSet query(LeafReaderContext leaf, String field, String value) throws IOException {
         SparseFixedBitSet sparseFixedBitSet = new SparseFixedBitSet(leaf.reader().maxDoc());
         TermsEnum tenum = leaf.reader().terms(field).iterator();
@@ -102,12 +102,16 @@ import org.opensearch.index.search.OpenSearchToParentBlockJoinQuery;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.shard.IndexShardTestCase;
 import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.SearchSortValuesAndFormats;
+import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.internal.ContextIndexSearcher;
 import org.opensearch.search.internal.ScrollContext;
 import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.internal.ShardSearchRequest;
 import org.opensearch.search.sort.SortAndFormats;
 import org.opensearch.tasks.TaskCancelledException;
 import org.opensearch.test.TestSearchContext;
+import org.opensearch.threadpool.ThreadPool;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -789,6 +793,78 @@ public class QueryPhaseTests extends IndexShardTestCase {
         dir.close();
     }
 
+    public void testCompetitiveSegmentsSkipping() throws Exception {
+        final String fieldName = "long-field";
+        final MappedFieldType fieldType = new NumberFieldMapper.NumberFieldType(fieldName, NumberFieldMapper.NumberType.LONG);
+        final int numSegments = randomIntBetween(3, 6);
+        Directory dir = newDirectory();
+        IndexWriter writer = new IndexWriter(dir, new IndexWriterConfig(null).setMergePolicy(NoMergePolicy.INSTANCE));
+        for (int i = 0; i < numSegments; i++) {
+            for (long value = i * 100; value < (i + 1) * 100; value++) {
+                Document doc = new Document();
+                doc.add(new LongPoint(fieldName, value));
+                doc.add(new NumericDocValuesField(fieldName, value));
+                writer.addDocument(doc);
+            }
+            writer.flush();
+        }
+        writer.close();
+        final IndexReader reader = DirectoryReader.open(dir);
+        final IndexSearcher searcher = newSearcher(reader);
+
+        MapperService mapperService = mock(MapperService.class);
+        when(mapperService.fieldType(fieldName)).thenReturn(fieldType);
+        QueryShardContext queryShardContext = mock(QueryShardContext.class);
+        when(queryShardContext.fieldMapper(fieldName)).thenReturn(fieldType);
+        ShardSearchRequest request = mock(ShardSearchRequest.class);
+        when(request.source()).thenReturn(new SearchSourceBuilder().sort(fieldName));
+        TestSearchContext searchContext = spy(new TestSearchContext(null, indexShard, newContextSearcher(reader)));
+        when(searchContext.mapperService()).thenReturn(mapperService);
+        when(searchContext.getQueryShardContext()).thenReturn(queryShardContext);
+        when(searchContext.request()).thenReturn(request);
+        final SortField sortField = new SortField(fieldName, SortField.Type.LONG);
+        sortField.setMissingValue(Long.MAX_VALUE);
+        searchContext.sort(new SortAndFormats(new Sort(sortField), new DocValueFormat[] { DocValueFormat.RAW }));
+        searchContext.parsedQuery(new ParsedQuery(new MatchAllDocsQuery()));
+        searchContext.setTask(new SearchShardTask(123L, "", "", "", null, Collections.emptyMap()));
+        searchContext.setSize(10);
+        searchContext.trackTotalHitsUpTo(SearchContext.TRACK_TOTAL_HITS_DISABLED);
+
+        // the segments whose values are all greater than the bottom value of the other shards are skipped
+        when(request.getBottomSortValues())
+            .thenReturn(new SearchSortValuesAndFormats(new Object[] { 150L }, new DocValueFormat[] { DocValueFormat.RAW }));
+        assertThat(searcher.count(QueryPhase.buildCompetitiveSegmentsQuery(searchContext)), equalTo(200));
+        QueryPhase.executeInternal(searchContext);
+        ScoreDoc[] scoreDocs = searchContext.queryResult().topDocs().topDocs.scoreDocs;
+        assertThat(scoreDocs.length, equalTo(10));
+        for (int i = 0; i < scoreDocs.length; i++) {
+            assertThat(((FieldDoc) scoreDocs[i]).fields[0], equalTo((long) i));
+        }
+
+        // a bottom value that stands for missing values does not skip the segments with missing values
+        when(request.getBottomSortValues())
+            .thenReturn(new SearchSortValuesAndFormats(new Object[] { Long.MAX_VALUE }, new DocValueFormat[] { DocValueFormat.RAW }));
+        assertNull(QueryPhase.buildCompetitiveSegmentsQuery(searchContext));
+
+        // the segments whose values are all lower than the search_after value are skipped
+        when(request.getBottomSortValues()).thenReturn(null);
+        when(searchContext.searchAfter()).thenReturn(new FieldDoc(Integer.MAX_VALUE, Float.NaN, new Object[] { 250L }));
+        assertThat(searcher.count(QueryPhase.buildCompetitiveSegmentsQuery(searchContext)), equalTo((numSegments - 2) * 100));
+        QueryPhase.executeInternal(searchContext);
+        scoreDocs = searchContext.queryResult().topDocs().topDocs.scoreDocs;
+        assertThat(scoreDocs.length, equalTo(10));
+        for (int i = 0; i < scoreDocs.length; i++) {
+            assertThat(((FieldDoc) scoreDocs[i]).fields[0], equalTo(251L + i));
+        }
+
+        // skipping segments changes the number of hits
+        searchContext.trackTotalHitsUpTo(SearchContext.DEFAULT_TRACK_TOTAL_HITS_UP_TO);
+        assertNull(QueryPhase.buildCompetitiveSegmentsQuery(searchContext));
+
+        reader.close();
+        dir.close();
+    }
+
     public void testIndexHasDuplicateData() throws IOException {
         int docsCount = 5000;
         int maxPointsInLeafNode = 40;
@@ -952,6 +1028,81 @@ public class QueryPhaseTests extends IndexShardTestCase {
         dir.close();
     }
 
+    public void testConcurrentSegmentSearch() throws Exception {
+        Directory dir = newDirectory();
+        IndexWriterConfig iwc = newIndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE);
+        RandomIndexWriter w = new RandomIndexWriter(random(), dir, iwc);
+        final int numDocs = scaledRandomIntBetween(100, 500);
+        for (int i = 0; i < numDocs; ++i) {
+            Document doc = new Document();
+            doc.add(new StringField("foo", randomFrom("bar", "baz"), Store.NO));
+            doc.add(new TextField("text", randomFrom("quick brown fox", "lazy dog", "quick dog"), Store.NO));
+            doc.add(new NumericDocValuesField("rank", randomIntBetween(0, 100)));
+            w.addDocument(doc);
+            if (rarely()) {
+                w.commit();
+            }
+        }
+        w.close();
+
+        try (IndexReader reader = DirectoryReader.open(dir)) {
+            final Query[] queries = new Query[] {
+                new MatchAllDocsQuery(),
+                new TermQuery(new Term("foo", "bar")),
+                new TermQuery(new Term("text", "quick")),
+                new BooleanQuery.Builder()
+                    .add(new TermQuery(new Term("text", "dog")), Occur.SHOULD)
+                    .add(new TermQuery(new Term("foo", "baz")), Occur.SHOULD)
+                    .build() };
+            for (Query query : queries) {
+                final int size = randomIntBetween(0, 20);
+                final int trackTotalHitsUpTo = randomFrom(SearchContext.TRACK_TOTAL_HITS_ACCURATE,
+                    SearchContext.TRACK_TOTAL_HITS_DISABLED, numDocs * 2);
+                final SortAndFormats sort = randomBoolean() ? null : new SortAndFormats(
+                    new Sort(new SortField("rank", SortField.Type.INT), SortField.FIELD_DOC),
+                    new DocValueFormat[] { DocValueFormat.RAW, DocValueFormat.RAW });
+                final boolean postFilter = randomBoolean();
+
+                TestSearchContext sequential = newConcurrentSegmentSearchContext(newContextSearcher(reader), query, size,
+                    trackTotalHitsUpTo, sort, postFilter);
+                QueryPhase.executeInternal(sequential);
+                TestSearchContext concurrent = newConcurrentSegmentSearchContext(newConcurrentContextSearcher(reader), query, size,
+                    trackTotalHitsUpTo, sort, postFilter);
+                assertTrue(concurrent.shouldUseConcurrentSearch());
+                QueryPhase.executeInternal(concurrent);
+
+                final TopDocs expected = sequential.queryResult().topDocs().topDocs;
+                final TopDocs actual = concurrent.queryResult().topDocs().topDocs;
+                assertEquals(expected.totalHits, actual.totalHits);
+                assertEquals(expected.scoreDocs.length, actual.scoreDocs.length);
+                for (int i = 0; i < expected.scoreDocs.length; i++) {
+                    assertEquals(expected.scoreDocs[i].doc, actual.scoreDocs[i].doc);
+                    assertEquals(expected.scoreDocs[i].score, actual.scoreDocs[i].score, 0f);
+                    assertEquals(-1, actual.scoreDocs[i].shardIndex);
+                }
+                assertEquals(sequential.queryResult().getMaxScore(), concurrent.queryResult().getMaxScore(), 0f);
+            }
+        }
+        dir.close();
+    }
+
+    private TestSearchContext newConcurrentSegmentSearchContext(ContextIndexSearcher searcher, Query query, int size,
+                                                                int trackTotalHitsUpTo, SortAndFormats sort, boolean postFilter) {
+        TestSearchContext context = new TestSearchContext(null, indexShard, searcher);
+        context.setTask(new SearchShardTask(123L, "", "", "", null, Collections.emptyMap()));
+        context.parsedQuery(new ParsedQuery(query));
+        context.setSize(size);
+        context.trackTotalHitsUpTo(trackTotalHitsUpTo);
+        if (sort != null) {
+            context.sort(sort);
+            context.trackScores(true);
+        }
+        if (postFilter) {
+            context.parsedPostFilter(new ParsedQuery(new TermQuery(new Term("foo", "bar"))));
+        }
+        return context;
+    }
+
     public void testCancellationDuringPreprocess() throws IOException {
         try (Directory dir = newDirectory();
              RandomIndexWriter w = new RandomIndexWriter(random(), dir, newIndexWriterConfig())) {
@@ -1010,6 +1161,12 @@ public class QueryPhaseTests extends IndexShardTestCase {
             IndexSearcher.getDefaultQueryCache(), IndexSearcher.getDefaultQueryCachingPolicy(), true);
     }
 
+    private ContextIndexSearcher newConcurrentContextSearcher(IndexReader reader) throws IOException {
+        return new ContextIndexSearcher(reader, IndexSearcher.getDefaultSimilarity(),
+            IndexSearcher.getDefaultQueryCache(), IndexSearcher.getDefaultQueryCachingPolicy(), true,
+            indexShard.getThreadPool().executor(ThreadPool.Names.INDEX_SEARCHER));
+    }
+
     private static ContextIndexSearcher newEarlyTerminationContextSearcher(IndexReader reader, int size) throws IOException {
         return new ContextIndexSearcher(reader, IndexSearcher.getDefaultSimilarity(),
             IndexSearcher.getDefaultQueryCache(), IndexSearcher.getDefaultQueryCachingPolicy(), true) {
@@ -43,6 +43,9 @@ import org.apache.lucene.document.LongPoint;
 import org.apache.lucene.document.SortedNumericDocValuesField;
 import org.apache.lucene.document.TextField;
 import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.NoMergePolicy;
 import org.apache.lucene.index.RandomIndexWriter;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.search.AssertingIndexSearcher;
@@ -86,6 +89,7 @@ import java.util.Locale;
 import static org.opensearch.search.sort.FieldSortBuilder.getMinMaxOrNull;
 import static org.opensearch.search.sort.FieldSortBuilder.getPrimaryFieldSortOrNull;
 import static org.opensearch.search.sort.NestedSortBuilderTests.createRandomNestedSort;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.instanceOf;
 
 public class FieldSortBuilderTests extends AbstractSortTestCase<FieldSortBuilder> {
@@ -654,6 +658,75 @@ public class FieldSortBuilderTests extends AbstractSortTestCase<FieldSortBuilder
         }
     }
 
+    public void testCompetitiveSegmentsQuery() throws Exception {
+        final String fieldName = randomBoolean() ? "custom-long" : "custom-date";
+        try (Directory dir = newDirectory()) {
+            int numSegments = randomIntBetween(2, 6);
+            long[] minValues = new long[numSegments];
+            long[] maxValues = new long[numSegments];
+            int[] numDocs = new int[numSegments];
+            int numDocsWithoutValue = randomIntBetween(1, 5);
+            try (IndexWriter writer = new IndexWriter(dir, new IndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE))) {
+                for (int i = 0; i < numSegments; i++) {
+                    numDocs[i] = randomIntBetween(1, 20);
+                    minValues[i] = Long.MAX_VALUE;
+                    maxValues[i] = Long.MIN_VALUE;
+                    for (int j = 0; j < numDocs[i]; j++) {
+                        long value = randomLongBetween(i * 100, i * 100 + 99);
+                        Document doc = new Document();
+                        doc.add(new LongPoint(fieldName, value));
+                        doc.add(new SortedNumericDocValuesField(fieldName, value));
+                        writer.addDocument(doc);
+                        minValues[i] = Math.min(minValues[i], value);
+                        maxValues[i] = Math.max(maxValues[i], value);
+                    }
+                    writer.flush();
+                }
+                for (int i = 0; i < numDocsWithoutValue; i++) {
+                    writer.addDocument(new Document());
+                }
+                writer.flush();
+            }
+            try (DirectoryReader reader = DirectoryReader.open(dir)) {
+                assertThat(reader.leaves().size(), equalTo(numSegments + 1));
+                IndexSearcher searcher = new IndexSearcher(reader);
+                QueryShardContext context = createMockShardContext(searcher);
+                long value = randomLongBetween(-10, numSegments * 100 + 10);
+                SearchSortValuesAndFormats sortValues =
+                    new SearchSortValuesAndFormats(new Object[] { value }, new DocValueFormat[] { DocValueFormat.RAW });
+                FieldSortBuilder fieldSort = SortBuilders.fieldSort(fieldName);
+                assertNull(fieldSort.buildBottomSortSegmentsQuery(context, null));
+
+                int expectedAscBottom = 0;
+                int expectedDescBottom = 0;
+                for (int i = 0; i < numSegments; i++) {
+                    expectedAscBottom += minValues[i] <= value ? numDocs[i] : 0;
+                    expectedDescBottom += maxValues[i] >= value ? numDocs[i] : 0;
+                }
+                assertThat(searcher.count(fieldSort.buildBottomSortSegmentsQuery(context, sortValues)), equalTo(expectedAscBottom));
+                // documents without value sort after any search_after value
+                assertThat(searcher.count(fieldSort.buildSearchAfterSegmentsQuery(context, sortValues)),
+                    equalTo(expectedDescBottom + numDocsWithoutValue));
+                fieldSort.order(SortOrder.DESC);
+                assertThat(searcher.count(fieldSort.buildBottomSortSegmentsQuery(context, sortValues)), equalTo(expectedDescBottom));
+                assertThat(searcher.count(fieldSort.buildSearchAfterSegmentsQuery(context, sortValues)),
+                    equalTo(expectedAscBottom + numDocsWithoutValue));
+
+                fieldSort.sortMode(SortMode.MAX);
+                assertNotNull(fieldSort.buildBottomSortSegmentsQuery(context, sortValues));
+                fieldSort.sortMode(SortMode.AVG);
+                assertNull(fieldSort.buildBottomSortSegmentsQuery(context, sortValues));
+                fieldSort.sortMode(SortMode.MIN);
+                fieldSort.setNestedSort(new NestedSortBuilder("empty"));
+                assertNull(fieldSort.buildBottomSortSegmentsQuery(context, sortValues));
+                fieldSort.setNestedSort(null);
+                fieldSort.missing("100");
+                assertNull(fieldSort.buildSearchAfterSegmentsQuery(context, sortValues));
+                assertNull(SortBuilders.fieldSort("custom-keyword").buildBottomSortSegmentsQuery(context, sortValues));
+            }
+        }
+    }
+
     @Override
     protected void assertWarnings(FieldSortBuilder testItem) {
         List<String> expectedWarnings = new ArrayList<>();
@@ -62,6 +62,8 @@ import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.in;
 import static org.mockito.Mockito.mock;
 
@@ -182,6 +184,40 @@ public class TaskManagerTests extends OpenSearchTestCase {
         assertThat(taskManager.numberOfChannelPendingTaskTrackers(), equalTo(0));
     }
 
+    public void testResourceTracking() throws Exception {
+        final TaskManager taskManager = new TaskManager(Settings.EMPTY, threadPool, Collections.emptySet());
+        assumeTrue("thread cpu time is not supported", taskManager.isResourceTrackingEnabled());
+        final Task task = taskManager.register("transport", "test", new CancellableRequest("1"));
+        assertThat(taskManager.getResourceUsage(task), equalTo(TaskResourceUsage.EMPTY));
+
+        final List<byte[]> allocations = new ArrayList<>();
+        try (Releasable ignored = taskManager.startResourceTracking(task)) {
+            // the usage of a thread that is still working on the task is visible to other threads
+            final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            do {
+                allocations.add(new byte[1024]);
+            } while (taskManager.getResourceUsage(task).getCpuTimeNanos() == 0 && System.nanoTime() < deadline);
+            assertThat(taskManager.getResourceUsage(task).getCpuTimeNanos(), greaterThan(0L));
+        }
+        final TaskResourceUsage usage = taskManager.getResourceUsage(task);
+        assertThat(usage.getCpuTimeNanos(), greaterThan(0L));
+        assertThat(allocations.size(), greaterThan(0));
+        assertThat(usage.getAllocatedBytes(), greaterThanOrEqualTo(1024L * allocations.size()));
+
+        // the work that the thread does once it is done with the task is not accounted for
+        for (int i = 0; i < 1000; i++) {
+            allocations.add(new byte[1024]);
+        }
+        assertThat(taskManager.getResourceUsage(task), equalTo(usage));
+
+        taskManager.setResourceTrackingEnabled(false);
+        try (Releasable ignored = taskManager.startResourceTracking(task)) {
+            allocations.add(new byte[1024]);
+        }
+        assertThat(taskManager.getResourceUsage(task), equalTo(usage));
+        taskManager.unregister(task);
+    }
+
     static class CancellableRequest extends TransportRequest {
         private final String requestId;
 
@@ -34,7 +34,11 @@ package org.opensearch.transport;
 
 import org.opensearch.LegacyESVersion;
 import org.opensearch.Version;
+import org.opensearch.common.breaker.CircuitBreaker;
+import org.opensearch.common.breaker.CircuitBreakingException;
+import org.opensearch.common.breaker.NoopCircuitBreaker;
 import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.bytes.CompositeBytesReference;
 import org.opensearch.common.bytes.ReleasableBytesReference;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.settings.Settings;
@@ -46,6 +50,7 @@ import org.opensearch.test.VersionUtils;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.hamcrest.Matchers.hasItems;
 
@@ -192,6 +197,7 @@ public class InboundDecoderTests extends OpenSearchTestCase {
         boolean isRequest = randomBoolean();
         String action = "test-request";
         long requestId = randomNonNegativeLong();
+        final Compression.Scheme compressionScheme = randomFrom(Compression.Scheme.DEFLATE, Compression.Scheme.LZ4);
         final String headerKey = randomAlphaOfLength(10);
         final String headerValue = randomAlphaOfLength(20);
         if (isRequest) {
@@ -204,11 +210,11 @@ public class InboundDecoderTests extends OpenSearchTestCase {
         if (isRequest) {
             transportMessage = new TestRequest(randomAlphaOfLength(100));
             message = new OutboundMessage.Request(threadContext, new String[0], transportMessage, Version.CURRENT, action, requestId,
-                false, true);
+                false, compressionScheme);
         } else {
             transportMessage = new TestResponse(randomAlphaOfLength(100));
             message = new OutboundMessage.Response(threadContext, Collections.emptySet(), transportMessage, Version.CURRENT, requestId,
-                false, true);
+                false, compressionScheme);
         }
 
         final BytesReference totalBytes = message.serialize(new BytesStreamOutput());
@@ -252,6 +258,7 @@ public class InboundDecoderTests extends OpenSearchTestCase {
         // Ref count is not incremented since the bytes are immediately consumed on decompression
         assertEquals(1, releasable2.refCount());
         assertEquals(InboundDecoder.END_CONTENT, endMarker);
+        assertEquals(compressionScheme, header.getCompressionScheme());
     }
 
     public void testCompressedDecodeHandshakeCompatibility() throws IOException {
@@ -285,6 +292,129 @@ public class InboundDecoderTests extends OpenSearchTestCase {
         fragments.clear();
     }
 
+    public void testChunkedMessageIsAccountedForInFlight() throws IOException {
+        final long requestId = randomNonNegativeLong();
+        final OutboundMessage message = new OutboundMessage.Request(threadContext, new String[0],
+            new TestRequest(randomAlphaOfLength(1000)), Version.CURRENT, "test-request", requestId, false, false);
+        final BytesReference totalBytes = message.serialize(new BytesStreamOutput());
+        final int chunkSize = randomIntBetween(TcpHeader.BYTES_REQUIRED_FOR_MESSAGE_SIZE, totalBytes.length() - 1);
+        final long limit = randomBoolean() ? Long.MAX_VALUE : randomLongBetween(0, totalBytes.length() - 1);
+        final AtomicLong used = new AtomicLong();
+        final CircuitBreaker breaker = new LimitedCircuitBreaker(used, limit);
+
+        final InboundDecoder decoder = new InboundDecoder(Version.CURRENT, PageCacheRecycler.NON_RECYCLING_INSTANCE, () -> breaker);
+        final ArrayList<Object> fragments = new ArrayList<>();
+        boolean broken = false;
+        int offset = 0;
+        while (offset < totalBytes.length()) {
+            final int length = Math.min(chunkSize, totalBytes.length() - offset);
+            try {
+                decodeFully(decoder, chunk(requestId, totalBytes.slice(offset, length)), fragments);
+            } catch (CircuitBreakingException e) {
+                broken = true;
+                break;
+            }
+            offset += length;
+            if (offset < totalBytes.length()) {
+                // the chunks of the message are accounted for until it is decoded
+                assertEquals(offset, used.get());
+            }
+        }
+        try {
+            assertEquals(limit < totalBytes.length(), broken);
+            if (broken == false) {
+                assertEquals(InboundDecoder.END_CONTENT, fragments.get(fragments.size() - 1));
+                assertEquals(0, used.get());
+            }
+        } finally {
+            releaseFragments(fragments);
+            decoder.close();
+        }
+        assertEquals(0, used.get());
+    }
+
+    public void testTooManyPartiallyReceivedChunkedMessages() throws IOException {
+        final OutboundMessage message = new OutboundMessage.Request(threadContext, new String[0],
+            new TestRequest(randomAlphaOfLength(1000)), Version.CURRENT, "test-request", randomNonNegativeLong(), false, false);
+        final BytesReference firstChunk = message.serialize(new BytesStreamOutput()).slice(0, randomIntBetween(10, 100));
+        final AtomicLong used = new AtomicLong();
+        final InboundDecoder decoder = new InboundDecoder(Version.CURRENT, PageCacheRecycler.NON_RECYCLING_INSTANCE,
+            () -> new LimitedCircuitBreaker(used, Long.MAX_VALUE));
+        final ArrayList<Object> fragments = new ArrayList<>();
+        // a channel has at most one partially received message per lane
+        final int maxMessages = TransportRequestOptions.Type.values().length;
+        for (int i = 0; i < maxMessages; i++) {
+            decodeFully(decoder, chunk(i, firstChunk), fragments);
+        }
+        assertEquals(maxMessages * (long) firstChunk.length(), used.get());
+        expectThrows(IllegalStateException.class, () -> decodeFully(decoder, chunk(maxMessages, firstChunk), fragments));
+        assertTrue(fragments.isEmpty());
+
+        decoder.close();
+        assertEquals(0, used.get());
+    }
+
+    private static BytesReference chunk(long requestId, BytesReference content) throws IOException {
+        try (BytesStreamOutput header = new BytesStreamOutput()) {
+            final byte status = TransportStatus.setChunk(TransportStatus.setRequest((byte) 0));
+            TcpHeader.writeHeader(header, requestId, status, Version.CURRENT, content.length(), 0);
+            return CompositeBytesReference.of(header.copyBytes(), content);
+        }
+    }
+
+    private static void decodeFully(InboundDecoder decoder, BytesReference bytes, ArrayList<Object> fragments) throws IOException {
+        int consumed = 0;
+        while (consumed < bytes.length()) {
+            try (ReleasableBytesReference reference = ReleasableBytesReference.wrap(bytes.slice(consumed, bytes.length() - consumed))) {
+                final int decoded = decoder.decode(reference, fragments::add);
+                assertNotEquals(0, decoded);
+                consumed += decoded;
+            }
+        }
+    }
+
+    private static void releaseFragments(ArrayList<Object> fragments) {
+        for (Object fragment : fragments) {
+            if (fragment instanceof ReleasableBytesReference) {
+                ((ReleasableBytesReference) fragment).close();
+            }
+        }
+        fragments.clear();
+    }
+
+    /**
+     * A circuit breaker that breaks once the bytes that it accounts for would exceed its limit.
+     */
+    private static class LimitedCircuitBreaker extends NoopCircuitBreaker {
+
+        private final AtomicLong used;
+        private final long limit;
+
+        LimitedCircuitBreaker(AtomicLong used, long limit) {
+            super(CircuitBreaker.IN_FLIGHT_REQUESTS);
+            this.used = used;
+            this.limit = limit;
+        }
+
+        @Override
+        public double addEstimateBytesAndMaybeBreak(long bytes, String label) throws CircuitBreakingException {
+            if (used.get() + bytes > limit) {
+                throw new CircuitBreakingException("[" + label + "] would exceed the limit", getDurability());
+            }
+            return used.addAndGet(bytes);
+        }
+
+        @Override
+        public long addWithoutBreaking(long bytes) {
+            return used.addAndGet(bytes);
+        }
+
+        @Override
+        public long getUsed() {
+            return used.get();
+        }
+    }
+
     public void testVersionIncompatibilityDecodeException() throws IOException {
         String action = "test-request";
         long requestId = randomNonNegativeLong();
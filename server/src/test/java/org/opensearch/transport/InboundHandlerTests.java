@@ -46,6 +46,7 @@ import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.io.stream.InputStreamStreamInput;
 import org.opensearch.common.io.stream.NamedWriteableRegistry;
 import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.logging.Loggers;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
@@ -87,7 +88,7 @@ public class InboundHandlerTests extends OpenSearchTestCase {
         NamedWriteableRegistry namedWriteableRegistry = new NamedWriteableRegistry(Collections.emptyList());
         TransportHandshaker handshaker = new TransportHandshaker(version, threadPool, (n, c, r, v) -> {});
         OutboundHandler outboundHandler = new OutboundHandler("node", version, new String[0], new StatsTracker(), threadPool,
-                BigArrays.NON_RECYCLING_INSTANCE);
+                BigArrays.NON_RECYCLING_INSTANCE, TransportSettings.MESSAGE_CHUNK_SIZE.get(Settings.EMPTY));
         TransportKeepAlive keepAlive = new TransportKeepAlive(threadPool, outboundHandler::sendBytes);
         requestHandlers = new Transport.RequestHandlers();
         responseHandlers = new Transport.ResponseHandlers();
@@ -192,6 +193,40 @@ public class InboundHandlerTests extends OpenSearchTestCase {
         }
     }
 
+    public void testRequestHoldsOnToContentUntilResponseIfHandlerAllowsUnsafeBuffers() throws Exception {
+        String action = "test-request";
+        int headerSize = TcpHeader.headerSize(version);
+        boolean allowsUnsafeBuffers = randomBoolean();
+        AtomicReference<BytesRequest> requestCaptor = new AtomicReference<>();
+        AtomicReference<TransportChannel> channelCaptor = new AtomicReference<>();
+        RequestHandlerRegistry<BytesRequest> registry = new RequestHandlerRegistry<>(action, BytesRequest::new, taskManager,
+            (request, channel, task) -> {
+                channelCaptor.set(channel);
+                requestCaptor.set(request);
+            }, ThreadPool.Names.SAME, false, true, allowsUnsafeBuffers);
+        requestHandlers.registerHandler(registry);
+        BytesReference bytes = new BytesArray(randomByteArrayOfLength(randomIntBetween(1, 1024)));
+        long requestId = randomNonNegativeLong();
+        OutboundMessage.Request request = new OutboundMessage.Request(threadPool.getThreadContext(), new String[0],
+            new BytesRequest(bytes), version, action, requestId, false, false);
+
+        BytesReference fullRequestBytes = request.serialize(new BytesStreamOutput());
+        BytesReference requestContent = fullRequestBytes.slice(headerSize, fullRequestBytes.length() - headerSize);
+        Header requestHeader = new Header(fullRequestBytes.length() - 6, requestId, TransportStatus.setRequest((byte) 0), version);
+        AtomicBoolean contentReleased = new AtomicBoolean();
+        InboundMessage requestMessage = new InboundMessage(requestHeader,
+            new ReleasableBytesReference(requestContent, () -> assertTrue(contentReleased.compareAndSet(false, true))), () -> {});
+        requestHeader.finishParsingHeader(requestMessage.openOrGetStreamInput());
+        handler.inboundMessage(channel, requestMessage);
+        requestMessage.close();
+
+        assertEquals(bytes, requestCaptor.get().bytes);
+        // the request holds on to a slice of the content, which must not be released before the request is responded to
+        assertEquals(allowsUnsafeBuffers == false, contentReleased.get());
+        channelCaptor.get().sendResponse(TransportResponse.Empty.INSTANCE);
+        assertTrue(contentReleased.get());
+    }
+
     public void testSendsErrorResponseToHandshakeFromCompatibleVersion() throws Exception {
         // Nodes use their minimum compatibility version for the TCP handshake, so a node from v(major-1).x will report its version as
         // v(major-2).last in the TCP handshake, with which we are not really compatible. We put extra effort into making sure that if
@@ -293,6 +328,26 @@ public class InboundHandlerTests extends OpenSearchTestCase {
         }
     }
 
+    private static class BytesRequest extends TransportRequest {
+
+        private final BytesReference bytes;
+
+        BytesRequest(BytesReference bytes) {
+            this.bytes = bytes;
+        }
+
+        BytesRequest(StreamInput in) throws IOException {
+            super(in);
+            bytes = in.readBytesReference();
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            super.writeTo(out);
+            out.writeBytesReference(bytes);
+        }
+    }
+
     private static InboundMessage unreadableInboundHandshake(Version remoteVersion, Header requestHeader) {
         return new InboundMessage(requestHeader, ReleasableBytesReference.wrap(BytesArray.EMPTY), () -> { }) {
             @Override
@@ -51,6 +51,7 @@ import org.opensearch.core.internal.io.Streams;
 import org.opensearch.test.OpenSearchTestCase;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -150,11 +151,14 @@ public class InboundPipelineTests extends OpenSearchTestCase {
                 }
 
                 final BytesReference networkBytes = streamOutput.bytes();
+                // the network layer may read into direct buffers, which the pipeline references rather than copies to the heap
+                final boolean directBuffers = randomBoolean();
                 int currentOffset = 0;
                 while (currentOffset != networkBytes.length()) {
                     final int remainingBytes = networkBytes.length() - currentOffset;
                     final int bytesToRead = Math.min(randomIntBetween(1, 32 * 1024), remainingBytes);
-                    final BytesReference slice = networkBytes.slice(currentOffset, bytesToRead);
+                    final BytesReference slice = directBuffers ? toDirectBuffer(networkBytes.slice(currentOffset, bytesToRead))
+                        : networkBytes.slice(currentOffset, bytesToRead);
                     try (ReleasableBytesReference reference = new ReleasableBytesReference(slice, () -> {})) {
                         toRelease.add(reference);
                         bytesReceived += reference.length();
@@ -190,6 +194,13 @@ public class InboundPipelineTests extends OpenSearchTestCase {
         }
     }
 
+    private static BytesReference toDirectBuffer(BytesReference bytes) {
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length());
+        buffer.put(BytesReference.toBytes(bytes));
+        buffer.flip();
+        return BytesReference.fromByteBuffer(buffer);
+    }
+
     public void testDecodeExceptionIsPropagated() throws IOException {
         BiConsumer<TcpChannel, InboundMessage> messageHandler = (c, m) -> {};
         final StatsTracker statsTracker = new StatsTracker();
@@ -35,6 +35,7 @@ package org.opensearch.transport;
 import org.opensearch.OpenSearchException;
 import org.opensearch.Version;
 import org.opensearch.action.ActionListener;
+import org.opensearch.action.support.PlainActionFuture;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.common.breaker.CircuitBreaker;
 import org.opensearch.common.breaker.NoopCircuitBreaker;
@@ -43,7 +44,10 @@ import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.bytes.ReleasableBytesReference;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.settings.Settings;
 import org.opensearch.common.transport.TransportAddress;
+import org.opensearch.common.unit.ByteSizeUnit;
+import org.opensearch.common.unit.ByteSizeValue;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.PageCacheRecycler;
@@ -57,7 +61,10 @@ import org.junit.Before;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
@@ -66,6 +73,7 @@ import java.util.function.LongSupplier;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.instanceOf;
 
 public class OutboundHandlerTests extends OpenSearchTestCase {
@@ -86,15 +94,13 @@ public class OutboundHandlerTests extends OpenSearchTestCase {
         channel = new FakeTcpChannel(randomBoolean(), buildNewFakeTransportAddress().address(), buildNewFakeTransportAddress().address());
         TransportAddress transportAddress = buildNewFakeTransportAddress();
         node = new DiscoveryNode("", transportAddress, Version.CURRENT);
-        String[] features = {feature1, feature2};
-        StatsTracker statsTracker = new StatsTracker();
-        handler = new OutboundHandler("node", Version.CURRENT, features, statsTracker, threadPool, BigArrays.NON_RECYCLING_INSTANCE);
+        handler = buildHandler(TransportSettings.MESSAGE_CHUNK_SIZE.get(Settings.EMPTY));
 
         final LongSupplier millisSupplier = () -> TimeValue.nsecToMSec(System.nanoTime());
         final InboundDecoder decoder = new InboundDecoder(Version.CURRENT, PageCacheRecycler.NON_RECYCLING_INSTANCE);
         final Supplier<CircuitBreaker> breaker = () -> new NoopCircuitBreaker("test");
         final InboundAggregator aggregator = new InboundAggregator(breaker, (Predicate<String>) action -> true);
-        pipeline = new InboundPipeline(statsTracker, millisSupplier, decoder, aggregator,
+        pipeline = new InboundPipeline(new StatsTracker(), millisSupplier, decoder, aggregator,
             (c, m) -> {
                 try (BytesStreamOutput streamOutput = new BytesStreamOutput()) {
                     Streams.copy(m.openOrGetStreamInput(), streamOutput);
@@ -105,6 +111,12 @@ public class OutboundHandlerTests extends OpenSearchTestCase {
             });
     }
 
+    private OutboundHandler buildHandler(ByteSizeValue messageChunkSize) {
+        String[] features = {feature1, feature2};
+        return new OutboundHandler("node", Version.CURRENT, features, new StatsTracker(), threadPool, BigArrays.NON_RECYCLING_INSTANCE,
+            messageChunkSize);
+    }
+
     @After
     public void tearDown() throws Exception {
         ThreadPool.terminate(threadPool, 10, TimeUnit.SECONDS);
@@ -141,7 +153,7 @@ public class OutboundHandlerTests extends OpenSearchTestCase {
         String action = "handshake";
         long requestId = randomLongBetween(0, 300);
         boolean isHandshake = randomBoolean();
-        boolean compress = randomBoolean();
+        Compression.Scheme compressionScheme = randomFrom(Compression.Scheme.values());
         String value = "message";
         threadContext.putHeader("header", "header_value");
         TestRequest request = new TestRequest(value);
@@ -160,7 +172,7 @@ public class OutboundHandlerTests extends OpenSearchTestCase {
                 requestRef.set(request);
             }
         });
-        handler.sendRequest(node, channel, requestId, action, request, options, version, compress, isHandshake);
+        handler.sendRequest(node, channel, requestId, action, request, options, version, compressionScheme, isHandshake);
 
         BytesReference reference = channel.getMessageCaptor().get();
         ActionListener<Void> sendListener = channel.getListenerCaptor().get();
@@ -188,8 +200,9 @@ public class OutboundHandlerTests extends OpenSearchTestCase {
         } else {
             assertFalse(header.isHandshake());
         }
-        if (compress) {
+        if (compressionScheme != Compression.Scheme.NONE) {
             assertTrue(header.isCompressed());
+            assertEquals(compressionScheme, header.getCompressionScheme());
         } else {
             assertFalse(header.isCompressed());
         }
@@ -204,7 +217,7 @@ public class OutboundHandlerTests extends OpenSearchTestCase {
         String action = "handshake";
         long requestId = randomLongBetween(0, 300);
         boolean isHandshake = randomBoolean();
-        boolean compress = randomBoolean();
+        Compression.Scheme compressionScheme = randomFrom(Compression.Scheme.values());
         String value = "message";
         threadContext.putHeader("header", "header_value");
         TestResponse response = new TestResponse(value);
@@ -220,7 +233,8 @@ public class OutboundHandlerTests extends OpenSearchTestCase {
                 responseRef.set(response);
             }
         });
-        handler.sendResponse(version, Collections.emptySet(), channel, requestId, action, response, compress, isHandshake);
+        handler.sendResponse(version, Collections.emptySet(), channel, requestId, action, response, compressionScheme,
+            TransportRequestOptions.Type.REG, isHandshake);
 
         BytesReference reference = channel.getMessageCaptor().get();
         ActionListener<Void> sendListener = channel.getListenerCaptor().get();
@@ -247,8 +261,9 @@ public class OutboundHandlerTests extends OpenSearchTestCase {
         } else {
             assertFalse(header.isHandshake());
         }
-        if (compress) {
+        if (compressionScheme != Compression.Scheme.NONE) {
             assertTrue(header.isCompressed());
+            assertEquals(compressionScheme, header.getCompressionScheme());
         } else {
             assertFalse(header.isCompressed());
         }
@@ -278,7 +293,7 @@ public class OutboundHandlerTests extends OpenSearchTestCase {
                 responseRef.set(error);
             }
         });
-        handler.sendErrorResponse(version, Collections.emptySet(), channel, requestId, action, error);
+        handler.sendErrorResponse(version, Collections.emptySet(), channel, requestId, action, TransportRequestOptions.Type.REG, error);
 
         BytesReference reference = channel.getMessageCaptor().get();
         ActionListener<Void> sendListener = channel.getListenerCaptor().get();
@@ -312,4 +327,171 @@ public class OutboundHandlerTests extends OpenSearchTestCase {
 
         assertEquals("header_value", header.getHeaders().v1().get("header"));
     }
+
+    public void testSendResponseBatch() throws IOException {
+        long requestId = randomLongBetween(0, 300);
+        String value = randomAlphaOfLength(10);
+        Compression.Scheme compressionScheme = randomFrom(Compression.Scheme.values());
+        PlainActionFuture<Void> batchFuture = PlainActionFuture.newFuture();
+        handler.sendResponseBatch(Version.CURRENT, Collections.emptySet(), channel, requestId, "action", new TestResponse(value),
+            compressionScheme, TransportRequestOptions.Type.REG, batchFuture);
+
+        BytesReference reference = channel.getMessageCaptor().get();
+        channel.getListenerCaptor().get().onResponse(null);
+        // the batch is done once the requester acknowledges it rather than once it is written
+        assertFalse(batchFuture.isDone());
+
+        pipeline.handleBytes(channel, new ReleasableBytesReference(reference, () -> {
+        }));
+        final Tuple<Header, BytesReference> tuple = message.get();
+        final Header header = tuple.v1();
+        assertEquals(requestId, header.getRequestId());
+        assertTrue(header.isResponse());
+        assertTrue(header.isBatch());
+        assertFalse(header.isBatchAck());
+        assertFalse(header.isError());
+        assertEquals(value, new TestResponse(tuple.v2().streamInput()).value);
+
+        // a second batch cannot be sent before the first one is acknowledged
+        expectThrows(IllegalStateException.class, () -> handler.sendResponseBatch(Version.CURRENT, Collections.emptySet(), channel,
+            requestId, "action", new TestResponse(value), compressionScheme, TransportRequestOptions.Type.REG, batchFuture));
+
+        if (randomBoolean()) {
+            handler.onBatchAck(channel, requestId, null);
+            assertNull(batchFuture.actionGet());
+        } else {
+            handler.onBatchAck(channel, requestId, new OpenSearchException("boom"));
+            assertEquals("boom", expectThrows(OpenSearchException.class, batchFuture::actionGet).getMessage());
+        }
+    }
+
+    public void testSendBatchAck() throws IOException {
+        long requestId = randomLongBetween(0, 300);
+        boolean failed = randomBoolean();
+        handler.sendBatchAck(Version.CURRENT, channel, requestId, failed ? new OpenSearchException("boom") : null);
+
+        BytesReference reference = channel.getMessageCaptor().get();
+        channel.getListenerCaptor().get().onResponse(null);
+        pipeline.handleBytes(channel, new ReleasableBytesReference(reference, () -> {
+        }));
+        final Tuple<Header, BytesReference> tuple = message.get();
+        final Header header = tuple.v1();
+        assertEquals(requestId, header.getRequestId());
+        assertTrue(header.isResponse());
+        assertTrue(header.isBatchAck());
+        assertFalse(header.isBatch());
+        assertEquals(failed, header.isError());
+        if (failed) {
+            RemoteTransportException remoteException = tuple.v2().streamInput().readException();
+            assertEquals("boom", remoteException.getCause().getMessage());
+        } else {
+            assertEquals(0, tuple.v2().length());
+        }
+    }
+
+    public void testClosingChannelFailsPendingBatches() throws IOException {
+        PlainActionFuture<Void> batchFuture = PlainActionFuture.newFuture();
+        handler.sendResponseBatch(Version.CURRENT, Collections.emptySet(), channel, 1, "action", new TestResponse("batch"),
+            Compression.Scheme.NONE, TransportRequestOptions.Type.REG, batchFuture);
+        channel.getListenerCaptor().get().onResponse(null);
+        assertFalse(batchFuture.isDone());
+        channel.close();
+        expectThrows(TransportException.class, batchFuture::actionGet);
+
+        // batches that are sent on a closed channel fail right away
+        PlainActionFuture<Void> closedFuture = PlainActionFuture.newFuture();
+        handler.sendResponseBatch(Version.CURRENT, Collections.emptySet(), channel, 2, "action", new TestResponse("batch"),
+            Compression.Scheme.NONE, TransportRequestOptions.Type.REG, closedFuture);
+        expectThrows(TransportException.class, closedFuture::actionGet);
+    }
+
+    public void testSendLargeRequestInChunks() throws IOException {
+        handler = buildHandler(new ByteSizeValue(1, ByteSizeUnit.KB));
+        long requestId = randomLongBetween(0, 300);
+        Compression.Scheme compressionScheme = randomFrom(Compression.Scheme.values());
+        TransportRequestOptions.Type type = randomFrom(TransportRequestOptions.Type.values());
+        String value = randomAlphaOfLengthBetween(10_000, 20_000);
+        threadPool.getThreadContext().putHeader("header", "header_value");
+
+        AtomicBoolean isSent = new AtomicBoolean();
+        handler.setMessageListener(new TransportMessageListener() {
+            @Override
+            public void onRequestSent(DiscoveryNode node, long requestId, String action, TransportRequest request,
+                                      TransportRequestOptions options) {
+                isSent.set(true);
+            }
+        });
+        handler.sendRequest(node, channel, requestId, "action", new TestRequest(value),
+            TransportRequestOptions.builder().withType(type).build(), Version.CURRENT, compressionScheme, false);
+
+        List<Long> received = new ArrayList<>();
+        int chunks = writeChunks(received);
+        assertThat(chunks, greaterThan(1));
+        assertTrue(isSent.get());
+        assertEquals(Collections.singletonList(requestId), received);
+
+        final Tuple<Header, BytesReference> tuple = message.get();
+        final Header header = tuple.v1();
+        assertTrue(header.isRequest());
+        assertFalse(header.isChunk());
+        assertEquals(type, header.getLane());
+        assertEquals(compressionScheme != Compression.Scheme.NONE, header.isCompressed());
+        assertEquals("header_value", header.getHeaders().v1().get("header"));
+        assertEquals(value, new TestRequest(tuple.v2().streamInput()).value);
+    }
+
+    public void testHigherPriorityLanesOvertakeLowerPriorityLanes() throws IOException {
+        handler = buildHandler(new ByteSizeValue(1, ByteSizeUnit.KB));
+        handler.sendRequest(node, channel, 1, "action", new TestRequest(randomAlphaOfLength(10_000)),
+            TransportRequestOptions.builder().withType(TransportRequestOptions.Type.RECOVERY).build(), Version.CURRENT,
+            Compression.Scheme.NONE, false);
+        // the first chunk of the recovery request is being written, the rest of the request is written after the state response
+        handler.sendResponse(Version.CURRENT, Collections.emptySet(), channel, 2, "action", new TestResponse(randomAlphaOfLength(10_000)),
+            Compression.Scheme.NONE, TransportRequestOptions.Type.STATE, false);
+        BytesReference firstChunk = channel.getMessageCaptor().get();
+        ActionListener<Void> firstChunkListener = channel.getListenerCaptor().get();
+        pipeline.handleBytes(channel, new ReleasableBytesReference(firstChunk, () -> {
+        }));
+        // small messages are not sent in chunks and are written right away
+        handler.sendRequest(node, channel, 3, "action", new TestRequest("small"),
+            TransportRequestOptions.builder().withType(TransportRequestOptions.Type.BULK).build(), Version.CURRENT,
+            Compression.Scheme.NONE, false);
+
+        List<Long> received = new ArrayList<>();
+        writeChunks(received);
+        firstChunkListener.onResponse(null);
+        writeChunks(received);
+        assertEquals(Arrays.asList(3L, 2L, 1L), received);
+    }
+
+    public void testFailedChunkClosesChannel() throws IOException {
+        handler = buildHandler(new ByteSizeValue(1, ByteSizeUnit.KB));
+        handler.sendRequest(node, channel, 1, "action", new TestRequest(randomAlphaOfLength(10_000)), options, Version.CURRENT,
+            Compression.Scheme.NONE, false);
+        for (int i = between(0, 5); i > 0; i--) {
+            channel.getListenerCaptor().get().onResponse(null);
+        }
+        channel.getListenerCaptor().get().onFailure(new IOException("failed"));
+        assertFalse(channel.isOpen());
+    }
+
+    /**
+     * Passes the messages that the handler writes to the channel to the pipeline until no more messages are written, and returns the
+     * number of messages that are written.
+     */
+    private int writeChunks(List<Long> received) throws IOException {
+        int written = 0;
+        BytesReference reference;
+        while ((reference = channel.getMessageCaptor().getAndSet(null)) != null) {
+            written++;
+            message.set(null);
+            pipeline.handleBytes(channel, new ReleasableBytesReference(reference, () -> {
+            }));
+            if (message.get() != null) {
+                received.add(message.get().v1().getRequestId());
+            }
+            channel.getListenerCaptor().get().onResponse(null);
+        }
+        return written;
+    }
 }
@@ -424,7 +424,7 @@ public class TcpTransportTests extends OpenSearchTestCase {
 
             TcpTransport.handleException(channel, exception, lifecycle,
                 new OutboundHandler(randomAlphaOfLength(10), Version.CURRENT, new String[0], new StatsTracker(), testThreadPool,
-                    BigArrays.NON_RECYCLING_INSTANCE));
+                    BigArrays.NON_RECYCLING_INSTANCE, TransportSettings.MESSAGE_CHUNK_SIZE.get(Settings.EMPTY)));
 
             if (expectClosed) {
                 assertTrue(listener.isDone());
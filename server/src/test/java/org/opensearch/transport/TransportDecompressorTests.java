@@ -32,6 +32,7 @@
 
 package org.opensearch.transport;
 
+import org.opensearch.common.bytes.BytesArray;
 import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.bytes.CompositeBytesReference;
 import org.opensearch.common.bytes.ReleasableBytesReference;
@@ -47,6 +48,8 @@ import org.opensearch.test.OpenSearchTestCase;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
 
 public class TransportDecompressorTests extends OpenSearchTestCase {
 
@@ -142,4 +145,83 @@ public class TransportDecompressorTests extends OpenSearchTestCase {
         }
     }
 
+    public void testSimpleLz4Compression() throws IOException {
+        try (BytesStreamOutput output = new BytesStreamOutput()) {
+            byte randomByte = randomByte();
+            try (OutputStream lz4Stream = CompressorFactory.LZ4_COMPRESSOR.threadLocalOutputStream(Streams.flushOnCloseStream(output))) {
+                lz4Stream.write(randomByte);
+            }
+
+            BytesReference bytes = output.bytes();
+
+            TransportDecompressor decompressor = new TransportDecompressor(PageCacheRecycler.NON_RECYCLING_INSTANCE);
+            int bytesConsumed = decompressor.decompress(bytes);
+            assertEquals(bytes.length(), bytesConsumed);
+            assertTrue(decompressor.isEOS());
+            assertEquals(Compression.Scheme.LZ4, decompressor.getScheme());
+            ReleasableBytesReference releasableBytesReference = decompressor.pollDecompressedPage();
+            assertEquals(1, releasableBytesReference.length());
+            assertEquals(randomByte, releasableBytesReference.get(0));
+            assertNull(decompressor.pollDecompressedPage());
+            releasableBytesReference.close();
+        }
+    }
+
+    public void testIncrementalMultiPageLz4Compression() throws IOException {
+        final int count = randomIntBetween(10000, 100000);
+        try (BytesStreamOutput output = new BytesStreamOutput()) {
+            try (StreamOutput lz4Stream = new OutputStreamStreamOutput(
+                    CompressorFactory.LZ4_COMPRESSOR.threadLocalOutputStream(Streams.flushOnCloseStream(output)))) {
+                for (int i = 0; i < count; ++i) {
+                    lz4Stream.writeInt(i);
+                }
+            }
+
+            BytesReference bytes = output.bytes();
+            // trailing bytes that belong to the next message must not be consumed
+            BytesReference trailing = new BytesArray(randomByteArrayOfLength(randomIntBetween(0, 10)));
+            BytesReference inbound = CompositeBytesReference.of(bytes, trailing);
+
+            TransportDecompressor decompressor = new TransportDecompressor(PageCacheRecycler.NON_RECYCLING_INSTANCE);
+            assertFalse(decompressor.canDecompress(CompressorFactory.LZ4_COMPRESSOR.headerLength() - 1));
+            int offset = 0;
+            List<ReleasableBytesReference> references = new ArrayList<>();
+            while (decompressor.isEOS() == false) {
+                int length = Math.min(inbound.length() - offset, randomIntBetween(1, 10000));
+                if (decompressor.canDecompress(length) == false) {
+                    length = inbound.length() - offset;
+                }
+                offset += decompressor.decompress(inbound.slice(offset, length));
+                ReleasableBytesReference reference;
+                while ((reference = decompressor.pollDecompressedPage()) != null) {
+                    references.add(reference);
+                }
+            }
+            assertEquals(bytes.length(), offset);
+            assertEquals(Compression.Scheme.LZ4, decompressor.getScheme());
+            BytesReference composite = CompositeBytesReference.of(references.toArray(new BytesReference[0]));
+            assertEquals(4 * count, composite.length());
+            StreamInput streamInput = composite.streamInput();
+            for (int i = 0; i < count; ++i) {
+                assertEquals(i, streamInput.readInt());
+            }
+            Releasables.close(references);
+        }
+    }
+
+    public void testCorruptedLz4Compression() throws IOException {
+        try (BytesStreamOutput output = new BytesStreamOutput()) {
+            try (OutputStream lz4Stream = CompressorFactory.LZ4_COMPRESSOR.threadLocalOutputStream(Streams.flushOnCloseStream(output))) {
+                lz4Stream.write(randomByteArrayOfLength(randomIntBetween(1, 1000)));
+            }
+
+            byte[] bytes = BytesReference.toBytes(output.bytes());
+            // claim that the block is compressed to more bytes than any block can be
+            bytes[CompressorFactory.LZ4_COMPRESSOR.headerLength() + Integer.BYTES] = (byte) 0x7F;
+
+            try (TransportDecompressor decompressor = new TransportDecompressor(PageCacheRecycler.NON_RECYCLING_INSTANCE)) {
+                expectThrows(IOException.class, () -> decompressor.decompress(new BytesArray(bytes)));
+            }
+        }
+    }
 }
@@ -179,6 +179,17 @@ public class TransportHandshakerTests extends OpenSearchTestCase {
         assertNull(handshaker.removeHandlerForHandshake(reqId));
     }
 
+    public void testNegotiateCompressionScheme() {
+        assertEquals(Compression.Scheme.DEFLATE, TransportHandshaker.negotiateCompressionScheme(Compression.Scheme.DEFLATE,
+            Version.CURRENT.minimumCompatibilityVersion()));
+        assertEquals(Compression.Scheme.LZ4, TransportHandshaker.negotiateCompressionScheme(Compression.Scheme.LZ4, Version.CURRENT));
+        assertEquals(Compression.Scheme.LZ4, TransportHandshaker.negotiateCompressionScheme(Compression.Scheme.LZ4, Version.V_1_1_0));
+        // nodes that cannot decompress LZ4 are sent DEFLATE instead
+        assertEquals(Compression.Scheme.DEFLATE, TransportHandshaker.negotiateCompressionScheme(Compression.Scheme.LZ4, Version.V_1_0_0));
+        assertEquals(Compression.Scheme.DEFLATE, TransportHandshaker.negotiateCompressionScheme(Compression.Scheme.LZ4,
+            Version.CURRENT.minimumCompatibilityVersion()));
+    }
+
     private Version getMinCompatibilityVersionForHandshakeRequest() {
         if(Version.CURRENT.onOrAfter(Version.V_1_0_0) && Version.CURRENT.major == 1) {
             return Version.fromId(6079999);
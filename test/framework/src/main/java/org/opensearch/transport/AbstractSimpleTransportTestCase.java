@@ -48,6 +48,7 @@ import org.opensearch.action.support.PlainActionFuture;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.SuppressForbidden;
+import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
@@ -60,6 +61,8 @@ import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.transport.BoundTransportAddress;
 import org.opensearch.common.transport.TransportAddress;
+import org.opensearch.common.unit.ByteSizeUnit;
+import org.opensearch.common.unit.ByteSizeValue;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.AbstractRunnable;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
@@ -671,6 +674,252 @@ public abstract class AbstractSimpleTransportTestCase extends OpenSearchTestCase
         }
     }
 
+    public void testHelloWorldCompressionScheme() throws IOException {
+        final Compression.Scheme configuredScheme = randomFrom(Compression.Scheme.DEFLATE, Compression.Scheme.LZ4);
+        final Settings settings = Settings.builder()
+            .put(TransportSettings.TRANSPORT_COMPRESSION_SCHEME.getKey(), configuredScheme.toString()).build();
+        // LZ4 is only used with nodes that support it, so both nodes are on the current version
+        try (MockTransportService serviceC = buildService("TS_C", Version.CURRENT, settings);
+             MockTransportService serviceD = buildService("TS_D", Version.CURRENT, Settings.EMPTY)) {
+            serviceC.start();
+            serviceC.acceptIncomingRequests();
+            serviceD.start();
+            serviceD.acceptIncomingRequests();
+
+            final AtomicReference<Compression.Scheme> receivedScheme = new AtomicReference<>();
+            serviceD.registerRequestHandler("internal:sayHello", ThreadPool.Names.GENERIC, StringMessageRequest::new,
+                (request, channel, task) -> {
+                    assertThat("moshe", equalTo(request.message));
+                    TransportChannel transportChannel = channel;
+                    while (transportChannel instanceof TaskTransportChannel) {
+                        transportChannel = ((TaskTransportChannel) transportChannel).getChannel();
+                    }
+                    receivedScheme.set(((TcpTransportChannel) transportChannel).getCompressionScheme());
+                    channel.sendResponse(new StringMessageResponse("hello " + request.message));
+                });
+
+            // the options of a request only pick the scheme if compression is enabled for the connection
+            final boolean compressConnection = randomBoolean();
+            final Settings profileSettings = Settings.builder().put(TransportSettings.TRANSPORT_COMPRESS.getKey(), compressConnection)
+                .build();
+            serviceC.connectToNode(serviceD.getLocalDiscoNode(), ConnectionProfile.buildDefaultConnectionProfile(profileSettings));
+
+            final TransportRequestOptions options = randomBoolean() ? TransportRequestOptions.EMPTY
+                : TransportRequestOptions.builder().withCompressionScheme(randomFrom(Compression.Scheme.values())).build();
+            final Compression.Scheme expectedScheme;
+            if (compressConnection == false) {
+                expectedScheme = Compression.Scheme.NONE;
+            } else if (options.compressionScheme() != null) {
+                expectedScheme = options.compressionScheme();
+            } else {
+                expectedScheme = configuredScheme;
+            }
+            TransportFuture<StringMessageResponse> res = serviceC.submitRequest(serviceD.getLocalDiscoNode(), "internal:sayHello",
+                new StringMessageRequest("moshe"), options, new TransportResponseHandler<StringMessageResponse>() {
+                    @Override
+                    public StringMessageResponse read(StreamInput in) throws IOException {
+                        return new StringMessageResponse(in);
+                    }
+
+                    @Override
+                    public String executor() {
+                        return ThreadPool.Names.GENERIC;
+                    }
+
+                    @Override
+                    public void handleResponse(StringMessageResponse response) {
+                        assertThat("hello moshe", equalTo(response.message));
+                    }
+
+                    @Override
+                    public void handleException(TransportException exp) {
+                        logger.error("Unexpected failure", exp);
+                        fail("got exception instead of a response: " + exp.getMessage());
+                    }
+                });
+
+            StringMessageResponse message = res.txGet();
+            assertThat("hello moshe", equalTo(message.message));
+            // the response is sent once the scheme is recorded
+            assertThat(receivedScheme.get(), equalTo(expectedScheme));
+        }
+    }
+
+    public void testSendLargeMessagesInChunks() throws Exception {
+        final Settings settings = Settings.builder()
+            .put(TransportSettings.MESSAGE_CHUNK_SIZE.getKey(), new ByteSizeValue(randomIntBetween(1, 16), ByteSizeUnit.KB)).build();
+        // messages are only sent in chunks to nodes that support them
+        try (MockTransportService serviceC = buildService("TS_C", Version.CURRENT, settings);
+             MockTransportService serviceD = buildService("TS_D", Version.CURRENT, settings)) {
+            serviceC.start();
+            serviceC.acceptIncomingRequests();
+            serviceD.start();
+            serviceD.acceptIncomingRequests();
+
+            serviceD.registerRequestHandler("internal:sayHello", ThreadPool.Names.GENERIC, StringMessageRequest::new,
+                (request, channel, task) -> channel.sendResponse(new StringMessageResponse("hello " + request.message)));
+            serviceC.connectToNode(serviceD.getLocalDiscoNode());
+
+            final List<Tuple<String, PlainTransportFuture<StringMessageResponse>>> futures = new ArrayList<>();
+            for (int i = 0; i < randomIntBetween(1, 20); i++) {
+                final String message = randomAlphaOfLength(randomFrom(10, randomIntBetween(1_000, 100_000)));
+                final TransportRequestOptions options = TransportRequestOptions.builder()
+                    .withType(randomFrom(TransportRequestOptions.Type.values())).build();
+                final PlainTransportFuture<StringMessageResponse> future = new PlainTransportFuture<>(
+                    new TransportResponseHandler<StringMessageResponse>() {
+                        @Override
+                        public StringMessageResponse read(StreamInput in) throws IOException {
+                            return new StringMessageResponse(in);
+                        }
+
+                        @Override
+                        public String executor() {
+                            return ThreadPool.Names.SAME;
+                        }
+
+                        @Override
+                        public void handleResponse(StringMessageResponse response) {
+                        }
+
+                        @Override
+                        public void handleException(TransportException exp) {
+                        }
+                    });
+                serviceC.sendRequest(serviceD.getLocalDiscoNode(), "internal:sayHello", new StringMessageRequest(message), options,
+                    future);
+                futures.add(new Tuple<>(message, future));
+            }
+            for (Tuple<String, PlainTransportFuture<StringMessageResponse>> future : futures) {
+                assertThat(future.v2().txGet().message, equalTo("hello " + future.v1()));
+            }
+        }
+    }
+
+    public void testSendResponseInBatches() throws Exception {
+        // batches of responses are only sent to nodes that support them
+        try (MockTransportService serviceC = buildService("TS_C", Version.CURRENT, Settings.EMPTY);
+             MockTransportService serviceD = buildService("TS_D", Version.CURRENT, Settings.EMPTY)) {
+            serviceC.start();
+            serviceC.acceptIncomingRequests();
+            serviceD.start();
+            serviceD.acceptIncomingRequests();
+
+            final int numBatches = randomIntBetween(0, 10);
+            final AtomicInteger batchesSent = new AtomicInteger();
+            final TransportRequestHandler<StringMessageRequest> requestHandler = (request, channel, task) -> new ActionListener<Void>() {
+                @Override
+                public void onResponse(Void v) {
+                    try {
+                        if (batchesSent.get() == numBatches) {
+                            channel.sendResponse(new StringMessageResponse("done " + request.message));
+                        } else {
+                            channel.sendResponseBatch(new StringMessageResponse("batch " + batchesSent.getAndIncrement()), this);
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    throw new AssertionError(e);
+                }
+            }.onResponse(null);
+            serviceC.registerRequestHandler("internal:batches", ThreadPool.Names.GENERIC, StringMessageRequest::new, requestHandler);
+            serviceD.registerRequestHandler("internal:batches", ThreadPool.Names.GENERIC, StringMessageRequest::new, requestHandler);
+            serviceC.connectToNode(serviceD.getLocalDiscoNode());
+
+            // the node sends the request to itself through a direct channel or to the other node through a transport channel
+            for (DiscoveryNode node : Arrays.asList(serviceC.getLocalDiscoNode(), serviceD.getLocalDiscoNode())) {
+                batchesSent.set(0);
+                final List<String> batches = Collections.synchronizedList(new ArrayList<>());
+                final PlainTransportFuture<StringMessageResponse> future = new PlainTransportFuture<>(
+                    new BatchedTransportResponseHandler<StringMessageResponse>() {
+                        @Override
+                        public StringMessageResponse read(StreamInput in) throws IOException {
+                            return new StringMessageResponse(in);
+                        }
+
+                        @Override
+                        public String executor() {
+                            return randomFrom(ThreadPool.Names.SAME, ThreadPool.Names.GENERIC);
+                        }
+
+                        @Override
+                        public void handleBatch(StringMessageResponse batch, ActionListener<Void> listener) {
+                            // the next batch is not sent before this one is acknowledged
+                            assertThat(batchesSent.get(), equalTo(batches.size() + 1));
+                            batches.add(batch.message);
+                            if (randomBoolean()) {
+                                listener.onResponse(null);
+                            } else {
+                                threadPool.generic().execute(() -> listener.onResponse(null));
+                            }
+                        }
+
+                        @Override
+                        public void handleResponse(StringMessageResponse response) {
+                        }
+
+                        @Override
+                        public void handleException(TransportException exp) {
+                        }
+                    });
+                serviceC.sendRequest(node, "internal:batches", new StringMessageRequest("moshe"), TransportRequestOptions.EMPTY, future);
+                assertThat(future.txGet().message, equalTo("done moshe"));
+                final List<String> expectedBatches = new ArrayList<>();
+                for (int i = 0; i < numBatches; i++) {
+                    expectedBatches.add("batch " + i);
+                }
+                assertThat(batches, equalTo(expectedBatches));
+            }
+        }
+    }
+
+    public void testBatchOfResponseFailsIfHandlerDoesNotHandleBatches() throws Exception {
+        try (MockTransportService serviceC = buildService("TS_C", Version.CURRENT, Settings.EMPTY);
+             MockTransportService serviceD = buildService("TS_D", Version.CURRENT, Settings.EMPTY)) {
+            serviceC.start();
+            serviceC.acceptIncomingRequests();
+            serviceD.start();
+            serviceD.acceptIncomingRequests();
+
+            final PlainActionFuture<Void> batchFuture = PlainActionFuture.newFuture();
+            serviceD.registerRequestHandler("internal:batches", ThreadPool.Names.GENERIC, StringMessageRequest::new,
+                (request, channel, task) -> channel.sendResponseBatch(new StringMessageResponse("batch"), ActionListener.runAfter(
+                    batchFuture, () -> TransportChannel.sendErrorResponse(channel, "internal:batches", request,
+                        new IllegalStateException("batch was not handled")))));
+            serviceC.connectToNode(serviceD.getLocalDiscoNode());
+
+            final PlainTransportFuture<StringMessageResponse> future = new PlainTransportFuture<>(
+                new TransportResponseHandler<StringMessageResponse>() {
+                    @Override
+                    public StringMessageResponse read(StreamInput in) throws IOException {
+                        return new StringMessageResponse(in);
+                    }
+
+                    @Override
+                    public String executor() {
+                        return ThreadPool.Names.SAME;
+                    }
+
+                    @Override
+                    public void handleResponse(StringMessageResponse response) {
+                    }
+
+                    @Override
+                    public void handleException(TransportException exp) {
+                    }
+                });
+            serviceC.sendRequest(serviceD.getLocalDiscoNode(), "internal:batches", new StringMessageRequest("moshe"),
+                TransportRequestOptions.EMPTY, future);
+            final Exception batchFailure = expectThrows(Exception.class, batchFuture::actionGet);
+            assertThat(ExceptionsHelper.stackTrace(batchFailure), containsString("does not handle batches of responses"));
+            final TransportException responseFailure = expectThrows(TransportException.class, future::txGet);
+            assertThat(responseFailure.getCause().getMessage(), equalTo("batch was not handled"));
+        }
+    }
+
     public void testErrorMessage() {
         serviceA.registerRequestHandler("internal:sayHelloException", ThreadPool.Names.GENERIC, StringMessageRequest::new,
             (request, channel, task) -> {